@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  ******************************************************************************/
 package org.eclipse.kura.channel.listener;
 
+import java.util.List;
+
 import org.osgi.annotation.versioning.ConsumerType;
 
 /**
@@ -37,4 +39,24 @@ public interface ChannelListener {
      */
     public void onChannelEvent(ChannelEvent event);
 
+    /**
+     * Triggers on a batch of channel events that have been produced together, for example the value changes
+     * reported by a single notification of the underlying field protocol. Drivers that are able to group events
+     * should call this method instead of {@link #onChannelEvent(ChannelEvent)} so that listeners can process the
+     * batch as a whole.
+     * <br>
+     * The default implementation calls {@link #onChannelEvent(ChannelEvent)} for each event in the list.
+     *
+     * @param events
+     *            the fired channel events, in the order in which they have been produced
+     * @throws NullPointerException
+     *             if events is null
+     * @since 3.0
+     */
+    public default void onChannelEvents(List<ChannelEvent> events) {
+        for (final ChannelEvent event : events) {
+            onChannelEvent(event);
+        }
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
 package org.eclipse.kura.crypto;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
@@ -53,6 +55,39 @@ public interface CryptoService {
      */
     public char[] decryptAes(char[] encryptedValue) throws KuraException;
 
+    /**
+     * Returns an {@link OutputStream} that AES encrypts the data written to it and writes the result to the provided
+     * destination, without buffering the whole content in memory. Closing the returned stream completes the
+     * encryption and closes the destination.
+     * <p>
+     * If the written data is UTF-8 encoded text, the result can also be decrypted using {@link #decryptAes(char[])}.
+     *
+     * @param destination
+     *            the stream where the encrypted data will be written.
+     * @return the encrypting stream.
+     * @throws KuraException
+     *             if the encryption cannot be initialized.
+     * @since 3.0
+     */
+    public OutputStream aesEncryptingStream(OutputStream destination) throws KuraException;
+
+    /**
+     * Returns an {@link InputStream} that provides the decrypted content of the provided source, that must have been
+     * encrypted using {@link #aesEncryptingStream(OutputStream)} or {@link #encryptAes(char[])}. In the latter case the
+     * returned stream provides the UTF-8 encoded value. Closing the returned stream closes the source.
+     * <p>
+     * Read operations on the returned stream throw an {@link IOException} if the source content cannot be decrypted
+     * or if its integrity cannot be verified.
+     *
+     * @param source
+     *            the stream providing the encrypted data.
+     * @return the decrypting stream.
+     * @throws KuraException
+     *             if the decryption cannot be initialized, for example because the source is not encrypted.
+     * @since 3.0
+     */
+    public InputStream aesDecryptingStream(InputStream source) throws KuraException;
+
     /**
      * Returns an AES encrypted string based on the provided value.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -175,7 +175,9 @@ public interface Driver {
 
     /**
      * Unregisters a already registered channel listener which has been
-     * registered for a monitor operation.
+     * registered for a monitor operation. If the same listener instance has
+     * been registered for more than one channel, all of its registrations
+     * are removed.
      *
      * @param listener
      *            the listener to unregister
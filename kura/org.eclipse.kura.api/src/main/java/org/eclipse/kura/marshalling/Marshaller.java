@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,8 @@
  ******************************************************************************/
 package org.eclipse.kura.marshalling;
 
+import java.io.OutputStream;
+
 import org.eclipse.kura.KuraException;
 import org.osgi.annotation.versioning.ProviderType;
 
@@ -34,4 +36,19 @@ public interface Marshaller {
      *             when the marshalling operation fails.
      */
     public String marshal(Object object) throws KuraException;
+
+    /**
+     * Writes the representation of the {@link Object} passed as input to the provided {@link OutputStream}, using the
+     * UTF-8 encoding. Implementations should avoid building the whole representation in memory where possible.
+     * The stream is not closed by this method.
+     *
+     * @param object
+     *            the object that will be marshalled.
+     * @param out
+     *            the stream where the representation of the object will be written.
+     * @throws KuraException
+     *             when the marshalling operation fails.
+     * @since 3.0
+     */
+    public void marshal(Object object, OutputStream out) throws KuraException;
 }
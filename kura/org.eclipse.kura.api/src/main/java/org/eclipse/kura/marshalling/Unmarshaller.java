@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,8 @@
  ******************************************************************************/
 package org.eclipse.kura.marshalling;
 
+import java.io.InputStream;
+
 import org.eclipse.kura.KuraException;
 import org.osgi.annotation.versioning.ProviderType;
 
@@ -36,4 +38,20 @@ public interface Unmarshaller {
      *             when the unmarshaling operation fails.
      */
     public <T> T unmarshal(String string, Class<T> clazz) throws KuraException;
+
+    /**
+     * This method reads a UTF-8 encoded representation from the provided {@link InputStream} and constructs an object
+     * of the provided class. Implementations should avoid loading the whole representation in memory where possible.
+     * The stream is not closed by this method.
+     *
+     * @param in
+     *            the input stream
+     * @param clazz
+     *            the class representing the type of object expected for the result
+     * @return an object that is constructed from the stream content
+     * @throws KuraException
+     *             when the unmarshaling operation fails.
+     * @since 3.0
+     */
+    public <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException;
 }
@@ -0,0 +1,753 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.wire;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import org.eclipse.kura.annotation.Immutable;
+import org.eclipse.kura.annotation.ThreadSafe;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * The Class ColumnarWireRecords is an immutable list of {@link WireRecord}s sharing the same
+ * {@link WireRecordSchema}. Property values are stored by column in primitive arrays instead of per record maps.
+ * <br>
+ * This class can be used as the record list of a {@link WireEnvelope}. Consumers that are not aware of this
+ * representation can access the records as usual, the {@link WireRecord} instances returned by this list are
+ * lightweight views whose {@link WireRecord#getProperties()} map is a read only view over the columns, values are
+ * converted to {@link TypedValue} instances on access.
+ * Consumers that are aware of this representation can check if {@link WireEnvelope#getRecords()} is an instance of
+ * this class and access the column values directly, without creating any intermediate object.
+ * <br>
+ * Instances of this class can be created using a {@link Builder}.
+ *
+ * @noextend This class is not intended to be extended by clients.
+ * @since 3.0
+ */
+@Immutable
+@ThreadSafe
+@ProviderType
+public final class ColumnarWireRecords extends AbstractList<WireRecord> implements RandomAccess {
+
+    private final WireRecordSchema schema;
+    private final int size;
+    private final Object[] columns;
+    private final BitSet[] presence;
+
+    private ColumnarWireRecords(final WireRecordSchema schema, final int size, final Object[] columns,
+            final BitSet[] presence) {
+        this.schema = schema;
+        this.size = size;
+        this.columns = columns;
+        this.presence = presence;
+    }
+
+    /**
+     * Returns the schema of the records contained in this list.
+     *
+     * @return the schema
+     */
+    public WireRecordSchema getSchema() {
+        return this.schema;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns a view of the record at the given row.
+     *
+     * @param row
+     *            the row index
+     * @return the record
+     * @throws IndexOutOfBoundsException
+     *             if the row index is out of range
+     */
+    @Override
+    public WireRecord get(final int row) {
+        checkRow(row);
+        return new Row(row);
+    }
+
+    /**
+     * Checks whether the record at the given row contains a value for the given column.
+     *
+     * @param row
+     *            the row index
+     * @param column
+     *            the column index
+     * @return {@code true} if the value is present, {@code false} otherwise
+     * @throws IndexOutOfBoundsException
+     *             if any of the indexes is out of range
+     */
+    public boolean isPresent(final int row, final int column) {
+        checkRow(row);
+        return this.presence[column].get(row);
+    }
+
+    /**
+     * Returns the value of a {@link DataType#BOOLEAN} column.
+     *
+     * @param row
+     *            the row index
+     * @param column
+     *            the column index
+     * @return the value, unspecified if not present
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#BOOLEAN}
+     * @throws IndexOutOfBoundsException
+     *             if any of the indexes is out of range
+     */
+    public boolean getBoolean(final int row, final int column) {
+        return ((boolean[]) getColumn(row, column, DataType.BOOLEAN))[row];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#INTEGER} column.
+     *
+     * @param row
+     *            the row index
+     * @param column
+     *            the column index
+     * @return the value, unspecified if not present
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#INTEGER}
+     * @throws IndexOutOfBoundsException
+     *             if any of the indexes is out of range
+     */
+    public int getInt(final int row, final int column) {
+        return ((int[]) getColumn(row, column, DataType.INTEGER))[row];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#LONG} column.
+     *
+     * @param row
+     *            the row index
+     * @param column
+     *            the column index
+     * @return the value, unspecified if not present
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#LONG}
+     * @throws IndexOutOfBoundsException
+     *             if any of the indexes is out of range
+     */
+    public long getLong(final int row, final int column) {
+        return ((long[]) getColumn(row, column, DataType.LONG))[row];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#FLOAT} column.
+     *
+     * @param row
+     *            the row index
+     * @param column
+     *            the column index
+     * @return the value, unspecified if not present
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#FLOAT}
+     * @throws IndexOutOfBoundsException
+     *             if any of the indexes is out of range
+     */
+    public float getFloat(final int row, final int column) {
+        return ((float[]) getColumn(row, column, DataType.FLOAT))[row];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#DOUBLE} column.
+     *
+     * @param row
+     *            the row index
+     * @param column
+     *            the column index
+     * @return the value, unspecified if not present
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#DOUBLE}
+     * @throws IndexOutOfBoundsException
+     *             if any of the indexes is out of range
+     */
+    public double getDouble(final int row, final int column) {
+        return ((double[]) getColumn(row, column, DataType.DOUBLE))[row];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#STRING} column.
+     *
+     * @param row
+     *            the row index
+     * @param column
+     *            the column index
+     * @return the value, {@code null} if not present
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#STRING}
+     * @throws IndexOutOfBoundsException
+     *             if any of the indexes is out of range
+     */
+    public String getString(final int row, final int column) {
+        return ((String[]) getColumn(row, column, DataType.STRING))[row];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#BYTE_ARRAY} column. The returned array must not be modified.
+     *
+     * @param row
+     *            the row index
+     * @param column
+     *            the column index
+     * @return the value, {@code null} if not present
+     * @throws IllegalArgumentException
+     *             if the column type is not {@link DataType#BYTE_ARRAY}
+     * @throws IndexOutOfBoundsException
+     *             if any of the indexes is out of range
+     */
+    public byte[] getByteArray(final int row, final int column) {
+        return ((byte[][]) getColumn(row, column, DataType.BYTE_ARRAY))[row];
+    }
+
+    /**
+     * Returns the value at the given position as a boxed Java object, regardless of the column type.
+     *
+     * @param row
+     *            the row index
+     * @param column
+     *            the column index
+     * @return the value, or {@code null} if not present
+     * @throws IndexOutOfBoundsException
+     *             if any of the indexes is out of range
+     */
+    public Object getObject(final int row, final int column) {
+        if (!isPresent(row, column)) {
+            return null;
+        }
+
+        final Object data = this.columns[column];
+
+        switch (this.schema.getType(column)) {
+        case BOOLEAN:
+            return ((boolean[]) data)[row];
+        case INTEGER:
+            return ((int[]) data)[row];
+        case LONG:
+            return ((long[]) data)[row];
+        case FLOAT:
+            return ((float[]) data)[row];
+        case DOUBLE:
+            return ((double[]) data)[row];
+        default:
+            return ((Object[]) data)[row];
+        }
+    }
+
+    /**
+     * Returns the value at the given position as a {@link TypedValue}.
+     *
+     * @param row
+     *            the row index
+     * @param column
+     *            the column index
+     * @return the value, or {@code null} if not present
+     * @throws IndexOutOfBoundsException
+     *             if any of the indexes is out of range
+     */
+    public TypedValue<?> getValue(final int row, final int column) {
+        if (!isPresent(row, column)) {
+            return null;
+        }
+
+        final Object data = this.columns[column];
+
+        switch (this.schema.getType(column)) {
+        case BOOLEAN:
+            return TypedValues.newBooleanValue(((boolean[]) data)[row]);
+        case INTEGER:
+            return TypedValues.newIntegerValue(((int[]) data)[row]);
+        case LONG:
+            return TypedValues.newLongValue(((long[]) data)[row]);
+        case FLOAT:
+            return TypedValues.newFloatValue(((float[]) data)[row]);
+        case DOUBLE:
+            return TypedValues.newDoubleValue(((double[]) data)[row]);
+        case STRING:
+            return TypedValues.newStringValue(((String[]) data)[row]);
+        default:
+            return TypedValues.newByteArrayValue(((byte[][]) data)[row]);
+        }
+    }
+
+    private Object getColumn(final int row, final int column, final DataType expectedType) {
+        checkRow(row);
+        checkType(this.schema, column, expectedType);
+        return this.columns[column];
+    }
+
+    private void checkRow(final int row) {
+        if (row < 0 || row >= this.size) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + this.size);
+        }
+    }
+
+    private static void checkType(final WireRecordSchema schema, final int column, final DataType expectedType) {
+        final DataType actualType = schema.getType(column);
+
+        if (actualType != expectedType) {
+            throw new IllegalArgumentException(
+                    "Column " + schema.getName(column) + " has type " + actualType + ", not " + expectedType);
+        }
+    }
+
+    private static Object newColumn(final DataType type, final int capacity) {
+        switch (type) {
+        case BOOLEAN:
+            return new boolean[capacity];
+        case INTEGER:
+            return new int[capacity];
+        case LONG:
+            return new long[capacity];
+        case FLOAT:
+            return new float[capacity];
+        case DOUBLE:
+            return new double[capacity];
+        case STRING:
+            return new String[capacity];
+        default:
+            return new byte[capacity][];
+        }
+    }
+
+    private static Object copyColumn(final Object column, final int length) {
+        if (column instanceof boolean[]) {
+            return Arrays.copyOf((boolean[]) column, length);
+        } else if (column instanceof int[]) {
+            return Arrays.copyOf((int[]) column, length);
+        } else if (column instanceof long[]) {
+            return Arrays.copyOf((long[]) column, length);
+        } else if (column instanceof float[]) {
+            return Arrays.copyOf((float[]) column, length);
+        } else if (column instanceof double[]) {
+            return Arrays.copyOf((double[]) column, length);
+        } else {
+            return Arrays.copyOf((Object[]) column, length);
+        }
+    }
+
+    private final class Row extends WireRecord {
+
+        private final RowProperties properties;
+
+        Row(final int row) {
+            this.properties = new RowProperties(row);
+        }
+
+        @Override
+        public Map<String, TypedValue<?>> getProperties() {
+            return this.properties;
+        }
+    }
+
+    private final class RowProperties extends AbstractMap<String, TypedValue<?>> {
+
+        private final int row;
+
+        RowProperties(final int row) {
+            this.row = row;
+        }
+
+        @Override
+        public TypedValue<?> get(final Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+
+            final int column = ColumnarWireRecords.this.schema.indexOf((String) key);
+
+            return column != -1 ? getValue(this.row, column) : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+
+            final int column = ColumnarWireRecords.this.schema.indexOf((String) key);
+
+            return column != -1 && ColumnarWireRecords.this.presence[column].get(this.row);
+        }
+
+        @Override
+        public Set<Entry<String, TypedValue<?>>> entrySet() {
+            return new AbstractSet<Entry<String, TypedValue<?>>>() {
+
+                @Override
+                public Iterator<Entry<String, TypedValue<?>>> iterator() {
+                    return new RowIterator(RowProperties.this.row);
+                }
+
+                @Override
+                public int size() {
+                    int result = 0;
+
+                    for (final BitSet present : ColumnarWireRecords.this.presence) {
+                        if (present.get(RowProperties.this.row)) {
+                            result++;
+                        }
+                    }
+
+                    return result;
+                }
+            };
+        }
+    }
+
+    private final class RowIterator implements Iterator<Map.Entry<String, TypedValue<?>>> {
+
+        private final int row;
+        private int next;
+
+        RowIterator(final int row) {
+            this.row = row;
+            this.next = advance(0);
+        }
+
+        private int advance(int column) {
+            while (column < ColumnarWireRecords.this.presence.length
+                    && !ColumnarWireRecords.this.presence[column].get(this.row)) {
+                column++;
+            }
+            return column;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < ColumnarWireRecords.this.presence.length;
+        }
+
+        @Override
+        public Map.Entry<String, TypedValue<?>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final int column = this.next;
+            this.next = advance(column + 1);
+
+            return new AbstractMap.SimpleImmutableEntry<>(ColumnarWireRecords.this.schema.getName(column),
+                    getValue(this.row, column));
+        }
+    }
+
+    /**
+     * Builder for {@link ColumnarWireRecords} instances. Records are appended one at a time using
+     * {@link #addRow()}, the values of the current record are then set using the setter methods. Columns that are
+     * not set for a record are reported as not present.
+     * <br>
+     * This class is not thread safe.
+     *
+     * @since 3.0
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_CAPACITY = 16;
+
+        private final WireRecordSchema schema;
+        private final Object[] columns;
+        private final BitSet[] presence;
+        private int capacity;
+        private int size;
+
+        /**
+         * Creates a new builder.
+         *
+         * @param schema
+         *            the schema of the records
+         * @throws NullPointerException
+         *             if the schema is null
+         */
+        public Builder(final WireRecordSchema schema) {
+            this(schema, DEFAULT_CAPACITY);
+        }
+
+        /**
+         * Creates a new builder.
+         *
+         * @param schema
+         *            the schema of the records
+         * @param initialCapacity
+         *            the expected number of records
+         * @throws NullPointerException
+         *             if the schema is null
+         */
+        public Builder(final WireRecordSchema schema, final int initialCapacity) {
+            this.schema = requireNonNull(schema, "Schema cannot be null");
+            this.capacity = Math.max(initialCapacity, 1);
+            this.columns = new Object[schema.size()];
+            this.presence = new BitSet[schema.size()];
+
+            for (int i = 0; i < this.columns.length; i++) {
+                this.columns[i] = newColumn(schema.getType(i), this.capacity);
+                this.presence[i] = new BitSet(this.capacity);
+            }
+        }
+
+        /**
+         * Appends a new record, subsequent setter invocations will modify this record.
+         *
+         * @return this builder
+         */
+        public Builder addRow() {
+            if (this.size == this.capacity) {
+                this.capacity *= 2;
+
+                for (int i = 0; i < this.columns.length; i++) {
+                    this.columns[i] = copyColumn(this.columns[i], this.capacity);
+                }
+            }
+
+            this.size++;
+            return this;
+        }
+
+        /**
+         * Returns the number of records added to this builder.
+         *
+         * @return the number of records
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * Sets the value of a {@link DataType#BOOLEAN} column for the current record.
+         *
+         * @param column
+         *            the column index
+         * @param value
+         *            the value
+         * @return this builder
+         * @throws IllegalArgumentException
+         *             if the column type is not {@link DataType#BOOLEAN}
+         */
+        public Builder setBoolean(final int column, final boolean value) {
+            ((boolean[]) getColumn(column, DataType.BOOLEAN))[this.size - 1] = value;
+            return this;
+        }
+
+        /**
+         * Sets the value of a {@link DataType#INTEGER} column for the current record.
+         *
+         * @param column
+         *            the column index
+         * @param value
+         *            the value
+         * @return this builder
+         * @throws IllegalArgumentException
+         *             if the column type is not {@link DataType#INTEGER}
+         */
+        public Builder setInt(final int column, final int value) {
+            ((int[]) getColumn(column, DataType.INTEGER))[this.size - 1] = value;
+            return this;
+        }
+
+        /**
+         * Sets the value of a {@link DataType#LONG} column for the current record.
+         *
+         * @param column
+         *            the column index
+         * @param value
+         *            the value
+         * @return this builder
+         * @throws IllegalArgumentException
+         *             if the column type is not {@link DataType#LONG}
+         */
+        public Builder setLong(final int column, final long value) {
+            ((long[]) getColumn(column, DataType.LONG))[this.size - 1] = value;
+            return this;
+        }
+
+        /**
+         * Sets the value of a {@link DataType#FLOAT} column for the current record.
+         *
+         * @param column
+         *            the column index
+         * @param value
+         *            the value
+         * @return this builder
+         * @throws IllegalArgumentException
+         *             if the column type is not {@link DataType#FLOAT}
+         */
+        public Builder setFloat(final int column, final float value) {
+            ((float[]) getColumn(column, DataType.FLOAT))[this.size - 1] = value;
+            return this;
+        }
+
+        /**
+         * Sets the value of a {@link DataType#DOUBLE} column for the current record.
+         *
+         * @param column
+         *            the column index
+         * @param value
+         *            the value
+         * @return this builder
+         * @throws IllegalArgumentException
+         *             if the column type is not {@link DataType#DOUBLE}
+         */
+        public Builder setDouble(final int column, final double value) {
+            ((double[]) getColumn(column, DataType.DOUBLE))[this.size - 1] = value;
+            return this;
+        }
+
+        /**
+         * Sets the value of a {@link DataType#STRING} column for the current record, a {@code null} value marks
+         * the column as not present.
+         *
+         * @param column
+         *            the column index
+         * @param value
+         *            the value
+         * @return this builder
+         */
+        public Builder setString(final int column, final String value) {
+            ((String[]) getColumn(column, DataType.STRING))[this.size - 1] = value;
+            this.presence[column].set(this.size - 1, value != null);
+            return this;
+        }
+
+        /**
+         * Sets the value of a {@link DataType#BYTE_ARRAY} column for the current record, a {@code null} value marks
+         * the column as not present. The provided array is not copied.
+         *
+         * @param column
+         *            the column index
+         * @param value
+         *            the value
+         * @return this builder
+         */
+        public Builder setByteArray(final int column, final byte[] value) {
+            ((byte[][]) getColumn(column, DataType.BYTE_ARRAY))[this.size - 1] = value;
+            this.presence[column].set(this.size - 1, value != null);
+            return this;
+        }
+
+        /**
+         * Sets the value of a column for the current record, a {@code null} value marks the column as not present.
+         *
+         * @param column
+         *            the column index
+         * @param value
+         *            the value
+         * @return this builder
+         * @throws IllegalArgumentException
+         *             if the value type does not match the column type
+         */
+        public Builder setValue(final int column, final TypedValue<?> value) {
+            if (value == null) {
+                return setObject(column, null);
+            }
+
+            checkType(this.schema, column, value.getType());
+            return setObject(column, value.getValue());
+        }
+
+        /**
+         * Sets the value of a column for the current record from a Java object of the type associated with the
+         * column {@link DataType}, a {@code null} value marks the column as not present.
+         *
+         * @param column
+         *            the column index
+         * @param value
+         *            the value
+         * @return this builder
+         * @throws IllegalArgumentException
+         *             if the value class does not match the column type
+         */
+        public Builder setObject(final int column, final Object value) {
+            if (value == null) {
+                checkCurrentRow();
+                this.presence[column].clear(this.size - 1);
+                if (this.columns[column] instanceof Object[]) {
+                    ((Object[]) this.columns[column])[this.size - 1] = null;
+                }
+                return this;
+            }
+
+            try {
+                switch (this.schema.getType(column)) {
+                case BOOLEAN:
+                    return setBoolean(column, (Boolean) value);
+                case INTEGER:
+                    return setInt(column, (Integer) value);
+                case LONG:
+                    return setLong(column, (Long) value);
+                case FLOAT:
+                    return setFloat(column, (Float) value);
+                case DOUBLE:
+                    return setDouble(column, (Double) value);
+                case STRING:
+                    return setString(column, (String) value);
+                default:
+                    return setByteArray(column, (byte[]) value);
+                }
+            } catch (final ClassCastException e) {
+                throw new IllegalArgumentException("Column " + this.schema.getName(column) + " has type "
+                        + this.schema.getType(column) + ", found value of class " + value.getClass().getName(), e);
+            }
+        }
+
+        /**
+         * Creates a new {@link ColumnarWireRecords} containing the records added so far. The builder can be
+         * used after this method is invoked, further modifications do not affect the returned instance.
+         *
+         * @return the new {@link ColumnarWireRecords}
+         */
+        public ColumnarWireRecords build() {
+            final Object[] resultColumns = new Object[this.columns.length];
+            final BitSet[] resultPresence = new BitSet[this.columns.length];
+
+            for (int i = 0; i < this.columns.length; i++) {
+                resultColumns[i] = copyColumn(this.columns[i], this.size);
+                resultPresence[i] = (BitSet) this.presence[i].clone();
+            }
+
+            return new ColumnarWireRecords(this.schema, this.size, resultColumns, resultPresence);
+        }
+
+        private Object getColumn(final int column, final DataType expectedType) {
+            checkCurrentRow();
+            checkType(this.schema, column, expectedType);
+            this.presence[column].set(this.size - 1);
+            return this.columns[column];
+        }
+
+        private void checkCurrentRow() {
+            if (this.size == 0) {
+                throw new IllegalStateException("addRow() must be called before setting values");
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -44,7 +44,8 @@ public class WireEnvelope extends BasicEnvelope {
     private static final String SCOPE = "WIRES";
 
     /**
-     * Instantiates a new WireEnvelope.
+     * Instantiates a new WireEnvelope. If the provided list is a {@link ColumnarWireRecords} instance, it is
+     * used as is, since it is already immutable, otherwise an unmodifiable view of the list is used.
      *
      * @param emitterPid
      *            the wire emitter PID
@@ -52,7 +53,8 @@ public class WireEnvelope extends BasicEnvelope {
      *            the {@link WireRecord}s
      */
     public WireEnvelope(final String emitterPid, final List<WireRecord> wireRecords) {
-        super(Collections.unmodifiableList(wireRecords), emitterPid, SCOPE);
+        super(wireRecords instanceof ColumnarWireRecords ? wireRecords : Collections.unmodifiableList(wireRecords),
+                emitterPid, SCOPE);
     }
 
     /**
@@ -65,7 +67,7 @@ public class WireEnvelope extends BasicEnvelope {
     }
 
     /**
-     * Gets the {@link WireRecord}s.
+     * Gets the {@link WireRecord}s. The returned list can be a {@link ColumnarWireRecords} instance.
      *
      * @return the {@link WireRecord}s
      */
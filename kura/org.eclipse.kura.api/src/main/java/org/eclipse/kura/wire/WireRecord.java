@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,14 @@ public class WireRecord {
         this.properties = Collections.unmodifiableMap(properties);
     }
 
+    /**
+     * Constructor used by the {@link WireRecord} views provided by {@link ColumnarWireRecords}, that override
+     * {@link #getProperties()}.
+     */
+    WireRecord() {
+        this.properties = null;
+    }
+
     /**
      * Returns the properties stored in this {@link WireRecord}
      *
@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.wire;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.annotation.Immutable;
+import org.eclipse.kura.annotation.ThreadSafe;
+import org.eclipse.kura.type.DataType;
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * The Class WireRecordSchema describes the properties of the records contained in a {@link ColumnarWireRecords}
+ * instance. Each property, or column, is identified by its index and has a unique name and a {@link DataType}.
+ * A schema instance can be shared by multiple {@link ColumnarWireRecords}.
+ *
+ * @noextend This class is not intended to be extended by clients.
+ * @since 3.0
+ */
+@Immutable
+@ThreadSafe
+@ProviderType
+public final class WireRecordSchema {
+
+    private final List<String> names;
+    private final List<DataType> types;
+    private final Map<String, Integer> indexes;
+
+    /**
+     * Instantiates a new {@link WireRecordSchema}.
+     *
+     * @param names
+     *            the property names
+     * @param types
+     *            the property types, the type at index {@code i} is the type of the property at index {@code i} in
+     *            {@code names}
+     * @throws NullPointerException
+     *             if any of the arguments or any of the list elements is null
+     * @throws IllegalArgumentException
+     *             if the lists have different sizes or if the names are not unique
+     */
+    public WireRecordSchema(final List<String> names, final List<DataType> types) {
+        requireNonNull(names, "Names cannot be null");
+        requireNonNull(types, "Types cannot be null");
+
+        if (names.size() != types.size()) {
+            throw new IllegalArgumentException("Names and types must have the same size");
+        }
+
+        final String[] nameArray = names.toArray(new String[names.size()]);
+        final DataType[] typeArray = types.toArray(new DataType[types.size()]);
+        final Map<String, Integer> indexMap = new HashMap<>(nameArray.length * 2);
+
+        for (int i = 0; i < nameArray.length; i++) {
+            requireNonNull(nameArray[i], "Names cannot contain null elements");
+            requireNonNull(typeArray[i], "Types cannot contain null elements");
+
+            if (indexMap.put(nameArray[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate property name: " + nameArray[i]);
+            }
+        }
+
+        this.names = Collections.unmodifiableList(Arrays.asList(nameArray));
+        this.types = Collections.unmodifiableList(Arrays.asList(typeArray));
+        this.indexes = indexMap;
+    }
+
+    /**
+     * Returns the number of properties.
+     *
+     * @return the number of properties
+     */
+    public int size() {
+        return this.names.size();
+    }
+
+    /**
+     * Returns the name of the property at the given index.
+     *
+     * @param column
+     *            the property index
+     * @return the property name
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of range
+     */
+    public String getName(final int column) {
+        return this.names.get(column);
+    }
+
+    /**
+     * Returns the type of the property at the given index.
+     *
+     * @param column
+     *            the property index
+     * @return the property type
+     * @throws IndexOutOfBoundsException
+     *             if the index is out of range
+     */
+    public DataType getType(final int column) {
+        return this.types.get(column);
+    }
+
+    /**
+     * Returns the index of the property with the given name.
+     *
+     * @param name
+     *            the property name
+     * @return the property index, or -1 if this schema does not contain a property with the given name
+     */
+    public int indexOf(final String name) {
+        final Integer index = this.indexes.get(name);
+
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Returns the property names, in index order.
+     *
+     * @return an unmodifiable list containing the property names
+     */
+    public List<String> getNames() {
+        return this.names;
+    }
+
+    /**
+     * Returns the property types, in index order.
+     *
+     * @return an unmodifiable list containing the property types
+     */
+    public List<DataType> getTypes() {
+        return this.types;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.names.hashCode() + this.types.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof WireRecordSchema)) {
+            return false;
+        }
+        final WireRecordSchema other = (WireRecordSchema) obj;
+        return this.names.equals(other.names) && this.types.equals(other.types);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("WireRecordSchema [");
+
+        for (int i = 0; i < this.names.size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.names.get(i)).append(':').append(this.types.get(i));
+        }
+
+        return builder.append(']').toString();
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
 package org.eclipse.kura.wire.store.provider;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.eclipse.kura.KuraStoreException;
 import org.eclipse.kura.wire.WireRecord;
@@ -38,4 +39,66 @@ public interface QueryableWireRecordStoreProvider {
      * @throws KuraStoreException
      */
     public List<WireRecord> performQuery(String query) throws KuraStoreException;
+
+    /**
+     * Perform the given query specified in an implementation defined language, delivering the result to the
+     * provided consumer in chunks of at most {@code maxChunkSize} records, in result order. The consumer is not
+     * invoked if the result is empty.
+     * <br>
+     * Implementations should iterate over the result without loading it entirely in memory, the consumer is
+     * invoked while the query is in progress and implementation specific resources, like a database connection,
+     * can be held for the duration of the call. The consumer can be invoked by a thread owned by the implementation
+     * and shared with its other users, so it should return quickly. The default implementation performs the query
+     * using {@link #performQuery(String)} and splits the result.
+     *
+     * @param query
+     *              the query to be run
+     * @param maxChunkSize
+     *              the maximum number of records delivered in a single consumer invocation, must be greater than
+     *              zero
+     * @param consumer
+     *              the consumer of the result chunks
+     * @throws KuraStoreException
+     *              if the query fails
+     * @throws IllegalArgumentException
+     *              if {@code maxChunkSize} is not greater than zero
+     * @since 3.0
+     */
+    public default void performQuery(String query, int maxChunkSize, Consumer<List<WireRecord>> consumer)
+            throws KuraStoreException {
+        if (maxChunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero");
+        }
+
+        final List<WireRecord> result = performQuery(query);
+
+        for (int i = 0; i < result.size(); i += maxChunkSize) {
+            consumer.accept(result.subList(i, Math.min(result.size(), i + maxChunkSize)));
+        }
+    }
+
+    /**
+     * Same as {@link #performQuery(String, int, Consumer)}, but allows the implementation to deliver the chunks as
+     * {@link org.eclipse.kura.wire.ColumnarWireRecords} instances, which store the values column by column without
+     * creating a {@link WireRecord} map for each row. Implementations can fall back to map based records for the
+     * chunks that cannot be represented in columnar form, for example because a column contains values of different
+     * types. The default implementation delegates to {@link #performQuery(String, int, Consumer)}.
+     *
+     * @param query
+     *              the query to be run
+     * @param maxChunkSize
+     *              the maximum number of records delivered in a single consumer invocation, must be greater than
+     *              zero
+     * @param consumer
+     *              the consumer of the result chunks
+     * @throws KuraStoreException
+     *              if the query fails
+     * @throws IllegalArgumentException
+     *              if {@code maxChunkSize} is not greater than zero
+     * @since 3.0
+     */
+    public default void performColumnarQuery(String query, int maxChunkSize, Consumer<List<WireRecord>> consumer)
+            throws KuraStoreException {
+        performQuery(query, maxChunkSize, consumer);
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,29 @@ public interface WireRecordStoreProvider {
      */
     public WireRecordStore openWireRecordStore(String name) throws KuraStoreException;
 
+    /**
+     * Opens or creates a time partitioned {@link WireRecordStore} instance with the given name.
+     * <p>
+     * Records are stored in a sequence of partitions, each one containing the records inserted during a time interval
+     * of the given length. {@link WireRecordStore#truncate(int)} removes whole partitions starting from the oldest one
+     * instead of deleting single records, and {@link WireRecordStore#getSize()} does not need to scan the stored
+     * records. Partitions are removed only if the remaining records are at least the number of records to keep,
+     * implementations may delete single records from the oldest remaining partition if this is not enough to
+     * satisfy the requested size. The records of all partitions should be made available for querying under the
+     * given name, if the implementation supports it.
+     *
+     * @param name
+     *            the store name
+     * @param partitionIntervalMillis
+     *            the length of the time interval covered by a partition, in milliseconds
+     * @return the result {@link WireRecordStore}.
+     * @throws KuraStoreException
+     *             if the store cannot be created or if partitioning is not supported
+     * @since 3.0
+     */
+    public WireRecordStore openPartitionedWireRecordStore(String name, long partitionIntervalMillis)
+            throws KuraStoreException;
+
     /**
      * Adds a {@link ConnectionListener}. A typical behavior of a client of this listener is to close the currently
      * open
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -712,6 +712,21 @@ public class BaseAsset implements Asset, SelfConfiguringComponent {
 
         @Override
         public void onChannelEvent(ChannelEvent event) {
+            this.listener.onChannelEvent(transform(event));
+        }
+
+        @Override
+        public void onChannelEvents(List<ChannelEvent> events) {
+            final List<ChannelEvent> transformed = new ArrayList<>(events.size());
+
+            for (final ChannelEvent event : events) {
+                transformed.add(transform(event));
+            }
+
+            this.listener.onChannelEvents(transformed);
+        }
+
+        ChannelEvent transform(final ChannelEvent event) {
             final ChannelRecord originaRecord = event.getChannelRecord();
 
             if (shouldApplyScaleAndOffset(originaRecord, this.channel)) {
@@ -719,9 +734,9 @@ public class BaseAsset implements Asset, SelfConfiguringComponent {
 
                 applyScaleAndOffset(cloned, this.channel);
 
-                this.listener.onChannelEvent(new ChannelEvent(cloned));
+                return new ChannelEvent(cloned);
             } else {
-                this.listener.onChannelEvent(event);
+                return event;
             }
         }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,16 +12,21 @@
  *******************************************************************************/
 package org.eclipse.kura.asset.provider;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.kura.asset.provider.BaseAsset.ChannelListenerHolder;
 import org.eclipse.kura.channel.Channel;
 import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.channel.listener.ChannelEvent;
+import org.eclipse.kura.channel.listener.ChannelListener;
 import org.eclipse.kura.driver.Driver;
 import org.eclipse.kura.driver.PreparedRead;
 import org.slf4j.Logger;
@@ -33,12 +38,14 @@ public class DriverState {
 
     private final Driver driver;
     private final Set<ChannelListenerHolder> attachedListeners;
+    private final Map<ChannelListener, ListenerGroup> listenerGroups;
 
     private PreparedRead preparedRead;
 
     public DriverState(final Driver driver) {
         this.driver = driver;
         this.attachedListeners = new HashSet<>();
+        this.listenerGroups = new IdentityHashMap<>();
     }
 
     public Driver getDriver() {
@@ -84,16 +91,18 @@ public class DriverState {
     private void setChannelListenersInternal(final Set<ChannelListenerHolder> targetState,
             final Map<String, Channel> channels) {
 
-        final Iterator<ChannelListenerHolder> iter = this.attachedListeners.iterator();
+        final Map<ListenerGroup, List<ChannelListenerHolder>> toBeDetached = new LinkedHashMap<>();
 
-        while (iter.hasNext()) {
-            final ChannelListenerHolder reg = iter.next();
+        for (final ChannelListenerHolder reg : this.attachedListeners) {
 
             if (!targetState.contains(reg)) {
-                detach(iter, reg);
+                toBeDetached.computeIfAbsent(this.listenerGroups.get(reg.getChannelListener()), g -> new ArrayList<>())
+                        .add(reg);
             }
         }
 
+        toBeDetached.forEach(this::detach);
+
         for (final ChannelListenerHolder holder : targetState) {
 
             if (this.attachedListeners.contains(holder)) {
@@ -109,24 +118,57 @@ public class DriverState {
     }
 
     private void attach(final ChannelListenerHolder holder, final Channel channel) {
+        final ListenerGroup group = this.listenerGroups.computeIfAbsent(holder.getChannelListener(),
+                ListenerGroup::new);
+
         try {
             logger.debug("Registering Channel Listener for monitoring...");
-            this.driver.registerChannelListener(channel.getConfiguration(), holder);
+            group.add(holder, channel);
+            this.driver.registerChannelListener(channel.getConfiguration(), group);
             this.attachedListeners.add(holder);
             logger.debug("Registering Channel Listener for monitoring...done");
         } catch (Exception e) {
             logger.warn("Failed to register channel listener", e);
+            group.remove(holder);
+            removeIfEmpty(group);
         }
     }
 
-    private void detach(final Iterator<ChannelListenerHolder> iter, final ChannelListenerHolder holder) {
+    /*
+     * Drivers only allow to unregister a listener from all of its channels, the group is unregistered and then
+     * registered again for the channels that are still attached.
+     */
+    private void detach(final ListenerGroup group, final List<ChannelListenerHolder> holders) {
         try {
             logger.debug("Unregistering Asset Listener...");
-            this.driver.unregisterChannelListener(holder);
-            iter.remove();
+            this.driver.unregisterChannelListener(group);
             logger.debug("Unregistering Asset Listener...done");
         } catch (Exception e) {
             logger.warn("Failed to unregister channel listener", e);
+            return;
+        }
+
+        for (final ChannelListenerHolder holder : holders) {
+            group.remove(holder);
+            this.attachedListeners.remove(holder);
+        }
+
+        for (final Attachment attachment : new ArrayList<>(group.attachments.values())) {
+            try {
+                this.driver.registerChannelListener(attachment.channel.getConfiguration(), group);
+            } catch (Exception e) {
+                logger.warn("Failed to register channel listener", e);
+                group.remove(attachment.holder);
+                this.attachedListeners.remove(attachment.holder);
+            }
+        }
+
+        removeIfEmpty(group);
+    }
+
+    private void removeIfEmpty(final ListenerGroup group) {
+        if (group.attachments.isEmpty()) {
+            this.listenerGroups.remove(group.listener);
         }
     }
 
@@ -135,4 +177,81 @@ public class DriverState {
         closePreparedRead();
         setChannelListenersInternal(Collections.emptySet(), Collections.emptyMap());
     }
+
+    /*
+     * Registered to the driver in place of the ChannelListenerHolder instances that share the same listener, so that
+     * a batch of events delivered by the driver through ChannelListener.onChannelEvents() reaches the listener as a
+     * single batch. Events are routed to the holder of their channel, that applies scale and offset.
+     */
+    private static final class ListenerGroup implements ChannelListener {
+
+        private final ChannelListener listener;
+        private final Map<String, Attachment> attachments = new ConcurrentHashMap<>();
+
+        ListenerGroup(final ChannelListener listener) {
+            this.listener = listener;
+        }
+
+        void add(final ChannelListenerHolder holder, final Channel channel) {
+            this.attachments.put(holder.getChannelName(), new Attachment(holder, channel));
+        }
+
+        void remove(final ChannelListenerHolder holder) {
+            this.attachments.remove(holder.getChannelName());
+        }
+
+        private Attachment getAttachment(final ChannelEvent event) {
+            final Attachment attachment = this.attachments.get(event.getChannelRecord().getChannelName());
+
+            if (attachment == null && this.attachments.size() == 1) {
+                return this.attachments.values().iterator().next();
+            }
+
+            return attachment;
+        }
+
+        @Override
+        public void onChannelEvent(final ChannelEvent event) {
+            if (this.attachments.isEmpty()) {
+                // detached, the driver did not drop all of the registrations of the group
+                return;
+            }
+
+            final Attachment attachment = getAttachment(event);
+
+            if (attachment != null) {
+                attachment.holder.onChannelEvent(event);
+            } else {
+                this.listener.onChannelEvent(event);
+            }
+        }
+
+        @Override
+        public void onChannelEvents(final List<ChannelEvent> events) {
+            if (this.attachments.isEmpty()) {
+                return;
+            }
+
+            final List<ChannelEvent> transformed = new ArrayList<>(events.size());
+
+            for (final ChannelEvent event : events) {
+                final Attachment attachment = getAttachment(event);
+
+                transformed.add(attachment != null ? attachment.holder.transform(event) : event);
+            }
+
+            this.listener.onChannelEvents(transformed);
+        }
+    }
+
+    private static final class Attachment {
+
+        private final ChannelListenerHolder holder;
+        private final Channel channel;
+
+        Attachment(final ChannelListenerHolder holder, final Channel channel) {
+            this.holder = holder;
+            this.channel = channel;
+        }
+    }
 }
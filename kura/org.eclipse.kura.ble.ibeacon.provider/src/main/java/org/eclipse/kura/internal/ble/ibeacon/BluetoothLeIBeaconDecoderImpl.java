@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.kura.internal.ble.ibeacon;
 
-import java.util.Arrays;
 import java.util.UUID;
 
 import org.eclipse.kura.ble.ibeacon.BluetoothLeIBeacon;
@@ -69,7 +68,7 @@ public class BluetoothLeIBeaconDecoderImpl implements BluetoothLeIBeaconDecoder
             byte dataType = b[ptr + 1];
 
             if (dataType == (byte) 0xFF // Data-Type: Manufacturer-Specific
-                    && Arrays.equals(IBEACON_PREFIX, Arrays.copyOfRange(b, ptr + 2, ptr + 2 + IBEACON_PREFIX.length))) {
+                    && hasPrefix(b, ptr + 2)) {
 
                 BluetoothLeIBeacon beacon = new BluetoothLeIBeacon();
 
@@ -85,13 +84,7 @@ public class BluetoothLeIBeaconDecoderImpl implements BluetoothLeIBeaconDecoder
                 int majorPtr = uuidPtr + 16;
                 int minorPtr = uuidPtr + 18;
 
-                StringBuilder uuid = new StringBuilder();
-                for (byte ub : Arrays.copyOfRange(b, uuidPtr, majorPtr)) {
-                    uuid.append(String.format("%02X", ub));
-                }
-                beacon.setUuid(UUID.fromString(uuid.toString().replaceFirst(
-                        "(\\p{XDigit}{8})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}+)",
-                        "$1-$2-$3-$4-$5")));
+                beacon.setUuid(new UUID(readLong(b, uuidPtr), readLong(b, uuidPtr + 8)));
 
                 int majorl = b[majorPtr + 1] & 0xFF;
                 int majorh = b[majorPtr] & 0xFF;
@@ -109,4 +102,24 @@ public class BluetoothLeIBeaconDecoderImpl implements BluetoothLeIBeaconDecoder
         return null;
     }
 
+    private static boolean hasPrefix(byte[] b, int offset) {
+        if (offset + IBEACON_PREFIX.length > b.length) {
+            return false;
+        }
+        for (int i = 0; i < IBEACON_PREFIX.length; i++) {
+            if (b[offset + i] != IBEACON_PREFIX[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long readLong(byte[] b, int offset) {
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = result << 8 | b[offset + i] & 0xFF;
+        }
+        return result;
+    }
+
 }
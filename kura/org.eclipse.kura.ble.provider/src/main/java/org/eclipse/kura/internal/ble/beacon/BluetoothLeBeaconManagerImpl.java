@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -29,7 +29,6 @@ import org.eclipse.kura.KuraBluetoothDiscoveryException;
 import org.eclipse.kura.KuraException;
 import org.eclipse.kura.bluetooth.le.BluetoothLeAdapter;
 import org.eclipse.kura.bluetooth.le.BluetoothTransportType;
-import org.eclipse.kura.bluetooth.le.beacon.AdvertisingReportRecord;
 import org.eclipse.kura.bluetooth.le.beacon.BluetoothLeBeacon;
 import org.eclipse.kura.bluetooth.le.beacon.BluetoothLeBeaconAdvertiser;
 import org.eclipse.kura.bluetooth.le.beacon.BluetoothLeBeaconDecoder;
@@ -37,16 +36,20 @@ import org.eclipse.kura.bluetooth.le.beacon.BluetoothLeBeaconEncoder;
 import org.eclipse.kura.bluetooth.le.beacon.BluetoothLeBeaconManager;
 import org.eclipse.kura.bluetooth.le.beacon.BluetoothLeBeaconScanner;
 import org.eclipse.kura.bluetooth.le.beacon.listener.BluetoothLeBeaconListener;
+import org.eclipse.kura.configuration.ConfigurableComponent;
 import org.eclipse.kura.executor.CommandExecutorService;
+import org.eclipse.kura.internal.ble.util.AdvertisingReportView;
 import org.eclipse.kura.internal.ble.util.BTSnoopListener;
 import org.eclipse.kura.internal.ble.util.BluetoothLeUtil;
 import org.eclipse.kura.internal.ble.util.BluetoothProcess;
 import org.eclipse.kura.internal.ble.util.BluetoothProcessListener;
+import org.eclipse.kura.internal.ble.util.DuplicateAdvertisementFilter;
 import org.eclipse.kura.system.SystemService;
 import org.osgi.service.component.ComponentContext;
 
 public class BluetoothLeBeaconManagerImpl
-        implements BluetoothLeBeaconManager<BluetoothLeBeacon>, BTSnoopListener, BluetoothProcessListener {
+        implements BluetoothLeBeaconManager<BluetoothLeBeacon>, BTSnoopListener, BluetoothProcessListener,
+        ConfigurableComponent {
 
     private static final String COMMAND_MESSAGE = "Command ";
 
@@ -62,6 +65,9 @@ public class BluetoothLeBeaconManagerImpl
     private static final String CMD = "cmd";
     private static final String TWO_CHAR_REGEX = "(?<=\\G..)";
 
+    // advertisements with the same address and data received within this window are dropped, 0 to disable
+    private static final String DUPLICATE_FILTER_WINDOW_PROPERTY = "duplicate.filter.window.ms";
+
     private static Map<String, BluetoothLeBeaconAdvertiserImpl<BluetoothLeBeacon>> advertisers = new HashMap<>();
     private static Map<String, List<BluetoothLeBeaconScannerImpl<BluetoothLeBeacon>>> scanners = new HashMap<>();
 
@@ -70,6 +76,8 @@ public class BluetoothLeBeaconManagerImpl
     private Map<BluetoothLeBeaconListener<BluetoothLeBeacon>, Class<?>> listeners;
     private CommandExecutorService executorService;
     private SystemService systemService;
+    private volatile DuplicateAdvertisementFilter duplicateFilter;
+    private final ThreadLocal<AdvertisingReportView> reportView = ThreadLocal.withInitial(AdvertisingReportView::new);
 
     public void setExecutorService(CommandExecutorService executorService) {
         this.executorService = executorService;
@@ -94,12 +102,32 @@ public class BluetoothLeBeaconManagerImpl
     protected void activate(ComponentContext context) {
         logger.info("Activating Bluetooth Le Beacon Manager...");
         this.listeners = new HashMap<>();
+
+        Object duplicateFilterWindow = null;
+        if (context != null && context.getProperties() != null) {
+            duplicateFilterWindow = context.getProperties().get(DUPLICATE_FILTER_WINDOW_PROPERTY);
+        }
+        updateDuplicateFilter(duplicateFilterWindow);
+    }
+
+    protected void updated(Map<String, Object> properties) {
+        logger.info("Updating Bluetooth Le Beacon Manager...");
+
+        updateDuplicateFilter(properties != null ? properties.get(DUPLICATE_FILTER_WINDOW_PROPERTY) : null);
     }
 
     protected void deactivate(ComponentContext context) {
         logger.debug("Deactivating Bluetooth Le Beacon Manager...");
     }
 
+    private void updateDuplicateFilter(Object duplicateFilterWindow) {
+        if (duplicateFilterWindow instanceof Number && ((Number) duplicateFilterWindow).longValue() > 0) {
+            this.duplicateFilter = new DuplicateAdvertisementFilter(((Number) duplicateFilterWindow).longValue());
+        } else {
+            this.duplicateFilter = null;
+        }
+    }
+
     protected BluetoothProcess execBtDump(String interfaceName) throws IOException {
         return BluetoothLeUtil.btdumpCmd(interfaceName, this.executorService, this);
     }
@@ -405,33 +433,66 @@ public class BluetoothLeBeaconManagerImpl
 
     @Override
     public void processBTSnoopRecord(byte[] record) {
-        // Extract raw advertisement data
-        List<AdvertisingReportRecord> reportRecords = BluetoothLeUtil.parseLEAdvertisement(record);
-        if (!reportRecords.isEmpty()) {
-
-            // Get the active decoders
-            List<BluetoothLeBeaconDecoder<BluetoothLeBeacon>> decoders = scanners.values().stream()
-                    .flatMap(List::stream).filter(BluetoothLeBeaconScannerImpl<BluetoothLeBeacon>::isScanning)
-                    .map(BluetoothLeBeaconScannerImpl<BluetoothLeBeacon>::getDecoder).distinct()
-                    .collect(Collectors.toList());
-
-            List<BluetoothLeBeacon> beacons = new ArrayList<>();
-            for (AdvertisingReportRecord report : reportRecords) {
-                for (BluetoothLeBeaconDecoder<BluetoothLeBeacon> decoder : decoders) {
-                    BluetoothLeBeacon beacon = decoder.decode(report.getReportData());
-                    if (beacon != null) {
-                        beacon.setAddress(report.getAddress());
-                        beacon.setRssi(report.getRssi());
-                        beacons.add(beacon);
+        processBTSnoopRecord(record, 0, record.length);
+    }
+
+    @Override
+    public void processBTSnoopRecord(byte[] buffer, int offset, int length) {
+        // Parse the raw advertisement data in place
+        AdvertisingReportView report = this.reportView.get();
+        if (!report.wrap(buffer, offset, length)) {
+            return;
+        }
+
+        List<BluetoothLeBeaconDecoder<BluetoothLeBeacon>> decoders = null;
+        List<BluetoothLeBeacon> beacons = null;
+
+        DuplicateAdvertisementFilter currentDuplicateFilter = this.duplicateFilter;
+
+        while (report.next()) {
+            if (currentDuplicateFilter != null
+                    && currentDuplicateFilter.isDuplicate(report.getAddress(), report.getDataHash())) {
+                continue;
+            }
+
+            if (decoders == null) {
+                decoders = getActiveDecoders();
+            }
+            if (decoders.isEmpty()) {
+                return;
+            }
+
+            byte[] reportData = report.copyData();
+            String address = null;
+            for (BluetoothLeBeaconDecoder<BluetoothLeBeacon> decoder : decoders) {
+                BluetoothLeBeacon beacon = decoder.decode(reportData);
+                if (beacon != null) {
+                    if (address == null) {
+                        address = report.getAddressString();
+                    }
+                    beacon.setAddress(address);
+                    beacon.setRssi(report.getRssi());
+                    if (beacons == null) {
+                        beacons = new ArrayList<>();
                     }
+                    beacons.add(beacon);
                 }
             }
+        }
 
-            // Notify listeners
+        // Notify listeners
+        if (beacons != null) {
             notifyListeners(beacons);
         }
     }
 
+    private List<BluetoothLeBeaconDecoder<BluetoothLeBeacon>> getActiveDecoders() {
+        return scanners.values().stream().flatMap(List::stream)
+                .filter(BluetoothLeBeaconScannerImpl<BluetoothLeBeacon>::isScanning)
+                .map(BluetoothLeBeaconScannerImpl<BluetoothLeBeacon>::getDecoder).distinct()
+                .collect(Collectors.toList());
+    }
+
     private void notifyListeners(List<BluetoothLeBeacon> beacons) {
         if (!beacons.isEmpty() && !this.listeners.isEmpty()) {
             for (Entry<BluetoothLeBeaconListener<BluetoothLeBeacon>, Class<?>> entry : this.listeners.entrySet()) {
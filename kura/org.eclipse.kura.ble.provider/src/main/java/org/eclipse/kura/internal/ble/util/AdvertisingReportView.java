@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.ble.util;
+
+import java.util.Arrays;
+
+import org.eclipse.kura.bluetooth.le.beacon.AdvertisingReportRecord;
+
+/**
+ * Reusable view over the reports of an HCI LE Advertising Report Event, that reads the fields directly from the
+ * packet buffer.
+ *
+ * See Bluetooth Core 5.2; 7.7.65.2 LE Advertising Report Event
+ * See Bluetooth Core 5.2; 7.7.65.13 LE Extended Advertising Report Event
+ */
+public final class AdvertisingReportView {
+
+    private static final byte LE_META_EVENT = 0x3E;
+    private static final byte LE_ADVERTISING_REPORT = 0x02;
+    private static final byte LE_EXTENDED_ADVERTISING_REPORT = 0x0D;
+
+    private static final int REPORT_HEADER_LENGTH = 9;
+    private static final int EXTENDED_REPORT_HEADER_LENGTH = 24;
+    private static final int ADDRESS_LENGTH = 6;
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private byte[] buffer;
+    private int end;
+    private boolean extended;
+    private int remainingReports;
+    private int nextReportOffset;
+
+    private int eventType;
+    private int addressType;
+    private int addressOffset;
+    private int primaryPhy;
+    private int secondaryPhy;
+    private int sid;
+    private int txPower;
+    private int rssi;
+    private int periodicAdvertisingInterval;
+    private int directAddressType;
+    private int directAddressOffset;
+    private int dataOffset;
+    private int dataLength;
+
+    /**
+     * Sets the packet to be parsed.
+     *
+     * @param buffer
+     *            the buffer containing the packet
+     * @param offset
+     *            the offset of the packet in the buffer
+     * @param length
+     *            the length of the packet
+     * @return {@code true} if the packet is an advertising report event
+     */
+    public boolean wrap(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.end = offset + length;
+        this.remainingReports = 0;
+
+        // Event Code : LE Meta (0x3E)
+        if (length < 4 || buffer[offset] != LE_META_EVENT) {
+            return false;
+        }
+
+        // Sub Event Code : LE Advertising Report (0x02) or LE Extended Advertising Report (0x0D)
+        final byte subEventCode = buffer[offset + 2];
+        if (subEventCode != LE_ADVERTISING_REPORT && subEventCode != LE_EXTENDED_ADVERTISING_REPORT) {
+            return false;
+        }
+
+        this.extended = subEventCode == LE_EXTENDED_ADVERTISING_REPORT;
+        this.remainingReports = buffer[offset + 3] & 0xFF;
+        this.nextReportOffset = offset + 4;
+
+        return true;
+    }
+
+    /**
+     * Moves to the next report of the packet.
+     *
+     * @return {@code true} if a report is available, {@code false} if there are no more reports or the packet is
+     *         truncated
+     */
+    public boolean next() {
+        if (this.remainingReports == 0) {
+            return false;
+        }
+
+        final byte[] b = this.buffer;
+        int ptr = this.nextReportOffset;
+
+        if (ptr + (this.extended ? EXTENDED_REPORT_HEADER_LENGTH : REPORT_HEADER_LENGTH) > this.end) {
+            this.remainingReports = 0;
+            return false;
+        }
+
+        if (this.extended) {
+            this.eventType = b[ptr++] & 0xFF | (b[ptr++] & 0xFF) << 8;
+        } else {
+            this.eventType = b[ptr++];
+        }
+
+        this.addressType = b[ptr++];
+        this.addressOffset = ptr;
+        ptr += ADDRESS_LENGTH;
+
+        if (this.extended) {
+            this.primaryPhy = b[ptr++];
+            this.secondaryPhy = b[ptr++];
+            this.sid = b[ptr++];
+            this.txPower = b[ptr++];
+            this.rssi = b[ptr++];
+            this.periodicAdvertisingInterval = b[ptr++] & 0xFF | (b[ptr++] & 0xFF) << 8;
+            this.directAddressType = b[ptr++];
+            this.directAddressOffset = ptr;
+            ptr += ADDRESS_LENGTH;
+        }
+
+        this.dataLength = b[ptr++] & 0xFF;
+        this.dataOffset = ptr;
+
+        if (this.dataOffset + this.dataLength > this.end) {
+            this.remainingReports = 0;
+            return false;
+        }
+
+        if (!this.extended) {
+            final int rssiOffset = this.dataOffset + this.dataLength;
+            this.rssi = rssiOffset < this.end ? b[rssiOffset] : 0;
+        }
+
+        this.nextReportOffset = this.dataOffset + this.dataLength;
+        this.remainingReports--;
+
+        return true;
+    }
+
+    public boolean isExtended() {
+        return this.extended;
+    }
+
+    public int getEventType() {
+        return this.eventType;
+    }
+
+    public int getAddressType() {
+        return this.addressType;
+    }
+
+    /**
+     * Returns the address of the current report as a 48 bit number.
+     *
+     * @return the address
+     */
+    public long getAddress() {
+        return readAddress(this.addressOffset);
+    }
+
+    public String getAddressString() {
+        return formatAddress(this.addressOffset);
+    }
+
+    public int getRssi() {
+        return this.rssi;
+    }
+
+    public int getTxPower() {
+        return this.txPower;
+    }
+
+    public byte[] getBuffer() {
+        return this.buffer;
+    }
+
+    public int getDataOffset() {
+        return this.dataOffset;
+    }
+
+    public int getDataLength() {
+        return this.dataLength;
+    }
+
+    /**
+     * Returns a hash of the advertising data of the current report.
+     *
+     * @return the hash
+     */
+    public int getDataHash() {
+        int result = 1;
+        for (int i = this.dataOffset; i < this.dataOffset + this.dataLength; i++) {
+            result = 31 * result + this.buffer[i];
+        }
+        return result;
+    }
+
+    public byte[] copyData() {
+        return Arrays.copyOfRange(this.buffer, this.dataOffset, this.dataOffset + this.dataLength);
+    }
+
+    /**
+     * Creates an {@link AdvertisingReportRecord} with the content of the current report.
+     *
+     * @return the record
+     */
+    public AdvertisingReportRecord toRecord() {
+        AdvertisingReportRecord arr = new AdvertisingReportRecord();
+        arr.setExtendedReport(this.extended);
+        arr.setEventType(this.eventType);
+        arr.setAddressType(this.addressType);
+        arr.setAddress(getAddressString());
+
+        if (this.extended) {
+            arr.setPrimaryPhy(this.primaryPhy);
+            arr.setSecondaryPhy(this.secondaryPhy);
+            arr.setSid(this.sid);
+            arr.setTxPower(this.txPower);
+            arr.setPeriodicAdvertisingInterval(this.periodicAdvertisingInterval);
+            arr.setDirectAddressType(this.directAddressType);
+            arr.setDirectAddress(formatAddress(this.directAddressOffset));
+        }
+
+        if (this.dataLength > 0) {
+            arr.setLength(this.dataLength);
+        }
+        arr.setReportData(copyData());
+        arr.setRssi(this.rssi);
+
+        return arr;
+    }
+
+    private long readAddress(final int offset) {
+        long result = 0;
+        for (int i = ADDRESS_LENGTH - 1; i >= 0; i--) {
+            result = result << 8 | this.buffer[offset + i] & 0xFF;
+        }
+        return result;
+    }
+
+    private String formatAddress(final int offset) {
+        // the address is transmitted least significant byte first
+        final char[] chars = new char[ADDRESS_LENGTH * 3 - 1];
+        int pos = 0;
+        for (int i = ADDRESS_LENGTH - 1; i >= 0; i--) {
+            final int value = this.buffer[offset + i] & 0xFF;
+            chars[pos++] = HEX_DIGITS[value >> 4];
+            chars[pos++] = HEX_DIGITS[value & 0x0F];
+            if (i > 0) {
+                chars[pos++] = ':';
+            }
+        }
+        return new String(chars);
+    }
+}
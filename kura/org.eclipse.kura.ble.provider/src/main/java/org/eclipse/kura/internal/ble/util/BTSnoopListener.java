@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.kura.internal.ble.util;
 
+import java.util.Arrays;
+
 /**
  * For listening to btsnoop streams
  */
@@ -24,6 +26,20 @@ public interface BTSnoopListener {
      */
     public void processBTSnoopRecord(byte[] record);
 
+    /**
+     * Process a BTSnoop Record stored in a buffer that is reused for the next records
+     *
+     * @param buffer
+     *            the buffer containing the record
+     * @param offset
+     *            the offset of the record in the buffer
+     * @param length
+     *            the length of the record
+     */
+    public default void processBTSnoopRecord(byte[] buffer, int offset, int length) {
+        processBTSnoopRecord(Arrays.copyOfRange(buffer, offset, offset + length));
+    }
+
     /**
      * Process a BTSnoop error stream
      *
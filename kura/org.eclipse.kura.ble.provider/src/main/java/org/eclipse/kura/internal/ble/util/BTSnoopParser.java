@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,59 +12,153 @@
  *******************************************************************************/
 package org.eclipse.kura.internal.ble.util;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-
-import org.apache.commons.io.IOUtils;
+import java.util.Arrays;
 
 /**
  * Parses a btsnoop stream into btsnoop records
+ * <p>
+ * The stream is read in large chunks into an internal buffer and the records are parsed in place, so that no memory
+ * is allocated per record. The packet data returned by {@link #nextRecord()} is only valid until the next call.
  */
 public class BTSnoopParser {
 
+    private static final int HEADER_LENGTH = 16;
+    private static final int RECORD_HEADER_LENGTH = 24;
+    private static final int INCLUDED_LENGTH_OFFSET = 4;
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_RECORD_LENGTH = 1024 * 1024;
+
     private InputStream is;
     private boolean gotHeader = false;
 
+    private byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    private int recordOffset;
+    private int recordLength;
+
     public BTSnoopParser() {
         // Do nothing
     }
 
     public void setInputStream(InputStream is) {
         this.is = is;
+        this.gotHeader = false;
+        this.position = 0;
+        this.limit = 0;
     }
 
+    /**
+     * Reads the next record and returns a copy of its packet data.
+     *
+     * @return the packet data
+     * @throws IOException
+     *             if the stream cannot be read or ends
+     */
     public byte[] readRecord() throws IOException {
+        if (!nextRecord()) {
+            throw new EOFException();
+        }
+
+        return Arrays.copyOfRange(this.buffer, this.recordOffset, this.recordOffset + this.recordLength);
+    }
+
+    /**
+     * Reads the next record. Its packet data is available in {@link #getBuffer()}, starting from
+     * {@link #getRecordOffset()}, until the next call to this method.
+     *
+     * @return {@code true} if a record has been read, {@code false} if the stream ended
+     * @throws IOException
+     *             if the stream cannot be read, is truncated or malformed
+     */
+    public boolean nextRecord() throws IOException {
         if (!this.gotHeader) {
-            // Read past the 16-byte header
-            IOUtils.readFully(this.is, new byte[16]);
+            if (!fill(HEADER_LENGTH)) {
+                return false;
+            }
+            // Skip the 16-byte header
+            this.position += HEADER_LENGTH;
             this.gotHeader = true;
         }
 
-        readInt(); // Original Length
-        int includedLength = readInt(); // Included Length
-        readInt(); // Packet Flags
-        readInt(); // Cumulative Drops
+        // Original Length, Included Length, Packet Flags, Cumulative Drops, Timestamp
+        if (!fill(RECORD_HEADER_LENGTH)) {
+            return false;
+        }
+
+        final int includedLength = readInt(this.position + INCLUDED_LENGTH_OFFSET);
 
-        // Skip forward to packet data
-        readInt();
-        readInt();
+        if (includedLength < 0 || includedLength > MAX_RECORD_LENGTH) {
+            throw new IOException("Invalid btsnoop record length: " + includedLength);
+        }
 
-        // Packet Data
-        if (includedLength > 0) {
-            byte[] packetData = new byte[includedLength];
-            IOUtils.readFully(this.is, packetData);
-            return packetData;
+        if (!fill(RECORD_HEADER_LENGTH + includedLength)) {
+            throw new EOFException();
         }
 
-        return new byte[0];
+        this.recordOffset = this.position + RECORD_HEADER_LENGTH;
+        this.recordLength = includedLength;
+        this.position = this.recordOffset + includedLength;
+
+        return true;
     }
 
-    private int readInt() throws IOException {
+    public byte[] getBuffer() {
+        return this.buffer;
+    }
 
-        byte[] intBytes = new byte[4];
+    public int getRecordOffset() {
+        return this.recordOffset;
+    }
 
-        IOUtils.readFully(this.is, intBytes);
+    public int getRecordLength() {
+        return this.recordLength;
+    }
+
+    /*
+     * Ensures that at least length bytes are available from position. Returns false if the stream ended before any
+     * byte was available.
+     */
+    private boolean fill(final int length) throws IOException {
+        if (this.limit - this.position >= length) {
+            return true;
+        }
+
+        final int available = this.limit - this.position;
+
+        if (length > this.buffer.length) {
+            final byte[] newBuffer = new byte[Math.max(length, this.buffer.length * 2)];
+            System.arraycopy(this.buffer, this.position, newBuffer, 0, available);
+            this.buffer = newBuffer;
+        } else {
+            System.arraycopy(this.buffer, this.position, this.buffer, 0, available);
+        }
+
+        this.position = 0;
+        this.limit = available;
+
+        while (this.limit < length) {
+            final int read = this.is.read(this.buffer, this.limit, this.buffer.length - this.limit);
+
+            if (read < 0) {
+                if (this.limit == 0) {
+                    return false;
+                }
+                throw new EOFException();
+            }
+
+            this.limit += read;
+        }
+
+        return true;
+    }
 
-        return intBytes[0] << 24 | intBytes[1] << 16 | intBytes[2] << 8 | intBytes[3];
+    private int readInt(final int offset) {
+        return (this.buffer[offset] & 0xFF) << 24 | (this.buffer[offset + 1] & 0xFF) << 16
+                | (this.buffer[offset + 2] & 0xFF) << 8 | this.buffer[offset + 3] & 0xFF;
     }
 }
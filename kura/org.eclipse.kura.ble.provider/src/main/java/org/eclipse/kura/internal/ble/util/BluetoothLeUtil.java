@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -142,100 +142,11 @@ public class BluetoothLeUtil {
 
         List<AdvertisingReportRecord> reportRecords = new ArrayList<>();
 
-        // Event Code : LE Meta (0x3E)
-        if (b[0] != 0x3E) {
-            // Not an Advertising Packet
-            return reportRecords;
-        }
-
-        // Sub Event Code : LE Advertising Report (0x02)
-        // Sub Event Code : LE Extended Advertising Report (0x0D)
-        if (b[2] != 0x02 && b[2] != 0x0D) {
-            // Not an Advertisement Event
-            return reportRecords;
-        }
-
-        // Determine if this is an extended advertising report
-        boolean extendedAdvertisingReport = false;
-
-        if (b[2] == 0x0D) {
-            extendedAdvertisingReport = true;
-        }
-
-        // Number of reports in this advertisement
-        int reportRecordsNumber = b[3];
-
-        // Parse each report
-        int ptr = 4;
-        for (int nr = 0; nr < reportRecordsNumber; nr++) {
-
-            AdvertisingReportRecord arr = new AdvertisingReportRecord();
-            arr.setExtendedReport(extendedAdvertisingReport);
-
-            if (extendedAdvertisingReport) {
-                arr.setEventType(((b[ptr++] & 0xFF) | (b[ptr++] & 0xFF) << 8));
-            } else {
-                arr.setEventType(b[ptr++]);
+        AdvertisingReportView view = new AdvertisingReportView();
+        if (view.wrap(b, 0, b.length)) {
+            while (view.next()) {
+                reportRecords.add(view.toRecord());
             }
-
-            arr.setAddressType(b[ptr++]);
-
-            // Extract remote address
-            String address = String.format("%02X:%02X:%02X:%02X:%02X:%02X", b[ptr + 5], b[ptr + 4], b[ptr + 3],
-                    b[ptr + 2], b[ptr + 1], b[ptr + 0]);
-
-            arr.setAddress(address);
-
-            // Skip past address bytes
-            ptr += 6;
-
-            // Additional Extended Advertising Report attributes
-            if (extendedAdvertisingReport) {
-                // Primary & Secondary Phy
-                arr.setPrimaryPhy(b[ptr++]);
-                arr.setSecondaryPhy(b[ptr++]);
-
-                // SID
-                arr.setSid(b[ptr++]);
-
-                // Tx Power
-                arr.setTxPower(b[ptr++]);
-
-                // RSSI
-                arr.setRssi(b[ptr++]);
-
-                // Periodic Advertising Interval
-                arr.setPeriodicAdvertisingInterval(((b[ptr++] & 0xFF) | (b[ptr++] & 0xFF) << 8));
-
-                // Direct Address
-                arr.setDirectAddressType(b[ptr++]);
-
-                String directAddress = String.format("%02X:%02X:%02X:%02X:%02X:%02X", b[ptr + 5], b[ptr + 4],
-                        b[ptr + 3], b[ptr + 2], b[ptr + 1], b[ptr + 0]);
-
-                arr.setDirectAddress(directAddress);
-
-                // Skip past direct address bytes
-                ptr += 6;
-            }
-
-            int arrDataLength = b[ptr++];
-
-            if (arrDataLength > 0) {
-                arr.setLength(arrDataLength);
-            }
-            byte[] arrData = new byte[arrDataLength];
-            System.arraycopy(b, ptr, arrData, 0, arrDataLength);
-            arr.setReportData(arrData);
-
-            // RSSI
-            if (!extendedAdvertisingReport) {
-                arr.setRssi(b[ptr + arrDataLength]);
-            }
-
-            reportRecords.add(arr);
-
-            ptr += arrDataLength;
         }
 
         return reportRecords;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -38,13 +38,16 @@ public class BluetoothProcess {
 
     private static final Logger logger = LogManager.getLogger(BluetoothProcess.class);
 
+    // the default pipe size (1 KiB) blocks the process output while advertisements are being processed
+    private static final int PIPE_SIZE = 64 * 1024;
+
     @SuppressWarnings("checkstyle:constantName")
     private static final ExecutorService streamGobblers = Executors.newCachedThreadPool();
 
     private Future<?> futureInputGobbler;
     private Future<?> futureErrorGobbler;
     private BufferedWriter bufferedWriter;
-    private final PipedInputStream readOutputStream = new PipedInputStream();
+    private final PipedInputStream readOutputStream = new PipedInputStream(PIPE_SIZE);
     private final PipedInputStream readErrorStream = new PipedInputStream();
     private final PipedOutputStream outputStream = new PipedOutputStream();
     private final PipedOutputStream errorStream = new PipedOutputStream();
@@ -176,12 +179,10 @@ public class BluetoothProcess {
 
     private void readBTSnoopStreamFully(InputStream is, BTSnoopListener listener) throws IOException {
         this.parser.setInputStream(is);
-        while (this.btSnoopReady) {
-            if (is != null) {
-                byte[] packet = this.parser.readRecord();
-                if (packet.length > 0) {
-                    listener.processBTSnoopRecord(packet);
-                }
+        while (this.btSnoopReady && this.parser.nextRecord()) {
+            if (this.parser.getRecordLength() > 0) {
+                listener.processBTSnoopRecord(this.parser.getBuffer(), this.parser.getRecordOffset(),
+                        this.parser.getRecordLength());
             }
         }
         logger.debug("End of btsnoop stream!");
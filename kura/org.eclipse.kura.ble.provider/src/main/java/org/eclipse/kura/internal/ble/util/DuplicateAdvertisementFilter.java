@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.ble.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects advertisements with the same address and payload received within a time window.
+ * <p>
+ * The advertisements are tracked in a fixed size open addressing table, so that no memory is allocated while
+ * scanning. When the table is full the oldest entry in the probed slots is replaced, in this case a duplicate may be
+ * reported as new.
+ */
+public final class DuplicateAdvertisementFilter {
+
+    private static final int TABLE_SIZE = 4096;
+    private static final int MAX_PROBES = 8;
+
+    private final long windowNanos;
+
+    private final long[] addresses = new long[TABLE_SIZE];
+    private final int[] dataHashes = new int[TABLE_SIZE];
+    private final long[] timestamps = new long[TABLE_SIZE];
+    private final boolean[] used = new boolean[TABLE_SIZE];
+
+    public DuplicateAdvertisementFilter(long windowMs) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    }
+
+    /**
+     * Checks whether an advertisement is a duplicate of one received within the time window, and records it.
+     *
+     * @param address
+     *            the advertiser address
+     * @param dataHash
+     *            the hash of the advertising data
+     * @return {@code true} if the advertisement is a duplicate
+     */
+    public synchronized boolean isDuplicate(long address, int dataHash) {
+        return isDuplicate(address, dataHash, System.nanoTime());
+    }
+
+    synchronized boolean isDuplicate(long address, int dataHash, long now) {
+        final int start = slotOf(address, dataHash);
+
+        int target = -1;
+
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            final int slot = start + probe & TABLE_SIZE - 1;
+
+            if (!this.used[slot]) {
+                target = slot;
+                break;
+            }
+
+            if (this.addresses[slot] == address && this.dataHashes[slot] == dataHash) {
+                if (now - this.timestamps[slot] < this.windowNanos) {
+                    return true;
+                }
+                target = slot;
+                break;
+            }
+
+            // nanoTime values must be compared by difference
+            if (target < 0 || this.timestamps[slot] - this.timestamps[target] < 0) {
+                target = slot;
+            }
+        }
+
+        this.used[target] = true;
+        this.addresses[target] = address;
+        this.dataHashes[target] = dataHash;
+        this.timestamps[target] = now;
+
+        return false;
+    }
+
+    private static int slotOf(long address, int dataHash) {
+        int hash = (int) (address ^ address >>> 32) * 31 + dataHash;
+        hash ^= hash >>> 16;
+        return hash & TABLE_SIZE - 1;
+    }
+}
@@ -0,0 +1,454 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.broker.artemis.simple.mqtt;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQException;
+import org.apache.activemq.artemis.api.core.RoutingType;
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.client.ActiveMQClient;
+import org.apache.activemq.artemis.api.core.client.ClientConsumer;
+import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientProducer;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
+import org.apache.activemq.artemis.api.core.client.FailoverEventType;
+import org.apache.activemq.artemis.api.core.client.ServerLocator;
+import org.eclipse.kura.KuraConnectException;
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.KuraNotConnectedException;
+import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.configuration.ConfigurationService;
+import org.eclipse.kura.crypto.CryptoService;
+import org.eclipse.kura.data.DataTransportService;
+import org.eclipse.kura.data.DataTransportToken;
+import org.eclipse.kura.data.transport.listener.DataTransportListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DataTransportService} that exchanges messages with the broker started by the Simple Artemis MQTT Broker
+ * component through its in-VM acceptor.
+ * <p>
+ * Messages are sent and received as Artemis core messages, without sockets, MQTT encoding or client side
+ * persistence. Topics are mapped to Artemis addresses in the same way as the broker MQTT protocol does, so that
+ * messages are exchanged transparently with the MQTT clients connected to the broker: the {@code /} separator is
+ * mapped to {@code .} and the {@code +} wildcard is mapped to {@code *}.
+ * <p>
+ * Messages published with QoS greater than 0 are confirmed as soon as the broker has accepted them, confirmations
+ * are delivered to the {@link DataTransportListener}s asynchronously. The retain flag is not supported, retained
+ * messages are managed by the broker MQTT protocol only.
+ */
+public class InVmDataTransport implements DataTransportService, ConfigurableComponent {
+
+    private static final Logger logger = LoggerFactory.getLogger(InVmDataTransport.class);
+
+    private static final String NOT_CONNECTED_MESSAGE = "Not connected";
+    private static final String ALREADY_CONNECTED_MESSAGE = "Already connected";
+
+    private static final String ACCOUNT_NAME_VARIABLE = "#account-name";
+    private static final String CLIENT_ID_VARIABLE = "#client-id";
+
+    private static final long CLIENT_FAILURE_CHECK_PERIOD_MILLIS = 1000;
+
+    private static final String MQTT_QOS_LEVEL_KEY = "mqtt.qos.level";
+    private static final String MQTT_MESSAGE_RETAIN_KEY = "mqtt.message.retain";
+
+    private CryptoService cryptoService;
+
+    private final List<DataTransportListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Subscription> subscriptions = new HashMap<>();
+    private final AtomicInteger messageIdGenerator = new AtomicInteger();
+
+    private ExecutorService executor;
+
+    private InVmDataTransportOptions options;
+
+    private ServerLocator serverLocator;
+    private ClientSessionFactory sessionFactory;
+    private ClientSession session;
+    private ClientProducer producer;
+    private String sessionId;
+
+    // ----------------------------------------------------------------
+    //
+    // Dependencies
+    //
+    // ----------------------------------------------------------------
+
+    public void setCryptoService(final CryptoService cryptoService) {
+        this.cryptoService = cryptoService;
+    }
+
+    // ----------------------------------------------------------------
+    //
+    // Activation APIs
+    //
+    // ----------------------------------------------------------------
+
+    protected void activate(final Map<String, Object> properties) {
+        logger.info("Activating {}...", properties.get(ConfigurationService.KURA_SERVICE_PID));
+
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            final Thread thread = new Thread(r, "InVmDataTransport");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.options = new InVmDataTransportOptions(properties, this::decryptPassword);
+    }
+
+    protected void updated(final Map<String, Object> properties) {
+        logger.info("Updating {}...", properties.get(ConfigurationService.KURA_SERVICE_PID));
+
+        final boolean wasConnected = isConnected();
+
+        dispatch(l -> l.onConfigurationUpdating(wasConnected));
+
+        synchronized (this) {
+            this.options = new InVmDataTransportOptions(properties, this::decryptPassword);
+        }
+
+        dispatch(l -> l.onConfigurationUpdated(wasConnected));
+    }
+
+    protected void deactivate() {
+        logger.info("Deactivating In-VM Data Transport...");
+
+        if (isConnected()) {
+            disconnect(0);
+        }
+
+        this.executor.shutdown();
+    }
+
+    // ----------------------------------------------------------------
+    //
+    // Service APIs
+    //
+    // ----------------------------------------------------------------
+
+    @Override
+    public synchronized void connect() throws KuraConnectException {
+        if (isConnected()) {
+            logger.error(ALREADY_CONNECTED_MESSAGE);
+            throw new IllegalStateException(ALREADY_CONNECTED_MESSAGE);
+        }
+
+        final String brokerUrl = this.options.getBrokerUrl();
+
+        logger.info("Connecting to {} with client id {}...", brokerUrl, this.options.getClientId());
+
+        try {
+            this.serverLocator = ActiveMQClient.createServerLocator(brokerUrl);
+            this.serverLocator.setCallTimeout(this.options.getTimeoutMillis());
+            // in-VM pings are cheap, detect the broker shutdown quickly
+            this.serverLocator.setClientFailureCheckPeriod(CLIENT_FAILURE_CHECK_PERIOD_MILLIS);
+            this.serverLocator.setBlockOnDurableSend(true);
+            this.serverLocator.setBlockOnNonDurableSend(false);
+
+            this.sessionFactory = this.serverLocator.createSessionFactory();
+            this.session = this.sessionFactory.createSession(this.options.getUsername(), this.options.getPassword(),
+                    false, true, true, true, ActiveMQClient.DEFAULT_ACK_BATCH_SIZE);
+            final ClientSession newSession = this.session;
+            this.sessionFactory.addFailoverListener(eventType -> {
+                if (eventType == FailoverEventType.FAILOVER_FAILED) {
+                    onConnectionFailed(newSession);
+                }
+            });
+            this.producer = this.session.createProducer();
+            this.session.start();
+        } catch (final Exception e) {
+            close();
+            throw new KuraConnectException(e, "Cannot connect to " + brokerUrl);
+        }
+
+        this.sessionId = this.options.getClientId() + "-" + brokerUrl;
+
+        logger.info("Connecting to {} with client id {}... Done", brokerUrl, this.options.getClientId());
+
+        dispatch(l -> l.onConnectionEstablished(true));
+    }
+
+    @Override
+    public synchronized boolean isConnected() {
+        return this.session != null && !this.session.isClosed();
+    }
+
+    @Override
+    public String getBrokerUrl() {
+        return this.options.getBrokerUrl();
+    }
+
+    @Override
+    public String getAccountName() {
+        return this.options.getAccountName();
+    }
+
+    @Override
+    public String getUsername() {
+        return this.options.getUsername();
+    }
+
+    @Override
+    public String getClientId() {
+        return this.options.getClientId();
+    }
+
+    @Override
+    public synchronized void disconnect(final long quiesceTimeout) {
+        if (!isConnected()) {
+            logger.warn("In-VM client already disconnected");
+            return;
+        }
+
+        logger.info("Disconnecting...");
+
+        dispatch(DataTransportListener::onDisconnecting);
+
+        close();
+
+        logger.info("Disconnected");
+
+        dispatch(DataTransportListener::onDisconnected);
+    }
+
+    @Override
+    public synchronized void subscribe(final String topic, final int qos) throws KuraException {
+        requireConnected();
+
+        final String replacedTopic = replaceTopicVariables(topic);
+
+        logger.info("Subscribing to topic: {} with QoS: {}", replacedTopic, qos);
+
+        final SimpleString queueName = SimpleString
+                .toSimpleString(this.options.getClientId() + "." + UUID.randomUUID().toString());
+
+        try {
+            removeSubscription(replacedTopic);
+
+            this.session.createTemporaryQueue(SimpleString.toSimpleString(toCoreAddress(replacedTopic)),
+                    RoutingType.MULTICAST, queueName);
+
+            final ClientConsumer consumer = this.session.createConsumer(queueName);
+            consumer.setMessageHandler(message -> onMessage(message, qos));
+
+            this.subscriptions.put(replacedTopic, new Subscription(queueName, consumer));
+        } catch (final ActiveMQException e) {
+            throw KuraException.internalError(e, "Cannot subscribe to topic: " + replacedTopic);
+        }
+    }
+
+    @Override
+    public synchronized void unsubscribe(final String topic) throws KuraException {
+        requireConnected();
+
+        final String replacedTopic = replaceTopicVariables(topic);
+
+        logger.info("Unsubscribing to topic: {}", replacedTopic);
+
+        try {
+            removeSubscription(replacedTopic);
+        } catch (final ActiveMQException e) {
+            throw KuraException.internalError(e, "Cannot unsubscribe to topic: " + replacedTopic);
+        }
+    }
+
+    @Override
+    public synchronized DataTransportToken publish(final String topic, final byte[] payload, final int qos,
+            final boolean retain) throws KuraException {
+        requireConnected();
+
+        final String replacedTopic = replaceTopicVariables(topic);
+
+        logger.debug("Publishing message on topic: {} with QoS: {}", replacedTopic, qos);
+
+        if (retain) {
+            logger.debug("The retain flag is not supported by the in-VM transport, ignoring it");
+        }
+
+        final ClientMessage message = this.session.createMessage(qos > 0);
+        message.setRoutingType(RoutingType.MULTICAST);
+        message.putIntProperty(MQTT_QOS_LEVEL_KEY, qos);
+        message.getBodyBuffer().writeBytes(payload);
+
+        try {
+            this.producer.send(SimpleString.toSimpleString(toCoreAddress(replacedTopic)), message);
+        } catch (final ActiveMQException e) {
+            throw KuraException.internalError(e, "Cannot publish on topic: " + replacedTopic);
+        }
+
+        if (qos == 0) {
+            return null;
+        }
+
+        final DataTransportToken token = new DataTransportToken(this.messageIdGenerator.incrementAndGet(),
+                this.sessionId);
+
+        // the message has already been accepted by the broker, the confirmation is delivered asynchronously to
+        // allow the caller to track the returned token first
+        this.executor.execute(() -> dispatch(l -> l.onMessageConfirmed(token)));
+
+        return token;
+    }
+
+    @Override
+    public void addDataTransportListener(final DataTransportListener listener) {
+        this.listeners.add(listener);
+    }
+
+    @Override
+    public void removeDataTransportListener(final DataTransportListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    // ----------------------------------------------------------------
+    //
+    // Private methods
+    //
+    // ----------------------------------------------------------------
+
+    private void onMessage(final ClientMessage message, final int subscriptionQos) {
+        final ActiveMQBuffer body = message.getBodyBuffer();
+        final byte[] payload = new byte[body.readableBytes()];
+        body.readBytes(payload);
+
+        final String topic = toMqttTopic(message.getAddress());
+
+        final Integer messageQos = message.getIntProperty(MQTT_QOS_LEVEL_KEY);
+        final int qos = messageQos != null ? Math.min(messageQos, subscriptionQos) : subscriptionQos;
+
+        final boolean retained = Boolean.TRUE.equals(message.getBooleanProperty(MQTT_MESSAGE_RETAIN_KEY));
+
+        logger.debug("Message arrived on topic: {}", topic);
+
+        dispatch(l -> l.onMessageArrived(topic, payload, qos, retained));
+    }
+
+    private void onConnectionFailed(final ClientSession failedSession) {
+        final KuraNotConnectedException cause = new KuraNotConnectedException("Connection to the broker lost");
+
+        synchronized (this) {
+            if (failedSession != this.session) {
+                return;
+            }
+
+            logger.warn("Connection Lost");
+
+            // this method is called by the client while handling the failure, the client resources are released
+            // asynchronously since closing them from here would block until the call timeout expires
+            final ServerLocator failedServerLocator = this.serverLocator;
+            this.executor.execute(failedServerLocator::close);
+
+            this.subscriptions.clear();
+            this.producer = null;
+            this.session = null;
+            this.sessionFactory = null;
+            this.serverLocator = null;
+        }
+
+        dispatch(l -> l.onConnectionLost(cause));
+    }
+
+    private void requireConnected() throws KuraNotConnectedException {
+        if (!isConnected()) {
+            throw new KuraNotConnectedException(NOT_CONNECTED_MESSAGE);
+        }
+    }
+
+    private void removeSubscription(final String topic) throws ActiveMQException {
+        final Subscription subscription = this.subscriptions.remove(topic);
+
+        if (subscription != null) {
+            subscription.consumer.close();
+            this.session.deleteQueue(subscription.queueName);
+        }
+    }
+
+    private void close() {
+        this.subscriptions.clear();
+
+        if (this.session != null) {
+            try {
+                this.session.close();
+            } catch (final ActiveMQException e) {
+                logger.warn("Failed to close session", e);
+            }
+        }
+
+        if (this.sessionFactory != null) {
+            this.sessionFactory.close();
+        }
+
+        if (this.serverLocator != null) {
+            this.serverLocator.close();
+        }
+
+        this.producer = null;
+        this.session = null;
+        this.sessionFactory = null;
+        this.serverLocator = null;
+    }
+
+    private void dispatch(final Consumer<DataTransportListener> event) {
+        for (final DataTransportListener listener : this.listeners) {
+            try {
+                event.accept(listener);
+            } catch (final Exception e) {
+                logger.warn("Unexpected exception in DataTransportListener", e);
+            }
+        }
+    }
+
+    private String replaceTopicVariables(final String topic) {
+        return topic.replace(ACCOUNT_NAME_VARIABLE, this.options.getAccountName()).replace(CLIENT_ID_VARIABLE,
+                this.options.getClientId());
+    }
+
+    private String decryptPassword(final String password) {
+        try {
+            return new String(this.cryptoService.decryptAes(password.toCharArray()));
+        } catch (final Exception e) {
+            logger.info("Password is not encrypted");
+            return password;
+        }
+    }
+
+    static String toCoreAddress(final String mqttTopic) {
+        return mqttTopic.replace('/', '.').replace('+', '*');
+    }
+
+    static String toMqttTopic(final String coreAddress) {
+        return coreAddress.replace('.', '/');
+    }
+
+    private static final class Subscription {
+
+        private final SimpleString queueName;
+        private final ClientConsumer consumer;
+
+        Subscription(final SimpleString queueName, final ClientConsumer consumer) {
+            this.queueName = queueName;
+            this.consumer = consumer;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.broker.artemis.simple.mqtt;
+
+import java.util.Map;
+import java.util.function.Function;
+
+class InVmDataTransportOptions {
+
+    static final String IN_VM_ACCEPTOR_ID_PROP_NAME = "in.vm.acceptor.id";
+    static final String USERNAME_PROP_NAME = "username";
+    static final String PASSWORD_PROP_NAME = "password";
+    static final String CLIENT_ID_PROP_NAME = "client-id";
+    static final String ACCOUNT_NAME_PROP_NAME = "topic.context.account-name";
+    static final String TIMEOUT_PROP_NAME = "timeout";
+
+    private final int inVmAcceptorId;
+    private final String username;
+    private final String password;
+    private final String clientId;
+    private final String accountName;
+    private final long timeoutMillis;
+
+    InVmDataTransportOptions(final Map<String, Object> properties, final Function<String, String> passwordDecoder) {
+        this.inVmAcceptorId = getOrDefault(properties, IN_VM_ACCEPTOR_ID_PROP_NAME, 0);
+        this.username = getOrDefault(properties, USERNAME_PROP_NAME, "mqtt");
+        this.clientId = getOrDefault(properties, CLIENT_ID_PROP_NAME, "kura-in-vm");
+        this.accountName = getOrDefault(properties, ACCOUNT_NAME_PROP_NAME, "account-name");
+        this.timeoutMillis = getOrDefault(properties, TIMEOUT_PROP_NAME, 20) * 1000L;
+
+        final String encryptedPassword = getOrDefault(properties, PASSWORD_PROP_NAME, "");
+        this.password = encryptedPassword.isEmpty() ? "" : passwordDecoder.apply(encryptedPassword);
+    }
+
+    String getBrokerUrl() {
+        return "vm://" + this.inVmAcceptorId;
+    }
+
+    String getUsername() {
+        return this.username;
+    }
+
+    String getPassword() {
+        return this.password;
+    }
+
+    String getClientId() {
+        return this.clientId;
+    }
+
+    String getAccountName() {
+        return this.accountName;
+    }
+
+    long getTimeoutMillis() {
+        return this.timeoutMillis;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T getOrDefault(final Map<String, Object> properties, final String key, final T defaultValue) {
+        final Object value = properties.get(key);
+
+        if (value == null || !defaultValue.getClass().isInstance(value)) {
+            return defaultValue;
+        }
+
+        if (value instanceof String && ((String) value).trim().isEmpty()) {
+            return defaultValue;
+        }
+
+        return (T) value;
+    }
+}
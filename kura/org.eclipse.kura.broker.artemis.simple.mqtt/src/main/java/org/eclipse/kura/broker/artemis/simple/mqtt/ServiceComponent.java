@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Red Hat Inc and others
+ * Copyright (c) 2017, 2026 Red Hat Inc and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -203,6 +203,22 @@ public class ServiceComponent implements ConfigurableComponent {
                 "tcp://%s:%s?tcpSendBufferSize=1048576;tcpReceiveBufferSize=1048576;protocols=MQTT", address, port);
 
         acceptorNode.setTextContent(mqttAcceptor);
+
+        // set in-VM acceptor, used by local clients running in the same JVM
+
+        final Node inVmAcceptorNode = (Node) xpath.evaluate("//acceptor[@name='invm']", document,
+                XPathConstants.NODE);
+
+        if (Boolean.FALSE.equals(properties.get("in.vm.acceptor.enabled"))) {
+            inVmAcceptorNode.getParentNode().removeChild(inVmAcceptorNode);
+        } else {
+            Integer inVmServerId = (Integer) properties.get("in.vm.acceptor.id");
+            if (inVmServerId == null) {
+                inVmServerId = 0;
+            }
+
+            inVmAcceptorNode.setTextContent("vm://" + inVmServerId);
+        }
     }
 
 }
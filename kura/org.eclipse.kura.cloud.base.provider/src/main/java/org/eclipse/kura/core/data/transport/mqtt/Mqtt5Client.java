@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.data.transport.mqtt;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.kura.KuraConnectException;
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.KuraTimeoutException;
+import org.eclipse.kura.KuraTooManyInflightMessagesException;
+import org.eclipse.kura.core.data.transport.mqtt.MqttClientConfiguration.PersistenceType;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.mqttv5.client.IMqttToken;
+import org.eclipse.paho.mqttv5.client.MqttAsyncClient;
+import org.eclipse.paho.mqttv5.client.MqttCallback;
+import org.eclipse.paho.mqttv5.client.MqttClientException;
+import org.eclipse.paho.mqttv5.client.MqttClientPersistence;
+import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
+import org.eclipse.paho.mqttv5.client.MqttDisconnectResponse;
+import org.eclipse.paho.mqttv5.client.persist.MemoryPersistence;
+import org.eclipse.paho.mqttv5.client.persist.MqttDefaultFilePersistence;
+import org.eclipse.paho.mqttv5.common.MqttException;
+import org.eclipse.paho.mqttv5.common.MqttMessage;
+import org.eclipse.paho.mqttv5.common.MqttPersistenceException;
+import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Wraps the Paho MQTT 5 client used by {@link MqttDataTransport} when protocol version 5 is selected.
+ * <p>
+ * Topic aliases for published messages are assigned by the client, up to the Topic Alias Maximum advertised by the
+ * broker in the CONNACK, so that only the first message published on a topic carries the full topic name. The number
+ * of in-flight QoS &gt; 0 messages is bounded by the Receive Maximum advertised by the broker.
+ */
+class Mqtt5Client implements MqttCallback {
+
+    private static final Logger logger = LoggerFactory.getLogger(Mqtt5Client.class);
+
+    private static final long SESSION_EXPIRY_INTERVAL_NEVER = 0xFFFFFFFFL;
+
+    private final MqttAsyncClient client;
+    private final PersistenceType persistenceType;
+    private Listener listener;
+
+    Mqtt5Client(final String brokerUrl, final String clientId, final PersistenceType persistenceType,
+            final String persistenceDirectory, final Listener listener) {
+        final MqttClientPersistence persistence;
+
+        if (persistenceType == PersistenceType.MEMORY) {
+            logger.info("Using memory persistence for in-flight messages");
+            persistence = new MemoryPersistence();
+        } else {
+            logger.info("Using file persistence for in-flight messages: {}", persistenceDirectory);
+            persistence = new MqttDefaultFilePersistence(persistenceDirectory);
+        }
+
+        try {
+            this.client = new MqttAsyncClient(brokerUrl, clientId, persistence);
+        } catch (MqttException e) {
+            logger.error("Client instantiation failed", e);
+            throw new IllegalStateException("Client instantiation failed");
+        }
+
+        this.client.setCallback(this);
+        this.persistenceType = persistenceType;
+        this.listener = listener;
+    }
+
+    /*
+     * Builds the MQTT 5 connect options equivalent to the provided MQTT 3 ones. Sessions that are not clean never
+     * expire, as in MQTT 3.
+     */
+    static MqttConnectionOptions buildConnectOptions(final MqttConnectOptions mqtt3Options, final int receiveMaximum,
+            final int topicAliasMaximum) {
+        final MqttConnectionOptions options = new MqttConnectionOptions();
+
+        options.setUserName(mqtt3Options.getUserName());
+        if (mqtt3Options.getPassword() != null) {
+            options.setPassword(new String(mqtt3Options.getPassword()).getBytes(StandardCharsets.UTF_8));
+        }
+        options.setKeepAliveInterval(mqtt3Options.getKeepAliveInterval());
+        options.setConnectionTimeout(mqtt3Options.getConnectionTimeout());
+        options.setCleanStart(mqtt3Options.isCleanSession());
+        if (!mqtt3Options.isCleanSession()) {
+            options.setSessionExpiryInterval(SESSION_EXPIRY_INTERVAL_NEVER);
+        }
+        options.setAutomaticReconnect(false);
+        options.setSocketFactory(mqtt3Options.getSocketFactory());
+
+        options.setReceiveMaximum(receiveMaximum);
+        if (topicAliasMaximum > 0) {
+            options.setTopicAliasMaximum(topicAliasMaximum);
+        }
+
+        final org.eclipse.paho.client.mqttv3.MqttMessage will = mqtt3Options.getWillMessage();
+        if (will != null) {
+            options.setWill(mqtt3Options.getWillDestination(),
+                    new MqttMessage(will.getPayload(), will.getQos(), will.isRetained(), null));
+        }
+
+        return options;
+    }
+
+    String getServerURI() {
+        return this.client.getServerURI();
+    }
+
+    String getClientId() {
+        return this.client.getClientId();
+    }
+
+    PersistenceType getPersistenceType() {
+        return this.persistenceType;
+    }
+
+    boolean hasPendingDeliveries() {
+        final IMqttToken[] pendingTokens = this.client.getPendingTokens();
+        return pendingTokens != null && pendingTokens.length != 0;
+    }
+
+    boolean isConnected() {
+        return this.client.isConnected();
+    }
+
+    void connect(final MqttConnectionOptions options, final long timeoutMillis) throws KuraConnectException {
+        try {
+            final IMqttToken connectToken = this.client.connect(options);
+            connectToken.waitForCompletion(timeoutMillis);
+
+            final MqttProperties connAckProperties = connectToken.getResponseProperties();
+            if (connAckProperties != null) {
+                logger.info("#  broker receive maximum     = {}", connAckProperties.getReceiveMaximum());
+                logger.info("#  broker topic alias maximum = {}", connAckProperties.getTopicAliasMaximum());
+            }
+        } catch (MqttException e) {
+            throw new KuraConnectException(e, "Cannot connect");
+        }
+    }
+
+    void disconnect(final long quiesceTimeout, final long timeoutMillis) {
+        try {
+            this.client.disconnect(quiesceTimeout).waitForCompletion(timeoutMillis);
+            logger.info("Disconnected");
+        } catch (MqttException e) {
+            logger.error("Disconnect failed", e);
+        }
+    }
+
+    void subscribe(final String topic, final int qos, final long timeoutMillis) throws KuraException {
+        try {
+            this.client.subscribe(topic, qos).waitForCompletion(timeoutMillis);
+        } catch (MqttException e) {
+            if (e.getReasonCode() == MqttClientException.REASON_CODE_CLIENT_TIMEOUT) {
+                logger.warn("Timeout subscribing to topic: {}", topic);
+                throw new KuraTimeoutException("Timeout subscribing to topic: " + topic, e);
+            } else {
+                logger.error("Cannot subscribe to topic: " + topic, e);
+                throw KuraException.internalError(e, "Cannot subscribe to topic: " + topic);
+            }
+        }
+    }
+
+    void unsubscribe(final String topic, final long timeoutMillis) throws KuraException {
+        try {
+            this.client.unsubscribe(topic).waitForCompletion(timeoutMillis);
+        } catch (MqttException e) {
+            if (e.getReasonCode() == MqttClientException.REASON_CODE_CLIENT_TIMEOUT) {
+                logger.warn("Timeout unsubscribing to topic: {}", topic);
+                throw new KuraTimeoutException("Timeout unsubscribing to topic: " + topic, e);
+            } else {
+                logger.error("Cannot unsubscribe to topic: " + topic, e);
+                throw KuraException.internalError(e, "Cannot unsubscribe to topic: " + topic);
+            }
+        }
+    }
+
+    /*
+     * Returns the message ID for messages published with QoS > 0, null otherwise.
+     */
+    Integer publish(final String topic, final byte[] payload, final int qos, final boolean retain,
+            final long messageExpiryInterval) throws KuraException {
+
+        final MqttMessage message = new MqttMessage(payload, qos, retain, null);
+
+        if (messageExpiryInterval > 0) {
+            final MqttProperties properties = new MqttProperties();
+            properties.setMessageExpiryInterval(messageExpiryInterval);
+            message.setProperties(properties);
+        }
+
+        try {
+            final IMqttToken token = this.client.publish(topic, message);
+            logger.debug("Published message with ID: {}", token.getMessageId());
+
+            return qos > 0 ? token.getMessageId() : null;
+        } catch (MqttPersistenceException e) {
+            // This is probably an unrecoverable internal error
+            logger.error("Cannot publish on topic: {}", topic, e);
+            throw new IllegalStateException("Cannot publish on topic: " + topic);
+        } catch (MqttException e) {
+            if (e.getReasonCode() == MqttClientException.REASON_CODE_MAX_INFLIGHT) {
+                logger.info("Too many inflight messages, the broker receive maximum has been reached");
+                throw new KuraTooManyInflightMessagesException(e, "Too many in-flight messages");
+            } else {
+                logger.error("Cannot publish on topic: " + topic, e);
+                throw KuraException.internalError(e, "Cannot publish on topic: " + topic);
+            }
+        }
+    }
+
+    void close(final long quiesceTimeout, final long disconnectTimeout) {
+        try {
+            logger.info("Forcing client disconnect...");
+            this.client.disconnectForcibly(quiesceTimeout, disconnectTimeout, true);
+        } catch (Exception e) {
+            logger.warn("Cannot force client disconnect", e);
+        }
+        try {
+            logger.info("Closing client...");
+            // prevent callbacks from a zombie client
+            this.listener = null;
+            this.client.setCallback(null);
+            this.client.close();
+            logger.info("Closed");
+        } catch (Exception e) {
+            logger.warn("Cannot close client", e);
+        }
+    }
+
+    // ---------------------------------------------------------
+    //
+    // MqttCallback methods
+    //
+    // ---------------------------------------------------------
+
+    @Override
+    public void disconnected(final MqttDisconnectResponse disconnectResponse) {
+        final Listener currentListener = this.listener;
+
+        if (currentListener == null) {
+            return;
+        }
+
+        final Throwable cause = disconnectResponse.getException() != null ? disconnectResponse.getException()
+                : new MqttException(disconnectResponse.getReturnCode());
+
+        logger.debug("Disconnected by the broker, reason code: {}, reason: {}", disconnectResponse.getReturnCode(),
+                disconnectResponse.getReasonString());
+
+        currentListener.connectionLost(cause);
+    }
+
+    @Override
+    public void mqttErrorOccurred(final MqttException exception) {
+        logger.warn("MQTT error", exception);
+    }
+
+    @Override
+    public void messageArrived(final String topic, final MqttMessage message) throws Exception {
+        final Listener currentListener = this.listener;
+
+        if (currentListener != null) {
+            currentListener.messageArrived(topic, message.getPayload(), message.getQos(), message.isRetained());
+        }
+    }
+
+    @Override
+    public void deliveryComplete(final IMqttToken token) {
+        final Listener currentListener = this.listener;
+
+        if (currentListener == null || token == null) {
+            return;
+        }
+
+        try {
+            final MqttMessage msg = token.getMessage();
+
+            // we don't want to rely on the client behavior and we drop confirms for QoS == 0.
+            if (msg != null && msg.getQos() == 0) {
+                logger.debug("Ignoring deliveryComplete for messages published with QoS == 0");
+                return;
+            }
+        } catch (MqttException e) {
+            logger.error("Cannot get message", e);
+            return;
+        }
+
+        currentListener.deliveryComplete(token.getMessageId());
+    }
+
+    @Override
+    public void connectComplete(final boolean reconnect, final String serverURI) {
+        // automatic reconnect is disabled
+    }
+
+    @Override
+    public void authPacketArrived(final int reasonCode, final MqttProperties properties) {
+        // enhanced authentication is not used
+    }
+
+    interface Listener {
+
+        void connectionLost(Throwable cause);
+
+        void deliveryComplete(int messageId);
+
+        void messageArrived(String topic, byte[] payload, int qos, boolean retained) throws Exception;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
 package org.eclipse.kura.core.data.transport.mqtt;
 
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
 
 public class MqttClientConfiguration {
 
@@ -20,6 +21,8 @@ public class MqttClientConfiguration {
     private final String clientId;
     private final PersistenceType persistenceType;
     private final MqttConnectOptions connectOptions;
+    private final MqttConnectionOptions mqtt5ConnectOptions;
+    private final long messageExpiryInterval;
 
     public enum PersistenceType {
         FILE,
@@ -28,11 +31,18 @@ public class MqttClientConfiguration {
 
     public MqttClientConfiguration(String brokerUrl, String clientId, PersistenceType persistenceType,
             MqttConnectOptions connectOptions) {
+        this(brokerUrl, clientId, persistenceType, connectOptions, null, 0);
+    }
+
+    public MqttClientConfiguration(String brokerUrl, String clientId, PersistenceType persistenceType,
+            MqttConnectOptions connectOptions, MqttConnectionOptions mqtt5ConnectOptions, long messageExpiryInterval) {
         super();
         this.brokerUrl = brokerUrl;
         this.clientId = clientId;
         this.persistenceType = persistenceType;
         this.connectOptions = connectOptions;
+        this.mqtt5ConnectOptions = mqtt5ConnectOptions;
+        this.messageExpiryInterval = messageExpiryInterval;
     }
 
     public String getBrokerUrl() {
@@ -50,4 +60,22 @@ public class MqttClientConfiguration {
     public MqttConnectOptions getConnectOptions() {
         return this.connectOptions;
     }
+
+    public boolean isMqtt5() {
+        return this.mqtt5ConnectOptions != null;
+    }
+
+    /*
+     * Returns the MQTT 5 connect options, or null if the client is configured to use a previous protocol version.
+     */
+    public MqttConnectionOptions getMqtt5ConnectOptions() {
+        return this.mqtt5ConnectOptions;
+    }
+
+    /*
+     * Returns the message expiry interval in seconds for messages published with MQTT 5, 0 means no expiry.
+     */
+    public long getMessageExpiryInterval() {
+        return this.messageExpiryInterval;
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -87,6 +87,12 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
 
     private static final String MQTT_DEFAULT_VERSION_PROP_NAME = "protocol-version";
 
+    private static final String MQTT5_TOPIC_ALIAS_MAXIMUM_PROP_NAME = "mqtt5.topic-alias-maximum";
+    private static final String MQTT5_RECEIVE_MAXIMUM_PROP_NAME = "mqtt5.receive-maximum";
+    private static final String MQTT5_MESSAGE_EXPIRY_INTERVAL_PROP_NAME = "mqtt5.message-expiry-interval";
+
+    private static final int MQTT_VERSION_5 = 5;
+
     private static final String MQTT_LWT_QOS_PROP_NAME = "lwt.qos";
     private static final String MQTT_LWT_RETAIN_PROP_NAME = "lwt.retain";
     private static final String MQTT_LWT_TOPIC_PROP_NAME = "lwt.topic";
@@ -109,6 +115,7 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
     private CloudConnectionStatusEnum notificationStatus = CloudConnectionStatusEnum.OFF;
 
     private MqttAsyncClient mqttClient;
+    private Mqtt5Client mqtt5Client;
 
     private DataTransportListenerS dataTransportListeners;
 
@@ -315,7 +322,7 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
             throw new KuraConnectException(e, "Unexpected exception setting up MQTT session");
         }
 
-        if (this.mqttClient == null) {
+        if (this.mqttClient == null && this.mqtt5Client == null) {
             logger.error(INVALID_CONFIGURATION_MESSAGE);
             throw new IllegalStateException(INVALID_CONFIGURATION_MESSAGE);
         }
@@ -329,8 +336,8 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
         logger.info("#  keepAlive = {}", this.clientConf.getConnectOptions().getKeepAliveInterval());
         logger.info("#  timeout   = {}", this.clientConf.getConnectOptions().getConnectionTimeout());
         logger.info("#  cleanSession    = {}", this.clientConf.getConnectOptions().isCleanSession());
-        logger.info("#  MQTT version    = {}",
-                getMqttVersionLabel(this.clientConf.getConnectOptions().getMqttVersion()));
+        logger.info("#  MQTT version    = {}", this.clientConf.isMqtt5() ? "5.0"
+                : getMqttVersionLabel(this.clientConf.getConnectOptions().getMqttVersion()));
         logger.info("#  willDestination = {}", this.clientConf.getConnectOptions().getWillDestination());
         logger.info("#  willMessage     = {}", this.clientConf.getConnectOptions().getWillMessage());
         logger.info("#");
@@ -344,8 +351,12 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
         //
         // connect
         try {
-            IMqttToken connectToken = this.mqttClient.connect(this.clientConf.getConnectOptions());
-            connectToken.waitForCompletion(getTimeToWaitMillis() * 3);
+            if (this.mqtt5Client != null) {
+                this.mqtt5Client.connect(this.clientConf.getMqtt5ConnectOptions(), getTimeToWaitMillis() * 3);
+            } else {
+                IMqttToken connectToken = this.mqttClient.connect(this.clientConf.getConnectOptions());
+                connectToken.waitForCompletion(getTimeToWaitMillis() * 3);
+            }
             logger.info("#  Connected!");
             logger.info("# ------------------------------------------------------------");
 
@@ -353,13 +364,11 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
             this.cloudConnectionStatusService.updateStatus(this, CloudConnectionStatusEnum.ON);
 
         } catch (MqttException e) {
-            logger.warn("xxxxx  Connect failed. Forcing disconnect. xxxxx");
-            closeMqttClient();
-
-            // Update status notification service
-            this.cloudConnectionStatusService.updateStatus(this, CloudConnectionStatusEnum.OFF);
-
+            onConnectFailed();
             throw new KuraConnectException(e, "Cannot connect");
+        } catch (KuraConnectException e) {
+            onConnectFailed();
+            throw e;
         } finally {
             // Always unregister from CloudConnectionStatus service so to switch to the
             // previous state
@@ -370,8 +379,19 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
         this.dataTransportListeners.onConnectionEstablished(this.newSession);
     }
 
+    private void onConnectFailed() {
+        logger.warn("xxxxx  Connect failed. Forcing disconnect. xxxxx");
+        closeMqttClient();
+
+        // Update status notification service
+        this.cloudConnectionStatusService.updateStatus(this, CloudConnectionStatusEnum.OFF);
+    }
+
     @Override
     public boolean isConnected() {
+        if (this.mqtt5Client != null) {
+            return this.mqtt5Client.isConnected();
+        }
         if (this.mqttClient != null) {
             return this.mqttClient.isConnected();
         }
@@ -435,11 +455,15 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
             // notify the listeners
             this.dataTransportListeners.onDisconnecting();
 
-            try {
-                this.mqttClient.disconnect(quiesceTimeout).waitForCompletion(getTimeToWaitMillis());
-                logger.info("Disconnected");
-            } catch (MqttException e) {
-                logger.error("Disconnect failed", e);
+            if (this.mqtt5Client != null) {
+                this.mqtt5Client.disconnect(quiesceTimeout, getTimeToWaitMillis());
+            } else {
+                try {
+                    this.mqttClient.disconnect(quiesceTimeout).waitForCompletion(getTimeToWaitMillis());
+                    logger.info("Disconnected");
+                } catch (MqttException e) {
+                    logger.error("Disconnect failed", e);
+                }
             }
 
             //
@@ -459,7 +483,7 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
     @Override
     public void subscribe(String topic, int qos) throws KuraException {
 
-        if (this.mqttClient == null || !this.mqttClient.isConnected()) {
+        if (!isConnected()) {
             throw new KuraNotConnectedException(NOT_CONNECTED_MESSAGE);
         }
 
@@ -467,6 +491,11 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
 
         logger.info("Subscribing to topic: {} with QoS: {}", topic, qos);
 
+        if (this.mqtt5Client != null) {
+            this.mqtt5Client.subscribe(topic, qos, getTimeToWaitMillis());
+            return;
+        }
+
         try {
             IMqttToken token = this.mqttClient.subscribe(topic, qos);
             token.waitForCompletion(getTimeToWaitMillis());
@@ -484,7 +513,7 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
     @Override
     public void unsubscribe(String topic) throws KuraException {
 
-        if (this.mqttClient == null || !this.mqttClient.isConnected()) {
+        if (!isConnected()) {
             throw new KuraNotConnectedException(NOT_CONNECTED_MESSAGE);
         }
 
@@ -492,6 +521,11 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
 
         logger.info("Unsubscribing to topic: {}", topic);
 
+        if (this.mqtt5Client != null) {
+            this.mqtt5Client.unsubscribe(topic, getTimeToWaitMillis());
+            return;
+        }
+
         try {
             IMqttToken token = this.mqttClient.unsubscribe(topic);
             token.waitForCompletion(getTimeToWaitMillis());
@@ -520,7 +554,7 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
     @Override
     public DataTransportToken publish(String topic, byte[] payload, int qos, boolean retain) throws KuraException {
 
-        if (this.mqttClient == null || !this.mqttClient.isConnected()) {
+        if (!isConnected()) {
             throw new KuraNotConnectedException(NOT_CONNECTED_MESSAGE);
         }
 
@@ -528,6 +562,13 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
 
         logger.info("Publishing message on topic: {} with QoS: {}", topic, qos);
 
+        if (this.mqtt5Client != null) {
+            final Integer messageId = this.mqtt5Client.publish(topic, payload, qos, retain,
+                    this.clientConf.getMessageExpiryInterval());
+
+            return messageId != null ? new DataTransportToken(messageId, this.sessionId) : null;
+        }
+
         MqttMessage message = new MqttMessage();
         message.setPayload(payload);
         message.setQos(qos);
@@ -689,7 +730,8 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
 
         // The SSL service was updated, build a new socket connection and close the
         // current SSL client session
-        if (this.mqttClient != null && isSSL(this.mqttClient.getServerURI())) {
+        if (this.mqttClient != null && isSSL(this.mqttClient.getServerURI())
+                || this.mqtt5Client != null && isSSL(this.mqtt5Client.getServerURI())) {
             closeMqttClient();
         }
 
@@ -737,6 +779,7 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
         MqttConnectOptions conOpt = new MqttConnectOptions();
         String clientId = null;
         String brokerUrl = null;
+        int mqttVersion;
         try {
             // Configure the client ID
             clientId = (String) properties.get(MQTT_CLIENT_ID_PROP_NAME);
@@ -783,7 +826,10 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
 
             conOpt.setCleanSession((Boolean) properties.get(MQTT_CLEAN_SESSION_PROP_NAME));
 
-            conOpt.setMqttVersion((Integer) properties.get(MQTT_DEFAULT_VERSION_PROP_NAME));
+            mqttVersion = (Integer) properties.get(MQTT_DEFAULT_VERSION_PROP_NAME);
+            if (mqttVersion != MQTT_VERSION_5) {
+                conOpt.setMqttVersion(mqttVersion);
+            }
             conOpt.setAutomaticReconnect(false);
 
             synchronized (this.topicContext) {
@@ -846,11 +892,31 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
                     "Invalid MQTT client configuration: persistenceType: " + localPersistenceType);
         }
 
-        clientConfiguration = new MqttClientConfiguration(brokerUrl, clientId, localPersistenceType, conOpt);
+        if (mqttVersion == MQTT_VERSION_5) {
+            final int receiveMaximum = getInteger(properties, MQTT5_RECEIVE_MAXIMUM_PROP_NAME, 65535);
+            final int topicAliasMaximum = getInteger(properties, MQTT5_TOPIC_ALIAS_MAXIMUM_PROP_NAME, 10);
+            final int messageExpiryInterval = getInteger(properties, MQTT5_MESSAGE_EXPIRY_INTERVAL_PROP_NAME, 0);
+
+            if (receiveMaximum < 1 || receiveMaximum > 65535 || topicAliasMaximum < 0 || topicAliasMaximum > 65535
+                    || messageExpiryInterval < 0) {
+                throw new IllegalStateException("Invalid MQTT 5 client configuration");
+            }
+
+            clientConfiguration = new MqttClientConfiguration(brokerUrl, clientId, localPersistenceType, conOpt,
+                    Mqtt5Client.buildConnectOptions(conOpt, receiveMaximum, topicAliasMaximum), messageExpiryInterval);
+        } else {
+            clientConfiguration = new MqttClientConfiguration(brokerUrl, clientId, localPersistenceType, conOpt);
+        }
 
         return clientConfiguration;
     }
 
+    private static int getInteger(Map<String, Object> properties, String name, int defaultValue) {
+        final Object value = properties.get(name);
+
+        return value instanceof Integer ? (Integer) value : defaultValue;
+    }
+
     private boolean isSSL(String brokerUrl) {
         return brokerUrl.startsWith("ssl") || brokerUrl.startsWith("wss");
     }
@@ -904,12 +970,22 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
         // memory) changes.
         // We MUST avoid to construct a new client instance every time because
         // in that case the MQTT message ID is reset to 1.
+        // The same applies if the protocol version changes from or to MQTT 5.
         if (this.mqttClient != null) {
             String brokerUrl = this.mqttClient.getServerURI();
             String clientId = this.mqttClient.getClientId();
 
             if (!(brokerUrl.equals(this.clientConf.getBrokerUrl()) && clientId.equals(this.clientConf.getClientId())
-                    && this.persistenceType == this.clientConf.getPersistenceType())) {
+                    && this.persistenceType == this.clientConf.getPersistenceType()) || this.clientConf.isMqtt5()) {
+                closeMqttClient();
+            }
+        } else if (this.mqtt5Client != null) {
+            String brokerUrl = this.mqtt5Client.getServerURI();
+            String clientId = this.mqtt5Client.getClientId();
+
+            if (!(brokerUrl.equals(this.clientConf.getBrokerUrl()) && clientId.equals(this.clientConf.getClientId())
+                    && this.mqtt5Client.getPersistenceType() == this.clientConf.getPersistenceType())
+                    || !this.clientConf.isMqtt5()) {
                 closeMqttClient();
             }
         }
@@ -918,7 +994,23 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
         // a new session.
         boolean newSessionTemp = this.clientConf.getConnectOptions().isCleanSession();
 
-        if (this.mqttClient == null) {
+        if (this.clientConf.isMqtt5()) {
+            if (this.mqtt5Client == null) {
+                logger.info("Creating a new MQTT 5 client instance");
+
+                // see the comments below about persistence, MQTT 5 uses a different directory since the
+                // persisted messages are not compatible with the ones of previous protocol versions.
+                this.mqtt5Client = new Mqtt5Client(this.clientConf.getBrokerUrl(), this.clientConf.getClientId(),
+                        this.clientConf.getPersistenceType(), this.systemService.getKuraDataDirectory()
+                                + this.systemService.getFileSeparator() + "paho5-persistence",
+                        new Mqtt5ClientListener());
+
+                if (!this.clientConf.getConnectOptions().isCleanSession()
+                        && this.mqtt5Client.hasPendingDeliveries()) {
+                    newSessionTemp = false;
+                }
+            }
+        } else if (this.mqttClient == null) {
 
             logger.info("Creating a new client instance");
 
@@ -1035,6 +1127,11 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
 
     private void closeMqttClient() {
 
+        if (this.mqtt5Client != null) {
+            this.mqtt5Client.close(MQTT_QUIESCE_TIMEOUT, MQTT_DISCONNECT_TIMEOUT);
+            this.mqtt5Client = null;
+        }
+
         if (this.mqttClient == null) {
             return;
         }
@@ -1069,4 +1166,27 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
                 return String.valueOf(mqttVersion);
         }
     }
+
+    private class Mqtt5ClientListener implements Mqtt5Client.Listener {
+
+        @Override
+        public void connectionLost(Throwable cause) {
+            MqttDataTransport.this.connectionLost(cause);
+        }
+
+        @Override
+        public void deliveryComplete(int messageId) {
+            logger.debug("Delivery complete for message with ID: {}", messageId);
+
+            MqttDataTransport.this.dataTransportListeners
+                    .onMessageConfirmed(new DataTransportToken(messageId, MqttDataTransport.this.sessionId));
+        }
+
+        @Override
+        public void messageArrived(String topic, byte[] payload, int qos, boolean retained) {
+            logger.debug("Message arrived on topic: {}", topic);
+
+            MqttDataTransport.this.dataTransportListeners.onMessageArrived(topic, payload, qos, retained);
+        }
+    }
 }
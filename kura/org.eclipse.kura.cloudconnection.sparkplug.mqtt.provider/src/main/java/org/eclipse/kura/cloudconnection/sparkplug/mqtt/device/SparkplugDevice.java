@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2024, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,8 @@
 package org.eclipse.kura.cloudconnection.sparkplug.mqtt.device;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +34,7 @@ import org.eclipse.kura.cloudconnection.sparkplug.mqtt.message.SparkplugMessageT
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.utils.InvocationUtils;
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.utils.SparkplugCloudEndpointTracker;
 import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.message.KuraPayload;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
@@ -53,7 +54,8 @@ public class SparkplugDevice
     private final Set<CloudConnectionListener> cloudConnectionListeners = new CopyOnWriteArraySet<>();
     private final Set<CloudDeliveryListener> cloudDeliveryListeners = new CopyOnWriteArraySet<>();
     private final ExecutorService executorService = Executors.newCachedThreadPool();
-    private Set<String> deviceMetrics = new HashSet<>();
+    // last published value of each metric declared in the last DBIRTH
+    private final Map<String, Object> lastMetricValues = new HashMap<>();
 
     /*
      * ConfigurableComponent APIs
@@ -77,7 +79,7 @@ public class SparkplugDevice
             throw new IllegalArgumentException("Property '" + KEY_DEVICE_ID + "' cannot be null or empty");
         }
 
-        this.deviceMetrics.clear();
+        resetLastMetricValues();
 
         logger.info("Sparkplug Device {} - Updated device ID", this.deviceId);
     }
@@ -99,19 +101,19 @@ public class SparkplugDevice
 
     @Override
     public void onDisconnected() {
-        this.deviceMetrics.clear();
+        resetLastMetricValues();
         this.cloudConnectionListeners.forEach(listener -> this.executorService.execute(listener::onDisconnected));
     }
 
     @Override
     public void onConnectionLost() {
-        this.deviceMetrics.clear();
+        resetLastMetricValues();
         this.cloudConnectionListeners.forEach(listener -> this.executorService.execute(listener::onConnectionLost));
     }
 
     @Override
     public void onConnectionEstablished() {
-        this.deviceMetrics.clear();
+        resetLastMetricValues();
         this.cloudConnectionListeners
                 .forEach(listener -> this.executorService.execute(listener::onConnectionEstablished));
     }
@@ -126,19 +128,38 @@ public class SparkplugDevice
             throw new KuraException(KuraErrorCode.SERVICE_UNAVAILABLE, "Missing SparkplugCloudEndpoint reference");
         }
 
+        final KuraPayload payload = message.getPayload();
         final Map<String, Object> newMessageProperties = new HashMap<>();
         newMessageProperties.put(KEY_DEVICE_ID, this.deviceId);
 
-        if (this.deviceMetrics.isEmpty() || !this.deviceMetrics.equals(message.getPayload().metricNames())) {
-            this.deviceMetrics.clear();
-            this.deviceMetrics.addAll(message.getPayload().metricNames());
+        final boolean isBirth = this.lastMetricValues.isEmpty()
+                || !this.lastMetricValues.keySet().containsAll(payload.metricNames());
+        final Map<String, Object> metricsToPublish;
+
+        if (isBirth) {
+            // DBIRTH declares all the metrics of the device, including the ones not contained in this message
+            metricsToPublish = new HashMap<>(this.lastMetricValues);
+            metricsToPublish.putAll(payload.metrics());
             newMessageProperties.put(KEY_MESSAGE_TYPE, SparkplugMessageType.DBIRTH);
             logger.info("Sparkplug Device {} - Metrics set changed, publishing DBIRTH", this.deviceId);
         } else {
+            // report by exception, DDATA carries only the metrics that changed since the last publish
+            metricsToPublish = getChangedMetrics(payload);
+
+            if (metricsToPublish.isEmpty() && payload.getBody() == null && payload.getPosition() == null) {
+                logger.debug("Sparkplug Device {} - No metric changed, skipping DDATA", this.deviceId);
+                return null;
+            }
+
             newMessageProperties.put(KEY_MESSAGE_TYPE, SparkplugMessageType.DDATA);
         }
 
-        return this.sparkplugCloudEndpoint.get().publish(new KuraMessage(message.getPayload(), newMessageProperties));
+        final String result = this.sparkplugCloudEndpoint.get()
+                .publish(new KuraMessage(copyWithMetrics(payload, metricsToPublish), newMessageProperties));
+
+        this.lastMetricValues.putAll(metricsToPublish);
+
+        return result;
     }
 
     @Override
@@ -175,6 +196,33 @@ public class SparkplugDevice
      * Utils
      */
 
+    private synchronized void resetLastMetricValues() {
+        this.lastMetricValues.clear();
+    }
+
+    private Map<String, Object> getChangedMetrics(final KuraPayload payload) {
+        final Map<String, Object> changedMetrics = new HashMap<>();
+
+        for (final Entry<String, Object> metric : payload.metrics().entrySet()) {
+            if (!Objects.deepEquals(this.lastMetricValues.get(metric.getKey()), metric.getValue())) {
+                changedMetrics.put(metric.getKey(), metric.getValue());
+            }
+        }
+
+        return changedMetrics;
+    }
+
+    private static KuraPayload copyWithMetrics(final KuraPayload payload, final Map<String, Object> metrics) {
+        final KuraPayload result = new KuraPayload();
+
+        result.setTimestamp(payload.getTimestamp());
+        result.setBody(payload.getBody());
+        result.setPosition(payload.getPosition());
+        metrics.forEach(result::addMetric);
+
+        return result;
+    }
+
     private synchronized void setSparkplugCloudEndpoint(SparkplugCloudEndpoint endpoint) {
         this.sparkplugCloudEndpoint = Optional.of(endpoint);
         this.sparkplugCloudEndpoint.get().registerCloudConnectionListener(this);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ import org.eclipse.kura.cloudconnection.listener.CloudDeliveryListener;
 import org.eclipse.kura.cloudconnection.message.KuraMessage;
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.device.SparkplugDevice;
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.message.SparkplugMessageType;
+import org.eclipse.kura.cloudconnection.sparkplug.mqtt.message.SparkplugMetricAliases;
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.message.SparkplugPayloads;
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.message.SparkplugTopics;
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.subscriber.SparkplugSubscriber;
@@ -62,6 +63,7 @@ public class SparkplugCloudEndpoint
     private String kuraServicePid;
     private SeqCounter seqCounter = new SeqCounter();
     private SubscriptionsMap subscriptions = new SubscriptionsMap();
+    private final SparkplugMetricAliases metricAliases = new SparkplugMetricAliases();
     private ExecutorService executorService = Executors.newCachedThreadPool();
 
     /*
@@ -130,8 +132,17 @@ public class SparkplugCloudEndpoint
 
         logger.debug("{} - Sending message with seq: {}", this.kuraServicePid, this.seqCounter.getCurrent());
 
-        byte[] sparkplugPayload = SparkplugPayloads.getSparkplugDevicePayload(this.seqCounter.getCurrent(),
-                message.getPayload());
+        // aliases are declared in DBIRTH, DDATA carries only the aliases of the known metrics
+        byte[] sparkplugPayload;
+        if (type == SparkplugMessageType.DBIRTH) {
+            Map<String, Long> aliases = this.metricAliases.assign(deviceId,
+                    SparkplugPayloads.getSparkplugDeviceMetricNames(message.getPayload()));
+            sparkplugPayload = SparkplugPayloads.getSparkplugDevicePayload(this.seqCounter.getCurrent(),
+                    message.getPayload(), aliases, true);
+        } else {
+            sparkplugPayload = SparkplugPayloads.getSparkplugDevicePayload(this.seqCounter.getCurrent(),
+                    message.getPayload(), this.metricAliases.get(deviceId), false);
+        }
 
         this.seqCounter.next();
 
@@ -237,6 +248,9 @@ public class SparkplugCloudEndpoint
     public void onConnectionEstablished() {
         logger.debug("{} - Connection estabilished", this.kuraServicePid);
 
+        // aliases are valid within a session, reset them before devices publish their DBIRTH
+        this.metricAliases.reset();
+
         this.cloudConnectionListeners
                 .forEach(listener -> InvocationUtils.callSafely(listener::onConnectionEstablished));
         postConnectionChangeEvent(true);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
 package org.eclipse.kura.cloudconnection.sparkplug.mqtt.message;
 
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Map;
 
 import org.eclipse.tahu.protobuf.SparkplugBProto.DataType;
 import org.eclipse.tahu.protobuf.SparkplugBProto.Payload;
@@ -29,6 +31,16 @@ public class SparkplugBProtobufPayloadBuilder {
     public static final String BDSEQ_METRIC_NAME = "bdSeq";
 
     private Payload.Builder payloadBuilder = Payload.newBuilder();
+    private Map<String, Long> metricAliases = Collections.emptyMap();
+    private boolean includeAliasedMetricNames = true;
+
+    // applies to the metrics added afterwards, name and datatype of aliased metrics are omitted if includeNames is
+    // false, as done in DATA messages
+    public SparkplugBProtobufPayloadBuilder withMetricAliases(Map<String, Long> aliases, boolean includeNames) {
+        this.metricAliases = aliases;
+        this.includeAliasedMetricNames = includeNames;
+        return this;
+    }
 
     public SparkplugBProtobufPayloadBuilder withMetric(String name, Object value, long timestamp) {
         DataType sparkplugDataType = DataType.Unknown;
@@ -85,8 +97,14 @@ public class SparkplugBProtobufPayloadBuilder {
 
     public SparkplugBProtobufPayloadBuilder withMetric(String name, Object value, DataType dataType, long timestamp) {
         Payload.Metric.Builder metricBuilder = Payload.Metric.newBuilder();
-        metricBuilder.setName(name);
-        metricBuilder.setDatatype(dataType.getNumber());
+        Long alias = this.metricAliases.get(name);
+        if (alias != null) {
+            metricBuilder.setAlias(alias);
+        }
+        if (alias == null || this.includeAliasedMetricNames) {
+            metricBuilder.setName(name);
+            metricBuilder.setDatatype(dataType.getNumber());
+        }
         metricBuilder.setTimestamp(timestamp);
 
         switch (dataType) {
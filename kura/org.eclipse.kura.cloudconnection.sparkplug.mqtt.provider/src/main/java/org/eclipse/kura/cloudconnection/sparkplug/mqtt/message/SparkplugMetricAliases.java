@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.cloudconnection.sparkplug.mqtt.message;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Metric aliases must be unique across the Edge Node and its devices and cannot change within a session, aliases
+ * assigned to a device are kept and extended on each DBIRTH until the session is reset. Device alias maps are
+ * replaced on DBIRTH only, so that they can be shared with the DDATA encoding without copying them.
+ */
+public class SparkplugMetricAliases {
+
+    private final Map<String, Map<String, Long>> aliasesByDevice = new HashMap<>();
+    private long nextAlias = SparkplugPayloads.NODE_CONTROL_REBIRTH_METRIC_ALIAS + 1;
+
+    public synchronized Map<String, Long> assign(final String deviceId, final Collection<String> metricNames) {
+        final Map<String, Long> deviceAliases = new HashMap<>(get(deviceId));
+
+        for (final String metricName : metricNames) {
+            if (!deviceAliases.containsKey(metricName)) {
+                deviceAliases.put(metricName, this.nextAlias++);
+            }
+        }
+
+        final Map<String, Long> result = Collections.unmodifiableMap(deviceAliases);
+        this.aliasesByDevice.put(deviceId, result);
+
+        return result;
+    }
+
+    public synchronized Map<String, Long> get(final String deviceId) {
+        return this.aliasesByDevice.getOrDefault(deviceId, Collections.emptyMap());
+    }
+
+    public synchronized void reset() {
+        this.aliasesByDevice.clear();
+        this.nextAlias = SparkplugPayloads.NODE_CONTROL_REBIRTH_METRIC_ALIAS + 1;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,9 +12,14 @@
  *******************************************************************************/
 package org.eclipse.kura.cloudconnection.sparkplug.mqtt.message;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 import org.eclipse.kura.message.KuraPayload;
 import org.eclipse.kura.message.KuraPosition;
@@ -27,6 +32,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 public class SparkplugPayloads {
 
     public static final String NODE_CONTROL_REBIRTH_METRIC_NAME = "Node Control/Rebirth";
+    public static final long NODE_CONTROL_REBIRTH_METRIC_ALIAS = 0L;
 
     private SparkplugPayloads() {
     }
@@ -40,6 +46,8 @@ public class SparkplugPayloads {
 
         SparkplugBProtobufPayloadBuilder payloadBuilder = new SparkplugBProtobufPayloadBuilder();
         payloadBuilder.withBdSeq(bdSeq, timestamp);
+        payloadBuilder.withMetricAliases(
+                Collections.singletonMap(NODE_CONTROL_REBIRTH_METRIC_NAME, NODE_CONTROL_REBIRTH_METRIC_ALIAS), true);
         payloadBuilder.withMetric(NODE_CONTROL_REBIRTH_METRIC_NAME, false, DataType.Boolean, timestamp);
         payloadBuilder.withSeq(seq);
         payloadBuilder.withTimestamp(timestamp);
@@ -60,8 +68,28 @@ public class SparkplugPayloads {
         throw new NoSuchFieldException("Metric " + metricName + " not found in payload");
     }
 
+    public static boolean getBooleanMetric(String metricName, long metricAlias, byte[] rawSparkplugPayload)
+            throws InvalidProtocolBufferException, NoSuchFieldException {
+        Payload payload = Payload.parseFrom(rawSparkplugPayload);
+
+        for (Metric metric : payload.getMetricsList()) {
+            boolean matchesAlias = !metric.hasName() && metric.hasAlias() && metric.getAlias() == metricAlias;
+            if (metric.getName().equals(metricName) || matchesAlias) {
+                return metric.getBooleanValue();
+            }
+        }
+
+        throw new NoSuchFieldException("Metric " + metricName + " not found in payload");
+    }
+
     public static byte[] getSparkplugDevicePayload(final long seq, final KuraPayload kuraPayload) {
+        return getSparkplugDevicePayload(seq, kuraPayload, Collections.emptyMap(), true);
+    }
+
+    public static byte[] getSparkplugDevicePayload(final long seq, final KuraPayload kuraPayload,
+            final Map<String, Long> metricAliases, final boolean includeMetricNames) {
         SparkplugBProtobufPayloadBuilder payloadBuilder = new SparkplugBProtobufPayloadBuilder();
+        payloadBuilder.withMetricAliases(metricAliases, includeMetricNames);
 
         byte[] payloadBody = kuraPayload.getBody();
         if (Objects.nonNull(payloadBody)) {
@@ -72,22 +100,7 @@ public class SparkplugPayloads {
         long timestamp = Objects.nonNull(kuraTimestamp) ? kuraTimestamp.getTime() : new Date().getTime();
         payloadBuilder.withTimestamp(timestamp);
 
-        for (Entry<String, Object> metric : kuraPayload.metrics().entrySet()) {
-            payloadBuilder.withMetric(metric.getKey(), metric.getValue(), timestamp);
-        }
-
-        KuraPosition position = kuraPayload.getPosition();
-        if (Objects.nonNull(position)) {
-            addMetricIfNonNull(payloadBuilder, "kura.position.altitude", position.getAltitude(), timestamp);
-            addMetricIfNonNull(payloadBuilder, "kura.position.latitude", position.getLatitude(), timestamp);
-            addMetricIfNonNull(payloadBuilder, "kura.position.longitude", position.getLongitude(), timestamp);
-            addMetricIfNonNull(payloadBuilder, "kura.position.heading", position.getHeading(), timestamp);
-            addMetricIfNonNull(payloadBuilder, "kura.position.precision", position.getPrecision(), timestamp);
-            addMetricIfNonNull(payloadBuilder, "kura.position.satellites", position.getSatellites(), timestamp);
-            addMetricIfNonNull(payloadBuilder, "kura.position.speed", position.getSpeed(), timestamp);
-            addMetricIfNonNull(payloadBuilder, "kura.position.status", position.getStatus(), timestamp);
-            addMetricIfNonNull(payloadBuilder, "kura.position.timestamp", position.getTimestamp(), timestamp);
-        }
+        forEachDeviceMetric(kuraPayload, (name, value) -> payloadBuilder.withMetric(name, value, timestamp));
 
         payloadBuilder.withSeq(seq);
         payloadBuilder.withTimestamp(timestamp);
@@ -95,6 +108,12 @@ public class SparkplugPayloads {
         return payloadBuilder.build();
     }
 
+    public static List<String> getSparkplugDeviceMetricNames(final KuraPayload kuraPayload) {
+        List<String> metricNames = new ArrayList<>();
+        forEachDeviceMetric(kuraPayload, (name, value) -> metricNames.add(name));
+        return metricNames;
+    }
+
     public static KuraPayload getKuraPayload(byte[] rawSparkplugPayload) throws InvalidProtocolBufferException {
         KuraPayload kuraPayload = new KuraPayload();
         Payload sparkplugPayload = Payload.parseFrom(rawSparkplugPayload);
@@ -118,10 +137,28 @@ public class SparkplugPayloads {
         return kuraPayload;
     }
 
-    private static void addMetricIfNonNull(SparkplugBProtobufPayloadBuilder payloadBuilder, String name, Object value,
-            long timestamp) {
+    private static void forEachDeviceMetric(KuraPayload kuraPayload, BiConsumer<String, Object> consumer) {
+        for (Entry<String, Object> metric : kuraPayload.metrics().entrySet()) {
+            consumer.accept(metric.getKey(), metric.getValue());
+        }
+
+        KuraPosition position = kuraPayload.getPosition();
+        if (Objects.nonNull(position)) {
+            acceptIfNonNull(consumer, "kura.position.altitude", position.getAltitude());
+            acceptIfNonNull(consumer, "kura.position.latitude", position.getLatitude());
+            acceptIfNonNull(consumer, "kura.position.longitude", position.getLongitude());
+            acceptIfNonNull(consumer, "kura.position.heading", position.getHeading());
+            acceptIfNonNull(consumer, "kura.position.precision", position.getPrecision());
+            acceptIfNonNull(consumer, "kura.position.satellites", position.getSatellites());
+            acceptIfNonNull(consumer, "kura.position.speed", position.getSpeed());
+            acceptIfNonNull(consumer, "kura.position.status", position.getStatus());
+            acceptIfNonNull(consumer, "kura.position.timestamp", position.getTimestamp());
+        }
+    }
+
+    private static void acceptIfNonNull(BiConsumer<String, Object> consumer, String name, Object value) {
         if (Objects.nonNull(value)) {
-            payloadBuilder.withMetric(name, value, timestamp);
+            consumer.accept(name, value);
         }
     }
 
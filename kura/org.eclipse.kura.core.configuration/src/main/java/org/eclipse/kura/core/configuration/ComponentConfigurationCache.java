@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.osgi.service.cm.ConfigurationEvent;
+import org.osgi.service.cm.ConfigurationListener;
+
+/**
+ * Caches the configuration properties of configurable components, as returned by ConfigurationAdmin and converted
+ * according to the component OCD, keyed by service.pid. Password values are cached in encrypted form.
+ * <p>
+ * Entries are invalidated when a {@link ConfigurationEvent} is received for the corresponding service.pid. Since
+ * these events are delivered asynchronously, the {@link ConfigurationServiceImpl} also invalidates the entries
+ * synchronously when it updates or deletes a configuration. A value read from ConfigurationAdmin is cached only if
+ * no invalidation happened since the read started, see {@link #getGeneration()}.
+ * <p>
+ * The returned maps are shallow copies, array values must not be modified by callers.
+ */
+class ComponentConfigurationCache implements ConfigurationListener {
+
+    private final Map<String, Map<String, Object>> propertiesByServicePid = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    long getGeneration() {
+        return this.generation.get();
+    }
+
+    Map<String, Object> get(final String servicePid) {
+        final Map<String, Object> properties = this.propertiesByServicePid.get(servicePid);
+
+        return properties != null ? new HashMap<>(properties) : null;
+    }
+
+    void put(final String servicePid, final Map<String, Object> properties, final long readGeneration) {
+        if (properties == null) {
+            return;
+        }
+
+        final Map<String, Object> copy = new HashMap<>(properties);
+
+        this.propertiesByServicePid.put(servicePid, copy);
+
+        // an invalidation happened while the properties were being read, the value might be stale
+        if (this.generation.get() != readGeneration) {
+            this.propertiesByServicePid.remove(servicePid, copy);
+        }
+    }
+
+    void invalidate(final String servicePid) {
+        this.generation.incrementAndGet();
+
+        if (servicePid != null) {
+            this.propertiesByServicePid.remove(servicePid);
+        }
+    }
+
+    void invalidateAll() {
+        this.generation.incrementAndGet();
+        this.propertiesByServicePid.clear();
+    }
+
+    @Override
+    public void configurationEvent(final ConfigurationEvent event) {
+        invalidate(event.getPid());
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,13 +15,16 @@ package org.eclipse.kura.core.configuration;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
-import java.io.FileReader;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.UnsupportedEncodingException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -38,6 +41,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -70,8 +78,10 @@ import org.osgi.framework.Constants;
 import org.osgi.framework.Filter;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceReference;
+import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.cm.Configuration;
 import org.osgi.service.cm.ConfigurationAdmin;
+import org.osgi.service.cm.ConfigurationListener;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.ComponentException;
 import org.osgi.service.component.runtime.ServiceComponentRuntime;
@@ -93,6 +103,13 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationServiceImpl.class);
 
+    static final String DELTA_SNAPSHOTS_PROPERTY = "org.eclipse.kura.core.configuration.deltaSnapshots";
+    static final String DELTA_SNAPSHOTS_COMPACTION_INTERVAL_PROPERTY = "org.eclipse.kura.core.configuration.deltaSnapshots.compactionInterval";
+    static final String SNAPSHOT_COALESCING_DELAY_PROPERTY = "org.eclipse.kura.core.configuration.snapshotCoalescingDelay";
+
+    private static final int DEFAULT_DELTA_SNAPSHOTS_COMPACTION_INTERVAL = 10;
+    private static final int SNAPSHOT_BUFFER_SIZE = 16 * 1024;
+
     private ComponentContext ctx;
     private BundleContext bundleContext;
 
@@ -129,6 +146,26 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
     // maps the kura.service.pid to the associated service.pid
     private final Map<String, String> servicePidByPid;
 
+    // maps the kura.service.pid to the service reference of the self configuring components tracked by DS
+    private final Map<String, ServiceReference<SelfConfiguringComponent>> selfConfiguringComponentRefs;
+
+    // caches the configuration properties of configurable components, keyed by service.pid
+    private final ComponentConfigurationCache configurationCache;
+
+    private ServiceRegistration<ConfigurationListener> configurationCacheRegistration;
+
+    // computes delta snapshots, null if delta snapshots are disabled
+    private final SnapshotDeltaTracker snapshotDeltaTracker;
+
+    // maps the id of the snapshots read or written since startup to the id of their base, null for full snapshots
+    private final Map<Long, Long> snapshotBases;
+
+    // snapshot requests received within this delay are coalesced in a single snapshot, 0 disables coalescing
+    private final long snapshotCoalescingDelay;
+    private ScheduledExecutorService snapshotExecutor;
+    private ScheduledFuture<?> pendingSnapshotFuture;
+    private List<ComponentConfiguration> pendingSnapshotUpdates;
+
     // ----------------------------------------------------------------
     //
     // Dependencies
@@ -209,6 +246,17 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         this.factoryPids = new HashSet<>();
         this.factoryPidByPid = new HashMap<>();
         this.servicePidByPid = new HashMap<>();
+        this.selfConfiguringComponentRefs = new ConcurrentHashMap<>();
+        this.configurationCache = new ComponentConfigurationCache();
+        this.snapshotBases = Collections.synchronizedMap(new HashMap<>());
+
+        if (Boolean.getBoolean(DELTA_SNAPSHOTS_PROPERTY)) {
+            this.snapshotDeltaTracker = new SnapshotDeltaTracker(Integer
+                    .getInteger(DELTA_SNAPSHOTS_COMPACTION_INTERVAL_PROPERTY, DEFAULT_DELTA_SNAPSHOTS_COMPACTION_INTERVAL));
+        } else {
+            this.snapshotDeltaTracker = null;
+        }
+        this.snapshotCoalescingDelay = Long.getLong(SNAPSHOT_COALESCING_DELAY_PROPERTY, 0L);
     }
 
     // ----------------------------------------------------------------
@@ -224,6 +272,18 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         this.ctx = componentContext;
         this.bundleContext = componentContext.getBundleContext();
 
+        if (this.snapshotCoalescingDelay > 0) {
+            this.snapshotExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "ConfigurationSnapshotWriter");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        // invalidate cached configurations when they are changed through ConfigurationAdmin
+        this.configurationCacheRegistration = this.bundleContext.registerService(ConfigurationListener.class,
+                this.configurationCache, null);
+
         // Load the latest snapshot and push it to ConfigurationAdmin
         try {
             loadLatestSnapshotInConfigAdmin();
@@ -272,6 +332,10 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
 
         final String kuraPid = makeString(reference.getProperty(ConfigurationService.KURA_SERVICE_PID));
 
+        if (kuraPid != null) {
+            this.selfConfiguringComponentRefs.put(kuraPid, reference);
+        }
+
         registerSelfConfiguringComponent(kuraPid, servicePid);
     }
 
@@ -285,6 +349,10 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
 
         final String kuraPid = makeString(reference.getProperty(ConfigurationService.KURA_SERVICE_PID));
 
+        if (kuraPid != null) {
+            this.selfConfiguringComponentRefs.remove(kuraPid, reference);
+        }
+
         unregisterComponentConfiguration(kuraPid);
 
     }
@@ -296,6 +364,19 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
             this.bundleTracker.close();
             this.bundleTracker = null;
         }
+
+        if (this.configurationCacheRegistration != null) {
+            this.configurationCacheRegistration.unregister();
+            this.configurationCacheRegistration = null;
+        }
+
+        if (this.snapshotExecutor != null) {
+            flushPendingSnapshot();
+            this.snapshotExecutor.shutdown();
+            this.snapshotExecutor = null;
+        }
+
+        this.configurationCache.invalidateAll();
     }
 
     // ----------------------------------------------------------------
@@ -448,13 +529,14 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
             Dictionary<String, Object> dict = CollectionsUtil.mapToDictionary(mergedProperties);
             Configuration config = this.configurationAdmin.getConfiguration(servicePid, "?");
             config.update(dict);
+            this.configurationCache.invalidate(servicePid);
 
             registerComponentConfiguration(pid, servicePid, factoryPid);
 
             this.pendingDeletePids.remove(pid);
 
             if (takeSnapshot) {
-                snapshot();
+                requestSnapshot(null);
             }
         } catch (IOException e) {
             throw new KuraException(KuraErrorCode.CONFIGURATION_ERROR, e,
@@ -490,14 +572,16 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
 
             logger.info("Deleting factory configuration for component with pid {}...", pid);
 
+            final String servicePid = config.get().getPid();
             config.get().delete();
+            this.configurationCache.invalidate(servicePid);
 
             unregisterComponentConfiguration(pid);
 
             this.pendingDeletePids.add(pid);
 
             if (takeSnapshot) {
-                snapshot();
+                requestSnapshot(null);
             }
             logger.info("Deleting factory configuration for component with pid {}...done", pid);
         } catch (Exception e) {
@@ -512,10 +596,11 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
     // ----------------------------------------------------------------
 
     @Override
-    public long snapshot() throws KuraException {
+    public synchronized long snapshot() throws KuraException {
         logger.info("Writing snapshot - Getting component configurations...");
 
-        List<ComponentConfiguration> configs = buildCurrentConfiguration(null);
+        // the snapshot taken here includes any pending coalesced update
+        List<ComponentConfiguration> configs = buildCurrentConfiguration(consumePendingSnapshotUpdates());
 
         return saveSnapshot(configs);
     }
@@ -662,6 +747,8 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         logger.info("Registering metatype pid: {} ...", metatypePid);
 
         this.ocds.put(metatypePid, ocd);
+        // cached configurations are converted using the OCD
+        this.configurationCache.invalidateAll();
 
         if (isFactory) {
             registerFactoryComponentOCD(metatypePid, ocd, provider);
@@ -848,7 +935,11 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         }
 
         if (takeSnapshot && configs != null && !configs.isEmpty()) {
-            saveSnapshot(configs);
+            if (this.snapshotExecutor != null) {
+                requestSnapshot(configsToUpdate);
+            } else {
+                saveSnapshot(configs);
+            }
         }
 
         if (!causes.isEmpty()) {
@@ -908,8 +999,14 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
     private ComponentConfiguration getSelfConfiguringComponentDefaultConfiguration(String pid) {
         ComponentConfiguration cc = null;
         try {
-            String filter = String.format("(kura.service.pid=%s)", pid);
-            ServiceReference<?>[] refs = this.ctx.getBundleContext().getServiceReferences((String) null, filter);
+            ServiceReference<?>[] refs;
+            final ServiceReference<?> trackedRef = this.selfConfiguringComponentRefs.get(pid);
+            if (trackedRef != null) {
+                refs = new ServiceReference<?>[] { trackedRef };
+            } else {
+                String filter = String.format("(kura.service.pid=%s)", pid);
+                refs = this.ctx.getBundleContext().getServiceReferences((String) null, filter);
+            }
             if (refs != null && refs.length > 0) {
                 ServiceReference<?> ref = refs[0];
                 Object obj = this.ctx.getBundleContext().getService(ref);
@@ -974,6 +1071,7 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
             mergeWithDefaults(ocd, props);
 
             config.update(CollectionsUtil.mapToDictionary(props));
+            this.configurationCache.invalidate(servicePid);
             logger.info("Seeding updated configuration for pid: {}", pid);
         }
     }
@@ -1076,21 +1174,6 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         }
     }
 
-    private static String readFully(final File file) throws IOException {
-        final char[] buf = new char[4096];
-        final StringBuilder builder = new StringBuilder();
-
-        try (final FileReader r = new FileReader(file)) {
-            int rd;
-
-            while ((rd = r.read(buf, 0, buf.length)) > 0) {
-                builder.append(buf, 0, rd);
-            }
-        }
-
-        return builder.toString();
-    }
-
     private void encryptPlainSnapshots() throws KuraException, IOException {
         Set<Long> snapshotIDs = getSnapshots();
         if (snapshotIDs == null || snapshotIDs.isEmpty()) {
@@ -1104,8 +1187,10 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
                 throw new KuraException(KuraErrorCode.CONFIGURATION_ERROR, snapshot);
             }
 
-            final XmlComponentConfigurations xmlConfigs = unmarshal(readFully(fSnapshot),
-                    XmlComponentConfigurations.class);
+            final XmlComponentConfigurations xmlConfigs;
+            try (InputStream in = new BufferedInputStream(new FileInputStream(fSnapshot))) {
+                xmlConfigs = unmarshal(in, XmlComponentConfigurations.class);
+            }
 
             encryptConfigs(xmlConfigs.getConfigurations());
 
@@ -1123,9 +1208,17 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
                 .map(cc -> new ComponentConfigurationImpl(cc.getPid(), null, cc.getConfigurationProperties()))
                 .collect(Collectors.toList());
 
-        // Build the XML structure
-        XmlComponentConfigurations conf = new XmlComponentConfigurations();
-        conf.setConfigurations(configsToSave);
+        // Build the XML structure, as a delta of the last full snapshot if enabled
+        final SnapshotDeltaTracker.PendingSnapshot pendingSnapshot;
+        XmlComponentConfigurations conf;
+        if (this.snapshotDeltaTracker != null) {
+            pendingSnapshot = this.snapshotDeltaTracker.prepare(configsToSave);
+            conf = pendingSnapshot.getContent();
+        } else {
+            pendingSnapshot = null;
+            conf = new XmlComponentConfigurations();
+            conf.setConfigurations(configsToSave);
+        }
 
         // Write it to disk: marshall
         long sid = new Date().getTime();
@@ -1143,7 +1236,18 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         }
 
         // Write snapshot
-        writeSnapshot(sid, conf);
+        try {
+            writeSnapshot(sid, conf);
+        } catch (KuraException e) {
+            if (this.snapshotDeltaTracker != null) {
+                this.snapshotDeltaTracker.reset();
+            }
+            throw e;
+        }
+
+        if (pendingSnapshot != null) {
+            pendingSnapshot.written(sid);
+        }
 
         this.pendingDeletePids.clear();
 
@@ -1158,55 +1262,74 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
             throw new KuraException(KuraErrorCode.CONFIGURATION_SNAPSHOT_NOT_FOUND);
         }
 
-        // Marshall the configuration into an XML
-        String xmlResult;
-        try {
-            xmlResult = marshal(conf);
-            if (xmlResult == null || xmlResult.trim().isEmpty()) {
-                throw new KuraException(KuraErrorCode.INVALID_PARAMETER, conf);
+        // Marshall the configuration into an XML, encrypting it while it is written to disk
+        logger.info("Writing snapshot - Saving {}...", fSnapshot.getAbsolutePath());
+        try (FileOutputStream fos = new FileOutputStream(fSnapshot)) {
+            final BufferedOutputStream bos = new BufferedOutputStream(fos);
+
+            // the marshaller produces small writes, buffer them before encryption
+            try (OutputStream encrypting = new BufferedOutputStream(
+                    this.cryptoService.aesEncryptingStream(new NonClosingOutputStream(bos)), SNAPSHOT_BUFFER_SIZE)) {
+                marshal(conf, encrypting);
             }
+
+            bos.flush();
+            fos.getFD().sync();
         } catch (KuraException e) {
             throw e;
         } catch (Exception e) {
             throw new KuraException(KuraErrorCode.INTERNAL_ERROR, e);
         }
 
-        // Encrypt the XML
-        char[] encryptedXML = this.cryptoService.encryptAes(xmlResult.toCharArray());
-
-        // Write the snapshot
-        FileOutputStream fos = null;
-        OutputStreamWriter osw = null;
-        try {
-            logger.info("Writing snapshot - Saving {}...", fSnapshot.getAbsolutePath());
-            fos = new FileOutputStream(fSnapshot);
-            osw = new OutputStreamWriter(fos, "UTF-8");
-            osw.append(new String(encryptedXML));
-            osw.flush();
-            fos.flush();
-            fos.getFD().sync();
-            logger.info("Writing snapshot - Saving {}... Done.", fSnapshot.getAbsolutePath());
-        } catch (FileNotFoundException e) {
-            throw new KuraException(KuraErrorCode.INTERNAL_ERROR, e);
-        } catch (UnsupportedEncodingException e) {
-            throw new KuraException(KuraErrorCode.INTERNAL_ERROR, e);
-        } catch (IOException e) {
-            throw new KuraException(KuraErrorCode.INTERNAL_ERROR, e);
-        } finally {
-            if (osw != null) {
-                try {
-                    osw.close();
-                } catch (IOException e) {
+        this.snapshotBases.put(sid, conf.getBaseSnapshotId());
+        logger.info("Writing snapshot - Saving {}... Done.", fSnapshot.getAbsolutePath());
+    }
 
-                }
+    private synchronized void requestSnapshot(final List<ComponentConfiguration> configsToUpdate)
+            throws KuraException {
+        if (this.snapshotExecutor == null) {
+            if (configsToUpdate == null) {
+                snapshot();
+            } else {
+                saveSnapshot(buildCurrentConfiguration(configsToUpdate));
             }
-            if (fos != null) {
-                try {
-                    fos.close();
-                } catch (IOException e) {
+            return;
+        }
 
-                }
-            }
+        if (this.pendingSnapshotUpdates == null) {
+            this.pendingSnapshotUpdates = new ArrayList<>();
+        }
+        if (configsToUpdate != null) {
+            this.pendingSnapshotUpdates.addAll(configsToUpdate);
+        }
+
+        if (this.pendingSnapshotFuture == null) {
+            this.pendingSnapshotFuture = this.snapshotExecutor.schedule(this::flushPendingSnapshot,
+                    this.snapshotCoalescingDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized List<ComponentConfiguration> consumePendingSnapshotUpdates() {
+        final List<ComponentConfiguration> result = this.pendingSnapshotUpdates;
+
+        this.pendingSnapshotUpdates = null;
+        if (this.pendingSnapshotFuture != null) {
+            this.pendingSnapshotFuture.cancel(false);
+            this.pendingSnapshotFuture = null;
+        }
+
+        return result;
+    }
+
+    private synchronized void flushPendingSnapshot() {
+        if (this.pendingSnapshotUpdates == null) {
+            return;
+        }
+
+        try {
+            snapshot();
+        } catch (Exception e) {
+            logger.warn("Failed to write coalesced snapshot", e);
         }
     }
 
@@ -1219,8 +1342,16 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
             String servicePid = this.servicePidByPid.get(pid);
 
             if (servicePid != null) {
-                Configuration cfg = this.configurationAdmin.getConfiguration(servicePid, "?");
-                Map<String, Object> props = CollectionsUtil.dictionaryToMap(cfg.getProperties(), ocd);
+                Map<String, Object> props = this.configurationCache.get(servicePid);
+
+                if (props == null) {
+                    final long generation = this.configurationCache.getGeneration();
+
+                    Configuration cfg = this.configurationAdmin.getConfiguration(servicePid, "?");
+                    props = CollectionsUtil.dictionaryToMap(cfg.getProperties(), ocd);
+
+                    this.configurationCache.put(servicePid, props, generation);
+                }
 
                 cc = new ComponentConfigurationImpl(pid, ocd, props);
             }
@@ -1233,7 +1364,7 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
     private ComponentConfiguration getSelfConfiguringComponentConfiguration(String pid) {
         ComponentConfiguration cc = null;
         try {
-            ServiceReference<?>[] refs = this.ctx.getBundleContext().getServiceReferences((String) null, null);
+            ServiceReference<?>[] refs = getSelfConfiguringComponentReferences(pid);
             if (refs != null) {
                 for (ServiceReference<?> ref : refs) {
                     String ppid = (String) ref.getProperty(KURA_SERVICE_PID);
@@ -1329,6 +1460,17 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         return cc;
     }
 
+    private ServiceReference<?>[] getSelfConfiguringComponentReferences(String pid) throws InvalidSyntaxException {
+        final ServiceReference<?> trackedRef = this.selfConfiguringComponentRefs.get(pid);
+
+        if (trackedRef != null) {
+            return new ServiceReference<?>[] { trackedRef };
+        }
+
+        // not tracked through the SelfConfiguringComponent reference, scan all services
+        return this.ctx.getBundleContext().getServiceReferences((String) null, null);
+    }
+
     private TreeSet<Long> getSnapshotsInternal() {
         // keeps the list of snapshots ordered
         TreeSet<Long> ids = new TreeSet<>();
@@ -1375,12 +1517,21 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
 
         int currCount = sids.size();
         int maxCount = this.systemService.getKuraSnapshotsCount();
+
+        // the base of the oldest retained delta snapshot is needed to restore it
+        final Long retainedBase = this.snapshotDeltaTracker != null ? getRetainedSnapshotBase(sids, maxCount) : null;
+
         while (currCount > maxCount && !sids.isEmpty()) { // stop if count reached or no more snapshots remain
 
             // preserve snapshot ID 0 as this will be considered the seeding
             // one.
             long sid = sids.pollFirst();
             File fSnapshot = getSnapshotFile(sid);
+            if (retainedBase != null && retainedBase == sid) {
+                // kept in addition to the maximum number of snapshots
+                currCount--;
+                continue;
+            }
             if (sid == 0 || fSnapshot == null) {
                 continue;
             }
@@ -1388,6 +1539,7 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
             Path fSnapshotPath = fSnapshot.toPath();
             try {
                 if (Files.deleteIfExists(fSnapshotPath)) {
+                    this.snapshotBases.remove(sid);
                     logger.info("Snapshots Garbage Collector. Deleted {}", fSnapshotPath);
                     currCount--;
                 }
@@ -1397,6 +1549,38 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         }
     }
 
+    private Long getRetainedSnapshotBase(final TreeSet<Long> sids, final int maxCount) {
+        Long base = null;
+        int index = 0;
+
+        for (final Long sid : sids) {
+            if (index++ < sids.size() - maxCount || sid == 0) {
+                continue;
+            }
+
+            base = getSnapshotBase(sid);
+            if (base == null || !sids.contains(base) || sids.tailSet(base).size() <= maxCount) {
+                // the base is retained anyway
+                base = null;
+            }
+            break;
+        }
+
+        return base;
+    }
+
+    private Long getSnapshotBase(final long sid) {
+        if (!this.snapshotBases.containsKey(sid)) {
+            try {
+                loadEncryptedSnapshotFileContent(sid);
+            } catch (KuraException e) {
+                logger.debug("Failed to load snapshot {}", sid, e);
+                return null;
+            }
+        }
+        return this.snapshotBases.get(sid);
+    }
+
     private void loadLatestSnapshotInConfigAdmin() throws KuraException {
         //
         // save away initial configuration
@@ -1433,6 +1617,7 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
                             }
 
                             cfg.update(CollectionsUtil.mapToDictionary(newProperties));
+                            this.configurationCache.invalidate(config.getPid());
 
                         } catch (IOException e) {
                             logger.warn("Error seeding initial properties to ConfigAdmin for pid: {}", config.getPid(),
@@ -1487,27 +1672,42 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
                     fSnapshot != null ? fSnapshot.getAbsolutePath() : "null");
         }
 
-        final String rawSnapshot;
-        try {
-            rawSnapshot = readFully(fSnapshot);
+        // Decrypt and unmarshall the file while it is read
+        XmlComponentConfigurations xmlConfigs = null;
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(fSnapshot))) {
+            final InputStream decrypting = this.cryptoService.aesDecryptingStream(in);
+            if (decrypting == null) {
+                throw new KuraException(KuraErrorCode.DECODER_ERROR, "snapshot");
+            }
+
+            final ReadFailureTrackingInputStream tracking = new ReadFailureTrackingInputStream(decrypting);
+            try {
+                xmlConfigs = unmarshal(tracking, XmlComponentConfigurations.class);
+            } catch (KuraException e) {
+                if (tracking.failure != null) {
+                    // the content cannot be decrypted
+                    throw new KuraException(KuraErrorCode.DECODER_ERROR, tracking.failure, "snapshot");
+                }
+                logger.warn("Error parsing xml", e);
+            }
         } catch (IOException e) {
             logger.error("Error loading file from disk", e);
             return null;
         }
 
-        // File loaded, try to decrypt and unmarshall
-        char[] decryptAes = this.cryptoService.decryptAes(rawSnapshot.toCharArray());
-        if (decryptAes == null) {
-            throw new KuraException(KuraErrorCode.DECODER_ERROR, "snapshot");
+        if (xmlConfigs != null) {
+            this.snapshotBases.put(snapshotID, xmlConfigs.getBaseSnapshotId());
         }
-        String decryptedContent = new String(decryptAes);
 
-        XmlComponentConfigurations xmlConfigs = null;
+        if (xmlConfigs != null && xmlConfigs.isDelta()) {
+            final long baseSnapshotID = xmlConfigs.getBaseSnapshotId();
 
-        try {
-            xmlConfigs = unmarshal(decryptedContent, XmlComponentConfigurations.class);
-        } catch (KuraException e) {
-            logger.warn("Error parsing xml", e);
+            final XmlComponentConfigurations base = loadEncryptedSnapshotFileContent(baseSnapshotID);
+            if (base == null) {
+                throw new KuraException(KuraErrorCode.CONFIGURATION_SNAPSHOT_NOT_FOUND, baseSnapshotID);
+            }
+            xmlConfigs = SnapshotDeltaTracker.applyDelta(base, xmlConfigs);
         }
 
         return xmlConfigs;
@@ -1623,9 +1823,10 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         // use ConfigurationAdmin to do the update
         Configuration config = this.configurationAdmin.getConfiguration(this.servicePidByPid.get(pid), "?");
         config.update(CollectionsUtil.mapToDictionary(mergedProperties));
+        this.configurationCache.invalidate(this.servicePidByPid.get(pid));
 
         if (snapshotOnConfirmation) {
-            snapshot();
+            requestSnapshot(null);
         }
     }
 
@@ -1854,22 +2055,74 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         return getServiceProviderOCDs(classNames);
     }
 
-    protected <T> T unmarshal(final String string, final Class<T> clazz) throws KuraException {
+    protected <T> T unmarshal(final InputStream in, final Class<T> clazz) throws KuraException {
         try {
-            return requireNonNull(this.xmlUnmarshaller.unmarshal(string, clazz));
+            return requireNonNull(this.xmlUnmarshaller.unmarshal(in, clazz));
         } catch (final Exception e) {
             throw new KuraException(KuraErrorCode.DECODER_ERROR, "configuration", e);
         }
     }
 
-    protected String marshal(final Object object) throws KuraException {
+    protected void marshal(final Object object, final OutputStream out) throws KuraException {
         try {
-            return requireNonNull(this.xmlMarshaller.marshal(object));
+            this.xmlMarshaller.marshal(object, out);
         } catch (Exception e) {
             throw new KuraException(KuraErrorCode.ENCODE_ERROR, "configuration", e);
         }
     }
 
+    /*
+     * Records read failures, in order to distinguish decryption errors from parsing errors.
+     */
+    private static final class ReadFailureTrackingInputStream extends FilterInputStream {
+
+        private IOException failure;
+
+        ReadFailureTrackingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return this.in.read();
+            } catch (IOException e) {
+                this.failure = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            try {
+                return this.in.read(b, off, len);
+            } catch (IOException e) {
+                this.failure = e;
+                throw e;
+            }
+        }
+    }
+
+    /*
+     * Allows to close the encrypting stream, finalizing the cipher, without closing the file before it is synced.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            this.out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
     private static final class TrackedComponentFactory {
 
         private final String factoryPid;
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.configuration;
+
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.eclipse.kura.configuration.ComponentConfiguration;
+import org.eclipse.kura.configuration.Password;
+
+/**
+ * Decides whether a snapshot can be written as a delta with respect to the last full snapshot written by this
+ * instance, and computes its content.
+ * <p>
+ * Delta snapshots are cumulative: they contain all the configurations that changed since the base snapshot, so that
+ * restoring a snapshot never requires more than two files. Changes are detected comparing a digest of the
+ * configuration properties with the one computed when the base snapshot was written. A full snapshot is written
+ * after {@code compactionInterval} deltas, when the delta would not be significantly smaller than a full snapshot
+ * and when no base snapshot has been written since startup.
+ */
+class SnapshotDeltaTracker {
+
+    private final int compactionInterval;
+
+    private Long baseSnapshotId;
+    private Map<String, byte[]> baseDigests = new HashMap<>();
+    private int deltasSinceBase;
+
+    SnapshotDeltaTracker(final int compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
+    PendingSnapshot prepare(final List<ComponentConfiguration> configs) {
+        final Map<String, byte[]> digests = new HashMap<>();
+        final List<ComponentConfiguration> changed = new ArrayList<>();
+
+        for (final ComponentConfiguration config : configs) {
+            final byte[] digest = digest(config.getConfigurationProperties());
+            digests.put(config.getPid(), digest);
+
+            if (!Arrays.equals(digest, this.baseDigests.get(config.getPid()))) {
+                changed.add(config);
+            }
+        }
+
+        final List<String> deletedPids = new ArrayList<>();
+        for (final String basePid : this.baseDigests.keySet()) {
+            if (!digests.containsKey(basePid)) {
+                deletedPids.add(basePid);
+            }
+        }
+
+        final XmlComponentConfigurations content = new XmlComponentConfigurations();
+
+        final boolean full = this.baseSnapshotId == null || this.deltasSinceBase >= this.compactionInterval
+                || changed.size() + deletedPids.size() > configs.size() / 2;
+
+        if (full) {
+            content.setConfigurations(configs);
+        } else {
+            content.setConfigurations(changed);
+            content.setBaseSnapshotId(this.baseSnapshotId);
+            content.setDeletedPids(deletedPids);
+        }
+
+        return new PendingSnapshot(content, digests);
+    }
+
+    /*
+     * Forgets the current base, the next snapshot will be a full one.
+     */
+    void reset() {
+        this.baseSnapshotId = null;
+        this.baseDigests = new HashMap<>();
+        this.deltasSinceBase = 0;
+    }
+
+    /*
+     * Returns the content of the snapshot obtained applying the provided delta to its base.
+     */
+    static XmlComponentConfigurations applyDelta(final XmlComponentConfigurations base,
+            final XmlComponentConfigurations delta) {
+        final Map<String, ComponentConfiguration> configsByPid = new LinkedHashMap<>();
+
+        if (base.getConfigurations() != null) {
+            for (final ComponentConfiguration config : base.getConfigurations()) {
+                configsByPid.put(config.getPid(), config);
+            }
+        }
+        if (delta.getDeletedPids() != null) {
+            for (final String deletedPid : delta.getDeletedPids()) {
+                configsByPid.remove(deletedPid);
+            }
+        }
+        if (delta.getConfigurations() != null) {
+            for (final ComponentConfiguration config : delta.getConfigurations()) {
+                configsByPid.put(config.getPid(), config);
+            }
+        }
+
+        final XmlComponentConfigurations result = new XmlComponentConfigurations();
+        result.setConfigurations(new ArrayList<>(configsByPid.values()));
+        return result;
+    }
+
+    private static byte[] digest(final Map<String, Object> properties) {
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        if (properties == null) {
+            return messageDigest.digest();
+        }
+
+        for (final Entry<String, Object> entry : new TreeMap<>(properties).entrySet()) {
+            update(messageDigest, entry.getKey());
+
+            final Object value = entry.getValue();
+
+            if (value == null) {
+                update(messageDigest, "null");
+            } else if (value.getClass().isArray()) {
+                update(messageDigest, value.getClass().getName());
+
+                final Object[] elements = toObjectArray(value);
+                update(messageDigest, elements.length);
+                for (final Object element : elements) {
+                    update(messageDigest, toString(element));
+                }
+            } else {
+                update(messageDigest, value.getClass().getName());
+                update(messageDigest, toString(value));
+            }
+        }
+
+        return messageDigest.digest();
+    }
+
+    private static Object[] toObjectArray(final Object array) {
+        if (array instanceof Object[]) {
+            return (Object[]) array;
+        }
+
+        final int length = Array.getLength(array);
+        final Object[] result = new Object[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = Array.get(array, i);
+        }
+        return result;
+    }
+
+    private static String toString(final Object value) {
+        if (value instanceof Password) {
+            return new String(((Password) value).getPassword());
+        }
+        return String.valueOf(value);
+    }
+
+    private static void update(final MessageDigest messageDigest, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        update(messageDigest, bytes.length);
+        messageDigest.update(bytes);
+    }
+
+    private static void update(final MessageDigest messageDigest, final int value) {
+        messageDigest.update((byte) (value >>> 24));
+        messageDigest.update((byte) (value >>> 16));
+        messageDigest.update((byte) (value >>> 8));
+        messageDigest.update((byte) value);
+    }
+
+    class PendingSnapshot {
+
+        private final XmlComponentConfigurations content;
+        private final Map<String, byte[]> digests;
+
+        private PendingSnapshot(final XmlComponentConfigurations content, final Map<String, byte[]> digests) {
+            this.content = content;
+            this.digests = digests;
+        }
+
+        XmlComponentConfigurations getContent() {
+            return this.content;
+        }
+
+        /*
+         * Must be called once the snapshot has been successfully written.
+         */
+        void written(final long snapshotId) {
+            if (this.content.isDelta()) {
+                SnapshotDeltaTracker.this.deltasSinceBase++;
+            } else {
+                SnapshotDeltaTracker.this.baseSnapshotId = snapshotId;
+                SnapshotDeltaTracker.this.baseDigests = this.digests;
+                SnapshotDeltaTracker.this.deltasSinceBase = 0;
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,10 +19,15 @@ import org.eclipse.kura.configuration.ComponentConfiguration;
 /**
  * Utility class to serialize a set of configurations.
  * This is used to serialize a full snapshot.
+ * <p>
+ * A delta snapshot only contains the configurations that changed with respect to a base full snapshot, identified by
+ * {@link #getBaseSnapshotId()}, and the pids of the configurations that have been removed since the base snapshot.
  */
 public class XmlComponentConfigurations {
 
     private List<ComponentConfiguration> configurations;
+    private Long baseSnapshotId;
+    private List<String> deletedPids;
 
     public XmlComponentConfigurations() {
     }
@@ -34,4 +39,27 @@ public class XmlComponentConfigurations {
     public void setConfigurations(List<ComponentConfiguration> configurations) {
         this.configurations = configurations;
     }
+
+    /**
+     * @return the id of the base snapshot if this is a delta snapshot, {@code null} otherwise
+     */
+    public Long getBaseSnapshotId() {
+        return this.baseSnapshotId;
+    }
+
+    public void setBaseSnapshotId(Long baseSnapshotId) {
+        this.baseSnapshotId = baseSnapshotId;
+    }
+
+    public List<String> getDeletedPids() {
+        return this.deletedPids;
+    }
+
+    public void setDeletedPids(List<String> deletedPids) {
+        this.deletedPids = deletedPids;
+    }
+
+    public boolean isDelta() {
+        return this.baseSnapshotId != null;
+    }
 }
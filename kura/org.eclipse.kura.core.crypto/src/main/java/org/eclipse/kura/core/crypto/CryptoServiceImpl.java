@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
@@ -37,6 +39,8 @@ import java.util.Properties;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
+import javax.crypto.CipherOutputStream;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.GCMParameterSpec;
@@ -64,6 +68,8 @@ public class CryptoServiceImpl implements CryptoService {
     private static final byte[] SECRET_KEY = System
             .getProperty("org.eclipse.kura.core.crypto.secretKey", "rv;ipse329183!@#").getBytes();
     private static final String ENCRYPTED_STRING_SEPARATOR = "-";
+    // the Base64 encoded IV is 16 characters long
+    private static final int MAX_ENCODED_IV_LENGTH = 64;
 
     private String keystorePasswordPath;
 
@@ -199,6 +205,66 @@ public class CryptoServiceImpl implements CryptoService {
         }
     }
 
+    /*
+     * The stream format is the same produced by encryptAes(char[]): the Base64 encoded IV, the separator and the
+     * Base64 encoded cipher text followed by the authentication tag.
+     */
+    @Override
+    public OutputStream aesEncryptingStream(OutputStream destination) throws KuraException {
+        try {
+            Cipher c = Cipher.getInstance(CIPHER);
+            byte[] iv = new byte[IV_SIZE];
+            this.random.nextBytes(iv);
+            c.init(Cipher.ENCRYPT_MODE, generateKey(), new GCMParameterSpec(AUTH_TAG_LENGTH_BIT, iv));
+
+            destination.write((base64Encode(iv) + ENCRYPTED_STRING_SEPARATOR).getBytes(StandardCharsets.US_ASCII));
+
+            return new CipherOutputStream(Base64.getEncoder().wrap(destination), c);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new KuraException(KuraErrorCode.OPERATION_NOT_SUPPORTED, "encrypt");
+        } catch (InvalidKeyException e) {
+            throw new KuraException(KuraErrorCode.ENCODE_ERROR, VALUE_EXCEPTION_CAUSE);
+        } catch (InvalidAlgorithmParameterException e) {
+            throw new KuraException(KuraErrorCode.ENCODE_ERROR, PARAMETER_EXCEPTION_CAUSE);
+        } catch (IOException e) {
+            throw new KuraException(KuraErrorCode.IO_ERROR, e);
+        }
+    }
+
+    @Override
+    public InputStream aesDecryptingStream(InputStream source) throws KuraException {
+        try {
+            byte[] iv = base64Decode(readEncodedIv(source));
+
+            Cipher c = Cipher.getInstance(CIPHER);
+            c.init(Cipher.DECRYPT_MODE, generateKey(), new GCMParameterSpec(AUTH_TAG_LENGTH_BIT, iv));
+
+            return new CipherInputStream(Base64.getDecoder().wrap(source), c);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw new KuraException(KuraErrorCode.OPERATION_NOT_SUPPORTED, DECRYPT_EXCEPTION_CAUSE);
+        } catch (InvalidKeyException | IllegalArgumentException e) {
+            throw new KuraException(KuraErrorCode.DECODER_ERROR, VALUE_EXCEPTION_CAUSE);
+        } catch (InvalidAlgorithmParameterException e) {
+            throw new KuraException(KuraErrorCode.ENCODE_ERROR, PARAMETER_EXCEPTION_CAUSE);
+        } catch (IOException e) {
+            throw new KuraException(KuraErrorCode.IO_ERROR, e);
+        }
+    }
+
+    private static String readEncodedIv(InputStream source) throws IOException, KuraException {
+        final StringBuilder encodedIv = new StringBuilder();
+
+        int c;
+        while ((c = source.read()) != ENCRYPTED_STRING_SEPARATOR.charAt(0)) {
+            if (c == -1 || encodedIv.length() >= MAX_ENCODED_IV_LENGTH) {
+                throw new KuraException(KuraErrorCode.DECODER_ERROR, VALUE_EXCEPTION_CAUSE);
+            }
+            encodedIv.append((char) c);
+        }
+
+        return encodedIv.toString();
+    }
+
     @Override
     @Deprecated
     public String encryptAes(String value) throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException,
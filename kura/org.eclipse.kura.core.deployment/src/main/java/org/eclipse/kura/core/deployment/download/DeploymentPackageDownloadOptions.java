@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ public class DeploymentPackageDownloadOptions extends DeploymentPackageInstallOp
     public static final String METRIC_DP_DOWNLOAD_NOTIFY_BLOCK_SIZE = "dp.download.notify.block.size";
     public static final String METRIC_DP_DOWNLOAD_FORCE_DOWNLOAD = "dp.download.force";
     public static final String METRIC_DP_DOWNLOAD_HASH = "dp.download.hash";
+    public static final String METRIC_DP_DOWNLOAD_SEGMENTS = "dp.download.segments";
     public static final String METRIC_DP_INSTALL = "dp.install";
 
     private String deployUri;
@@ -43,6 +44,7 @@ public class DeploymentPackageDownloadOptions extends DeploymentPackageInstallOp
     private int notifyBlockSize;
     private int blockDelay = 0;
     private int timeout = 4000;
+    private int segments = 1;
 
     private String username = null;
     private String password = null;
@@ -145,6 +147,11 @@ public class DeploymentPackageDownloadOptions extends DeploymentPackageInstallOp
                 this.notifyBlockSize = (Integer) metric;
             }
 
+            metric = request.getMetric(METRIC_DP_DOWNLOAD_SEGMENTS);
+            if (metric != null) {
+                this.segments = (Integer) metric;
+            }
+
             metric = request.getMetric(KuraRequestPayload.REQUESTER_CLIENT_ID);
             if (metric != null) {
                 super.setRequestClientId((String) metric);
@@ -210,6 +217,19 @@ public class DeploymentPackageDownloadOptions extends DeploymentPackageInstallOp
         this.timeout = timeout;
     }
 
+    /**
+     * Returns the maximum number of segments that can be downloaded in parallel, if supported by the server.
+     *
+     * @return the number of segments
+     */
+    public int getSegments() {
+        return this.segments;
+    }
+
+    public void setSegments(int segments) {
+        this.segments = segments;
+    }
+
     public boolean isDownloadForced() {
         return this.forceDownload;
     }
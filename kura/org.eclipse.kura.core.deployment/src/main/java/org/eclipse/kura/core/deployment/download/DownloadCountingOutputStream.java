@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.kura.core.deployment.download;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import org.eclipse.kura.KuraException;
 import org.eclipse.kura.core.deployment.DownloadStatus;
@@ -33,4 +34,14 @@ public interface DownloadCountingOutputStream {
     public void setTotalBytes(long totalBytes);
 
     public void close() throws IOException;
+
+    /**
+     * Returns the hash of the downloaded content, computed during the transfer with the algorithm specified by
+     * {@link DeploymentPackageDownloadOptions#getHash()}.
+     *
+     * @return the hexadecimal hash, or an empty optional if it has not been computed
+     */
+    public default Optional<String> getComputedHash() {
+        return Optional.empty();
+    }
 }
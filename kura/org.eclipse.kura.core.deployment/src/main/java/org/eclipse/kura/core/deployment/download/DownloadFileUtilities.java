@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,9 @@ import org.eclipse.kura.core.deployment.util.FileUtilities;
 
 public class DownloadFileUtilities extends FileUtilities {
 
+    private static final String PARTIAL_DOWNLOAD_SUFFIX = ".part";
+    private static final String PARTIAL_DOWNLOAD_INFO_SUFFIX = ".info";
+
     // File Management
     public static File getDpDownloadFile(DeploymentPackageInstallOptions options) throws IOException {
         String downloadDirectory = options.getDownloadDirectory();
@@ -43,6 +46,10 @@ public class DownloadFileUtilities extends FileUtilities {
     public static boolean deleteDownloadedFile(DeploymentPackageInstallOptions options) throws IOException {
         File file = getDpDownloadFile(options);
 
+        if (file != null) {
+            deletePartialDownload(file);
+        }
+
         if (file != null && file.exists() && file.isFile()) {
             return file.delete();
         }
@@ -50,6 +57,36 @@ public class DownloadFileUtilities extends FileUtilities {
         return false;
     }
 
+    /**
+     * Returns the file where the content of the provided file is downloaded, before being moved to its final
+     * location once complete.
+     *
+     * @param file
+     *            the destination file
+     * @return the partial download file
+     */
+    public static File getPartialDownloadFile(File file) {
+        return new File(file.getPath() + PARTIAL_DOWNLOAD_SUFFIX);
+    }
+
+    /**
+     * Returns the file where the state of a partial download is persisted.
+     *
+     * @param partialDownloadFile
+     *            the partial download file
+     * @return the state file
+     */
+    public static File getPartialDownloadInfoFile(File partialDownloadFile) {
+        return new File(partialDownloadFile.getPath() + PARTIAL_DOWNLOAD_INFO_SUFFIX);
+    }
+
+    public static void deletePartialDownload(File file) {
+        File partialDownloadFile = getPartialDownloadFile(file);
+
+        getPartialDownloadInfoFile(partialDownloadFile).delete();
+        partialDownloadFile.delete();
+    }
+
     private static String validateFileName(String destFileName, String intendedDir) throws IOException {
         File destFile = new File(destFileName);
         String filePath = destFile.getCanonicalPath();
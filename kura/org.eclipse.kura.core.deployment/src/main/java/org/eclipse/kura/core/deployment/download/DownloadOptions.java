@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
 
 package org.eclipse.kura.core.deployment.download;
 
+import java.io.File;
 import java.io.OutputStream;
 
 import org.eclipse.kura.core.deployment.progress.ProgressListener;
@@ -21,6 +22,7 @@ import org.eclipse.kura.ssl.SslManagerService;
 public class DownloadOptions {
 
     private OutputStream out;
+    private File outFile;
     private DeploymentPackageDownloadOptions options;
     private ProgressListener callback;
     private SslManagerService sslManagerService;
@@ -35,6 +37,20 @@ public class DownloadOptions {
         this.out = out;
     }
 
+    /**
+     * Returns the file the download is written to. The file is kept between download attempts, so that an
+     * interrupted download can be resumed.
+     *
+     * @return the destination file
+     */
+    public File getOutFile() {
+        return this.outFile;
+    }
+
+    public void setOutFile(File outFile) {
+        this.outFile = outFile;
+    }
+
     public DeploymentPackageDownloadOptions getRequestOptions() {
         return this.options;
     }
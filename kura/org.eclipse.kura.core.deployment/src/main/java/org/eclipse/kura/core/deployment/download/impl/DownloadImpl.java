@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,10 @@
 package org.eclipse.kura.core.deployment.download.impl;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Date;
+import java.util.Optional;
 import java.util.concurrent.CancellationException;
 
 import org.eclipse.kura.KuraErrorCode;
@@ -175,12 +175,16 @@ public class DownloadImpl implements ProgressListener {
     // ----------------------------------------------------------------
 
     private void incrementalDownloadFromURL(File dpFile, String url, int downloadIndex) throws Exception {
-        OutputStream os = null;
+        // the content is downloaded to a separate file, kept between requests if the download can be resumed
+        File partialFile = DownloadFileUtilities.getPartialDownloadFile(dpFile);
+
+        if (!this.options.isResume()) {
+            DownloadFileUtilities.deletePartialDownload(dpFile);
+        }
 
         try {
-            os = new FileOutputStream(dpFile);
             DownloadOptions downloadOptions = new DownloadOptions();
-            downloadOptions.setOut(os);
+            downloadOptions.setOutFile(partialFile);
             downloadOptions.setRequestOptions(this.options);
             downloadOptions.setCallback(this);
             downloadOptions.setSslManagerService(this.sslManagerService);
@@ -190,15 +194,17 @@ public class DownloadImpl implements ProgressListener {
             this.downloadHelper = getDownloadInstance(this.options.getDownloadProtocol(), downloadOptions);
             this.downloadHelper.startWork();
             this.downloadHelper.close();
-        } finally {
-            if (os != null) {
-                try {
-                    os.close();
-                } catch (IOException e1) {
-                    s_logger.error("Exception while trying to close stream.", e1);
-                }
+        } catch (Exception e) {
+            if (!this.options.isResume()) {
+                DownloadFileUtilities.deletePartialDownload(dpFile);
             }
+            throw e;
+        }
+
+        if (partialFile.exists()) {
+            Files.move(partialFile.toPath(), dpFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
         }
+        DownloadFileUtilities.deletePartialDownload(dpFile);
 
         if (this.options.getHash() != null) {
             String[] hashAlgorithmValue = this.options.getHash().split(":");
@@ -218,7 +224,10 @@ public class DownloadImpl implements ProgressListener {
                             "Failed to verify checksum with empty algorithm: " + hashAlgorithm);
                 }
 
-                String checksum = HashUtil.hash(hashAlgorithm, dpFile);
+                // the hash is normally computed during the download, without reading the file again
+                Optional<String> computedChecksum = this.downloadHelper.getComputedHash();
+                String checksum = computedChecksum.isPresent() ? computedChecksum.get()
+                        : HashUtil.hash(hashAlgorithm, dpFile);
 
                 if (checksum == null || !checksum.equals(hashValue)) {
                     throw new KuraException(KuraErrorCode.INTERNAL_ERROR, null,
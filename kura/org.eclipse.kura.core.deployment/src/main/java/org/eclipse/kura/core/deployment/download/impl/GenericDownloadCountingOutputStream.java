@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.io.output.NullOutputStream;
 import org.eclipse.kura.core.deployment.DownloadStatus;
 import org.eclipse.kura.core.deployment.download.DeploymentPackageDownloadOptions;
 import org.eclipse.kura.core.deployment.download.DownloadOptions;
@@ -42,10 +43,12 @@ public class GenericDownloadCountingOutputStream extends CountingOutputStream {
     InputStream is = null;
 
     private long currentStep = 1;
+    private long transferOffset;
+    private TokenBucket bandwidthLimiter;
     private DownloadStatus downloadStatus = DownloadStatus.FAILED;
 
     public GenericDownloadCountingOutputStream(DownloadOptions downloadOptions) {
-        super(downloadOptions.getOut());
+        super(downloadOptions.getOut() != null ? downloadOptions.getOut() : NullOutputStream.NULL_OUTPUT_STREAM);
         this.options = downloadOptions.getRequestOptions();
         this.sslManagerService = downloadOptions.getSslManagerService();
         this.pl = downloadOptions.getCallback();
@@ -74,24 +77,79 @@ public class GenericDownloadCountingOutputStream extends CountingOutputStream {
         this.totalBytes = totalBytes;
     }
 
+    /**
+     * Returns the number of bytes of the content downloaded so far, including the ones downloaded before the
+     * transfer has been resumed.
+     */
+    @Override
+    public synchronized long getByteCount() {
+        return this.transferOffset + super.getByteCount();
+    }
+
+    /**
+     * Sets the number of bytes already available when the transfer is (re)started, and resets the count of the
+     * transferred bytes.
+     *
+     * @param offset
+     *            the number of bytes already downloaded
+     */
+    protected synchronized void setTransferOffset(long offset) {
+        resetByteCount();
+        this.transferOffset = offset;
+        this.currentStep = this.propResolution > 0 ? offset / this.propResolution + 1 : 1;
+    }
+
+    /**
+     * Accounts for bytes that have been written to the destination without going through this stream.
+     *
+     * @param n
+     *            the number of bytes
+     * @throws IOException
+     *             if the transfer is interrupted while waiting for the bandwidth limit
+     */
+    protected void bytesTransferred(int n) throws IOException {
+        beforeWrite(n);
+        afterWrite(n);
+    }
+
     @Override
     protected void afterWrite(int n) throws IOException {
         super.afterWrite(n);
-        if (this.propResolution == 0 && getTotalBytes() > 0) {
-            this.propResolution = Math.round(this.totalBytes / 100F * 5F);
-        } else if (this.propResolution == 0) {
-            this.propResolution = 1024 * 256;
+
+        boolean notify = false;
+        long byteCount;
+
+        synchronized (this) {
+            if (this.propResolution == 0 && getTotalBytes() > 0) {
+                this.propResolution = Math.round(this.totalBytes / 100F * 5F);
+            } else if (this.propResolution == 0) {
+                this.propResolution = 1024 * 256;
+            }
+            byteCount = getByteCount();
+            if (byteCount >= this.currentStep * this.propResolution) {
+                this.currentStep = byteCount / this.propResolution + 1;
+                notify = true;
+            }
         }
-        if (getByteCount() >= this.currentStep * this.propResolution) {
-            this.currentStep++;
-            postProgressEvent(this.options.getClientId(), getByteCount(), this.totalBytes, DownloadStatus.IN_PROGRESS,
+
+        if (notify) {
+            postProgressEvent(this.options.getClientId(), byteCount, this.totalBytes, DownloadStatus.IN_PROGRESS,
                     null);
         }
-        try {
-            Thread.sleep(this.propBlockDelay);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+
+        final TokenBucket limiter = getBandwidthLimiter();
+        if (limiter != null) {
+            limiter.acquire(n);
+        }
+    }
+
+    private synchronized TokenBucket getBandwidthLimiter() {
+        // the historical block delay was a pause after each block, that is a limit of one block per delay
+        if (this.bandwidthLimiter == null && this.propBlockDelay > 0) {
+            this.bandwidthLimiter = new TokenBucket(this.propBufferSize > 0 ? this.propBufferSize : 1024 * 4,
+                    this.propBlockDelay);
         }
+        return this.bandwidthLimiter;
     }
 
     protected void postProgressEvent(String clientId, long progress, long total, DownloadStatus status,
@@ -111,8 +169,9 @@ public class GenericDownloadCountingOutputStream extends CountingOutputStream {
         this.propResolution = resolution;
     }
 
-    protected void setBufferSize(int size) {
+    protected synchronized void setBufferSize(int size) {
         this.propBufferSize = size;
+        this.bandwidthLimiter = null;
     }
 
     protected void setConnectTimeout(int timeout) {
@@ -123,8 +182,9 @@ public class GenericDownloadCountingOutputStream extends CountingOutputStream {
         this.propReadTimeout = timeout;
     }
 
-    protected void setBlockDelay(int delay) {
+    protected synchronized void setBlockDelay(int delay) {
         this.propBlockDelay = delay;
+        this.bandwidthLimiter = null;
     }
 
     protected int getResolution() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,22 +12,35 @@
  *******************************************************************************/
 package org.eclipse.kura.core.deployment.download.impl;
 
+import java.io.EOFException;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.Authenticator;
 import java.net.HttpURLConnection;
 import java.net.PasswordAuthentication;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
-import java.util.concurrent.Callable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.net.ssl.HttpsURLConnection;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.kura.KuraConnectException;
 import org.eclipse.kura.KuraErrorCode;
@@ -35,17 +48,53 @@ import org.eclipse.kura.KuraException;
 import org.eclipse.kura.KuraRuntimeException;
 import org.eclipse.kura.core.deployment.DownloadStatus;
 import org.eclipse.kura.core.deployment.download.DownloadCountingOutputStream;
+import org.eclipse.kura.core.deployment.download.DownloadFileUtilities;
 import org.eclipse.kura.core.deployment.download.DownloadOptions;
+import org.eclipse.kura.core.deployment.download.impl.PartialDownloadInfo.Segment;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Downloads a file over HTTP, resuming the transfer with Range requests when the connection is lost.
+ * <p>
+ * The content is written to the file provided by {@link DownloadOptions#getOutFile()}. The progress is periodically
+ * flushed and persisted next to the file, so that the download can also be resumed by a later request. If the
+ * server supports ranges and the request allows it, the content is fetched in parallel segments, each one with its
+ * own connection and a bounded buffer. The hash of the content is computed while it is being written.
+ */
 public class HttpDownloadCountingOutputStream extends GenericDownloadCountingOutputStream
         implements DownloadCountingOutputStream {
 
     private static final Logger s_logger = LoggerFactory.getLogger(HttpDownloadCountingOutputStream.class);
 
+    static final int MAX_SEGMENTS = 8;
+    static final long MIN_SEGMENT_SIZE = 1024L * 1024L;
+
+    private static final int MAX_SEGMENT_BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_RETRIES = 5;
+    private static final long DEFAULT_RETRY_DELAY = 2000;
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("bytes\\s+(\\d+)-(\\d+)/(\\d+|\\*)");
+
+    private final File outFile;
+    private final Set<HttpURLConnection> activeConnections = ConcurrentHashMap.newKeySet();
+    private final Object persistLock = new Object();
+
     private ExecutorService executor;
+    private ExecutorService segmentExecutor;
     private Future<Void> future;
+    private volatile boolean cancelled;
+    private long retryDelay = DEFAULT_RETRY_DELAY;
+
+    private FileChannel channel;
+    private PartialDownloadInfo info;
+    private volatile List<Segment> segments = Collections.emptyList();
+    private String validator;
+    private volatile boolean resetRequired;
+    private boolean started;
+    private final IncrementalDigest digest;
+    private String computedHash;
 
     public HttpDownloadCountingOutputStream(DownloadOptions downloadOptions) {
         super(downloadOptions);
@@ -53,13 +102,17 @@ public class HttpDownloadCountingOutputStream extends GenericDownloadCountingOut
         setResolution(this.options.getNotifyBlockSize());
         setBlockDelay(this.options.getBlockDelay());
         setConnectTimeout(this.options.getTimeout());
+        this.outFile = downloadOptions.getOutFile();
+        this.digest = IncrementalDigest.forHash(this.options.getHash()).orElse(null);
     }
 
     @Override
     public void cancelDownload() throws Exception {
         if (this.executor != null && this.future != null) {
+            this.cancelled = true;
             this.future.cancel(true);
             this.executor.shutdownNow();
+            disconnectAll();
 
             postProgressEvent(this.options.getClientId(), getByteCount(), this.totalBytes, DownloadStatus.CANCELLED,
                     "Download cancelled");
@@ -71,96 +124,445 @@ public class HttpDownloadCountingOutputStream extends GenericDownloadCountingOut
 
         this.executor = Executors.newSingleThreadExecutor();
 
-        this.future = this.executor.submit(new Callable<Void>() {
-
-            @Override
-            public Void call() throws Exception {
-                boolean shouldAuthenticate = false;
-                try {
-                    shouldAuthenticate = HttpDownloadCountingOutputStream.this.options.getUsername() != null
-                            && HttpDownloadCountingOutputStream.this.options.getPassword() != null
-                            && !(HttpDownloadCountingOutputStream.this.options.getUsername().trim().isEmpty()
-                                    && !HttpDownloadCountingOutputStream.this.options.getPassword().trim().isEmpty());
-
-                    if (shouldAuthenticate) {
-                        Authenticator.setDefault(new Authenticator() {
-
-                            @Override
-                            protected PasswordAuthentication getPasswordAuthentication() {
-                                return new PasswordAuthentication(
-                                        HttpDownloadCountingOutputStream.this.options.getUsername(),
-                                        HttpDownloadCountingOutputStream.this.options.getPassword().toCharArray());
-                            }
-                        });
-                    }
+        this.future = this.executor.submit(() -> {
+            download();
+            return null;
+        });
 
-                    HttpURLConnection.setFollowRedirects(false);
-                    URLConnection urlConnection = getUrlConnection(HttpDownloadCountingOutputStream.this.downloadURL);
+        try {
+            this.future.get();
+        } catch (ExecutionException ex) {
+            throw new KuraException(KuraErrorCode.INTERNAL_ERROR, ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new KuraException(KuraErrorCode.INTERNAL_ERROR, ex);
+        }
+    }
 
-                    testConnectionProtocol(urlConnection);
+    @Override
+    public Optional<String> getComputedHash() {
+        return Optional.ofNullable(this.computedHash);
+    }
 
-                    HttpDownloadCountingOutputStream.this.is = urlConnection.getInputStream();
+    void setRetryDelay(long retryDelay) {
+        this.retryDelay = retryDelay;
+    }
 
-                    String s = urlConnection.getHeaderField("Content-Length");
-                    s_logger.info("Content-lenght: " + s);
+    @Override
+    protected void postProgressEvent(String clientId, long progress, long total, DownloadStatus status,
+            String errorMessage) {
+        if (status == DownloadStatus.IN_PROGRESS) {
+            persistProgress();
+        }
+        super.postProgressEvent(clientId, progress, total, status, errorMessage);
+    }
 
-                    setTotalBytes(s != null ? Integer.parseInt(s) : -1);
-                    postProgressEvent(HttpDownloadCountingOutputStream.this.options.getClientId(), 0,
-                            HttpDownloadCountingOutputStream.this.totalBytes, DownloadStatus.IN_PROGRESS, null);
+    private void download() throws KuraException {
+        boolean shouldAuthenticate = false;
+        try {
+            shouldAuthenticate = this.options.getUsername() != null && this.options.getPassword() != null
+                    && !(this.options.getUsername().trim().isEmpty() && !this.options.getPassword().trim().isEmpty());
 
-                    int bufferSize = getBufferSize();
+            if (shouldAuthenticate) {
+                Authenticator.setDefault(new Authenticator() {
 
-                    if (bufferSize == 0 && getTotalBytes() > 0) {
-                        int newSize = Math.round(HttpDownloadCountingOutputStream.this.totalBytes / 100F + 1F);
-                        bufferSize = newSize;
-                        setBufferSize(newSize);
-                    } else if (bufferSize == 0) {
-                        int newSize = 1024 * 4;
-                        bufferSize = newSize;
-                        setBufferSize(newSize);
+                    @Override
+                    protected PasswordAuthentication getPasswordAuthentication() {
+                        return new PasswordAuthentication(HttpDownloadCountingOutputStream.this.options.getUsername(),
+                                HttpDownloadCountingOutputStream.this.options.getPassword().toCharArray());
                     }
+                });
+            }
 
-                    long numBytes = IOUtils.copyLarge(HttpDownloadCountingOutputStream.this.is,
-                            HttpDownloadCountingOutputStream.this, new byte[bufferSize]);
-                    postProgressEvent(HttpDownloadCountingOutputStream.this.options.getClientId(), numBytes,
-                            HttpDownloadCountingOutputStream.this.totalBytes, DownloadStatus.COMPLETED, null);
-
-                } catch (IOException e) {
-                    postProgressEvent(HttpDownloadCountingOutputStream.this.options.getClientId(), getByteCount(),
-                            HttpDownloadCountingOutputStream.this.totalBytes, DownloadStatus.FAILED, e.getMessage());
-                    throw new KuraConnectException(e);
-                } finally {
-                    if (HttpDownloadCountingOutputStream.this.is != null) {
-                        try {
-                            HttpDownloadCountingOutputStream.this.is.close();
-                        } catch (IOException e) {
-                        }
-                    }
+            HttpURLConnection.setFollowRedirects(false);
+
+            this.channel = FileChannel.open(this.outFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.info = PartialDownloadInfo.load(DownloadFileUtilities.getPartialDownloadInfoFile(this.outFile));
+
+            restoreState();
+            transferWithRetries();
+
+            if (this.digest != null) {
+                // the content of the segments after the first one has not been hashed yet
+                this.digest.catchUp(this.channel, this.channel.size());
+                this.computedHash = this.digest.getHash();
+            }
+
+            this.channel.force(true);
+
+            postProgressEvent(this.options.getClientId(), getByteCount(), this.totalBytes, DownloadStatus.COMPLETED,
+                    null);
+        } catch (IOException e) {
+            if (!this.cancelled) {
+                postProgressEvent(this.options.getClientId(), getByteCount(), this.totalBytes, DownloadStatus.FAILED,
+                        e.getMessage());
+            }
+            throw new KuraConnectException(e);
+        } finally {
+            if (this.segmentExecutor != null) {
+                this.segmentExecutor.shutdownNow();
+            }
+            disconnectAll();
+            synchronized (this.persistLock) {
+                if (this.channel != null) {
                     try {
-                        close();
+                        this.channel.close();
                     } catch (IOException e) {
                     }
-                    if (shouldAuthenticate) {
-                        Authenticator.setDefault(null);
-                    }
                 }
+            }
+            try {
+                close();
+            } catch (IOException e) {
+            }
+            if (shouldAuthenticate) {
+                Authenticator.setDefault(null);
+            }
+        }
+    }
+
+    private void restoreState() throws IOException {
+        if (!this.info.isResumable(this.downloadURL)) {
+            resetState();
+            return;
+        }
+
+        final long fileSize = this.channel.size();
+        final List<Segment> restored = new ArrayList<>();
+
+        for (final Segment segment : this.info.getSegments()) {
+            // content that was not flushed before a crash is downloaded again
+            restored.add(new Segment(segment.start, Math.max(segment.start, Math.min(segment.position, fileSize)),
+                    segment.end));
+        }
+
+        this.validator = this.info.getValidator();
+        this.segments = Collections.unmodifiableList(restored);
+        this.info.reset(this.downloadURL, this.validator, this.info.getTotal(), restored);
+        setTotalBytes(this.info.getTotal());
+
+        s_logger.info("Resuming download of {} from {} bytes", this.downloadURL, getDownloadedBytes());
+    }
+
+    private void resetState() throws IOException {
+        this.channel.truncate(0);
+        this.validator = null;
+        this.segments = Collections.emptyList();
+        this.info.reset(this.downloadURL, null, -1, this.segments);
+        if (this.digest != null) {
+            this.digest.reset();
+        }
+    }
+
+    private void transferWithRetries() throws IOException, KuraException {
+        int failures = 0;
+
+        while (true) {
+            final long downloadedBytes = getDownloadedBytes();
+
+            try {
+                transfer();
+                return;
+            } catch (IOException e) {
+                if (this.cancelled) {
+                    throw e;
+                }
+
+                if (this.resetRequired) {
+                    this.resetRequired = false;
+                    resetState();
+                } else {
+                    persistProgress();
+                }
+
+                if (e instanceof HttpStatusException && !((HttpStatusException) e).isRetryable()) {
+                    throw e;
+                }
+
+                if (getDownloadedBytes() > downloadedBytes) {
+                    failures = 0;
+                }
+
+                if (++failures > MAX_RETRIES) {
+                    throw e;
+                }
+
+                s_logger.warn("Download of {} interrupted after {} bytes, retrying ({}/{}): {}", this.downloadURL,
+                        getDownloadedBytes(), failures, MAX_RETRIES, e.getMessage());
+
+                try {
+                    Thread.sleep(this.retryDelay * failures);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting to resume the download");
+                }
+            }
+        }
+    }
+
+    private void transfer() throws IOException, KuraException {
+        Segment segment = getFirstIncompleteSegment();
+
+        if (!this.segments.isEmpty() && segment == null) {
+            return;
+        }
+
+        final long offset = segment != null ? segment.position : 0;
+        setTransferOffset(getDownloadedBytes());
+
+        if (this.digest != null && segment != null) {
+            this.digest.catchUp(this.channel, this.segments.get(0).position);
+        }
 
+        final HttpURLConnection connection = openConnection(this.downloadURL, offset,
+                segment != null ? segment.end : -1);
+
+        try {
+            final int responseCode = connection.getResponseCode();
+
+            if (responseCode == HttpURLConnection.HTTP_PARTIAL) {
+                final long[] range = parseContentRange(connection.getHeaderField("Content-Range"));
+
+                if (range[0] != offset) {
+                    throw new IOException("Unexpected Content-Range: " + connection.getHeaderField("Content-Range"));
+                }
+
+                if (this.segments.isEmpty()) {
+                    planSegments(range[2], getValidator(connection), this.options.getSegments());
+                } else if (getTotalBytes() >= 0 && range[2] >= 0 && range[2] != getTotalBytes()) {
+                    this.resetRequired = true;
+                    throw new IOException("The length of the content has changed");
+                }
+            } else if (responseCode == HttpURLConnection.HTTP_OK) {
+                if (offset > 0 || !this.segments.isEmpty()) {
+                    s_logger.info("The server did not resume the download of {}, starting over", this.downloadURL);
+                }
+                resetState();
+                setTransferOffset(0);
+                planSegments(connection.getContentLengthLong(), getValidator(connection), 1);
+            } else if (responseCode == HTTP_RANGE_NOT_SATISFIABLE) {
+                this.resetRequired = true;
+                throw new IOException("Requested range not satisfiable");
+            } else {
+                throw new HttpStatusException(responseCode);
+            }
+
+            segment = getFirstIncompleteSegment();
+
+            if (!this.started) {
+                this.started = true;
+                s_logger.info("Content-length: {}", getTotalBytes());
+                postProgressEvent(this.options.getClientId(), 0, this.totalBytes, DownloadStatus.IN_PROGRESS, null);
+            }
+
+            final List<Future<Void>> segmentFutures = startSegments(segment);
+
+            IOException failure = null;
+            try {
+                if (segment != null) {
+                    readSegment(connection.getInputStream(), segment);
+                }
+            } catch (IOException e) {
+                failure = e;
+            }
+
+            failure = awaitSegments(segmentFutures, failure);
+
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            release(connection);
+        }
+    }
+
+    private void planSegments(long total, String contentValidator, int maxSegments) {
+        this.validator = contentValidator;
+        setTotalBytes(total);
+
+        if (getBufferSize() == 0 && total > 0) {
+            setBufferSize(Math.round(total / 100F + 1F));
+        } else if (getBufferSize() == 0) {
+            setBufferSize(1024 * 4);
+        }
+
+        final List<Segment> plan = new ArrayList<>();
+
+        if (total < 0) {
+            plan.add(new Segment(0, 0, -1));
+        } else {
+            int count = 1;
+
+            // parallel connections must be sure to fetch the same content
+            if (contentValidator != null) {
+                count = (int) Math.max(1, Math.min(Math.min(maxSegments, MAX_SEGMENTS), total / MIN_SEGMENT_SIZE));
+            }
+
+            final long segmentSize = total / count;
+            for (int i = 0; i < count; i++) {
+                plan.add(new Segment(i * segmentSize, i * segmentSize, i == count - 1 ? total : (i + 1) * segmentSize));
+            }
+        }
+
+        this.segments = Collections.unmodifiableList(plan);
+        this.info.reset(this.downloadURL, contentValidator, total, plan);
+
+        if (plan.size() > 1) {
+            s_logger.info("Downloading {} in {} segments", this.downloadURL, plan.size());
+        }
+    }
+
+    private List<Future<Void>> startSegments(Segment primary) {
+        final List<Future<Void>> result = new ArrayList<>();
+
+        for (final Segment segment : this.segments) {
+            if (segment == primary || segment.isComplete()) {
+                continue;
+            }
+
+            if (this.segmentExecutor == null) {
+                this.segmentExecutor = Executors.newFixedThreadPool(MAX_SEGMENTS - 1);
+            }
+
+            result.add(this.segmentExecutor.submit(() -> {
+                downloadSegment(segment);
                 return null;
+            }));
+        }
+
+        return result;
+    }
+
+    private IOException awaitSegments(List<Future<Void>> segmentFutures, IOException failure) throws IOException {
+        IOException result = failure;
+
+        for (final Future<Void> segmentFuture : segmentFutures) {
+            try {
+                segmentFuture.get();
+            } catch (ExecutionException e) {
+                if (result == null) {
+                    result = e.getCause() instanceof IOException ? (IOException) e.getCause()
+                            : new IOException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                disconnectAll();
+                throw new InterruptedIOException("Interrupted while waiting for the download segments");
             }
+        }
 
-        });
+        return result;
+    }
+
+    private void downloadSegment(Segment segment) throws IOException, KuraException {
+        final HttpURLConnection connection = openConnection(this.downloadURL, segment.position, segment.end);
 
         try {
-            this.future.get();
-        } catch (ExecutionException ex) {
-            throw new KuraException(KuraErrorCode.INTERNAL_ERROR, ex);
-        } catch (InterruptedException ex) {
-            Thread.currentThread().interrupt();
-            throw new KuraException(KuraErrorCode.INTERNAL_ERROR, ex);
+            final int responseCode = connection.getResponseCode();
+
+            if (responseCode == HttpURLConnection.HTTP_OK) {
+                // the content has changed since the first segment has been requested
+                this.resetRequired = true;
+                throw new IOException("The server did not return the requested range");
+            } else if (responseCode != HttpURLConnection.HTTP_PARTIAL) {
+                throw new HttpStatusException(responseCode);
+            }
+
+            final long[] range = parseContentRange(connection.getHeaderField("Content-Range"));
+
+            if (range[0] != segment.position) {
+                throw new IOException("Unexpected Content-Range: " + connection.getHeaderField("Content-Range"));
+            }
+
+            readSegment(connection.getInputStream(), segment);
+        } finally {
+            release(connection);
         }
     }
 
-    private URLConnection getUrlConnection(String downloadUrlString) throws IOException {
+    private void readSegment(InputStream in, Segment segment) throws IOException {
+        final byte[] buffer = new byte[Math.min(getBufferSize(), MAX_SEGMENT_BUFFER_SIZE)];
+
+        try (InputStream stream = in) {
+            while (!segment.isComplete()) {
+                if (this.cancelled) {
+                    throw new InterruptedIOException("Download cancelled");
+                }
+
+                final int length = segment.end >= 0 ? (int) Math.min(buffer.length, segment.end - segment.position)
+                        : buffer.length;
+                final int read = stream.read(buffer, 0, length);
+
+                if (read < 0) {
+                    if (segment.end >= 0) {
+                        throw new EOFException("Connection closed at byte " + segment.position + " of " + segment.end);
+                    }
+                    // the length of the content is unknown, the end of the stream is the end of the content
+                    return;
+                }
+
+                write(buffer, read, segment.position);
+                if (this.digest != null) {
+                    this.digest.update(segment.position, buffer, 0, read);
+                }
+                segment.position += read;
+
+                bytesTransferred(read);
+            }
+        }
+    }
+
+    private void write(byte[] buffer, int length, long position) throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+        long filePosition = position;
+
+        while (byteBuffer.hasRemaining()) {
+            filePosition += this.channel.write(byteBuffer, filePosition);
+        }
+    }
+
+    private void persistProgress() {
+        synchronized (this.persistLock) {
+            if (this.info == null || this.channel == null || !this.channel.isOpen()) {
+                return;
+            }
+
+            // positions are sampled before flushing, so that they never refer to content that is not on disk
+            final List<Segment> current = this.segments;
+            final long[] positions = new long[current.size()];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = current.get(i).position;
+            }
+
+            try {
+                this.channel.force(false);
+                this.info.store(positions);
+            } catch (IOException e) {
+                s_logger.warn("Failed to persist the progress of the download of {}", this.downloadURL, e);
+            }
+        }
+    }
+
+    private Segment getFirstIncompleteSegment() {
+        for (final Segment segment : this.segments) {
+            if (!segment.isComplete()) {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    private long getDownloadedBytes() {
+        long result = 0;
+        for (final Segment segment : this.segments) {
+            result += segment.position - segment.start;
+        }
+        return result;
+    }
+
+    private HttpURLConnection openConnection(String downloadUrlString, long start, long end)
+            throws IOException, KuraException {
         URL localUrl = new URL(downloadUrlString);
         URLConnection urlConnection = localUrl.openConnection();
         int connectTimeout = getConnectTimeout();
@@ -168,17 +570,69 @@ public class HttpDownloadCountingOutputStream extends GenericDownloadCountingOut
         urlConnection.setConnectTimeout(connectTimeout);
         urlConnection.setReadTimeout(readTimeout);
 
-        int responseCode = ((HttpURLConnection) urlConnection).getResponseCode();
+        // the SSL socket factory must be set before connecting
+        testConnectionProtocol(urlConnection);
+
+        final HttpURLConnection connection = (HttpURLConnection) urlConnection;
+        connection.setRequestProperty("Range", "bytes=" + start + "-" + (end >= 0 ? Long.toString(end - 1) : ""));
+        if (this.validator != null) {
+            connection.setRequestProperty("If-Range", this.validator);
+        }
+
+        this.activeConnections.add(connection);
+
+        if (this.cancelled) {
+            release(connection);
+            throw new InterruptedIOException("Download cancelled");
+        }
+
+        int responseCode = connection.getResponseCode();
         if (responseCode == HttpURLConnection.HTTP_MOVED_TEMP || responseCode == HttpURLConnection.HTTP_MOVED_PERM
                 || responseCode == HttpURLConnection.HTTP_SEE_OTHER) {
-            String newLocation = urlConnection.getHeaderField("Location");
+            String newLocation = connection.getHeaderField("Location");
+            release(connection);
             if (StringUtils.isNotEmpty(newLocation)) {
-                return getUrlConnection(newLocation);
+                return openConnection(new URL(localUrl, newLocation).toString(), start, end);
             } else {
                 throw new KuraRuntimeException(KuraErrorCode.INVALID_PARAMETER);
             }
         }
-        return urlConnection;
+        return connection;
+    }
+
+    private void release(HttpURLConnection connection) {
+        this.activeConnections.remove(connection);
+        connection.disconnect();
+    }
+
+    private void disconnectAll() {
+        for (final HttpURLConnection connection : this.activeConnections) {
+            connection.disconnect();
+        }
+        this.activeConnections.clear();
+    }
+
+    private static String getValidator(URLConnection connection) {
+        final String etag = connection.getHeaderField("ETag");
+
+        // weak entity tags cannot be used with If-Range
+        if (etag != null && !etag.startsWith("W/")) {
+            return etag;
+        }
+
+        return connection.getHeaderField("Last-Modified");
+    }
+
+    private static long[] parseContentRange(String contentRange) throws IOException {
+        final Matcher matcher = contentRange != null ? CONTENT_RANGE_PATTERN.matcher(contentRange.trim()) : null;
+
+        if (matcher == null || !matcher.matches()) {
+            throw new IOException("Invalid Content-Range: " + contentRange);
+        }
+
+        final long total = "*".equals(matcher.group(3)) ? -1 : Long.parseLong(matcher.group(3));
+
+        return new long[] { Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), total };
     }
 
     private void testConnectionProtocol(URLConnection urlConnection) throws IOException, KuraConnectException {
@@ -196,4 +650,21 @@ public class HttpDownloadCountingOutputStream extends GenericDownloadCountingOut
             throw new KuraConnectException(e, "Unsupported protocol!");
         }
     }
+
+    private static class HttpStatusException extends IOException {
+
+        private static final long serialVersionUID = 6541947523516932706L;
+
+        private final int statusCode;
+
+        HttpStatusException(int statusCode) {
+            super("Unexpected HTTP response code: " + statusCode);
+            this.statusCode = statusCode;
+        }
+
+        boolean isRetryable() {
+            return this.statusCode == HttpURLConnection.HTTP_CLIENT_TIMEOUT
+                    || this.statusCode == HTTP_TOO_MANY_REQUESTS || this.statusCode >= 500;
+        }
+    }
 }
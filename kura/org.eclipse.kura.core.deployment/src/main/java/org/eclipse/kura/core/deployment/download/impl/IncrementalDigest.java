@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.deployment.download.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+
+/**
+ * Computes the hash of a downloaded file while it is being written.
+ * <p>
+ * The digest can only consume the content in order, the blocks written past the current digest position (by parallel
+ * segments) are read back from the file by {@link #catchUp(FileChannel, long)}.
+ */
+final class IncrementalDigest {
+
+    private static final int CATCH_UP_BUFFER_SIZE = 64 * 1024;
+
+    private final MessageDigest digest;
+    private long position;
+
+    private IncrementalDigest(final MessageDigest digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * Creates a digest for the hash specified in the "ALGORITHM:value" format of the download request.
+     *
+     * @param hash
+     *            the requested hash, can be null
+     * @return the digest, or an empty optional if the hash is missing or its algorithm is not supported
+     */
+    static Optional<IncrementalDigest> forHash(final String hash) {
+        if (hash == null) {
+            return Optional.empty();
+        }
+
+        final String[] hashAlgorithmValue = hash.split(":");
+
+        if (hashAlgorithmValue.length != 2 || hashAlgorithmValue[0].trim().isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new IncrementalDigest(MessageDigest.getInstance(hashAlgorithmValue[0].trim())));
+        } catch (NoSuchAlgorithmException e) {
+            return Optional.empty();
+        }
+    }
+
+    synchronized long getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Updates the digest with a block written at the provided file position. The block is ignored if it does not
+     * start at the current digest position.
+     */
+    synchronized void update(final long filePosition, final byte[] buffer, final int offset, final int length) {
+        if (filePosition != this.position) {
+            return;
+        }
+
+        this.digest.update(buffer, offset, length);
+        this.position += length;
+    }
+
+    /**
+     * Updates the digest with the content of the file between the current digest position and the provided limit.
+     */
+    synchronized void catchUp(final FileChannel channel, final long limit) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(CATCH_UP_BUFFER_SIZE);
+
+        while (this.position < limit) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), limit - this.position));
+
+            final int read = channel.read(buffer, this.position);
+
+            if (read < 0) {
+                throw new IOException("Unexpected end of file while computing hash");
+            }
+
+            buffer.flip();
+            this.digest.update(buffer);
+            this.position += read;
+        }
+    }
+
+    synchronized void reset() {
+        this.digest.reset();
+        this.position = 0;
+    }
+
+    /**
+     * Completes the hash computation.
+     *
+     * @return the hash, as a lowercase hexadecimal string
+     */
+    synchronized String getHash() {
+        final byte[] encodedBytes = this.digest.digest();
+        final StringBuilder sb = new StringBuilder();
+        for (byte encodedByte : encodedBytes) {
+            sb.append(Integer.toString((encodedByte & 0xff) + 0x100, 16).substring(1));
+        }
+        return sb.toString();
+    }
+}
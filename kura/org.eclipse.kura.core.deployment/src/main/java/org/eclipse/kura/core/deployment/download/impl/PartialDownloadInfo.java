@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.deployment.download.impl;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the state of a partial download next to the downloaded file, so that the download can be resumed by a
+ * later request.
+ * <p>
+ * The content downloaded so far is described by a list of segments, each one valid between its start and its current
+ * position. The state is only considered valid for the same URL and if the server provided a validator (a strong
+ * ETag or the Last-Modified date), that is sent back in the If-Range header when the download is resumed.
+ */
+final class PartialDownloadInfo {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartialDownloadInfo.class);
+
+    private static final String URL_KEY = "url";
+    private static final String VALIDATOR_KEY = "validator";
+    private static final String TOTAL_KEY = "total";
+    private static final String SEGMENTS_KEY = "segments";
+
+    private final File file;
+
+    private String url;
+    private String validator;
+    private long total = -1;
+    private List<Segment> segments = Collections.emptyList();
+
+    private PartialDownloadInfo(final File file) {
+        this.file = file;
+    }
+
+    static PartialDownloadInfo load(final File file) {
+        final PartialDownloadInfo result = new PartialDownloadInfo(file);
+
+        if (!file.isFile()) {
+            return result;
+        }
+
+        final Properties properties = new Properties();
+
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+
+            final List<Segment> segments = new ArrayList<>();
+
+            for (final String segment : properties.getProperty(SEGMENTS_KEY, "").split(",")) {
+                final String[] values = segment.split(":");
+                if (values.length == 3) {
+                    segments.add(new Segment(Long.parseLong(values[0]), Long.parseLong(values[1]),
+                            Long.parseLong(values[2])));
+                }
+            }
+
+            result.url = properties.getProperty(URL_KEY);
+            result.validator = properties.getProperty(VALIDATOR_KEY);
+            result.total = Long.parseLong(properties.getProperty(TOTAL_KEY, "-1"));
+            result.segments = Collections.unmodifiableList(segments);
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Failed to load partial download state from {}, starting over", file, e);
+            return new PartialDownloadInfo(file);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns whether the persisted state can be used to resume the download of the provided URL.
+     */
+    boolean isResumable(final String downloadUrl) {
+        return downloadUrl.equals(this.url) && this.validator != null && !this.segments.isEmpty();
+    }
+
+    String getValidator() {
+        return this.validator;
+    }
+
+    long getTotal() {
+        return this.total;
+    }
+
+    List<Segment> getSegments() {
+        return this.segments;
+    }
+
+    void reset(final String downloadUrl, final String downloadValidator, final long downloadTotal,
+            final List<Segment> downloadSegments) {
+        this.url = downloadUrl;
+        this.validator = downloadValidator;
+        this.total = downloadTotal;
+        this.segments = Collections.unmodifiableList(new ArrayList<>(downloadSegments));
+    }
+
+    /**
+     * Stores the state, using the provided segment positions. The positions must refer to content that has already
+     * been flushed to the downloaded file.
+     */
+    void store(final long[] positions) throws IOException {
+        if (this.url == null) {
+            return;
+        }
+
+        final Properties properties = new Properties();
+        properties.setProperty(URL_KEY, this.url);
+        if (this.validator != null) {
+            properties.setProperty(VALIDATOR_KEY, this.validator);
+        }
+        properties.setProperty(TOTAL_KEY, Long.toString(this.total));
+
+        final StringBuilder segmentsValue = new StringBuilder();
+        for (int i = 0; i < this.segments.size(); i++) {
+            final Segment segment = this.segments.get(i);
+            if (i > 0) {
+                segmentsValue.append(',');
+            }
+            segmentsValue.append(segment.start).append(':').append(positions[i]).append(':').append(segment.end);
+        }
+        properties.setProperty(SEGMENTS_KEY, segmentsValue.toString());
+
+        final File tmpFile = new File(this.file.getPath() + ".tmp");
+
+        try (OutputStream out = new FileOutputStream(tmpFile)) {
+            properties.store(out, null);
+        }
+
+        try {
+            Files.move(tmpFile.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmpFile.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * A range of the downloaded content, the bytes between {@link #start} and {@link #position} have been written.
+     * The end is exclusive, -1 if the length of the content is unknown.
+     */
+    static final class Segment {
+
+        final long start;
+        final long end;
+        volatile long position;
+
+        Segment(final long start, final long position, final long end) {
+            this.start = start;
+            this.position = position;
+            this.end = end;
+        }
+
+        boolean isComplete() {
+            return this.end >= 0 && this.position >= this.end;
+        }
+
+        @Override
+        public String toString() {
+            return this.start + "-" + this.end + "@" + this.position;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.deployment.download.impl;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate of a transfer, shared by all the connections of a download.
+ * <p>
+ * The bucket holds at most one block of tokens, so that bursts are bounded. A caller that takes more tokens than
+ * available waits until the bucket has been refilled by the missing amount, instead of sleeping a fixed time after
+ * every write.
+ */
+final class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(final long tokensPerPeriod, final long periodMs) {
+        if (tokensPerPeriod <= 0 || periodMs <= 0) {
+            throw new IllegalArgumentException("Token bucket rate must be positive");
+        }
+
+        this.tokensPerNano = (double) tokensPerPeriod / TimeUnit.MILLISECONDS.toNanos(periodMs);
+        this.capacity = tokensPerPeriod;
+        this.tokens = tokensPerPeriod;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes the provided amount of tokens, waiting until they are available.
+     *
+     * @param count
+     *            the number of tokens
+     * @throws InterruptedIOException
+     *             if the calling thread is interrupted while waiting
+     */
+    void acquire(final int count) throws InterruptedIOException {
+        final long waitNanos = reserve(count);
+
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for bandwidth");
+        }
+    }
+
+    synchronized long reserve(final int count) {
+        final long now = System.nanoTime();
+
+        this.tokens = Math.min(this.capacity, this.tokens + (now - this.lastRefill) * this.tokensPerNano);
+        this.lastRefill = now;
+        this.tokens -= count;
+
+        if (this.tokens >= 0) {
+            return 0;
+        }
+
+        return (long) Math.ceil(-this.tokens / this.tokensPerNano);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2024, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -41,16 +41,19 @@ import org.eclipse.kura.identity.PasswordHash;
 import org.eclipse.kura.identity.PasswordStrengthVerificationService;
 import org.eclipse.kura.identity.Permission;
 import org.eclipse.kura.identity.configuration.extension.IdentityConfigurationExtension;
+import org.eclipse.kura.util.useradmin.CachingUserAdminHelper;
 import org.eclipse.kura.util.useradmin.UserAdminHelper;
 import org.eclipse.kura.util.useradmin.UserAdminHelper.AuthenticationException;
 import org.osgi.service.useradmin.Role;
 import org.osgi.service.useradmin.User;
 import org.osgi.service.useradmin.UserAdmin;
+import org.osgi.service.useradmin.UserAdminEvent;
+import org.osgi.service.useradmin.UserAdminListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings("restriction")
-public class IdentityServiceImpl implements IdentityService {
+public class IdentityServiceImpl implements IdentityService, UserAdminListener {
 
     private static final String IDENTITY_SERVICE_FAILURE_FORMAT_STRING = "{} IdentityService - Failure - {}";
     private static final String IDENTITY_SERVICE_SUCCESS_FORMAT_STRING = "{} IdentityService - Success - {}";
@@ -63,7 +66,7 @@ public class IdentityServiceImpl implements IdentityService {
 
     private UserAdmin userAdmin;
     private CryptoService cryptoService;
-    private UserAdminHelper userAdminHelper;
+    private CachingUserAdminHelper userAdminHelper;
     private PasswordStrengthVerificationService passwordStrengthVerificationService;
 
     private final Map<String, IdentityConfigurationExtension> extensions = new ConcurrentHashMap<>();
@@ -104,7 +107,16 @@ public class IdentityServiceImpl implements IdentityService {
     }
 
     public void activate() {
-        this.userAdminHelper = new UserAdminHelper(this.userAdmin, this.cryptoService);
+        this.userAdminHelper = new CachingUserAdminHelper(this.userAdmin, this.cryptoService);
+    }
+
+    @Override
+    public void roleChanged(final UserAdminEvent event) {
+        final CachingUserAdminHelper helper = this.userAdminHelper;
+
+        if (helper != null) {
+            helper.roleChanged(event);
+        }
     }
 
     @Override
@@ -209,7 +221,12 @@ public class IdentityServiceImpl implements IdentityService {
 
             validateIdentityConfiguration(identityConfiguration);
 
-            updateIdentityConfigurationInternal(user.get(), identityConfiguration);
+            try {
+                updateIdentityConfigurationInternal(user.get(), identityConfiguration);
+            } finally {
+                // the user and its permissions are modified directly
+                this.userAdminHelper.invalidate();
+            }
         }, "Update configuration for identity " + identityConfiguration.getName());
 
     }
@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.inventory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.core.inventory.resources.SystemResourcesDelta;
+import org.eclipse.kura.core.inventory.resources.SystemResourcesInfo;
+import org.eclipse.kura.system.SystemResourceInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the system inventory in memory, so that it does not need to be rebuilt for every request.
+ * <p>
+ * The inventory is split in sections, each one reloaded only when it has been invalidated by an event. A section that
+ * is not tracked, because no event source is available for it, is reloaded on every read. A section can also have a
+ * maximum age, for the sources that do not report all the changes.
+ * <p>
+ * Every change of the inventory increments its version, and the resources added or removed are tagged with the
+ * version of the change, so that the changes since a given version can be computed without keeping past copies of
+ * the inventory.
+ */
+final class InventoryCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryCache.class);
+
+    static final int MAX_REMOVED_RESOURCES = 4096;
+
+    enum Section {
+        SYSTEM_PACKAGES,
+        BUNDLES,
+        DEPLOYMENT_PACKAGES,
+        CONTAINERS,
+        CONTAINER_IMAGES
+    }
+
+    @FunctionalInterface
+    interface Loader {
+
+        List<SystemResourceInfo> load() throws Exception;
+    }
+
+    private final Map<Section, SectionState> sections = new EnumMap<>(Section.class);
+    private final LinkedHashMap<String, VersionedResource> removed = new LinkedHashMap<>();
+
+    private long version;
+    private long oldestDeltaVersion;
+
+    InventoryCache() {
+        for (final Section section : Section.values()) {
+            this.sections.put(section, new SectionState());
+        }
+    }
+
+    synchronized void setLoader(final Section section, final Loader loader) {
+        final SectionState state = this.sections.get(section);
+        state.loader = loader;
+        state.dirty = true;
+    }
+
+    /**
+     * Sets whether the changes of a section are notified to the cache.
+     *
+     * @param section
+     *            the section
+     * @param tracked
+     *            {@code true} if the section should only be reloaded when invalidated
+     * @param maxAge
+     *            the maximum age of the section in milliseconds, or 0 if all the changes are notified
+     */
+    synchronized void setTracked(final Section section, final boolean tracked, final long maxAge) {
+        final SectionState state = this.sections.get(section);
+        state.tracked = tracked;
+        state.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAge);
+        state.dirty = true;
+    }
+
+    synchronized void invalidate(final Section section) {
+        this.sections.get(section).dirty = true;
+    }
+
+    synchronized long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns the resources of a section.
+     *
+     * @param section
+     *            the section
+     * @return the resources
+     * @throws Exception
+     *             if the section needs to be reloaded and loading fails
+     */
+    synchronized List<SystemResourceInfo> getResources(final Section section) throws Exception {
+        refresh(section);
+
+        final List<SystemResourceInfo> result = new ArrayList<>();
+        this.sections.get(section).resources.values().forEach(resource -> result.add(resource.resource));
+        return result;
+    }
+
+    /**
+     * Returns the whole inventory, sorted by resource name.
+     *
+     * @return the inventory
+     */
+    synchronized SystemResourcesInfo getInventory() {
+        refreshAll();
+
+        final List<SystemResourceInfo> result = new ArrayList<>();
+        for (final SectionState state : this.sections.values()) {
+            state.resources.values().forEach(resource -> result.add(resource.resource));
+        }
+        result.sort(Comparator.comparing(SystemResourceInfo::getName));
+
+        return new SystemResourcesInfo(result, this.version);
+    }
+
+    /**
+     * Returns the changes of the inventory after the provided version.
+     *
+     * @param since
+     *            the inventory version known by the caller
+     * @return the changes
+     */
+    synchronized SystemResourcesDelta getChanges(final long since) {
+        refreshAll();
+
+        final List<SystemResourceInfo> added = new ArrayList<>();
+        final List<SystemResourceInfo> removedSince = new ArrayList<>();
+        final boolean resync = since < this.oldestDeltaVersion || since > this.version;
+
+        for (final SectionState state : this.sections.values()) {
+            for (final VersionedResource resource : state.resources.values()) {
+                if (resync || resource.version > since) {
+                    added.add(resource.resource);
+                }
+            }
+        }
+
+        if (!resync) {
+            for (final VersionedResource resource : this.removed.values()) {
+                if (resource.version > since) {
+                    removedSince.add(resource.resource);
+                }
+            }
+        }
+
+        added.sort(Comparator.comparing(SystemResourceInfo::getName));
+        removedSince.sort(Comparator.comparing(SystemResourceInfo::getName));
+
+        return new SystemResourcesDelta(since, this.version, resync, added, removedSince);
+    }
+
+    private void refreshAll() {
+        for (final Section section : Section.values()) {
+            try {
+                refresh(section);
+            } catch (final Exception e) {
+                // keep serving the last known content, the section will be reloaded by the next read
+                logger.warn("Failed to load inventory section {}", section, e);
+            }
+        }
+    }
+
+    private void refresh(final Section section) throws Exception {
+        final SectionState state = this.sections.get(section);
+
+        if (state.loader == null || !state.isStale()) {
+            return;
+        }
+
+        final List<SystemResourceInfo> loaded = state.loader.load();
+
+        state.dirty = false;
+        state.loadedAt = System.nanoTime();
+
+        apply(state, loaded);
+    }
+
+    private void apply(final SectionState state, final List<SystemResourceInfo> loaded) {
+        final long changeVersion = this.version + 1;
+        boolean changed = false;
+
+        final LinkedHashMap<String, VersionedResource> resources = new LinkedHashMap<>();
+
+        for (final SystemResourceInfo resource : loaded) {
+            final String key = getKey(resource);
+
+            if (resources.containsKey(key)) {
+                continue;
+            }
+
+            VersionedResource current = state.resources.get(key);
+
+            if (current == null) {
+                current = new VersionedResource(resource, changeVersion);
+                this.removed.remove(key);
+                changed = true;
+            }
+
+            resources.put(key, current);
+        }
+
+        for (final Entry<String, VersionedResource> entry : state.resources.entrySet()) {
+            if (!resources.containsKey(entry.getKey())) {
+                this.removed.put(entry.getKey(), new VersionedResource(entry.getValue().resource, changeVersion));
+                changed = true;
+            }
+        }
+
+        state.resources = resources;
+
+        if (changed) {
+            this.version = changeVersion;
+            pruneRemoved();
+        }
+    }
+
+    private void pruneRemoved() {
+        final Iterator<VersionedResource> iterator = this.removed.values().iterator();
+
+        while (this.removed.size() > MAX_REMOVED_RESOURCES && iterator.hasNext()) {
+            // the changes up to this version cannot be computed anymore
+            this.oldestDeltaVersion = iterator.next().version;
+            iterator.remove();
+        }
+    }
+
+    private static String getKey(final SystemResourceInfo resource) {
+        return resource.getTypeString() + '/' + resource.getName() + '/' + resource.getVersion();
+    }
+
+    private static final class SectionState {
+
+        private Loader loader;
+        private boolean tracked;
+        private boolean dirty = true;
+        private long maxAgeNanos;
+        private long loadedAt;
+        private LinkedHashMap<String, VersionedResource> resources = new LinkedHashMap<>();
+
+        private boolean isStale() {
+            return !this.tracked || this.dirty
+                    || this.maxAgeNanos > 0 && System.nanoTime() - this.loadedAt >= this.maxAgeNanos;
+        }
+    }
+
+    private static final class VersionedResource {
+
+        private final SystemResourceInfo resource;
+        private final long version;
+
+        private VersionedResource(final SystemResourceInfo resource, final long version) {
+            this.resource = resource;
+            this.version = version;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,13 @@ import static org.eclipse.kura.cloudconnection.request.RequestHandlerMessageCons
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Dictionary;
+import java.util.Hashtable;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.eclipse.kura.KuraErrorCode;
 import org.eclipse.kura.KuraException;
@@ -34,6 +37,8 @@ import org.eclipse.kura.configuration.ConfigurableComponent;
 import org.eclipse.kura.container.orchestration.ContainerInstanceDescriptor;
 import org.eclipse.kura.container.orchestration.ContainerOrchestrationService;
 import org.eclipse.kura.container.orchestration.ImageInstanceDescriptor;
+import org.eclipse.kura.container.orchestration.listener.ContainerOrchestrationServiceListener;
+import org.eclipse.kura.core.inventory.InventoryCache.Section;
 import org.eclipse.kura.core.inventory.resources.ContainerImage;
 import org.eclipse.kura.core.inventory.resources.ContainerImages;
 import org.eclipse.kura.core.inventory.resources.DockerContainer;
@@ -45,6 +50,7 @@ import org.eclipse.kura.core.inventory.resources.SystemDeploymentPackage;
 import org.eclipse.kura.core.inventory.resources.SystemDeploymentPackages;
 import org.eclipse.kura.core.inventory.resources.SystemPackage;
 import org.eclipse.kura.core.inventory.resources.SystemPackages;
+import org.eclipse.kura.core.inventory.resources.SystemResourcesDelta;
 import org.eclipse.kura.core.inventory.resources.SystemResourcesInfo;
 import org.eclipse.kura.marshalling.Marshaller;
 import org.eclipse.kura.marshalling.Unmarshaller;
@@ -56,11 +62,16 @@ import org.eclipse.kura.system.SystemService;
 import org.eclipse.kura.util.service.ServiceUtil;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.BundleListener;
 import org.osgi.framework.ServiceReference;
+import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.deploymentadmin.BundleInfo;
 import org.osgi.service.deploymentadmin.DeploymentAdmin;
 import org.osgi.service.deploymentadmin.DeploymentPackage;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +86,8 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
     public static final String RESOURCE_DOCKER_CONTAINERS = "containers";
     public static final String RESOURCE_CONTAINER_IMAGES = "images";
     public static final String INVENTORY = "inventory";
+    public static final String RESOURCE_CHANGES = "changes";
+    public static final String SINCE_METRIC = "since";
 
     private static final String START = "_start";
     private static final String STOP = "_stop";
@@ -94,12 +107,32 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
     private static final String ERROR_GETTING_RESOURCE = "Error getting resource {}";
     private static final String MISSING_MESSAGE_BODY = "missing message body";
 
+    private static final String EVENT_TOPIC_DEPLOYMENT_ADMIN_COMPLETE = "org/osgi/service/deployment/COMPLETE";
+
+    // the container orchestration service does not notify the changes of the containers
+    private static final long CONTAINERS_MAX_AGE_MS = 30000;
+
     private DeploymentAdmin deploymentAdmin;
     private SystemService systemService;
     private BundleContext bundleContext;
 
     private ContainerOrchestrationService containerOrchestrationService;
 
+    private final InventoryCache inventoryCache = new InventoryCache();
+    private final BundleListener bundleListener = this::bundleChanged;
+    private final ContainerOrchestrationServiceListener containerListener = new ContainerListener();
+
+    private ServiceRegistration<EventHandler> deploymentEventHandlerRegistration;
+    private PackageDatabaseWatcher packageDatabaseWatcher;
+
+    public InventoryHandlerV1() {
+        this.inventoryCache.setLoader(Section.SYSTEM_PACKAGES, this::loadSystemPackages);
+        this.inventoryCache.setLoader(Section.BUNDLES, this::loadBundles);
+        this.inventoryCache.setLoader(Section.DEPLOYMENT_PACKAGES, this::loadDeploymentPackages);
+        this.inventoryCache.setLoader(Section.CONTAINERS, this::loadContainers);
+        this.inventoryCache.setLoader(Section.CONTAINER_IMAGES, this::loadContainerImages);
+    }
+
     // ----------------------------------------------------------------
     //
     // Dependencies
@@ -108,11 +141,17 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
 
     public void setContainerOrchestrationService(ContainerOrchestrationService containerOrchestrationService) {
         this.containerOrchestrationService = containerOrchestrationService;
+        containerOrchestrationService.registerListener(this.containerListener);
+        this.inventoryCache.setTracked(Section.CONTAINERS, true, CONTAINERS_MAX_AGE_MS);
+        this.inventoryCache.setTracked(Section.CONTAINER_IMAGES, true, CONTAINERS_MAX_AGE_MS);
     }
 
     public void unsetContainerOrchestrationService(ContainerOrchestrationService containerOrchestrationService) {
+        containerOrchestrationService.unregisterListener(this.containerListener);
         if (this.containerOrchestrationService == containerOrchestrationService) {
             this.containerOrchestrationService = null;
+            this.inventoryCache.setTracked(Section.CONTAINERS, false, 0);
+            this.inventoryCache.setTracked(Section.CONTAINER_IMAGES, false, 0);
         }
     }
 
@@ -161,10 +200,38 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
     protected void activate(ComponentContext componentContext) {
         logger.info("Inventory v1 is starting");
         this.bundleContext = componentContext.getBundleContext();
+
+        this.bundleContext.addBundleListener(this.bundleListener);
+        this.inventoryCache.setTracked(Section.BUNDLES, true, 0);
+
+        Dictionary<String, Object> props = new Hashtable<>();
+        props.put(EventConstants.EVENT_TOPIC, new String[] { EVENT_TOPIC_DEPLOYMENT_ADMIN_COMPLETE });
+        this.deploymentEventHandlerRegistration = this.bundleContext.registerService(EventHandler.class,
+                event -> this.inventoryCache.invalidate(Section.DEPLOYMENT_PACKAGES), props);
+        this.inventoryCache.setTracked(Section.DEPLOYMENT_PACKAGES, true, 0);
+
+        this.packageDatabaseWatcher = new PackageDatabaseWatcher(PackageDatabaseWatcher.DEFAULT_DATABASE_DIRECTORIES,
+                () -> this.inventoryCache.invalidate(Section.SYSTEM_PACKAGES));
+        this.inventoryCache.setTracked(Section.SYSTEM_PACKAGES, this.packageDatabaseWatcher.start(), 0);
     }
 
     protected void deactivate() {
         logger.info("Bundle {} is deactivating!", APP_ID);
+
+        this.packageDatabaseWatcher.close();
+        this.packageDatabaseWatcher = null;
+
+        if (this.deploymentEventHandlerRegistration != null) {
+            this.deploymentEventHandlerRegistration.unregister();
+            this.deploymentEventHandlerRegistration = null;
+        }
+
+        this.bundleContext.removeBundleListener(this.bundleListener);
+
+        this.inventoryCache.setTracked(Section.SYSTEM_PACKAGES, false, 0);
+        this.inventoryCache.setTracked(Section.BUNDLES, false, 0);
+        this.inventoryCache.setTracked(Section.DEPLOYMENT_PACKAGES, false, 0);
+
         this.bundleContext = null;
     }
 
@@ -180,7 +247,9 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
         List<String> resources = extractResources(reqMessage);
 
         KuraPayload resPayload;
-        if (resources.get(0).equals(INVENTORY)) {
+        if (resources.get(0).equals(INVENTORY) && resources.size() > 1 && resources.get(1).equals(RESOURCE_CHANGES)) {
+            resPayload = doGetInventoryChanges(reqMessage);
+        } else if (resources.get(0).equals(INVENTORY)) {
             resPayload = doGetInventory();
         } else if (resources.get(0).equals(RESOURCE_DEPLOYMENT_PACKAGES)) {
             resPayload = doGetPackages();
@@ -239,6 +308,7 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
 
                 this.containerOrchestrationService
                         .startContainer(findFirstMatchingContainer(extractContainerRef(reqMessage)).getContainerId());
+                this.inventoryCache.invalidate(Section.CONTAINERS);
 
                 return success();
             } else if (STOP_CONTAINER.equals(resources)) {
@@ -249,6 +319,7 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
 
                 this.containerOrchestrationService
                         .stopContainer(findFirstMatchingContainer(extractContainerRef(reqMessage)).getContainerId());
+                this.inventoryCache.invalidate(Section.CONTAINERS);
                 return success();
             } else if (DELETE_IMAGE.equals(resources)) {
 
@@ -258,6 +329,7 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
 
                 this.containerOrchestrationService
                         .deleteImage(findFirstMatchingImage(extractContainerImageRef(reqMessage)).getImageId());
+                this.inventoryCache.invalidate(Section.CONTAINER_IMAGES);
                 return success();
             }
         } catch (final KuraException e) {
@@ -373,74 +445,57 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
     }
 
     private KuraPayload doGetInventory() {
-        List<SystemResourceInfo> inventory = new ArrayList<>();
-        // get System Packages
-        try {
-            inventory.addAll(this.systemService.getSystemPackages());
-        } catch (KuraProcessExecutionErrorException e) {
-            logger.error(ERROR_GETTING_RESOURCE, RESOURCE_SYSTEM_PACKAGES, e);
-        }
-
-        // get Bundles
-        Bundle[] bundles = this.bundleContext.getBundles();
-        Arrays.asList(bundles).stream().forEach(b -> inventory.add(
-                new SystemResourceInfo(b.getSymbolicName(), b.getVersion().toString(), SystemResourceType.BUNDLE)));
-
-        // get Deployment Packages
-        DeploymentPackage[] dps = this.deploymentAdmin.listDeploymentPackages();
-        Arrays.asList(dps).stream().forEach(dp -> inventory
-                .add(new SystemResourceInfo(dp.getName(), dp.getVersion().toString(), SystemResourceType.DP)));
-
-        // get Docker Containers
-        if (this.containerOrchestrationService != null) {
-            try {
-                logger.info("Creating docker inventory");
-                List<ContainerInstanceDescriptor> containers = this.containerOrchestrationService
-                        .listContainerDescriptors();
-                containers.stream().forEach(
-                        container -> inventory.add(new SystemResourceInfo(container.getContainerName().replace("/", ""),
-                                container.getContainerImage() + ":" + container.getContainerImageTag().split(":")[0],
-                                SystemResourceType.DOCKER)));
-            } catch (Exception e) {
-                logger.error("Could not connect to docker");
-            }
-
-        }
-
-        // get Container Images
-        if (this.containerOrchestrationService != null) {
-            try {
-                logger.info("Creating container images inventory");
-                List<ImageInstanceDescriptor> images = this.containerOrchestrationService
-                        .listImageInstanceDescriptors();
-                images.stream().forEach(image -> inventory.add(new SystemResourceInfo(image.getImageName(),
-                        image.getImageTag(), SystemResourceType.CONTAINER_IMAGE)));
-            } catch (Exception e) {
-                logger.error("Could not connect to container-engine");
-            }
+        SystemResourcesInfo systemResourcesInfo = this.inventoryCache.getInventory();
 
+        KuraResponsePayload respPayload = new KuraResponsePayload(KuraResponsePayload.RESPONSE_CODE_OK);
+        try {
+            String s = marshal(systemResourcesInfo);
+            respPayload.setTimestamp(new Date());
+            respPayload.setBody(s.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e1) {
+            logger.error("Error getting inventory", e1);
+            respPayload.setResponseCode(KuraResponsePayload.RESPONSE_CODE_ERROR);
         }
+        return respPayload;
+    }
 
-        inventory.sort(Comparator.comparing(SystemResourceInfo::getName));
-        SystemResourcesInfo systemResourcesInfo = new SystemResourcesInfo(inventory);
+    private KuraPayload doGetInventoryChanges(KuraMessage reqMessage) throws KuraException {
+        SystemResourcesDelta systemResourcesDelta = this.inventoryCache.getChanges(extractSince(reqMessage));
 
         KuraResponsePayload respPayload = new KuraResponsePayload(KuraResponsePayload.RESPONSE_CODE_OK);
         try {
-            String s = marshal(systemResourcesInfo);
+            String s = marshal(systemResourcesDelta);
             respPayload.setTimestamp(new Date());
             respPayload.setBody(s.getBytes(StandardCharsets.UTF_8));
         } catch (Exception e1) {
-            logger.error("Error getting inventory", e1);
+            logger.error("Error getting inventory changes", e1);
             respPayload.setResponseCode(KuraResponsePayload.RESPONSE_CODE_ERROR);
         }
         return respPayload;
     }
 
+    private long extractSince(KuraMessage reqMessage) throws KuraException {
+        final Object since = reqMessage.getPayload().getMetric(SINCE_METRIC);
+
+        if (since == null) {
+            return 0;
+        } else if (since instanceof Number) {
+            return ((Number) since).longValue();
+        }
+
+        try {
+            return Long.parseLong(since.toString());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid inventory version: {}", since);
+            throw new KuraException(KuraErrorCode.BAD_REQUEST);
+        }
+    }
+
     private KuraPayload doGetSystemPackages() {
         List<SystemResourceInfo> systemResourceList;
         KuraResponsePayload respPayload = new KuraResponsePayload(KuraResponsePayload.RESPONSE_CODE_OK);
         try {
-            systemResourceList = this.systemService.getSystemPackages();
+            systemResourceList = this.inventoryCache.getResources(Section.SYSTEM_PACKAGES);
 
             List<SystemPackage> systemPackageList = new ArrayList<>();
 
@@ -511,6 +566,61 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
         return respPayload;
     }
 
+    private List<SystemResourceInfo> loadSystemPackages() throws KuraProcessExecutionErrorException {
+        return this.systemService.getSystemPackages();
+    }
+
+    private List<SystemResourceInfo> loadBundles() {
+        return Arrays.stream(this.bundleContext.getBundles())
+                .map(b -> new SystemResourceInfo(b.getSymbolicName(), b.getVersion().toString(),
+                        SystemResourceType.BUNDLE))
+                .collect(Collectors.toList());
+    }
+
+    private List<SystemResourceInfo> loadDeploymentPackages() {
+        return Arrays.stream(this.deploymentAdmin.listDeploymentPackages())
+                .map(dp -> new SystemResourceInfo(dp.getName(), dp.getVersion().toString(), SystemResourceType.DP))
+                .collect(Collectors.toList());
+    }
+
+    private List<SystemResourceInfo> loadContainers() {
+        final ContainerOrchestrationService service = this.containerOrchestrationService;
+
+        if (service == null) {
+            return Collections.emptyList();
+        }
+
+        logger.debug("Creating docker inventory");
+        return service.listContainerDescriptors().stream()
+                .map(container -> new SystemResourceInfo(container.getContainerName().replace("/", ""),
+                        container.getContainerImage() + ":" + container.getContainerImageTag().split(":")[0],
+                        SystemResourceType.DOCKER))
+                .collect(Collectors.toList());
+    }
+
+    private List<SystemResourceInfo> loadContainerImages() {
+        final ContainerOrchestrationService service = this.containerOrchestrationService;
+
+        if (service == null) {
+            return Collections.emptyList();
+        }
+
+        logger.debug("Creating container images inventory");
+        return service.listImageInstanceDescriptors().stream()
+                .map(image -> new SystemResourceInfo(image.getImageName(), image.getImageTag(),
+                        SystemResourceType.CONTAINER_IMAGE))
+                .collect(Collectors.toList());
+    }
+
+    private void bundleChanged(BundleEvent event) {
+        final int type = event.getType();
+
+        if (type == BundleEvent.INSTALLED || type == BundleEvent.UNINSTALLED || type == BundleEvent.UPDATED) {
+            this.inventoryCache.invalidate(Section.BUNDLES);
+            this.inventoryCache.invalidate(Section.DEPLOYMENT_PACKAGES);
+        }
+    }
+
     private <T> ServiceReference<T>[] getJsonMarshallers(final Class<T> classz) {
         String filterString = String.format("(kura.service.pid=%s)",
                 "org.eclipse.kura.json.marshaller.unmarshaller.provider");
@@ -722,4 +832,27 @@ public class InventoryHandlerV1 implements ConfigurableComponent, RequestHandler
         response.setTimestamp(new Date());
         return new KuraMessage(response);
     }
+
+    private class ContainerListener implements ContainerOrchestrationServiceListener {
+
+        @Override
+        public void onConnect() {
+            invalidateContainers();
+        }
+
+        @Override
+        public void onDisconnect() {
+            invalidateContainers();
+        }
+
+        @Override
+        public void onDisabled() {
+            invalidateContainers();
+        }
+
+        private void invalidateContainers() {
+            InventoryHandlerV1.this.inventoryCache.invalidate(Section.CONTAINERS);
+            InventoryHandlerV1.this.inventoryCache.invalidate(Section.CONTAINER_IMAGES);
+        }
+    }
 }
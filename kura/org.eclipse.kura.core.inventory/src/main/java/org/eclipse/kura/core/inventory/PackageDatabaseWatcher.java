@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.inventory;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Notifies the changes of the databases of the system package managers, that are modified by every package install,
+ * upgrade or removal.
+ * <p>
+ * On Linux the watch service is backed by inotify, so no polling is involved.
+ */
+final class PackageDatabaseWatcher implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PackageDatabaseWatcher.class);
+
+    static final List<Path> DEFAULT_DATABASE_DIRECTORIES = Arrays.asList( //
+            Paths.get("/var/lib/dpkg"), //
+            Paths.get("/var/lib/rpm"), //
+            Paths.get("/usr/lib/sysimage/rpm"), //
+            Paths.get("/lib/apk/db"));
+
+    private final List<Path> directories;
+    private final Runnable listener;
+
+    private WatchService watchService;
+    private Thread thread;
+
+    PackageDatabaseWatcher(final List<Path> directories, final Runnable listener) {
+        this.directories = directories;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts watching the package databases.
+     *
+     * @return {@code true} if at least one of the package databases is being watched
+     */
+    synchronized boolean start() {
+        if (this.watchService != null) {
+            return true;
+        }
+
+        final WatchService service;
+
+        try {
+            service = FileSystems.getDefault().newWatchService();
+        } catch (final IOException | UnsupportedOperationException e) {
+            logger.warn("Failed to create watch service, package database changes will not be tracked", e);
+            return false;
+        }
+
+        boolean registered = false;
+
+        for (final Path directory : this.directories) {
+            if (!Files.isDirectory(directory)) {
+                continue;
+            }
+
+            try {
+                directory.register(service, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                logger.debug("Watching package database {}", directory);
+                registered = true;
+            } catch (final IOException e) {
+                logger.warn("Failed to watch package database {}", directory, e);
+            }
+        }
+
+        if (!registered) {
+            closeQuietly(service);
+            return false;
+        }
+
+        this.watchService = service;
+        this.thread = new Thread(() -> run(service), "InventoryPackageDatabaseWatcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+
+        return true;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.watchService == null) {
+            return;
+        }
+
+        closeQuietly(this.watchService);
+        this.thread.interrupt();
+
+        this.watchService = null;
+        this.thread = null;
+    }
+
+    private void run(final WatchService service) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final WatchKey key = service.take();
+
+                // the content of the events is not relevant, overflows are notified as well
+                key.pollEvents();
+                key.reset();
+
+                this.listener.run();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            // closed
+        } catch (final Exception e) {
+            logger.warn("Package database watcher failed", e);
+        }
+    }
+
+    private static void closeQuietly(final WatchService service) {
+        try {
+            service.close();
+        } catch (final IOException e) {
+            logger.debug("Failed to close watch service", e);
+        }
+    }
+}
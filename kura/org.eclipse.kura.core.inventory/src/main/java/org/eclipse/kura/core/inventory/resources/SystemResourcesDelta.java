@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.inventory.resources;
+
+import java.util.List;
+
+import org.eclipse.kura.system.SystemResourceInfo;
+
+/**
+ * The changes of the inventory between two versions.
+ * <p>
+ * A resource whose version changes is reported as removed with the old version and added with the new one. If the
+ * changes since the requested version are not available anymore, the delta is a resync: it contains the whole
+ * inventory as added resources and the client should discard its copy.
+ */
+public class SystemResourcesDelta {
+
+    private final long since;
+    private final long inventoryVersion;
+    private final boolean resync;
+    private final List<SystemResourceInfo> added;
+    private final List<SystemResourceInfo> removed;
+
+    public SystemResourcesDelta(long since, long inventoryVersion, boolean resync, List<SystemResourceInfo> added,
+            List<SystemResourceInfo> removed) {
+        this.since = since;
+        this.inventoryVersion = inventoryVersion;
+        this.resync = resync;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    public long getSince() {
+        return this.since;
+    }
+
+    public long getInventoryVersion() {
+        return this.inventoryVersion;
+    }
+
+    public boolean isResync() {
+        return this.resync;
+    }
+
+    public List<SystemResourceInfo> getAdded() {
+        return this.added;
+    }
+
+    public List<SystemResourceInfo> getRemoved() {
+        return this.removed;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,24 @@
 package org.eclipse.kura.core.inventory.resources;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.kura.system.SystemResourceInfo;
 
 public class SystemResourcesInfo {
 
     private List<SystemResourceInfo> resources;
+    private Long inventoryVersion;
 
     public SystemResourcesInfo(List<SystemResourceInfo> resources) {
         this.resources = resources;
     }
 
+    public SystemResourcesInfo(List<SystemResourceInfo> resources, long inventoryVersion) {
+        this.resources = resources;
+        this.inventoryVersion = inventoryVersion;
+    }
+
     public List<SystemResourceInfo> getSystemResources() {
         return this.resources;
     }
@@ -32,4 +39,14 @@ public class SystemResourcesInfo {
         this.resources = resources;
     }
 
+    /**
+     * Returns the version of the inventory the resources have been read from, it can be used to request the changes
+     * that occurred afterwards.
+     *
+     * @return the inventory version, if available
+     */
+    public Optional<Long> getInventoryVersion() {
+        return Optional.ofNullable(this.inventoryVersion);
+    }
+
 }
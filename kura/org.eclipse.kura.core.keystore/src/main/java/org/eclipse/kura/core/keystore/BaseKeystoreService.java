@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -116,6 +116,16 @@ public abstract class BaseKeystoreService implements KeystoreService, Configurab
 
     protected abstract KeystoreInstance loadKeystore() throws KuraException;
 
+    /**
+     * Returns a {@link KeystoreInstance} that can be modified and then passed to
+     * {@link #saveKeystore(KeystoreInstance)}, it is also used for the {@link KeyStore} returned by the default
+     * implementation of {@link #getKeyStore()}. Implementations that share the instance returned by {@link #loadKeystore()} among
+     * readers must return a private copy.
+     */
+    protected KeystoreInstance loadKeystoreForUpdate() throws KuraException {
+        return loadKeystore();
+    }
+
     protected abstract void saveKeystore(KeystoreInstance keystore)
             throws IOException, KeyStoreException, NoSuchAlgorithmException, CertificateException;
 
@@ -124,7 +134,7 @@ public abstract class BaseKeystoreService implements KeystoreService, Configurab
     @Override
     public KeyStore getKeyStore() throws KuraException {
 
-        return loadKeystore().getKeystore();
+        return loadKeystoreForUpdate().getKeystore();
     }
 
     public void activate(ComponentContext context, Map<String, Object> properties) {
@@ -157,8 +167,10 @@ public abstract class BaseKeystoreService implements KeystoreService, Configurab
         if (isNull(alias)) {
             throw new IllegalArgumentException("Key Pair alias cannot be null!");
         }
-        KeystoreInstance ks = loadKeystore();
+        return getEntry(loadKeystore(), alias);
+    }
 
+    private Entry getEntry(final KeystoreInstance ks, final String alias) throws KuraException {
         try {
             if (ks.getKeystore().entryInstanceOf(alias, PrivateKeyEntry.class)
                     || ks.getKeystore().entryInstanceOf(alias, SecretKeyEntry.class)) {
@@ -176,7 +188,7 @@ public abstract class BaseKeystoreService implements KeystoreService, Configurab
         if (isNull(alias) || alias.trim().isEmpty() || isNull(entry)) {
             throw new IllegalArgumentException("Input cannot be null or empty!");
         }
-        KeystoreInstance ks = loadKeystore();
+        KeystoreInstance ks = loadKeystoreForUpdate();
 
         final ProtectionParameter protectionParameter;
 
@@ -201,12 +213,12 @@ public abstract class BaseKeystoreService implements KeystoreService, Configurab
     public Map<String, Entry> getEntries() throws KuraException {
         Map<String, Entry> result = new HashMap<>();
 
-        KeyStore ks = getKeyStore();
+        KeystoreInstance ks = loadKeystore();
         try {
-            List<String> aliases = Collections.list(ks.aliases());
+            List<String> aliases = Collections.list(ks.getKeystore().aliases());
 
             for (String alias : aliases) {
-                Entry tempEntry = getEntry(alias);
+                Entry tempEntry = getEntry(ks, alias);
                 result.put(alias, tempEntry);
             }
             return result;
@@ -226,7 +238,7 @@ public abstract class BaseKeystoreService implements KeystoreService, Configurab
             return;
         }
 
-        KeystoreInstance ks = loadKeystore();
+        KeystoreInstance ks = loadKeystoreForUpdate();
         try {
             ks.getKeystore().deleteEntry(alias);
             saveKeystore(ks);
@@ -386,7 +398,7 @@ public abstract class BaseKeystoreService implements KeystoreService, Configurab
 
     @Override
     public List<String> getAliases() throws KuraException {
-        KeyStore ks = getKeyStore();
+        KeyStore ks = loadKeystore().getKeystore();
         try {
             return Collections.list(ks.aliases());
         } catch (GeneralSecurityException e) {
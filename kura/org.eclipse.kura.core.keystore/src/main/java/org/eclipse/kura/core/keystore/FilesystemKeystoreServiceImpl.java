@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,10 @@
  *******************************************************************************/
 package org.eclipse.kura.core.keystore;
 
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
 import static org.eclipse.kura.core.keystore.FilesystemKeystoreServiceOptions.KEY_KEYSTORE_PASSWORD;
 
 import java.io.File;
@@ -21,6 +25,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigInteger;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStore.Entry;
 import java.security.KeyStore.PasswordProtection;
@@ -28,17 +42,21 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.UnrecoverableEntryException;
+import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.kura.KuraErrorCode;
 import org.eclipse.kura.KuraException;
@@ -62,6 +80,9 @@ public class FilesystemKeystoreServiceImpl extends BaseKeystoreService {
     private ScheduledExecutorService selfUpdaterExecutor;
     private ScheduledFuture<?> selfUpdaterFuture;
 
+    private final AtomicReference<CachedKeystore> cachedKeystore = new AtomicReference<>();
+    private volatile KeystoreFileWatcher keystoreFileWatcher;
+
     // ----------------------------------------------------------------
     //
     // Dependencies
@@ -102,6 +123,8 @@ public class FilesystemKeystoreServiceImpl extends BaseKeystoreService {
             setRandomPassword();
         }
 
+        startKeystoreFileWatcher();
+
         super.activate(context, properties);
 
         logger.info("Bundle {} has started!", properties.get(KURA_SERVICE_PID));
@@ -123,7 +146,9 @@ public class FilesystemKeystoreServiceImpl extends BaseKeystoreService {
             }
 
             this.keystoreServiceOptions = new FilesystemKeystoreServiceOptions(properties, this.cryptoService);
+            this.cachedKeystore.set(null);
 
+            startKeystoreFileWatcher();
         }
 
         super.updated(properties);
@@ -142,22 +167,64 @@ public class FilesystemKeystoreServiceImpl extends BaseKeystoreService {
             this.selfUpdaterFuture.cancel(true);
         }
 
+        stopKeystoreFileWatcher();
+
         super.deactivate();
     }
 
     @Override
     protected void saveKeystore(KeystoreInstance ks)
             throws IOException, KeyStoreException, NoSuchAlgorithmException, CertificateException {
-        try (FileOutputStream tsOutStream = new FileOutputStream(this.keystoreServiceOptions.getKeystorePath());) {
+        final FilesystemKeystoreServiceOptions options = this.keystoreServiceOptions;
+
+        try (FileOutputStream tsOutStream = new FileOutputStream(options.getKeystorePath());) {
             ks.getKeystore().store(tsOutStream, ks.getPassword());
         }
+
+        // the saved instance is not modified anymore by the caller, it becomes the new snapshot
+        this.cachedKeystore
+                .set(new CachedKeystore(options, ks, KeystoreFileState.of(options.getKeystorePath())));
     }
 
     @Override
     protected KeystoreInstance loadKeystore() throws KuraException {
+        final FilesystemKeystoreServiceOptions options = this.keystoreServiceOptions;
+        final CachedKeystore cached = this.cachedKeystore.get();
+
+        if (cached != null && cached.options == options && (isKeystoreFileWatched() || cached.isUpToDate())) {
+            return cached.keystore;
+        }
+
+        final KeystoreFileState fileState = KeystoreFileState.of(options.getKeystorePath());
+        final KeystoreInstance result = loadKeystore(options);
+
+        // do not cache the result if the file has been written while loading it
+        if (fileState.equals(KeystoreFileState.of(options.getKeystorePath()))) {
+            this.cachedKeystore.compareAndSet(cached, new CachedKeystore(options, result, fileState));
+        }
+
+        return result;
+    }
+
+    @Override
+    protected KeystoreInstance loadKeystoreForUpdate() throws KuraException {
+        // the cached instance is shared with concurrent readers and must not be modified or handed out
         return loadKeystore(this.keystoreServiceOptions);
     }
 
+    @Override
+    public KeyStore getKeyStore() throws KuraException {
+        // the caller can modify the returned instance, it is copied from the cached snapshot without reading the file
+        try {
+            return copyKeystore(loadKeystore());
+        } catch (final UnrecoverableKeyException e) {
+            logger.debug("failed to copy keystore, loading it from file", e);
+            return super.getKeyStore();
+        } catch (final GeneralSecurityException | IOException e) {
+            throw new KuraException(KuraErrorCode.BAD_REQUEST, e, "Failed to get the KeyStore");
+        }
+    }
+
     @Override
     protected String getCrlStorePath() {
         return this.keystoreServiceOptions.getKeystorePath() + ".crl";
@@ -178,6 +245,44 @@ public class FilesystemKeystoreServiceImpl extends BaseKeystoreService {
         }
     }
 
+    private boolean isKeystoreFileWatched() {
+        final KeystoreFileWatcher watcher = this.keystoreFileWatcher;
+
+        return watcher != null && watcher.isActive();
+    }
+
+    private void startKeystoreFileWatcher() {
+        stopKeystoreFileWatcher();
+
+        final String keystorePath = this.keystoreServiceOptions.getKeystorePath();
+
+        if (keystorePath == null) {
+            return;
+        }
+
+        try {
+            this.keystoreFileWatcher = new KeystoreFileWatcher(Paths.get(keystorePath).toAbsolutePath());
+        } catch (final Exception e) {
+            logger.warn("Failed to watch keystore file {}, changes will be detected on access", keystorePath, e);
+        }
+    }
+
+    private void stopKeystoreFileWatcher() {
+        if (this.keystoreFileWatcher != null) {
+            this.keystoreFileWatcher.close();
+            this.keystoreFileWatcher = null;
+        }
+    }
+
+    private void invalidateCachedKeystoreIfChanged() {
+        final CachedKeystore cached = this.cachedKeystore.get();
+
+        if (cached != null && !cached.isUpToDate()) {
+            logger.debug("Keystore file {} changed", cached.options.getKeystorePath());
+            this.cachedKeystore.compareAndSet(cached, null);
+        }
+    }
+
     private boolean keystoreExists(String keystorePath) {
         return keystorePath != null && new File(keystorePath).isFile();
     }
@@ -281,6 +386,7 @@ public class FilesystemKeystoreServiceImpl extends BaseKeystoreService {
         try {
             updateKeyEntriesPasswords(ks, password);
             saveKeystore(ks, password);
+            this.cachedKeystore.set(null);
 
             this.cryptoService.setKeyStorePassword(((KeystoreInstanceImpl) ks).path, password);
         } catch (NoSuchAlgorithmException | CertificateException | KeyStoreException | UnrecoverableEntryException
@@ -305,6 +411,26 @@ public class FilesystemKeystoreServiceImpl extends BaseKeystoreService {
         }
     }
 
+    private static KeyStore copyKeystore(final KeystoreInstance source) throws GeneralSecurityException, IOException {
+        final KeyStore sourceKeystore = source.getKeystore();
+        final char[] password = source.getPassword();
+
+        final KeyStore result = KeyStore.getInstance(sourceKeystore.getType());
+        result.load(null, password);
+
+        for (final String alias : Collections.list(sourceKeystore.aliases())) {
+            if (sourceKeystore.isKeyEntry(alias)) {
+                // fails if the key is not protected by the keystore password
+                result.setKeyEntry(alias, sourceKeystore.getKey(alias, password), password,
+                        sourceKeystore.getCertificateChain(alias));
+            } else {
+                result.setCertificateEntry(alias, sourceKeystore.getCertificate(alias));
+            }
+        }
+
+        return result;
+    }
+
     private synchronized KeystoreInstance loadKeystore(final FilesystemKeystoreServiceOptions options)
             throws KuraException {
         final List<char[]> passwords = new ArrayList<>(2);
@@ -394,4 +520,132 @@ public class FilesystemKeystoreServiceImpl extends BaseKeystoreService {
         }
 
     }
-}
\ No newline at end of file
+
+    private static class CachedKeystore {
+
+        private final FilesystemKeystoreServiceOptions options;
+        private final KeystoreInstance keystore;
+        private final KeystoreFileState fileState;
+
+        CachedKeystore(final FilesystemKeystoreServiceOptions options, final KeystoreInstance keystore,
+                final KeystoreFileState fileState) {
+            this.options = options;
+            this.keystore = keystore;
+            this.fileState = fileState;
+        }
+
+        boolean isUpToDate() {
+            return this.fileState.equals(KeystoreFileState.of(this.options.getKeystorePath()));
+        }
+    }
+
+    private static class KeystoreFileState {
+
+        private final Object fileKey;
+        private final FileTime lastModifiedTime;
+        private final long size;
+
+        private KeystoreFileState(final Object fileKey, final FileTime lastModifiedTime, final long size) {
+            this.fileKey = fileKey;
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+        }
+
+        static KeystoreFileState of(final String path) {
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(Paths.get(path),
+                        BasicFileAttributes.class);
+
+                return new KeystoreFileState(attributes.fileKey(), attributes.lastModifiedTime(), attributes.size());
+            } catch (final Exception e) {
+                return new KeystoreFileState(null, null, -1);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.fileKey, this.lastModifiedTime, this.size);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            KeystoreFileState other = (KeystoreFileState) obj;
+            return Objects.equals(this.fileKey, other.fileKey)
+                    && Objects.equals(this.lastModifiedTime, other.lastModifiedTime) && this.size == other.size;
+        }
+    }
+
+    private class KeystoreFileWatcher implements Runnable {
+
+        private final Path fileName;
+        private final WatchService watchService;
+        private volatile boolean active = true;
+
+        KeystoreFileWatcher(final Path keystorePath) throws IOException {
+            this.fileName = keystorePath.getFileName();
+            this.watchService = keystorePath.getFileSystem().newWatchService();
+
+            try {
+                keystorePath.getParent().register(this.watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            } catch (final IOException e) {
+                this.watchService.close();
+                throw e;
+            }
+
+            final Thread thread = new Thread(this, "KeystoreFileWatcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        boolean isActive() {
+            return this.active;
+        }
+
+        void close() {
+            this.active = false;
+
+            try {
+                this.watchService.close();
+            } catch (final IOException e) {
+                logger.debug("failed to close watch service", e);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                boolean valid = true;
+
+                while (valid) {
+                    final WatchKey key = this.watchService.take();
+
+                    boolean changed = false;
+
+                    for (final WatchEvent<?> event : key.pollEvents()) {
+                        changed |= event.kind() == OVERFLOW || this.fileName.equals(event.context());
+                    }
+
+                    if (changed) {
+                        invalidateCachedKeystoreIfChanged();
+                    }
+
+                    valid = key.reset();
+                }
+
+                logger.warn("Keystore directory is no longer accessible, changes will be detected on access");
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final ClosedWatchServiceException e) {
+                logger.debug("keystore file watcher closed");
+            } finally {
+                this.active = false;
+            }
+        }
+    }
+}
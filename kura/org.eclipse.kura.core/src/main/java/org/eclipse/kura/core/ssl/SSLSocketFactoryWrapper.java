@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.net.Socket;
 import java.net.SocketException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Optional;
 
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocket;
@@ -37,11 +38,18 @@ public class SSLSocketFactoryWrapper extends SSLSocketFactory {
     private final String ciphers;
     private final Boolean hostnameVerification;
     private final SSLSocketFactory sslsf;
+    private final Optional<SslHandshakeStatistics> handshakeStatistics;
 
     public SSLSocketFactoryWrapper(SSLSocketFactory sslsf, String ciphers, Boolean hnVerify) {
+        this(sslsf, ciphers, hnVerify, Optional.empty());
+    }
+
+    public SSLSocketFactoryWrapper(SSLSocketFactory sslsf, String ciphers, Boolean hnVerify,
+            Optional<SslHandshakeStatistics> handshakeStatistics) {
         this.sslsf = sslsf;
         this.ciphers = ciphers;
         this.hostnameVerification = hnVerify;
+        this.handshakeStatistics = handshakeStatistics;
     }
 
     @Override
@@ -127,6 +135,15 @@ public class SSLSocketFactoryWrapper extends SSLSocketFactory {
             // update the socket parameters
             sslSocket.setSSLParameters(sslParams);
 
+            if (this.handshakeStatistics.isPresent()) {
+                final SslHandshakeStatistics statistics = this.handshakeStatistics.get();
+                final long creationTime = System.currentTimeMillis();
+                final long creationNanos = System.nanoTime();
+
+                sslSocket.addHandshakeCompletedListener(
+                        e -> statistics.onHandshakeCompleted(e.getSession(), creationTime, creationNanos));
+            }
+
             // Disable the Nagle algorithm.
             socket.setTcpNoDelay(true);
         }
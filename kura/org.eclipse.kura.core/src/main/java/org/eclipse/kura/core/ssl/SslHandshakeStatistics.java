@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.ssl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * Counts the TLS handshakes performed by the sockets of an SSLContext, distinguishing full handshakes from the
+ * abbreviated ones that resumed a cached session.
+ * <p>
+ * Handshake times are measured from the creation of the socket, so they include the TCP connection time for sockets
+ * created unconnected.
+ */
+public class SslHandshakeStatistics {
+
+    private final AtomicLong fullHandshakeCount = new AtomicLong();
+    private final AtomicLong fullHandshakeNanos = new AtomicLong();
+    private final AtomicLong resumedHandshakeCount = new AtomicLong();
+    private final AtomicLong resumedHandshakeNanos = new AtomicLong();
+
+    void onHandshakeCompleted(final SSLSession session, final long socketCreationTime,
+            final long socketCreationNanos) {
+        final long elapsed = System.nanoTime() - socketCreationNanos;
+
+        // a resumed session keeps the creation time of the session established by the original full handshake
+        if (session.getCreationTime() < socketCreationTime) {
+            this.resumedHandshakeCount.incrementAndGet();
+            this.resumedHandshakeNanos.addAndGet(elapsed);
+        } else {
+            this.fullHandshakeCount.incrementAndGet();
+            this.fullHandshakeNanos.addAndGet(elapsed);
+        }
+    }
+
+    public long getFullHandshakeCount() {
+        return this.fullHandshakeCount.get();
+    }
+
+    public long getResumedHandshakeCount() {
+        return this.resumedHandshakeCount.get();
+    }
+
+    public long getAverageFullHandshakeTimeMs() {
+        return average(this.fullHandshakeNanos.get(), this.fullHandshakeCount.get());
+    }
+
+    public long getAverageResumedHandshakeTimeMs() {
+        return average(this.resumedHandshakeNanos.get(), this.resumedHandshakeCount.get());
+    }
+
+    private static long average(final long totalNanos, final long count) {
+        if (count == 0) {
+            return 0;
+        }
+
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos / count);
+    }
+
+    @Override
+    public String toString() {
+        return "full handshakes: " + getFullHandshakeCount() + " (avg " + getAverageFullHandshakeTimeMs()
+                + " ms), resumed handshakes: " + getResumedHandshakeCount() + " (avg "
+                + getAverageResumedHandshakeTimeMs() + " ms)";
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -52,6 +52,7 @@ import javax.net.ssl.CertPathTrustManagerParameters;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
@@ -87,6 +88,7 @@ public class SslManagerServiceImpl implements SslManagerService, ConfigurableCom
     private KeystoreService truststoreKeystoreService;
 
     private Map<ConnectionSslOptions, SSLContext> sslContexts;
+    private final Map<String, SslHandshakeStatistics> handshakeStatistics = new ConcurrentHashMap<>();
 
     private Optional<String> keystoreServicePid = Optional.empty();
     private Optional<String> truststoreKeystoreServicePid = Optional.empty();
@@ -176,8 +178,17 @@ public class SslManagerServiceImpl implements SslManagerService, ConfigurableCom
     public void updated(Map<String, Object> properties) {
         logger.info("updated...");
 
-        this.options = new SslManagerServiceOptions(properties);
-        this.sslContexts = new ConcurrentHashMap<>();
+        final SslManagerServiceOptions newOptions = new SslManagerServiceOptions(properties);
+
+        if (newOptions.equals(this.options)) {
+            // keep the existing SSLContext instances, together with their cached TLS sessions
+            logger.info("SSL options not changed, keeping SSL contexts");
+            this.options = newOptions;
+            return;
+        }
+
+        this.options = newOptions;
+        this.clearSslContexCache();
 
         // Notify listeners that service has been updated
         this.sslServiceListeners.onConfigurationUpdated();
@@ -185,6 +196,8 @@ public class SslManagerServiceImpl implements SslManagerService, ConfigurableCom
 
     protected void deactivate(ComponentContext componentContext) {
         logger.info("deactivate...");
+        this.handshakeStatistics
+                .forEach((name, statistics) -> logger.info("TLS handshake statistics for {}: {}", name, statistics));
         this.sslServiceListeners.close();
     }
 
@@ -308,6 +321,18 @@ public class SslManagerServiceImpl implements SslManagerService, ConfigurableCom
         }
     }
 
+    /**
+     * Returns the TLS handshake statistics of the sockets created by this service, grouped by key alias and key
+     * store. The connections that use the same key alias and key store share the same statistics, even if they
+     * belong to different transports.
+     *
+     * @return an unmodifiable view of the statistics, keyed by {@code <key store>#<key alias>}, or by the key alias
+     *         alone for the key store managed by the {@link KeystoreService} of this service
+     */
+    public Map<String, SslHandshakeStatistics> getHandshakeStatistics() {
+        return Collections.unmodifiableMap(this.handshakeStatistics);
+    }
+
     private KeyStore loadKeystore(String keyStore, char[] keyStorePassword)
             throws KeyStoreException, IOException, NoSuchAlgorithmException, CertificateException {
         KeyStore ks = KeyStore.getInstance(KeyStore.getDefaultType());
@@ -346,29 +371,45 @@ public class SslManagerServiceImpl implements SslManagerService, ConfigurableCom
                 kms = getKeyManagers(options.getKeyStore(), options.getKeyStorePassword(), options.getAlias());
             }
 
-            context = createSSLContext(options.getProtocol(), options.getCiphers(), kms, tms,
-                    options.getHostnameVerification());
+            context = createSSLContext(options, kms, tms, getHandshakeStatistics(options));
             this.sslContexts.put(options, context);
         }
 
         return context;
     }
 
-    private static SSLContext createSSLContext(String protocol, String ciphers, KeyManager[] kms, TrustManager[] tms,
-            boolean hostnameVerification) throws NoSuchAlgorithmException, KeyManagementException {
+    private SslHandshakeStatistics getHandshakeStatistics(final ConnectionSslOptions options) {
+        final String alias = isNull(options.getAlias()) || options.getAlias().isEmpty() ? "default"
+                : options.getAlias();
+        final String name = isNull(options.getKeyStore()) ? alias : options.getKeyStore() + "#" + alias;
+
+        return this.handshakeStatistics.computeIfAbsent(name, n -> new SslHandshakeStatistics());
+    }
+
+    private static SSLContext createSSLContext(ConnectionSslOptions options, KeyManager[] kms, TrustManager[] tms,
+            SslHandshakeStatistics handshakeStatistics) throws NoSuchAlgorithmException, KeyManagementException {
+        final String protocol = options.getProtocol();
+
         // inits the SSL context
         SSLContext sslCtx;
         if (protocol == null || protocol.isEmpty()) {
-            sslCtx = SSLContext.getDefault();
+            // a new instance of the default context, the session cache of the JVM wide one must not be changed
+            sslCtx = SSLContext.getInstance("Default");
         } else {
             sslCtx = SSLContext.getInstance(protocol);
             sslCtx.init(kms, tms, null);
         }
 
+        // client sessions (and TLS 1.3 session tickets) are cached by the SSLContext, they allow abbreviated
+        // handshakes as long as the same instance is reused
+        final SSLSessionContext sessionContext = sslCtx.getClientSessionContext();
+        sessionContext.setSessionCacheSize(options.getSslManagerOpts().getSslSessionCacheSize());
+        sessionContext.setSessionTimeout(options.getSslManagerOpts().getSslSessionTimeout());
+
         // get the SSLSocketFactory
         final SSLSocketFactory sslSocketFactory = sslCtx.getSocketFactory();
-        final SSLSocketFactoryWrapper socketFactoryWrapper = new SSLSocketFactoryWrapper(sslSocketFactory, ciphers,
-                hostnameVerification);
+        final SSLSocketFactoryWrapper socketFactoryWrapper = new SSLSocketFactoryWrapper(sslSocketFactory,
+                options.getCiphers(), options.getHostnameVerification(), Optional.of(handshakeStatistics));
 
         // wrap it
         return new SSLContext(new SSLContextSPIWrapper(sslCtx, socketFactoryWrapper), sslCtx.getProvider(),
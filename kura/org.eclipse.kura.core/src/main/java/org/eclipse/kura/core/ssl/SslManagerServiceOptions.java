@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.kura.core.ssl;
 import static java.util.Objects.isNull;
 
 import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.kura.util.configuration.Property;
 
@@ -30,7 +31,12 @@ public class SslManagerServiceOptions {
     public static final String PROP_CIPHERS = "ssl.default.cipherSuites";
     public static final String PROP_HN_VERIFY = "ssl.hostname.verification";
 
+    public static final String PROP_SESSION_CACHE_SIZE = "ssl.session.cache.size";
+    public static final String PROP_SESSION_TIMEOUT = "ssl.session.timeout";
+
     public static final Boolean PROP_DEFAULT_HN_VERIFY = true;
+    public static final Integer PROP_DEFAULT_SESSION_CACHE_SIZE = 20;
+    public static final Integer PROP_DEFAULT_SESSION_TIMEOUT = 86400;
     public static final String PROP_DEFAULT_TRUST_PASSWORD = "changeit";
 
     private static final Property<String> SELECTED_SSL_PROTOCOL = new Property<>(PROP_PROTOCOL, "");
@@ -42,6 +48,10 @@ public class SslManagerServiceOptions {
     private static final Property<Boolean> SSL_REVOCATION_SOFT_FAIL = new Property<>("ssl.revocation.soft.fail", false);
     private static final Property<String> SSL_REVOCATION_MODE = new Property<>("ssl.revocation.mode",
             RevocationCheckMode.PREFER_OCSP.name());
+    private static final Property<Integer> SSL_SESSION_CACHE_SIZE = new Property<>(PROP_SESSION_CACHE_SIZE,
+            PROP_DEFAULT_SESSION_CACHE_SIZE);
+    private static final Property<Integer> SSL_SESSION_TIMEOUT = new Property<>(PROP_SESSION_TIMEOUT,
+            PROP_DEFAULT_SESSION_TIMEOUT);
 
     private final Map<String, Object> properties;
 
@@ -51,6 +61,8 @@ public class SslManagerServiceOptions {
     private final boolean sslRevocationCheckEnabled;
     private final RevocationCheckMode sslRevocationMode;
     private final boolean sslRevocationSoftFail;
+    private final int sslSessionCacheSize;
+    private final int sslSessionTimeout;
 
     public SslManagerServiceOptions(Map<String, Object> properties) {
         if (isNull(properties)) {
@@ -63,6 +75,8 @@ public class SslManagerServiceOptions {
         this.sslRevocationCheckEnabled = SSL_REVOCATION_CHECK_ENABLED.get(properties);
         this.sslRevocationMode = RevocationCheckMode.valueOf(SSL_REVOCATION_MODE.get(properties));
         this.sslRevocationSoftFail = SSL_REVOCATION_SOFT_FAIL.get(properties);
+        this.sslSessionCacheSize = Math.max(0, SSL_SESSION_CACHE_SIZE.get(properties));
+        this.sslSessionTimeout = Math.max(0, SSL_SESSION_TIMEOUT.get(properties));
     }
 
     public Map<String, Object> getConfigurationProperties() {
@@ -108,12 +122,30 @@ public class SslManagerServiceOptions {
         return sslRevocationSoftFail;
     }
 
+    /**
+     * Returns the maximum number of client TLS sessions cached by each SSLContext, 0 means no limit.
+     *
+     * @return
+     */
+    public int getSslSessionCacheSize() {
+        return this.sslSessionCacheSize;
+    }
+
+    /**
+     * Returns the lifetime in seconds of the cached client TLS sessions, 0 means no limit.
+     *
+     * @return
+     */
+    public int getSslSessionTimeout() {
+        return this.sslSessionTimeout;
+    }
+
+    // only the options affecting the SSLContext instances are compared, so that unrelated configuration updates
+    // do not discard the established TLS sessions
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + (this.properties == null ? 0 : this.properties.hashCode());
-        return result;
+        return Objects.hash(this.sslProtocol, this.sslCiphers, this.sslHNVerification, this.sslRevocationCheckEnabled,
+                this.sslRevocationMode, this.sslRevocationSoftFail, this.sslSessionCacheSize, this.sslSessionTimeout);
     }
 
     @Override
@@ -128,13 +160,12 @@ public class SslManagerServiceOptions {
             return false;
         }
         SslManagerServiceOptions other = (SslManagerServiceOptions) obj;
-        if (this.properties == null) {
-            if (other.properties != null) {
-                return false;
-            }
-        } else if (!this.properties.equals(other.properties)) {
-            return false;
-        }
-        return true;
+        return Objects.equals(this.sslProtocol, other.sslProtocol) && Objects.equals(this.sslCiphers, other.sslCiphers)
+                && this.sslHNVerification == other.sslHNVerification
+                && this.sslRevocationCheckEnabled == other.sslRevocationCheckEnabled
+                && this.sslRevocationMode == other.sslRevocationMode
+                && this.sslRevocationSoftFail == other.sslRevocationSoftFail
+                && this.sslSessionCacheSize == other.sslSessionCacheSize
+                && this.sslSessionTimeout == other.sslSessionTimeout;
     }
 }
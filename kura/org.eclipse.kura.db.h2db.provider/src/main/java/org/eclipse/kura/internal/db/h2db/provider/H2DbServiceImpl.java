@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 import org.eclipse.kura.KuraException;
 import org.eclipse.kura.KuraStoreException;
@@ -43,10 +44,13 @@ import org.eclipse.kura.configuration.ConfigurationService;
 import org.eclipse.kura.connection.listener.ConnectionListener;
 import org.eclipse.kura.crypto.CryptoService;
 import org.eclipse.kura.db.H2DbService;
+import org.eclipse.kura.internal.db.h2db.provider.H2DbServiceOptions.CompactionMode;
+import org.eclipse.kura.internal.db.h2db.provider.MVStoreCompactor.CompactionResult;
 import org.eclipse.kura.message.store.provider.MessageStore;
 import org.eclipse.kura.message.store.provider.MessageStoreProvider;
 import org.eclipse.kura.util.jdbc.SQLFunction;
 import org.eclipse.kura.util.store.listener.ConnectionListenerManager;
+import org.eclipse.kura.util.wire.store.PartitionedJdbcWireRecordStoreImpl;
 import org.eclipse.kura.wire.WireRecord;
 import org.eclipse.kura.wire.store.provider.QueryableWireRecordStoreProvider;
 import org.eclipse.kura.wire.store.provider.WireRecordStore;
@@ -65,6 +69,7 @@ public class H2DbServiceImpl implements H2DbService, MessageStoreProvider, WireR
     private static Map<String, H2DbServiceImpl> activeInstances = Collections.synchronizedMap(new HashMap<>());
 
     private static final int MAX_LENGTH_INPLACE_LOB_VALUE = 2000000000;
+    private static final int ONLINE_COMPACTION_STEP_BYTES = 256 * 1024;
 
     private static Logger logger = LoggerFactory.getLogger(H2DbServiceImpl.class);
 
@@ -559,11 +564,22 @@ public class H2DbServiceImpl implements H2DbService, MessageStoreProvider, WireR
 
     private void restartDefragTask(final H2DbServiceOptions config) {
         stopDefragTask();
+
+        if (config.getCompactionMode() == CompactionMode.ONLINE) {
+            final long delaySeconds = config.getOnlineCompactionIntervalSeconds();
+            if (delaySeconds <= 0) {
+                return;
+            }
+            this.defragTask = this.executor.scheduleWithFixedDelay(new OnlineCompactionTask(config), delaySeconds,
+                    delaySeconds, TimeUnit.SECONDS);
+            return;
+        }
+
         final long delayMinutes = config.getDefragIntervalMinutes();
         if (delayMinutes <= 0) {
             return;
         }
-        this.checkpointTask = this.executor.scheduleWithFixedDelay(new DefragTask(config), delayMinutes, delayMinutes,
+        this.defragTask = this.executor.scheduleWithFixedDelay(new DefragTask(config), delayMinutes, delayMinutes,
                 TimeUnit.MINUTES);
     }
 
@@ -628,6 +644,59 @@ public class H2DbServiceImpl implements H2DbService, MessageStoreProvider, WireR
         }
     }
 
+    private class OnlineCompactionTask implements Runnable {
+
+        private final MVStoreCompactor compactor;
+
+        private long runs;
+        private long skippedRuns;
+        private long totalBytesWritten;
+        private long maxPauseMillis;
+
+        public OnlineCompactionTask(final H2DbServiceOptions configuration) {
+            this.compactor = new MVStoreCompactor(configuration.getOnlineCompactionTargetFillRate(),
+                    configuration.getOnlineCompactionWriteBudgetBytes(),
+                    configuration.getOnlineCompactionTimeBudgetMillis(), ONLINE_COMPACTION_STEP_BYTES);
+        }
+
+        @Override
+        public void run() {
+            final Lock lock = H2DbServiceImpl.this.rwLock.readLock();
+            lock.lock();
+            Connection conn = null;
+            try {
+                conn = getConnectionInternal();
+                final CompactionResult result = this.compactor.compact(conn);
+                this.runs++;
+
+                if (result.isSkipped()) {
+                    this.skippedRuns++;
+                    logger.debug("online compaction skipped, fill rate: {}%, chunks fill rate: {}%",
+                            result.getFillRateBefore(), result.getChunksFillRateBefore());
+                    return;
+                }
+
+                this.totalBytesWritten += result.getBytesWritten();
+                this.maxPauseMillis = Math.max(this.maxPauseMillis, result.getMaxStepMillis());
+
+                logger.info(
+                        "online compaction done, fill rate: {}% -> {}%, chunks fill rate: {}% -> {}%, file size: {} -> {} bytes, fill rate gain: {}%, written: {} bytes, steps: {}, duration: {} ms, max pause: {} ms",
+                        result.getFillRateBefore(), result.getFillRateAfter(), result.getChunksFillRateBefore(),
+                        result.getChunksFillRateAfter(), result.getFileSizeBefore(), result.getFileSizeAfter(),
+                        result.getChunksFillRateGain(), result.getBytesWritten(), result.getSteps(),
+                        result.getDurationMillis(), result.getMaxStepMillis());
+                logger.info(
+                        "online compaction totals, runs: {}, skipped: {}, written: {} bytes, max pause: {} ms", this.runs,
+                        this.skippedRuns, this.totalBytesWritten, this.maxPauseMillis);
+            } catch (final Exception e) {
+                logger.error("online compaction failed", e);
+            } finally {
+                close(conn);
+                lock.unlock();
+            }
+        }
+    }
+
     @Override
     public MessageStore openMessageStore(String name) throws KuraStoreException {
 
@@ -640,12 +709,34 @@ public class H2DbServiceImpl implements H2DbService, MessageStoreProvider, WireR
         return new H2DbWireRecordStoreImpl(this::withConnectionAdapter, name);
     }
 
+    @Override
+    public WireRecordStore openPartitionedWireRecordStore(String name, long partitionIntervalMillis)
+            throws KuraStoreException {
+
+        return new PartitionedJdbcWireRecordStoreImpl(this::withConnectionAdapter, name, partitionIntervalMillis,
+                tableName -> new H2DbWireRecordStoreImpl(this::withConnectionAdapter, tableName));
+    }
+
     @Override
     public List<WireRecord> performQuery(String query) throws KuraStoreException {
 
         return new H2DbQueryableWireRecordStoreImpl(this::withConnectionAdapter).performQuery(query);
     }
 
+    @Override
+    public void performQuery(String query, int maxChunkSize, Consumer<List<WireRecord>> consumer)
+            throws KuraStoreException {
+
+        new H2DbQueryableWireRecordStoreImpl(this::withConnectionAdapter).performQuery(query, maxChunkSize, consumer);
+    }
+
+    @Override
+    public void performColumnarQuery(String query, int maxChunkSize, Consumer<List<WireRecord>> consumer)
+            throws KuraStoreException {
+
+        new H2DbQueryableWireRecordStoreImpl(this::withConnectionAdapter).performColumnarQuery(query, maxChunkSize, consumer);
+    }
+
     @SuppressWarnings("restriction")
     private <T> T withConnectionAdapter(final SQLFunction<Connection, T> callable) throws SQLException {
 
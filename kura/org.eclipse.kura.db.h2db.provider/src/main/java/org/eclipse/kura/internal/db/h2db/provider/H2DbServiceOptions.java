@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,21 @@ class H2DbServiceOptions {
     private static final Property<Integer> DEFRAG_INTERVAL_MINUTES_PROP = new Property<>("db.defrag.interval.minutes",
             20);
     private static final Property<Integer> CONNECTION_POOL_MAX_SIZE = new Property<>("db.connection.pool.max.size", 10);
+    private static final Property<String> COMPACTION_MODE_PROP = new Property<>("db.compaction.mode",
+            CompactionMode.SHUTDOWN_DEFRAG.name());
+    private static final Property<Integer> ONLINE_COMPACTION_INTERVAL_SECONDS_PROP = new Property<>(
+            "db.online.compaction.interval.seconds", 60);
+    private static final Property<Integer> ONLINE_COMPACTION_TARGET_FILL_RATE_PROP = new Property<>(
+            "db.online.compaction.target.fill.rate", 80);
+    private static final Property<Integer> ONLINE_COMPACTION_WRITE_BUDGET_KB_PROP = new Property<>(
+            "db.online.compaction.write.budget.kb", 4096);
+    private static final Property<Integer> ONLINE_COMPACTION_TIME_BUDGET_MS_PROP = new Property<>(
+            "db.online.compaction.time.budget.ms", 500);
+
+    enum CompactionMode {
+        SHUTDOWN_DEFRAG,
+        ONLINE
+    }
 
     private static final Pattern FILE_LOG_LEVEL_PATTERN = generatePatternForProperty("trace_level_file");
     private static final Pattern USER_PATTERN = generatePatternForProperty("user");
@@ -40,6 +55,11 @@ class H2DbServiceOptions {
     private final long checkpointIntervalSeconds;
     private final long defragIntervalMinutes;
     private final int maxConnectionPoolSize;
+    private final CompactionMode compactionMode;
+    private final long onlineCompactionIntervalSeconds;
+    private final int onlineCompactionTargetFillRate;
+    private final long onlineCompactionWriteBudgetBytes;
+    private final long onlineCompactionTimeBudgetMillis;
 
     private boolean isInMemory;
     private boolean isFileBased;
@@ -57,6 +77,11 @@ class H2DbServiceOptions {
         this.checkpointIntervalSeconds = CHECKPOINT_INTERVAL_SECONDS_PROP.get(properties);
         this.defragIntervalMinutes = DEFRAG_INTERVAL_MINUTES_PROP.get(properties);
         this.maxConnectionPoolSize = CONNECTION_POOL_MAX_SIZE.get(properties);
+        this.compactionMode = parseCompactionMode(COMPACTION_MODE_PROP.get(properties));
+        this.onlineCompactionIntervalSeconds = ONLINE_COMPACTION_INTERVAL_SECONDS_PROP.get(properties);
+        this.onlineCompactionTargetFillRate = ONLINE_COMPACTION_TARGET_FILL_RATE_PROP.get(properties);
+        this.onlineCompactionWriteBudgetBytes = ONLINE_COMPACTION_WRITE_BUDGET_KB_PROP.get(properties) * 1024L;
+        this.onlineCompactionTimeBudgetMillis = ONLINE_COMPACTION_TIME_BUDGET_MS_PROP.get(properties);
 
         String dbUrlProp = CONNECTOR_URL_PROP.get(properties);
 
@@ -79,6 +104,14 @@ class H2DbServiceOptions {
         return Pattern.compile(patternStringBuilder.toString());
     }
 
+    private static CompactionMode parseCompactionMode(String value) {
+        try {
+            return CompactionMode.valueOf(value);
+        } catch (final IllegalArgumentException e) {
+            return CompactionMode.SHUTDOWN_DEFRAG;
+        }
+    }
+
     private void computeUrlParts() {
         final Matcher jdbcUrlMatcher = JDBC_URL_PARSE_PATTERN.matcher(this.dbUrl);
 
@@ -170,6 +203,26 @@ class H2DbServiceOptions {
         return this.defragIntervalMinutes;
     }
 
+    public CompactionMode getCompactionMode() {
+        return this.compactionMode;
+    }
+
+    public long getOnlineCompactionIntervalSeconds() {
+        return this.onlineCompactionIntervalSeconds;
+    }
+
+    public int getOnlineCompactionTargetFillRate() {
+        return this.onlineCompactionTargetFillRate;
+    }
+
+    public long getOnlineCompactionWriteBudgetBytes() {
+        return this.onlineCompactionWriteBudgetBytes;
+    }
+
+    public long getOnlineCompactionTimeBudgetMillis() {
+        return this.onlineCompactionTimeBudgetMillis;
+    }
+
     public String getBaseUrl() {
         return this.baseUrl;
     }
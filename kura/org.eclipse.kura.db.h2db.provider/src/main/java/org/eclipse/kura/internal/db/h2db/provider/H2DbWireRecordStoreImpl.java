@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -61,6 +61,7 @@ public class H2DbWireRecordStoreImpl extends AbstractJdbcWireRecordStoreImpl {
                 .withSqlCreateTimestampIndex(
                         "CREATE INDEX IF NOT EXISTS " + super.escapeIdentifier(tableName + "_TIMESTAMP")
                                 + " ON " + super.escapedTableName + " (TIMESTAMP DESC);")
+                .withSqlDropTable("DROP TABLE IF EXISTS " + super.escapedTableName + ";")
                 .build();
     }
 
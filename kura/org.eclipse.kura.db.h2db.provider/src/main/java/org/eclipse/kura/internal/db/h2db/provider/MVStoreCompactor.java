@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.db.h2db.provider;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.h2.jdbc.JdbcConnection;
+import org.h2.mvstore.FileStore;
+import org.h2.mvstore.MVStore;
+
+/**
+ * Performs incremental compaction of the MVStore backing an embedded H2 database while the database is online.
+ * <p>
+ * Each run rewrites the chunks with the lowest fill rate in small steps using {@link MVStore#compact(int, int)},
+ * until the configured write budget or time budget is exhausted, or until there is nothing left to compact. The
+ * store remains available to other connections during the whole run, each step only holds the store internal locks
+ * for the time needed to rewrite at most {@code stepBytes} bytes.
+ */
+class MVStoreCompactor {
+
+    private final int targetFillRate;
+    private final long writeBudgetBytes;
+    private final long timeBudgetMillis;
+    private final int stepBytes;
+
+    MVStoreCompactor(final int targetFillRate, final long writeBudgetBytes, final long timeBudgetMillis,
+            final int stepBytes) {
+        this.targetFillRate = targetFillRate;
+        this.writeBudgetBytes = writeBudgetBytes;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.stepBytes = stepBytes;
+    }
+
+    CompactionResult compact(final Connection connection) throws SQLException {
+        final MVStore store = getMVStore(connection);
+        final FileStore fileStore = store.getFileStore();
+
+        final CompactionResult result = new CompactionResult();
+        result.fillRateBefore = store.getFillRate();
+        result.chunksFillRateBefore = store.getChunksFillRate();
+        result.fileSizeBefore = fileStore.size();
+
+        if (result.chunksFillRateBefore >= this.targetFillRate) {
+            result.skipped = true;
+            result.fillRateAfter = result.fillRateBefore;
+            result.chunksFillRateAfter = result.chunksFillRateBefore;
+            result.fileSizeAfter = result.fileSizeBefore;
+            return result;
+        }
+
+        final long writeBytesBefore = fileStore.getWriteBytes();
+        final long start = System.nanoTime();
+
+        while (fileStore.getWriteBytes() - writeBytesBefore < this.writeBudgetBytes
+                && (System.nanoTime() - start) / 1000000 < this.timeBudgetMillis) {
+
+            final long stepWriteBytesBefore = fileStore.getWriteBytes();
+            final long stepStart = System.nanoTime();
+            final boolean compacted = store.compact(this.targetFillRate, this.stepBytes);
+            // the rewritten pages are only written to the file by the next commit, commit them now so that the
+            // bytes are accounted to this step and to the write budget
+            store.tryCommit();
+            final long stepDuration = System.nanoTime() - stepStart;
+
+            result.steps++;
+            result.maxStepNanos = Math.max(result.maxStepNanos, stepDuration);
+            result.maxStepBytesWritten = Math.max(result.maxStepBytesWritten,
+                    fileStore.getWriteBytes() - stepWriteBytesBefore);
+
+            if (!compacted) {
+                break;
+            }
+        }
+
+        result.durationNanos = System.nanoTime() - start;
+        result.bytesWritten = fileStore.getWriteBytes() - writeBytesBefore;
+        result.fillRateAfter = store.getFillRate();
+        result.chunksFillRateAfter = store.getChunksFillRate();
+        result.fileSizeAfter = fileStore.size();
+
+        return result;
+    }
+
+    /**
+     * The H2 bundle does not export the packages containing the session and database classes, the MVStore is
+     * retrieved through their public accessors using reflection.
+     */
+    private static MVStore getMVStore(final Connection connection) throws SQLException {
+        final JdbcConnection jdbcConnection = connection.unwrap(JdbcConnection.class);
+
+        try {
+            final Object database = invoke(jdbcConnection.getSession(), "getDatabase");
+            final Object store = invoke(database, "getStore");
+
+            if (store == null) {
+                throw new SQLException("The database is not backed by a MVStore");
+            }
+
+            return (MVStore) invoke(store, "getMvStore");
+        } catch (final SQLException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new SQLException("Unable to access the MVStore of the database", e);
+        }
+    }
+
+    private static Object invoke(final Object target, final String methodName) throws ReflectiveOperationException {
+        final Method method = target.getClass().getMethod(methodName);
+        return method.invoke(target);
+    }
+
+    static class CompactionResult {
+
+        private boolean skipped;
+        private int fillRateBefore;
+        private int fillRateAfter;
+        private int chunksFillRateBefore;
+        private int chunksFillRateAfter;
+        private long fileSizeBefore;
+        private long fileSizeAfter;
+        private long bytesWritten;
+        private long maxStepBytesWritten;
+        private int steps;
+        private long durationNanos;
+        private long maxStepNanos;
+
+        boolean isSkipped() {
+            return this.skipped;
+        }
+
+        int getFillRateBefore() {
+            return this.fillRateBefore;
+        }
+
+        int getFillRateAfter() {
+            return this.fillRateAfter;
+        }
+
+        int getChunksFillRateBefore() {
+            return this.chunksFillRateBefore;
+        }
+
+        int getChunksFillRateAfter() {
+            return this.chunksFillRateAfter;
+        }
+
+        long getFileSizeBefore() {
+            return this.fileSizeBefore;
+        }
+
+        long getFileSizeAfter() {
+            return this.fileSizeAfter;
+        }
+
+        /**
+         * {@link MVStore#compact(int, int)} moves the live pages out of the rewritten chunks but does not shrink the
+         * file, the effect of a run is reported as the change of the chunks fill rate.
+         */
+        int getChunksFillRateGain() {
+            return this.chunksFillRateAfter - this.chunksFillRateBefore;
+        }
+
+        long getBytesWritten() {
+            return this.bytesWritten;
+        }
+
+        long getMaxStepBytesWritten() {
+            return this.maxStepBytesWritten;
+        }
+
+        int getSteps() {
+            return this.steps;
+        }
+
+        long getDurationMillis() {
+            return this.durationNanos / 1000000;
+        }
+
+        long getMaxStepMillis() {
+            return this.maxStepNanos / 1000000;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.eclipse.kura.KuraException;
 import org.eclipse.kura.KuraStoreException;
@@ -36,6 +37,7 @@ import org.eclipse.kura.message.store.provider.MessageStore;
 import org.eclipse.kura.message.store.provider.MessageStoreProvider;
 import org.eclipse.kura.util.jdbc.SQLFunction;
 import org.eclipse.kura.util.store.listener.ConnectionListenerManager;
+import org.eclipse.kura.util.wire.store.PartitionedJdbcWireRecordStoreImpl;
 import org.eclipse.kura.wire.WireRecord;
 import org.eclipse.kura.wire.store.provider.QueryableWireRecordStoreProvider;
 import org.eclipse.kura.wire.store.provider.WireRecordStore;
@@ -314,6 +316,14 @@ public class SqliteDbServiceImpl implements BaseDbService, ConfigurableComponent
         return new SqliteWireRecordStoreImpl(this::withConnection, name);
     }
 
+    @Override
+    public WireRecordStore openPartitionedWireRecordStore(String name, long partitionIntervalMillis)
+            throws KuraStoreException {
+
+        return new PartitionedJdbcWireRecordStoreImpl(this::withConnection, name, partitionIntervalMillis,
+                tableName -> new SqliteWireRecordStoreImpl(this::withConnection, tableName));
+    }
+
     @Override
     @SuppressWarnings("restriction")
     public List<WireRecord> performQuery(String query) throws KuraStoreException {
@@ -321,6 +331,20 @@ public class SqliteDbServiceImpl implements BaseDbService, ConfigurableComponent
         return new SqliteQueryableWireRecordStoreImpl(this::withConnection).performQuery(query);
     }
 
+    @Override
+    public void performQuery(String query, int maxChunkSize, Consumer<List<WireRecord>> consumer)
+            throws KuraStoreException {
+
+        new SqliteQueryableWireRecordStoreImpl(this::withConnection).performQuery(query, maxChunkSize, consumer);
+    }
+
+    @Override
+    public void performColumnarQuery(String query, int maxChunkSize, Consumer<List<WireRecord>> consumer)
+            throws KuraStoreException {
+
+        new SqliteQueryableWireRecordStoreImpl(this::withConnection).performColumnarQuery(query, maxChunkSize, consumer);
+    }
+
     @SuppressWarnings("restriction")
     private <T> T withConnection(final SQLFunction<Connection, T> callable) throws SQLException {
 
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2019, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -355,15 +355,19 @@ public class XdkDriver implements Driver, ConfigurableComponent {
         Iterator<SensorListener> iterator = this.sensorListeners.iterator();
         while (iterator.hasNext()) {
             SensorListener sensorListener = iterator.next();
-            if (sensorListener.getListeners().contains(listener)) {
-                if (sensorListener.getListeners().size() == 1) {
-                    unregisterNotification(sensorListener);
-                    iterator.remove();
-                } else {
-                    int index = sensorListener.getListeners().indexOf(listener);
+            if (!sensorListener.getListeners().contains(listener)) {
+                continue;
+            }
+            // the same listener can be registered for more than one channel of a sensor
+            for (int index = sensorListener.getListeners().size() - 1; index >= 0; index--) {
+                if (sensorListener.getListeners().get(index).equals(listener)) {
                     sensorListener.removeAll(index);
                 }
             }
+            if (sensorListener.getListeners().isEmpty()) {
+                unregisterNotification(sensorListener);
+                iterator.remove();
+            }
         }
 
     }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2018, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,11 +16,13 @@ package org.eclipse.kura.internal.driver.opcua;
 import static org.eclipse.kura.internal.driver.opcua.Utils.fillRecord;
 import static org.eclipse.kura.internal.driver.opcua.Utils.fillStatus;
 import static org.eclipse.kura.internal.driver.opcua.Utils.runSafe;
+import static org.eclipse.kura.internal.driver.opcua.Utils.splitInMultipleRequests;
 
 import java.security.KeyPair;
 import java.security.KeyStore.PrivateKeyEntry;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -28,6 +30,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.kura.channel.ChannelRecord;
@@ -41,16 +45,20 @@ import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
 import org.eclipse.milo.opcua.sdk.client.api.UaClient;
 import org.eclipse.milo.opcua.sdk.client.api.config.OpcUaClientConfig;
 import org.eclipse.milo.opcua.sdk.client.api.config.OpcUaClientConfigBuilder;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscriptionManager.SubscriptionListener;
 import org.eclipse.milo.opcua.stack.client.DiscoveryClient;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
-import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
-import org.eclipse.milo.opcua.stack.core.types.structured.WriteResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,6 +75,10 @@ public class ConnectionManager {
     private final SubtreeSubscriptionManager subtreeSubscriptionManager;
     private final OpcUaOptions options;
 
+    // operation limits advertised by the server or learned from rejected requests, 0 if unknown
+    private volatile int maxNodesPerRead;
+    private volatile int maxNodesPerWrite;
+
     public ConnectionManager(final OpcUaClient client, final OpcUaOptions options,
             final BiConsumer<ConnectionManager, Throwable> failureHandler,
             final ListenerRegistrationRegistry registrations,
@@ -96,6 +108,7 @@ public class ConnectionManager {
                 .thenCompose(endpoints -> tryConnectToEndpoints(options, endpoints)) //
                 .thenApply(client -> new ConnectionManager((OpcUaClient) client, options, failureHandler, registrations,
                         subtreeListenerRegistrations)) //
+                .thenCompose(ConnectionManager::readOperationLimits) //
                 .whenComplete((ok, err) -> {
                     if (err != null) {
                         logger.warn("Connecting to OPC-UA...failed", err);
@@ -109,62 +122,164 @@ public class ConnectionManager {
         this.subscriptionManager.onRegistrationsChanged();
     }
 
-    public void read(final List<Request<ReadParams>> requests) throws Exception {
-
-        final int maxItemsPerRequest = this.options.getMaxItemCountPerRequest();
-        final ArrayList<ReadValueId> tempList = new ArrayList<>(maxItemsPerRequest);
+    public void addSubscriptionListener(final SubscriptionListener listener) {
+        this.client.getSubscriptionManager().addSubscriptionListener(listener);
+    }
 
-        for (int i = 0; i < requests.size(); i += maxItemsPerRequest) {
-            this.read(requests.subList(i, Math.min(i + maxItemsPerRequest, requests.size())), tempList);
-        }
+    public void read(final List<Request<ReadParams>> requests) throws Exception {
+        runChunked(requests, getChunkSize(this.maxNodesPerRead),
+                chunk -> splitOnTooManyOperations(chunk, this::readChunk,
+                        limit -> this.maxNodesPerRead = reduceLimit(this.maxNodesPerRead, limit)));
     }
 
     public void write(final List<Request<WriteParams>> requests) throws Exception {
+        runChunked(requests, getChunkSize(this.maxNodesPerWrite),
+                chunk -> splitOnTooManyOperations(chunk, this::writeChunk,
+                        limit -> this.maxNodesPerWrite = reduceLimit(this.maxNodesPerWrite, limit)));
+    }
 
-        final int maxItemsPerRequest = this.options.getMaxItemCountPerRequest();
-        final ArrayList<WriteValue> tempList = new ArrayList<>(maxItemsPerRequest);
+    private CompletableFuture<Void> readChunk(final List<Request<ReadParams>> requests) {
+        final List<ReadValueId> readValueIds = new ArrayList<>(requests.size());
 
-        for (int i = 0; i < requests.size(); i += maxItemsPerRequest) {
-            this.write(requests.subList(i, Math.min(i + maxItemsPerRequest, requests.size())), tempList);
+        for (final Request<ReadParams> request : requests) {
+            readValueIds.add(request.getParameters().getReadValueId());
         }
+
+        return this.client.read(0.0, TimestampsToReturn.Both, readValueIds).thenAccept(response -> {
+            final DataValue[] results = response.getResults();
+            for (int i = 0; i < requests.size(); i++) {
+                fillRecord(results[i], requests.get(i).getRecord());
+            }
+
+            logger.debug("Read Successful");
+        });
     }
 
-    private void read(final List<Request<ReadParams>> requests, final List<ReadValueId> tempList) throws Exception {
-        tempList.clear();
+    private CompletableFuture<Void> writeChunk(final List<Request<WriteParams>> requests) {
+        final List<WriteValue> writeValues = new ArrayList<>(requests.size());
 
-        for (final Request<ReadParams> request : requests) {
-            tempList.add(request.getParameters().getReadValueId());
+        for (final Request<WriteParams> request : requests) {
+            writeValues.add(request.getParameters().getWriteValue());
         }
 
-        final ReadResponse response = runSafe(this.client.read(0.0, TimestampsToReturn.Both, tempList),
-                this.options.getRequestTimeout(), ex -> this.failureHandler.accept(this, ex));
+        return this.client.write(writeValues).thenAccept(response -> {
+            final StatusCode[] results = response.getResults();
+            for (int i = 0; i < requests.size(); i++) {
+                final ChannelRecord record = requests.get(i).getRecord();
+                fillStatus(results[i], record);
+                record.setTimestamp(System.currentTimeMillis());
+            }
+
+            logger.debug("Write Successful");
+        });
+    }
+
+    private int getChunkSize(final int serverLimit) {
+        final int maxItemsPerRequest = Math.max(1, this.options.getMaxItemCountPerRequest());
 
-        final DataValue[] results = response.getResults();
-        for (int i = 0; i < requests.size(); i++) {
-            fillRecord(results[i], requests.get(i).getRecord());
+        return serverLimit > 0 ? Math.min(serverLimit, maxItemsPerRequest) : maxItemsPerRequest;
+    }
+
+    private <T> void runChunked(final List<T> requests, final int chunkSize,
+            final Function<List<T>, CompletableFuture<Void>> chunkRequest) throws Exception {
+        if (requests.isEmpty()) {
+            return;
         }
 
-        logger.debug("Read Successful");
+        final int chunkCount = (requests.size() + chunkSize - 1) / chunkSize;
+        final int concurrency = Math.max(1, Math.min(this.options.getMaxConcurrentRequests(), chunkCount));
+
+        // chunks are spread over a fixed number of lanes, each lane sends its chunks one after another, so that at
+        // most concurrency requests are outstanding; each chunk fills its own records, preserving the request order
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Void>[] lanes = new CompletableFuture[concurrency];
+        final int[] chunkIndex = { 0 };
+
+        splitInMultipleRequests(chunkSize, requests.size(), (start, end) -> {
+            final List<T> chunk = requests.subList(start, end);
+            final int lane = chunkIndex[0]++ % concurrency;
+
+            if (lanes[lane] == null) {
+                lanes[lane] = chunkRequest.apply(chunk);
+            } else {
+                lanes[lane] = lanes[lane].thenCompose(ok -> chunkRequest.apply(chunk));
+            }
+        });
+
+        final int chunksPerLane = (chunkCount + concurrency - 1) / concurrency;
+
+        runSafe(CompletableFuture.allOf(lanes), (long) this.options.getRequestTimeout() * chunksPerLane,
+                ex -> this.failureHandler.accept(this, ex));
     }
 
-    private void write(final List<Request<WriteParams>> requests, final List<WriteValue> tempList) throws Exception {
-        tempList.clear();
+    private <T> CompletableFuture<Void> splitOnTooManyOperations(final List<T> chunk,
+            final Function<List<T>, CompletableFuture<Void>> chunkRequest, final IntConsumer onLimitExceeded) {
+        return chunkRequest.apply(chunk).handle((ok, ex) -> {
+            if (ex == null) {
+                return CompletableFuture.<Void> completedFuture(null);
+            }
 
-        for (final Request<WriteParams> request : requests) {
-            tempList.add(request.getParameters().getWriteValue());
+            final boolean isTooManyOperations = UaException.extractStatusCode(ex)
+                    .map(status -> status.getValue() == StatusCodes.Bad_TooManyOperations).orElse(false);
+
+            if (!isTooManyOperations || chunk.size() <= 1) {
+                final CompletableFuture<Void> failure = new CompletableFuture<>();
+                failure.completeExceptionally(ex);
+                return failure;
+            }
+
+            final int half = (chunk.size() + 1) / 2;
+
+            logger.info("Server rejected a request with {} items, reducing the number of items per request to {}",
+                    chunk.size(), half);
+            onLimitExceeded.accept(half);
+
+            return splitOnTooManyOperations(chunk.subList(0, half), chunkRequest, onLimitExceeded)
+                    .thenCompose(v -> splitOnTooManyOperations(chunk.subList(half, chunk.size()), chunkRequest,
+                            onLimitExceeded));
+        }).thenCompose(Function.identity());
+    }
+
+    private static int reduceLimit(final int currentLimit, final int newLimit) {
+        return currentLimit > 0 ? Math.min(currentLimit, newLimit) : newLimit;
+    }
+
+    private CompletableFuture<ConnectionManager> readOperationLimits() {
+        final List<ReadValueId> readValueIds = Arrays.asList(
+                new ReadValueId(Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerRead,
+                        AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE),
+                new ReadValueId(Identifiers.Server_ServerCapabilities_OperationLimits_MaxNodesPerWrite,
+                        AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE));
+
+        return this.client.read(0.0, TimestampsToReturn.Neither, readValueIds).handle((response, ex) -> {
+            if (ex != null) {
+                logger.debug("Unable to read server operation limits", ex);
+                return this;
+            }
+
+            final DataValue[] results = response.getResults();
+            this.maxNodesPerRead = getOperationLimit(results[0]);
+            this.maxNodesPerWrite = getOperationLimit(results[1]);
+
+            logger.info("Server operation limits, max nodes per read: {}, max nodes per write: {}",
+                    this.maxNodesPerRead, this.maxNodesPerWrite);
+
+            return this;
+        });
+    }
+
+    private static int getOperationLimit(final DataValue value) {
+        if (value == null || value.getStatusCode() == null || !value.getStatusCode().isGood()) {
+            return 0;
         }
 
-        final WriteResponse response = runSafe(this.client.write(tempList), this.options.getRequestTimeout(),
-                ex -> this.failureHandler.accept(this, ex));
+        final Object limit = value.getValue().getValue();
 
-        final StatusCode[] results = response.getResults();
-        for (int i = 0; i < requests.size(); i++) {
-            final ChannelRecord record = requests.get(i).getRecord();
-            fillStatus(results[i], record);
-            record.setTimestamp(System.currentTimeMillis());
+        if (limit instanceof UInteger) {
+            return (int) Math.min(((UInteger) limit).longValue(), Integer.MAX_VALUE);
         }
 
-        logger.debug("Write Successful");
+        return 0;
     }
 
     public synchronized void close() {
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2018, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,11 @@
 
 package org.eclipse.kura.internal.driver.opcua;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,9 +32,13 @@ import org.eclipse.kura.channel.listener.ChannelListener;
 import org.eclipse.kura.internal.driver.opcua.request.ListenParams;
 import org.eclipse.kura.internal.driver.opcua.request.ListenRequest;
 import org.eclipse.kura.internal.driver.opcua.request.SingleNodeListenParams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ListenerRegistrationRegistry {
 
+    private static final Logger logger = LoggerFactory.getLogger(ListenerRegistrationRegistry.class);
+
     private final Map<ListenParams, Collection<ListenRequest>> registeredListeners = new HashMap<>();
     private final List<Listener> itemListeners = new CopyOnWriteArrayList<>();
     private long state;
@@ -192,5 +198,55 @@ public class ListenerRegistrationRegistry {
                 }
             }
         }
+
+        /**
+         * Adds the events for the registered listeners to the provided batch, a new record is created for each
+         * event since the batch can contain more than one value for the same node.
+         *
+         * @param filler
+         *            the function that fills the records
+         * @param batch
+         *            the batch that collects the events
+         */
+        public void dispatch(final Consumer<ChannelRecord> filler, final EventBatch batch) {
+            sync();
+            if (this.channelListeners.isPresent()) {
+                final Collection<ListenRequest> requests = this.channelListeners.get();
+                for (final ListenRequest request : requests) {
+                    final ChannelRecord template = request.getRecord();
+                    final ChannelRecord record = ChannelRecord.createReadRecord(template.getChannelName(),
+                            template.getValueType());
+                    filler.accept(record);
+                    batch.add(request.getChannelListener(), new ChannelEvent(record));
+                }
+            }
+        }
+    }
+
+    /*
+     * Collects the channel events generated by a single notification message, so that each listener receives
+     * them with a single ChannelListener.onChannelEvents() call.
+     */
+    public static final class EventBatch {
+
+        private final Map<ChannelListener, List<ChannelEvent>> events = new LinkedHashMap<>();
+
+        void add(final ChannelListener listener, final ChannelEvent event) {
+            this.events.computeIfAbsent(listener, l -> new ArrayList<>()).add(event);
+        }
+
+        public boolean isEmpty() {
+            return this.events.isEmpty();
+        }
+
+        public void deliver() {
+            for (final Map.Entry<ChannelListener, List<ChannelEvent>> e : this.events.entrySet()) {
+                try {
+                    e.getKey().onChannelEvents(e.getValue());
+                } catch (final Exception ex) {
+                    logger.warn("Unexpected exception in channel listener", ex);
+                }
+            }
+        }
     }
 }
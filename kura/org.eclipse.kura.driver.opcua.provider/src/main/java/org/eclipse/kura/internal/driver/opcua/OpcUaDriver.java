@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -66,6 +66,7 @@ public final class OpcUaDriver implements Driver, ConfigurableComponent {
 
     private final ListenerRegistrationRegistry nodeListeneresRegistrations = new ListenerRegistrationRegistry();
     private final ListenerRegistrationRegistry subtreeListenerRegistrations = new ListenerRegistrationRegistry();
+    private final ReadCache readCache = new ReadCache(this.nodeListeneresRegistrations);
 
     private CryptoService cryptoService;
     private OpcUaOptions options;
@@ -107,6 +108,7 @@ public final class OpcUaDriver implements Driver, ConfigurableComponent {
                             throw new IllegalStateException("Connection attempt has been cancelled");
                         } else {
                             this.connectTask = Optional.empty();
+                            manager.addSubscriptionListener(this.readCache);
                             manager.start();
                             this.connectionManager = Optional.of(manager);
                         }
@@ -144,6 +146,7 @@ public final class OpcUaDriver implements Driver, ConfigurableComponent {
     public synchronized void disconnect() throws ConnectionException {
         try {
             this.connectAttempt++;
+            this.readCache.invalidate();
             if (this.connectTask.isPresent()) {
                 this.connectTask = Optional.empty();
             }
@@ -181,12 +184,33 @@ public final class OpcUaDriver implements Driver, ConfigurableComponent {
     /** {@inheritDoc} */
     @Override
     public void read(final List<ChannelRecord> records) throws ConnectionException {
+        read(Request.extractReadRequests(records), this.options);
+    }
+
+    private void read(final List<Request<ReadParams>> requests, final OpcUaOptions currentOptions)
+            throws ConnectionException {
+        final List<Request<ReadParams>> toBeRead;
+
+        if (currentOptions.isReadCacheEnabled()) {
+            toBeRead = this.readCache.fill(requests, currentOptions.getReadCacheMaxAge());
+
+            if (toBeRead.isEmpty()) {
+                return;
+            }
+        } else {
+            toBeRead = requests;
+        }
+
         final ConnectionManager connection = connectSync();
         try {
-            connection.read(Request.extractReadRequests(records));
+            connection.read(toBeRead);
         } catch (Exception e) {
             throw new ConnectionException(e);
         }
+
+        if (currentOptions.isReadCacheEnabled()) {
+            this.readCache.update(toBeRead);
+        }
     }
 
     /** {@inheritDoc} */
@@ -250,31 +274,37 @@ public final class OpcUaDriver implements Driver, ConfigurableComponent {
     }
 
     @Override
-    public PreparedRead prepareRead(List<ChannelRecord> channelRecords) {
+    public synchronized PreparedRead prepareRead(List<ChannelRecord> channelRecords) {
         requireNonNull(channelRecords, "Channel Record list cannot be null");
 
-        return new OpcUaPreparedRead(Request.extractReadRequests(channelRecords), channelRecords);
+        final List<Request<ReadParams>> requests = Request.extractReadRequests(channelRecords);
+        final boolean isCached = this.options != null && this.options.isReadCacheEnabled();
+
+        if (isCached) {
+            this.readCache.register(requests, this.options);
+            connectAsync();
+        }
+
+        return new OpcUaPreparedRead(requests, channelRecords, isCached);
     }
 
     private class OpcUaPreparedRead implements PreparedRead {
 
         private final List<Request<ReadParams>> requests;
         private final List<ChannelRecord> channelRecords;
+        private boolean isCached;
 
-        public OpcUaPreparedRead(final List<Request<ReadParams>> requests, final List<ChannelRecord> records) {
+        public OpcUaPreparedRead(final List<Request<ReadParams>> requests, final List<ChannelRecord> records,
+                final boolean isCached) {
             this.requests = requests;
             this.channelRecords = records;
+            this.isCached = isCached;
         }
 
         @Override
         public List<ChannelRecord> execute() throws ConnectionException {
-            try {
-                final ConnectionManager connection = connectSync();
-                connection.read(this.requests);
-                return Collections.unmodifiableList(this.channelRecords);
-            } catch (Exception e) {
-                throw new ConnectionException(e);
-            }
+            read(this.requests, OpcUaDriver.this.options);
+            return Collections.unmodifiableList(this.channelRecords);
         }
 
         @Override
@@ -283,8 +313,11 @@ public final class OpcUaDriver implements Driver, ConfigurableComponent {
         }
 
         @Override
-        public void close() {
-            // no need
+        public synchronized void close() {
+            if (this.isCached) {
+                OpcUaDriver.this.readCache.unregister(this.requests);
+                this.isCached = false;
+            }
         }
     }
 }
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2016, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -138,6 +138,12 @@ final class OpcUaOptions {
 
     private static final String MAX_REQUEST_ITEMS = "max.request.items";
 
+    private static final String MAX_CONCURRENT_REQUESTS = "max.concurrent.requests";
+
+    private static final String READ_CACHE_ENABLED = "read.cache.enabled";
+
+    private static final String READ_CACHE_MAX_AGE = "read.cache.max.age";
+
     private static final String FORCE_ENDPOINT_URL = "force.endpoint.url";
 
     private static final String SUBTREE_SUBSCRIPTION_CHANNEL_NAME_FORMAT = "subtree.subscription.name.format";
@@ -427,6 +433,30 @@ final class OpcUaOptions {
         return 10;
     }
 
+    int getMaxConcurrentRequests() {
+        final Object maxConcurrentRequests = this.properties.get(MAX_CONCURRENT_REQUESTS);
+        if (maxConcurrentRequests instanceof Integer) {
+            return (Integer) maxConcurrentRequests;
+        }
+        return 4;
+    }
+
+    boolean isReadCacheEnabled() {
+        final Object readCacheEnabled = this.properties.get(READ_CACHE_ENABLED);
+        if (readCacheEnabled instanceof Boolean) {
+            return (Boolean) readCacheEnabled;
+        }
+        return false;
+    }
+
+    long getReadCacheMaxAge() {
+        final Object readCacheMaxAge = this.properties.get(READ_CACHE_MAX_AGE);
+        if (readCacheMaxAge instanceof Long) {
+            return (Long) readCacheMaxAge;
+        }
+        return 30000L;
+    }
+
     boolean shouldForceEndpointUrl() {
         final Object raw = this.properties.get(FORCE_ENDPOINT_URL);
         if (raw instanceof Boolean) {
@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ */
+
+package org.eclipse.kura.internal.driver.opcua;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.kura.channel.ChannelFlag;
+import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.channel.ChannelStatus;
+import org.eclipse.kura.channel.listener.ChannelEvent;
+import org.eclipse.kura.channel.listener.ChannelListener;
+import org.eclipse.kura.internal.driver.opcua.request.ListenParams;
+import org.eclipse.kura.internal.driver.opcua.request.ListenRequest;
+import org.eclipse.kura.internal.driver.opcua.request.ReadParams;
+import org.eclipse.kura.internal.driver.opcua.request.Request;
+import org.eclipse.kura.internal.driver.opcua.request.SingleNodeListenParams;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscriptionManager.SubscriptionListener;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * Last value cache for the nodes read by prepared reads. Each cached node is kept current by a monitored item,
+ * registered as a channel listener in the node listener registry, so that it shares the subscription with the
+ * regular channel listeners. Cached values are served only while the subscription is known to be healthy and
+ * has delivered a notification or keep alive within the configured max age. Values are dropped on publish
+ * failures and disconnection, and refilled by the notifications and by the fallback reads.
+ */
+public class ReadCache implements SubscriptionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadCache.class);
+
+    private final ListenerRegistrationRegistry registrations;
+    private final Map<Key, CachedNode> nodes = new HashMap<>();
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile boolean healthy;
+    private volatile long lastAliveTime;
+
+    public ReadCache(final ListenerRegistrationRegistry registrations) {
+        this.registrations = registrations;
+    }
+
+    public void register(final List<Request<ReadParams>> requests, final OpcUaOptions options) {
+        final List<ListenRequest> listenRequests = new ArrayList<>();
+
+        synchronized (this) {
+            for (final Request<ReadParams> request : requests) {
+                final Key key = new Key(request);
+
+                CachedNode node = this.nodes.get(key);
+
+                if (node == null) {
+                    node = new CachedNode(key);
+                    this.nodes.put(key, node);
+                    listenRequests.add(new ListenRequest(getListenParams(request, options),
+                            ChannelRecord.createReadRecord(request.getRecord().getChannelName(), key.valueType),
+                            node));
+                }
+
+                node.refCount++;
+            }
+        }
+
+        if (!listenRequests.isEmpty()) {
+            logger.debug("Caching {} nodes", listenRequests.size());
+            this.registrations.registerListeners(listenRequests);
+        }
+    }
+
+    public void unregister(final List<Request<ReadParams>> requests) {
+        final List<ChannelListener> listeners = new ArrayList<>();
+
+        synchronized (this) {
+            for (final Request<ReadParams> request : requests) {
+                final Key key = new Key(request);
+                final CachedNode node = this.nodes.get(key);
+
+                if (node != null && --node.refCount <= 0) {
+                    this.nodes.remove(key);
+                    this.entries.remove(key);
+                    listeners.add(node);
+                }
+            }
+        }
+
+        if (!listeners.isEmpty()) {
+            logger.debug("Removing {} nodes from cache", listeners.size());
+            this.registrations.unregisterListeners(listeners);
+        }
+    }
+
+    /**
+     * Fills the records of the provided requests from the cache.
+     *
+     * @param requests
+     *            the read requests
+     * @param maxAge
+     *            the maximum time in milliseconds since the last notification or keep alive received from the
+     *            subscription, 0 to disable the check
+     * @return the requests that could not be served from the cache
+     */
+    public List<Request<ReadParams>> fill(final List<Request<ReadParams>> requests, final long maxAge) {
+        if (!isFresh(maxAge)) {
+            return requests;
+        }
+
+        final List<Request<ReadParams>> misses = new ArrayList<>();
+
+        for (final Request<ReadParams> request : requests) {
+            final Entry entry = this.entries.get(new Key(request));
+
+            if (entry != null) {
+                entry.fill(request.getRecord());
+            } else {
+                misses.add(request);
+            }
+        }
+
+        return misses;
+    }
+
+    /**
+     * Stores the successful results of a fallback read for the cached nodes that have not received a notification
+     * yet.
+     *
+     * @param requests
+     *            the completed read requests
+     */
+    public void update(final List<Request<ReadParams>> requests) {
+        for (final Request<ReadParams> request : requests) {
+            final Key key = new Key(request);
+
+            if (request.getRecord().getChannelStatus().getChannelFlag() == ChannelFlag.SUCCESS && isCached(key)) {
+                this.entries.putIfAbsent(key, new Entry(request.getRecord()));
+            }
+        }
+    }
+
+    public void invalidate() {
+        this.healthy = false;
+        this.entries.clear();
+    }
+
+    private synchronized boolean isCached(final Key key) {
+        return this.nodes.containsKey(key);
+    }
+
+    private boolean isFresh(final long maxAge) {
+        return this.healthy && (maxAge <= 0 || System.currentTimeMillis() - this.lastAliveTime <= maxAge);
+    }
+
+    private void onAlive() {
+        this.lastAliveTime = System.currentTimeMillis();
+        this.healthy = true;
+    }
+
+    private static ListenParams getListenParams(final Request<ReadParams> request, final OpcUaOptions options) {
+        try {
+            return new SingleNodeListenParams(request.getRecord().getChannelConfig());
+        } catch (final Exception e) {
+            return new SingleNodeListenParams(request.getParameters().getReadValueId(),
+                    options.getSubsciptionPublishInterval(), 1, true);
+        }
+    }
+
+    @Override
+    public void onKeepAlive(final UaSubscription subscription, final DateTime publishTime) {
+        onAlive();
+    }
+
+    @Override
+    public void onStatusChanged(final UaSubscription subscription, final StatusCode status) {
+        if (!status.isGood()) {
+            logger.debug("Subscription status changed to {}, invalidating cache", status);
+            invalidate();
+        }
+    }
+
+    @Override
+    public void onPublishFailure(final UaException exception) {
+        logger.debug("Publish failure, invalidating cache", exception);
+        invalidate();
+    }
+
+    @Override
+    public void onNotificationDataLost(final UaSubscription subscription) {
+        logger.debug("Notification data lost, invalidating cache");
+        invalidate();
+    }
+
+    @Override
+    public void onSubscriptionTransferFailed(final UaSubscription subscription, final StatusCode statusCode) {
+        logger.debug("Subscription transfer failed, invalidating cache");
+        invalidate();
+    }
+
+    private final class CachedNode implements ChannelListener {
+
+        private final Key key;
+        private int refCount;
+
+        CachedNode(final Key key) {
+            this.key = key;
+        }
+
+        @Override
+        public void onChannelEvent(final ChannelEvent event) {
+            ReadCache.this.entries.put(this.key, new Entry(event.getChannelRecord()));
+            onAlive();
+        }
+    }
+
+    private static final class Entry {
+
+        private final TypedValue<?> value;
+        private final ChannelStatus status;
+        private final long timestamp;
+
+        Entry(final ChannelRecord record) {
+            this.value = record.getValue();
+            this.status = record.getChannelStatus();
+            this.timestamp = record.getTimestamp();
+        }
+
+        void fill(final ChannelRecord record) {
+            record.setValue(this.value);
+            record.setChannelStatus(this.status);
+            record.setTimestamp(this.timestamp);
+        }
+    }
+
+    private static final class Key {
+
+        private final ReadParams params;
+        private final DataType valueType;
+
+        Key(final Request<ReadParams> request) {
+            this.params = request.getParameters();
+            this.valueType = request.getRecord().getValueType();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.params, this.valueType);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return this.params.equals(other.params) && this.valueType == other.valueType;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2018, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -25,16 +25,19 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.eclipse.kura.channel.listener.ChannelListener;
 import org.eclipse.kura.internal.driver.opcua.ListenerRegistrationRegistry.Dispatcher;
+import org.eclipse.kura.internal.driver.opcua.ListenerRegistrationRegistry.EventBatch;
 import org.eclipse.kura.internal.driver.opcua.request.ListenParams;
 import org.eclipse.kura.internal.driver.opcua.request.ListenRequest;
 import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
 import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaMonitoredItem;
 import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription;
+import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscription.NotificationListener;
 import org.eclipse.milo.opcua.sdk.client.api.subscriptions.UaSubscriptionManager.SubscriptionListener;
 import org.eclipse.milo.opcua.sdk.client.model.types.objects.BaseEventType;
 import org.eclipse.milo.opcua.sdk.client.subscriptions.OpcUaSubscriptionManager;
@@ -123,16 +126,59 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
         CompletableFuture<Void> updateSubscriptionState();
     }
 
-    private class Subscribed implements State {
+    /*
+     * Notifications are received through a NotificationListener instead of the per item value and event consumers,
+     * so that all the values reported by a publish response are delivered to each channel listener as a single batch.
+     */
+    private class Subscribed implements State, NotificationListener {
 
         private final Map<ListenParams, MonitoredItemHandler> monitoredItemHandlers = new HashMap<>();
+        private final Map<UInteger, MonitoredItemHandler> handlersByClientHandle = new ConcurrentHashMap<>();
         final UaSubscription subscription;
 
         Subscribed(final UaSubscription subscription) {
             this.subscription = subscription;
+            subscription.addNotificationListener(this);
             SubscriptionManager.this.client.getSubscriptionManager().addSubscriptionListener(SubscriptionManager.this);
         }
 
+        @Override
+        public void onDataChangeNotification(final UaSubscription subscription, final List<UaMonitoredItem> items,
+                final List<DataValue> values, final DateTime publishTime) {
+            final EventBatch batch = new EventBatch();
+
+            for (int i = 0; i < items.size(); i++) {
+                final MonitoredItemHandler handler = this.handlersByClientHandle.get(items.get(i).getClientHandle());
+
+                if (handler != null) {
+                    handler.dispatchValue(values.get(i), batch);
+                }
+            }
+
+            batch.deliver();
+        }
+
+        @Override
+        public void onEventNotification(final UaSubscription subscription, final List<UaMonitoredItem> items,
+                final List<Variant[]> fields, final DateTime publishTime) {
+            final EventBatch batch = new EventBatch();
+
+            for (int i = 0; i < items.size(); i++) {
+                final MonitoredItemHandler handler = this.handlersByClientHandle.get(items.get(i).getClientHandle());
+
+                if (handler != null) {
+                    handler.dispatchEvent(fields.get(i), batch);
+                }
+            }
+
+            batch.deliver();
+        }
+
+        private void closeHandler(final MonitoredItemHandler handler) {
+            handler.getMonitoredItem().ifPresent(item -> this.handlersByClientHandle.remove(item.getClientHandle()));
+            handler.close();
+        }
+
         @Override
         public CompletableFuture<Void> subscribe() {
             return completedFuture(null);
@@ -143,10 +189,12 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
             logger.info("Unsubscribing..");
             final OpcUaSubscriptionManager manager = SubscriptionManager.this.client.getSubscriptionManager();
             manager.removeSubscriptionListener(SubscriptionManager.this);
+            this.subscription.removeNotificationListener(this);
             for (final MonitoredItemHandler handler : this.monitoredItemHandlers.values()) {
                 handler.close();
             }
             this.monitoredItemHandlers.clear();
+            this.handlersByClientHandle.clear();
             return manager.deleteSubscription(this.subscription.getSubscriptionId()).handle((ok, e) -> {
                 if (e != null) {
                     logger.debug("Failed to delete subscription", e);
@@ -237,6 +285,8 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
                         for (int i = 0; i < handlers.size(); i++) {
                             final MonitoredItemHandler handler = handlers.get(i);
                             handler.setMonitoredItem(monitoredItems.get(i));
+                            handler.getMonitoredItem().ifPresent(
+                                    item -> this.handlersByClientHandle.put(item.getClientHandle(), handler));
                             synchronized (SubscriptionManager.this) {
                                 this.monitoredItemHandlers.put(handler.getParams(), handler);
                             }
@@ -252,7 +302,7 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
                     .collect(Collectors.toList());
 
             for (final MonitoredItemHandler handler : handlers) {
-                handler.close();
+                closeHandler(handler);
                 this.monitoredItemHandlers.remove(handler.getParams());
             }
 
@@ -309,11 +359,6 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
 
     private static class MonitoredItemHandler {
 
-        private static final Consumer<Variant[]> NOP_VARIANT_CONSUMER = v -> {
-        };
-        private static final Consumer<DataValue> NOP_VALUE_CONSUMER = v -> {
-        };
-
         Optional<UaMonitoredItem> monitoredItem = Optional.empty();
         final Dispatcher dispatcher;
         final ExtensionObject eventFilter;
@@ -356,11 +401,9 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
                 logger.trace("Added monitored item for {}", nodeId);
             }
             this.monitoredItem = Optional.of(item);
-            item.setEventConsumer(this::dispatchEvent);
-            item.setValueConsumer(this::dispatchValue);
         }
 
-        public void dispatchEvent(final Variant[] values) {
+        public void dispatchEvent(final Variant[] values, final EventBatch batch) {
             this.dispatcher.dispatch(r -> {
                 fillValue(values[1], r);
 
@@ -370,18 +413,14 @@ public class SubscriptionManager implements SubscriptionListener, ListenerRegist
                     logger.debug("Failed to extract event Time, using locally generated timestamp");
                     r.setTimestamp(System.currentTimeMillis());
                 }
-            });
+            }, batch);
         }
 
-        public void dispatchValue(final DataValue value) {
-            this.dispatcher.dispatch(r -> fillRecord(value, r));
+        public void dispatchValue(final DataValue value, final EventBatch batch) {
+            this.dispatcher.dispatch(r -> fillRecord(value, r), batch);
         }
 
         public void close() {
-            this.monitoredItem.ifPresent(item -> {
-                item.setValueConsumer(NOP_VALUE_CONSUMER);
-                item.setEventConsumer(NOP_VARIANT_CONSUMER);
-            });
             this.monitoredItem = Optional.empty();
         }
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,15 @@
  ******************************************************************************/
 package org.eclipse.kura.internal.json.marshaller.unmarshaller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 import org.eclipse.kura.KuraErrorCode;
 import org.eclipse.kura.KuraException;
 import org.eclipse.kura.core.inventory.resources.ContainerImage;
@@ -22,6 +31,7 @@ import org.eclipse.kura.core.inventory.resources.SystemBundleRef;
 import org.eclipse.kura.core.inventory.resources.SystemBundles;
 import org.eclipse.kura.core.inventory.resources.SystemDeploymentPackages;
 import org.eclipse.kura.core.inventory.resources.SystemPackages;
+import org.eclipse.kura.core.inventory.resources.SystemResourcesDelta;
 import org.eclipse.kura.core.inventory.resources.SystemResourcesInfo;
 import org.eclipse.kura.core.keystore.util.EntryInfo;
 import org.eclipse.kura.internal.json.marshaller.unmarshaller.keystore.KeystoreEntryInfoMapper;
@@ -64,10 +74,29 @@ public class JsonMarshallUnmarshallImpl implements Marshaller, Unmarshaller {
             return JsonJavaContainerImagesMapper.marshal((ContainerImages) object);
         } else if (object instanceof SystemResourcesInfo) {
             return JsonJavaSystemResourcesMapper.marshal((SystemResourcesInfo) object);
+        } else if (object instanceof SystemResourcesDelta) {
+            return JsonJavaSystemResourcesMapper.marshal((SystemResourcesDelta) object);
         }
         throw new KuraException(KuraErrorCode.INVALID_PARAMETER);
     }
 
+    @Override
+    public void marshal(Object object, OutputStream out) throws KuraException {
+        final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+
+        try {
+            if (object instanceof WireGraphConfiguration) {
+                WireGraphJsonMarshallUnmarshallImpl.marshalWireGraphConfiguration((WireGraphConfiguration) object)
+                        .writeTo(writer);
+            } else {
+                writer.write(marshal(object));
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new KuraException(KuraErrorCode.ENCODE_ERROR, e, "value");
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T unmarshal(String s, Class<T> clazz) throws KuraException {
@@ -87,4 +116,22 @@ public class JsonMarshallUnmarshallImpl implements Marshaller, Unmarshaller {
         throw new IllegalArgumentException("Invalid parameter!");
     }
 
+    @Override
+    public <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
+        final Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        final StringBuilder builder = new StringBuilder();
+        final char[] buf = new char[4096];
+
+        try {
+            int rd;
+            while ((rd = reader.read(buf)) != -1) {
+                builder.append(buf, 0, rd);
+            }
+        } catch (IOException e) {
+            throw new KuraException(KuraErrorCode.DECODER_ERROR, e, "value");
+        }
+
+        return unmarshal(builder.toString(), clazz);
+    }
+
 }
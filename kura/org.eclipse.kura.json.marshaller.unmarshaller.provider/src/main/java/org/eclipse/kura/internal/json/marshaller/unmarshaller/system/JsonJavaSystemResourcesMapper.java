@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.kura.internal.json.marshaller.unmarshaller.system;
 
+import java.util.List;
+
+import org.eclipse.kura.core.inventory.resources.SystemResourcesDelta;
 import org.eclipse.kura.core.inventory.resources.SystemResourcesInfo;
 import org.eclipse.kura.system.SystemResourceInfo;
 
@@ -29,10 +32,25 @@ public class JsonJavaSystemResourcesMapper {
     // "version": "2.33.1-0.1",
     // type": "DEB",
     // }
-    // ]
+    // ],
+    // "inventoryVersion": 42
+    // }
+    //
+    // or, for the changes since a given version:
+    // {
+    // "inventoryVersion": 42,
+    // "since": 40,
+    // "resync": false,
+    // "added": [ ... ],
+    // "removed": [ ... ]
     // }
 
     private static final String INVENTORY = "inventory";
+    private static final String INVENTORY_VERSION = "inventoryVersion";
+    private static final String SINCE = "since";
+    private static final String RESYNC = "resync";
+    private static final String ADDED = "added";
+    private static final String REMOVED = "removed";
     private static final String RESOURCE_NAME = "name";
     private static final String RESOURCE_VERSION = "version";
     private static final String RESOURCE_TYPE = "type";
@@ -46,10 +64,28 @@ public class JsonJavaSystemResourcesMapper {
         JsonArray resources = new JsonArray();
         systemResourcesInfo.getSystemResources().stream().forEach(sri -> resources.add(getJsonSystemResource(sri)));
         json.add(INVENTORY, resources);
+        systemResourcesInfo.getInventoryVersion().ifPresent(version -> json.add(INVENTORY_VERSION, version));
 
         return json.toString();
     }
 
+    public static String marshal(SystemResourcesDelta systemResourcesDelta) {
+        JsonObject json = Json.object();
+        json.add(INVENTORY_VERSION, systemResourcesDelta.getInventoryVersion());
+        json.add(SINCE, systemResourcesDelta.getSince());
+        json.add(RESYNC, systemResourcesDelta.isResync());
+        json.add(ADDED, getJsonSystemResources(systemResourcesDelta.getAdded()));
+        json.add(REMOVED, getJsonSystemResources(systemResourcesDelta.getRemoved()));
+
+        return json.toString();
+    }
+
+    private static JsonArray getJsonSystemResources(List<SystemResourceInfo> systemResources) {
+        JsonArray resources = new JsonArray();
+        systemResources.stream().forEach(sri -> resources.add(getJsonSystemResource(sri)));
+        return resources;
+    }
+
     private static JsonObject getJsonSystemResource(SystemResourceInfo sri) {
         JsonObject jsonObject = new JsonObject();
         jsonObject.add(RESOURCE_NAME, sri.getName());
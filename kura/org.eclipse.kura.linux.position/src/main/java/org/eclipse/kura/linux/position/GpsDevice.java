@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -46,7 +46,9 @@ public class GpsDevice {
     private final CommURI uri;
 
     private final SerialCommunicate commThread;
-    private String lastSentence;
+    // copy of the last sentence, the String is only created when requested
+    private final StringBuilder lastSentence = new StringBuilder(128);
+    private boolean hasLastSentence;
 
     private Listener listener;
 
@@ -92,8 +94,8 @@ public class GpsDevice {
         this.commThread.disconnect();
     }
 
-    public String getLastSentence() {
-        return this.lastSentence;
+    public synchronized String getLastSentence() {
+        return this.hasLastSentence ? this.lastSentence.toString() : null;
     }
 
     public boolean isConnected() {
@@ -112,6 +114,7 @@ public class GpsDevice {
      */
     private final class SerialCommunicate extends Thread {
 
+        private final StringBuilder readBuffer = new StringBuilder(128);
         private InputStream in = null;
         private CommConnection conn = null;
         private boolean run = true;
@@ -177,7 +180,8 @@ public class GpsDevice {
         }
 
         private boolean doPollWork() {
-            final StringBuilder readBuffer = new StringBuilder();
+            final StringBuilder readBuffer = this.readBuffer;
+            readBuffer.setLength(0);
             int c = -1;
             while (c != 10) {
                 if (!this.run) {
@@ -197,22 +201,21 @@ public class GpsDevice {
                 }
             }
             if (readBuffer.length() > 0) {
-                final String sentence = readBuffer.toString();
-                logger.debug("GPS RAW: {}", sentence);
-                handleNmeaSentence(sentence);
+                logger.debug("GPS RAW: {}", readBuffer);
+                handleNmeaSentence(readBuffer);
             }
             return true;
         }
 
-        private void handleNmeaSentence(final String sentence) {
+        private void handleNmeaSentence(final CharSequence sentence) {
 
-            if (sentence.isEmpty()) {
+            if (sentence.length() == 0) {
                 logger.debug("Empty NMEA sentence detected");
                 return;
             }
 
             if (GpsDevice.this.listener != null) {
-                GpsDevice.this.listener.newNmeaSentence(sentence);
+                GpsDevice.this.listener.onNmeaSentence(sentence);
             }
 
             final boolean isLastPositionValid = GpsDevice.this.nmeaParser.isValidPosition();
@@ -220,9 +223,11 @@ public class GpsDevice {
             try {
                 final boolean isValid;
 
-                synchronized (this) {
+                synchronized (GpsDevice.this) {
                     isValid = GpsDevice.this.nmeaParser.parseSentence(sentence);
-                    GpsDevice.this.lastSentence = sentence;
+                    GpsDevice.this.lastSentence.setLength(0);
+                    GpsDevice.this.lastSentence.append(sentence);
+                    GpsDevice.this.hasLastSentence = true;
                 }
 
                 if (isValid != isLastPositionValid && GpsDevice.this.listener != null) {
@@ -279,5 +284,15 @@ public class GpsDevice {
     interface Listener extends PositionListener {
 
         public void onLockStatusChanged(final boolean hasLock);
+
+        /**
+         * Notifies a sentence read from the device. The sentence is only valid during the call.
+         *
+         * @param sentence
+         *            the sentence
+         */
+        public default void onNmeaSentence(final CharSequence sentence) {
+            newNmeaSentence(sentence.toString());
+        }
     }
 }
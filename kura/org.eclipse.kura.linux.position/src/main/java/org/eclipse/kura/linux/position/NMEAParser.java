@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,6 @@ import static java.lang.Math.toRadians;
 
 import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
 import org.eclipse.kura.position.GNSSType;
@@ -31,6 +30,9 @@ import org.osgi.util.position.Position;
  */
 public class NMEAParser {
 
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
     private int fixQuality;
     private String timeNmea;
     private String dateNmea;
@@ -54,64 +56,148 @@ public class NMEAParser {
     private int gnssTypeUpdateCounter = 0;
     private static final int GNSSTYPE_RESET_COUNTER = 50;
 
+    private CharSequence sentence;
+    private int[] fieldStart = new int[32];
+    private int[] fieldEnd = new int[32];
+    private int fieldCount;
+
     /**
      * Fill the fields of GPS position depending of the type of the sentence
+     * <p>
+     * The sentence is scanned once, computing the checksum and the offsets of the fields, and the fields are parsed
+     * in place, so that no intermediate object is created for the sentence and its numeric fields. A trailing line
+     * terminator is ignored.
      *
      * @param sentence
-     *            most recent sentence String from GPS modem
+     *            most recent sentence from GPS modem
+     */
+    public boolean parseSentence(CharSequence sentence) throws ParseException {
+
+        this.sentence = sentence;
+
+        try {
+            scanSentence();
+
+            /*
+             * Starting from 4.0 NMEA specs the GPS device can send messages representing different talkers
+             *
+             * $GP = GPS
+             * $GS = Glonass
+             * $GN = GNSS, that is GPS + Glonass + possibly others
+             */
+
+            if (this.fieldCount == 0 || fieldLength(0) < 3) {
+                throw new ParseException(Code.INVALID);
+            }
+
+            parseGnssType();
+
+            if (sentence.charAt(this.fieldStart[0]) != '$' || sentence.charAt(this.fieldStart[0] + 1) != 'G') {
+                // Not a valid token. Return.
+                throw new ParseException(Code.INVALID);
+            }
+
+            if (fieldEndsWith(0, "GGA")) {
+                parseGGASentence();
+            } else if (fieldEndsWith(0, "GLL")) {
+                parseGLLSentence();
+            } else if (fieldEndsWith(0, "RMC")) {
+                parseRMCSentence();
+            } else if (fieldEndsWith(0, "GSA")) {
+                parseGSASentence();
+            } else if (fieldEndsWith(0, "VTG")) {
+                parseVTGSentence();
+            } else if (!fieldEndsWith(0, "GSV") && !contains(sentence, "FOM") && !contains(sentence, "PPS")) {
+                throw new ParseException(Code.UNRECOGNIZED);
+            }
+        } finally {
+            this.sentence = null;
+        }
+
+        return this.validPosition;
+    }
+
+    /*
+     * Computes the checksum and the field offsets in a single pass. As String.split(), the trailing empty fields are
+     * not counted.
      */
-    public boolean parseSentence(String sentence) throws ParseException {
+    private void scanSentence() throws ParseException {
+        final CharSequence s = this.sentence;
+        final int length = s.length();
+
+        int actualChecksum = 0;
+        int start = 0;
+        int starpos = -1;
 
-        if (!computeNMEACksum(sentence)) {
+        this.fieldCount = 0;
+
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c == '*') {
+                starpos = i;
+                break;
+            }
+            if (i > 0) {
+                actualChecksum ^= c;
+            }
+            if (c == ',') {
+                addField(start, i);
+                start = i + 1;
+            }
+        }
+
+        if (starpos == -1 || actualChecksum != parseChecksum(s, starpos + 1, length)) {
             throw new ParseException(Code.BAD_CHECKSUM);
         }
 
-        // first remove the end "*"+chksum
-        int starpos = sentence.indexOf('*');
-        final List<String> tokens = Arrays.asList(sentence.substring(0, starpos).split(","));
+        addField(start, starpos);
 
-        /*
-         * Starting from 4.0 NMEA specs the GPS device can send messages representing different talkers
-         *
-         * $GP = GPS
-         * $GS = Glonass
-         * $GN = GNSS, that is GPS + Glonass + possibly others
-         */
+        while (this.fieldCount > 0 && isEmpty(this.fieldCount - 1)) {
+            this.fieldCount--;
+        }
+    }
 
-        parseGnssType(tokens.get(0));
+    private void addField(int start, int end) {
+        if (this.fieldCount == this.fieldStart.length) {
+            this.fieldStart = Arrays.copyOf(this.fieldStart, this.fieldCount * 2);
+            this.fieldEnd = Arrays.copyOf(this.fieldEnd, this.fieldCount * 2);
+        }
+        this.fieldStart[this.fieldCount] = start;
+        this.fieldEnd[this.fieldCount] = end;
+        this.fieldCount++;
+    }
 
-        if (!tokens.get(0).startsWith("$G")) {
-            // Not a valid token. Return.
-            throw new ParseException(Code.INVALID);
+    private static int parseChecksum(CharSequence s, int start, int end) {
+        while (end > start && (s.charAt(end - 1) == '\n' || s.charAt(end - 1) == '\r')) {
+            end--;
         }
 
-        if (tokens.get(0).endsWith("GGA")) {
-            parseGGASentence(tokens);
-        } else if (tokens.get(0).endsWith("GLL")) {
-            parseGLLSentence(tokens);
-        } else if (tokens.get(0).endsWith("RMC")) {
-            parseRMCSentence(tokens);
-        } else if (tokens.get(0).endsWith("GSA")) {
-            parseGSASentence(tokens);
-        } else if (tokens.get(0).endsWith("VTG")) {
-            parseVTGSentence(tokens);
-        } else if (!tokens.get(0).endsWith("GSV") && sentence.indexOf("FOM") == -1 && sentence.indexOf("PPS") == -1) {
-            throw new ParseException(Code.UNRECOGNIZED);
+        if (start == end || end - start > 2) {
+            return -1;
         }
 
-        return this.validPosition;
+        // Check sum is coded in hex string
+        int checksum = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = Character.digit(s.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            checksum = checksum << 4 | digit;
+        }
+        return checksum;
     }
 
-    private void parseGnssType(String token) {
+    private void parseGnssType() {
 
         if (this.gnssTypeUpdateCounter > GNSSTYPE_RESET_COUNTER) {
             this.gnssType.clear();
             this.gnssTypeUpdateCounter = 0;
         }
 
-        String id = token.substring(1, 3);
+        final int start = this.fieldStart[0];
 
-        GNSSType type = getGnssTypeFromSentenceId(id);
+        GNSSType type = getGnssTypeFromSentenceId(this.sentence.charAt(start + 1), this.sentence.charAt(start + 2));
 
         if (!type.equals(GNSSType.UNKNOWN)) {
             this.gnssType.add(type);
@@ -133,27 +219,34 @@ public class NMEAParser {
      * {@link https://en.wikipedia.org/wiki/NMEA_0183#NMEA_sentence_format}
      * 
      */
-    private GNSSType getGnssTypeFromSentenceId(String type) {
+    private GNSSType getGnssTypeFromSentenceId(char first, char second) {
 
-        switch (type) {
+        if (first == 'B' && second == 'D') {
+            return GNSSType.BEIDOU;
+        }
 
-        case "GP":
+        if (first != 'G') {
+            return GNSSType.UNKNOWN;
+        }
+
+        switch (second) {
+
+        case 'P':
             return GNSSType.GPS;
 
-        case "BD":
-        case "GB":
+        case 'B':
             return GNSSType.BEIDOU;
 
-        case "GA":
+        case 'A':
             return GNSSType.GALILEO;
 
-        case "GL":
+        case 'L':
             return GNSSType.GLONASS;
 
-        case "GI":
+        case 'I':
             return GNSSType.IRNSS;
 
-        case "GQ":
+        case 'Q':
             return GNSSType.QZSS;
 
         default:
@@ -161,92 +254,88 @@ public class NMEAParser {
         }
     }
 
-    private void parseVTGSentence(List<String> tokens) {
-        if (tokens.size() > 7 && !tokens.get(7).isEmpty()) {
+    private void parseVTGSentence() {
+        if (this.fieldCount > 7 && !isEmpty(7)) {
             // conversion km/h in m/s : 1 km/h -> 0,277777778 m/s
-            this.speedNmea = Double.parseDouble(tokens.get(7)) * 0.277777778;
+            this.speedNmea = parseDouble(7) * 0.277777778;
         }
     }
 
-    private void parseGSASentence(List<String> tokens) {
-        if (tokens.size() > 5) {
+    private void parseGSASentence() {
+        if (this.fieldCount > 5) {
+            int index = this.fieldCount - 3;
             // Check only last 3 items for validity
-            checkPosition(tokens.subList(tokens.size() - 3, tokens.size()), 3);
-            if (!tokens.get(2).isEmpty()) {
-                this.fix3DNmea = Integer.parseInt(tokens.get(2));
+            checkPosition(index, 3);
+            if (!isEmpty(2)) {
+                this.fix3DNmea = parseInt(2);
                 if (this.fix3DNmea == 1) {
                     this.validPosition = false;
                 }
             }
-            int index = tokens.size() - 3;
-            if (!tokens.get(index).isEmpty()) {
-                this.pdopNmea = Double.parseDouble(tokens.get(index));
+            if (!isEmpty(index)) {
+                this.pdopNmea = parseDouble(index);
             }
-            if (!tokens.get(index + 1).isEmpty()) {
-                this.hdopNmea = Double.parseDouble(tokens.get(index + 1));
+            if (!isEmpty(index + 1)) {
+                this.hdopNmea = parseDouble(index + 1);
             }
-            if (!tokens.get(index + 2).isEmpty()) {
-                this.vdopNmea = Double.parseDouble(tokens.get(index + 2));
+            if (!isEmpty(index + 2)) {
+                this.vdopNmea = parseDouble(index + 2);
             }
         } else {
             this.validPosition = false;
         }
     }
 
-    private void parseRMCSentence(List<String> tokens) {
-        if (tokens.size() > 9) {
-            if (!tokens.get(1).isEmpty()) {
-                this.timeNmea = tokens.get(1);
+    private void parseRMCSentence() {
+        if (this.fieldCount > 9) {
+            if (!isEmpty(1)) {
+                this.timeNmea = getString(1, this.timeNmea);
             }
-            if (!tokens.get(2).isEmpty()) { // check validity
-                this.validFix = tokens.get(2).charAt(0);
-                if (!"A".equals(tokens.get(2))) {
-                    this.validPosition = false;
-                } else {
-                    this.validPosition = true;
-                }
+            if (!isEmpty(2)) { // check validity
+                this.validFix = firstChar(2);
+                this.validPosition = fieldLength(2) == 1 && this.validFix == 'A';
             } else {
                 this.validFix = 'V';
                 this.validPosition = false;
             }
-            if (!tokens.get(3).isEmpty() && !tokens.get(4).isEmpty()) {
-                this.latNmea = convertPositionlat(tokens.get(3), tokens.get(4));
-                this.latitudeHemisphere = tokens.get(4).charAt(0);
+            if (!isEmpty(3) && !isEmpty(4)) {
+                this.latNmea = convertPosition(3, 4, 2);
+                this.latitudeHemisphere = firstChar(4);
             }
-            if (!tokens.get(5).isEmpty() && !tokens.get(6).isEmpty()) {
-                this.longNmea = convertPositionlon(tokens.get(5), tokens.get(6));
-                this.longitudeHemisphere = tokens.get(6).charAt(0);
+            if (!isEmpty(5) && !isEmpty(6)) {
+                this.longNmea = convertPosition(5, 6, 3);
+                this.longitudeHemisphere = firstChar(6);
             }
-            if (!tokens.get(7).isEmpty()) {
+            if (!isEmpty(7)) {
                 // conversion speed in knots to m/s : 1 m/s = 1.94384449 knots
-                this.speedNmea = Double.parseDouble(tokens.get(7)) / 1.94384449;
+                this.speedNmea = parseDouble(7) / 1.94384449;
             }
-            if (!tokens.get(8).isEmpty()) {
-                this.trackNmea = Double.parseDouble(tokens.get(8));
+            if (!isEmpty(8)) {
+                this.trackNmea = parseDouble(8);
             }
-            if (!tokens.get(9).isEmpty()) {
-                this.dateNmea = tokens.get(9);
+            if (!isEmpty(9)) {
+                this.dateNmea = getString(9, this.dateNmea);
             }
         } else {
             this.validPosition = false;
         }
     }
 
-    private void parseGLLSentence(List<String> tokens) {
-        if (tokens.size() > 6) {
-            checkPosition(tokens, 7);
-            if (!tokens.get(1).isEmpty() && !tokens.get(2).isEmpty()) {
-                this.latNmea = convertPositionlat(tokens.get(1), tokens.get(2));
-                this.latitudeHemisphere = tokens.get(2).charAt(0);
+    private void parseGLLSentence() {
+        if (this.fieldCount > 6) {
+            checkPosition(0, 7);
+            if (!isEmpty(1) && !isEmpty(2)) {
+                this.latNmea = convertPosition(1, 2, 2);
+                this.latitudeHemisphere = firstChar(2);
             }
-            if (!tokens.get(3).isEmpty() && !tokens.get(4).isEmpty()) {
-                this.longNmea = convertPositionlon(tokens.get(3), tokens.get(4));
-                this.longitudeHemisphere = tokens.get(4).charAt(0);
+            if (!isEmpty(3) && !isEmpty(4)) {
+                this.longNmea = convertPosition(3, 4, 3);
+                this.longitudeHemisphere = firstChar(4);
             }
-            if (!tokens.get(5).isEmpty()) {
-                this.timeNmea = tokens.get(5);
+            if (!isEmpty(5)) {
+                this.timeNmea = getString(5, this.timeNmea);
             }
-            if (!tokens.get(6).isEmpty() && !"A".equals(tokens.get(6))) { // check validity
+            if (!isEmpty(6) && (fieldLength(6) != 1 || firstChar(6) != 'A')) { // check validity
                 this.validPosition = false;
             }
         } else {
@@ -254,88 +343,216 @@ public class NMEAParser {
         }
     }
 
-    private void parseGGASentence(List<String> tokens) {
-        if (tokens.size() > 9) {
-            checkPosition(tokens, 10);
-            if (!tokens.get(1).isEmpty()) {
-                this.timeNmea = tokens.get(1);
+    private void parseGGASentence() {
+        if (this.fieldCount > 9) {
+            checkPosition(0, 10);
+            if (!isEmpty(1)) {
+                this.timeNmea = getString(1, this.timeNmea);
             }
-            if (!tokens.get(2).isEmpty() && !tokens.get(3).isEmpty()) {
-                this.latNmea = convertPositionlat(tokens.get(2), tokens.get(3));
-                this.latitudeHemisphere = tokens.get(3).charAt(0);
+            if (!isEmpty(2) && !isEmpty(3)) {
+                this.latNmea = convertPosition(2, 3, 2);
+                this.latitudeHemisphere = firstChar(3);
             }
-            if (!tokens.get(4).isEmpty() && !tokens.get(5).isEmpty()) {
-                this.longNmea = convertPositionlon(tokens.get(4), tokens.get(5));
-                this.longitudeHemisphere = tokens.get(5).charAt(0);
+            if (!isEmpty(4) && !isEmpty(5)) {
+                this.longNmea = convertPosition(4, 5, 3);
+                this.longitudeHemisphere = firstChar(5);
             }
-            if (!tokens.get(6).isEmpty()) {
-                this.fixQuality = Integer.parseInt(tokens.get(6));
+            if (!isEmpty(6)) {
+                this.fixQuality = parseInt(6);
                 if (this.fixQuality == 0) {
                     this.validPosition = false;
                 }
             }
-            if (!tokens.get(7).isEmpty()) {
-                this.nrSatellites = Integer.parseInt(tokens.get(7));
+            if (!isEmpty(7)) {
+                this.nrSatellites = parseInt(7);
             }
-            if (!tokens.get(8).isEmpty()) {
-                this.dopNmea = Double.parseDouble(tokens.get(8));
+            if (!isEmpty(8)) {
+                this.dopNmea = parseDouble(8);
             }
-            if (!tokens.get(9).isEmpty()) {
-                this.altNmea = Double.parseDouble(tokens.get(9));
+            if (!isEmpty(9)) {
+                this.altNmea = parseDouble(9);
             }
         } else {
             this.validPosition = false;
         }
     }
 
-    private void checkPosition(List<String> tokens, int size) {
-        // Create a list containing the indexes of empty tokens
-        this.validPosition = tokens.stream().limit(size).noneMatch(String::isEmpty);
+    private void checkPosition(int from, int size) {
+        this.validPosition = true;
+        for (int i = from; i < from + size; i++) {
+            if (isEmpty(i)) {
+                this.validPosition = false;
+                return;
+            }
+        }
+    }
+
+    private int fieldLength(int field) {
+        return this.fieldEnd[field] - this.fieldStart[field];
+    }
+
+    private boolean isEmpty(int field) {
+        return this.fieldEnd[field] == this.fieldStart[field];
+    }
+
+    private char firstChar(int field) {
+        return this.sentence.charAt(this.fieldStart[field]);
+    }
+
+    private boolean fieldEndsWith(int field, String suffix) {
+        final int offset = this.fieldEnd[field] - suffix.length();
+        return offset >= this.fieldStart[field] && regionMatches(this.sentence, offset, suffix);
+    }
+
+    private double parseDouble(int field) {
+        return parseDouble(this.sentence, this.fieldStart[field], this.fieldEnd[field]);
+    }
+
+    private int parseInt(int field) {
+        return parseInt(this.sentence, this.fieldStart[field], this.fieldEnd[field]);
+    }
+
+    /*
+     * Returns the current value if it has not changed, as the time is repeated by all the sentences of a fix and the
+     * date changes once per day.
+     */
+    private String getString(int field, String current) {
+        final int start = this.fieldStart[field];
+        final int length = fieldLength(field);
+
+        if (current != null && current.length() == length && regionMatches(this.sentence, start, current)) {
+            return current;
+        }
+        return this.sentence.subSequence(start, start + length).toString();
+    }
+
+    private double convertPosition(int pos, int direction, int degChars) {
+        return convertPosition(this.sentence, this.fieldStart[pos], this.fieldEnd[pos], this.fieldStart[direction],
+                this.fieldEnd[direction], degChars);
     }
 
     /**
-     * @param pos
-     *            DDD?MM?.dddd
-     * @param direction
-     *            N/S, E/W
+     * @param s
+     *            the sequence containing position and direction
+     * @param posStart
+     *            start of the position, formatted as DDD?MM?.dddd
+     * @param posEnd
+     *            end of the position
+     * @param dirStart
+     *            start of the direction, N/S, E/W
+     * @param dirEnd
+     *            end of the direction
      * @param degChars
      *            number of characters representing degrees
      * @return
      */
-    private double convertPosition(String pos, String direction, int degChars) {
-        if (pos.length() < 6) {
+    private static double convertPosition(CharSequence s, int posStart, int posEnd, int dirStart, int dirEnd,
+            int degChars) {
+        if (posEnd - posStart < 6) {
             return 0;
         }
 
-        String s = pos.substring(0, degChars);
-        double deg = Double.parseDouble(s);
-        s = pos.substring(degChars);
-        double min = Double.parseDouble(s);
+        double deg = parseDouble(s, posStart, posStart + degChars);
+        double min = parseDouble(s, posStart + degChars, posEnd);
         deg = deg + min / 60;
-        if (direction.contains("S") || direction.contains("W")) {
-            deg = -deg;
+        for (int i = dirStart; i < dirEnd; i++) {
+            if (s.charAt(i) == 'S' || s.charAt(i) == 'W') {
+                return -deg;
+            }
         }
         return deg;
     }
 
     double convertPositionlat(String pos, String direction) {
-        return convertPosition(pos, direction, 2);
+        return convertPosition(pos + direction, 0, pos.length(), pos.length(), pos.length() + direction.length(), 2);
     }
 
     double convertPositionlon(String pos, String direction) {
-        return convertPosition(pos, direction, 3);
+        return convertPosition(pos + direction, 0, pos.length(), pos.length(), pos.length() + direction.length(), 3);
     }
 
-    boolean computeNMEACksum(String nmeaMessageIn) {
-        final int starpos = nmeaMessageIn.indexOf('*');
-        final String strChecksum = nmeaMessageIn.substring(starpos + 1, nmeaMessageIn.length() - 1);
-        final int parsedChecksum = Integer.parseInt(strChecksum, 16); // Check sum is coded in hex string
-        int actualChecksum = 0;
-        for (int i = 1; i < starpos; i++) {
-            actualChecksum ^= nmeaMessageIn.charAt(i);
+    /*
+     * Parses plain decimal numbers without creating intermediate strings. The result is exact as the one of
+     * Double.parseDouble(), since both the digits and the power of ten are exactly representable and a single rounding
+     * is performed by the division. The values that do not fit, or that use a different notation, are delegated to
+     * Double.parseDouble().
+     */
+    static double parseDouble(CharSequence s, int start, int end) {
+        int i = start;
+        boolean negative = false;
+
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
         }
 
-        return actualChecksum == parsedChecksum;
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+
+        for (; i < end; i++) {
+            final char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                break;
+            }
+        }
+
+        if (i < end || digits == 0 || digits > 15 || fractionDigits >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(s.subSequence(start, end).toString());
+        }
+
+        final double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    static int parseInt(CharSequence s, int start, int end) {
+        int i = start;
+        boolean negative = false;
+
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+
+        if (i == end || end - i > 9) {
+            return Integer.parseInt(s.subSequence(start, end).toString());
+        }
+
+        int value = 0;
+        for (; i < end; i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return Integer.parseInt(s.subSequence(start, end).toString());
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean regionMatches(CharSequence s, int offset, String other) {
+        for (int i = 0; i < other.length(); i++) {
+            if (s.charAt(offset + i) != other.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(CharSequence s, String other) {
+        for (int i = 0; i <= s.length() - other.length(); i++) {
+            if (regionMatches(s, i, other)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public String getTimeNmea() {
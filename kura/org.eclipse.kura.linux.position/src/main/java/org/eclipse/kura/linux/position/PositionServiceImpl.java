@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -310,6 +310,13 @@ public class PositionServiceImpl
         }
     }
 
+    @Override
+    public void onNmeaSentence(final CharSequence nmeaSentence) {
+        if (!this.positionListeners.isEmpty()) {
+            newNmeaSentence(nmeaSentence.toString());
+        }
+    }
+
     @Override
     public synchronized void onLockStatusChanged(final boolean hasLock) {
         setLock(hasLock);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
 package org.eclipse.kura.protocol.can;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.eclipse.kura.KuraException;
 
@@ -66,4 +67,32 @@ public interface CanConnectionService {
      * @throws IOException
      */
     public CanMessage receiveCanMessage(int canId, int canMask) throws IOException;
+
+    /**
+     * Registers a listener that will be notified with batches of received frames.
+     * <p>
+     * Frames are read by a dedicated reader on a socket that is independent from the one managed by
+     * {@link #connectCanSocket()}, and are delivered to the listener by a single dispatcher thread. The socket level
+     * filter is computed from the filters of all the registered listeners, each listener only receives the frames
+     * matching its own filters. If the same listener is registered again, its filters are replaced.
+     *
+     * @param listener
+     *            the listener to be registered
+     * @param filters
+     *            the filters to be applied, an empty list means that all frames will be delivered to the listener
+     * @throws IOException
+     *             if the reader socket cannot be opened
+     * @since 2.1
+     */
+    public void registerCanFrameListener(CanFrameListener listener, List<CanFilter> filters) throws IOException;
+
+    /**
+     * Unregisters a listener previously registered with {@link #registerCanFrameListener(CanFrameListener, List)}.
+     * The reader socket is closed when no listeners are left.
+     *
+     * @param listener
+     *            the listener to be unregistered
+     * @since 2.1
+     */
+    public void unregisterCanFrameListener(CanFrameListener listener);
 }
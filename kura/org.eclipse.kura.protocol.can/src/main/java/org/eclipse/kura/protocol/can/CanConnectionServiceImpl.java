@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,11 @@
 package org.eclipse.kura.protocol.can;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.kura.KuraErrorCode;
 import org.eclipse.kura.KuraException;
@@ -29,13 +34,32 @@ public class CanConnectionServiceImpl implements CanConnectionService {
 
     private static final Logger logger = LoggerFactory.getLogger(CanConnectionServiceImpl.class);
 
+    private static final int FRAME_POOL_SIZE = 4096;
+    private static final int MAX_BATCH_SIZE = 256;
+
     private CanSocket socket = null;
 
+    private final CanFrameSource.Factory frameSourceFactory;
+    private final Map<CanFrameListener, ListenerRegistration> listeners = new ConcurrentHashMap<>();
+    private CanFrameReader frameReader;
+
+    public CanConnectionServiceImpl() {
+        this(CanSocketFrameSource::new);
+    }
+
+    CanConnectionServiceImpl(final CanFrameSource.Factory frameSourceFactory) {
+        this.frameSourceFactory = frameSourceFactory;
+    }
+
     protected void activate() {
         logger.info("activating CanConnectionService");
     }
 
     protected void deactivate() {
+        synchronized (this.listeners) {
+            this.listeners.clear();
+            stopFrameReader();
+        }
         if (this.socket != null) {
             try {
                 this.socket.close();
@@ -102,4 +126,140 @@ public class CanConnectionServiceImpl implements CanConnectionService {
         }
     }
 
+    @Override
+    public void registerCanFrameListener(CanFrameListener listener, List<CanFilter> filters) throws IOException {
+        if (listener == null || filters == null) {
+            throw new IllegalArgumentException("Listener and filters cannot be null");
+        }
+
+        synchronized (this.listeners) {
+            this.listeners.put(listener, new ListenerRegistration(listener, filters));
+
+            if (this.frameReader == null) {
+                final CanFrameReader reader = new CanFrameReader(this.frameSourceFactory.open(), FRAME_POOL_SIZE,
+                        MAX_BATCH_SIZE, this::dispatch);
+                updateSocketFilter(reader);
+                reader.start();
+                this.frameReader = reader;
+            } else {
+                updateSocketFilter(this.frameReader);
+            }
+        }
+    }
+
+    @Override
+    public void unregisterCanFrameListener(CanFrameListener listener) {
+        synchronized (this.listeners) {
+            if (this.listeners.remove(listener) == null) {
+                return;
+            }
+
+            if (this.listeners.isEmpty()) {
+                stopFrameReader();
+            } else {
+                try {
+                    updateSocketFilter(this.frameReader);
+                } catch (IOException e) {
+                    logger.warn("Error updating CAN socket filter", e);
+                }
+            }
+        }
+    }
+
+    private void stopFrameReader() {
+        if (this.frameReader != null) {
+            logger.info("Stopping CAN frame reader, received frames: {}, dropped frames: {}",
+                    this.frameReader.getReceivedFrameCount(), this.frameReader.getDroppedFrameCount());
+            this.frameReader.stop();
+            this.frameReader = null;
+        }
+    }
+
+    private void updateSocketFilter(final CanFrameReader reader) throws IOException {
+        final List<CanFilter> allFilters = new ArrayList<>();
+
+        for (final ListenerRegistration registration : this.listeners.values()) {
+            if (registration.filters.length == 0) {
+                reader.setFilter(0, 0);
+                return;
+            }
+            Collections.addAll(allFilters, registration.filters);
+        }
+
+        final CanFilter socketFilter = computeSocketFilter(allFilters);
+        logger.debug("Setting CAN socket filter {}", socketFilter);
+        reader.setFilter(socketFilter.getId(), socketFilter.getMask());
+    }
+
+    /**
+     * Computes the narrowest single id/mask filter that accepts all the frames accepted by the given filters. The
+     * mask retains only the bits that are checked by all filters and have the same value in all of them.
+     */
+    static CanFilter computeSocketFilter(final List<CanFilter> filters) {
+        if (filters.isEmpty()) {
+            return new CanFilter(0, 0);
+        }
+
+        final int referenceId = filters.get(0).getId();
+        int mask = ~0;
+
+        for (final CanFilter filter : filters) {
+            mask &= filter.getMask();
+            mask &= ~(filter.getId() ^ referenceId);
+        }
+
+        return new CanFilter(referenceId & mask, mask);
+    }
+
+    private void dispatch(final List<CanMessage> frames) {
+        for (final ListenerRegistration registration : this.listeners.values()) {
+            registration.dispatch(frames);
+        }
+    }
+
+    private static final class ListenerRegistration {
+
+        private final CanFrameListener listener;
+        private final CanFilter[] filters;
+        private final List<CanMessage> matching = new ArrayList<>();
+        private final List<CanMessage> matchingView = Collections.unmodifiableList(this.matching);
+
+        ListenerRegistration(final CanFrameListener listener, final List<CanFilter> filters) {
+            this.listener = listener;
+            this.filters = filters.toArray(new CanFilter[filters.size()]);
+        }
+
+        void dispatch(final List<CanMessage> frames) {
+            List<CanMessage> toDeliver = frames;
+
+            if (this.filters.length != 0) {
+                this.matching.clear();
+                for (final CanMessage frame : frames) {
+                    if (matches(frame.getCanId())) {
+                        this.matching.add(frame);
+                    }
+                }
+                toDeliver = this.matchingView;
+            }
+
+            if (toDeliver.isEmpty()) {
+                return;
+            }
+
+            try {
+                this.listener.onCanFrames(toDeliver);
+            } catch (Exception e) {
+                logger.warn("Unexpected exception in CAN frame listener", e);
+            }
+        }
+
+        private boolean matches(final int canId) {
+            for (final CanFilter filter : this.filters) {
+                if (filter.matches(canId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
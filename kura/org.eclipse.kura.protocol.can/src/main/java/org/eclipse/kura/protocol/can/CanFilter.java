@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.protocol.can;
+
+/**
+ * An immutable CAN identifier filter. A frame matches the filter if
+ * {@code (frameId & mask) == (id & mask)}, which is the same semantic used by the SocketCAN raw filters.
+ *
+ * @since 2.1
+ */
+public final class CanFilter {
+
+    private final int id;
+    private final int mask;
+
+    public CanFilter(int id, int mask) {
+        this.id = id;
+        this.mask = mask;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public int getMask() {
+        return this.mask;
+    }
+
+    public boolean matches(int canId) {
+        return (canId & this.mask) == (this.id & this.mask);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.id + this.mask;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof CanFilter)) {
+            return false;
+        }
+        final CanFilter other = (CanFilter) obj;
+        return this.id == other.id && this.mask == other.mask;
+    }
+
+    @Override
+    public String toString() {
+        return "CanFilter [id=0x" + Integer.toHexString(this.id) + ", mask=0x" + Integer.toHexString(this.mask) + "]";
+    }
+}
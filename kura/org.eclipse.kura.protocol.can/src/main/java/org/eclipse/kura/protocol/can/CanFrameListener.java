@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.protocol.can;
+
+import java.util.List;
+
+/**
+ * Receives batches of CAN frames from the streaming reader of a {@link CanConnectionService}.
+ *
+ * @since 2.1
+ */
+@FunctionalInterface
+public interface CanFrameListener {
+
+    /**
+     * Invoked by the dispatcher thread of the {@link CanConnectionService} with the frames received since the last
+     * invocation that match the filters provided at registration time, in receive order.
+     * <p>
+     * The provided list and the {@link CanMessage} instances it contains belong to a pool managed by the service
+     * and are reused as soon as this method returns: implementations that need to retain a frame must copy it.
+     * Implementations should return quickly, since the frames of all listeners are delivered by the same thread.
+     *
+     * @param frames
+     *            the received frames, never empty
+     */
+    public void onCanFrames(List<CanMessage> frames);
+}
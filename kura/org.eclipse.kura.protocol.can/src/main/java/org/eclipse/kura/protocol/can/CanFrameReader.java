@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.protocol.can;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads frames from a {@link CanFrameSource} into a fixed pool of {@link CanMessage} instances organized as a ring
+ * buffer, and delivers them in batches to a consumer using a separate dispatcher thread.
+ * <p>
+ * The reader thread never blocks on the consumer: if the ring is full the received frame is discarded and counted, so
+ * that the socket receive buffer keeps being drained.
+ */
+class CanFrameReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CanFrameReader.class);
+
+    private final CanFrameSource source;
+    private final Consumer<List<CanMessage>> consumer;
+    private final int maxBatchSize;
+
+    private final CanMessage[] ring;
+    private final CanMessage discarded = new CanMessage();
+    private int head;
+    private int count;
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition notEmpty = this.lock.newCondition();
+
+    private final AtomicLong receivedFrames = new AtomicLong();
+    private final AtomicLong droppedFrames = new AtomicLong();
+
+    private final Thread readerThread;
+    private final Thread dispatcherThread;
+    private volatile boolean run = true;
+
+    CanFrameReader(final CanFrameSource source, final int poolSize, final int maxBatchSize,
+            final Consumer<List<CanMessage>> consumer) {
+        this.source = source;
+        this.consumer = consumer;
+        this.maxBatchSize = maxBatchSize;
+        this.ring = new CanMessage[poolSize];
+        for (int i = 0; i < poolSize; i++) {
+            this.ring[i] = new CanMessage();
+        }
+
+        this.readerThread = new Thread(this::readLoop, "CanFrameReader");
+        this.readerThread.setDaemon(true);
+        this.dispatcherThread = new Thread(this::dispatchLoop, "CanFrameDispatcher");
+        this.dispatcherThread.setDaemon(true);
+    }
+
+    void start() {
+        this.readerThread.start();
+        this.dispatcherThread.start();
+    }
+
+    void setFilter(int canId, int canMask) throws IOException {
+        this.source.setFilter(canId, canMask);
+    }
+
+    long getReceivedFrameCount() {
+        return this.receivedFrames.get();
+    }
+
+    long getDroppedFrameCount() {
+        return this.droppedFrames.get();
+    }
+
+    void stop() {
+        this.run = false;
+
+        try {
+            this.source.close();
+        } catch (IOException e) {
+            logger.warn("Error closing CAN frame source", e);
+        }
+
+        this.dispatcherThread.interrupt();
+
+        try {
+            this.readerThread.join(1000);
+            this.dispatcherThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CanMessage claimSlot() {
+        this.lock.lock();
+        try {
+            if (this.count == this.ring.length) {
+                return null;
+            }
+            return this.ring[(this.head + this.count) % this.ring.length];
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void publishSlot() {
+        this.lock.lock();
+        try {
+            this.count++;
+            this.notEmpty.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void readLoop() {
+        while (this.run) {
+            final CanMessage slot = claimSlot();
+
+            try {
+                if (slot != null) {
+                    this.source.receive(slot);
+                    publishSlot();
+                } else {
+                    this.source.receive(this.discarded);
+                    this.droppedFrames.incrementAndGet();
+                }
+                this.receivedFrames.incrementAndGet();
+            } catch (IOException e) {
+                if (this.run) {
+                    logger.error("Error receiving CAN frame, stopping reader", e);
+                    this.run = false;
+                    this.dispatcherThread.interrupt();
+                }
+            }
+        }
+    }
+
+    private void dispatchLoop() {
+        final List<CanMessage> batch = new ArrayList<>(this.maxBatchSize);
+        final List<CanMessage> batchView = Collections.unmodifiableList(batch);
+
+        while (this.run) {
+            int start;
+            int size;
+
+            this.lock.lock();
+            try {
+                while (this.count == 0) {
+                    this.notEmpty.await();
+                }
+                start = this.head;
+                size = Math.min(this.count, this.maxBatchSize);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                this.lock.unlock();
+            }
+
+            batch.clear();
+            for (int i = 0; i < size; i++) {
+                batch.add(this.ring[(start + i) % this.ring.length]);
+            }
+
+            try {
+                this.consumer.accept(batchView);
+            } catch (Exception e) {
+                logger.warn("Unexpected exception while dispatching CAN frames", e);
+            }
+
+            this.lock.lock();
+            try {
+                this.head = (this.head + size) % this.ring.length;
+                this.count -= size;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+}
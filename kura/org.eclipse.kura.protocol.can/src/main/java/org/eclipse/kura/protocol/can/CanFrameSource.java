@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.protocol.can;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A source of CAN frames used by {@link CanFrameReader}, allows to replace the CAN socket with an in memory
+ * implementation.
+ */
+interface CanFrameSource extends Closeable {
+
+    /**
+     * Blocks until a frame is available and stores it in the provided message.
+     */
+    public void receive(CanMessage target) throws IOException;
+
+    /**
+     * Sets the socket level filter.
+     */
+    public void setFilter(int canId, int canMask) throws IOException;
+
+    @FunctionalInterface
+    interface Factory {
+
+        public CanFrameSource open() throws IOException;
+    }
+}
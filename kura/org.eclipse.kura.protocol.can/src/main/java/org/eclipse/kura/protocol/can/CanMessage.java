@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ public class CanMessage {
 
     private int canId;
     private byte[] data;
+    private long timestamp;
 
     public byte[] getData() {
         return this.data;
@@ -33,4 +34,22 @@ public class CanMessage {
         this.canId = canId;
     }
 
+    /**
+     * Returns the time at which the frame has been received, expressed in milliseconds since the epoch, or 0 if not
+     * available.
+     *
+     * @return the receive timestamp
+     * @since 2.1
+     */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * @since 2.1
+     */
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
 }
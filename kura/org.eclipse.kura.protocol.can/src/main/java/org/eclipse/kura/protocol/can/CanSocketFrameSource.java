@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.protocol.can;
+
+import java.io.IOException;
+
+import de.entropia.can.CanSocket;
+import de.entropia.can.CanSocket.CanFrame;
+import de.entropia.can.CanSocket.Mode;
+
+class CanSocketFrameSource implements CanFrameSource {
+
+    private final CanSocket socket;
+
+    CanSocketFrameSource() throws IOException {
+        this.socket = new CanSocket(Mode.RAW);
+        this.socket.setLoopbackMode(false);
+        this.socket.bind(CanSocket.CAN_ALL_INTERFACES);
+    }
+
+    @Override
+    public void receive(CanMessage target) throws IOException {
+        final CanFrame cf = this.socket.recv();
+
+        target.setCanId(cf.getCanId().getCanId_EFF());
+        target.setData(cf.getData());
+        target.setTimestamp(System.currentTimeMillis());
+    }
+
+    @Override
+    public void setFilter(int canId, int canMask) throws IOException {
+        this.socket.setCanFilter(canId, canMask);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.socket.close();
+    }
+}
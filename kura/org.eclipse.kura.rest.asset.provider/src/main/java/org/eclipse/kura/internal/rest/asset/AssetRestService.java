@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,19 +15,25 @@ package org.eclipse.kura.internal.rest.asset;
 
 import static org.eclipse.kura.rest.utils.Validable.validate;
 
+import java.io.IOException;
 import java.util.Base64;
 import java.util.Base64.Encoder;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.annotation.security.RolesAllowed;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -37,7 +43,9 @@ import org.eclipse.kura.asset.Asset;
 import org.eclipse.kura.asset.AssetService;
 import org.eclipse.kura.channel.Channel;
 import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.channel.ChannelType;
 import org.eclipse.kura.type.TypedValue;
+import org.glassfish.jersey.server.ChunkedOutput;
 import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceReference;
@@ -58,9 +66,13 @@ public class AssetRestService {
     private static final String BAD_READ_REQUEST_ERROR_MESSAGE = "Bad request, "
             + "expected request format: { \"channels\": [ \"channel-1\", \"channel-2\"]}";
     private static final Encoder BASE64_ENCODER = Base64.getEncoder();
+    private static final String SERVER_SENT_EVENTS = "text/event-stream";
+    private static final long MIN_SUBSCRIPTION_INTERVAL_MS = 100;
+    private static final String KEEPALIVE_EVENT = ": keepalive\n\n";
 
     private AssetService assetService;
     private Gson channelSerializer;
+    private final ChannelSubscriptionManager subscriptionManager = new ChannelSubscriptionManager();
 
     private UserAdmin userAdmin;
 
@@ -76,6 +88,10 @@ public class AssetRestService {
         this.userAdmin.createRole("kura.permission.rest.assets", Role.GROUP);
     }
 
+    public void deactivate() {
+        this.subscriptionManager.close();
+    }
+
     @GET
     @RolesAllowed("assets")
     @Produces(MediaType.APPLICATION_JSON)
@@ -130,6 +146,99 @@ public class AssetRestService {
         return getChannelSerializer().toJsonTree(records);
     }
 
+    /**
+     * Streams the channel updates of an asset as Server-Sent Events, each event contains a JSON array with the
+     * records of the channels that changed since the previous event, in the same format returned by {@code _read}.
+     * <p>
+     * Updates are produced by channel listeners if {@code listen} is {@code true} and by a periodic read if
+     * {@code interval} is greater than zero. Listeners and reads are shared among all the clients subscribed to the
+     * same asset, {@code interval} is also the minimum delay between two events sent to this client. If a client
+     * cannot keep up, only the latest record of each channel is sent.
+     * <p>
+     * The events are written asynchronously as they are produced, a subscription does not hold a container thread
+     * while waiting for updates.
+     *
+     * @param assetPid
+     *            the asset pid
+     * @param channels
+     *            the channels to subscribe to, all readable channels are used if not specified
+     * @param listen
+     *            whether channel listeners should be registered for the subscribed channels
+     * @param interval
+     *            the period of the shared read in milliseconds, 0 to disable periodic reads
+     * @return the event stream
+     */
+    @GET
+    @RolesAllowed("assets")
+    @Path("/{pid}/_subscribe")
+    @Produces(SERVER_SENT_EVENTS)
+    public Response subscribe(@PathParam("pid") String assetPid, @QueryParam("channels") List<String> channels,
+            @QueryParam("listen") @DefaultValue("true") boolean listen,
+            @QueryParam("interval") @DefaultValue("0") long interval) {
+        final Asset asset = getAsset(assetPid);
+        final Set<String> channelNames = getSubscribedChannelNames(asset, channels);
+
+        if (interval < 0 || interval > 0 && interval < MIN_SUBSCRIPTION_INTERVAL_MS) {
+            throw badRequest("interval must be 0 or at least " + MIN_SUBSCRIPTION_INTERVAL_MS + " ms");
+        }
+
+        if (!listen && interval == 0) {
+            throw badRequest("at least one between listen and interval must be enabled");
+        }
+
+        // chunks written before the response is committed are buffered by the ChunkedOutput
+        final ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+
+        this.subscriptionManager.subscribe(assetPid, asset, channelNames, listen, interval, newEventSink(output));
+
+        return Response.ok(output, SERVER_SENT_EVENTS).header("Cache-Control", "no-cache").build();
+    }
+
+    protected ChannelSubscription.EventSink newEventSink(final ChunkedOutput<String> output) {
+        return new ChannelSubscription.EventSink() {
+
+            @Override
+            public void send(final List<ChannelRecord> records) throws IOException {
+                output.write("data: " + getChannelSerializer().toJson(records) + "\n\n");
+            }
+
+            @Override
+            public void sendKeepalive() throws IOException {
+                output.write(KEEPALIVE_EVENT);
+            }
+
+            @Override
+            public void close() throws IOException {
+                output.close();
+            }
+        };
+    }
+
+    private static Set<String> getSubscribedChannelNames(final Asset asset, final List<String> requested) {
+        final Map<String, Channel> assetChannels = asset.getAssetConfiguration().getAssetChannels();
+
+        if (requested == null || requested.isEmpty()) {
+            return assetChannels.values().stream().filter(c -> c.getType() != ChannelType.WRITE).map(Channel::getName)
+                    .collect(Collectors.toSet());
+        }
+
+        final Set<String> result = new HashSet<>();
+
+        for (final String channelName : requested) {
+            if (!assetChannels.containsKey(channelName)) {
+                throw badRequest("Channel not found: " + channelName);
+            }
+            result.add(channelName);
+        }
+
+        return result;
+    }
+
+    private static WebApplicationException badRequest(final String message) {
+        return new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).type(MediaType.TEXT_PLAIN)
+                .entity("Bad request, " + message).build());
+    }
+
     private Asset getAsset(String assetPid) {
         final Asset asset = this.assetService.getAsset(assetPid);
         if (asset == null) {
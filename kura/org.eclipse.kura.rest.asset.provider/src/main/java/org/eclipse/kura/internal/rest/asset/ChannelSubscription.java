@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+
+package org.eclipse.kura.internal.rest.asset;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.kura.channel.ChannelRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents a single client subscribed to the channel updates of an asset.
+ * <p>
+ * Updates are conflated: only the most recent record of each channel is retained until it is delivered to the
+ * client, so a slow client receives the latest values instead of a growing backlog and never slows down the
+ * producers.
+ * <p>
+ * Updates are pushed to the {@link EventSink} of the subscription by the writer executor, no thread is dedicated to
+ * the subscription while waiting for updates. At most one delivery per subscription is in progress at any time,
+ * consecutive deliveries are spaced by at least the subscription interval. A keepalive is sent every
+ * {@link #KEEPALIVE_INTERVAL_MS} if no delivery is in progress, this also allows to detect clients that went away.
+ */
+public final class ChannelSubscription implements AutoCloseable {
+
+    public static final long KEEPALIVE_INTERVAL_MS = 15000;
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelSubscription.class);
+
+    private final Set<String> channelNames;
+    private final boolean listen;
+    private final long intervalMs;
+    private final Map<String, ChannelRecord> pending = new LinkedHashMap<>();
+    private final EventSink sink;
+    private final ScheduledExecutorService scheduler;
+    private final Executor writer;
+    private final Consumer<ChannelSubscription> onClose;
+
+    private long nextDeliveryTime;
+    private long conflatedCount;
+    private boolean deliveryScheduled;
+    private ScheduledFuture<?> keepaliveTask;
+    private boolean closed;
+
+    ChannelSubscription(final Set<String> channelNames, final boolean listen, final long intervalMs,
+            final EventSink sink, final ScheduledExecutorService scheduler, final Executor writer,
+            final Consumer<ChannelSubscription> onClose) {
+        this.channelNames = Collections.unmodifiableSet(channelNames);
+        this.listen = listen;
+        this.intervalMs = intervalMs;
+        this.sink = sink;
+        this.scheduler = scheduler;
+        this.writer = writer;
+        this.onClose = onClose;
+        this.nextDeliveryTime = now();
+    }
+
+    public Set<String> getChannelNames() {
+        return this.channelNames;
+    }
+
+    public boolean isListen() {
+        return this.listen;
+    }
+
+    public long getIntervalMs() {
+        return this.intervalMs;
+    }
+
+    public synchronized long getConflatedCount() {
+        return this.conflatedCount;
+    }
+
+    /*
+     * Sends the initial keepalive, that commits the response, and starts the keepalive timer.
+     */
+    void start() {
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+
+            this.deliveryScheduled = true;
+
+            try {
+                this.keepaliveTask = this.scheduler.scheduleWithFixedDelay(this::onKeepaliveTimer,
+                        KEEPALIVE_INTERVAL_MS, KEEPALIVE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException e) {
+                logger.debug("channel subscription manager has been closed", e);
+            }
+        }
+
+        execute(this::deliver);
+    }
+
+    synchronized void offer(final List<ChannelRecord> records) {
+        if (this.closed) {
+            return;
+        }
+
+        boolean added = false;
+
+        for (final ChannelRecord channelRecord : records) {
+            final String channelName = channelRecord.getChannelName();
+
+            if (!this.channelNames.contains(channelName)) {
+                continue;
+            }
+
+            // remove first to keep the records ordered by arrival
+            if (this.pending.remove(channelName) != null) {
+                this.conflatedCount++;
+            }
+
+            this.pending.put(channelName, channelRecord);
+            added = true;
+        }
+
+        if (added && !this.deliveryScheduled) {
+            scheduleDelivery();
+        }
+    }
+
+    public synchronized boolean isClosed() {
+        return this.closed;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.pending.clear();
+
+            if (this.keepaliveTask != null) {
+                this.keepaliveTask.cancel(false);
+                this.keepaliveTask = null;
+            }
+        }
+
+        try {
+            this.sink.close();
+        } catch (final IOException e) {
+            logger.debug("failed to close channel subscription stream", e);
+        }
+
+        this.onClose.accept(this);
+    }
+
+    private void scheduleDelivery() {
+        this.deliveryScheduled = true;
+
+        final long delay = this.nextDeliveryTime - now();
+
+        if (delay <= 0) {
+            execute(this::deliver);
+            return;
+        }
+
+        try {
+            this.scheduler.schedule(() -> execute(this::deliver), delay, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            logger.debug("channel subscription manager has been closed", e);
+            this.deliveryScheduled = false;
+        }
+    }
+
+    private void onKeepaliveTimer() {
+        synchronized (this) {
+            if (this.closed || this.deliveryScheduled) {
+                return;
+            }
+
+            this.deliveryScheduled = true;
+        }
+
+        execute(this::deliver);
+    }
+
+    /*
+     * Writes the pending records, or a keepalive if there are none. The sink is invoked without holding the lock of
+     * this instance, so that the producers are never blocked by a slow client.
+     */
+    private void deliver() {
+        final List<ChannelRecord> records;
+
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+
+            records = new ArrayList<>(this.pending.values());
+            this.pending.clear();
+
+            if (!records.isEmpty()) {
+                this.nextDeliveryTime = now() + this.intervalMs;
+            }
+        }
+
+        try {
+            if (records.isEmpty()) {
+                this.sink.sendKeepalive();
+            } else {
+                this.sink.send(records);
+            }
+        } catch (final IOException e) {
+            logger.debug("channel subscription client disconnected", e);
+            close();
+            return;
+        } catch (final Exception e) {
+            logger.warn("failed to deliver channel updates", e);
+            close();
+            return;
+        }
+
+        synchronized (this) {
+            this.deliveryScheduled = false;
+
+            if (!this.closed && !this.pending.isEmpty()) {
+                scheduleDelivery();
+            }
+        }
+    }
+
+    private void execute(final Runnable task) {
+        try {
+            this.writer.execute(task);
+        } catch (final RejectedExecutionException e) {
+            // the manager is being closed and will close this subscription
+            logger.debug("channel subscription manager has been closed", e);
+        }
+    }
+
+    private static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * Receives the updates of a {@link ChannelSubscription}. The methods are never called concurrently.
+     */
+    public interface EventSink {
+
+        public void send(List<ChannelRecord> records) throws IOException;
+
+        public void sendKeepalive() throws IOException;
+
+        public void close() throws IOException;
+    }
+}
@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+
+package org.eclipse.kura.internal.rest.asset;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.asset.Asset;
+import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.channel.listener.ChannelEvent;
+import org.eclipse.kura.channel.listener.ChannelListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares the channel listeners and the periodic reads of an asset among all the clients subscribed to it.
+ * <p>
+ * For each asset a single {@link ChannelListener} is registered per channel, regardless of the number of clients
+ * interested in it, and a single periodic read of the union of the polled channels is performed at the shortest
+ * interval requested by the clients. The results are fanned out to the {@link ChannelSubscription} instances, which
+ * conflate them independently.
+ * <p>
+ * Reads, delivery delays and keepalives are scheduled on a single thread. The updates are written to the clients
+ * by a separate pool, that only grows when clients are slow to accept them, so that a slow client cannot delay the
+ * reads or the other clients.
+ */
+public class ChannelSubscriptionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelSubscriptionManager.class);
+
+    private final ScheduledExecutorService executor;
+    private final Executor writer;
+    private final Map<String, AssetHub> hubs = new HashMap<>();
+
+    public ChannelSubscriptionManager() {
+        this(Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "AssetRestServiceChannelReader");
+            thread.setDaemon(true);
+            return thread;
+        }), Executors.newCachedThreadPool(r -> {
+            final Thread thread = new Thread(r, "AssetRestServiceChannelWriter");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    public ChannelSubscriptionManager(final ScheduledExecutorService executor, final Executor writer) {
+        this.executor = executor;
+        this.writer = writer;
+    }
+
+    /**
+     * Subscribes a client to the channel updates of an asset. The updates are delivered to the given sink until the
+     * returned subscription is closed or the sink throws an exception.
+     */
+    public ChannelSubscription subscribe(final String assetPid, final Asset asset, final Set<String> channelNames,
+            final boolean listen, final long intervalMs, final ChannelSubscription.EventSink sink) {
+
+        final ChannelSubscription subscription = addSubscription(assetPid, asset, channelNames, listen, intervalMs,
+                sink);
+
+        subscription.start();
+
+        return subscription;
+    }
+
+    private synchronized ChannelSubscription addSubscription(final String assetPid, final Asset asset,
+            final Set<String> channelNames, final boolean listen, final long intervalMs,
+            final ChannelSubscription.EventSink sink) {
+
+        AssetHub hub = this.hubs.get(assetPid);
+
+        if (hub == null || hub.asset != asset) {
+            // the asset has been reconfigured, existing subscribers keep using the old hub until they leave
+            hub = new AssetHub(assetPid, asset);
+            this.hubs.put(assetPid, hub);
+        }
+
+        final AssetHub target = hub;
+        final ChannelSubscription subscription = new ChannelSubscription(new HashSet<>(channelNames), listen,
+                intervalMs, sink, this.executor, this.writer, s -> unsubscribe(target, s));
+
+        hub.add(subscription);
+
+        return subscription;
+    }
+
+    public void close() {
+        final List<AssetHub> toClose;
+
+        synchronized (this) {
+            toClose = new ArrayList<>(this.hubs.values());
+        }
+
+        for (final AssetHub hub : toClose) {
+            hub.closeSubscriptions();
+        }
+
+        this.executor.shutdownNow();
+
+        if (this.writer instanceof ExecutorService) {
+            ((ExecutorService) this.writer).shutdownNow();
+        }
+    }
+
+    synchronized int getHubCount() {
+        return this.hubs.size();
+    }
+
+    private synchronized void unsubscribe(final AssetHub hub, final ChannelSubscription subscription) {
+        hub.remove(subscription);
+
+        if (hub.isEmpty() && this.hubs.get(hub.assetPid) == hub) {
+            this.hubs.remove(hub.assetPid);
+        }
+    }
+
+    private final class AssetHub {
+
+        private final String assetPid;
+        private final Asset asset;
+        private final Set<ChannelSubscription> subscriptions = new HashSet<>();
+        private final Map<String, ChannelListener> listeners = new HashMap<>();
+
+        private Set<String> polledChannels = Collections.emptySet();
+        private long pollIntervalMs;
+        private ScheduledFuture<?> pollTask;
+
+        AssetHub(final String assetPid, final Asset asset) {
+            this.assetPid = assetPid;
+            this.asset = asset;
+        }
+
+        synchronized void add(final ChannelSubscription subscription) {
+            this.subscriptions.add(subscription);
+            update();
+        }
+
+        synchronized void remove(final ChannelSubscription subscription) {
+            this.subscriptions.remove(subscription);
+            update();
+        }
+
+        synchronized boolean isEmpty() {
+            return this.subscriptions.isEmpty();
+        }
+
+        void closeSubscriptions() {
+            final List<ChannelSubscription> toClose;
+
+            synchronized (this) {
+                toClose = new ArrayList<>(this.subscriptions);
+            }
+
+            toClose.forEach(ChannelSubscription::close);
+        }
+
+        private void update() {
+            final Set<String> listenedChannels = new HashSet<>();
+            final Set<String> newPolledChannels = new HashSet<>();
+            long newPollIntervalMs = Long.MAX_VALUE;
+
+            for (final ChannelSubscription subscription : this.subscriptions) {
+                if (subscription.isListen()) {
+                    listenedChannels.addAll(subscription.getChannelNames());
+                }
+                if (subscription.getIntervalMs() > 0) {
+                    newPolledChannels.addAll(subscription.getChannelNames());
+                    newPollIntervalMs = Math.min(newPollIntervalMs, subscription.getIntervalMs());
+                }
+            }
+
+            updateListeners(listenedChannels);
+            updatePollTask(newPolledChannels, newPollIntervalMs);
+        }
+
+        private void updateListeners(final Set<String> listenedChannels) {
+            final Iterator<Entry<String, ChannelListener>> iter = this.listeners.entrySet().iterator();
+
+            while (iter.hasNext()) {
+                final Entry<String, ChannelListener> entry = iter.next();
+
+                if (!listenedChannels.contains(entry.getKey())) {
+                    iter.remove();
+                    try {
+                        this.asset.unregisterChannelListener(entry.getValue());
+                    } catch (final Exception e) {
+                        logger.warn("Failed to unregister listener for channel {} of asset {}", entry.getKey(),
+                                this.assetPid, e);
+                    }
+                }
+            }
+
+            for (final String channelName : listenedChannels) {
+                if (this.listeners.containsKey(channelName)) {
+                    continue;
+                }
+
+                // one listener instance per channel, so that it can be unregistered independently
+                final ChannelListener listener = new HubChannelListener();
+
+                try {
+                    this.asset.registerChannelListener(channelName, listener);
+                    this.listeners.put(channelName, listener);
+                } catch (final Exception e) {
+                    logger.warn("Failed to register listener for channel {} of asset {}", channelName, this.assetPid,
+                            e);
+                }
+            }
+        }
+
+        private void updatePollTask(final Set<String> newPolledChannels, final long newPollIntervalMs) {
+            if (newPolledChannels.equals(this.polledChannels) && newPollIntervalMs == this.pollIntervalMs) {
+                return;
+            }
+
+            if (this.pollTask != null) {
+                this.pollTask.cancel(false);
+                this.pollTask = null;
+            }
+
+            this.polledChannels = newPolledChannels;
+            this.pollIntervalMs = newPollIntervalMs;
+
+            if (newPolledChannels.isEmpty()) {
+                return;
+            }
+
+            final Set<String> channels = Collections.unmodifiableSet(newPolledChannels);
+
+            // fixed delay, a slow driver must not cause reads to pile up
+            this.pollTask = ChannelSubscriptionManager.this.executor.scheduleWithFixedDelay(() -> poll(channels), 0,
+                    newPollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+
+        private void poll(final Set<String> channels) {
+            try {
+                dispatch(this.asset.read(channels));
+            } catch (final KuraException e) {
+                logger.warn("Failed to read channels of asset {}", this.assetPid, e);
+            } catch (final Exception e) {
+                logger.warn("Unexpected exception reading channels of asset {}", this.assetPid, e);
+            }
+        }
+
+        private final class HubChannelListener implements ChannelListener {
+
+            @Override
+            public void onChannelEvent(final ChannelEvent event) {
+                dispatch(Collections.singletonList(event.getChannelRecord()));
+            }
+
+            @Override
+            public void onChannelEvents(final List<ChannelEvent> events) {
+                final List<ChannelRecord> records = new ArrayList<>(events.size());
+
+                for (final ChannelEvent event : events) {
+                    records.add(event.getChannelRecord());
+                }
+
+                dispatch(records);
+            }
+        }
+
+        private void dispatch(final List<ChannelRecord> records) {
+            final List<ChannelSubscription> targets;
+
+            synchronized (this) {
+                targets = new ArrayList<>(this.subscriptions);
+            }
+
+            for (final ChannelSubscription subscription : targets) {
+                subscription.offer(records);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,10 +21,12 @@ import java.util.Map;
 
 import javax.annotation.security.RolesAllowed;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
@@ -76,6 +78,27 @@ public class InventoryRestService {
         }
     }
 
+    /**
+     * GET method.
+     *
+     * Lists the inventory items added or removed after the provided inventory version.
+     *
+     */
+    @GET
+    @RolesAllowed("inventory")
+    @Path("/inventory/changes")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getInventoryChanges(@QueryParam("since") @DefaultValue("0") long since) {
+        try {
+            KuraMessage kuraMessage = buildKuraMessage(
+                    Arrays.asList(InventoryHandlerV1.INVENTORY, InventoryHandlerV1.RESOURCE_CHANGES), "");
+            kuraMessage.getPayload().addMetric(InventoryHandlerV1.SINCE_METRIC, since);
+            return makeInventoryDoGetRequest(kuraMessage);
+        } catch (KuraException e) {
+            throw DefaultExceptionHandler.toWebApplicationException(e);
+        }
+    }
+
     /**
      * GET method.
      *
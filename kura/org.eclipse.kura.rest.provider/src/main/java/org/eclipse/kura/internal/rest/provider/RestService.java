@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -56,13 +56,14 @@ import org.eclipse.kura.internal.rest.auth.RestSessionHelper;
 import org.eclipse.kura.internal.rest.auth.SessionAuthProvider;
 import org.eclipse.kura.internal.rest.auth.SessionRestService;
 import org.eclipse.kura.rest.auth.AuthenticationProvider;
-import org.eclipse.kura.util.useradmin.UserAdminHelper;
+import org.eclipse.kura.util.useradmin.CachingUserAdminHelper;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.useradmin.UserAdmin;
+import org.osgi.service.useradmin.UserAdminListener;
 import org.osgi.util.tracker.ServiceTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -93,7 +94,7 @@ public class RestService
     private AuthenticationProvider certificateAuthProvider;
     private SessionAuthProvider sessionAuthenticationProvider;
     private SessionRestService authRestService;
-    private UserAdminHelper userAdminHelper;
+    private CachingUserAdminHelper userAdminHelper;
 
     private ServiceTracker<Object, Thread> tracker;
 
@@ -145,11 +146,13 @@ public class RestService
             // no need
         }
 
-        this.userAdminHelper = new UserAdminHelper(this.userAdmin, this.cryptoService);
+        this.userAdminHelper = new CachingUserAdminHelper(this.userAdmin, this.cryptoService);
         final RestSessionHelper restSessionHelper = new RestSessionHelper(this.userAdminHelper);
 
         registeredServices
                 .add(bundleContext.registerService(ContainerRequestFilter.class, new IncomingPortCheckFilter(), null));
+        registeredServices
+                .add(bundleContext.registerService(UserAdminListener.class, this.userAdminHelper, null));
 
         this.basicAuthProvider = new BasicAuthenticationProvider(bundleContext, this.userAdminHelper);
         this.certificateAuthProvider = new CertificateAuthenticationProvider(this.userAdminHelper);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,15 @@
 package org.eclipse.kura.internal.useradmin.store;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -32,6 +35,7 @@ import org.eclipse.kura.internal.useradmin.store.RoleSerializer.RoleBuilder;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Filter;
 import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.useradmin.Group;
 import org.osgi.service.useradmin.Role;
@@ -52,7 +56,21 @@ public class RoleRepositoryStoreImpl implements RoleRepositoryStore, UserAdminLi
 
     private static final Logger logger = LoggerFactory.getLogger(RoleRepositoryStoreImpl.class);
 
-    private Map<String, Role> roles = new TreeMap<>();
+    private static final int MAX_CACHED_FILTERS = 64;
+
+    /*
+     * Reads are served from an immutable snapshot without locking, writers replace the snapshot while holding the
+     * lock on this instance.
+     */
+    private volatile RoleSnapshot roles = new RoleSnapshot(new TreeMap<>());
+
+    /*
+     * While update() replaces the repository contents through UserAdmin, the roles are added to and removed from this
+     * map, the snapshot is then published once instead of being copied for every role.
+     */
+    private Map<String, Role> pendingRoles;
+
+    private final Map<String, Filter> filters = new ConcurrentHashMap<>();
     private RoleRepositoryStoreOptions options;
 
     long nextUpdateId = 0;
@@ -103,22 +121,26 @@ public class RoleRepositoryStoreImpl implements RoleRepositoryStore, UserAdminLi
             userAdmin = null;
         }
 
-        if (userAdmin != null) {
-            roleBuilder = (type, name) -> userAdmin.createRole(name, type);
+        this.pendingRoles = new TreeMap<>(this.roles.byName);
 
-            final Set<String> roleNames = new HashSet<>(this.roles.keySet());
+        try {
+            if (userAdmin != null) {
+                roleBuilder = (type, name) -> userAdmin.createRole(name, type);
 
-            for (final String name : roleNames) {
-                userAdmin.removeRole(name);
-            }
+                final Set<String> roleNames = new HashSet<>(this.roles.byName.keySet());
 
-        } else {
-            roleBuilder = RoleFactory::createRole;
-        }
+                for (final String name : roleNames) {
+                    userAdmin.removeRole(name);
+                }
+
+            } else {
+                roleBuilder = RoleFactory::createRole;
+            }
 
-        try {
             doUpdate(properties, roleBuilder);
         } finally {
+            this.pendingRoles = null;
+
             if (userAdmin != null) {
                 bundleContext.ungetService(userAdminRef);
             }
@@ -138,38 +160,51 @@ public class RoleRepositoryStoreImpl implements RoleRepositoryStore, UserAdminLi
     @Override
     public synchronized Role addRole(final String name, final int type) throws Exception {
 
-        if (this.roles.containsKey(name)) {
+        if (this.pendingRoles != null) {
+            if (this.pendingRoles.containsKey(name)) {
+                return null;
+            }
+
+            final Role role = RoleFactory.createRole(type, name);
+            this.pendingRoles.put(name, role);
+
+            return role;
+        }
+
+        if (this.roles.byName.containsKey(name)) {
             return null;
         }
 
         final Role role = RoleFactory.createRole(type, name);
 
-        this.roles.put(name, role);
+        final Map<String, Role> newRoles = new TreeMap<>(this.roles.byName);
+        newRoles.put(name, role);
+        this.roles = new RoleSnapshot(newRoles);
 
         return role;
     }
 
     @Override
-    public synchronized Role getRoleByName(final String name) throws Exception {
-        return this.roles.get(name);
+    public Role getRoleByName(final String name) throws Exception {
+        return this.roles.byName.get(name);
     }
 
     @SuppressWarnings("unchecked")
     @Override
-    public synchronized Role[] getRoles(final String filterString) throws Exception {
+    public Role[] getRoles(final String filterString) throws Exception {
 
-        final Optional<Filter> filter;
+        final Role[] snapshot = this.roles.values;
 
-        if (filterString != null) {
-            filter = Optional.of(FrameworkUtil.createFilter(filterString));
-        } else {
-            filter = Optional.empty();
+        if (filterString == null) {
+            return snapshot.clone();
         }
 
+        final Filter filter = getFilter(filterString);
+
         final List<Role> result = new ArrayList<>();
 
-        for (final Role role : this.roles.values()) {
-            if (!filter.isPresent() || filter.get().match(role.getProperties())) {
+        for (final Role role : snapshot) {
+            if (filter.match(role.getProperties())) {
                 result.add(role);
             }
         }
@@ -179,7 +214,34 @@ public class RoleRepositoryStoreImpl implements RoleRepositoryStore, UserAdminLi
 
     @Override
     public synchronized Role removeRole(final String role) throws Exception {
-        return Optional.ofNullable(this.roles.remove(role)).orElse(null);
+        if (this.pendingRoles != null) {
+            return this.pendingRoles.remove(role);
+        }
+
+        if (!this.roles.byName.containsKey(role)) {
+            return null;
+        }
+
+        final Map<String, Role> newRoles = new TreeMap<>(this.roles.byName);
+        final Role removed = newRoles.remove(role);
+        this.roles = new RoleSnapshot(newRoles);
+
+        return removed;
+    }
+
+    private Filter getFilter(final String filterString) throws InvalidSyntaxException {
+        Filter filter = this.filters.get(filterString);
+
+        if (filter == null) {
+            filter = FrameworkUtil.createFilter(filterString);
+
+            if (this.filters.size() >= MAX_CACHED_FILTERS) {
+                this.filters.clear();
+            }
+            this.filters.put(filterString, filter);
+        }
+
+        return filter;
     }
 
     private boolean isSelfUpdate(final Map<String, Object> properties) {
@@ -209,9 +271,14 @@ public class RoleRepositoryStoreImpl implements RoleRepositoryStore, UserAdminLi
         this.options = new RoleRepositoryStoreOptions(properties);
 
         try {
-            this.roles = decode(this.options, roleBuilder);
+            this.roles = new RoleSnapshot(decode(this.options, roleBuilder));
         } catch (final Exception e) {
             logger.warn("failed to deserialize roles", e);
+
+            if (this.pendingRoles != null) {
+                // publish the roles created before the failure
+                this.roles = new RoleSnapshot(this.pendingRoles);
+            }
         }
     }
 
@@ -230,27 +297,32 @@ public class RoleRepositoryStoreImpl implements RoleRepositoryStore, UserAdminLi
 
         Map<String, Object> properties;
         try {
-            synchronized (this) {
-
-                final JsonArray rolesArray = new JsonArray();
-                final JsonArray usersArray = new JsonArray();
-                final JsonArray groupsArray = new JsonArray();
+            // serialize from a snapshot, so that readers and writers are not blocked
+            final JsonArray rolesArray = new JsonArray();
+            final JsonArray usersArray = new JsonArray();
+            final JsonArray groupsArray = new JsonArray();
+
+            for (final Role role : this.roles.values) {
+                final int type = role.getType();
+
+                if (type == Role.ROLE) {
+                    rolesArray.add(RoleSerializer.serializeRole(role));
+                } else if (type == Role.USER) {
+                    usersArray.add(RoleSerializer.serializeRole(role));
+                } else if (type == Role.GROUP) {
+                    groupsArray.add(RoleSerializer.serializeRole(role));
+                }
+            }
 
-                for (final Role role : this.roles.values()) {
-                    final int type = role.getType();
+            final String rolesConfig = rolesArray.toString();
+            final String usersConfig = usersArray.toString();
+            final String groupsConfig = groupsArray.toString();
 
-                    if (type == Role.ROLE) {
-                        rolesArray.add(RoleSerializer.serializeRole(role));
-                    } else if (type == Role.USER) {
-                        usersArray.add(RoleSerializer.serializeRole(role));
-                    } else if (type == Role.GROUP) {
-                        groupsArray.add(RoleSerializer.serializeRole(role));
-                    }
-                }
+            synchronized (this) {
 
-                final RoleRepositoryStoreOptions newOptions = new RoleRepositoryStoreOptions(rolesArray.toString(), //
-                        usersArray.toString(), //
-                        groupsArray.toString(), //
+                final RoleRepositoryStoreOptions newOptions = new RoleRepositoryStoreOptions(rolesConfig, //
+                        usersConfig, //
+                        groupsConfig, //
                         this.options.getWriteDelayMs() //
                 );
 
@@ -311,4 +383,15 @@ public class RoleRepositoryStoreImpl implements RoleRepositoryStore, UserAdminLi
         logger.debug("received event");
         scheduleStore();
     }
+
+    private static final class RoleSnapshot {
+
+        private final Map<String, Role> byName;
+        private final Role[] values;
+
+        RoleSnapshot(final Map<String, Role> roles) {
+            this.byName = Collections.unmodifiableMap(new HashMap<>(roles));
+            this.values = roles.values().toArray(new Role[roles.size()]);
+        }
+    }
 }
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.util.useradmin;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.kura.crypto.CryptoService;
+import org.osgi.service.useradmin.User;
+import org.osgi.service.useradmin.UserAdmin;
+import org.osgi.service.useradmin.UserAdminEvent;
+import org.osgi.service.useradmin.UserAdminListener;
+
+/**
+ * A {@link UserAdminHelper} that caches the outcome of the authentication and authorization checks, that are
+ * performed for every request by the REST and web request path.
+ * <p>
+ * For each identity the cache keeps the effective permissions, the password change flag and the stored password
+ * hash, so that the requests are checked without the {@link UserAdmin} role lookups. The presented password is still
+ * hashed through the {@link CryptoService} for every request, as without the cache, and compared with the cached
+ * hash. The plain password is never stored.
+ * <p>
+ * The cache is bounded in size and its entries expire after a fixed time. This instance must be registered as a
+ * {@link UserAdminListener}, so that the cache is cleared on every role change, including the ones applied by the
+ * role repository store on configuration updates. The changes performed through this helper clear the cache
+ * immediately.
+ */
+public class CachingUserAdminHelper extends UserAdminHelper implements UserAdminListener {
+
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+    public static final long DEFAULT_TIME_TO_LIVE_MS = 60_000;
+
+    private static final String ADMIN_PERMISSION = "kura.admin";
+
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoTime;
+    private final Map<String, Entry> entries;
+
+    private long generation;
+
+    public CachingUserAdminHelper(final UserAdmin userAdmin, final CryptoService cryptoService) {
+        this(userAdmin, cryptoService, DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE_MS);
+    }
+
+    public CachingUserAdminHelper(final UserAdmin userAdmin, final CryptoService cryptoService, final int maxEntries,
+            final long timeToLiveMs) {
+        this(userAdmin, cryptoService, maxEntries, timeToLiveMs, System::nanoTime);
+    }
+
+    CachingUserAdminHelper(final UserAdmin userAdmin, final CryptoService cryptoService, final int maxEntries,
+            final long timeToLiveMs, final LongSupplier nanoTime) {
+        super(userAdmin, cryptoService);
+
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMs);
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 5262404911207946346L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public void verifyUsernamePassword(final String username, final String password) throws AuthenticationException {
+        final Entry entry = getEntry(username);
+
+        if (entry == null) {
+            throw new AuthenticationException(AuthenticationException.Reason.USER_NOT_FOUND);
+        }
+
+        verifyPassword(entry.passwordHash, password);
+    }
+
+    @Override
+    public void requirePermissions(final String username, final String... permissions) throws AuthenticationException {
+        final Entry entry = getEntry(username);
+
+        if (entry == null) {
+            throw new AuthenticationException(AuthenticationException.Reason.USER_NOT_FOUND);
+        }
+
+        if (entry.permissions.contains(ADMIN_PERMISSION)) {
+            return;
+        }
+
+        for (final String permission : permissions) {
+            if (!entry.permissions.contains(permission)) {
+                throw new AuthenticationException(AuthenticationException.Reason.USER_NOT_IN_ROLE);
+            }
+        }
+    }
+
+    @Override
+    public boolean isPasswordChangeRequired(final String username) {
+        final Entry entry = getEntry(username);
+
+        return entry != null && entry.passwordChangeRequired;
+    }
+
+    @Override
+    public void changeUserPassword(final String username, final String userPassword) throws AuthenticationException {
+        try {
+            super.changeUserPassword(username, userPassword);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void deleteUser(final String userName) {
+        try {
+            super.deleteUser(userName);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void deletePremission(final String name) {
+        try {
+            super.deletePremission(name);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void roleChanged(final UserAdminEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Clears the cache. It must be called after modifying the {@link org.osgi.service.useradmin.User} and
+     * {@link org.osgi.service.useradmin.Group} instances directly, since {@link UserAdminEvent}s are delivered
+     * asynchronously.
+     */
+    public synchronized void invalidate() {
+        this.entries.clear();
+        this.generation++;
+    }
+
+    private Entry getEntry(final String username) {
+        final long loadGeneration;
+
+        synchronized (this) {
+            final Entry entry = this.entries.get(username);
+
+            if (entry != null && this.nanoTime.getAsLong() - entry.loadedAt < this.timeToLiveNanos) {
+                return entry;
+            }
+
+            loadGeneration = this.generation;
+        }
+
+        final Optional<User> user = getUser(username);
+
+        if (!user.isPresent()) {
+            // unknown identities are not cached, so that they cannot evict the known ones
+            return null;
+        }
+
+        final long loadedAt = this.nanoTime.getAsLong();
+        final Entry entry = new Entry(getPasswordHash(user.get()), getIdentityPermissions(username),
+                super.isPasswordChangeRequired(username), loadedAt);
+
+        synchronized (this) {
+            if (this.generation == loadGeneration) {
+                this.entries.put(username, entry);
+            }
+        }
+
+        return entry;
+    }
+
+    private static final class Entry {
+
+        private final Object passwordHash;
+        private final Set<String> permissions;
+        private final boolean passwordChangeRequired;
+        private final long loadedAt;
+
+        private Entry(final Object passwordHash, final Set<String> permissions, final boolean passwordChangeRequired,
+                final long loadedAt) {
+            this.passwordHash = passwordHash;
+            this.permissions = permissions;
+            this.passwordChangeRequired = passwordChangeRequired;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
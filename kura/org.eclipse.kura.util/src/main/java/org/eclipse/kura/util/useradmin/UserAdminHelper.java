@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -48,10 +48,14 @@ public class UserAdminHelper {
         final User user = getUser(username)
                 .orElseThrow(() -> new AuthenticationException(AuthenticationException.Reason.USER_NOT_FOUND));
 
+        verifyPassword(getPasswordHash(user), password);
+    }
+
+    void verifyPassword(final Object passwordHash, final String password) throws AuthenticationException {
         try {
             String sha256Password = cryptoService.sha256Hash(password);
 
-            if (!Objects.equals(sha256Password, user.getCredentials().get(PASSWORD_PROPERTY))) {
+            if (!Objects.equals(sha256Password, passwordHash)) {
                 throw new AuthenticationException(AuthenticationException.Reason.INCORRECT_PASSWORD);
             }
         } catch (final NoSuchAlgorithmException | UnsupportedEncodingException e) {
@@ -59,6 +63,10 @@ public class UserAdminHelper {
         }
     }
 
+    static Object getPasswordHash(final User user) {
+        return user.getCredentials().get(PASSWORD_PROPERTY);
+    }
+
     public void requirePermissions(final String username, final String... permissions) throws AuthenticationException {
         final String userRoleName = getUserRoleName(username);
         final Role role = userAdmin.getRole(userRoleName);
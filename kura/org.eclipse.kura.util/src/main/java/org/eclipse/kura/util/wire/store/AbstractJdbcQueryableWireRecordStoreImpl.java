@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,16 +20,22 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.type.DataType;
 import org.eclipse.kura.type.TypedValue;
 import org.eclipse.kura.type.TypedValues;
 import org.eclipse.kura.util.jdbc.ConnectionProvider;
+import org.eclipse.kura.wire.ColumnarWireRecords;
 import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +43,8 @@ public abstract class AbstractJdbcQueryableWireRecordStoreImpl {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractJdbcQueryableWireRecordStoreImpl.class);
 
+    private static final int DEFAULT_CHUNK_CAPACITY = 256;
+
     private final ConnectionProvider provider;
 
     protected AbstractJdbcQueryableWireRecordStoreImpl(final ConnectionProvider provider) {
@@ -54,20 +62,266 @@ public abstract class AbstractJdbcQueryableWireRecordStoreImpl {
             return provider.withConnection(c -> {
                 try (final Statement stmt = c.createStatement();
                         final ResultSet rset = stmt.executeQuery(query)) {
-                    final List<WireRecord> dataRecords = new ArrayList<>();
+                    return convertResultSet(rset);
+                }
+            });
+        } catch (final Exception e) {
+            throw new KuraStoreException(e, null);
+        }
 
-                    while (rset.next()) {
-                        final WireRecord wireRecord = new WireRecord(convertSQLRowToWireRecord(rset));
-                        dataRecords.add(wireRecord);
-                    }
+    }
+
+    public void performQuery(final String query, final int maxChunkSize, final Consumer<List<WireRecord>> consumer)
+            throws KuraStoreException {
+        performQuery(query, maxChunkSize, false, consumer);
+    }
 
-                    return dataRecords;
+    public void performColumnarQuery(final String query, final int maxChunkSize,
+            final Consumer<List<WireRecord>> consumer) throws KuraStoreException {
+        performQuery(query, maxChunkSize, true, consumer);
+    }
+
+    private void performQuery(final String query, final int maxChunkSize, final boolean columnar,
+            final Consumer<List<WireRecord>> consumer) throws KuraStoreException {
+        if (maxChunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero");
+        }
+
+        try {
+            provider.withConnection(c -> {
+                try (final Statement stmt = c.createStatement()) {
+                    stmt.setFetchSize(maxChunkSize);
+
+                    try (final ResultSet rset = stmt.executeQuery(query)) {
+                        convertResultSet(rset, maxChunkSize, columnar, consumer);
+                    }
                 }
+                return null;
             });
         } catch (final Exception e) {
             throw new KuraStoreException(e, null);
         }
+    }
+
+    protected List<WireRecord> convertResultSet(final ResultSet rset) throws SQLException {
+        final List<List<WireRecord>> chunks = new ArrayList<>(1);
+
+        convertResultSet(rset, Integer.MAX_VALUE, false, chunks::add);
+
+        return chunks.isEmpty() ? new ArrayList<>() : chunks.get(0);
+    }
+
+    /*
+     * The result set metadata is resolved once per query and the column values of each row are extracted in a
+     * reused buffer, which is then copied either in a WireRecord map or directly in a ColumnarWireRecords builder.
+     */
+    protected void convertResultSet(final ResultSet rset, final int maxChunkSize, final boolean columnar,
+            final Consumer<List<WireRecord>> consumer) throws SQLException {
+        final ResultSetMetaData rmet = rset.getMetaData();
+        final int columnCount = rmet.getColumnCount();
+        final String[] fieldNames = new String[columnCount];
+
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            String fieldName = rmet.getColumnLabel(columnIndex);
+
+            if (isNull(fieldName)) {
+                fieldName = getWireRecordPropertyName(rmet, columnIndex);
+            }
+
+            fieldNames[columnIndex - 1] = fieldName;
+        }
+
+        final boolean isColumnar = columnar && new HashSet<>(Arrays.asList(fieldNames)).size() == columnCount;
+        final int chunkCapacity = Math.min(maxChunkSize, DEFAULT_CHUNK_CAPACITY);
+        final Object[] row = new Object[columnCount];
+
+        ChunkBuilder chunk = new ChunkBuilder(fieldNames, isColumnar, chunkCapacity);
+
+        while (rset.next()) {
+            Arrays.fill(row, null);
+
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                final Optional<Object> dbExtractedData = extractColumnValue(rset, rmet, columnIndex);
+
+                if (!dbExtractedData.isPresent()) {
+                    continue;
+                }
+
+                final Object value = dbExtractedData.get();
+
+                if (getDataType(value) == null) {
+                    handleConversionException(rmet, columnIndex, fieldNames[columnIndex - 1], value,
+                            new IllegalArgumentException("Cannot convert to TypedValue"));
+                    continue;
+                }
+
+                row[columnIndex - 1] = value;
+            }
+
+            chunk.add(row);
+
+            if (chunk.size() >= maxChunkSize) {
+                consumer.accept(chunk.build());
+                chunk = new ChunkBuilder(fieldNames, isColumnar, chunkCapacity);
+            }
+        }
+
+        if (chunk.size() > 0) {
+            consumer.accept(chunk.build());
+        }
+    }
+
+    /*
+     * Builds a single result chunk. In columnar mode the column types are inferred from the first non null value of
+     * each column in the chunk. If a column contains values of different types, which is possible for example with
+     * SQLite, the chunk is converted to map based WireRecords instead.
+     */
+    private static final class ChunkBuilder {
+
+        private final String[] fieldNames;
+        private final int capacity;
+        private final DataType[] types;
+        private boolean isColumnar;
+        private ColumnarWireRecords.Builder columnarBuilder;
+        private List<WireRecord> records;
+        private int size;
+
+        ChunkBuilder(final String[] fieldNames, final boolean isColumnar, final int capacity) {
+            this.fieldNames = fieldNames;
+            this.capacity = capacity;
+            this.types = new DataType[fieldNames.length];
+            this.isColumnar = isColumnar;
+
+            if (!isColumnar) {
+                this.records = new ArrayList<>(capacity);
+            }
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        void add(final Object[] row) {
+            if (this.isColumnar && !addColumnar(row)) {
+                switchToWireRecords();
+            }
+
+            if (!this.isColumnar) {
+                this.records.add(toWireRecord(row));
+            }
+
+            this.size++;
+        }
+
+        List<WireRecord> build() {
+            return this.isColumnar ? this.columnarBuilder.build() : this.records;
+        }
+
+        private boolean addColumnar(final Object[] row) {
+            boolean hasNewTypes = false;
+
+            for (int i = 0; i < row.length; i++) {
+                if (row[i] == null) {
+                    continue;
+                }
+
+                final DataType type = getDataType(row[i]);
+
+                if (this.types[i] == null) {
+                    this.types[i] = type;
+                    hasNewTypes = true;
+                } else if (this.types[i] != type) {
+                    return false;
+                }
+            }
+
+            if (this.columnarBuilder == null || hasNewTypes) {
+                this.columnarBuilder = retype(this.columnarBuilder);
+            }
+
+            this.columnarBuilder.addRow();
+
+            for (int i = 0; i < row.length; i++) {
+                this.columnarBuilder.setObject(i, row[i]);
+            }
+
+            return true;
+        }
+
+        /*
+         * A column got its first value after the first row of the chunk, the rows added so far are copied in a
+         * builder with the updated schema. This only happens for columns that start with null values.
+         */
+        private ColumnarWireRecords.Builder retype(final ColumnarWireRecords.Builder previous) {
+            final List<DataType> schemaTypes = new ArrayList<>(this.types.length);
+
+            for (final DataType type : this.types) {
+                // columns without values, the type is not relevant
+                schemaTypes.add(type != null ? type : DataType.STRING);
+            }
+
+            final ColumnarWireRecords.Builder result = new ColumnarWireRecords.Builder(
+                    new WireRecordSchema(Arrays.asList(this.fieldNames), schemaTypes), this.capacity);
+
+            if (previous != null) {
+                final ColumnarWireRecords previousRecords = previous.build();
+
+                for (int row = 0; row < previousRecords.size(); row++) {
+                    result.addRow();
+
+                    for (int column = 0; column < this.types.length; column++) {
+                        result.setObject(column, previousRecords.getObject(row, column));
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        private void switchToWireRecords() {
+            this.records = new ArrayList<>(this.capacity);
+
+            if (this.columnarBuilder != null) {
+                for (final WireRecord wireRecord : this.columnarBuilder.build()) {
+                    this.records.add(new WireRecord(new HashMap<>(wireRecord.getProperties())));
+                }
+            }
+
+            this.columnarBuilder = null;
+            this.isColumnar = false;
+        }
+
+        private WireRecord toWireRecord(final Object[] row) {
+            final Map<String, TypedValue<?>> wireRecordProperties = new HashMap<>();
+
+            for (int i = 0; i < row.length; i++) {
+                if (row[i] != null) {
+                    wireRecordProperties.put(this.fieldNames[i], TypedValues.newTypedValue(row[i]));
+                }
+            }
+
+            return new WireRecord(wireRecordProperties);
+        }
+    }
+
+    private static DataType getDataType(final Object value) {
+        if (value instanceof Boolean) {
+            return DataType.BOOLEAN;
+        } else if (value instanceof byte[]) {
+            return DataType.BYTE_ARRAY;
+        } else if (value instanceof Float) {
+            return DataType.FLOAT;
+        } else if (value instanceof Double) {
+            return DataType.DOUBLE;
+        } else if (value instanceof Integer) {
+            return DataType.INTEGER;
+        } else if (value instanceof Long) {
+            return DataType.LONG;
+        } else if (value instanceof String) {
+            return DataType.STRING;
+        }
 
+        return null;
     }
 
     protected Map<String, TypedValue<?>> convertSQLRowToWireRecord(final ResultSet rset)
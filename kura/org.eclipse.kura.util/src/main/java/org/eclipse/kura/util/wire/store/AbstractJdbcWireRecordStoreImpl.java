@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,7 +35,9 @@ import org.eclipse.kura.connection.listener.ConnectionListener;
 import org.eclipse.kura.type.TypedValue;
 import org.eclipse.kura.util.jdbc.ConnectionProvider;
 import org.eclipse.kura.util.jdbc.JdbcUtil;
+import org.eclipse.kura.wire.ColumnarWireRecords;
 import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
 import org.eclipse.kura.wire.store.provider.WireRecordStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -92,6 +96,13 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         }, "failed to create index");
     }
 
+    protected void dropTable() throws KuraStoreException {
+        this.connectionProvider.withConnection(c -> {
+            execute(c, this.queries.getSqlDropTable());
+            return null;
+        }, "failed to drop table");
+    }
+
     @Override
     public synchronized void truncate(final int noOfRecordsToKeep) throws KuraStoreException {
 
@@ -123,6 +134,11 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
 
     @Override
     public synchronized void insertRecords(final List<WireRecord> records) throws KuraStoreException {
+        if (records instanceof ColumnarWireRecords) {
+            insertColumnarRecords((ColumnarWireRecords) records);
+            return;
+        }
+
         this.connectionProvider.withConnection(c -> {
 
             for (final WireRecord r : records) {
@@ -141,11 +157,50 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         }, "failed to insert records");
     }
 
+    /*
+     * Columns are created once per batch using the schema, the records that provide a value for all the columns
+     * are inserted using a single prepared statement, reading the values directly from the column arrays.
+     */
+    private void insertColumnarRecords(final ColumnarWireRecords records) throws KuraStoreException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        final ColumnarInsert insert = new ColumnarInsert(records);
+
+        this.connectionProvider.withConnection(c -> {
+            try {
+                insert.run(c);
+            } catch (final SQLException e) {
+                logger.info("Reconciling table and columns");
+                execute(c, this.queries.getSqlCreateTable());
+                insert.run(c);
+            }
+
+            return null;
+        }, "failed to insert records");
+    }
+
     @Override
     public void close() {
         // nothing to close
     }
 
+    protected void createColumns(final Connection c, final ColumnarWireRecords records) throws SQLException {
+
+        final Map<String, String> columnTypes = probeColumnTypes(c);
+        final WireRecordSchema schema = records.getSchema();
+
+        for (int column = 0; column < schema.size(); column++) {
+            for (int row = 0; row < records.size(); row++) {
+                if (records.isPresent(row, column)) {
+                    createColumn(c, schema.getName(column), records.getValue(row, column), columnTypes);
+                    break;
+                }
+            }
+        }
+    }
+
     protected void createColumns(final Connection c, final WireRecord wireRecord) throws SQLException {
 
         final Map<String, String> columnTypes = probeColumnTypes(c);
@@ -264,6 +319,48 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         return MessageFormat.format(queries.getSqlInsertRecord(), sbCols.toString(), sbVals.toString());
     }
 
+    protected String buildInsertQuerySql(final List<String> columnNames) {
+        final StringBuilder sbCols = new StringBuilder();
+        final StringBuilder sbVals = new StringBuilder();
+
+        sbCols.append("TIMESTAMP");
+        sbVals.append("?");
+
+        for (final String name : columnNames) {
+            sbCols.append(", ").append(escapeIdentifier(name));
+            sbVals.append(", ?");
+        }
+
+        return MessageFormat.format(queries.getSqlInsertRecord(), sbCols.toString(), sbVals.toString());
+    }
+
+    protected void setParameterValue(final PreparedStatement stmt, final int index,
+            final ColumnarWireRecords records, final int row, final int column) throws SQLException {
+        switch (records.getSchema().getType(column)) {
+        case BOOLEAN:
+            stmt.setBoolean(index, records.getBoolean(row, column));
+            break;
+        case INTEGER:
+            stmt.setInt(index, records.getInt(row, column));
+            break;
+        case LONG:
+            stmt.setLong(index, records.getLong(row, column));
+            break;
+        case FLOAT:
+            stmt.setFloat(index, records.getFloat(row, column));
+            break;
+        case DOUBLE:
+            stmt.setDouble(index, records.getDouble(row, column));
+            break;
+        case STRING:
+            stmt.setString(index, records.getString(row, column));
+            break;
+        default:
+            stmt.setBytes(index, records.getByteArray(row, column));
+            break;
+        }
+    }
+
     protected void setParameterValue(final PreparedStatement stmt, final int index, final Object value)
             throws SQLException {
         if (value instanceof String) {
@@ -310,4 +407,72 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         return false;
     }
 
+    private final class ColumnarInsert {
+
+        private final ColumnarWireRecords records;
+        private final int[] columns;
+        private final List<String> columnNames = new ArrayList<>();
+        private int nextRow;
+
+        ColumnarInsert(final ColumnarWireRecords records) {
+            this.records = records;
+
+            final WireRecordSchema schema = records.getSchema();
+            final int[] usedColumns = new int[schema.size()];
+            int count = 0;
+
+            for (int column = 0; column < schema.size(); column++) {
+                for (int row = 0; row < records.size(); row++) {
+                    if (records.isPresent(row, column)) {
+                        usedColumns[count++] = column;
+                        this.columnNames.add(schema.getName(column));
+                        break;
+                    }
+                }
+            }
+
+            this.columns = Arrays.copyOf(usedColumns, count);
+        }
+
+        void run(final Connection c) throws SQLException {
+            createColumns(c, this.records);
+
+            logger.debug("Storing data into table {}...", escapedTableName);
+
+            try (final PreparedStatement stmt = c.prepareStatement(buildInsertQuerySql(this.columnNames))) {
+
+                while (this.nextRow < this.records.size()) {
+                    final int row = this.nextRow;
+
+                    if (isComplete(row)) {
+                        stmt.setLong(1, System.currentTimeMillis());
+
+                        for (int i = 0; i < this.columns.length; i++) {
+                            setParameterValue(stmt, i + 2, this.records, row, this.columns[i]);
+                        }
+
+                        stmt.execute();
+
+                        if (isExplicitCommitEnabled()) {
+                            c.commit();
+                        }
+                    } else {
+                        insertRecord(c, this.records.get(row));
+                    }
+
+                    this.nextRow++;
+                }
+            }
+        }
+
+        private boolean isComplete(final int row) {
+            for (final int column : this.columns) {
+                if (!this.records.isPresent(row, column)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
 }
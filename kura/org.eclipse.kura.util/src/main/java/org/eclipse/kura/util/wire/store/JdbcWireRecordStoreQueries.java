@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ public class JdbcWireRecordStoreQueries {
     private final String sqlInsertRecord;
     private final String sqlTruncateTable;
     private final String sqlCreateTimestampIndex;
+    private final String sqlDropTable;
 
     private JdbcWireRecordStoreQueries(Builder builder) {
         this.sqlAddColumn = requireNonNull(builder.sqlAddColumn);
@@ -34,6 +35,7 @@ public class JdbcWireRecordStoreQueries {
         this.sqlInsertRecord = requireNonNull(builder.sqlInsertRecord);
         this.sqlTruncateTable = requireNonNull(builder.sqlTruncateTable);
         this.sqlCreateTimestampIndex = requireNonNull(builder.sqlCreateTimestampIndex);
+        this.sqlDropTable = requireNonNull(builder.sqlDropTable);
     }
 
     public String getSqlAddColumn() {
@@ -68,6 +70,10 @@ public class JdbcWireRecordStoreQueries {
         return sqlCreateTimestampIndex;
     }
 
+    public String getSqlDropTable() {
+        return sqlDropTable;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -82,6 +88,7 @@ public class JdbcWireRecordStoreQueries {
         private String sqlInsertRecord;
         private String sqlTruncateTable;
         private String sqlCreateTimestampIndex;
+        private String sqlDropTable;
 
         public Builder withSqlAddColumn(String sqlAddColumn) {
             this.sqlAddColumn = sqlAddColumn;
@@ -123,6 +130,11 @@ public class JdbcWireRecordStoreQueries {
             return this;
         }
 
+        public Builder withSqlDropTable(String sqlDropTable) {
+            this.sqlDropTable = sqlDropTable;
+            return this;
+        }
+
         public JdbcWireRecordStoreQueries build() {
             return new JdbcWireRecordStoreQueries(this);
         }
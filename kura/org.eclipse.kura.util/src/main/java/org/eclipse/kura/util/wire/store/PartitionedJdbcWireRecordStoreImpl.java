@@ -0,0 +1,388 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.util.wire.store;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.util.jdbc.ConnectionProvider;
+import org.eclipse.kura.wire.ColumnarWireRecords;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
+import org.eclipse.kura.wire.store.provider.WireRecordStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link WireRecordStore} that stores records in a sequence of tables, each one containing the records inserted
+ * during a fixed time interval. Each partition is managed by a {@link AbstractJdbcWireRecordStoreImpl} instance
+ * created by the provided {@link PartitionFactory}.
+ * <p>
+ * Retention is implemented by dropping whole partitions, row counts are computed once when the store is opened and
+ * then maintained incrementally. The content of all partitions is exposed for querying by a view with the same name
+ * as the store, the view columns are the union of the columns of all partitions.
+ */
+public class PartitionedJdbcWireRecordStoreImpl implements WireRecordStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionedJdbcWireRecordStoreImpl.class);
+
+    private static final String PARTITION_SEPARATOR = "__";
+
+    private final ConnectionProvider connectionProvider;
+    private final String name;
+    private final String partitionPrefix;
+    private final long partitionIntervalMillis;
+    private final PartitionFactory partitionFactory;
+
+    private final TreeMap<Long, Partition> partitions = new TreeMap<>();
+    private final Set<String> knownProperties = new HashSet<>();
+    private int size;
+
+    public PartitionedJdbcWireRecordStoreImpl(final ConnectionProvider connectionProvider, final String name,
+            final long partitionIntervalMillis, final PartitionFactory partitionFactory) throws KuraStoreException {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Table name cannot be null or empty.");
+        }
+        if (partitionIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Partition interval must be greater than zero.");
+        }
+        this.connectionProvider = requireNonNull(connectionProvider, "Connection provider cannot be null");
+        this.name = name;
+        this.partitionPrefix = name + PARTITION_SEPARATOR;
+        this.partitionIntervalMillis = partitionIntervalMillis;
+        this.partitionFactory = requireNonNull(partitionFactory, "Partition factory cannot be null");
+
+        loadPartitions();
+    }
+
+    @Override
+    public synchronized void truncate(final int noOfRecordsToKeep) throws KuraStoreException {
+        final TreeMap<Long, Partition> dropped = new TreeMap<>();
+
+        for (final Entry<Long, Partition> entry : this.partitions.entrySet()) {
+            final Partition oldest = entry.getValue();
+
+            if (this.size - oldest.size < noOfRecordsToKeep) {
+                break;
+            }
+
+            dropped.put(entry.getKey(), oldest);
+            this.size -= oldest.size;
+        }
+
+        if (!dropped.isEmpty()) {
+            this.partitions.keySet().removeAll(dropped.keySet());
+
+            // the view is replaced before dropping the partitions, so that it never references a dropped table and
+            // the queries running concurrently do not find it missing
+            updateView();
+            dropPartitions(dropped);
+        }
+
+        if (this.size > noOfRecordsToKeep && !this.partitions.isEmpty()) {
+            final Partition oldest = this.partitions.firstEntry().getValue();
+            final int toKeepInOldest = noOfRecordsToKeep - (this.size - oldest.size);
+
+            logger.info("Partition interval too large for the requested size, partially emptying partition {}",
+                    oldest.store.escapedTableName);
+            oldest.store.truncate(toKeepInOldest);
+            this.size -= oldest.size - toKeepInOldest;
+            oldest.size = toKeepInOldest;
+        }
+    }
+
+    @Override
+    public synchronized int getSize() throws KuraStoreException {
+        return this.size;
+    }
+
+    @Override
+    public synchronized void insertRecords(final List<WireRecord> records) throws KuraStoreException {
+        final long partitionId = System.currentTimeMillis() / this.partitionIntervalMillis
+                * this.partitionIntervalMillis;
+
+        Partition partition = this.partitions.get(partitionId);
+        boolean schemaChanged = false;
+
+        if (partition == null) {
+            partition = new Partition(this.partitionFactory.open(this.partitionPrefix + partitionId), 0);
+            this.partitions.put(partitionId, partition);
+            schemaChanged = true;
+        }
+
+        if (records instanceof ColumnarWireRecords) {
+            schemaChanged |= addKnownProperties((ColumnarWireRecords) records);
+        } else {
+            for (final WireRecord wireRecord : records) {
+                schemaChanged |= this.knownProperties.addAll(wireRecord.getProperties().keySet());
+            }
+        }
+
+        try {
+            partition.store.insertRecords(records);
+            partition.size += records.size();
+            this.size += records.size();
+        } catch (final KuraStoreException e) {
+            recount(partition);
+            throw e;
+        } finally {
+            if (schemaChanged) {
+                updateView();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+
+    private boolean addKnownProperties(final ColumnarWireRecords records) {
+        final WireRecordSchema schema = records.getSchema();
+        boolean result = false;
+
+        for (int column = 0; column < schema.size(); column++) {
+            for (int row = 0; row < records.size(); row++) {
+                if (records.isPresent(row, column)) {
+                    result |= this.knownProperties.add(schema.getName(column));
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void recount(final Partition partition) throws KuraStoreException {
+        final int actualSize = partition.store.getSize();
+        this.size += actualSize - partition.size;
+        partition.size = actualSize;
+    }
+
+    private void loadPartitions() throws KuraStoreException {
+        final List<String> tableNames = this.connectionProvider.withConnection(this::listPartitionTables,
+                "failed to list partitions");
+
+        for (final String tableName : tableNames) {
+            final long partitionId;
+            try {
+                partitionId = Long.parseLong(tableName.substring(this.partitionPrefix.length()));
+            } catch (final NumberFormatException e) {
+                continue;
+            }
+
+            final AbstractJdbcWireRecordStoreImpl store = this.partitionFactory.open(tableName);
+            final int partitionSize = store.getSize();
+
+            this.partitions.put(partitionId, new Partition(store, partitionSize));
+            this.size += partitionSize;
+        }
+
+        logger.info("Opened partitioned store {} with {} partitions and {} records", this.name,
+                this.partitions.size(), this.size);
+
+        updateView();
+    }
+
+    private List<String> listPartitionTables(final Connection c) throws SQLException {
+        final List<String> result = new ArrayList<>();
+
+        try (final ResultSet tables = c.getMetaData().getTables(c.getCatalog(), null, null, null)) {
+            while (tables.next()) {
+                final String tableName = tables.getString("TABLE_NAME");
+                final String tableType = tables.getString("TABLE_TYPE");
+
+                if (tableName.startsWith(this.partitionPrefix) && !isView(tableType)) {
+                    result.add(tableName);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private boolean isConflictingTablePresent(final Connection c) throws SQLException {
+        try (final ResultSet tables = c.getMetaData().getTables(c.getCatalog(), null, null, null)) {
+            while (tables.next()) {
+                if (this.name.equals(tables.getString("TABLE_NAME")) && !isView(tables.getString("TABLE_TYPE"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isView(final String tableType) {
+        return tableType != null && tableType.toUpperCase().contains("VIEW");
+    }
+
+    private void dropPartitions(final TreeMap<Long, Partition> dropped) throws KuraStoreException {
+        final Iterator<Partition> iter = dropped.values().iterator();
+
+        try {
+            while (iter.hasNext()) {
+                final Partition partition = iter.next();
+
+                logger.info("Dropping partition {}", partition.store.escapedTableName);
+                partition.store.dropTable();
+                iter.remove();
+            }
+        } finally {
+            if (!dropped.isEmpty()) {
+                // the partitions that have not been dropped still belong to the store
+                for (final Entry<Long, Partition> entry : dropped.entrySet()) {
+                    this.partitions.put(entry.getKey(), entry.getValue());
+                    this.size += entry.getValue().size;
+                }
+                updateView();
+            }
+        }
+    }
+
+    /**
+     * Makes the view reference the current set of partitions. The view is never observed as missing by concurrent
+     * queries: databases that commit transactions on DDL statements, like H2, are expected to support
+     * {@code CREATE OR REPLACE VIEW}, on the others, like SQLite, the view is dropped and created again in a single
+     * transaction. The view is dropped if there are no partitions.
+     */
+    private void updateView() {
+        try {
+            this.connectionProvider.withConnection(c -> {
+                if (isConflictingTablePresent(c)) {
+                    logger.warn("A table named {} already exists, the view on the partitions will not be created",
+                            this.name);
+                    return null;
+                }
+
+                if (this.partitions.isEmpty()) {
+                    try (final Statement stmt = c.createStatement()) {
+                        stmt.execute("DROP VIEW IF EXISTS " + escapeIdentifier(this.name));
+                    }
+                } else if (c.getMetaData().dataDefinitionCausesTransactionCommit()) {
+                    try (final Statement stmt = c.createStatement()) {
+                        stmt.execute("CREATE OR REPLACE VIEW " + escapeIdentifier(this.name) + " AS "
+                                + buildViewQuery(c));
+                    }
+                } else {
+                    replaceViewInTransaction(c);
+                    return null;
+                }
+
+                if (!this.partitions.isEmpty()
+                        && this.partitions.firstEntry().getValue().store.isExplicitCommitEnabled()) {
+                    c.commit();
+                }
+
+                return null;
+            }, "failed to update view");
+        } catch (final KuraStoreException e) {
+            logger.warn("Failed to update view {}", this.name, e);
+        }
+    }
+
+    private void replaceViewInTransaction(final Connection c) throws SQLException {
+        final boolean autoCommit = c.getAutoCommit();
+
+        c.setAutoCommit(false);
+
+        try (final Statement stmt = c.createStatement()) {
+            stmt.execute("DROP VIEW IF EXISTS " + escapeIdentifier(this.name));
+            stmt.execute("CREATE VIEW " + escapeIdentifier(this.name) + " AS " + buildViewQuery(c));
+            c.commit();
+        } catch (final SQLException e) {
+            c.rollback();
+            throw e;
+        } finally {
+            c.setAutoCommit(autoCommit);
+        }
+    }
+
+    private String buildViewQuery(final Connection c) throws SQLException {
+        final List<Set<String>> partitionColumns = new ArrayList<>();
+        final Set<String> allColumns = new TreeSet<>();
+
+        for (final Partition partition : this.partitions.values()) {
+            final Set<String> columns = partition.store.probeColumnTypes(c).keySet();
+            partitionColumns.add(columns);
+            allColumns.addAll(columns);
+        }
+
+        final StringBuilder sql = new StringBuilder();
+
+        int i = 0;
+        for (final Entry<Long, Partition> entry : this.partitions.entrySet()) {
+            final Set<String> columns = partitionColumns.get(i);
+
+            if (i > 0) {
+                sql.append(" UNION ALL ");
+            }
+
+            sql.append("SELECT ");
+            boolean first = true;
+            for (final String column : allColumns) {
+                if (!first) {
+                    sql.append(", ");
+                }
+                first = false;
+
+                if (columns.contains(column)) {
+                    sql.append(column);
+                } else {
+                    sql.append("NULL AS ").append(column);
+                }
+            }
+            sql.append(" FROM ").append(entry.getValue().store.escapedTableName);
+
+            i++;
+        }
+
+        return sql.toString();
+    }
+
+    private static String escapeIdentifier(final String string) {
+        return "\"" + string.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Creates or opens the store managing a single partition.
+     */
+    @FunctionalInterface
+    public interface PartitionFactory {
+
+        public AbstractJdbcWireRecordStoreImpl open(final String tableName) throws KuraStoreException;
+    }
+
+    private static final class Partition {
+
+        private final AbstractJdbcWireRecordStoreImpl store;
+        private int size;
+
+        Partition(final AbstractJdbcWireRecordStoreImpl store, final int size) {
+            this.store = store;
+            this.size = size;
+        }
+    }
+}
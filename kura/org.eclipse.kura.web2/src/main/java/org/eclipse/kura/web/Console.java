@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,10 @@ import static java.util.Objects.isNull;
 import static org.eclipse.kura.web.session.SecurityHandler.chain;
 
 import java.util.Arrays;
+import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Hashtable;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
@@ -67,13 +69,13 @@ import org.eclipse.kura.web.server.GwtWireGraphServiceImpl;
 import org.eclipse.kura.web.server.KuraRemoteServiceServlet;
 import org.eclipse.kura.web.server.servlet.ChannelServlet;
 import org.eclipse.kura.web.server.servlet.DeviceSnapshotsServlet;
+import org.eclipse.kura.web.server.servlet.EventPushServlet;
 import org.eclipse.kura.web.server.servlet.FileServlet;
 import org.eclipse.kura.web.server.servlet.LogServlet;
 import org.eclipse.kura.web.server.servlet.RedirectServlet;
 import org.eclipse.kura.web.server.servlet.SendStatusServlet;
 import org.eclipse.kura.web.server.servlet.SkinServlet;
 import org.eclipse.kura.web.server.servlet.SslAuthenticationServlet;
-import org.eclipse.kura.web.server.servlet.WiresBlinkServlet;
 import org.eclipse.kura.web.server.servlet.WiresSnapshotServlet;
 import org.eclipse.kura.web.server.util.GwtServerUtil;
 import org.eclipse.kura.web.session.Attributes;
@@ -82,10 +84,13 @@ import org.eclipse.kura.web.session.CreateSessionSecurityHandler;
 import org.eclipse.kura.web.session.HttpContextImpl;
 import org.eclipse.kura.web.session.RoutingSecurityHandler;
 import org.eclipse.kura.web.session.SecurityHandler;
+import org.eclipse.kura.web.session.ServletContextHelperImpl;
 import org.eclipse.kura.web.session.SessionAutorizationSecurityHandler;
 import org.eclipse.kura.web.session.SessionExpirationSecurityHandler;
 import org.eclipse.kura.web.session.SessionLockedSecurityHandler;
+import org.eclipse.kura.web.session.SessionRegistry;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventAdmin;
@@ -93,6 +98,8 @@ import org.osgi.service.event.EventProperties;
 import org.osgi.service.http.HttpContext;
 import org.osgi.service.http.HttpService;
 import org.osgi.service.http.NamespaceException;
+import org.osgi.service.http.context.ServletContextHelper;
+import org.osgi.service.http.whiteboard.HttpWhiteboardConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -104,6 +111,9 @@ public class Console implements SelfConfiguringComponent, org.eclipse.kura.web.a
 
     public static final String ADMIN_ROOT = "/admin";
 
+    private static final String EVENT_PUSH_PATH = ADMIN_ROOT + "/sse";
+    private static final String EVENT_PUSH_CONTEXT_NAME = "org.eclipse.kura.web.push";
+
     private static final String LOGIN_MODULE_PATH = ADMIN_ROOT + "/login";
     private static final String DENALI_MODULE_PATH = ADMIN_ROOT + "/denali";
 
@@ -133,9 +143,12 @@ public class Console implements SelfConfiguringComponent, org.eclipse.kura.web.a
     private EventAdmin eventAdmin;
     private UserManager userManager;
     private GwtEventServiceImpl eventService;
-    private WiresBlinkServlet wiresBlinkService;
+    private EventPushServlet eventPushServlet;
+    private ServiceRegistration<ServletContextHelper> eventPushContextRegistration;
+    private ServiceRegistration<Servlet> eventPushServletRegistration;
 
     private HttpContext sessionContext;
+    private final SessionRegistry sessionRegistry = new SessionRegistry();
 
     private final Set<ServletRegistration> securedServlets = new CopyOnWriteArraySet<>();
     private final Set<ServletRegistration> loginServlets = new CopyOnWriteArraySet<>();
@@ -329,8 +342,8 @@ public class Console implements SelfConfiguringComponent, org.eclipse.kura.web.a
         this.httpService.unregister(DENALI_MODULE_PATH + "/ssl");
         this.httpService.unregister(DENALI_MODULE_PATH + "/keystore");
         this.httpService.unregister(LOGIN_MODULE_PATH + "/extension");
-        this.wiresBlinkService.stop();
-        this.httpService.unregister(ADMIN_ROOT + "/sse");
+        this.eventPushServlet.stop();
+        unregisterEventPushServlet();
         this.eventService.stop();
         this.httpService.unregister(DENALI_MODULE_PATH + EVENT_PATH);
 
@@ -341,6 +354,8 @@ public class Console implements SelfConfiguringComponent, org.eclipse.kura.web.a
         for (final ServletRegistration reg : this.loginServlets) {
             this.httpService.unregister(reg.path);
         }
+
+        this.sessionRegistry.clear();
     }
 
     public static Console instance() {
@@ -414,7 +429,7 @@ public class Console implements SelfConfiguringComponent, org.eclipse.kura.web.a
 
     private HttpContext initSessionContext(final HttpContext defaultContext) {
 
-        final Set<String> eventPaths = new HashSet<>(Arrays.asList(DENALI_MODULE_PATH + EVENT_PATH, "/sse"));
+        final Set<String> eventPaths = new HashSet<>(Arrays.asList(DENALI_MODULE_PATH + EVENT_PATH));
 
         final SecurityHandler baseHandler = chain(new BaseSecurityHandler());
         final SecurityHandler sessionAuthHandler = new SessionAutorizationSecurityHandler();
@@ -424,8 +439,9 @@ public class Console implements SelfConfiguringComponent, org.eclipse.kura.web.a
         // default session handler requires an authenticated session and handles session
         // expiration, handles session
         // lock
+        // authenticated sessions are made available to the servlets registered through the HTTP Whiteboard
         final SecurityHandler defaultHandler = chain(baseHandler, sessionAuthHandler, sessionLockedSecurityHandler,
-                sessionExpirationHandler);
+                sessionExpirationHandler, this.sessionRegistry);
 
         final RoutingSecurityHandler routingHandler = new RoutingSecurityHandler(
                 defaultHandler.sendErrorOnFailure(401));
@@ -440,7 +456,7 @@ public class Console implements SelfConfiguringComponent, org.eclipse.kura.web.a
         // exception on event paths, activity on these paths does not count towards
         // session expiration
         routingHandler.addRouteHandler(eventPaths::contains,
-                chain(baseHandler, sessionAuthHandler).sendErrorOnFailure(401));
+                chain(baseHandler, sessionAuthHandler, this.sessionRegistry).sendErrorOnFailure(401));
 
         // exception on admin console path, redirect to login page on failure instead of
         // sending 401 status
@@ -459,10 +475,51 @@ public class Console implements SelfConfiguringComponent, org.eclipse.kura.web.a
         return new HttpContextImpl(new BaseSecurityHandler(), defaultContext);
     }
 
+    /*
+     * The HttpService does not allow asynchronous processing, the event push servlet is registered through the HTTP
+     * Whiteboard in a dedicated context. Like the event paths, activity on the push stream does not count towards
+     * session expiration.
+     */
+    private void registerEventPushServlet() {
+        final BundleContext bundleContext = getBundleContext();
+
+        final SecurityHandler securityHandler = chain(new BaseSecurityHandler(),
+                new SessionAutorizationSecurityHandler()).sendErrorOnFailure(401);
+
+        final Dictionary<String, Object> contextProperties = new Hashtable<>();
+        contextProperties.put(HttpWhiteboardConstants.HTTP_WHITEBOARD_CONTEXT_NAME, EVENT_PUSH_CONTEXT_NAME);
+        contextProperties.put(HttpWhiteboardConstants.HTTP_WHITEBOARD_CONTEXT_PATH, "/");
+
+        this.eventPushContextRegistration = bundleContext.registerService(ServletContextHelper.class,
+                new ServletContextHelperImpl(bundleContext.getBundle(), securityHandler, this.sessionRegistry),
+                contextProperties);
+
+        final Dictionary<String, Object> servletProperties = new Hashtable<>();
+        servletProperties.put(HttpWhiteboardConstants.HTTP_WHITEBOARD_SERVLET_PATTERN, EVENT_PUSH_PATH);
+        servletProperties.put(HttpWhiteboardConstants.HTTP_WHITEBOARD_SERVLET_ASYNC_SUPPORTED, true);
+        servletProperties.put(HttpWhiteboardConstants.HTTP_WHITEBOARD_CONTEXT_SELECT,
+                "(" + HttpWhiteboardConstants.HTTP_WHITEBOARD_CONTEXT_NAME + "=" + EVENT_PUSH_CONTEXT_NAME + ")");
+
+        this.eventPushServletRegistration = bundleContext.registerService(Servlet.class, this.eventPushServlet,
+                servletProperties);
+    }
+
+    private void unregisterEventPushServlet() {
+        if (this.eventPushServletRegistration != null) {
+            this.eventPushServletRegistration.unregister();
+            this.eventPushServletRegistration = null;
+        }
+
+        if (this.eventPushContextRegistration != null) {
+            this.eventPushContextRegistration.unregister();
+            this.eventPushContextRegistration = null;
+        }
+    }
+
     private synchronized void initHTTPService() throws NamespaceException, ServletException {
 
         this.eventService = new GwtEventServiceImpl();
-        this.wiresBlinkService = new WiresBlinkServlet();
+        this.eventPushServlet = new EventPushServlet(this.eventService, this.sessionRegistry);
 
         final HttpContext defaultContext = this.httpService.createDefaultHttpContext();
         final HttpContext resourceContext = initResourceContext(defaultContext);
@@ -535,7 +592,7 @@ public class Console implements SelfConfiguringComponent, org.eclipse.kura.web.a
                 this.sessionContext);
         this.httpService.registerServlet(DENALI_MODULE_PATH + "/assetservices", new GwtDriverAndAssetServiceImpl(),
                 null, this.sessionContext);
-        this.httpService.registerServlet(ADMIN_ROOT + "/sse", this.wiresBlinkService, null, this.sessionContext);
+        registerEventPushServlet();
         this.httpService.registerServlet(DENALI_MODULE_PATH + EVENT_PATH, this.eventService, null, this.sessionContext);
 
         for (final ServletRegistration reg : this.securedServlets) {
@@ -547,6 +604,7 @@ public class Console implements SelfConfiguringComponent, org.eclipse.kura.web.a
         }
 
         this.eventService.start();
+        this.eventPushServlet.start();
     }
 
     public Set<ClientExtensionBundle> getConsoleExtensions() {
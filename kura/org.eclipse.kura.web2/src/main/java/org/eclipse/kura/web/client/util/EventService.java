@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,125 +14,55 @@ package org.eclipse.kura.web.client.util;
 
 import java.util.HashMap;
 import java.util.LinkedList;
-import java.util.List;
 
 import org.eclipse.kura.web.shared.ForwardedEventTopic;
 import org.eclipse.kura.web.shared.model.GwtEventInfo;
-import org.eclipse.kura.web.shared.service.GwtEventService;
-import org.eclipse.kura.web.shared.service.GwtEventServiceAsync;
 
-import com.google.gwt.core.client.GWT;
-import com.google.gwt.http.client.RequestBuilder;
-import com.google.gwt.user.client.Timer;
-import com.google.gwt.user.client.rpc.AsyncCallback;
-import com.google.gwt.user.client.rpc.RpcRequestBuilder;
-import com.google.gwt.user.client.rpc.ServiceDefTarget;
-import com.google.gwt.user.client.rpc.StatusCodeException;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsonUtils;
 
 public final class EventService {
 
-    private static final int ON_FAILURE_RESEND_DELAY = 5000;
+    private static final String PUSH_CHANNEL = "event";
     private static final EventService instance = new EventService();
 
-    private final GwtEventServiceAsync gwtEventService = GWT.create(GwtEventService.class);
     private final HashMap<String, LinkedList<Handler>> subscribedHandlers = new HashMap<>();
-    private long lastEventTimestamp = 0;
-    private Timer resendTimer;
-
-    private class TimeoutRequestBuilder extends RpcRequestBuilder {
-
-        @Override
-        protected RequestBuilder doCreate(String serviceEntryPoint) {
-            RequestBuilder builder = super.doCreate(serviceEntryPoint);
-            builder.setTimeoutMillis(GwtEventService.POLL_TIMEOUT_SECONDS * 1000);
-            return builder;
-        }
-    }
 
     private EventService() {
-        ((ServiceDefTarget) this.gwtEventService).setRpcRequestBuilder(new TimeoutRequestBuilder());
-        this.gwtEventService.getLastEventTimestamp(new AsyncCallback<String>() {
-
-            @Override
-            public void onSuccess(String result) {
-                EventService.this.lastEventTimestamp = Long.parseLong(result);
-                EventService.this.gwtEventService.getNextEvents(Long.toString(EventService.this.lastEventTimestamp),
-                        EventService.this.eventCallback);
-            }
-
-            @Override
-            public void onFailure(Throwable caught) {
-                // Nothing to do
-            }
-        });
+        PushChannel.subscribe(PUSH_CHANNEL, this::onMessage);
     }
 
-    private final AsyncCallback<List<GwtEventInfo>> eventCallback = new AsyncCallback<List<GwtEventInfo>>() {
-
-        @Override
-        public void onSuccess(List<GwtEventInfo> result) {
-
-            for (GwtEventInfo event : result) {
-                processEvent(event);
-            }
+    private void onMessage(String data) {
+        final GwtEventInfo event = new GwtEventInfo();
 
-            stopResendTimer();
+        copyProperties(JsonUtils.safeParse(data), event);
 
-            EventService.this.gwtEventService.getNextEvents(Long.toString(EventService.this.lastEventTimestamp),
-                    EventService.this.eventCallback);
-        }
+        processEvent(event);
+    }
 
-        @Override
-        public void onFailure(Throwable caught) {
-            if (caught instanceof StatusCodeException) {
-                final StatusCodeException statusCodeException = (StatusCodeException) caught;
-                if (statusCodeException.getStatusCode() == 401) {
-                    FailureHandler.handle(caught);
-                }
-            }
+    private void processEvent(GwtEventInfo event) {
 
-            startResendTimer(ON_FAILURE_RESEND_DELAY);
+        if (event.getTopic() == null) {
+            return;
         }
 
-        private void processEvent(GwtEventInfo event) {
-
-            if (event == null) {
-                return;
-            }
-
-            EventService.this.lastEventTimestamp = Long.parseLong(event.getTimestamp());
-
-            LinkedList<Handler> topicHandlers = EventService.this.subscribedHandlers.get(event.getTopic());
+        LinkedList<Handler> topicHandlers = this.subscribedHandlers.get(event.getTopic());
 
-            if (topicHandlers != null) {
-                for (Handler handler : topicHandlers) {
-                    handler.handleEvent(event);
-                }
+        if (topicHandlers != null) {
+            for (Handler handler : topicHandlers) {
+                handler.handleEvent(event);
             }
         }
+    }
 
-        private void startResendTimer(int timeout) {
-            stopResendTimer();
-
-            EventService.this.resendTimer = new Timer() {
-
-                @Override
-                public void run() {
-                    EventService.this.gwtEventService.getNextEvents(Long.toString(EventService.this.lastEventTimestamp),
-                            EventService.this.eventCallback);
-                }
-            };
-            EventService.this.resendTimer.schedule(timeout);
-        }
-
-        private void stopResendTimer() {
-            if (EventService.this.resendTimer != null) {
-                EventService.this.resendTimer.cancel();
+    private static native void copyProperties(JavaScriptObject source, GwtEventInfo target)
+    /*-{
+        for (var key in source) {
+            if (source.hasOwnProperty(key) && source[key] != null) {
+                target.@org.eclipse.kura.web.shared.model.GwtBaseModel::set(Ljava/lang/String;Ljava/lang/Object;)(key, String(source[key]))
             }
-
-            EventService.this.resendTimer = null;
         }
-    };
+    }-*/;
 
     public static void subscribe(ForwardedEventTopic topic, Handler handler) {
         LinkedList<Handler> topicHandlers = instance.subscribedHandlers.get(topic.toString());
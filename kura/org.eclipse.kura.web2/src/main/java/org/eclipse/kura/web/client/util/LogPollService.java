@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,50 +12,40 @@
  *******************************************************************************/
 package org.eclipse.kura.web.client.util;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import org.eclipse.kura.web.shared.model.GwtLogEntry;
-import org.eclipse.kura.web.shared.service.GwtLogService;
-import org.eclipse.kura.web.shared.service.GwtLogServiceAsync;
 
-import com.google.gwt.core.client.GWT;
-import com.google.gwt.http.client.RequestBuilder;
-import com.google.gwt.user.client.Timer;
-import com.google.gwt.user.client.rpc.AsyncCallback;
-import com.google.gwt.user.client.rpc.RpcRequestBuilder;
-import com.google.gwt.user.client.rpc.ServiceDefTarget;
-import com.google.gwt.user.client.rpc.StatusCodeException;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.core.client.JsonUtils;
 
 public class LogPollService {
 
-    private static final int POLL_TIMEOUT = 2000;
-    private static final int ON_FAILURE_RESEND_DELAY = 2000;
-    private static final int RESEND_DELAY = 100;
-    private static final int RESEND_DELAY_NO_UPDATES = 5000;
+    private static final String PUSH_CHANNEL = "log";
 
-    private Timer resendTimer;
     private final List<LogListener> listeners = new LinkedList<>();
     private static LogPollService instance = new LogPollService();
-    private final GwtLogServiceAsync gwtLogService = GWT.create(GwtLogService.class);
 
-    private final Logger logger = Logger.getLogger("LogPollService");
-    private int rpcCount = 0;
-
-    private int lastReadEntryId = 0;
+    private final PushChannel.Listener pushListener = this::onMessage;
+    private boolean started;
 
     private LogPollService() {
-        ((ServiceDefTarget) this.gwtLogService).setRpcRequestBuilder(new TimeoutRequestBuilder());
     }
 
     public static void startLogPolling() {
-        startResendTimer(RESEND_DELAY);
+        if (!instance.started) {
+            instance.started = true;
+            PushChannel.subscribe(PUSH_CHANNEL, instance.pushListener);
+        }
     }
 
     public static void stopLogPolling() {
-        stopResendTimer();
+        if (instance.started) {
+            instance.started = false;
+            PushChannel.unsubscribe(PUSH_CHANNEL, instance.pushListener);
+        }
     }
 
     public static void subscribe(LogListener listener) {
@@ -71,72 +61,40 @@ public class LogPollService {
         public void onLogsReceived(List<GwtLogEntry> entries);
     }
 
-    private class TimeoutRequestBuilder extends RpcRequestBuilder {
-
-        @Override
-        protected RequestBuilder doCreate(String serviceEntryPoint) {
-            RequestBuilder builder = super.doCreate(serviceEntryPoint);
-            builder.setTimeoutMillis(POLL_TIMEOUT);
-            return builder;
-        }
-    }
-
-    private static void startResendTimer(int timeout) {
-        stopResendTimer();
-
-        instance.resendTimer = new Timer() {
+    private void onMessage(String data) {
+        final List<GwtLogEntry> entries = new ArrayList<>();
 
-            @Override
-            public void run() {
-                instance.gwtLogService.readLogs(instance.lastReadEntryId, instance.eventCallback);
-            }
-        };
-        instance.resendTimer.schedule(timeout);
-    }
+        parseEntries(JsonUtils.safeParse(data), entries);
 
-    private static void stopResendTimer() {
-        if (instance.resendTimer != null) {
-            instance.resendTimer.cancel();
+        if (entries.isEmpty()) {
+            return;
         }
 
-        instance.resendTimer = null;
-    }
-
-    private final AsyncCallback<List<GwtLogEntry>> eventCallback = new AsyncCallback<List<GwtLogEntry>>() {
-
-        @Override
-        public void onFailure(Throwable caught) {
-            if (caught instanceof StatusCodeException) {
-                final StatusCodeException statusCodeException = (StatusCodeException) caught;
-                if (statusCodeException.getStatusCode() == 401) {
-                    FailureHandler.handle(caught);
-                }
-            }
-
-            startResendTimer(ON_FAILURE_RESEND_DELAY);
+        for (LogListener listener : this.listeners) {
+            listener.onLogsReceived(entries);
         }
+    }
 
-        @Override
-        public void onSuccess(List<GwtLogEntry> result) {
-            LogPollService.this.logger.log(Level.INFO,
-                    () -> "RPC successful. Count: " + LogPollService.instance.rpcCount++);
-
-            int delay = RESEND_DELAY;
-
-            if (result != null && !result.isEmpty()) {
+    private static GwtLogEntry createEntry(int id, String timestamp) {
+        final GwtLogEntry entry = new GwtLogEntry();
+        entry.setId(id);
+        entry.setTimestamp(timestamp);
+        return entry;
+    }
 
-                for (LogListener listener : LogPollService.instance.listeners) {
-                    listener.onLogsReceived(result);
+    private static native void parseEntries(JavaScriptObject source, List<GwtLogEntry> target)
+    /*-{
+        for (var i = 0; i < source.length; i++) {
+            var item = source[i]
+            var entry = @org.eclipse.kura.web.client.util.LogPollService::createEntry(ILjava/lang/String;)(item.id, item.timestamp == null ? null : String(item.timestamp))
+            var properties = item.properties
+            for (var key in properties) {
+                if (properties.hasOwnProperty(key)) {
+                    // KuraBaseModel sanitizes the value
+                    entry.@org.eclipse.kura.web.shared.model.GwtBaseModel::set(Ljava/lang/String;Ljava/lang/Object;)(key, String(properties[key]))
                 }
-
-                LogPollService.instance.lastReadEntryId = result.get(result.size() - 1).getId();
-
-                stopResendTimer();
-            } else {
-                delay = RESEND_DELAY_NO_UPDATES;
             }
-
-            startResendTimer(delay);
+            target.@java.util.List::add(Ljava/lang/Object;)(entry)
         }
-    };
+    }-*/;
 }
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.web.client.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.web.shared.service.GwtEventService;
+import org.eclipse.kura.web.shared.service.GwtEventServiceAsync;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.JavaScriptObject;
+import com.google.gwt.http.client.URL;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.gwt.user.client.rpc.StatusCodeException;
+
+/**
+ * Receives the messages pushed by the server on a single Server Sent Events stream, multiplexing all the channels
+ * subscribed by the application.
+ */
+public final class PushChannel {
+
+    private static final String PUSH_PATH = "/admin/sse";
+    private static final int ON_FAILURE_REOPEN_DELAY = 5000;
+    private static final PushChannel instance = new PushChannel();
+
+    private final GwtEventServiceAsync gwtEventService = GWT.create(GwtEventService.class);
+    private final Map<String, List<Listener>> subscribedListeners = new HashMap<>();
+    private JavaScriptObject eventSource;
+    private String openChannels;
+    private String lastEventId;
+    private Timer reopenTimer;
+
+    private PushChannel() {
+    }
+
+    public static void subscribe(String channel, Listener listener) {
+        List<Listener> channelListeners = instance.subscribedListeners.get(channel);
+        if (channelListeners == null) {
+            channelListeners = new LinkedList<>();
+            instance.subscribedListeners.put(channel, channelListeners);
+        }
+        channelListeners.add(listener);
+        instance.update();
+    }
+
+    public static void unsubscribe(String channel, Listener listener) {
+        List<Listener> channelListeners = instance.subscribedListeners.get(channel);
+        if (channelListeners != null) {
+            channelListeners.remove(listener);
+            if (channelListeners.isEmpty()) {
+                instance.subscribedListeners.remove(channel);
+            }
+        }
+        instance.update();
+    }
+
+    private void update() {
+        final List<String> channels = new ArrayList<>(this.subscribedListeners.keySet());
+        Collections.sort(channels);
+
+        final StringBuilder builder = new StringBuilder();
+        for (String channel : channels) {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(channel);
+        }
+
+        final String channelsParam = builder.toString();
+
+        if (this.eventSource != null && channelsParam.equals(this.openChannels)) {
+            return;
+        }
+
+        close();
+
+        if (!channelsParam.isEmpty()) {
+            open(channelsParam);
+        }
+    }
+
+    private void open(String channels) {
+        stopReopenTimer();
+
+        String url = PUSH_PATH + "?channels=" + URL.encodeQueryString(channels);
+
+        // the browser sends the Last-Event-ID header only when reconnecting the same EventSource
+        if (this.lastEventId != null) {
+            url += "&lastEventId=" + URL.encodeQueryString(this.lastEventId);
+        }
+
+        this.openChannels = channels;
+        this.eventSource = openEventSource(url, channels);
+    }
+
+    private void close() {
+        stopReopenTimer();
+
+        if (this.eventSource != null) {
+            closeEventSource(this.eventSource);
+            this.eventSource = null;
+        }
+
+        this.openChannels = null;
+    }
+
+    private void onMessage(String channel, String data, String messageLastEventId) {
+        if (messageLastEventId != null && !messageLastEventId.isEmpty()) {
+            this.lastEventId = messageLastEventId;
+        }
+
+        final List<Listener> channelListeners = this.subscribedListeners.get(channel);
+
+        if (channelListeners == null) {
+            return;
+        }
+
+        for (Listener listener : new ArrayList<>(channelListeners)) {
+            listener.onMessage(data);
+        }
+    }
+
+    private void onClosed() {
+        // the stream has been rejected, check if the session is still valid before reconnecting
+        close();
+
+        this.gwtEventService.getLastEventTimestamp(new AsyncCallback<String>() {
+
+            @Override
+            public void onSuccess(String result) {
+                startReopenTimer();
+            }
+
+            @Override
+            public void onFailure(Throwable caught) {
+                if (caught instanceof StatusCodeException
+                        && ((StatusCodeException) caught).getStatusCode() == 401) {
+                    FailureHandler.handle(caught);
+                }
+
+                startReopenTimer();
+            }
+        });
+    }
+
+    private void startReopenTimer() {
+        stopReopenTimer();
+
+        this.reopenTimer = new Timer() {
+
+            @Override
+            public void run() {
+                PushChannel.this.reopenTimer = null;
+                update();
+            }
+        };
+        this.reopenTimer.schedule(ON_FAILURE_REOPEN_DELAY);
+    }
+
+    private void stopReopenTimer() {
+        if (this.reopenTimer != null) {
+            this.reopenTimer.cancel();
+        }
+
+        this.reopenTimer = null;
+    }
+
+    private native JavaScriptObject openEventSource(String url, String channels)
+    /*-{
+        if (typeof $wnd.EventSource == "undefined") {
+            return null
+        }
+        var self = this
+        var source = new $wnd.EventSource(url)
+        var names = channels.split(',')
+        for (var i = 0; i < names.length; i++) {
+            (function (name) {
+                source.addEventListener(name, $entry(function (event) {
+                    self.@org.eclipse.kura.web.client.util.PushChannel::onMessage(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;)(name, event.data, event.lastEventId)
+                }))
+            })(names[i])
+        }
+        source.onerror = $entry(function () {
+            // the browser reconnects automatically unless the server rejected the request
+            if (source.readyState == 2) {
+                self.@org.eclipse.kura.web.client.util.PushChannel::onClosed()()
+            }
+        })
+        return source
+    }-*/;
+
+    private static native void closeEventSource(JavaScriptObject source)
+    /*-{
+        source.onerror = null
+        source.close()
+    }-*/;
+
+    public interface Listener {
+
+        public void onMessage(String data);
+    }
+}
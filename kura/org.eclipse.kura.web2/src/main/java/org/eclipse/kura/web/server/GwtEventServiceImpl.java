@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,9 @@ import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
-import javax.servlet.http.HttpSession;
-
-import org.eclipse.kura.core.configuration.ConfigurationChangeEvent;
-import org.eclipse.kura.web.server.util.GwtServerUtil;
+import org.eclipse.kura.web.server.util.ListenerDispatcher;
 import org.eclipse.kura.web.shared.ForwardedEventTopic;
 import org.eclipse.kura.web.shared.model.GwtEventInfo;
 import org.eclipse.kura.web.shared.service.GwtEventService;
@@ -46,8 +44,8 @@ public class GwtEventServiceImpl extends OsgiRemoteServiceServlet implements Gwt
 
     private final ArrayList<String> topics = new ArrayList<>();
     private final Deque<GwtEventInfo> events = new LinkedList<>();
+    private final ListenerDispatcher<GwtEventInfo> dispatcher = new ListenerDispatcher<>();
     private ServiceRegistration<EventHandler> registration;
-    private boolean shutdown = false;
 
     @Override
     public void destroy() {
@@ -63,20 +61,39 @@ public class GwtEventServiceImpl extends OsgiRemoteServiceServlet implements Gwt
     }
 
     @Override
-    public synchronized void handleEvent(Event event) {
+    public void handleEvent(Event event) {
 
         GwtEventInfo eventInfo = serialize(event);
 
-        if (this.events.size() >= MAX_EVENT_COUNT) {
-            this.events.removeLast();
+        synchronized (this) {
+            if (this.events.size() >= MAX_EVENT_COUNT) {
+                this.events.removeLast();
+            }
+
+            this.events.push(eventInfo);
+            this.dispatcher.enqueue(eventInfo);
         }
 
-        this.events.push(eventInfo);
+        // listeners are notified without holding the lock, in the same order in which the events are buffered
+        this.dispatcher.dispatch();
+    }
+
+    public void addEventListener(final Consumer<GwtEventInfo> listener) {
+        this.dispatcher.addListener(listener);
+    }
 
-        notifyAll();
+    public void removeEventListener(final Consumer<GwtEventInfo> listener) {
+        this.dispatcher.removeListener(listener);
     }
 
-    private List<GwtEventInfo> getEvents(long fromTimestamp) {
+    /**
+     * Returns the buffered events more recent than the provided timestamp, from the oldest to the newest.
+     *
+     * @param fromTimestamp
+     *                      the timestamp
+     * @return the events
+     */
+    public synchronized List<GwtEventInfo> getEventsAfter(long fromTimestamp) {
         LinkedList<GwtEventInfo> result = new LinkedList<>();
 
         Iterator<GwtEventInfo> i = this.events.iterator();
@@ -84,20 +101,6 @@ public class GwtEventServiceImpl extends OsgiRemoteServiceServlet implements Gwt
         while (i.hasNext()) {
             GwtEventInfo next = i.next();
 
-            final HttpSession session = getThreadLocalRequest().getSession(false);
-
-            // ignore concurrency events raised by myself
-            if (next.getTopic().equals(ConfigurationChangeEvent.CONF_CHANGE_EVENT_TOPIC)
-                    && session != null) {
-
-                String currentSession = GwtServerUtil.getSessionIdHash(session);
-                String eventSession = (String) next.get(ConfigurationChangeEvent.CONF_CHANGE_EVENT_SESSION_PROP);
-
-                if (currentSession.equals(eventSession)) {
-                    break;
-                }
-            }
-
             if (Long.parseLong(next.getTimestamp()) > fromTimestamp) {
                 result.push(next);
             }
@@ -121,35 +124,9 @@ public class GwtEventServiceImpl extends OsgiRemoteServiceServlet implements Gwt
             this.registration.unregister();
             this.registration = null;
         }
-
-        synchronized (this) {
-            shutdown = true;
-            notifyAll();
-        }
         logger.info("stopping GwtEventService...done");
     }
 
-    @Override
-    public synchronized List<GwtEventInfo> getNextEvents(String fromTimestamp) {
-        long timestamp = Long.parseLong(fromTimestamp);
-
-        List<GwtEventInfo> result = getEvents(timestamp);
-
-        if (!result.isEmpty()) {
-            return result;
-        }
-
-        if (!this.shutdown) {
-            try {
-                this.wait(POLL_TIMEOUT_SECONDS * 1000L);
-            } catch (InterruptedException e) {
-                return new LinkedList<>();
-            }
-        }
-
-        return getEvents(timestamp);
-    }
-
     @Override
     public synchronized String getLastEventTimestamp() {
         if (this.events.isEmpty()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,10 +17,12 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.eclipse.kura.configuration.ConfigurationService;
 import org.eclipse.kura.log.LogEntry;
 import org.eclipse.kura.log.LogProvider;
+import org.eclipse.kura.web.server.util.ListenerDispatcher;
 import org.eclipse.kura.web.server.util.ServiceLocator;
 import org.eclipse.kura.web.shared.GwtKuraException;
 import org.eclipse.kura.web.shared.model.GwtLogEntry;
@@ -48,11 +50,25 @@ public class GwtLogServiceImpl extends OsgiRemoteServiceServlet implements GwtLo
         return registeredLogProviders;
     }
 
-    @Override
-    public List<GwtLogEntry> readLogs(int fromId) throws GwtKuraException {
+    /**
+     * Returns the cached log entries with an identifier greater than the provided one.
+     *
+     * @param fromId
+     *               the identifier
+     * @return the log entries, from the oldest to the newest
+     */
+    public static List<GwtLogEntry> getLogEntries(int fromId) {
         return cache.getLogs(fromId);
     }
 
+    public static void addLogEntryListener(Consumer<GwtLogEntry> listener) {
+        cache.dispatcher.addListener(listener);
+    }
+
+    public static void removeLogEntryListener(Consumer<GwtLogEntry> listener) {
+        cache.dispatcher.removeListener(listener);
+    }
+
     private void loadLogProviders() {
         try {
             List<String> availableLogProviders = new ArrayList<>();
@@ -111,6 +127,8 @@ public class GwtLogServiceImpl extends OsgiRemoteServiceServlet implements GwtLo
         private static final int MAX_CACHE_SIZE = 1000;
         private static int nextEntryId = 0;
 
+        private final ListenerDispatcher<GwtLogEntry> dispatcher = new ListenerDispatcher<>();
+
         public void add(GwtLogEntry newEntry) {
             synchronized (cache) {
                 if (cache.size() >= MAX_CACHE_SIZE) {
@@ -119,7 +137,11 @@ public class GwtLogServiceImpl extends OsgiRemoteServiceServlet implements GwtLo
                 manageIdIntOverflow();
                 newEntry.setId(nextEntryId++);
                 cache.add(newEntry);
+                this.dispatcher.enqueue(newEntry);
             }
+
+            // listeners are notified without holding the lock, in the same order in which the entries are cached
+            this.dispatcher.dispatch();
         }
 
         public List<GwtLogEntry> getLogs(int fromId) {
@@ -0,0 +1,356 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.web.server.servlet;
+
+import static org.eclipse.kura.util.base.StringUtil.isNullOrEmpty;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.eclipse.kura.web.server.GwtEventServiceImpl;
+import org.eclipse.kura.web.server.GwtLogServiceImpl;
+import org.eclipse.kura.web.server.KuraRemoteServiceServlet;
+import org.eclipse.kura.web.server.KuraRemoteServiceServlet.KuraPermissionException;
+import org.eclipse.kura.web.server.RequiredPermissions.Mode;
+import org.eclipse.kura.web.server.util.GwtServerUtil;
+import org.eclipse.kura.web.session.SessionRegistry;
+import org.eclipse.kura.web.shared.KuraPermission;
+import org.eclipse.kura.web.shared.model.GwtEventInfo;
+import org.eclipse.kura.web.shared.model.GwtLogEntry;
+import org.eclipse.kura.wire.graph.Constants;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.http.whiteboard.HttpWhiteboardConstants;
+import org.osgi.service.wireadmin.Wire;
+import org.osgi.service.wireadmin.WireAdminEvent;
+import org.osgi.service.wireadmin.WireAdminListener;
+import org.osgi.service.wireadmin.WireConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pushes the Web UI events, the Wire Graph activity and the log entries to the browser through a single Server Sent
+ * Events stream.
+ * <p>
+ * The channels of interest are selected with the {@code channels} request parameter, a comma separated list of
+ * {@code event}, {@code wire} and {@code log}. The request is switched to asynchronous mode and the stream is
+ * written with non blocking I/O, an open stream does not hold any container thread. For this reason the servlet must
+ * be registered through the HTTP Whiteboard with asynchronous support enabled, requests that do not support
+ * asynchronous processing are rejected.
+ * <p>
+ * The servlet is not part of the Web UI servlet context, the Web UI session is retrieved through the provided
+ * {@link SessionRegistry}.
+ *
+ * @see PushStream
+ */
+public final class EventPushServlet extends HttpServlet implements WireAdminListener {
+
+    private static final long serialVersionUID = 4380225806117251796L;
+
+    private static final Logger logger = LoggerFactory.getLogger(EventPushServlet.class);
+
+    public static final String CHANNEL_EVENT = "event";
+    public static final String CHANNEL_WIRE = "wire";
+    public static final String CHANNEL_LOG = "log";
+
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final String LAST_EVENT_ID_PARAM = "lastEventId";
+
+    /** Streams are closed after 5 minutes, browsers reconnect automatically and authentication is checked again */
+    private static final long STREAM_DURATION_MS = 5 * 60 * 1000L;
+    private static final long KEEPALIVE_INTERVAL_MS = 15 * 1000L;
+
+    private static final Dictionary<String, Object> WIRE_EVENT_LISTENER_PROPERTIES = new Hashtable<>();
+
+    static {
+        WIRE_EVENT_LISTENER_PROPERTIES.put(WireConstants.WIREADMIN_EVENTS, WireAdminEvent.WIRE_TRACE);
+    }
+
+    private final transient GwtEventServiceImpl eventService;
+    private final transient SessionRegistry sessionRegistry;
+    private final transient PushStream.Source source = new CacheSource();
+    private final transient Set<PushStream> streams = new HashSet<>();
+    private final transient Consumer<GwtEventInfo> eventListener = this::onEvent;
+    private final transient Consumer<GwtLogEntry> logEntryListener = this::onLogEntry;
+
+    private transient ScheduledExecutorService keepaliveExecutor;
+    private transient ServiceRegistration<WireAdminListener> wireAdminListenerRegistration;
+    private boolean shutdown = false;
+
+    public EventPushServlet(final GwtEventServiceImpl eventService, final SessionRegistry sessionRegistry) {
+        this.eventService = eventService;
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    public void start() {
+        this.eventService.addEventListener(this.eventListener);
+        GwtLogServiceImpl.addLogEntryListener(this.logEntryListener);
+    }
+
+    public void stop() {
+        logger.info("stopping EventPushServlet...");
+
+        this.eventService.removeEventListener(this.eventListener);
+        GwtLogServiceImpl.removeLogEntryListener(this.logEntryListener);
+
+        final List<PushStream> toClose;
+
+        synchronized (this) {
+            this.shutdown = true;
+            toClose = new ArrayList<>(this.streams);
+        }
+
+        toClose.forEach(PushStream::close);
+
+        synchronized (this) {
+            if (this.keepaliveExecutor != null) {
+                this.keepaliveExecutor.shutdownNow();
+                this.keepaliveExecutor = null;
+            }
+        }
+
+        logger.info("stopping EventPushServlet...done");
+    }
+
+    @Override
+    protected void doGet(final HttpServletRequest request, final HttpServletResponse response)
+            throws ServletException, IOException {
+
+        if (!request.isAsyncSupported()) {
+            logger.warn("Asynchronous processing is not enabled for {}, the servlet must be registered with {}=true",
+                    request.getRequestURI(), HttpWhiteboardConstants.HTTP_WHITEBOARD_SERVLET_ASYNC_SUPPORTED);
+            response.sendError(503);
+            return;
+        }
+
+        final HttpServletRequest consoleRequest = this.sessionRegistry.attach(request);
+        final Set<String> channels = parseChannels(request.getParameter("channels"));
+
+        if (channels.isEmpty()) {
+            response.sendError(400);
+            return;
+        }
+
+        try {
+            if (channels.contains(CHANNEL_WIRE)) {
+                KuraRemoteServiceServlet.requirePermissions(consoleRequest, Mode.ALL,
+                        new String[] { KuraPermission.WIRES_ADMIN });
+            }
+            if (channels.contains(CHANNEL_LOG)) {
+                KuraRemoteServiceServlet.requirePermissions(consoleRequest, Mode.ALL,
+                        new String[] { KuraPermission.DEVICE });
+            }
+        } catch (final KuraPermissionException e) {
+            response.sendError(403);
+            return;
+        }
+
+        final HttpSession session = consoleRequest.getSession(false);
+        final String sessionIdHash = session != null ? GwtServerUtil.getSessionIdHash(session) : null;
+
+        String lastEventId = request.getHeader(LAST_EVENT_ID_HEADER);
+
+        if (isNullOrEmpty(lastEventId)) {
+            lastEventId = request.getParameter(LAST_EVENT_ID_PARAM);
+        }
+
+        final PushStream stream = new PushStream(channels, sessionIdHash, this.source, this::executeLater,
+                this::removeStream, System::currentTimeMillis);
+
+        synchronized (this) {
+            if (this.shutdown) {
+                response.sendError(503);
+                return;
+            }
+
+            response.setContentType("text/event-stream");
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader("Cache-control", "no-cache");
+            response.setHeader("Connection", "keep-alive");
+            response.setHeader("Content-Encoding", "identity");
+
+            addStream(stream);
+        }
+
+        stream.replay(lastEventId);
+
+        final AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(STREAM_DURATION_MS);
+        stream.startAsync(asyncContext, response.getOutputStream());
+    }
+
+    private static Set<String> parseChannels(final String param) {
+        if (isNullOrEmpty(param)) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> result = new HashSet<>();
+
+        for (final String channel : param.split(",")) {
+            final String trimmed = channel.trim();
+
+            if (CHANNEL_EVENT.equals(trimmed) || CHANNEL_WIRE.equals(trimmed) || CHANNEL_LOG.equals(trimmed)) {
+                result.add(trimmed);
+            } else if (!trimmed.isEmpty()) {
+                return Collections.emptySet();
+            }
+        }
+
+        return result;
+    }
+
+    private synchronized void addStream(final PushStream stream) {
+        this.streams.add(stream);
+
+        if (this.keepaliveExecutor == null) {
+            this.keepaliveExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "EventPushServletKeepalive");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.keepaliveExecutor.scheduleWithFixedDelay(this::sendKeepalive, KEEPALIVE_INTERVAL_MS,
+                    KEEPALIVE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        }
+
+        if (stream.hasChannel(CHANNEL_WIRE) && this.wireAdminListenerRegistration == null) {
+            final BundleContext bundleContext = FrameworkUtil.getBundle(EventPushServlet.class).getBundleContext();
+            this.wireAdminListenerRegistration = bundleContext.registerService(WireAdminListener.class, this,
+                    WIRE_EVENT_LISTENER_PROPERTIES);
+        }
+    }
+
+    private synchronized void removeStream(final PushStream stream) {
+        this.streams.remove(stream);
+
+        if (this.wireAdminListenerRegistration != null
+                && this.streams.stream().noneMatch(s -> s.hasChannel(CHANNEL_WIRE))) {
+            this.wireAdminListenerRegistration.unregister();
+            this.wireAdminListenerRegistration = null;
+        }
+
+        if (this.streams.isEmpty() && this.keepaliveExecutor != null) {
+            this.keepaliveExecutor.shutdown();
+            this.keepaliveExecutor = null;
+        }
+    }
+
+    private void executeLater(final Runnable task) {
+        final ScheduledExecutorService executor;
+
+        synchronized (this) {
+            executor = this.keepaliveExecutor;
+        }
+
+        if (executor == null) {
+            throw new RejectedExecutionException("no streams are open");
+        }
+
+        executor.execute(task);
+    }
+
+    private synchronized List<PushStream> getStreams(final String channel) {
+        final List<PushStream> result = new ArrayList<>(this.streams.size());
+
+        for (final PushStream stream : this.streams) {
+            if (stream.hasChannel(channel)) {
+                result.add(stream);
+            }
+        }
+
+        return result;
+    }
+
+    private void sendKeepalive() {
+        final List<PushStream> targets;
+
+        synchronized (this) {
+            targets = new ArrayList<>(this.streams);
+        }
+
+        for (final PushStream stream : targets) {
+            stream.offerKeepalive();
+        }
+    }
+
+    private void onEvent(final GwtEventInfo event) {
+        for (final PushStream stream : getStreams(CHANNEL_EVENT)) {
+            stream.offerEvent(event);
+        }
+    }
+
+    private void onLogEntry(final GwtLogEntry entry) {
+        for (final PushStream stream : getStreams(CHANNEL_LOG)) {
+            stream.offerLogEntries(Collections.singletonList(entry));
+        }
+    }
+
+    @Override
+    public void wireAdminEvent(final WireAdminEvent event) {
+        final Wire wire = event.getWire();
+
+        if (wire == null) {
+            return;
+        }
+
+        final Dictionary<?, ?> properties = wire.getProperties();
+        final Object pid = properties.get(Constants.EMITTER_KURA_SERVICE_PID_PROP_NAME.value());
+        final Object port = properties.get(Constants.WIRE_EMITTER_PORT_PROP_NAME.value());
+
+        if (pid == null || port == null) {
+            return;
+        }
+
+        final String message = pid + " " + port;
+
+        for (final PushStream stream : getStreams(CHANNEL_WIRE)) {
+            stream.offerWireEvent(message);
+        }
+    }
+
+    private final class CacheSource implements PushStream.Source {
+
+        @Override
+        public long getLastEventTimestamp() {
+            return Long.parseLong(EventPushServlet.this.eventService.getLastEventTimestamp());
+        }
+
+        @Override
+        public List<GwtEventInfo> getEventsAfter(final long timestamp) {
+            return EventPushServlet.this.eventService.getEventsAfter(timestamp);
+        }
+
+        @Override
+        public List<GwtLogEntry> getLogEntriesAfter(final int id) {
+            return GwtLogServiceImpl.getLogEntries(id);
+        }
+    }
+}
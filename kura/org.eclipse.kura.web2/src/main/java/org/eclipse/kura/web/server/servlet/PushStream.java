@@ -0,0 +1,440 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.web.server.servlet;
+
+import static org.eclipse.kura.web.server.servlet.EventPushServlet.CHANNEL_EVENT;
+import static org.eclipse.kura.web.server.servlet.EventPushServlet.CHANNEL_LOG;
+import static org.eclipse.kura.web.server.servlet.EventPushServlet.CHANNEL_WIRE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.eclipse.kura.core.configuration.ConfigurationChangeEvent;
+import org.eclipse.kura.web.shared.GwtSafeHtmlUtils;
+import org.eclipse.kura.web.shared.model.GwtEventInfo;
+import org.eclipse.kura.web.shared.model.GwtLogEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A Server Sent Events stream served by {@link EventPushServlet}.
+ * <p>
+ * The messages are formatted and queued by the threads that produce them and are written to the client with non
+ * blocking I/O, as soon as the container reports that the output stream is ready. The queue is bounded: Wire Graph
+ * activity messages are dropped if it is full, while the stream is closed in case of events and log entries.
+ * <p>
+ * Every event and log entry message carries an id made of the last event timestamp and the last log entry id, that
+ * the client provides when reconnecting. The messages missed by the client are then replayed from the given
+ * {@link Source}.
+ */
+final class PushStream implements WriteListener, AsyncListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PushStream.class);
+
+    static final long MIN_WIRE_EVENT_DELAY_MS = 400;
+    static final int MAX_QUEUED_MESSAGES = 256;
+
+    private static final byte[] KEEPALIVE_MESSAGE = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final Gson GSON = new Gson();
+
+    private final Set<String> channels;
+    private final String sessionIdHash;
+    private final Source source;
+    private final Executor closeExecutor;
+    private final Consumer<PushStream> onClose;
+    private final LongSupplier clock;
+
+    private final Deque<byte[]> queue = new ArrayDeque<>();
+    private final Map<String, Long> lastWireEventTimestamps = new HashMap<>();
+
+    private long lastEventTimestamp;
+    private int lastLogEntryId = -1;
+    private List<Object> pendingLiveMessages = new ArrayList<>();
+    private Set<GwtEventInfo> replayedEvents;
+
+    private AsyncContext asyncContext;
+    private ServletOutputStream outputStream;
+    private boolean needsFlush;
+    private boolean closed;
+
+    /**
+     * @param channels
+     *                      the channels delivered by this stream
+     * @param sessionIdHash
+     *                      the hash of the session that opened the stream, or {@code null}
+     * @param source
+     *                      the source of the replayed events and log entries
+     * @param closeExecutor
+     *                      the executor used to close the stream when this is needed while holding locks, it can
+     *                      throw {@link RejectedExecutionException}, in this case the stream is closed immediately
+     * @param onClose
+     *                      called once when the stream is closed
+     * @param clock
+     *                      the clock used to throttle the Wire Graph activity messages, in milliseconds
+     */
+    PushStream(final Set<String> channels, final String sessionIdHash, final Source source,
+            final Executor closeExecutor, final Consumer<PushStream> onClose, final LongSupplier clock) {
+        this.channels = channels;
+        this.sessionIdHash = sessionIdHash;
+        this.source = source;
+        this.closeExecutor = closeExecutor;
+        this.onClose = onClose;
+        this.clock = clock;
+    }
+
+    boolean hasChannel(final String channel) {
+        return this.channels.contains(channel);
+    }
+
+    /*
+     * The last event id has the <last event timestamp>;<last log entry id> format. If it is not provided, events are
+     * delivered starting from the current time and all cached log entries are delivered.
+     *
+     * The stream is already registered when this method is called, live messages received while the replay is in
+     * progress are delivered after it, skipping the ones already replayed. Live messages are delivered in order, but
+     * the ones produced just before the replay might be received after it.
+     */
+    void replay(final String lastEventId) {
+        long fromTimestamp = -1;
+        int fromLogEntryId = -1;
+
+        if (lastEventId != null) {
+            try {
+                final String[] parts = lastEventId.split(";");
+                fromTimestamp = Long.parseLong(parts[0]);
+                fromLogEntryId = Integer.parseInt(parts[1]);
+            } catch (final Exception e) {
+                logger.debug("Ignoring malformed last event id: {}", lastEventId);
+            }
+        }
+
+        if (fromTimestamp < 0) {
+            fromTimestamp = this.source.getLastEventTimestamp();
+        }
+
+        final List<GwtEventInfo> events = this.channels.contains(CHANNEL_EVENT)
+                ? this.source.getEventsAfter(fromTimestamp)
+                : Collections.emptyList();
+        final List<GwtLogEntry> logEntries = this.channels.contains(CHANNEL_LOG)
+                ? this.source.getLogEntriesAfter(fromLogEntryId)
+                : Collections.emptyList();
+
+        synchronized (this) {
+            this.lastEventTimestamp = fromTimestamp;
+            this.lastLogEntryId = fromLogEntryId;
+
+            if (!events.isEmpty()) {
+                this.replayedEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+                this.replayedEvents.addAll(events);
+            }
+
+            for (final GwtEventInfo event : events) {
+                sendEvent(event);
+            }
+
+            sendLogEntries(logEntries);
+
+            final List<Object> pending = this.pendingLiveMessages;
+            this.pendingLiveMessages = null;
+
+            for (final Object message : pending) {
+                if (message instanceof GwtEventInfo) {
+                    sendLiveEvent((GwtEventInfo) message);
+                } else {
+                    @SuppressWarnings("unchecked")
+                    final List<GwtLogEntry> entries = (List<GwtLogEntry>) message;
+                    sendLogEntries(entries);
+                }
+            }
+        }
+    }
+
+    synchronized void offerEvent(final GwtEventInfo event) {
+        if (this.pendingLiveMessages != null) {
+            this.pendingLiveMessages.add(event);
+        } else {
+            sendLiveEvent(event);
+        }
+    }
+
+    synchronized void offerLogEntries(final List<GwtLogEntry> entries) {
+        if (this.pendingLiveMessages != null) {
+            this.pendingLiveMessages.add(entries);
+        } else {
+            sendLogEntries(entries);
+        }
+    }
+
+    synchronized void offerWireEvent(final String message) {
+        final long now = this.clock.getAsLong();
+        final Long previous = this.lastWireEventTimestamps.get(message);
+
+        if (previous != null && now - previous <= MIN_WIRE_EVENT_DELAY_MS) {
+            return;
+        }
+
+        if (offer(CHANNEL_WIRE, message, false, true)) {
+            this.lastWireEventTimestamps.put(message, now);
+        }
+    }
+
+    synchronized void offerKeepalive() {
+        if (this.queue.isEmpty()) {
+            enqueue(KEEPALIVE_MESSAGE);
+        }
+    }
+
+    synchronized void startAsync(final AsyncContext context, final ServletOutputStream stream) {
+        if (this.closed) {
+            context.complete();
+            return;
+        }
+
+        this.asyncContext = context;
+        context.addListener(this);
+
+        this.outputStream = stream;
+        // the container calls onWritePossible() as soon as the stream can be written
+        stream.setWriteListener(this);
+    }
+
+    private void sendLiveEvent(final GwtEventInfo event) {
+        if (this.replayedEvents != null && this.replayedEvents.remove(event)) {
+            if (this.replayedEvents.isEmpty()) {
+                this.replayedEvents = null;
+            }
+            return;
+        }
+
+        sendEvent(event);
+    }
+
+    private void sendEvent(final GwtEventInfo event) {
+        // ignore concurrency events raised by the session of this stream
+        if (ConfigurationChangeEvent.CONF_CHANGE_EVENT_TOPIC.equals(event.getTopic()) && this.sessionIdHash != null
+                && this.sessionIdHash.equals(event.get(ConfigurationChangeEvent.CONF_CHANGE_EVENT_SESSION_PROP))) {
+            return;
+        }
+
+        this.lastEventTimestamp = Math.max(this.lastEventTimestamp, getTimestamp(event));
+        offer(CHANNEL_EVENT, GSON.toJson(event.getProperties()), true, false);
+    }
+
+    private void sendLogEntries(final List<GwtLogEntry> entries) {
+        final List<GwtLogEntry> toSend = new ArrayList<>(entries.size());
+
+        for (final GwtLogEntry entry : entries) {
+            if (entry.getId() > this.lastLogEntryId) {
+                toSend.add(entry);
+                this.lastLogEntryId = entry.getId();
+            }
+        }
+
+        if (!toSend.isEmpty()) {
+            offer(CHANNEL_LOG, toJson(toSend).toString(), true, false);
+        }
+    }
+
+    private boolean offer(final String channel, final String data, final boolean includeId,
+            final boolean droppable) {
+        if (this.closed) {
+            return false;
+        }
+
+        if (this.queue.size() >= MAX_QUEUED_MESSAGES) {
+            if (droppable) {
+                return false;
+            }
+
+            logger.debug("Push stream buffer is full, closing");
+            closeLater();
+            return false;
+        }
+
+        final StringBuilder message = new StringBuilder();
+        message.append("event: ").append(channel).append('\n');
+
+        if (includeId) {
+            message.append("id: ").append(this.lastEventTimestamp).append(';').append(this.lastLogEntryId)
+                    .append('\n');
+        }
+
+        message.append("data: ").append(data).append("\n\n");
+
+        enqueue(message.toString().getBytes(StandardCharsets.UTF_8));
+        return true;
+    }
+
+    private void enqueue(final byte[] message) {
+        this.queue.add(message);
+
+        if (this.outputStream != null) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (this.outputStream.isReady()) {
+                final byte[] next = this.queue.poll();
+
+                if (next != null) {
+                    this.outputStream.write(next);
+                    this.needsFlush = true;
+                } else if (this.needsFlush) {
+                    this.needsFlush = false;
+                    this.outputStream.flush();
+                } else {
+                    break;
+                }
+            }
+        } catch (final IOException e) {
+            logger.debug("Push stream closed by client", e);
+            closeLater();
+        }
+    }
+
+    private void closeLater() {
+        // close outside of the caller locks
+        try {
+            this.closeExecutor.execute(this::close);
+        } catch (final RejectedExecutionException e) {
+            close();
+        }
+    }
+
+    @Override
+    public synchronized void onWritePossible() {
+        if (!this.closed) {
+            drain();
+        }
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        logger.debug("Push stream write failed", t);
+        close();
+    }
+
+    @Override
+    public void onComplete(final AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onTimeout(final AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(final AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event) {
+        // no need
+    }
+
+    void close() {
+        final AsyncContext context;
+
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+
+            this.closed = true;
+            this.queue.clear();
+            context = this.asyncContext;
+        }
+
+        if (context != null) {
+            try {
+                context.complete();
+            } catch (final Exception e) {
+                logger.debug("Failed to complete push stream", e);
+            }
+        }
+
+        this.onClose.accept(this);
+    }
+
+    private static JsonArray toJson(final List<GwtLogEntry> entries) {
+        final JsonArray result = new JsonArray();
+
+        for (final GwtLogEntry entry : entries) {
+            final JsonObject object = new JsonObject();
+            final JsonObject properties = new JsonObject();
+
+            for (final Map.Entry<String, Object> property : entry.getProperties().entrySet()) {
+                if (property.getValue() != null) {
+                    // values are sanitized again by the client when stored in the GwtLogEntry
+                    properties.addProperty(property.getKey(),
+                            GwtSafeHtmlUtils.htmlUnescape(property.getValue().toString()));
+                }
+            }
+
+            object.addProperty("id", entry.getId());
+            object.addProperty("timestamp", entry.getSourceRealtimeTimestamp());
+            object.add("properties", properties);
+            result.add(object);
+        }
+
+        return result;
+    }
+
+    private static long getTimestamp(final GwtEventInfo event) {
+        try {
+            return Long.parseLong(event.getTimestamp());
+        } catch (final Exception e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Provides the buffered events and log entries that are replayed when a client reconnects.
+     */
+    interface Source {
+
+        long getLastEventTimestamp();
+
+        List<GwtEventInfo> getEventsAfter(long timestamp);
+
+        List<GwtLogEntry> getLogEntriesAfter(int id);
+    }
+}
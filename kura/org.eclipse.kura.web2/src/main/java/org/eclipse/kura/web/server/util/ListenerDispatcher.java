@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.web.server.util;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers items to a set of listeners, in the order in which they have been produced, without requiring the
+ * producer to hold its own lock while the listeners are running.
+ * <p>
+ * The producer calls {@link #enqueue(Object)} while holding the lock that defines the order of the items, and
+ * {@link #dispatch()} after releasing it. Items are delivered by one thread at a time, so that listeners never see
+ * them out of order.
+ */
+public class ListenerDispatcher<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListenerDispatcher.class);
+
+    private final List<Consumer<T>> listeners = new CopyOnWriteArrayList<>();
+    private final Queue<T> pending = new ConcurrentLinkedQueue<>();
+    private final Object dispatchLock = new Object();
+
+    public void addListener(final Consumer<T> listener) {
+        this.listeners.add(listener);
+    }
+
+    public void removeListener(final Consumer<T> listener) {
+        this.listeners.remove(listener);
+    }
+
+    public void enqueue(final T item) {
+        this.pending.add(item);
+    }
+
+    public void dispatch() {
+        synchronized (this.dispatchLock) {
+            T next;
+
+            while ((next = this.pending.poll()) != null) {
+                // the iteration works on a snapshot of the listeners
+                for (final Consumer<T> listener : this.listeners) {
+                    notify(listener, next);
+                }
+            }
+        }
+    }
+
+    private void notify(final Consumer<T> listener, final T item) {
+        try {
+            listener.accept(item);
+        } catch (final Exception e) {
+            logger.warn("Listener failed", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.web.session;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.osgi.framework.Bundle;
+import org.osgi.service.http.context.ServletContextHelper;
+
+/**
+ * The {@link HttpContextImpl} counterpart for the servlets registered through the HTTP Whiteboard. The security
+ * handler receives a request attached to the Web UI session by the given {@link SessionRegistry}.
+ */
+public class ServletContextHelperImpl extends ServletContextHelper {
+
+    private final SecurityHandler securityHandler;
+    private final SessionRegistry sessionRegistry;
+
+    public ServletContextHelperImpl(final Bundle bundle, final SecurityHandler securityHandler,
+            final SessionRegistry sessionRegistry) {
+        super(bundle);
+        this.securityHandler = securityHandler;
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    @Override
+    public boolean handleSecurity(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        final HttpServletRequest attachedRequest = this.sessionRegistry.attach(request);
+
+        if (handleSecurityInternal(attachedRequest, response)) {
+            return true;
+        }
+
+        final HttpSession session = attachedRequest.getSession(false);
+
+        if (session != null) {
+            session.invalidate();
+        }
+
+        return false;
+    }
+
+    private boolean handleSecurityInternal(final HttpServletRequest request, final HttpServletResponse response) {
+        try {
+            return this.securityHandler.handleSecurity(request, response);
+        } catch (final Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.web.session;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+/**
+ * Keeps track of the authenticated Web UI sessions, so that they can be used by the servlets registered in a
+ * different servlet context than the Web UI one.
+ * <p>
+ * The session identifier is shared by all servlet contexts, but each context has its own session attributes. This
+ * handler must be added to the security handler chain of the Web UI context after the authentication checks, it
+ * records the sessions of the requests that are allowed. {@link #attach(HttpServletRequest)} then allows to access
+ * the Web UI session from a request received by another context.
+ */
+public class SessionRegistry implements SecurityHandler {
+
+    private final Map<String, HttpSession> sessions = new HashMap<>();
+
+    @Override
+    public boolean handleSecurity(final HttpServletRequest request, final HttpServletResponse response)
+            throws IOException {
+        final HttpSession session = request.getSession(false);
+
+        if (session != null) {
+            register(session);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a request that provides the Web UI session identified by the session identifier of the given request,
+     * instead of the session of the servlet context that received it. The returned request provides no session if
+     * the identifier does not refer to a valid Web UI session.
+     *
+     * @param request
+     *                the request
+     * @return the wrapped request
+     */
+    public HttpServletRequest attach(final HttpServletRequest request) {
+        final String sessionId = request.getRequestedSessionId();
+        final HttpSession session = sessionId != null ? getSession(sessionId).orElse(null) : null;
+
+        return new AttachedSessionRequest(request, session);
+    }
+
+    public synchronized Optional<HttpSession> getSession(final String sessionId) {
+        final HttpSession session = this.sessions.get(sessionId);
+
+        if (session == null) {
+            return Optional.empty();
+        }
+
+        if (!isValid(sessionId, session)) {
+            this.sessions.remove(sessionId);
+            return Optional.empty();
+        }
+
+        return Optional.of(session);
+    }
+
+    public synchronized void clear() {
+        this.sessions.clear();
+    }
+
+    private synchronized void register(final HttpSession session) {
+        final String sessionId;
+
+        try {
+            sessionId = session.getId();
+        } catch (final IllegalStateException e) {
+            return;
+        }
+
+        if (this.sessions.put(sessionId, session) != session) {
+            // a new session has been added, drop the ones that have been invalidated or have changed identifier
+            this.sessions.entrySet().removeIf(e -> !isValid(e.getKey(), e.getValue()));
+        }
+    }
+
+    private static boolean isValid(final String sessionId, final HttpSession session) {
+        try {
+            session.getCreationTime();
+            return sessionId.equals(session.getId());
+        } catch (final IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private static class AttachedSessionRequest extends HttpServletRequestWrapper {
+
+        private final HttpSession session;
+
+        AttachedSessionRequest(final HttpServletRequest request, final HttpSession session) {
+            super(request);
+            this.session = session;
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        @Override
+        public HttpSession getSession(final boolean create) {
+            if (this.session == null && create) {
+                throw new IllegalStateException("Web UI sessions cannot be created by this request");
+            }
+
+            return this.session;
+        }
+    }
+}
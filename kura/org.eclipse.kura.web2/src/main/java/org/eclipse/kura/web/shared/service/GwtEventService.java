@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,20 +12,12 @@
  *******************************************************************************/
 package org.eclipse.kura.web.shared.service;
 
-import java.util.List;
-
-import org.eclipse.kura.web.shared.model.GwtEventInfo;
-
 import com.google.gwt.user.client.rpc.RemoteService;
 import com.google.gwt.user.client.rpc.RemoteServiceRelativePath;
 
 @RemoteServiceRelativePath("event")
 public interface GwtEventService extends RemoteService {
 
-    public static final int POLL_TIMEOUT_SECONDS = 30;
-
-    public List<GwtEventInfo> getNextEvents(String fromTimestamp);
-
     public String getLastEventTimestamp();
 
 }
@@ -6,10 +6,6 @@ BlinkEffect.prototype.closeEventSource = function() {
 	if (this.eventSource) {
 		this.eventSource.close();
 		this.eventSource = null;
-		var xmlHttp = new XMLHttpRequest();
-		xmlHttp.open("GET", "/admin/sse?session=" + this.eventSourceSessionId
-				+ "&logout=" + this.eventSourceSessionId, true);
-		xmlHttp.send(null);
 	}
 }
 
@@ -19,11 +15,9 @@ BlinkEffect.prototype.setEnabled = function (enabled) {
 	}
 	this.closeEventSource();
 	if (enabled) {
-		this.eventSourceSessionId = new Date().getTime();
-		this.eventSource = new EventSource("/admin/sse?session="
-				+ this.eventSourceSessionId);
+		this.eventSource = new EventSource("/admin/sse?channels=wire");
 		var self = this
-		this.eventSource.onmessage = function(event) {
+		this.eventSource.addEventListener('wire', function(event) {
 			var splitted = event.data.split(' ', 2)
 			if (splitted.length !== 2) {
 				return
@@ -34,7 +28,7 @@ BlinkEffect.prototype.setEnabled = function (enabled) {
 					self.fireTransition(c, wireComponent.getPortName(splitted[1], 'out'));
 				}
 			});
-		};
+		});
 	} 
 }
 
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.can;
+
+/**
+ * Describes a signal contained in the payload of a CAN frame. Bit numbering and byte order follow the DBC
+ * conventions: for little endian (Intel) signals the start bit is the least significant bit, for big endian (Motorola)
+ * signals it is the most significant bit.
+ * <p>
+ * The textual definition format is
+ * {@code name,canId,startBit,bitLength[,LE|BE[,signed|unsigned[,scale[,offset]]]]}, the CAN id can be expressed in
+ * decimal or hexadecimal (0x prefix) notation.
+ */
+final class CanSignal {
+
+    private final String name;
+    private final int canId;
+    private final int startBit;
+    private final int bitLength;
+    private final boolean bigEndian;
+    private final boolean signed;
+    private final double scale;
+    private final double offset;
+
+    CanSignal(String name, int canId, int startBit, int bitLength, boolean bigEndian, boolean signed, double scale,
+            double offset) {
+        if (bitLength < 1 || bitLength > 64) {
+            throw new IllegalArgumentException("Signal bit length must be between 1 and 64");
+        }
+        if (startBit < 0 || startBit > 63) {
+            throw new IllegalArgumentException("Signal start bit must be between 0 and 63");
+        }
+        this.name = name;
+        this.canId = canId;
+        this.startBit = startBit;
+        this.bitLength = bitLength;
+        this.bigEndian = bigEndian;
+        this.signed = signed;
+        this.scale = scale;
+        this.offset = offset;
+    }
+
+    static CanSignal parse(final String definition) {
+        final String[] fields = definition.split(",");
+
+        if (fields.length < 4 || fields.length > 8) {
+            throw new IllegalArgumentException("Invalid signal definition: " + definition);
+        }
+
+        final String name = fields[0].trim();
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Signal name cannot be empty: " + definition);
+        }
+
+        final int canId = Integer.decode(fields[1].trim());
+        final int startBit = Integer.parseInt(fields[2].trim());
+        final int bitLength = Integer.parseInt(fields[3].trim());
+        final boolean bigEndian = fields.length > 4 && parseByteOrder(fields[4].trim());
+        final boolean signed = fields.length > 5 && parseSignedness(fields[5].trim());
+        final double scale = fields.length > 6 ? Double.parseDouble(fields[6].trim()) : 1.0d;
+        final double offset = fields.length > 7 ? Double.parseDouble(fields[7].trim()) : 0.0d;
+
+        return new CanSignal(name, canId, startBit, bitLength, bigEndian, signed, scale, offset);
+    }
+
+    private static boolean parseByteOrder(final String value) {
+        if ("BE".equalsIgnoreCase(value)) {
+            return true;
+        } else if ("LE".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid byte order: " + value);
+    }
+
+    private static boolean parseSignedness(final String value) {
+        if ("signed".equalsIgnoreCase(value)) {
+            return true;
+        } else if ("unsigned".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid signedness: " + value);
+    }
+
+    String getName() {
+        return this.name;
+    }
+
+    int getCanId() {
+        return this.canId;
+    }
+
+    /**
+     * Returns {@code true} if the provided payload is long enough to contain this signal.
+     */
+    boolean isContainedIn(final byte[] data) {
+        return data != null && lastBitPosition() < data.length * 8;
+    }
+
+    private int lastBitPosition() {
+        if (!this.bigEndian) {
+            return this.startBit + this.bitLength - 1;
+        }
+
+        int position = this.startBit;
+        for (int i = 1; i < this.bitLength; i++) {
+            position = nextMotorolaPosition(position);
+        }
+        return position;
+    }
+
+    long decodeRaw(final byte[] data) {
+        long raw = 0;
+
+        if (this.bigEndian) {
+            int position = this.startBit;
+            for (int i = 0; i < this.bitLength; i++) {
+                raw = raw << 1 | bitAt(data, position);
+                position = nextMotorolaPosition(position);
+            }
+        } else {
+            for (int i = this.bitLength - 1; i >= 0; i--) {
+                raw = raw << 1 | bitAt(data, this.startBit + i);
+            }
+        }
+
+        if (this.signed && this.bitLength < 64 && (raw & 1L << this.bitLength - 1) != 0) {
+            raw |= -1L << this.bitLength;
+        }
+
+        return raw;
+    }
+
+    double decode(final byte[] data) {
+        return decodeRaw(data) * this.scale + this.offset;
+    }
+
+    private static int nextMotorolaPosition(final int position) {
+        return position % 8 == 0 ? position + 15 : position - 1;
+    }
+
+    private static long bitAt(final byte[] data, final int position) {
+        return data[position / 8] >> position % 8 & 1L;
+    }
+}
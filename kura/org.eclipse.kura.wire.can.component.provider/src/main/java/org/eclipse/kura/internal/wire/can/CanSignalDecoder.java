@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.can;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.protocol.can.CanConnectionService;
+import org.eclipse.kura.protocol.can.CanFilter;
+import org.eclipse.kura.protocol.can.CanFrameListener;
+import org.eclipse.kura.protocol.can.CanMessage;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireComponent;
+import org.eclipse.kura.wire.WireEmitter;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireSupport;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.wireadmin.Wire;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Wire Component that receives CAN frames through the streaming API of the {@link CanConnectionService} and
+ * decodes them into {@link WireRecord}s according to the configured signal definitions. A single envelope containing
+ * one record per decoded frame is emitted for each batch delivered by the service.
+ */
+public class CanSignalDecoder implements WireEmitter, ConfigurableComponent, CanFrameListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CanSignalDecoder.class);
+
+    static final String TIMESTAMP_PROPERTY = "timestamp";
+    static final String CAN_ID_PROPERTY = "canId";
+
+    private static final int EXACT_MATCH_MASK = 0x1FFFFFFF;
+
+    private WireHelperService wireHelperService;
+    private CanConnectionService canConnectionService;
+    private WireSupport wireSupport;
+
+    private volatile Map<Integer, CanSignal[]> signalsByCanId = new HashMap<>();
+    private volatile boolean emitCanId;
+
+    public void bindWireHelperService(final WireHelperService wireHelperService) {
+        this.wireHelperService = wireHelperService;
+    }
+
+    public void bindCanConnectionService(final CanConnectionService canConnectionService) {
+        this.canConnectionService = canConnectionService;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void activate(final ComponentContext ctx, final Map<String, Object> properties) {
+        logger.info("Activating CAN Signal Decoder...");
+
+        this.wireSupport = this.wireHelperService.newWireSupport(this,
+                (ServiceReference<WireComponent>) ctx.getServiceReference());
+
+        updated(properties);
+
+        logger.info("Activating CAN Signal Decoder... Done");
+    }
+
+    protected void updated(final Map<String, Object> properties) {
+        logger.info("Updating CAN Signal Decoder...");
+
+        this.canConnectionService.unregisterCanFrameListener(this);
+
+        final CanSignalDecoderOptions options;
+        try {
+            options = new CanSignalDecoderOptions(properties);
+        } catch (final Exception e) {
+            logger.warn("Invalid signal definitions, the component will not emit", e);
+            return;
+        }
+
+        final Map<Integer, List<CanSignal>> grouped = new HashMap<>();
+        for (final CanSignal signal : options.getSignals()) {
+            grouped.computeIfAbsent(signal.getCanId(), id -> new ArrayList<>()).add(signal);
+        }
+
+        final Map<Integer, CanSignal[]> newSignals = new HashMap<>();
+        final List<CanFilter> filters = new ArrayList<>();
+        for (final Map.Entry<Integer, List<CanSignal>> entry : grouped.entrySet()) {
+            newSignals.put(entry.getKey(), entry.getValue().toArray(new CanSignal[entry.getValue().size()]));
+            filters.add(new CanFilter(entry.getKey(), EXACT_MATCH_MASK));
+        }
+
+        this.signalsByCanId = newSignals;
+        this.emitCanId = options.isEmitCanId();
+
+        if (filters.isEmpty()) {
+            logger.info("No signals defined");
+        } else {
+            try {
+                this.canConnectionService.registerCanFrameListener(this, filters);
+            } catch (final IOException e) {
+                logger.warn("Failed to register CAN frame listener", e);
+            }
+        }
+
+        logger.info("Updating CAN Signal Decoder... Done");
+    }
+
+    protected void deactivate() {
+        logger.info("Deactivating CAN Signal Decoder...");
+
+        this.canConnectionService.unregisterCanFrameListener(this);
+
+        logger.info("Deactivating CAN Signal Decoder... Done");
+    }
+
+    @Override
+    public void onCanFrames(final List<CanMessage> frames) {
+        final Map<Integer, CanSignal[]> signals = this.signalsByCanId;
+        final List<WireRecord> records = new ArrayList<>(frames.size());
+
+        for (final CanMessage frame : frames) {
+            final CanSignal[] frameSignals = signals.get(frame.getCanId());
+
+            if (frameSignals == null) {
+                continue;
+            }
+
+            final byte[] data = frame.getData();
+            final Map<String, TypedValue<?>> properties = new HashMap<>(frameSignals.length * 2 + 4);
+
+            for (final CanSignal signal : frameSignals) {
+                if (signal.isContainedIn(data)) {
+                    properties.put(signal.getName(), TypedValues.newDoubleValue(signal.decode(data)));
+                }
+            }
+
+            if (properties.isEmpty()) {
+                continue;
+            }
+
+            properties.put(TIMESTAMP_PROPERTY, TypedValues.newLongValue(frame.getTimestamp()));
+            if (this.emitCanId) {
+                properties.put(CAN_ID_PROPERTY, TypedValues.newIntegerValue(frame.getCanId()));
+            }
+
+            records.add(new WireRecord(properties));
+        }
+
+        if (!records.isEmpty()) {
+            this.wireSupport.emit(records);
+        }
+    }
+
+    @Override
+    public void consumersConnected(final Wire[] wires) {
+        this.wireSupport.consumersConnected(wires);
+    }
+
+    @Override
+    public Object polled(final Wire wire) {
+        return this.wireSupport.polled(wire);
+    }
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.can;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+final class CanSignalDecoderOptions {
+
+    private static final String SIGNAL_DEFINITIONS_PROP_NAME = "signal.definitions";
+    private static final String EMIT_CAN_ID_PROP_NAME = "emit.can.id";
+
+    private final List<CanSignal> signals;
+    private final boolean emitCanId;
+
+    CanSignalDecoderOptions(final Map<String, Object> properties) {
+        final Object definitions = properties.get(SIGNAL_DEFINITIONS_PROP_NAME);
+
+        this.signals = new ArrayList<>();
+
+        if (definitions instanceof String) {
+            for (final String line : ((String) definitions).split("[\\n;]")) {
+                final String trimmed = line.trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                    this.signals.add(CanSignal.parse(trimmed));
+                }
+            }
+        }
+
+        this.emitCanId = (Boolean) properties.getOrDefault(EMIT_CAN_ID_PROP_NAME, false);
+    }
+
+    List<CanSignal> getSignals() {
+        return this.signals;
+    }
+
+    boolean isEmitCanId() {
+        return this.emitCanId;
+    }
+}
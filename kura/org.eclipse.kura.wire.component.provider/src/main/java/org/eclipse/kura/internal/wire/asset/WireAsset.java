@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,9 @@ import static java.util.Objects.requireNonNull;
 import static org.eclipse.kura.channel.ChannelType.READ_WRITE;
 import static org.eclipse.kura.channel.ChannelType.WRITE;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -307,6 +309,43 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
             throw new IllegalArgumentException("Channel Records cannot be empty");
         }
 
+        toWireRecord(channelRecords).ifPresent(r -> this.wireSupport.emit(Collections.singletonList(r)));
+    }
+
+    /**
+     * Emit the channel records received from a batch of channel events as a single {@link WireEnvelope}. The records
+     * are split in multiple {@link WireRecord}s only if the batch contains more than one value for the same channel.
+     *
+     * @param channelRecords
+     *            the list of channel records, in the order in which they have been produced
+     */
+    private void emitChannelEventRecords(final List<ChannelRecord> channelRecords) {
+        final List<WireRecord> wireRecords = new ArrayList<>();
+
+        List<ChannelRecord> current = new ArrayList<>(channelRecords.size());
+        final Set<String> currentChannelNames = new HashSet<>();
+
+        for (final ChannelRecord channelRecord : channelRecords) {
+            if (!currentChannelNames.add(channelRecord.getChannelName())) {
+                toWireRecord(current).ifPresent(wireRecords::add);
+                current = new ArrayList<>();
+                currentChannelNames.clear();
+                currentChannelNames.add(channelRecord.getChannelName());
+            }
+
+            current.add(channelRecord);
+        }
+
+        if (!current.isEmpty()) {
+            toWireRecord(current).ifPresent(wireRecords::add);
+        }
+
+        if (!wireRecords.isEmpty()) {
+            this.wireSupport.emit(wireRecords);
+        }
+    }
+
+    private Optional<WireRecord> toWireRecord(final List<ChannelRecord> channelRecords) {
         final List<ChannelRecord> toBeEmitted = this.valueChangeCache.map(c -> c.filterRecords(channelRecords))
                 .orElse(channelRecords);
 
@@ -319,13 +358,13 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
         }
 
         if (!this.options.emitEmptyEnvelopes() && wireRecordProperties.isEmpty()) {
-            return;
+            return Optional.empty();
         }
 
         wireRecordProperties.put(WireAssetConstants.PROP_ASSET_NAME.value(),
                 TypedValues.newStringValue(getKuraServicePid()));
 
-        this.wireSupport.emit(Collections.singletonList(new WireRecord(wireRecordProperties)));
+        return Optional.of(new WireRecord(wireRecordProperties));
     }
 
     /**
@@ -381,9 +420,11 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
 
         super.updateChannelListenerRegistrations(listeners, config);
 
+        // a single listener for all channels, so that the events notified together by the driver are emitted together
+        final EmitterChannelListener emitter = new EmitterChannelListener();
+
         config.getAssetChannels().entrySet().stream().filter(e -> isListeningChannel(e.getValue().getConfiguration()))
-                .map(e -> new ChannelListenerHolder(e.getValue(), new EmitterChannelListener()))
-                .forEach(listeners::add);
+                .map(e -> new ChannelListenerHolder(e.getValue(), emitter)).forEach(listeners::add);
     }
 
     @Override
@@ -419,21 +460,36 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
 
         @Override
         public void onChannelEvent(ChannelEvent event) {
+            onChannelEvents(Collections.singletonList(event));
+        }
+
+        @Override
+        public void onChannelEvents(List<ChannelEvent> events) {
+            if (events.isEmpty()) {
+                return;
+            }
+
             if (WireAsset.this.options.emitAllChannels()) {
                 emitAllReadChannels();
             } else {
-                final ChannelRecord eventRecord = event.getChannelRecord();
+                final List<ChannelRecord> eventRecords = new ArrayList<>(events.size());
+
+                for (final ChannelEvent event : events) {
+                    final ChannelRecord eventRecord = event.getChannelRecord();
 
-                if (eventRecord.getUnit() == null || eventRecord.getUnit().isEmpty()) {
-                    final Channel channel = getAssetConfiguration().getAssetChannels()
-                            .get(eventRecord.getChannelName());
+                    if (eventRecord.getUnit() == null || eventRecord.getUnit().isEmpty()) {
+                        final Channel channel = getAssetConfiguration().getAssetChannels()
+                                .get(eventRecord.getChannelName());
 
-                    if (channel != null) {
-                        eventRecord.setUnit(channel.getUnit());
+                        if (channel != null) {
+                            eventRecord.setUnit(channel.getUnit());
+                        }
                     }
+
+                    eventRecords.add(eventRecord);
                 }
 
-                emitChannelRecords(Collections.singletonList(eventRecord));
+                emitChannelEventRecords(eventRecords);
             }
         }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,6 @@ import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -28,20 +27,21 @@ import java.util.Optional;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.eclipse.kura.KuraException;
 import org.eclipse.kura.cloudconnection.message.KuraMessage;
 import org.eclipse.kura.configuration.ConfigurableComponent;
 import org.eclipse.kura.message.KuraPayload;
 import org.eclipse.kura.message.KuraPosition;
 import org.eclipse.kura.position.NmeaPosition;
 import org.eclipse.kura.position.PositionService;
-import org.eclipse.kura.type.ByteArrayValue;
-import org.eclipse.kura.type.StringValue;
 import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.wire.ColumnarWireRecords;
 import org.eclipse.kura.wire.WireComponent;
 import org.eclipse.kura.wire.WireEnvelope;
 import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.WireReceiver;
 import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
 import org.eclipse.kura.wire.WireSupport;
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.ComponentContext;
@@ -182,16 +182,16 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
     // ----------------------------------------------------------------
 
     /**
-     * Builds the Kura payload from the provided {@link WireRecord}.
+     * Builds the Kura payload from the provided record values.
      *
-     * @param wireRecord
-     *            the {@link WireRecord}
+     * @param values
+     *            the record values
      * @return the Kura payload
      * @throws NullPointerException
-     *             if the {@link WireRecord} provided is null
+     *             if the values provided are null
      */
-    private KuraPayload buildKuraPayload(final WireRecord wireRecord) {
-        requireNonNull(wireRecord, "Wire Record cannot be null");
+    private KuraPayload buildKuraPayload(final Map<String, Object> values) {
+        requireNonNull(values, "Values cannot be null");
         final KuraPayload kuraPayload = new KuraPayload();
 
         kuraPayload.setTimestamp(new Date());
@@ -201,32 +201,30 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
             kuraPayload.setPosition(kuraPosition);
         }
 
-        final Map<String, TypedValue<?>> wireRecordProperties = wireRecord.getProperties();
-
-        for (final Entry<String, TypedValue<?>> entry : wireRecordProperties.entrySet()) {
-            kuraPayload.addMetric(entry.getKey(), entry.getValue().getValue());
+        for (final Entry<String, Object> entry : values.entrySet()) {
+            kuraPayload.addMetric(entry.getKey(), entry.getValue());
         }
 
         final Optional<String> bodyProperty = this.cloudPublisherOptions.getBodyProperty();
 
         if (bodyProperty.isPresent()) {
-            publishBody(kuraPayload, wireRecordProperties, bodyProperty.get());
+            publishBody(kuraPayload, values, bodyProperty.get());
         }
 
         return kuraPayload;
     }
 
-    private void publishBody(final KuraPayload kuraPayload, final Map<String, TypedValue<?>> wireRecordProperties,
+    private void publishBody(final KuraPayload kuraPayload, final Map<String, Object> values,
             final String bodyProperty) {
         try {
-            final TypedValue<?> bodyPropertyValue = wireRecordProperties.get(bodyProperty);
+            final Object bodyPropertyValue = values.get(bodyProperty);
 
             if (bodyPropertyValue == null) {
                 logger.warn("The \"{}\" property is missing, message body will not be set", bodyProperty);
-            } else if (bodyPropertyValue instanceof StringValue) {
-                kuraPayload.setBody(((String) bodyPropertyValue.getValue()).getBytes(StandardCharsets.UTF_8));
-            } else if (bodyPropertyValue instanceof ByteArrayValue) {
-                kuraPayload.setBody((byte[]) bodyPropertyValue.getValue());
+            } else if (bodyPropertyValue instanceof String) {
+                kuraPayload.setBody(((String) bodyPropertyValue).getBytes(StandardCharsets.UTF_8));
+            } else if (bodyPropertyValue instanceof byte[]) {
+                kuraPayload.setBody((byte[]) bodyPropertyValue);
             } else {
                 logger.warn("The type of the body property must be STRING or BYTE_ARRAY");
             }
@@ -260,7 +258,8 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
     }
 
     /**
-     * Publishes the list of provided {@link WireRecord}s
+     * Publishes the list of provided {@link WireRecord}s. The values of {@link ColumnarWireRecords} are read
+     * directly from the columns, without creating the record property maps.
      *
      * @param wireRecords
      *            the provided list of {@link WireRecord}s
@@ -271,26 +270,58 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
         requireNonNull(wireRecords, "Wire Records cannot be null");
 
         try {
-            for (final WireRecord dataRecord : wireRecords) {
-                final Map<String, Object> properties = buildKuraMessageProperties(dataRecord);
-                final KuraPayload kuraPayload = buildKuraPayload(dataRecord);
-                KuraMessage message = new KuraMessage(kuraPayload, properties);
-                this.cloudConnectionPublisher.publish(message);
+            if (wireRecords instanceof ColumnarWireRecords) {
+                final ColumnarWireRecords columnarRecords = (ColumnarWireRecords) wireRecords;
+
+                for (int row = 0; row < columnarRecords.size(); row++) {
+                    publish(getValues(columnarRecords, row));
+                }
+            } else {
+                for (final WireRecord dataRecord : wireRecords) {
+                    publish(getValues(dataRecord));
+                }
             }
         } catch (final Exception e) {
             logger.error("Error in publishing wire records using cloud publisher..", e);
         }
     }
 
-    private Map<String, Object> buildKuraMessageProperties(final WireRecord wireRecord) {
-        Map<String, TypedValue<?>> wireRecordProps = wireRecord.getProperties();
+    private void publish(final Map<String, Object> values) throws KuraException {
+        final KuraPayload kuraPayload = buildKuraPayload(values);
+        final Map<String, Object> properties = buildKuraMessageProperties(values);
+        KuraMessage message = new KuraMessage(kuraPayload, properties);
+        this.cloudConnectionPublisher.publish(message);
+    }
+
+    private static Map<String, Object> getValues(final WireRecord wireRecord) {
+        final Map<String, TypedValue<?>> wireRecordProps = wireRecord.getProperties();
+        final Map<String, Object> values = new HashMap<>(wireRecordProps.size() * 2);
 
-        final Map<String, Object> properties = new HashMap<>();
-        List<String> l = new ArrayList<>(wireRecordProps.keySet());
-        for (String s : l) {
-            properties.put(s, wireRecordProps.get(s).getValue());
+        for (final Entry<String, TypedValue<?>> entry : wireRecordProps.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().getValue());
         }
 
+        return values;
+    }
+
+    private static Map<String, Object> getValues(final ColumnarWireRecords wireRecords, final int row) {
+        final WireRecordSchema schema = wireRecords.getSchema();
+        final Map<String, Object> values = new HashMap<>(schema.size() * 2);
+
+        for (int column = 0; column < schema.size(); column++) {
+            final Object value = wireRecords.getObject(row, column);
+
+            if (value != null) {
+                values.put(schema.getName(column), value);
+            }
+        }
+
+        return values;
+    }
+
+    private Map<String, Object> buildKuraMessageProperties(final Map<String, Object> values) {
+        final Map<String, Object> properties = new HashMap<>(values);
+
         Optional<String> bodyProperty = this.cloudPublisherOptions.getBodyProperty();
         boolean isRemoveBodyPropertyFromMetrics = this.cloudPublisherOptions.getRemoveBodyPropertyFromMetrics();
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Amit Kumar Mondal and others
+ * Copyright (c) 2017, 2026 Amit Kumar Mondal and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,23 +16,19 @@ package org.eclipse.kura.internal.wire.regexfilter;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toMap;
 import static org.eclipse.kura.configuration.ConfigurationService.KURA_SERVICE_PID;
 import static org.eclipse.kura.internal.wire.regexfilter.FilterType.REMOVE;
 import static org.eclipse.kura.internal.wire.regexfilter.FilterType.RETAIN;
 import static org.eclipse.kura.util.collection.CollectionUtil.newArrayList;
-import static org.eclipse.kura.util.collection.CollectionUtil.newHashMap;
 
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
+import java.util.regex.PatternSyntaxException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -65,6 +61,9 @@ public final class RegexFilter implements WireEmitter, WireReceiver, Configurabl
     /** Filter Type Attribute Definition Property Key */
     private static final String REGEX_TYPE_PROP = "filter.type";
 
+    /** Maximum number of distinct key sets whose projection is memoized */
+    private static final int MAX_CACHED_PROJECTIONS = 64;
+
     /** Emit and Receive support operation adapter */
     private WireSupport wireSupport;
 
@@ -74,6 +73,21 @@ public final class RegexFilter implements WireEmitter, WireReceiver, Configurabl
     /** Associated Filter Type available in the component properties */
     private FilterType filterType;
 
+    /** The filter compiled once per configuration, {@code null} if the filter is empty or invalid */
+    private Pattern pattern;
+
+    /** Memoized projections, keyed by the key set of the incoming record properties */
+    private final Map<Set<String>, KeyProjection> projections = new LinkedHashMap<Set<String>, KeyProjection>(16,
+            0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Set<String>, KeyProjection> eldest) {
+            return size() > MAX_CACHED_PROJECTIONS;
+        }
+    };
+
     /** Wire Component PID */
     private String componentPid;
 
@@ -116,6 +130,8 @@ public final class RegexFilter implements WireEmitter, WireReceiver, Configurabl
         this.filter = String.valueOf(properties.getOrDefault(REGEX_PROP, ""));
         this.componentPid = String.valueOf(properties.get(KURA_SERVICE_PID));
         this.filterType = getType(properties);
+        this.pattern = compile(this.filter);
+        this.projections.clear();
         this.wireSupport = this.wireHelperService.newWireSupport(this,
                 (ServiceReference<WireComponent>) componentContext.getServiceReference());
         logger.debug("Activating Regex Filter... Done");
@@ -131,6 +147,8 @@ public final class RegexFilter implements WireEmitter, WireReceiver, Configurabl
         logger.debug("Updating Regex Filter...");
         this.filter = String.valueOf(properties.getOrDefault(REGEX_PROP, ""));
         this.filterType = getType(properties);
+        this.pattern = compile(this.filter);
+        this.projections.clear();
         logger.debug("Updating Regex Filter... Done");
     }
 
@@ -162,8 +180,8 @@ public final class RegexFilter implements WireEmitter, WireReceiver, Configurabl
     @Override
     public synchronized void onWireReceive(final WireEnvelope wireEnvelope) {
         final List<WireRecord> receivedRecords = wireEnvelope.getRecords();
-        if (isNull(this.filter) || this.filter.trim().isEmpty()) {
-            // no filter has been associated
+        if (isNull(this.pattern)) {
+            // no valid filter has been associated
             this.wireSupport.emit(receivedRecords);
             return;
         }
@@ -190,7 +208,7 @@ public final class RegexFilter implements WireEmitter, WireReceiver, Configurabl
         WireEnvelope filteredWireEnvelope;
         try {
             filteredWireEnvelope = new WireEnvelope(this.componentPid,
-                    filter(wireRecords, this.filter, this.filterType));
+                    filter(wireRecords));
         } catch (final Exception ex) {
             // if any exception occurs while filtering, just emit the not filtered
             // Wire Records
@@ -202,29 +220,21 @@ public final class RegexFilter implements WireEmitter, WireReceiver, Configurabl
 
     /**
      * Filters out the keys from the associated properties of provided {@link WireRecord}s
-     * that matches the provided filter
+     * that matches the configured filter
      *
      * @param wireRecords
      *            the list of {@link WireRecord}s
-     * @param filter
-     *            the filter to match
-     * @param type
-     *            the associated type that signifies either to retain matched keys or remove
      * @return the list of {@link WireRecord}s containing the filtered properties
      * @throws NullPointerException
-     *             if any of the arguments is null
-     * @throws java.util.regex.PatternSyntaxException
-     *             If the filter's syntax is invalid
+     *             if the argument is null
      */
-    private static List<WireRecord> filter(final List<WireRecord> wireRecords, final String filter,
-            final FilterType type) {
+    private List<WireRecord> filter(final List<WireRecord> wireRecords) {
         requireNonNull(wireRecords, "Wire Records cannot be null");
-        requireNonNull(filter, "Filter cannot be null");
 
         final List<WireRecord> filteredWireRecords = newArrayList();
         for (final WireRecord wireRecord : wireRecords) {
             final Map<String, TypedValue<?>> previousProperties = wireRecord.getProperties();
-            final Map<String, TypedValue<?>> filteredProperties = match(filter, previousProperties, type);
+            final Map<String, TypedValue<?>> filteredProperties = project(previousProperties);
 
             // If both the maps' references refer to the same map instance, there is no need
             // to create a new Wire Record. This is an optimization functionality, in which
@@ -241,50 +251,46 @@ public final class RegexFilter implements WireEmitter, WireReceiver, Configurabl
     }
 
     /**
-     * Filters out the keys from the provided {@link Map} instance
+     * Filters out the keys from the provided {@link Map} instance, using the memoized
+     * {@link KeyProjection} of its key set
      *
-     * @param regularExpression
-     *            the regular expression to match
      * @param map
      *            the {@link Map} instance to filter
-     * @param type
-     *            the associated type that signifies either to retain matched keys or remove
-     * @return the {@link Map} instance comprising the keys
-     *         that match the provided regular expression
-     * @throws java.util.regex.PatternSyntaxException
-     *             If the regular expression's syntax is invalid
+     * @return the {@link Map} instance comprising the keys retained by the filter
      */
-    private static <V> Map<String, V> match(final String regularExpression, final Map<String, V> map,
-            final FilterType type) {
+    private <V> Map<String, V> project(final Map<String, V> map) {
         // if the properties map is empty, no need to invoke filter mechanism
         if (map.isEmpty()) {
             return map;
         }
-        final Pattern pattern = Pattern.compile(regularExpression);
-        final Set<Entry<String, V>> entrySet = map.entrySet();
-        final Supplier<Stream<Entry<String, V>>> streamSupplier = entrySet::stream;
-        // If the provided regular expression matches all the keys of the provided map,
-        // there is no need to create a new map instance (in case of RETAIN type)
-        final boolean allMatch = streamSupplier.get().allMatch(matches(pattern, type));
-        if (allMatch) {
-            return type == RETAIN ? map : unmodifiableMap(newHashMap());
+
+        final Set<String> keys = map.keySet();
+        KeyProjection projection = this.projections.get(keys);
+        if (isNull(projection)) {
+            projection = KeyProjection.of(keys, this.pattern, this.filterType);
+            this.projections.put(new HashSet<>(keys), projection);
         }
-        return streamSupplier.get().filter(matches(pattern, type))
-                .collect(collectingAndThen(toMap(Entry::getKey, Entry::getValue), Collections::unmodifiableMap));
+        return projection.apply(map);
     }
 
     /**
-     * The {@link Predicate} instance denoting the provided {@link Pattern} instance to match
+     * Compiles the provided filter
      *
-     * @param pattern
-     *            the {@link Pattern} instance to match
-     * @param type
-     *            the type that signifies either to match entries or not
-     * @return a {@link Predicate} instance
+     * @param filter
+     *            the regular expression
+     * @return the compiled {@link Pattern}, or {@code null} if the filter is empty or its syntax is invalid
      */
-    private static <V> Predicate<Entry<String, V>> matches(final Pattern pattern, final FilterType type) {
-        final Predicate<Entry<String, V>> predicate = entry -> pattern.matcher(entry.getKey()).matches();
-        return type == RETAIN ? predicate : predicate.negate();
+    private static Pattern compile(final String filter) {
+        if (filter.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Pattern.compile(filter);
+        } catch (final PatternSyntaxException e) {
+            // records will be emitted without being filtered
+            logger.warn("Invalid Regular Expression {}, filtering disabled", filter, e);
+            return null;
+        }
     }
 
     /**
@@ -299,4 +305,49 @@ public final class RegexFilter implements WireEmitter, WireReceiver, Configurabl
         return type == 2 ? REMOVE : RETAIN;
     }
 
+    /**
+     * The keys retained by the filter for a given key set. Applying it to a record copies the
+     * precomputed keys without evaluating the regular expression.
+     */
+    private static final class KeyProjection {
+
+        private static final KeyProjection ALL = new KeyProjection(null);
+        private static final KeyProjection NONE = new KeyProjection(new String[0]);
+
+        /** The retained keys, {@code null} if all the keys are retained */
+        private final String[] retainedKeys;
+
+        private KeyProjection(final String[] retainedKeys) {
+            this.retainedKeys = retainedKeys;
+        }
+
+        static KeyProjection of(final Set<String> keys, final Pattern pattern, final FilterType type) {
+            final List<String> retained = newArrayList();
+            for (final String key : keys) {
+                if (pattern.matcher(key).matches() == (type == RETAIN)) {
+                    retained.add(key);
+                }
+            }
+
+            if (retained.size() == keys.size()) {
+                return ALL;
+            }
+            if (retained.isEmpty()) {
+                return NONE;
+            }
+            return new KeyProjection(retained.toArray(new String[retained.size()]));
+        }
+
+        <V> Map<String, V> apply(final Map<String, V> map) {
+            // If all the keys are retained, there is no need to create a new map instance
+            if (isNull(this.retainedKeys)) {
+                return map;
+            }
+            final Map<String, V> result = new HashMap<>(this.retainedKeys.length * 4 / 3 + 1);
+            for (final String key : this.retainedKeys) {
+                result.put(key, map.get(key));
+            }
+            return unmodifiableMap(result);
+        }
+    }
 }
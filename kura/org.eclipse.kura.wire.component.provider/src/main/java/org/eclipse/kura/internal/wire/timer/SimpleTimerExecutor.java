@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2020, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,41 +12,38 @@
  *******************************************************************************/
 package org.eclipse.kura.internal.wire.timer;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
 
+import org.eclipse.kura.internal.wire.timer.TimerScheduler.ScheduledTimer;
 import org.eclipse.kura.wire.WireSupport;
 
 public class SimpleTimerExecutor implements TimerExecutor {
 
-    private final ScheduledExecutorService executor;
+    private final ScheduledTimer timer;
 
     public SimpleTimerExecutor(final TimerOptions options, final WireSupport wireSupport) {
-        this.executor = Executors.newSingleThreadScheduledExecutor(getThreadFactory(options.getOwnPid()));
+        this(options, wireSupport, TimerScheduler.getDefault());
+    }
+
+    SimpleTimerExecutor(final TimerOptions options, final WireSupport wireSupport, final TimerScheduler scheduler) {
+        final long interval = options.getSimpleInterval() * options.getSimpleTimeUnitMultiplier();
 
-        long firstTickInterval = options.getSimpleInterval() * options.getSimpleTimeUnitMultiplier();
+        long firstTickInterval = interval;
         if (!options.isDefaultFirstTickBehavior()) {
             firstTickInterval = options.firstTickInterval() * options.getSimpleTimeUnitMultiplier();
         }
 
-        this.executor.scheduleAtFixedRate(() -> Timer.emit(wireSupport), firstTickInterval,
-                options.getSimpleInterval() * options.getSimpleTimeUnitMultiplier(), TimeUnit.MILLISECONDS);
+        this.timer = scheduler.schedule(() -> Timer.emit(wireSupport), firstTickInterval, interval,
+                options.isAlignedFirstTickBehavior());
     }
 
-    private static ThreadFactory getThreadFactory(final String pid) {
-        final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
-
-        return runnable -> {
-            final Thread result = defaultFactory.newThread(runnable);
-            result.setName("WiresTimer_" + pid + "_" + System.identityHashCode(result));
-            return result;
-        };
+    @Override
+    public Optional<TimerStatistics> getStatistics() {
+        return Optional.of(this.timer.getStatistics());
     }
 
     @Override
     public void shutdown() {
-        this.executor.shutdownNow();
+        this.timer.cancel();
     }
 }
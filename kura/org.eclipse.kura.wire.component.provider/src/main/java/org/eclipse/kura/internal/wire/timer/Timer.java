@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -90,8 +90,18 @@ public class Timer implements WireEmitter, ConfigurableComponent {
         }
     }
 
+    /**
+     * Returns the tick statistics of the current simple timer.
+     *
+     * @return the statistics, or an empty optional if the timer is not running or is a CRON timer
+     */
+    public Optional<TimerStatistics> getStatistics() {
+        return this.timerExecutor.flatMap(TimerExecutor::getStatistics);
+    }
+
     private void shutdownExecutor() {
         if (this.timerExecutor.isPresent()) {
+            this.timerExecutor.get().getStatistics().ifPresent(s -> logger.debug("Timer statistics: {}", s));
             this.timerExecutor.get().shutdown();
             this.timerExecutor = Optional.empty();
         }
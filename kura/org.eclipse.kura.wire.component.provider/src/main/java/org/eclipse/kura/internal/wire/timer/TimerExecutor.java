@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,7 +12,13 @@
  *******************************************************************************/
 package org.eclipse.kura.internal.wire.timer;
 
+import java.util.Optional;
+
 public interface TimerExecutor {
 
     public void shutdown();
+
+    public default Optional<TimerStatistics> getStatistics() {
+        return Optional.empty();
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ final class TimerOptions {
 
     private static final String PROP_SIMPLE_TICK_POLICY = "simple.first.tick.policy";
     private static final String PROP_SIMPLE_TICK_POLICY_DEFAULT_VALUE = "DEFAULT";
+    private static final String PROP_SIMPLE_TICK_POLICY_ALIGNED_VALUE = "ALIGNED";
 
     private static final String PROP_SIMPLE_TICK_CUSTOM_INTERVAL = "simple.custom.first.tick.interval";
 
@@ -84,17 +85,25 @@ final class TimerOptions {
     }
 
     boolean isDefaultFirstTickBehavior() {
+        return PROP_SIMPLE_TICK_POLICY_DEFAULT_VALUE.equalsIgnoreCase(getFirstTickBehavior());
+    }
+
+    /**
+     * Returns whether the ticks should be aligned to the wall clock multiples of the simple interval.
+     *
+     * @return {@code true} if the ticks should be aligned
+     */
+    boolean isAlignedFirstTickBehavior() {
+        return PROP_SIMPLE_TICK_POLICY_ALIGNED_VALUE.equalsIgnoreCase(getFirstTickBehavior());
+    }
+
+    private String getFirstTickBehavior() {
         String behavior = PROP_SIMPLE_TICK_POLICY_DEFAULT_VALUE;
         final Object selectedBehavior = this.properties.get(PROP_SIMPLE_TICK_POLICY);
         if (nonNull(selectedBehavior) && selectedBehavior instanceof String) {
             behavior = (String) selectedBehavior;
         }
-
-        boolean result = false;
-        if (PROP_SIMPLE_TICK_POLICY_DEFAULT_VALUE.equalsIgnoreCase(behavior)) {
-            result = true;
-        }
-        return result;
+        return behavior;
     }
 
     int firstTickInterval() {
@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.timer;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules the ticks of the simple wire timers on a single thread, shared by all the timer instances.
+ * <p>
+ * Ticks are computed at a fixed rate from the monotonic clock, so that they do not drift. Ticks falling due within
+ * {@link #COALESCING_WINDOW_MS} of each other are dispatched in the same wakeup. Timers can optionally be aligned to
+ * the wall clock multiples of their period, in this case timers with the same period tick together.
+ * <p>
+ * Emissions run on a pool of at most {@link #MAX_WORKERS} worker threads, the idle threads are released. Emissions
+ * falling due while all the workers are busy are queued. A timer never runs concurrently with itself, a tick falling
+ * due while the previous emission of the same timer is still running is skipped. As a consequence each timer uses at
+ * most one worker thread at a time, and a timer whose emissions take longer than its period can only delay the
+ * emissions of the other timers if more than {@link #MAX_WORKERS} timers are overrunning at the same time.
+ */
+final class TimerScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimerScheduler.class);
+
+    static final long COALESCING_WINDOW_MS = 1;
+    static final int MAX_WORKERS = Math.max(16, 2 * Runtime.getRuntime().availableProcessors());
+
+    private static final long COALESCING_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(COALESCING_WINDOW_MS);
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+
+    // deadlines are Clock.nanoTime() values, they must be compared by difference
+    private static final Comparator<ScheduledTimer> DEADLINE_ORDER = (a, b) -> {
+        final int result = Long.signum(a.deadline - b.deadline);
+        return result != 0 ? result : Long.compare(a.sequenceNumber, b.sequenceNumber);
+    };
+
+    private static final TimerScheduler defaultInstance = new TimerScheduler("WiresTimer");
+
+    private final String name;
+    private final Clock clock;
+    private final Executor workers;
+    private final Optional<ThreadFactory> tickerThreadFactory;
+    private final PriorityQueue<ScheduledTimer> queue = new PriorityQueue<>(DEADLINE_ORDER);
+
+    private Thread ticker;
+    private long nextSequenceNumber;
+
+    TimerScheduler(final String name) {
+        this(name, Clock.SYSTEM, getWorkerPool(name + "_Worker_"), Optional.of(getThreadFactory(name + "_Scheduler_")));
+    }
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param name
+     *            the name of the scheduler, used for logging
+     * @param clock
+     *            the clock used to compute the deadlines
+     * @param workers
+     *            the executor that runs the emissions
+     * @param tickerThreadFactory
+     *            the factory of the thread that dispatches the ticks, if empty no thread is started and the ticks are
+     *            only dispatched by {@link #tick()}
+     */
+    TimerScheduler(final String name, final Clock clock, final Executor workers,
+            final Optional<ThreadFactory> tickerThreadFactory) {
+        this.name = name;
+        this.clock = clock;
+        this.workers = workers;
+        this.tickerThreadFactory = tickerThreadFactory;
+    }
+
+    static TimerScheduler getDefault() {
+        return defaultInstance;
+    }
+
+    /**
+     * Schedules a task for periodic execution.
+     *
+     * @param task
+     *            the task
+     * @param initialDelayMs
+     *            the delay before the first tick, ignored if {@code aligned} is {@code true}
+     * @param periodMs
+     *            the period
+     * @param aligned
+     *            if {@code true} the ticks are aligned to the wall clock multiples of the period
+     * @return the scheduled timer
+     * @throws IllegalArgumentException
+     *             if the period is not positive
+     */
+    synchronized ScheduledTimer schedule(final Runnable task, final long initialDelayMs, final long periodMs,
+            final boolean aligned) {
+        if (periodMs <= 0) {
+            throw new IllegalArgumentException("Timer period must be positive");
+        }
+
+        final long delayMs = aligned ? getAlignmentDelayMs(this.clock.currentTimeMillis(), periodMs)
+                : Math.max(0, initialDelayMs);
+
+        final ScheduledTimer timer = new ScheduledTimer(task, periodMs, aligned,
+                this.clock.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs), this.nextSequenceNumber++);
+
+        this.queue.add(timer);
+
+        if (this.ticker != null) {
+            notifyAll();
+        } else if (this.tickerThreadFactory.isPresent()) {
+            this.ticker = this.tickerThreadFactory.get().newThread(this::run);
+            this.ticker.start();
+        }
+
+        return timer;
+    }
+
+    private synchronized void cancel(final ScheduledTimer timer) {
+        timer.cancelled = true;
+
+        if (this.queue.remove(timer)) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Dispatches the ticks that are due and returns the time left before the next deadline.
+     *
+     * @return the delay in nanoseconds before the next deadline, or {@code -1} if no timers are scheduled
+     */
+    synchronized long tick() {
+        while (true) {
+            final ScheduledTimer head = this.queue.peek();
+
+            if (head == null) {
+                return -1;
+            }
+
+            final long now = this.clock.nanoTime();
+            final long delay = head.deadline - now;
+
+            if (delay > COALESCING_WINDOW_NANOS) {
+                return delay;
+            }
+
+            dispatchDueTimers(now);
+        }
+    }
+
+    private synchronized void run() {
+        while (true) {
+            final long delay = tick();
+
+            if (delay < 0) {
+                // no timers left, a new thread will be started by the next schedule() call
+                this.ticker = null;
+                return;
+            }
+
+            try {
+                TimeUnit.NANOSECONDS.timedWait(this, delay);
+            } catch (final InterruptedException e) {
+                logger.warn("{} scheduler interrupted", this.name);
+                this.ticker = null;
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void dispatchDueTimers(final long now) {
+        ScheduledTimer timer = this.queue.peek();
+
+        while (timer != null && timer.deadline - now <= COALESCING_WINDOW_NANOS) {
+            this.queue.poll();
+            timer.fire(now);
+            this.queue.add(timer);
+
+            timer = this.queue.peek();
+        }
+    }
+
+    static long getAlignmentDelayMs(final long wallClockMs, final long periodMs) {
+        return periodMs - Math.floorMod(wallClockMs, periodMs);
+    }
+
+    private static Executor getWorkerPool(final String prefix) {
+        final ThreadPoolExecutor result = new ThreadPoolExecutor(MAX_WORKERS, MAX_WORKERS, WORKER_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), getThreadFactory(prefix));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    private static ThreadFactory getThreadFactory(final String prefix) {
+        final AtomicInteger nextThreadId = new AtomicInteger();
+
+        return runnable -> {
+            final Thread result = new Thread(runnable, prefix + nextThreadId.incrementAndGet());
+            result.setDaemon(true);
+            return result;
+        };
+    }
+
+    final class ScheduledTimer {
+
+        private final Runnable task;
+        private final long periodMs;
+        private final long periodNanos;
+        private final boolean aligned;
+        private final long sequenceNumber;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final TimerStatistics statistics = new TimerStatistics();
+
+        private long deadline;
+        private volatile boolean cancelled;
+
+        private ScheduledTimer(final Runnable task, final long periodMs, final boolean aligned, final long deadline,
+                final long sequenceNumber) {
+            this.task = task;
+            this.periodMs = periodMs;
+            this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMs);
+            this.aligned = aligned;
+            this.deadline = deadline;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        /**
+         * Cancels the timer. An emission that is already running is not interrupted.
+         */
+        void cancel() {
+            TimerScheduler.this.cancel(this);
+        }
+
+        TimerStatistics getStatistics() {
+            return this.statistics;
+        }
+
+        private void fire(final long now) {
+            long lateness = now - this.deadline;
+
+            if (lateness >= this.periodNanos) {
+                // do not try to catch up with the ticks that should have been dispatched while the system was busy
+                final long missed = lateness / this.periodNanos;
+                this.statistics.onSkipped(missed);
+                this.deadline += missed * this.periodNanos;
+                lateness -= missed * this.periodNanos;
+            }
+
+            if (this.running.compareAndSet(false, true)) {
+                this.statistics.onTick(Math.max(0, lateness));
+                submit();
+            } else {
+                this.statistics.onSkipped(1);
+            }
+
+            this.deadline += this.periodNanos;
+
+            if (this.aligned) {
+                realign(now);
+            }
+        }
+
+        private void submit() {
+            try {
+                TimerScheduler.this.workers.execute(this::runTask);
+            } catch (final RejectedExecutionException e) {
+                this.running.set(false);
+            }
+        }
+
+        private void runTask() {
+            try {
+                if (!this.cancelled) {
+                    this.task.run();
+                }
+            } catch (final Exception e) {
+                logger.warn("Timer emission failed", e);
+            } finally {
+                this.running.set(false);
+            }
+        }
+
+        private void realign(final long now) {
+            // keeps following the wall clock if it is changed or slewed
+            final long wallClockDeadlineMs = TimerScheduler.this.clock.currentTimeMillis()
+                    + TimeUnit.NANOSECONDS.toMillis(this.deadline - now);
+            long phaseErrorMs = Math.floorMod(wallClockDeadlineMs, this.periodMs);
+
+            if (phaseErrorMs > this.periodMs / 2) {
+                phaseErrorMs -= this.periodMs;
+            }
+
+            if (Math.abs(phaseErrorMs) > COALESCING_WINDOW_MS) {
+                this.deadline -= TimeUnit.MILLISECONDS.toNanos(phaseErrorMs);
+            }
+        }
+    }
+
+    /**
+     * The source of the monotonic and wall clock times used by a {@link TimerScheduler}.
+     */
+    interface Clock {
+
+        Clock SYSTEM = new Clock() {
+
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public long currentTimeMillis() {
+                return System.currentTimeMillis();
+            }
+        };
+
+        long nanoTime();
+
+        long currentTimeMillis();
+    }
+}
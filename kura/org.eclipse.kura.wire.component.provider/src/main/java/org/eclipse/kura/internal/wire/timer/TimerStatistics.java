@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the punctuality of the ticks of a timer scheduled on a {@link TimerScheduler}.
+ * <p>
+ * A tick is late if it is dispatched more than {@link #LATE_TICK_THRESHOLD_MS} milliseconds after its deadline. A
+ * tick is skipped if the previous emission of the timer is still running at its deadline or if the scheduler fell
+ * behind by more than a whole period.
+ */
+public class TimerStatistics {
+
+    static final long LATE_TICK_THRESHOLD_MS = 10;
+
+    private static final long LATE_TICK_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(LATE_TICK_THRESHOLD_MS);
+
+    private final AtomicLong tickCount = new AtomicLong();
+    private final AtomicLong lateTickCount = new AtomicLong();
+    private final AtomicLong skippedTickCount = new AtomicLong();
+    private final AtomicLong totalLatenessNanos = new AtomicLong();
+    private final AtomicLong maxLatenessNanos = new AtomicLong();
+
+    void onTick(final long latenessNanos) {
+        this.tickCount.incrementAndGet();
+        this.totalLatenessNanos.addAndGet(latenessNanos);
+        this.maxLatenessNanos.accumulateAndGet(latenessNanos, Math::max);
+
+        if (latenessNanos > LATE_TICK_THRESHOLD_NANOS) {
+            this.lateTickCount.incrementAndGet();
+        }
+    }
+
+    void onSkipped(final long count) {
+        this.skippedTickCount.addAndGet(count);
+    }
+
+    public long getTickCount() {
+        return this.tickCount.get();
+    }
+
+    public long getLateTickCount() {
+        return this.lateTickCount.get();
+    }
+
+    public long getSkippedTickCount() {
+        return this.skippedTickCount.get();
+    }
+
+    public long getAverageLatenessMicros() {
+        final long count = this.tickCount.get();
+
+        if (count == 0) {
+            return 0;
+        }
+
+        return TimeUnit.NANOSECONDS.toMicros(this.totalLatenessNanos.get() / count);
+    }
+
+    public long getMaxLatenessMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(this.maxLatenessNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "ticks: " + getTickCount() + ", late: " + getLateTickCount() + ", skipped: " + getSkippedTickCount()
+                + ", lateness avg: " + getAverageLatenessMicros() + " us, max: " + getMaxLatenessMicros() + " us";
+    }
+}
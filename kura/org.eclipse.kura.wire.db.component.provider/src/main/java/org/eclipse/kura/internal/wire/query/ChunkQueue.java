@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.query;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.wire.WireRecord;
+
+/**
+ * Transfers the chunks of a streamed query result from the thread that reads the result, which can be a thread
+ * owned by the store and shared with its other users, to the thread that emits them.
+ * <p>
+ * The queue is bounded: if the chunks are emitted more slowly than they are read, the reading thread waits for a
+ * chunk to be emitted before adding a new one. If the emitting thread stops consuming the chunks, it must call
+ * {@link #cancel()}, the reading thread then receives a {@link CancellationException} from {@link #accept(List)},
+ * which aborts the query.
+ */
+class ChunkQueue implements Consumer<List<WireRecord>> {
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final BlockingQueue<Item> queue;
+
+    private volatile boolean cancelled;
+
+    ChunkQueue(final int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Adds a chunk to the queue, waiting for space to become available.
+     *
+     * @throws CancellationException
+     *             if the queue has been cancelled or the calling thread is interrupted
+     */
+    @Override
+    public void accept(final List<WireRecord> chunk) {
+        put(new Item(chunk, null));
+    }
+
+    /**
+     * Runs the given query, reporting its completion or failure to the thread consuming the chunks.
+     */
+    void run(final Query query) {
+        KuraStoreException failure = null;
+
+        try {
+            query.perform(this);
+        } catch (final KuraStoreException e) {
+            failure = e;
+        } catch (final Exception e) {
+            failure = new KuraStoreException(e, "failed to perform query");
+        }
+
+        try {
+            put(new Item(null, failure));
+        } catch (final CancellationException e) {
+            // the consumer is gone
+        }
+    }
+
+    /**
+     * Returns the next chunk, waiting for it to be available.
+     *
+     * @return the next chunk, or {@code null} if the query has completed
+     * @throws KuraStoreException
+     *             if the query has failed or the calling thread is interrupted
+     */
+    List<WireRecord> take() throws KuraStoreException {
+        final Item item;
+
+        try {
+            item = this.queue.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KuraStoreException(e, "interrupted while waiting for query result");
+        }
+
+        if (item.failure != null) {
+            throw item.failure;
+        }
+
+        return item.chunk;
+    }
+
+    void cancel() {
+        this.cancelled = true;
+        this.queue.clear();
+    }
+
+    private void put(final Item item) {
+        try {
+            while (this.cancelled || !this.queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (this.cancelled) {
+                    throw new CancellationException("query result is no longer consumed");
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("interrupted while waiting to deliver query result");
+        }
+    }
+
+    @FunctionalInterface
+    interface Query {
+
+        void perform(Consumer<List<WireRecord>> consumer) throws KuraStoreException;
+    }
+
+    private static final class Item {
+
+        private final List<WireRecord> chunk;
+        private final KuraStoreException failure;
+
+        Item(final List<WireRecord> chunk, final KuraStoreException failure) {
+            this.chunk = chunk;
+            this.failure = failure;
+        }
+    }
+}
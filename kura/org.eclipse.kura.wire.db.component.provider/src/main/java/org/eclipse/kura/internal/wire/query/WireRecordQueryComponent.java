@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,16 +13,23 @@
  *******************************************************************************/
 package org.eclipse.kura.internal.wire.query;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.kura.KuraStoreException;
 import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.type.TypedValue;
 import org.eclipse.kura.wire.WireComponent;
 import org.eclipse.kura.wire.WireEmitter;
 import org.eclipse.kura.wire.WireEnvelope;
@@ -42,6 +49,7 @@ public class WireRecordQueryComponent implements WireEmitter, WireReceiver, Conf
     private State state = new Unsatisfied();
     private WireSupport wireSupport;
     private WireHelperService wireHelperService;
+    private ExecutorService queryExecutor;
 
     public void bindQueryableWireRecordStoreProvider(QueryableWireRecordStoreProvider store) {
         updateState(s -> s.setQueryableWireRecordStoreProvider(store));
@@ -61,6 +69,11 @@ public class WireRecordQueryComponent implements WireEmitter, WireReceiver, Conf
 
         this.wireSupport = this.wireHelperService.newWireSupport(this,
                 (ServiceReference<WireComponent>) componentContext.getServiceReference());
+        this.queryExecutor = Executors.newSingleThreadExecutor(r -> {
+            final Thread thread = new Thread(r, "WireRecordQuery");
+            thread.setDaemon(true);
+            return thread;
+        });
 
         updateState(s -> s.setOptions(new WireRecordQueryComponentOptions(properties)));
 
@@ -78,6 +91,8 @@ public class WireRecordQueryComponent implements WireEmitter, WireReceiver, Conf
     protected void deactivate() {
         logger.debug("Deactivating Wire Record Query Component...");
 
+        this.queryExecutor.shutdownNow();
+
         logger.debug("Deactivating Wire Record Query Component... Done");
     }
 
@@ -89,17 +104,10 @@ public class WireRecordQueryComponent implements WireEmitter, WireReceiver, Conf
     @Override
     public synchronized void onWireReceive(final WireEnvelope wireEnvelope) {
 
-        final Optional<List<WireRecord>> records;
-
         try {
-            records = this.state.getRecords();
+            this.state.emitRecords(this.wireSupport::emit, this.queryExecutor);
         } catch (final Exception e) {
             logger.warn("failed to perform query", e);
-            return;
-        }
-
-        if (records.isPresent()) {
-            this.wireSupport.emit(records.get());
         }
     }
 
@@ -132,7 +140,8 @@ public class WireRecordQueryComponent implements WireEmitter, WireReceiver, Conf
         public State unsetQueryableWireRecordStoreProvider(
                 final QueryableWireRecordStoreProvider queryableWireRecordStore);
 
-        public Optional<List<WireRecord>> getRecords() throws KuraStoreException;
+        public void emitRecords(final Consumer<List<WireRecord>> emitter, final Executor queryExecutor)
+                throws KuraStoreException;
     }
 
     private static class Unsatisfied implements State {
@@ -172,7 +181,8 @@ public class WireRecordQueryComponent implements WireEmitter, WireReceiver, Conf
         }
 
         @Override
-        public Optional<List<WireRecord>> getRecords() throws KuraStoreException {
+        public void emitRecords(final Consumer<List<WireRecord>> emitter, final Executor queryExecutor)
+                throws KuraStoreException {
 
             throw new KuraStoreException("Component dependencies are not satisfied");
         }
@@ -181,10 +191,13 @@ public class WireRecordQueryComponent implements WireEmitter, WireReceiver, Conf
 
     private static class Satisfied implements State {
 
+        private static final int MAX_PENDING_CHUNKS = 4;
+
         private final WireRecordQueryComponentOptions options;
         private final QueryableWireRecordStoreProvider provider;
 
         private Optional<CachedRecords> cachedRecords = Optional.empty();
+        private long lastKey = Long.MIN_VALUE;
 
         public Satisfied(final WireRecordQueryComponentOptions options,
                 final QueryableWireRecordStoreProvider provider) {
@@ -216,14 +229,21 @@ public class WireRecordQueryComponent implements WireEmitter, WireReceiver, Conf
         }
 
         @Override
-        public synchronized Optional<List<WireRecord>> getRecords() throws KuraStoreException {
+        public synchronized void emitRecords(final Consumer<List<WireRecord>> emitter, final Executor queryExecutor)
+                throws KuraStoreException {
+
+            if (this.options.isStreamingEnabled()) {
+                emitChunks(emitter, queryExecutor);
+                return;
+            }
 
             final List<WireRecord> result;
 
             if (cachedRecords.isPresent() && cachedRecords.get().isFresh(options)) {
                 result = cachedRecords.get().records;
             } else {
-                result = this.provider.performQuery(options.getQuery());
+                result = performQuery();
+                updateLastKey(result);
 
                 if (options.getCacheExpirationInterval() > 0) {
                     this.cachedRecords = Optional.of(new CachedRecords(result));
@@ -231,9 +251,93 @@ public class WireRecordQueryComponent implements WireEmitter, WireReceiver, Conf
             }
 
             if (!result.isEmpty() || this.options.isEmitOnEmptyResult()) {
-                return Optional.of(result);
+                emitter.accept(result);
+            }
+        }
+
+        /*
+         * Streams the query result, emitting one envelope per chunk so that the memory usage does not depend on
+         * the result size. The cache is not used in this mode.
+         *
+         * The store can deliver the chunks on a thread shared with its other users, like the H2 executor thread, so
+         * the query is started on the component executor and the chunks are emitted by the calling thread through a
+         * bounded queue. This way the store is never blocked by the downstream components, apart from waiting for
+         * space in the queue if they are slower than the query.
+         */
+        private void emitChunks(final Consumer<List<WireRecord>> emitter, final Executor queryExecutor)
+                throws KuraStoreException {
+            final ChunkQueue chunks = new ChunkQueue(MAX_PENDING_CHUNKS);
+            final String query = getQuery();
+            final int chunkSize = this.options.getStreamingChunkSize();
+
+            if (this.options.isColumnarRecordsEnabled()) {
+                queryExecutor.execute(() -> chunks.run(c -> this.provider.performColumnarQuery(query, chunkSize, c)));
             } else {
-                return Optional.empty();
+                queryExecutor.execute(() -> chunks.run(c -> this.provider.performQuery(query, chunkSize, c)));
+            }
+
+            boolean isEmpty = true;
+
+            try {
+                List<WireRecord> chunk;
+
+                while ((chunk = chunks.take()) != null) {
+                    isEmpty = false;
+                    updateLastKey(chunk);
+                    emitter.accept(chunk);
+                }
+            } finally {
+                chunks.cancel();
+            }
+
+            if (isEmpty && this.options.isEmitOnEmptyResult()) {
+                emitter.accept(Collections.emptyList());
+            }
+        }
+
+        private List<WireRecord> performQuery() throws KuraStoreException {
+            if (!this.options.isColumnarRecordsEnabled()) {
+                return this.provider.performQuery(getQuery());
+            }
+
+            final List<List<WireRecord>> chunks = new ArrayList<>(1);
+
+            this.provider.performColumnarQuery(getQuery(), Integer.MAX_VALUE, chunks::add);
+
+            return chunks.isEmpty() ? new ArrayList<>() : chunks.get(0);
+        }
+
+        private String getQuery() {
+            if (!this.options.getKeysetColumn().isPresent()) {
+                return this.options.getQuery();
+            }
+
+            return this.options.getQuery().replace(WireRecordQueryComponentOptions.LAST_KEY_PLACEHOLDER,
+                    Long.toString(this.lastKey));
+        }
+
+        /*
+         * The greatest key of the records is used, so that the result does not need to be sorted by the keyset
+         * column. Sorting is still required in streaming mode to not skip rows if the emission fails before
+         * reaching the end of the result.
+         */
+        private void updateLastKey(final List<WireRecord> records) {
+            final Optional<String> keysetColumn = this.options.getKeysetColumn();
+
+            if (!keysetColumn.isPresent()) {
+                return;
+            }
+
+            for (final WireRecord wireRecord : records) {
+                final TypedValue<?> key = wireRecord.getProperties().get(keysetColumn.get());
+
+                if (key == null || !(key.getValue() instanceof Number)) {
+                    logger.warn("The result does not contain an integer value for the {} keyset column",
+                            keysetColumn.get());
+                    return;
+                }
+
+                this.lastKey = Math.max(this.lastKey, ((Number) key.getValue()).longValue());
             }
         }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.kura.internal.wire.query;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.kura.util.configuration.Property;
 
@@ -25,15 +26,32 @@ public final class WireRecordQueryComponentOptions {
     private static final Property<Integer> CACHE_EXPIRATION_INTERVAL_PROPERTY = new Property<>(
             "cache.expiration.interval", 0);
     private static final Property<Boolean> EMIT_ON_EMPTY_RESULT_PROPERTY = new Property<>("emit.on.empty.result", true);
+    private static final Property<Boolean> STREAMING_ENABLED_PROPERTY = new Property<>("streaming.enabled", false);
+    private static final Property<Integer> STREAMING_CHUNK_SIZE_PROPERTY = new Property<>("streaming.chunk.size",
+            1000);
+    private static final Property<String> KEYSET_COLUMN_PROPERTY = new Property<>("keyset.column", "");
+    private static final Property<Boolean> COLUMNAR_RECORDS_ENABLED_PROPERTY = new Property<>(
+            "columnar.records.enabled", false);
+
+    public static final String LAST_KEY_PLACEHOLDER = "$lastKey";
 
     private final String query;
     private final int cacheExpirationInterval;
     private final boolean emitOnEmptyResult;
+    private final boolean streamingEnabled;
+    private final int streamingChunkSize;
+    private final Optional<String> keysetColumn;
+    private final boolean columnarRecordsEnabled;
 
     public WireRecordQueryComponentOptions(final Map<String, Object> properties) {
         this.cacheExpirationInterval = CACHE_EXPIRATION_INTERVAL_PROPERTY.get(properties);
         this.query = QUERY_PROPERTY.get(properties);
         this.emitOnEmptyResult = EMIT_ON_EMPTY_RESULT_PROPERTY.get(properties);
+        this.streamingEnabled = STREAMING_ENABLED_PROPERTY.get(properties);
+        this.streamingChunkSize = Math.max(1, STREAMING_CHUNK_SIZE_PROPERTY.get(properties));
+        this.keysetColumn = KEYSET_COLUMN_PROPERTY.getOptional(properties).map(String::trim)
+                .filter(s -> !s.isEmpty());
+        this.columnarRecordsEnabled = COLUMNAR_RECORDS_ENABLED_PROPERTY.get(properties);
     }
 
     public String getQuery() {
@@ -48,9 +66,26 @@ public final class WireRecordQueryComponentOptions {
         return emitOnEmptyResult;
     }
 
+    public boolean isStreamingEnabled() {
+        return streamingEnabled;
+    }
+
+    public int getStreamingChunkSize() {
+        return streamingChunkSize;
+    }
+
+    public Optional<String> getKeysetColumn() {
+        return keysetColumn;
+    }
+
+    public boolean isColumnarRecordsEnabled() {
+        return columnarRecordsEnabled;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(cacheExpirationInterval, emitOnEmptyResult, query);
+        return Objects.hash(cacheExpirationInterval, emitOnEmptyResult, query, streamingEnabled, streamingChunkSize,
+                keysetColumn, columnarRecordsEnabled);
     }
 
     @Override
@@ -63,7 +98,9 @@ public final class WireRecordQueryComponentOptions {
         }
         WireRecordQueryComponentOptions other = (WireRecordQueryComponentOptions) obj;
         return cacheExpirationInterval == other.cacheExpirationInterval && emitOnEmptyResult == other.emitOnEmptyResult
-                && Objects.equals(query, other.query);
+                && Objects.equals(query, other.query) && streamingEnabled == other.streamingEnabled
+                && streamingChunkSize == other.streamingChunkSize && Objects.equals(keysetColumn, other.keysetColumn)
+                && columnarRecordsEnabled == other.columnarRecordsEnabled;
     }
 
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -23,15 +23,19 @@ public final class WireRecordStoreComponentOptions {
     private static final Property<String> STORE_NAME_PROPERTY = new Property<>("store.name", "WR_data");
     private static final Property<Integer> MAXIMUM_STORE_SIZE_PROPERTY = new Property<>("maximum.store.size", 10000);
     private static final Property<Integer> CLEANUP_RECORDS_KEEP_PROPERTY = new Property<>("cleanup.records.keep", 5000);
+    private static final Property<Integer> PARTITION_INTERVAL_MINUTES_PROPERTY = new Property<>(
+            "partition.interval.minutes", 0);
 
     private final String storeName;
     private final int maximumStoreSize;
     private final int cleanupRecordsKeep;
+    private final int partitionIntervalMinutes;
 
     public WireRecordStoreComponentOptions(final Map<String, Object> properties) {
         this.storeName = STORE_NAME_PROPERTY.get(properties);
         this.maximumStoreSize = MAXIMUM_STORE_SIZE_PROPERTY.get(properties);
         this.cleanupRecordsKeep = CLEANUP_RECORDS_KEEP_PROPERTY.get(properties);
+        this.partitionIntervalMinutes = PARTITION_INTERVAL_MINUTES_PROPERTY.get(properties);
     }
 
     public int getCleanupRecordsKeep() {
@@ -46,9 +50,17 @@ public final class WireRecordStoreComponentOptions {
         return storeName;
     }
 
+    public boolean isPartitioningEnabled() {
+        return partitionIntervalMinutes > 0;
+    }
+
+    public long getPartitionIntervalMillis() {
+        return partitionIntervalMinutes * 60000L;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(cleanupRecordsKeep, maximumStoreSize, storeName);
+        return Objects.hash(cleanupRecordsKeep, maximumStoreSize, storeName, partitionIntervalMinutes);
     }
 
     @Override
@@ -61,7 +73,8 @@ public final class WireRecordStoreComponentOptions {
         }
         WireRecordStoreComponentOptions other = (WireRecordStoreComponentOptions) obj;
         return cleanupRecordsKeep == other.cleanupRecordsKeep && maximumStoreSize == other.maximumStoreSize
-                && Objects.equals(storeName, other.storeName);
+                && Objects.equals(storeName, other.storeName)
+                && partitionIntervalMinutes == other.partitionIntervalMinutes;
     }
 
 }
\ No newline at end of file
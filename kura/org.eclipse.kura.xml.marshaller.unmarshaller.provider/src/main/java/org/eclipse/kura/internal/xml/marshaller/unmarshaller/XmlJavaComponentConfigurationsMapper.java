@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -32,18 +32,20 @@ import org.w3c.dom.NodeList;
 
 public class XmlJavaComponentConfigurationsMapper implements XmlJavaDataMapper {
 
-    private static final String CONFIGURATIONS = "configurations";
-    private static final String PROPERTIES = "properties";
+    static final String CONFIGURATIONS = "configurations";
+    static final String PROPERTIES = "properties";
 
-    private static final String CONFIGURATION_PID = "pid";
+    static final String CONFIGURATION_PID = "pid";
+    static final String CONFIGURATIONS_BASE = "base";
 
-    private static final String CONFIGURATIONS_CONFIGURATION = "configuration";
-    private static final String CONFIGURATIONS_CONFIGURATION_PROPERTY = "property";
-    private static final String CONFIGURATIONS_CONFIGURATION_PROPERTY_NAME = "name";
-    private static final String CONFIGURATIONS_CONFIGURATION_PROPERTY_ARRAY = "array";
-    private static final String CONFIGURATIONS_CONFIGURATION_PROPERTY_ENCRYPTED = "encrypted";
-    private static final String CONFIGURATIONS_CONFIGURATION_PROPERTY_TYPE = "type";
-    private static final String CONFIGURATIONS_CONFIGURATION_PROPERTY_VALUE = "value";
+    static final String CONFIGURATIONS_CONFIGURATION = "configuration";
+    static final String CONFIGURATIONS_DELETED = "deleted";
+    static final String CONFIGURATIONS_CONFIGURATION_PROPERTY = "property";
+    static final String CONFIGURATIONS_CONFIGURATION_PROPERTY_NAME = "name";
+    static final String CONFIGURATIONS_CONFIGURATION_PROPERTY_ARRAY = "array";
+    static final String CONFIGURATIONS_CONFIGURATION_PROPERTY_ENCRYPTED = "encrypted";
+    static final String CONFIGURATIONS_CONFIGURATION_PROPERTY_TYPE = "type";
+    static final String CONFIGURATIONS_CONFIGURATION_PROPERTY_VALUE = "value";
 
     private Document marshallDoc = null;
 
@@ -59,12 +61,25 @@ public class XmlJavaComponentConfigurationsMapper implements XmlJavaDataMapper {
         XmlComponentConfigurations xmlCompConfig = (XmlComponentConfigurations) object;
         List<ComponentConfiguration> configs = xmlCompConfig.getConfigurations();
 
+        if (xmlCompConfig.isDelta()) {
+            configurations.setAttribute(CONFIGURATIONS_BASE, xmlCompConfig.getBaseSnapshotId().toString());
+        }
+
         if (configs != null) {
             for (ComponentConfiguration config : configs) {
                 Element configuration = marshallConfiguration(config);
                 configurations.appendChild(configuration);
             }
         }
+
+        List<String> deletedPids = xmlCompConfig.getDeletedPids();
+        if (deletedPids != null) {
+            for (String deletedPid : deletedPids) {
+                Element deleted = doc.createElement(ESF_NAMESPACE + ":" + CONFIGURATIONS_DELETED);
+                deleted.setAttribute(CONFIGURATION_PID, deletedPid);
+                configurations.appendChild(deleted);
+            }
+        }
         return configurations;
     }
 
@@ -84,6 +99,19 @@ public class XmlJavaComponentConfigurationsMapper implements XmlJavaDataMapper {
             compConfList.add(cci);
         }
         xcc.setConfigurations(compConfList);
+
+        // delta snapshots reference a base snapshot and list the removed configurations
+        String base = doc.getDocumentElement().getAttribute(CONFIGURATIONS_BASE);
+        if (!base.isEmpty()) {
+            xcc.setBaseSnapshotId(Long.parseLong(base));
+
+            NodeList deletedList = doc.getElementsByTagName(ESF_NAMESPACE + ":" + CONFIGURATIONS_DELETED);
+            List<String> deletedPids = new ArrayList<>();
+            for (int deletedIndex = 0; deletedIndex < deletedList.getLength(); deletedIndex++) {
+                deletedPids.add(((Element) deletedList.item(deletedIndex)).getAttribute(CONFIGURATION_PID));
+            }
+            xcc.setDeletedPids(deletedPids);
+        }
         return (T) xcc;
     }
 
@@ -170,7 +198,7 @@ public class XmlJavaComponentConfigurationsMapper implements XmlJavaDataMapper {
         return null;
     }
 
-    private String getStringValue(ConfigPropertyType type) {
+    static String getStringValue(ConfigPropertyType type) {
         if (type == null) {
             return "String";
         }
@@ -266,7 +294,7 @@ public class XmlJavaComponentConfigurationsMapper implements XmlJavaDataMapper {
         return elementList.toArray(new Element[0]);
     }
 
-    private ConfigPropertyType getType(String type) {
+    static ConfigPropertyType getType(String type) {
         if (type.equals("String")) {
             return ConfigPropertyType.STRING_TYPE;
         } else if (type.equals("Long")) {
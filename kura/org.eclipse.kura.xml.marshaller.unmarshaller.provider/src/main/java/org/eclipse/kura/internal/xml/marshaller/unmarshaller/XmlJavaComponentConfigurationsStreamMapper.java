@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.xml.marshaller.unmarshaller;
+
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATIONS;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATIONS_BASE;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATIONS_CONFIGURATION;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATIONS_CONFIGURATION_PROPERTY;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATIONS_CONFIGURATION_PROPERTY_ARRAY;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATIONS_CONFIGURATION_PROPERTY_ENCRYPTED;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATIONS_CONFIGURATION_PROPERTY_NAME;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATIONS_CONFIGURATION_PROPERTY_TYPE;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATIONS_CONFIGURATION_PROPERTY_VALUE;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATIONS_DELETED;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.CONFIGURATION_PID;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaComponentConfigurationsMapper.PROPERTIES;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaDataMapper.ESF_NAMESPACE;
+import static org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlJavaDataMapper.OCD_NAMESPACE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.eclipse.kura.configuration.ComponentConfiguration;
+import org.eclipse.kura.core.configuration.ComponentConfigurationImpl;
+import org.eclipse.kura.core.configuration.XmlComponentConfigurations;
+import org.eclipse.kura.core.configuration.XmlConfigPropertiesAdapted;
+import org.eclipse.kura.core.configuration.XmlConfigPropertiesAdapter;
+import org.eclipse.kura.core.configuration.XmlConfigPropertyAdapted;
+
+/**
+ * Streaming counterpart of {@link XmlJavaComponentConfigurationsMapper}, used for snapshots. It produces and accepts
+ * the same document structure without building a DOM, one configuration at a time. Configuration definitions are
+ * not supported by the writer and are skipped by the reader.
+ */
+public class XmlJavaComponentConfigurationsStreamMapper {
+
+    private static final String ESF_NAMESPACE_URI = "http://eurotech.com/esf/2.0";
+    private static final String OCD_NAMESPACE_URI = "http://www.osgi.org/xmlns/metatype/v1.2.0";
+
+    public void marshal(XMLStreamWriter writer, XmlComponentConfigurations xmlCompConfig) throws Exception {
+        writer.writeStartDocument("UTF-8", "1.0");
+        writer.writeStartElement(ESF_NAMESPACE, CONFIGURATIONS, ESF_NAMESPACE_URI);
+        writer.writeNamespace(ESF_NAMESPACE, ESF_NAMESPACE_URI);
+        writer.writeNamespace(OCD_NAMESPACE, OCD_NAMESPACE_URI);
+
+        if (xmlCompConfig.isDelta()) {
+            writer.writeAttribute(CONFIGURATIONS_BASE, xmlCompConfig.getBaseSnapshotId().toString());
+        }
+
+        final List<ComponentConfiguration> configs = xmlCompConfig.getConfigurations();
+        if (configs != null) {
+            for (final ComponentConfiguration config : configs) {
+                marshalConfiguration(writer, config);
+            }
+        }
+
+        final List<String> deletedPids = xmlCompConfig.getDeletedPids();
+        if (deletedPids != null) {
+            for (final String deletedPid : deletedPids) {
+                writer.writeEmptyElement(ESF_NAMESPACE, CONFIGURATIONS_DELETED, ESF_NAMESPACE_URI);
+                writer.writeAttribute(CONFIGURATION_PID, deletedPid);
+            }
+        }
+
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.flush();
+    }
+
+    public XmlComponentConfigurations unmarshal(XMLStreamReader reader) throws Exception {
+        final XmlComponentConfigurations xcc = new XmlComponentConfigurations();
+        final List<ComponentConfiguration> compConfList = new ArrayList<>();
+        final List<String> deletedPids = new ArrayList<>();
+
+        reader.nextTag();
+        reader.require(XMLStreamConstants.START_ELEMENT, null, CONFIGURATIONS);
+
+        final String base = reader.getAttributeValue(null, CONFIGURATIONS_BASE);
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            final String localName = reader.getLocalName();
+
+            if (CONFIGURATIONS_CONFIGURATION.equals(localName)) {
+                compConfList.add(parseConfiguration(reader));
+            } else if (CONFIGURATIONS_DELETED.equals(localName)) {
+                deletedPids.add(reader.getAttributeValue(null, CONFIGURATION_PID));
+                skipElement(reader);
+            } else {
+                skipElement(reader);
+            }
+        }
+
+        xcc.setConfigurations(compConfList);
+        if (base != null && !base.isEmpty()) {
+            xcc.setBaseSnapshotId(Long.parseLong(base));
+            xcc.setDeletedPids(deletedPids);
+        }
+        return xcc;
+    }
+
+    //
+    // Marshaller's private methods
+    //
+    private void marshalConfiguration(XMLStreamWriter writer, ComponentConfiguration config) throws Exception {
+        writer.writeStartElement(ESF_NAMESPACE, CONFIGURATIONS_CONFIGURATION, ESF_NAMESPACE_URI);
+        writer.writeAttribute(CONFIGURATION_PID, config.getPid());
+
+        final Map<String, Object> configProperties = config.getConfigurationProperties();
+        if (configProperties != null) {
+            writer.writeStartElement(ESF_NAMESPACE, PROPERTIES, ESF_NAMESPACE_URI);
+
+            final XmlConfigPropertiesAdapted configPropAdapted = new XmlConfigPropertiesAdapter()
+                    .marshal(configProperties);
+            for (final XmlConfigPropertyAdapted propertyObj : configPropAdapted.getProperties()) {
+                marshalProperty(writer, propertyObj);
+            }
+
+            writer.writeEndElement();
+        }
+
+        writer.writeEndElement();
+    }
+
+    private void marshalProperty(XMLStreamWriter writer, XmlConfigPropertyAdapted propertyObj)
+            throws XMLStreamException {
+        final String[] values = propertyObj.getValues();
+
+        if (values == null) {
+            return;
+        }
+
+        writer.writeStartElement(ESF_NAMESPACE, CONFIGURATIONS_CONFIGURATION_PROPERTY, ESF_NAMESPACE_URI);
+        writer.writeAttribute(CONFIGURATIONS_CONFIGURATION_PROPERTY_NAME, propertyObj.getName());
+        writer.writeAttribute(CONFIGURATIONS_CONFIGURATION_PROPERTY_ARRAY, Boolean.toString(propertyObj.getArray()));
+        writer.writeAttribute(CONFIGURATIONS_CONFIGURATION_PROPERTY_ENCRYPTED,
+                Boolean.toString(propertyObj.isEncrypted()));
+        writer.writeAttribute(CONFIGURATIONS_CONFIGURATION_PROPERTY_TYPE,
+                XmlJavaComponentConfigurationsMapper.getStringValue(propertyObj.getType()));
+
+        for (final String value : values) {
+            writer.writeStartElement(ESF_NAMESPACE, CONFIGURATIONS_CONFIGURATION_PROPERTY_VALUE, ESF_NAMESPACE_URI);
+            if (value != null) {
+                writer.writeCharacters(value);
+            }
+            writer.writeEndElement();
+        }
+
+        writer.writeEndElement();
+    }
+
+    //
+    // Unmarshaller's private methods
+    //
+    private ComponentConfiguration parseConfiguration(XMLStreamReader reader) throws Exception {
+        final String pid = reader.getAttributeValue(null, CONFIGURATION_PID);
+        final XmlConfigPropertiesAdapted xmlPropertiesAdapted = new XmlConfigPropertiesAdapted();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (PROPERTIES.equals(reader.getLocalName())) {
+                final List<XmlConfigPropertyAdapted> properties = new ArrayList<>();
+
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    properties.add(parseProperty(reader));
+                }
+
+                xmlPropertiesAdapted.setProperties(properties.toArray(new XmlConfigPropertyAdapted[0]));
+            } else {
+                // configuration definition
+                skipElement(reader);
+            }
+        }
+
+        final Map<String, Object> propertiesMap = new XmlConfigPropertiesAdapter().unmarshal(xmlPropertiesAdapted);
+
+        return new ComponentConfigurationImpl(pid, null, propertiesMap);
+    }
+
+    private XmlConfigPropertyAdapted parseProperty(XMLStreamReader reader) throws XMLStreamException {
+        final String name = reader.getAttributeValue(null, CONFIGURATIONS_CONFIGURATION_PROPERTY_NAME);
+        final String type = reader.getAttributeValue(null, CONFIGURATIONS_CONFIGURATION_PROPERTY_TYPE);
+        final String array = reader.getAttributeValue(null, CONFIGURATIONS_CONFIGURATION_PROPERTY_ARRAY);
+        final String encrypted = reader.getAttributeValue(null, CONFIGURATIONS_CONFIGURATION_PROPERTY_ENCRYPTED);
+
+        final List<String> values = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            values.add(reader.getElementText());
+        }
+
+        final XmlConfigPropertyAdapted xmlProperty = new XmlConfigPropertyAdapted(name,
+                XmlJavaComponentConfigurationsMapper.getType(type != null ? type : ""),
+                values.toArray(new String[0]));
+        xmlProperty.setArray(Boolean.parseBoolean(array));
+        xmlProperty.setEncrypted(Boolean.parseBoolean(encrypted));
+
+        return xmlProperty;
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+
+        while (depth > 0) {
+            final int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,16 +13,25 @@
 package org.eclipse.kura.internal.xml.marshaller.unmarshaller;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.stream.FactoryConfigurationError;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -66,6 +75,33 @@ public class XmlMarshallUnmarshallImpl implements Marshaller, Unmarshaller {
         return sw.toString();
     }
 
+    @Override
+    public void marshal(Object object, OutputStream out) throws KuraException {
+        try {
+            if (object instanceof XmlComponentConfigurations
+                    && !hasDefinitions((XmlComponentConfigurations) object)) {
+                final XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+                try {
+                    new XmlJavaComponentConfigurationsStreamMapper().marshal(writer,
+                            (XmlComponentConfigurations) object);
+                } finally {
+                    writer.close();
+                }
+            } else {
+                final Writer w = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                marshal(object, w);
+                w.flush();
+            }
+        } catch (Exception e) {
+            throw new KuraException(KuraErrorCode.ENCODE_ERROR, e, VALUE_CONSTANT);
+        }
+    }
+
+    private static boolean hasDefinitions(final XmlComponentConfigurations xmlConfigs) {
+        return xmlConfigs.getConfigurations() != null
+                && xmlConfigs.getConfigurations().stream().anyMatch(c -> c != null && c.getDefinition() != null);
+    }
+
     private void marshal(Object object, Writer w) throws Exception {
         try {
             DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
@@ -201,6 +237,30 @@ public class XmlMarshallUnmarshallImpl implements Marshaller, Unmarshaller {
         return unmarshal(sr, clazz);
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
+        if (!clazz.equals(XmlComponentConfigurations.class)) {
+            return unmarshal(new InputStreamReader(in, StandardCharsets.UTF_8), clazz);
+        }
+
+        try {
+            final XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+            final XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                // Snapshot parser
+                return (T) new XmlJavaComponentConfigurationsStreamMapper().unmarshal(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (Exception e) {
+            throw new KuraException(KuraErrorCode.DECODER_ERROR, e, VALUE_CONSTANT);
+        }
+    }
+
     private <T> T unmarshal(Reader r, Class<T> clazz) throws KuraException {
         DocumentBuilderFactory factory = null;
         DocumentBuilder parser = null;
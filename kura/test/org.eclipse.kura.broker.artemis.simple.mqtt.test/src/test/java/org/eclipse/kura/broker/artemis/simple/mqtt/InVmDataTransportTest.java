@@ -0,0 +1,370 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.broker.artemis.simple.mqtt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraConnectException;
+import org.eclipse.kura.KuraNotConnectedException;
+import org.eclipse.kura.broker.artemis.core.ServerConfiguration;
+import org.eclipse.kura.broker.artemis.core.ServerRunner;
+import org.eclipse.kura.broker.artemis.core.UserAuthentication;
+import org.eclipse.kura.crypto.CryptoService;
+import org.eclipse.kura.data.DataTransportToken;
+import org.eclipse.kura.data.transport.listener.DataTransportListener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InVmDataTransportTest {
+
+    private static final int IN_VM_ACCEPTOR_ID = 42;
+    private static final String USERNAME = "mqtt";
+    private static final String PASSWORD = "secret";
+
+    private static final long EVENT_TIMEOUT_SECONDS = 30;
+    private static final long NO_EVENT_TIMEOUT_MILLIS = 200;
+
+    private static final String BROKER_XML = "<configuration xmlns=\"urn:activemq\">" //
+            + "<core xmlns=\"urn:activemq:core\">" //
+            + "<name>in-vm-transport-test</name>" //
+            + "<persistence-enabled>false</persistence-enabled>" //
+            + "<jmx-management-enabled>false</jmx-management-enabled>" //
+            + "<acceptors><acceptor name=\"invm\">vm://" + IN_VM_ACCEPTOR_ID + "</acceptor></acceptors>" //
+            + "<security-settings><security-setting match=\"#\">" //
+            + "<permission type=\"createNonDurableQueue\" roles=\"amq\" />" //
+            + "<permission type=\"deleteNonDurableQueue\" roles=\"amq\" />" //
+            + "<permission type=\"createAddress\" roles=\"amq\" />" //
+            + "<permission type=\"deleteAddress\" roles=\"amq\" />" //
+            + "<permission type=\"consume\" roles=\"amq\" />" //
+            + "<permission type=\"send\" roles=\"amq\" />" //
+            + "</security-setting></security-settings>" //
+            + "</core>" //
+            + "</configuration>";
+
+    private final RecordingListener listener = new RecordingListener();
+
+    private ServerRunner broker;
+    private InVmDataTransport transport;
+
+    @Before
+    public void setUp() throws Exception {
+        startBroker();
+
+        final CryptoService cryptoService = mock(CryptoService.class);
+        when(cryptoService.decryptAes(any(char[].class))).thenAnswer(i -> i.getArgument(0));
+
+        this.transport = new InVmDataTransport();
+        this.transport.setCryptoService(cryptoService);
+        this.transport.activate(properties(PASSWORD));
+        this.transport.addDataTransportListener(this.listener);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        this.transport.deactivate();
+        stopBroker();
+    }
+
+    @Test
+    public void shouldConnectAndDisconnect() throws Exception {
+        this.transport.connect();
+
+        assertTrue(this.transport.isConnected());
+        this.listener.expect("established:true");
+
+        this.transport.disconnect(0);
+
+        assertFalse(this.transport.isConnected());
+        this.listener.expect("disconnecting");
+        this.listener.expect("disconnected");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRejectConnectWhenAlreadyConnected() throws Exception {
+        this.transport.connect();
+        this.transport.connect();
+    }
+
+    @Test
+    public void shouldFailToConnectWithWrongPassword() {
+        this.transport.updated(properties("wrong"));
+
+        try {
+            this.transport.connect();
+            fail("connection should have been rejected");
+        } catch (final KuraConnectException e) {
+            // expected
+        }
+
+        assertFalse(this.transport.isConnected());
+    }
+
+    @Test(expected = KuraNotConnectedException.class)
+    public void shouldRejectPublishWhenNotConnected() throws Exception {
+        this.transport.publish("a/b", payload("test"), 0, false);
+    }
+
+    @Test
+    public void shouldDeliverMessagesOnMatchingSubscriptions() throws Exception {
+        connect();
+
+        this.transport.subscribe("a/+/c", 0);
+        this.transport.subscribe("x/#", 0);
+
+        this.transport.publish("a/b/c", payload("first"), 0, false);
+        this.listener.expect("message:a/b/c:first:0:false");
+
+        this.transport.publish("x/y/z", payload("second"), 0, false);
+        this.listener.expect("message:x/y/z:second:0:false");
+
+        this.transport.publish("a/b/d", payload("third"), 0, false);
+        this.listener.expectNoEvents();
+    }
+
+    @Test
+    public void shouldReplaceTopicVariables() throws Exception {
+        connect();
+
+        this.transport.subscribe("#account-name/#client-id/data", 0);
+        this.transport.publish("account/client/data", payload("test"), 0, false);
+
+        this.listener.expect("message:account/client/data:test:0:false");
+    }
+
+    @Test
+    public void shouldStopDeliveryOnUnsubscribe() throws Exception {
+        connect();
+
+        this.transport.subscribe("a/b", 0);
+        this.transport.publish("a/b", payload("first"), 0, false);
+        this.listener.expect("message:a/b:first:0:false");
+
+        this.transport.unsubscribe("a/b");
+        this.transport.publish("a/b", payload("second"), 0, false);
+
+        this.listener.expectNoEvents();
+    }
+
+    @Test
+    public void shouldDeliverWithMinimumOfPublishAndSubscriptionQos() throws Exception {
+        connect();
+
+        this.transport.subscribe("qos0", 0);
+        this.transport.subscribe("qos1", 1);
+
+        this.transport.publish("qos0", payload("test"), 1, false);
+        this.listener.expectIgnoringConfirmations("message:qos0:test:0:false");
+
+        this.transport.publish("qos1", payload("test"), 1, false);
+        this.listener.expectIgnoringConfirmations("message:qos1:test:1:false");
+
+        this.transport.publish("qos1", payload("test"), 0, false);
+        this.listener.expectIgnoringConfirmations("message:qos1:test:0:false");
+    }
+
+    @Test
+    public void shouldConfirmMessagesWithQosGreaterThanZero() throws Exception {
+        connect();
+
+        assertNull(this.transport.publish("a/b", payload("test"), 0, false));
+
+        final DataTransportToken first = this.transport.publish("a/b", payload("test"), 1, false);
+        final DataTransportToken second = this.transport.publish("a/b", payload("test"), 1, false);
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals(first.getSessionId(), second.getSessionId());
+        assertTrue(first.getMessageId() != second.getMessageId());
+
+        this.listener.expect("confirmed:" + first.getMessageId());
+        this.listener.expect("confirmed:" + second.getMessageId());
+        this.listener.expectNoEvents();
+    }
+
+    @Test
+    public void shouldDispatchToAllListenersIfOneFails() throws Exception {
+        final RecordingListener other = new RecordingListener();
+
+        this.transport.removeDataTransportListener(this.listener);
+        this.transport.addDataTransportListener(new RecordingListener() {
+
+            @Override
+            public void onConnectionEstablished(final boolean newSession) {
+                throw new IllegalStateException("test");
+            }
+        });
+        this.transport.addDataTransportListener(this.listener);
+        this.transport.addDataTransportListener(other);
+
+        this.transport.connect();
+
+        this.listener.expect("established:true");
+        other.expect("established:true");
+
+        this.transport.removeDataTransportListener(other);
+        this.transport.disconnect(0);
+
+        this.listener.expect("disconnecting");
+        other.expectNoEvents();
+    }
+
+    @Test
+    public void shouldNotifyConfigurationUpdates() throws Exception {
+        connect();
+
+        this.transport.updated(properties(PASSWORD));
+
+        this.listener.expect("updating:true");
+        this.listener.expect("updated:true");
+    }
+
+    @Test
+    public void shouldNotifyConnectionLostAndReconnect() throws Exception {
+        connect();
+        this.transport.subscribe("a/b", 0);
+
+        stopBroker();
+
+        this.listener.expect("lost");
+        assertFalse(this.transport.isConnected());
+
+        startBroker();
+
+        connect();
+        this.transport.subscribe("a/b", 0);
+        this.transport.publish("a/b", payload("test"), 0, false);
+
+        this.listener.expect("message:a/b:test:0:false");
+    }
+
+    private void connect() throws Exception {
+        this.transport.connect();
+        this.listener.expect("established:true");
+    }
+
+    private void startBroker() throws Exception {
+        final ServerConfiguration configuration = new ServerConfiguration();
+
+        configuration.setBrokerXml(BROKER_XML);
+        configuration.setUserAuthentication(new UserAuthentication.Builder()
+                .addUser(USERNAME, PASSWORD, Collections.singleton("amq")).build());
+
+        this.broker = new ServerRunner(configuration, Collections.emptyList());
+        this.broker.start();
+    }
+
+    private void stopBroker() throws Exception {
+        if (this.broker != null) {
+            this.broker.stop();
+            this.broker = null;
+        }
+    }
+
+    private static Map<String, Object> properties(final String password) {
+        final Map<String, Object> properties = new HashMap<>();
+
+        properties.put(InVmDataTransportOptions.IN_VM_ACCEPTOR_ID_PROP_NAME, IN_VM_ACCEPTOR_ID);
+        properties.put(InVmDataTransportOptions.USERNAME_PROP_NAME, USERNAME);
+        properties.put(InVmDataTransportOptions.PASSWORD_PROP_NAME, password);
+        properties.put(InVmDataTransportOptions.CLIENT_ID_PROP_NAME, "client");
+        properties.put(InVmDataTransportOptions.ACCOUNT_NAME_PROP_NAME, "account");
+
+        return properties;
+    }
+
+    private static byte[] payload(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class RecordingListener implements DataTransportListener {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onConnectionEstablished(final boolean newSession) {
+            this.events.add("established:" + newSession);
+        }
+
+        @Override
+        public void onDisconnecting() {
+            this.events.add("disconnecting");
+        }
+
+        @Override
+        public void onDisconnected() {
+            this.events.add("disconnected");
+        }
+
+        @Override
+        public void onConfigurationUpdating(final boolean wasConnected) {
+            this.events.add("updating:" + wasConnected);
+        }
+
+        @Override
+        public void onConfigurationUpdated(final boolean wasConnected) {
+            this.events.add("updated:" + wasConnected);
+        }
+
+        @Override
+        public void onConnectionLost(final Throwable cause) {
+            this.events.add("lost");
+        }
+
+        @Override
+        public void onMessageArrived(final String topic, final byte[] payload, final int qos,
+                final boolean retained) {
+            this.events.add("message:" + topic + ":" + new String(payload, StandardCharsets.UTF_8) + ":" + qos + ":"
+                    + retained);
+        }
+
+        @Override
+        public void onMessageConfirmed(final DataTransportToken token) {
+            this.events.add("confirmed:" + token.getMessageId());
+        }
+
+        void expect(final String expected) throws InterruptedException {
+            assertEquals(expected, this.events.poll(EVENT_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        void expectIgnoringConfirmations(final String expected) throws InterruptedException {
+            String event;
+
+            do {
+                event = this.events.poll(EVENT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } while (event != null && event.startsWith("confirmed:"));
+
+            assertEquals(expected, event);
+        }
+
+        void expectNoEvents() throws InterruptedException {
+            assertNull(this.events.poll(NO_EVENT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        }
+    }
+}
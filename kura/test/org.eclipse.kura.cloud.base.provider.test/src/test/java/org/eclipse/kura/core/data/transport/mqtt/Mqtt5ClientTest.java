@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.data.transport.mqtt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.kura.core.data.transport.mqtt.MqttClientConfiguration.PersistenceType;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
+import org.eclipse.paho.mqttv5.common.packet.MqttConnAck;
+import org.eclipse.paho.mqttv5.common.packet.MqttConnect;
+import org.eclipse.paho.mqttv5.common.packet.MqttDisconnect;
+import org.eclipse.paho.mqttv5.common.packet.MqttPingReq;
+import org.eclipse.paho.mqttv5.common.packet.MqttPingResp;
+import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
+import org.eclipse.paho.mqttv5.common.packet.MqttPubAck;
+import org.eclipse.paho.mqttv5.common.packet.MqttPublish;
+import org.eclipse.paho.mqttv5.common.packet.MqttWireMessage;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class Mqtt5ClientTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(Mqtt5ClientTest.class);
+
+    private static final String TOPIC = "$EDC/account-name/00:11:22:33:44:55/W1/A1/temperature-sensor-1";
+    private static final int MESSAGE_COUNT = 1000;
+    private static final int PAYLOAD_SIZE = 32;
+    private static final int LINK_SPEED_BITS_PER_SECOND = 9600;
+
+    @Test
+    public void shouldMapMqtt3ConnectOptions() {
+        final MqttConnectOptions mqtt3Options = new MqttConnectOptions();
+        mqtt3Options.setUserName("user");
+        mqtt3Options.setPassword("secret".toCharArray());
+        mqtt3Options.setKeepAliveInterval(42);
+        mqtt3Options.setConnectionTimeout(7);
+        mqtt3Options.setCleanSession(true);
+        mqtt3Options.setWill("lwt/topic", "bye".getBytes(StandardCharsets.UTF_8), 1, true);
+
+        final MqttConnectionOptions options = Mqtt5Client.buildConnectOptions(mqtt3Options, 100, 20);
+
+        assertEquals("user", options.getUserName());
+        assertArrayEquals("secret".getBytes(StandardCharsets.UTF_8), options.getPassword());
+        assertEquals(42, options.getKeepAliveInterval());
+        assertEquals(7, options.getConnectionTimeout());
+        assertTrue(options.isCleanStart());
+        assertFalse(options.isAutomaticReconnect());
+        assertEquals(Integer.valueOf(100), options.getReceiveMaximum());
+        assertEquals(Integer.valueOf(20), options.getTopicAliasMaximum());
+        assertEquals("lwt/topic", options.getWillDestination());
+        assertArrayEquals("bye".getBytes(StandardCharsets.UTF_8), options.getWillMessage().getPayload());
+        assertEquals(1, options.getWillMessage().getQos());
+        assertTrue(options.getWillMessage().isRetained());
+    }
+
+    @Test
+    public void shouldNotExpirePersistentSessions() {
+        final MqttConnectOptions mqtt3Options = new MqttConnectOptions();
+        mqtt3Options.setCleanSession(false);
+
+        final MqttConnectionOptions options = Mqtt5Client.buildConnectOptions(mqtt3Options, 10, 0);
+
+        assertFalse(options.isCleanStart());
+        assertEquals(Long.valueOf(0xFFFFFFFFL), options.getSessionExpiryInterval());
+        assertNull(options.getTopicAliasMaximum());
+    }
+
+    @Test
+    public void shouldSendTopicAliasOnRepeatedPublish() throws Exception {
+        try (FakeBroker broker = new FakeBroker(10)) {
+            final Mqtt5Client client = broker.connect();
+
+            try {
+                client.publish(TOPIC, new byte[PAYLOAD_SIZE], 1, false, 0);
+                client.publish(TOPIC, new byte[PAYLOAD_SIZE], 1, false, 0);
+
+                final MqttPublish first = broker.nextPublish();
+                final MqttPublish second = broker.nextPublish();
+
+                assertEquals(TOPIC, first.getTopicName());
+                assertNotNull(first.getProperties().getTopicAlias());
+
+                // the second publish only carries the alias
+                assertTrue(second.getTopicName() == null || second.getTopicName().isEmpty());
+                assertEquals(first.getProperties().getTopicAlias(), second.getProperties().getTopicAlias());
+            } finally {
+                client.close(0, 1000);
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotSendTopicAliasIfNotSupportedByTheBroker() throws Exception {
+        try (FakeBroker broker = new FakeBroker(0)) {
+            final Mqtt5Client client = broker.connect();
+
+            try {
+                client.publish(TOPIC, new byte[PAYLOAD_SIZE], 1, false, 0);
+                client.publish(TOPIC, new byte[PAYLOAD_SIZE], 1, false, 0);
+
+                for (int i = 0; i < 2; i++) {
+                    final MqttPublish publish = broker.nextPublish();
+
+                    assertEquals(TOPIC, publish.getTopicName());
+                    assertNull(publish.getProperties().getTopicAlias());
+                }
+            } finally {
+                client.close(0, 1000);
+            }
+        }
+    }
+
+    @Test
+    public void shouldReduceBytesOnTheWireWithTopicAliases() throws Exception {
+        final byte[] payload = new byte[PAYLOAD_SIZE];
+
+        long mqtt3Bytes = 0;
+        long mqtt5Bytes = 0;
+
+        try (FakeBroker broker = new FakeBroker(10)) {
+            final Mqtt5Client client = broker.connect();
+
+            try {
+                for (int i = 0; i < MESSAGE_COUNT; i++) {
+                    mqtt3Bytes += encodeMqtt3Publish(payload);
+
+                    client.publish(TOPIC, payload, 1, false, 0);
+                    broker.nextPublish();
+                }
+            } finally {
+                client.close(0, 1000);
+            }
+
+            mqtt5Bytes = broker.getPublishBytes();
+        }
+
+        final double mqtt3MessagesPerSecond = LINK_SPEED_BITS_PER_SECOND / 8.0 * MESSAGE_COUNT / mqtt3Bytes;
+        final double mqtt5MessagesPerSecond = LINK_SPEED_BITS_PER_SECOND / 8.0 * MESSAGE_COUNT / mqtt5Bytes;
+
+        logger.info("{} QoS 1 messages, {} bytes payload: MQTT 3.1.1 {} bytes, MQTT 5 with topic aliases {} bytes",
+                MESSAGE_COUNT, PAYLOAD_SIZE, mqtt3Bytes, mqtt5Bytes);
+        logger.info("Maximum throughput on a {} bit/s link: MQTT 3.1.1 {} msg/s, MQTT 5 with topic aliases {} msg/s",
+                LINK_SPEED_BITS_PER_SECOND, String.format("%.1f", mqtt3MessagesPerSecond),
+                String.format("%.1f", mqtt5MessagesPerSecond));
+
+        assertTrue(mqtt5Bytes * 2 < mqtt3Bytes);
+    }
+
+    private static int encodeMqtt3Publish(final byte[] payload) throws Exception {
+        final org.eclipse.paho.client.mqttv3.MqttMessage message = new org.eclipse.paho.client.mqttv3.MqttMessage(
+                payload);
+        message.setQos(1);
+
+        final org.eclipse.paho.client.mqttv3.internal.wire.MqttPublish publish = new org.eclipse.paho.client.mqttv3.internal.wire.MqttPublish(
+                TOPIC, message);
+        publish.setMessageId(1);
+
+        return publish.getHeader().length + publish.getPayload().length;
+    }
+
+    /*
+     * Minimal MQTT 5 broker accepting a single client, it advertises the given Topic Alias Maximum in the CONNACK,
+     * acknowledges QoS 1 messages and records the PUBLISH packets sent by the client.
+     */
+    private static final class FakeBroker implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final int topicAliasMaximum;
+        private final BlockingQueue<MqttPublish> publishes = new LinkedBlockingQueue<>();
+        private final AtomicLong publishBytes = new AtomicLong();
+        private final Thread thread;
+
+        FakeBroker(final int topicAliasMaximum) throws IOException {
+            this.serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+            this.topicAliasMaximum = topicAliasMaximum;
+            this.thread = new Thread(this::serve, "FakeBroker");
+            this.thread.start();
+        }
+
+        Mqtt5Client connect() throws Exception {
+            final Mqtt5Client client = new Mqtt5Client(
+                    "tcp://localhost:" + this.serverSocket.getLocalPort(), "test", PersistenceType.MEMORY, null,
+                    mock(Mqtt5Client.Listener.class));
+
+            client.connect(Mqtt5Client.buildConnectOptions(new MqttConnectOptions(), 10, 0), 10000);
+
+            return client;
+        }
+
+        MqttPublish nextPublish() throws InterruptedException {
+            final MqttPublish publish = this.publishes.poll(10, TimeUnit.SECONDS);
+            assertNotNull("no PUBLISH received", publish);
+            return publish;
+        }
+
+        long getPublishBytes() {
+            return this.publishBytes.get();
+        }
+
+        private void serve() {
+            try (Socket socket = this.serverSocket.accept()) {
+                final DataInputStream in = new DataInputStream(socket.getInputStream());
+                final OutputStream out = socket.getOutputStream();
+
+                while (true) {
+                    final byte[] packet = readPacket(in);
+                    final MqttWireMessage message = MqttWireMessage.createWireMessage(packet);
+
+                    if (message instanceof MqttConnect) {
+                        final MqttProperties properties = new MqttProperties();
+                        if (this.topicAliasMaximum > 0) {
+                            properties.setTopicAliasMaximum(this.topicAliasMaximum);
+                        }
+                        out.write(new MqttConnAck(false, 0, properties).serialize());
+                    } else if (message instanceof MqttPublish) {
+                        final MqttPublish publish = (MqttPublish) message;
+                        this.publishBytes.addAndGet(packet.length);
+                        this.publishes.add(publish);
+                        if (publish.getQoS() == 1) {
+                            out.write(new MqttPubAck(0, publish.getMessageId(), new MqttProperties()).serialize());
+                        }
+                    } else if (message instanceof MqttPingReq) {
+                        out.write(new MqttPingResp().serialize());
+                    } else if (message instanceof MqttDisconnect) {
+                        return;
+                    }
+
+                    out.flush();
+                }
+            } catch (final Exception e) {
+                // the client went away
+            }
+        }
+
+        private static byte[] readPacket(final DataInputStream in) throws IOException {
+            final ByteArrayOutputStream packet = new ByteArrayOutputStream();
+
+            packet.write(in.readUnsignedByte());
+
+            int remainingLength = 0;
+            int multiplier = 1;
+            int digit;
+
+            do {
+                digit = in.readUnsignedByte();
+                packet.write(digit);
+                remainingLength += (digit & 0x7F) * multiplier;
+                multiplier *= 128;
+            } while ((digit & 0x80) != 0);
+
+            final byte[] body = new byte[remainingLength];
+            in.readFully(body);
+            packet.write(body);
+
+            return packet.toByteArray();
+        }
+
+        @Override
+        public void close() throws Exception {
+            this.serverSocket.close();
+            this.thread.join(10000);
+        }
+    }
+}
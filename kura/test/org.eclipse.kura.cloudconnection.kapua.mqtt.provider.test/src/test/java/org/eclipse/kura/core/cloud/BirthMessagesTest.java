@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Dictionary;
@@ -420,6 +421,11 @@ public class BirthMessagesTest {
                 return null;
             }
 
+            @Override
+            public void marshal(Object object, OutputStream out) throws KuraException {
+                throw new UnsupportedOperationException();
+            }
+
         };
 
         EventAdmin eventAdmin = mock(EventAdmin.class);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2024, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,24 +12,34 @@
  *******************************************************************************/
 package org.eclipse.kura.cloudconnection.sparkplug.mqtt.provider.test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.kura.KuraConnectException;
 import org.eclipse.kura.KuraDisconnectException;
 import org.eclipse.kura.KuraException;
 import org.eclipse.kura.cloudconnection.message.KuraMessage;
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.device.SparkplugDevice;
+import org.eclipse.kura.cloudconnection.sparkplug.mqtt.message.SparkplugPayloads;
 import org.eclipse.kura.cloudconnection.sparkplug.mqtt.transport.SparkplugDataTransportOptions;
 import org.eclipse.kura.data.transport.listener.DataTransportListener;
 import org.eclipse.kura.message.KuraPayload;
@@ -42,11 +52,17 @@ import org.eclipse.tahu.protobuf.SparkplugBProto.Payload.Metric;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class SparkplugDeviceTest extends SparkplugIntegrationTest {
 
+    private static final Logger logger = LoggerFactory.getLogger(SparkplugDeviceTest.class);
+
     private static final long DEFAULT_TIMEOUT_MS = 10_000L;
+    private static final long NO_MESSAGE_TIMEOUT_MS = 2_000L;
 
     private DataTransportListener listener = mock(DataTransportListener.class);
     private MqttCallback callback = mock(MqttCallback.class);
@@ -98,6 +114,7 @@ public class SparkplugDeviceTest extends SparkplugIntegrationTest {
         givenEndpointConnect();
         givenKuraMetricToPublish("metric.string", "test string");
         givenPublish();
+        givenKuraMetricToPublish("metric.string", "another test string");
 
         whenPublish();
 
@@ -136,6 +153,87 @@ public class SparkplugDeviceTest extends SparkplugIntegrationTest {
         thenMessageDelivered("spBv1.0/g1/DBIRTH/n1/d1", 0, false, 1L);
     }
 
+    @Test
+    public void shouldNotPublishDeviceDataMessageOnUnchangedValues() throws Exception {
+        givenUpdate("d1");
+        givenEndpointConnect();
+        givenKuraMetricToPublish("metric.string", "test string");
+        givenPublish();
+
+        whenPublish();
+
+        thenMessageDelivered("spBv1.0/g1/DBIRTH/n1/d1", 0, false, 1L);
+        thenNoMessageDelivered("spBv1.0/g1/DDATA/n1/d1");
+    }
+
+    @Test
+    public void shouldDeclareMetricAliasesInDeviceBirth() throws Exception {
+        givenUpdate("d1");
+        givenEndpointConnect();
+        givenKuraMetricToPublish("metric.string", "test string");
+        givenKuraMetricToPublish("metric.int", 12);
+
+        whenPublish();
+
+        thenDeviceBirthDeclaresAliases("metric.string", "metric.int");
+    }
+
+    @Test
+    public void shouldPublishOnlyChangedMetricsByAliasInDeviceData() throws Exception {
+        givenUpdate("d1");
+        givenEndpointConnect();
+        givenKuraMetricToPublish("metric.string", "test string");
+        givenKuraMetricToPublish("metric.int", 12);
+        givenPublish();
+        givenKuraMetricToPublish("metric.int", 13);
+
+        whenPublish();
+
+        thenDeviceDataContainsOnlyAliasedMetric("metric.int", 13);
+    }
+
+    @Test
+    public void shouldNotRepublishDeviceBirthOnMetricsSubset() throws Exception {
+        givenUpdate("d1");
+        givenEndpointConnect();
+        givenKuraMetricToPublish("metric.string", "test string");
+        givenKuraMetricToPublish("metric.int", 12);
+        givenPublish();
+        givenNoKuraMetricsToPublish();
+        givenKuraMetricToPublish("metric.int", 13);
+
+        whenPublish();
+
+        thenMessageDelivered("spBv1.0/g1/DDATA/n1/d1", 0, false, 2L);
+    }
+
+    @Test
+    public void shouldReportBytesPerUpdateFor500Metrics() throws Exception {
+        givenUpdate("d1");
+        givenEndpointConnect();
+        givenKuraMetricsToPublish(500, 0);
+        givenPublish();
+        givenKuraMetricsToPublish(500, 1);
+
+        whenPublish();
+
+        int fullUpdateBytes = thenDeviceDataDelivered();
+        int fullUpdateWithNamesBytes = getDeviceDataSizeWithNames();
+
+        givenKuraMetricsToPublish(50, 2);
+
+        whenPublish();
+
+        int partialUpdateBytes = thenDeviceDataDelivered();
+
+        logger.info("Bytes per DDATA for a 500 metrics device, all metrics with names: {}", fullUpdateWithNamesBytes);
+        logger.info("Bytes per DDATA for a 500 metrics device, all metrics changed: {}", fullUpdateBytes);
+        logger.info("Bytes per DDATA for a 500 metrics device, 50 metrics changed: {}", partialUpdateBytes);
+
+        assertTrue(fullUpdateBytes < fullUpdateWithNamesBytes);
+        assertTrue(partialUpdateBytes < fullUpdateBytes);
+    }
+
     @Test
     public void shouldPublishTimestamp() throws Exception {
         givenUpdate("d1");
@@ -192,6 +290,16 @@ public class SparkplugDeviceTest extends SparkplugIntegrationTest {
         this.kuraMetricsToPublish.put(key, value);
     }
 
+    private void givenNoKuraMetricsToPublish() {
+        this.kuraMetricsToPublish.clear();
+    }
+
+    private void givenKuraMetricsToPublish(int count, int value) {
+        for (int i = 0; i < count; i++) {
+            this.kuraMetricsToPublish.put("device/channel" + i + "/value", value);
+        }
+    }
+
     private void givenKuraTimestampToPublish(Date timestamp) {
         this.kuraTimestampToPublish = timestamp;
     }
@@ -261,6 +369,55 @@ public class SparkplugDeviceTest extends SparkplugIntegrationTest {
         });
     }
 
+    private void thenNoMessageDelivered(String topic) throws Exception {
+        verify(this.callback, after(NO_MESSAGE_TIMEOUT_MS).never()).messageArrived(eq(topic), any());
+    }
+
+    private void thenDeviceBirthDeclaresAliases(String... expectedMetricNames) throws Exception {
+        verifyMessageDeliveredWithMatcher("spBv1.0/g1/DBIRTH/n1/d1", (MqttMessage message) -> {
+            try {
+                Payload receivedPayload = Payload.parseFrom(message.getPayload());
+                Set<Long> aliases = new HashSet<>();
+
+                for (String expectedMetricName : expectedMetricNames) {
+                    Optional<Metric> metric = receivedPayload.getMetricsList().stream()
+                            .filter(m -> m.getName().equals(expectedMetricName)).findFirst();
+
+                    if (!metric.isPresent() || !metric.get().hasAlias() || !metric.get().hasDatatype()
+                            || metric.get().getAlias() == SparkplugPayloads.NODE_CONTROL_REBIRTH_METRIC_ALIAS) {
+                        return false;
+                    }
+
+                    aliases.add(metric.get().getAlias());
+                }
+
+                return aliases.size() == expectedMetricNames.length;
+            } catch (Exception e) {
+                return false;
+            }
+        });
+    }
+
+    private void thenDeviceDataContainsOnlyAliasedMetric(String expectedMetricName, int expectedValue)
+            throws Exception {
+        Payload birth = Payload.parseFrom(getLastDeliveredPayload("spBv1.0/g1/DBIRTH/n1/d1"));
+        long expectedAlias = birth.getMetricsList().stream().filter(m -> m.getName().equals(expectedMetricName))
+                .findFirst().get().getAlias();
+
+        Payload data = Payload.parseFrom(getLastDeliveredPayload("spBv1.0/g1/DDATA/n1/d1"));
+
+        assertEquals(1, data.getMetricsCount());
+        assertEquals(expectedAlias, data.getMetrics(0).getAlias());
+        assertFalse(data.getMetrics(0).hasName());
+        assertEquals(expectedValue, data.getMetrics(0).getIntValue());
+    }
+
+    private int thenDeviceDataDelivered() throws Exception {
+        int size = getLastDeliveredPayload("spBv1.0/g1/DDATA/n1/d1").length;
+        clearInvocations(this.callback);
+        return size;
+    }
+
     private void thenDeliveredMessageContainsTimestamp(String expectedTopic, long expectedTimestamp) throws Exception {
         verifyMessageDeliveredWithMatcher(expectedTopic, (MqttMessage message) -> {
             try {
@@ -352,6 +509,20 @@ public class SparkplugDeviceTest extends SparkplugIntegrationTest {
         sparkplugDataTransport.update(properties);
     }
 
+    private int getDeviceDataSizeWithNames() {
+        KuraPayload payload = new KuraPayload();
+        this.kuraMetricsToPublish.forEach(payload::addMetric);
+
+        return SparkplugPayloads.getSparkplugDevicePayload(2L, payload).length;
+    }
+
+    private byte[] getLastDeliveredPayload(String topic) throws Exception {
+        ArgumentCaptor<MqttMessage> captor = ArgumentCaptor.forClass(MqttMessage.class);
+        verify(this.callback, timeout(DEFAULT_TIMEOUT_MS).atLeastOnce()).messageArrived(eq(topic), captor.capture());
+
+        return captor.getValue().getPayload();
+    }
+
     private void verifyMessageDeliveredWithMatcher(String expectedTopic, ArgumentMatcher<MqttMessage> matcher)
             throws Exception {
         verify(this.callback, timeout(DEFAULT_TIMEOUT_MS).atLeastOnce()).messageArrived(eq(expectedTopic),
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,13 @@
 package org.eclipse.kura.cloudconnection.sparkplug.mqtt.message.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -148,6 +150,35 @@ public class SparkplugBProtobufPayloadBuilderTest {
             thenBodyEquals("example.body".getBytes());
         }
 
+        @Test
+        public void shouldEncodeAliasWithNameInBirth() {
+            givenAliasedMetric("metric.int32", 32, 120L, 7L, true);
+
+            whenBuildPayload();
+
+            thenPayloadContainsMetric("metric.int32", 32, 120L, DataType.Int32, Optional.empty());
+            thenMetricAliasEquals(0, 7L);
+        }
+
+        @Test
+        public void shouldEncodeAliasOnlyInData() {
+            givenAliasedMetric("metric.int32", 32, 120L, 7L, false);
+
+            whenBuildPayload();
+
+            thenMetricAliasEquals(0, 7L);
+            thenMetricHasNoNameAndDatatype(0);
+        }
+
+        @Test
+        public void shouldEncodeNameOfMetricWithoutAlias() {
+            givenAliasedMetric("metric.int32", 32, 120L, null, false);
+
+            whenBuildPayload();
+
+            thenPayloadContainsMetric("metric.int32", 32, 120L, DataType.Int32, Optional.empty());
+        }
+
     }
 
     /*
@@ -172,6 +203,13 @@ public class SparkplugBProtobufPayloadBuilderTest {
             }
         }
 
+        void givenAliasedMetric(String name, Object value, long timestamp, Long alias, boolean includeNames) {
+            this.builder = new SparkplugBProtobufPayloadBuilder()
+                    .withMetricAliases(alias != null ? Collections.singletonMap(name, alias)
+                            : Collections.<String, Long> emptyMap(), includeNames)
+                    .withMetric(name, value, timestamp);
+        }
+
         void givenBdSeq(long bdSeq, long timestamp) {
             this.builder = new SparkplugBProtobufPayloadBuilder().withBdSeq(bdSeq, timestamp);
         }
@@ -293,6 +331,16 @@ public class SparkplugBProtobufPayloadBuilderTest {
         void thenBodyEquals(byte[] expectedBody) {
             assertTrue(Arrays.equals(expectedBody, this.payload.getBody().toByteArray()));
         }
+
+        void thenMetricAliasEquals(int index, long expectedAlias) {
+            assertTrue(this.payload.getMetrics(index).hasAlias());
+            assertEquals(expectedAlias, this.payload.getMetrics(index).getAlias());
+        }
+
+        void thenMetricHasNoNameAndDatatype(int index) {
+            assertFalse(this.payload.getMetrics(index).hasName());
+            assertFalse(this.payload.getMetrics(index).hasDatatype());
+        }
     }
 
 
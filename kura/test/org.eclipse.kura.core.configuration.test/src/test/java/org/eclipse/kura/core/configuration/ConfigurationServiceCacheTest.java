@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.configuration.ComponentConfiguration;
+import org.eclipse.kura.configuration.ConfigurationService;
+import org.eclipse.kura.configuration.SelfConfiguringComponent;
+import org.eclipse.kura.core.configuration.metatype.Tocd;
+import org.eclipse.kura.core.testutil.TestUtil;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.cm.Configuration;
+import org.osgi.service.cm.ConfigurationAdmin;
+import org.osgi.service.cm.ConfigurationEvent;
+import org.osgi.service.component.ComponentContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ConfigurationServiceCacheTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationServiceCacheTest.class);
+
+    private ConfigurationServiceImpl cs;
+    private ConfigurationAdmin configAdminMock;
+    private BundleContext bundleCtxMock;
+    private Map<String, Tocd> ocds;
+    private List<ServiceReference<?>> allReferences;
+
+    @Before
+    public void setUp() throws NoSuchFieldException, InvalidSyntaxException {
+        this.cs = new ConfigurationServiceImpl();
+
+        this.configAdminMock = mock(ConfigurationAdmin.class);
+        this.cs.setConfigurationAdmin(this.configAdminMock);
+
+        final ComponentContext componentCtxMock = mock(ComponentContext.class);
+        this.bundleCtxMock = mock(BundleContext.class);
+        when(componentCtxMock.getBundleContext()).thenReturn(this.bundleCtxMock);
+        TestUtil.setFieldValue(this.cs, "ctx", componentCtxMock);
+
+        this.allReferences = new ArrayList<>();
+        when(this.bundleCtxMock.getServiceReferences((String) null, null))
+                .thenAnswer(invocation -> this.allReferences.toArray(new ServiceReference<?>[0]));
+
+        this.ocds = (Map<String, Tocd>) TestUtil.getFieldValue(this.cs, "ocds");
+    }
+
+    @Test
+    public void shouldServeRepeatedReadsFromCache() throws KuraException, IOException {
+        final Configuration configMock = addConfigurableComponent("pid");
+
+        final List<ComponentConfiguration> first = this.cs.getComponentConfigurations();
+        final List<ComponentConfiguration> second = this.cs.getComponentConfigurations();
+
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertEquals("value pid", second.get(0).getConfigurationProperties().get("key"));
+        verify(this.configAdminMock, times(1)).getConfiguration("pid.service", "?");
+        verify(configMock, times(1)).getProperties();
+    }
+
+    @Test
+    public void shouldNotExposeCachedProperties() throws KuraException, IOException {
+        addConfigurableComponent("pid");
+
+        this.cs.getComponentConfigurations().get(0).getConfigurationProperties().put("key", "changed");
+
+        assertEquals("value pid",
+                this.cs.getComponentConfigurations().get(0).getConfigurationProperties().get("key"));
+    }
+
+    @Test
+    public void shouldReloadAfterConfigurationEvent() throws KuraException, IOException, NoSuchFieldException {
+        final Configuration configMock = addConfigurableComponent("pid");
+
+        this.cs.getComponentConfigurations();
+
+        final Hashtable<String, Object> updated = new Hashtable<>();
+        updated.put("key", "updated");
+        when(configMock.getProperties()).thenReturn(updated);
+
+        final ComponentConfigurationCache cache = (ComponentConfigurationCache) TestUtil.getFieldValue(this.cs,
+                "configurationCache");
+        final ConfigurationEvent event = mock(ConfigurationEvent.class);
+        when(event.getPid()).thenReturn("pid.service");
+        cache.configurationEvent(event);
+
+        assertEquals("updated", this.cs.getComponentConfigurations().get(0).getConfigurationProperties().get("key"));
+        verify(this.configAdminMock, times(2)).getConfiguration("pid.service", "?");
+    }
+
+    @Test
+    public void shouldReloadAfterOcdRegistration() throws KuraException, IOException {
+        addConfigurableComponent("pid");
+
+        this.cs.getComponentConfigurations();
+        this.cs.registerComponentOCD("pid", new Tocd(), false, null);
+        this.cs.getComponentConfigurations();
+
+        // one more read is performed by registerComponentOCD to seed the default configuration
+        verify(this.configAdminMock, times(3)).getConfiguration("pid.service", "?");
+    }
+
+    @Test
+    public void shouldLookUpTrackedSelfConfiguringComponentsWithoutScanning()
+            throws KuraException, InvalidSyntaxException {
+        final ServiceReference<SelfConfiguringComponent> ref = addSelfConfiguringComponentReference("pid");
+
+        this.cs.addSelfConfiguringComponent(ref);
+
+        final List<ComponentConfiguration> configs = this.cs.getComponentConfigurations();
+
+        assertEquals(1, configs.size());
+        assertEquals("pid", configs.get(0).getPid());
+        verify(this.bundleCtxMock, never()).getServiceReferences((String) null, null);
+
+        this.cs.removeSelfConfiguringComponent(ref);
+
+        assertEquals(0, this.cs.getComponentConfigurations().size());
+    }
+
+    @Test
+    public void shouldScanForUntrackedSelfConfiguringComponents() throws KuraException, InvalidSyntaxException {
+        addSelfConfiguringComponentReference("pid");
+        this.cs.registerSelfConfiguringComponent("pid", "pid.service");
+
+        final List<ComponentConfiguration> configs = this.cs.getComponentConfigurations();
+
+        assertEquals(1, configs.size());
+        verify(this.bundleCtxMock, times(1)).getServiceReferences((String) null, null);
+    }
+
+    @Test
+    public void benchmarkGetComponentConfigurations() throws Exception {
+        for (final int componentCount : new int[] { 50, 300, 1000 }) {
+            setUp();
+
+            final List<ServiceReference<SelfConfiguringComponent>> selfConfiguringRefs = new ArrayList<>();
+
+            for (int i = 0; i < componentCount; i++) {
+                if (i % 2 == 0) {
+                    addConfigurableComponent("configurable." + i);
+                } else {
+                    selfConfiguringRefs.add(addSelfConfiguringComponentReference("self." + i));
+                }
+            }
+
+            // previous behavior: scan all service references and read ConfigurationAdmin on every call
+            for (final ServiceReference<SelfConfiguringComponent> ref : selfConfiguringRefs) {
+                this.cs.registerSelfConfiguringComponent((String) ref.getProperty(ConfigurationService.KURA_SERVICE_PID),
+                        (String) ref.getProperty(Constants.SERVICE_PID));
+            }
+            final ComponentConfigurationCache cache = (ComponentConfigurationCache) TestUtil.getFieldValue(this.cs,
+                    "configurationCache");
+
+            final long uncachedNanos = measure(componentCount, cache::invalidateAll);
+
+            // tracked references and cached configurations
+            for (final ServiceReference<SelfConfiguringComponent> ref : selfConfiguringRefs) {
+                this.cs.addSelfConfiguringComponent(ref);
+            }
+            this.cs.getComponentConfigurations();
+
+            final long cachedNanos = measure(componentCount, () -> {
+            });
+
+            logger.info("getComponentConfigurations() with {} components: {} us without index and cache, {} us with",
+                    componentCount, uncachedNanos / 1000, cachedNanos / 1000);
+        }
+    }
+
+    private long measure(final int componentCount, final Runnable beforeEach) throws KuraException {
+        final int iterations = 3;
+        long total = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            beforeEach.run();
+
+            final long start = System.nanoTime();
+            final List<ComponentConfiguration> configs = this.cs.getComponentConfigurations();
+            total += System.nanoTime() - start;
+
+            assertEquals(componentCount, configs.size());
+        }
+
+        return total / iterations;
+    }
+
+    private Configuration addConfigurableComponent(final String pid) throws IOException {
+        final String servicePid = pid + ".service";
+
+        final Hashtable<String, Object> properties = new Hashtable<>();
+        properties.put("key", "value " + pid);
+
+        final Configuration configMock = mock(Configuration.class);
+        when(configMock.getProperties()).thenReturn(properties);
+        when(this.configAdminMock.getConfiguration(servicePid, "?")).thenReturn(configMock);
+
+        this.ocds.put(pid, new Tocd());
+        this.cs.registerComponentConfiguration(pid, servicePid, null);
+
+        return configMock;
+    }
+
+    private ServiceReference<SelfConfiguringComponent> addSelfConfiguringComponentReference(final String pid)
+            throws KuraException {
+        final ServiceReference<SelfConfiguringComponent> ref = mock(ServiceReference.class);
+        when(ref.getProperty(ConfigurationService.KURA_SERVICE_PID)).thenReturn(pid);
+        when(ref.getProperty(Constants.SERVICE_PID)).thenReturn(pid + ".service");
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("key", "value " + pid);
+
+        final SelfConfiguringComponent component = mock(SelfConfiguringComponent.class);
+        when(component.getConfiguration())
+                .thenAnswer(invocation -> new ComponentConfigurationImpl(pid, new Tocd(), properties));
+        when(this.bundleCtxMock.getService(ref)).thenReturn(component);
+
+        this.allReferences.add(ref);
+        // services that are not self configuring components
+        this.allReferences.add(mock(ServiceReference.class));
+
+        return ref;
+    }
+}
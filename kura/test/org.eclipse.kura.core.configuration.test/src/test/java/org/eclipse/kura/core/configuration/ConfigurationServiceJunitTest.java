@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -27,10 +27,16 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileReader;
 import java.io.FileWriter;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -1329,7 +1335,7 @@ public class ConfigurationServiceJunitTest {
         CryptoService cryptoServiceMock = mock(CryptoService.class);
         cs.setCryptoService(cryptoServiceMock);
 
-        when(cryptoServiceMock.decryptAes((char[]) any())).thenReturn(null);
+        when(cryptoServiceMock.aesDecryptingStream(any())).thenReturn(null);
 
         try {
             cs.loadEncryptedSnapshotFileContent(snapshotID);
@@ -1354,21 +1360,17 @@ public class ConfigurationServiceJunitTest {
         ConfigurationServiceImpl cs = new ConfigurationServiceImpl() {
 
             @Override
-            protected <T> T unmarshal(String xmlString, Class<T> clazz) throws KuraException {
+            protected <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
 
-                return xmlMarshaller.unmarshal(xmlString, clazz);
+                return xmlMarshaller.unmarshal(in, clazz);
             }
 
             @Override
-            protected String marshal(Object object) {
+            protected void marshal(Object object, OutputStream out) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
-                try {
-                    return xmlMarshaller.marshal(object);
-                } catch (KuraException e) {
 
-                }
-                return null;
+                xmlMarshaller.marshal(object, out);
             }
         };
 
@@ -1396,12 +1398,12 @@ public class ConfigurationServiceJunitTest {
         cs.setCryptoService(cryptoServiceMock);
 
         // ensure the proper file is read
-        when(cryptoServiceMock.decryptAes("test".toCharArray())).thenReturn(decrypted.toCharArray());
+        mockDecryptingStream(cryptoServiceMock, "test", decrypted);
 
         XmlComponentConfigurations configurations = cs.loadEncryptedSnapshotFileContent(snapshotID);
 
         verify(systemServiceMock, times(1)).getKuraSnapshotsDirectory();
-        verify(cryptoServiceMock, times(1)).decryptAes("test".toCharArray());
+        verify(cryptoServiceMock, times(1)).aesDecryptingStream(any());
 
         f1.delete();
         d1.delete();
@@ -1654,21 +1656,17 @@ public class ConfigurationServiceJunitTest {
             }
 
             @Override
-            protected <T> T unmarshal(String xmlString, Class<T> clazz) throws KuraException {
+            protected <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
 
-                return xmlMarshaller.unmarshal(xmlString, clazz);
+                return xmlMarshaller.unmarshal(in, clazz);
             }
 
             @Override
-            protected String marshal(Object object) {
+            protected void marshal(Object object, OutputStream out) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
-                try {
-                    return xmlMarshaller.marshal(object);
-                } catch (KuraException e) {
 
-                }
-                return null;
+                xmlMarshaller.marshal(object, out);
             }
         };
 
@@ -1677,14 +1675,14 @@ public class ConfigurationServiceJunitTest {
 
         String encCfg = "encrypted";
         char[] encrypted = encCfg.toCharArray();
-        when(cryptoServiceMock.encryptAes((char[]) ArgumentMatchers.any())).thenReturn(encrypted);
+        mockEncryptingStream(cryptoServiceMock, encCfg);
 
         BundleContext bundleContext = mock(BundleContext.class);
         TestUtil.setFieldValue(cs, "bundleContext", bundleContext);
 
         TestUtil.invokePrivate(cs, "encryptPlainSnapshots");
 
-        verify(cryptoServiceMock, times(1)).encryptAes((char[]) ArgumentMatchers.any());
+        verify(cryptoServiceMock, times(1)).aesEncryptingStream(any());
 
         FileReader fr = new FileReader(f1);
         char[] chars = new char[encCfg.length()];
@@ -1727,6 +1725,47 @@ public class ConfigurationServiceJunitTest {
         return prepareSnapshot(Collections.singletonMap("pass", "pass"));
     }
 
+    // the plain content is discarded and the provided one is written instead
+    private void mockEncryptingStream(final CryptoService cryptoServiceMock, final String encrypted)
+            throws KuraException {
+        when(cryptoServiceMock.aesEncryptingStream(any())).thenAnswer(invocation -> {
+            final OutputStream destination = invocation.getArgument(0, OutputStream.class);
+
+            return new FilterOutputStream(destination) {
+
+                @Override
+                public void write(int b) {
+                    // discard
+                }
+
+                @Override
+                public void close() throws IOException {
+                    destination.write(encrypted.getBytes(StandardCharsets.UTF_8));
+                    destination.close();
+                }
+            };
+        });
+    }
+
+    // the provided plain content is returned if the stream contains the expected encrypted content
+    private void mockDecryptingStream(final CryptoService cryptoServiceMock, final String encrypted,
+            final String decrypted) throws KuraException {
+        when(cryptoServiceMock.aesDecryptingStream(any())).thenAnswer(invocation -> {
+            final InputStream source = invocation.getArgument(0, InputStream.class);
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+            int b;
+            while ((b = source.read()) != -1) {
+                content.write(b);
+            }
+
+            if (!encrypted.equals(new String(content.toByteArray(), StandardCharsets.UTF_8))) {
+                throw new KuraException(KuraErrorCode.DECODER_ERROR);
+            }
+            return new ByteArrayInputStream(decrypted.getBytes(StandardCharsets.UTF_8));
+        });
+    }
+
     @Test
     public void testWriteSnapshotFileNotFile() throws Throwable {
         // force a FileNotFound exception resulting in internal error KuraException
@@ -1753,21 +1792,17 @@ public class ConfigurationServiceJunitTest {
             }
 
             @Override
-            protected <T> T unmarshal(String xmlString, Class<T> clazz) throws KuraException {
+            protected <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
 
-                return xmlMarshaller.unmarshal(xmlString, clazz);
+                return xmlMarshaller.unmarshal(in, clazz);
             }
 
             @Override
-            protected String marshal(Object object) {
+            protected void marshal(Object object, OutputStream out) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
-                try {
-                    return xmlMarshaller.marshal(object);
-                } catch (KuraException e) {
 
-                }
-                return null;
+                xmlMarshaller.marshal(object, out);
             }
         };
 
@@ -1776,7 +1811,7 @@ public class ConfigurationServiceJunitTest {
 
         String encCfg = "encrypted";
         char[] encrypted = encCfg.toCharArray();
-        when(cryptoServiceMock.encryptAes((char[]) ArgumentMatchers.any())).thenReturn(encrypted);
+        mockEncryptingStream(cryptoServiceMock, encCfg);
 
         try {
             TestUtil.invokePrivate(cs, "writeSnapshot", sid, cfg);
@@ -1785,7 +1820,8 @@ public class ConfigurationServiceJunitTest {
             assertEquals("Error code.", KuraErrorCode.INTERNAL_ERROR, e.getCode());
         }
 
-        verify(cryptoServiceMock, times(1)).encryptAes((char[]) ArgumentMatchers.any());
+        // the snapshot file is opened before starting encryption
+        verify(cryptoServiceMock, times(0)).aesEncryptingStream(any());
 
         d1.delete();
         d2.delete();
@@ -1813,21 +1849,17 @@ public class ConfigurationServiceJunitTest {
             }
 
             @Override
-            protected <T> T unmarshal(String xmlString, Class<T> clazz) throws KuraException {
+            protected <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
 
-                return xmlMarshaller.unmarshal(xmlString, clazz);
+                return xmlMarshaller.unmarshal(in, clazz);
             }
 
             @Override
-            protected String marshal(Object object) {
+            protected void marshal(Object object, OutputStream out) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
-                try {
-                    return xmlMarshaller.marshal(object);
-                } catch (KuraException e) {
 
-                }
-                return null;
+                xmlMarshaller.marshal(object, out);
             }
         };
 
@@ -1836,14 +1868,14 @@ public class ConfigurationServiceJunitTest {
 
         String encCfg = "encrypted";
         char[] encrypted = encCfg.toCharArray();
-        when(cryptoServiceMock.encryptAes((char[]) ArgumentMatchers.any())).thenReturn(encrypted);
+        mockEncryptingStream(cryptoServiceMock, encCfg);
 
         BundleContext bundleContext = mock(BundleContext.class);
         TestUtil.setFieldValue(cs, "bundleContext", bundleContext);
 
         TestUtil.invokePrivate(cs, "writeSnapshot", sid, cfg);
 
-        verify(cryptoServiceMock, times(1)).encryptAes((char[]) ArgumentMatchers.any());
+        verify(cryptoServiceMock, times(1)).aesEncryptingStream(any());
 
         File f1 = new File(d1, "snapshot_" + sid + ".xml");
         f1.deleteOnExit();
@@ -2109,21 +2141,17 @@ public class ConfigurationServiceJunitTest {
             }
 
             @Override
-            protected <T> T unmarshal(String xmlString, Class<T> clazz) throws KuraException {
+            protected <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
 
-                return xmlMarshaller.unmarshal(xmlString, clazz);
+                return xmlMarshaller.unmarshal(in, clazz);
             }
 
             @Override
-            protected String marshal(Object object) {
+            protected void marshal(Object object, OutputStream out) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
-                try {
-                    return xmlMarshaller.marshal(object);
-                } catch (KuraException e) {
 
-                }
-                return null;
+                xmlMarshaller.marshal(object, out);
             }
         };
 
@@ -2132,7 +2160,7 @@ public class ConfigurationServiceJunitTest {
 
         String encCfg = "encrypted";
         char[] encrypted = encCfg.toCharArray();
-        when(cryptoServiceMock.encryptAes((char[]) ArgumentMatchers.any())).thenReturn(encrypted);
+        mockEncryptingStream(cryptoServiceMock, encCfg);
 
         SystemService systemServiceMock = mock(SystemService.class);
         cs.setSystemService(systemServiceMock);
@@ -2144,7 +2172,7 @@ public class ConfigurationServiceJunitTest {
 
         Long sid = (Long) TestUtil.invokePrivate(cs, "saveSnapshot", configs);
 
-        verify(cryptoServiceMock, times(1)).encryptAes((char[]) ArgumentMatchers.any());
+        verify(cryptoServiceMock, times(1)).aesEncryptingStream(any());
         verify(systemServiceMock, times(1)).getKuraSnapshotsCount();
 
         assertNotNull(sid);
@@ -2190,21 +2218,17 @@ public class ConfigurationServiceJunitTest {
             }
 
             @Override
-            protected <T> T unmarshal(String xmlString, Class<T> clazz) throws KuraException {
+            protected <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
 
-                return xmlMarshaller.unmarshal(xmlString, clazz);
+                return xmlMarshaller.unmarshal(in, clazz);
             }
 
             @Override
-            protected String marshal(Object object) {
+            protected void marshal(Object object, OutputStream out) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
-                try {
-                    return xmlMarshaller.marshal(object);
-                } catch (KuraException e) {
 
-                }
-                return null;
+                xmlMarshaller.marshal(object, out);
             }
         };
 
@@ -2213,7 +2237,7 @@ public class ConfigurationServiceJunitTest {
 
         String encCfg = "encrypted";
         char[] encrypted = encCfg.toCharArray();
-        when(cryptoServiceMock.encryptAes((char[]) ArgumentMatchers.any())).thenReturn(encrypted);
+        mockEncryptingStream(cryptoServiceMock, encCfg);
 
         SystemService systemServiceMock = mock(SystemService.class);
         cs.setSystemService(systemServiceMock);
@@ -2228,7 +2252,7 @@ public class ConfigurationServiceJunitTest {
 
         Long sid = (Long) TestUtil.invokePrivate(cs, "saveSnapshot", configs);
 
-        verify(cryptoServiceMock, times(1)).encryptAes((char[]) ArgumentMatchers.any());
+        verify(cryptoServiceMock, times(1)).aesEncryptingStream(any());
         verify(systemServiceMock, times(1)).getKuraSnapshotsCount();
 
         assertNotNull(sid);
@@ -2275,21 +2299,17 @@ public class ConfigurationServiceJunitTest {
             }
 
             @Override
-            protected <T> T unmarshal(String xmlString, Class<T> clazz) throws KuraException {
+            protected <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
 
-                return xmlMarshaller.unmarshal(xmlString, clazz);
+                return xmlMarshaller.unmarshal(in, clazz);
             }
 
             @Override
-            protected String marshal(Object object) {
+            protected void marshal(Object object, OutputStream out) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
-                try {
-                    return xmlMarshaller.marshal(object);
-                } catch (KuraException e) {
 
-                }
-                return null;
+                xmlMarshaller.marshal(object, out);
             }
         };
 
@@ -2298,7 +2318,7 @@ public class ConfigurationServiceJunitTest {
 
         String encCfg = "encrypted";
         char[] encrypted = encCfg.toCharArray();
-        when(cryptoServiceMock.encryptAes((char[]) ArgumentMatchers.any())).thenReturn(encrypted);
+        mockEncryptingStream(cryptoServiceMock, encCfg);
 
         SystemService systemServiceMock = mock(SystemService.class);
         cs.setSystemService(systemServiceMock);
@@ -2310,7 +2330,7 @@ public class ConfigurationServiceJunitTest {
 
         Long sid = (Long) TestUtil.invokePrivate(cs, "saveSnapshot", configs);
 
-        verify(cryptoServiceMock, times(1)).encryptAes((char[]) ArgumentMatchers.any());
+        verify(cryptoServiceMock, times(1)).aesEncryptingStream(any());
         verify(systemServiceMock, times(1)).getKuraSnapshotsCount();
 
         assertNotNull(sid);
@@ -2335,12 +2355,12 @@ public class ConfigurationServiceJunitTest {
     public void testLineBreakHandling() throws KuraException, IOException {
         final CryptoService csMock = mock(CryptoService.class);
 
-        when(csMock.encryptAes(ArgumentMatchers.any(char[].class))).thenAnswer(invocation -> {
-            return invocation.getArgument(0, char[].class);
+        when(csMock.aesEncryptingStream(ArgumentMatchers.any(OutputStream.class))).thenAnswer(invocation -> {
+            return invocation.getArgument(0, OutputStream.class);
         });
 
-        when(csMock.decryptAes(ArgumentMatchers.any(char[].class))).thenAnswer(invocation -> {
-            return invocation.getArgument(0, char[].class);
+        when(csMock.aesDecryptingStream(ArgumentMatchers.any(InputStream.class))).thenAnswer(invocation -> {
+            return invocation.getArgument(0, InputStream.class);
         });
 
         final File snapshotsDir = new File("/tmp/snapshot_test_dir_" + System.currentTimeMillis());
@@ -2375,21 +2395,17 @@ public class ConfigurationServiceJunitTest {
             }
 
             @Override
-            protected <T> T unmarshal(String xmlString, Class<T> clazz) throws KuraException {
+            protected <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
 
-                return xmlMarshaller.unmarshal(xmlString, clazz);
+                return xmlMarshaller.unmarshal(in, clazz);
             }
 
             @Override
-            protected String marshal(Object object) {
+            protected void marshal(Object object, OutputStream out) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
-                try {
-                    return xmlMarshaller.marshal(object);
-                } catch (KuraException e) {
 
-                }
-                return null;
+                xmlMarshaller.marshal(object, out);
             }
         };
 
@@ -2877,9 +2893,9 @@ public class ConfigurationServiceJunitTest {
         cs.setCryptoService(cryptoServiceMock);
 
         String decrypted = prepareSnapshotXML();
-        when(cryptoServiceMock.decryptAes("test".toCharArray())).thenReturn(decrypted.toCharArray());
+        mockDecryptingStream(cryptoServiceMock, "test", decrypted);
 
-        when(cryptoServiceMock.encryptAes((char[]) any())).thenReturn("encrypted".toCharArray());
+        mockEncryptingStream(cryptoServiceMock, "encrypted");
 
         SystemService systemServiceMock = mock(SystemService.class);
         cs.setSystemService(systemServiceMock);
@@ -2901,8 +2917,8 @@ public class ConfigurationServiceJunitTest {
 
         cs.rollback(id);
 
-        verify(cryptoServiceMock, times(1)).decryptAes("test".toCharArray());
-        verify(cryptoServiceMock, times(1)).encryptAes((char[]) any());
+        verify(cryptoServiceMock, times(1)).aesDecryptingStream(any());
+        verify(cryptoServiceMock, times(1)).aesEncryptingStream(any());
         verify(systemServiceMock, times(1)).getKuraSnapshotsCount();
 
         File[] files = d1.listFiles();
@@ -2944,21 +2960,17 @@ public class ConfigurationServiceJunitTest {
             }
 
             @Override
-            protected <T> T unmarshal(String xmlString, Class<T> clazz) throws KuraException {
+            protected <T> T unmarshal(InputStream in, Class<T> clazz) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
 
-                return xmlMarshaller.unmarshal(xmlString, clazz);
+                return xmlMarshaller.unmarshal(in, clazz);
             }
 
             @Override
-            protected String marshal(Object object) {
+            protected void marshal(Object object, OutputStream out) throws KuraException {
                 XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
-                try {
-                    return xmlMarshaller.marshal(object);
-                } catch (KuraException e) {
 
-                }
-                return null;
+                xmlMarshaller.marshal(object, out);
             }
         };
 
@@ -2978,9 +2990,9 @@ public class ConfigurationServiceJunitTest {
         cs.setCryptoService(cryptoServiceMock);
 
         String decrypted = prepareSnapshotXML();
-        when(cryptoServiceMock.decryptAes("test".toCharArray())).thenReturn(decrypted.toCharArray());
+        mockDecryptingStream(cryptoServiceMock, "test", decrypted);
 
-        when(cryptoServiceMock.encryptAes((char[]) any())).thenReturn("encrypted".toCharArray());
+        mockEncryptingStream(cryptoServiceMock, "encrypted");
 
         SystemService systemServiceMock = mock(SystemService.class);
         cs.setSystemService(systemServiceMock);
@@ -3025,7 +3037,7 @@ public class ConfigurationServiceJunitTest {
             // OK
         }
 
-        verify(cryptoServiceMock, times(1)).decryptAes("test".toCharArray());
+        verify(cryptoServiceMock, times(1)).aesDecryptingStream(any());
 
         File[] files = d1.listFiles();
 
@@ -3072,9 +3084,9 @@ public class ConfigurationServiceJunitTest {
         cs.setCryptoService(cryptoServiceMock);
 
         String decrypted = prepareSnapshotXML();
-        when(cryptoServiceMock.decryptAes("test".toCharArray())).thenReturn(decrypted.toCharArray());
+        mockDecryptingStream(cryptoServiceMock, "test", decrypted);
 
-        when(cryptoServiceMock.encryptAes((char[]) any())).thenReturn("encrypted".toCharArray());
+        mockEncryptingStream(cryptoServiceMock, "encrypted");
 
         SystemService systemServiceMock = mock(SystemService.class);
         cs.setSystemService(systemServiceMock);
@@ -3105,8 +3117,8 @@ public class ConfigurationServiceJunitTest {
 
         cs.rollback(id);
 
-        verify(cryptoServiceMock, times(1)).decryptAes("test".toCharArray());
-        verify(cryptoServiceMock, times(1)).encryptAes((char[]) any());
+        verify(cryptoServiceMock, times(1)).aesDecryptingStream(any());
+        verify(cryptoServiceMock, times(1)).aesEncryptingStream(any());
         verify(systemServiceMock, times(1)).getKuraSnapshotsCount();
 
         File[] files = d1.listFiles();
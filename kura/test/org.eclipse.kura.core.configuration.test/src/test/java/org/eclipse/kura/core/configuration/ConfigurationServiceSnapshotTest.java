@@ -0,0 +1,458 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.configuration;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.configuration.ComponentConfiguration;
+import org.eclipse.kura.configuration.ConfigurationService;
+import org.eclipse.kura.core.configuration.metatype.Tocd;
+import org.eclipse.kura.core.crypto.CryptoServiceImpl;
+import org.eclipse.kura.core.testutil.TestUtil;
+import org.eclipse.kura.internal.xml.marshaller.unmarshaller.XmlMarshallUnmarshallImpl;
+import org.eclipse.kura.system.SystemService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+import org.osgi.service.cm.Configuration;
+import org.osgi.service.cm.ConfigurationAdmin;
+import org.osgi.service.component.ComponentContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ConfigurationServiceSnapshotTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfigurationServiceSnapshotTest.class);
+
+    private File snapshotsDir;
+    private CryptoServiceImpl cryptoService;
+    private XmlMarshallUnmarshallImpl xmlMarshaller;
+    private SystemService systemServiceMock;
+
+    @Before
+    public void setUp() throws IOException {
+        this.snapshotsDir = Files.createTempDirectory("snapshots").toFile();
+        this.cryptoService = new CryptoServiceImpl();
+        this.xmlMarshaller = new XmlMarshallUnmarshallImpl();
+
+        this.systemServiceMock = mock(SystemService.class);
+        when(this.systemServiceMock.getKuraSnapshotsDirectory()).thenReturn(this.snapshotsDir.getAbsolutePath());
+        when(this.systemServiceMock.getKuraSnapshotsCount()).thenReturn(10);
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_PROPERTY);
+        System.clearProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_COMPACTION_INTERVAL_PROPERTY);
+        System.clearProperty(ConfigurationServiceImpl.SNAPSHOT_COALESCING_DELAY_PROPERTY);
+
+        final File[] files = this.snapshotsDir.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                file.delete();
+            }
+        }
+        this.snapshotsDir.delete();
+    }
+
+    @Test
+    public void shouldWriteSnapshotsReadableByDecryptAes() throws Throwable {
+        final ConfigurationServiceImpl cs = createConfigurationService();
+        final List<ComponentConfiguration> configs = createConfigurations(3, 0);
+
+        final long sid = saveSnapshot(cs, configs);
+
+        final String encrypted = new String(Files.readAllBytes(getSnapshotFile(sid).toPath()),
+                StandardCharsets.UTF_8);
+        final String decrypted = new String(this.cryptoService.decryptAes(encrypted.toCharArray()));
+        final XmlComponentConfigurations xmlConfigs = this.xmlMarshaller.unmarshal(decrypted,
+                XmlComponentConfigurations.class);
+
+        assertConfigurations(configs, xmlConfigs.getConfigurations());
+    }
+
+    @Test
+    public void shouldLoadSnapshotsWrittenWithEncryptAes() throws Exception {
+        final ConfigurationServiceImpl cs = createConfigurationService();
+        final List<ComponentConfiguration> configs = createConfigurations(3, 0);
+
+        final XmlComponentConfigurations xmlConfigs = new XmlComponentConfigurations();
+        xmlConfigs.setConfigurations(configs);
+        final char[] encrypted = this.cryptoService.encryptAes(this.xmlMarshaller.marshal(xmlConfigs).toCharArray());
+
+        try (OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(getSnapshotFile(42)),
+                StandardCharsets.UTF_8)) {
+            writer.write(encrypted);
+        }
+
+        assertConfigurations(configs, cs.getSnapshot(42));
+    }
+
+    @Test
+    public void shouldWriteDeltaSnapshots() throws Throwable {
+        System.setProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_PROPERTY, "true");
+        final ConfigurationServiceImpl cs = createConfigurationService();
+
+        final List<ComponentConfiguration> configs = createConfigurations(10, 0);
+        final long base = saveSnapshot(cs, configs);
+
+        configs.set(3, createConfiguration(3, 1));
+        configs.remove(7);
+        final long delta = saveSnapshot(cs, configs);
+
+        assertFalse(readRawSnapshot(base).isDelta());
+
+        final XmlComponentConfigurations rawDelta = readRawSnapshot(delta);
+        assertTrue(rawDelta.isDelta());
+        assertEquals(Long.valueOf(base), rawDelta.getBaseSnapshotId());
+        assertEquals(1, rawDelta.getConfigurations().size());
+        assertEquals("pid3", rawDelta.getConfigurations().get(0).getPid());
+        assertEquals(Arrays.asList("pid7"), rawDelta.getDeletedPids());
+
+        assertConfigurations(configs, cs.getSnapshot(delta));
+
+        // a new instance, with no cached information about the snapshots
+        assertConfigurations(configs, createConfigurationService().getSnapshot(delta));
+    }
+
+    @Test
+    public void shouldWriteCumulativeDeltas() throws Throwable {
+        System.setProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_PROPERTY, "true");
+        final ConfigurationServiceImpl cs = createConfigurationService();
+
+        final List<ComponentConfiguration> configs = createConfigurations(10, 0);
+        final long base = saveSnapshot(cs, configs);
+
+        configs.set(1, createConfiguration(1, 1));
+        saveSnapshot(cs, configs);
+        configs.set(2, createConfiguration(2, 1));
+        final long delta = saveSnapshot(cs, configs);
+
+        final XmlComponentConfigurations rawDelta = readRawSnapshot(delta);
+        assertEquals(Long.valueOf(base), rawDelta.getBaseSnapshotId());
+        assertEquals(2, rawDelta.getConfigurations().size());
+
+        assertConfigurations(configs, cs.getSnapshot(delta));
+    }
+
+    @Test
+    public void shouldWriteFullSnapshotAfterCompactionInterval() throws Throwable {
+        System.setProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_PROPERTY, "true");
+        System.setProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_COMPACTION_INTERVAL_PROPERTY, "2");
+        final ConfigurationServiceImpl cs = createConfigurationService();
+
+        final List<ComponentConfiguration> configs = createConfigurations(10, 0);
+
+        final List<Boolean> deltas = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            configs.set(0, createConfiguration(0, i));
+            deltas.add(readRawSnapshot(saveSnapshot(cs, configs)).isDelta());
+        }
+
+        assertEquals(Arrays.asList(false, true, true, false, true), deltas);
+    }
+
+    @Test
+    public void shouldWriteFullSnapshotForLargeChanges() throws Throwable {
+        System.setProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_PROPERTY, "true");
+        final ConfigurationServiceImpl cs = createConfigurationService();
+
+        saveSnapshot(cs, createConfigurations(10, 0));
+        final long sid = saveSnapshot(cs, createConfigurations(10, 1));
+
+        assertFalse(readRawSnapshot(sid).isDelta());
+    }
+
+    @Test
+    public void shouldRetainBaseOfRetainedDeltas() throws Throwable {
+        System.setProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_PROPERTY, "true");
+        when(this.systemServiceMock.getKuraSnapshotsCount()).thenReturn(2);
+        final ConfigurationServiceImpl cs = createConfigurationService();
+
+        final List<ComponentConfiguration> configs = createConfigurations(10, 0);
+        final long base = saveSnapshot(cs, configs);
+
+        final List<Long> sids = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            configs.set(0, createConfiguration(0, i));
+            sids.add(saveSnapshot(cs, configs));
+        }
+
+        assertEquals(Arrays.asList(base, sids.get(2), sids.get(3)), new ArrayList<>(cs.getSnapshots()));
+        assertConfigurations(configs, createConfigurationService().getSnapshot(sids.get(3)));
+    }
+
+    @Test
+    public void shouldCoalesceSnapshotRequests() throws Throwable {
+        System.setProperty(ConfigurationServiceImpl.SNAPSHOT_COALESCING_DELAY_PROPERTY, "200");
+        final ConfigurationServiceImpl cs = createConfigurationService();
+
+        final ConfigurationAdmin configAdminMock = mock(ConfigurationAdmin.class);
+        cs.setConfigurationAdmin(configAdminMock);
+
+        final ComponentContext componentCtxMock = mock(ComponentContext.class);
+        when(componentCtxMock.getBundleContext()).thenReturn(mock(BundleContext.class));
+        TestUtil.setFieldValue(cs, "ctx", componentCtxMock);
+
+        final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+        TestUtil.setFieldValue(cs, "snapshotExecutor", executor);
+
+        try {
+            for (int i = 0; i < 5; i++) {
+                addFactoryConfiguration(configAdminMock, "pid" + i);
+                cs.createFactoryConfiguration("factory", "pid" + i, createProperties(i, 0), true);
+            }
+
+            assertTrue(cs.getSnapshots().isEmpty());
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            assertEquals(1, cs.getSnapshots().size());
+            assertEquals(5, cs.getSnapshot(cs.getSnapshots().iterator().next()).size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void benchmarkSnapshotWrite() throws Throwable {
+        System.setProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_PROPERTY, "true");
+        System.setProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_COMPACTION_INTERVAL_PROPERTY,
+                Integer.toString(Integer.MAX_VALUE));
+        when(this.systemServiceMock.getKuraSnapshotsCount()).thenReturn(Integer.MAX_VALUE);
+
+        final int iterations = 5;
+
+        for (final int componentCount : new int[] { 50, 300, 1000 }) {
+            final List<ComponentConfiguration> configs = createConfigurations(componentCount, 0);
+
+            final ConfigurationServiceImpl deltaCs = createConfigurationService();
+            System.setProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_PROPERTY, "false");
+            final ConfigurationServiceImpl streaming = createConfigurationService();
+            System.setProperty(ConfigurationServiceImpl.DELTA_SNAPSHOTS_PROPERTY, "true");
+
+            // seeds the base snapshot
+            saveSnapshot(deltaCs, configs);
+
+            final Measurement stringBased = new Measurement();
+            final Measurement streamed = new Measurement();
+            final Measurement delta = new Measurement();
+
+            for (int i = 0; i < iterations; i++) {
+                configs.set(0, createConfiguration(0, i + 1));
+
+                stringBased.measure(() -> writeStringBasedSnapshot(configs));
+                streamed.measure(() -> saveSnapshot(streaming, configs));
+                delta.measure(() -> saveSnapshot(deltaCs, configs));
+            }
+
+            logger.info("Snapshot with {} components, string based: {}", componentCount,
+                    stringBased.toString(iterations));
+            logger.info("Snapshot with {} components, streaming: {}", componentCount, streamed.toString(iterations));
+            logger.info("Snapshot with {} components, streaming delta: {}", componentCount,
+                    delta.toString(iterations));
+
+            assertTrue(delta.bytesWritten < streamed.bytesWritten);
+        }
+    }
+
+    /*
+     * Writes a snapshot as done before the introduction of streaming: the whole document and its encrypted form are
+     * built in memory.
+     */
+    private long writeStringBasedSnapshot(final List<ComponentConfiguration> configs) throws Exception {
+        final XmlComponentConfigurations xmlConfigs = new XmlComponentConfigurations();
+        xmlConfigs.setConfigurations(configs);
+
+        final String xml = this.xmlMarshaller.marshal(xmlConfigs);
+        final char[] encrypted = this.cryptoService.encryptAes(xml.toCharArray());
+
+        final long sid = System.nanoTime();
+        final File file = new File(this.snapshotsDir, "string_snapshot_" + sid + ".xml");
+        try (FileOutputStream fos = new FileOutputStream(file);
+                OutputStreamWriter osw = new OutputStreamWriter(fos, StandardCharsets.UTF_8)) {
+            osw.append(new String(encrypted));
+            osw.flush();
+            fos.getFD().sync();
+        }
+
+        final long length = file.length();
+        file.delete();
+        return length;
+    }
+
+    private interface SnapshotWriter {
+
+        long write() throws Throwable;
+    }
+
+    private class Measurement {
+
+        private long nanos;
+        private long allocatedBytes;
+        private long bytesWritten;
+
+        void measure(final SnapshotWriter writer) throws Throwable {
+            final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory
+                    .getThreadMXBean();
+            final long threadId = Thread.currentThread().getId();
+
+            final long startAllocated = threadBean.getThreadAllocatedBytes(threadId);
+            final long start = System.nanoTime();
+
+            final long result = writer.write();
+
+            this.nanos += System.nanoTime() - start;
+            this.allocatedBytes += threadBean.getThreadAllocatedBytes(threadId) - startAllocated;
+
+            final File snapshotFile = getSnapshotFile(result);
+            this.bytesWritten += snapshotFile.exists() ? snapshotFile.length() : result;
+        }
+
+        String toString(final int iterations) {
+            return String.format("%d us, %d KiB allocated, %d bytes written", this.nanos / iterations / 1000,
+                    this.allocatedBytes / iterations / 1024, this.bytesWritten / iterations);
+        }
+    }
+
+    private ConfigurationServiceImpl createConfigurationService() {
+        final ConfigurationServiceImpl cs = new ConfigurationServiceImpl();
+
+        cs.setSystemService(this.systemServiceMock);
+        cs.setCryptoService(this.cryptoService);
+        cs.setXmlMarshaller(this.xmlMarshaller);
+        cs.setXmlUnmarshaller(this.xmlMarshaller);
+
+        return cs;
+    }
+
+    private long saveSnapshot(final ConfigurationServiceImpl cs, final List<ComponentConfiguration> configs)
+            throws Throwable {
+        return (Long) TestUtil.invokePrivate(cs, "saveSnapshot", new Class<?>[] { List.class }, configs);
+    }
+
+    private XmlComponentConfigurations readRawSnapshot(final long sid) throws Exception {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(getSnapshotFile(sid)))) {
+            return this.xmlMarshaller.unmarshal(this.cryptoService.aesDecryptingStream(in),
+                    XmlComponentConfigurations.class);
+        }
+    }
+
+    private File getSnapshotFile(final long sid) {
+        return new File(this.snapshotsDir, "snapshot_" + sid + ".xml");
+    }
+
+    private void addFactoryConfiguration(final ConfigurationAdmin configAdminMock, final String pid)
+            throws IOException {
+        final String servicePid = pid + ".service";
+
+        final Configuration configMock = mock(Configuration.class);
+        when(configMock.getPid()).thenReturn(servicePid);
+        when(configAdminMock.createFactoryConfiguration(eq("factory"), any())).thenReturn(configMock);
+        when(configAdminMock.getConfiguration(servicePid, "?")).thenReturn(configMock);
+
+        final Hashtable<String, Object> properties = new Hashtable<>();
+        properties.put(ConfigurationService.KURA_SERVICE_PID, pid);
+        when(configMock.getProperties()).thenReturn(properties);
+    }
+
+    private static List<ComponentConfiguration> createConfigurations(final int count, final int revision) {
+        final List<ComponentConfiguration> configs = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            configs.add(createConfiguration(i, revision));
+        }
+
+        return configs;
+    }
+
+    private static ComponentConfiguration createConfiguration(final int index, final int revision) {
+        return new ComponentConfigurationImpl("pid" + index, (Tocd) null, createProperties(index, revision));
+    }
+
+    private static Map<String, Object> createProperties(final int index, final int revision) {
+        final Map<String, Object> properties = new HashMap<>();
+
+        properties.put(ConfigurationService.KURA_SERVICE_PID, "pid" + index);
+        properties.put("revision", revision);
+        properties.put("enabled", true);
+        properties.put("interval", 1000L * index);
+        properties.put("threshold", 0.5d * revision);
+        properties.put("description", "component " + index + " <revision " + revision + ">");
+        properties.put("topics", new String[] { "topic/a/" + index, "topic/b/" + revision });
+        properties.put("ports", new Integer[] { 1883, 8883 + index });
+
+        for (int i = 0; i < 10; i++) {
+            properties.put("property." + i, "value " + i + " of component " + index);
+        }
+
+        return properties;
+    }
+
+    private static void assertConfigurations(final List<ComponentConfiguration> expected,
+            final List<ComponentConfiguration> actual) {
+        assertEquals(expected.size(), actual.size());
+
+        final Map<String, ComponentConfiguration> actualByPid = new HashMap<>();
+        for (final ComponentConfiguration config : actual) {
+            actualByPid.put(config.getPid(), config);
+        }
+
+        for (final ComponentConfiguration config : expected) {
+            final Map<String, Object> expectedProperties = config.getConfigurationProperties();
+            final Map<String, Object> actualProperties = actualByPid.get(config.getPid()).getConfigurationProperties();
+
+            assertEquals(expectedProperties.keySet(), actualProperties.keySet());
+            for (final Map.Entry<String, Object> entry : expectedProperties.entrySet()) {
+                final Object expectedValue = entry.getValue();
+                final Object actualValue = actualProperties.get(entry.getKey());
+
+                if (expectedValue instanceof Object[]) {
+                    assertArrayEquals((Object[]) expectedValue, (Object[]) actualValue);
+                } else {
+                    assertEquals(expectedValue, actualValue);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.crypto;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.kura.KuraErrorCode;
+import org.eclipse.kura.KuraException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AesStreamTest {
+
+    private CryptoServiceImpl cryptoService;
+
+    @Before
+    public void setup() {
+        this.cryptoService = new CryptoServiceImpl();
+    }
+
+    @Test
+    public void shouldDecryptStreamWithDecryptAes() throws Exception {
+        final String plain = createContent(10000);
+
+        final char[] decrypted = this.cryptoService.decryptAes(encryptWithStream(plain).toCharArray());
+
+        assertEquals(plain, new String(decrypted));
+    }
+
+    @Test
+    public void shouldDecryptEncryptAesWithStream() throws Exception {
+        final String plain = createContent(10000);
+
+        final char[] encrypted = this.cryptoService.encryptAes(plain.toCharArray());
+
+        assertEquals(plain, decryptWithStream(new String(encrypted)));
+    }
+
+    @Test
+    public void shouldEncryptEmptyContent() throws Exception {
+        assertEquals("", decryptWithStream(encryptWithStream("")));
+    }
+
+    @Test
+    public void shouldDetectTamperedContent() throws Exception {
+        final byte[] encrypted = encryptWithStream(createContent(100)).getBytes(StandardCharsets.US_ASCII);
+
+        // alter a character of the Base64 encoded cipher text
+        final int index = encrypted.length / 2;
+        encrypted[index] = (byte) (encrypted[index] == 'A' ? 'B' : 'A');
+
+        try (InputStream in = this.cryptoService.aesDecryptingStream(new ByteArrayInputStream(encrypted))) {
+            readFully(in);
+            fail("tampered content should not be decrypted");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldRejectContentWithoutIv() throws Exception {
+        final byte[] plain = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>".getBytes(StandardCharsets.UTF_8);
+
+        try {
+            this.cryptoService.aesDecryptingStream(new ByteArrayInputStream(plain));
+            fail("plain content should be rejected");
+        } catch (KuraException e) {
+            assertEquals(KuraErrorCode.DECODER_ERROR, e.getCode());
+        }
+    }
+
+    @Test
+    public void shouldRoundTripBinaryContent() throws Exception {
+        final byte[] content = new byte[256];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        final ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        try (OutputStream out = this.cryptoService.aesEncryptingStream(encrypted)) {
+            out.write(content);
+        }
+
+        try (InputStream in = this.cryptoService
+                .aesDecryptingStream(new ByteArrayInputStream(encrypted.toByteArray()))) {
+            assertArrayEquals(content, readFully(in));
+        }
+    }
+
+    private String encryptWithStream(final String plain) throws KuraException, IOException {
+        final ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+
+        try (OutputStream out = this.cryptoService.aesEncryptingStream(encrypted)) {
+            out.write(plain.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return new String(encrypted.toByteArray(), StandardCharsets.US_ASCII);
+    }
+
+    private String decryptWithStream(final String encrypted) throws KuraException, IOException {
+        try (InputStream in = this.cryptoService
+                .aesDecryptingStream(new ByteArrayInputStream(encrypted.getBytes(StandardCharsets.US_ASCII)))) {
+            return new String(readFully(in), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static byte[] readFully(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buf = new byte[4096];
+
+        int rd;
+        while ((rd = in.read(buf)) != -1) {
+            out.write(buf, 0, rd);
+        }
+
+        return out.toByteArray();
+    }
+
+    private static String createContent(final int length) {
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; builder.length() < length; i++) {
+            builder.append("<property name=\"prop").append(i).append("\">value \u00e8 ").append(i).append("</property>");
+        }
+
+        return builder.toString();
+    }
+}
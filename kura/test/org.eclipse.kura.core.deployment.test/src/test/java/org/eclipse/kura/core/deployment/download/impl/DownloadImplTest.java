@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -26,7 +26,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashMap;
+import java.util.Optional;
 import java.util.concurrent.CancellationException;
 
 import org.eclipse.kura.KuraException;
@@ -35,6 +38,7 @@ import org.eclipse.kura.core.deployment.CloudDeploymentHandlerV2Options;
 import org.eclipse.kura.core.deployment.DownloadStatus;
 import org.eclipse.kura.core.deployment.download.DeploymentPackageDownloadOptions;
 import org.eclipse.kura.core.deployment.download.DownloadCountingOutputStream;
+import org.eclipse.kura.core.deployment.download.DownloadFileUtilities;
 import org.eclipse.kura.core.deployment.download.DownloadOptions;
 import org.eclipse.kura.core.deployment.progress.ProgressEvent;
 import org.eclipse.kura.core.testutil.TestUtil;
@@ -372,6 +376,46 @@ public class DownloadImplTest {
         assertTrue(dpFile.exists());
     }
 
+    @Test
+    public void testIncrementalDownloadFromURLComputedHash() throws Throwable {
+        DeploymentPackageDownloadOptions options = new DeploymentPackageDownloadOptions("uri", "name", "version");
+        options.setJobId(1234L);
+        options.setDownloadProtocol("HTTP");
+        options.setHash("MD5:0123456789abcdef0123456789abcdef");
+        CloudDeploymentHandlerV2 callback = mock(CloudDeploymentHandlerV2.class);
+
+        File dpFile = new File("/tmp/dpfile_computed.dp");
+        dpFile.deleteOnExit();
+        File partialFile = DownloadFileUtilities.getPartialDownloadFile(dpFile);
+        partialFile.deleteOnExit();
+
+        DownloadCountingOutputStream dcosMock = mock(DownloadCountingOutputStream.class);
+        doAnswer(invocation -> {
+            Files.write(partialFile.toPath(), "content".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(dcosMock).startWork();
+        when(dcosMock.getComputedHash()).thenReturn(Optional.of("0123456789abcdef0123456789abcdef"));
+
+        DownloadImpl di = new DownloadImpl(options, callback) {
+
+            @Override
+            protected DownloadCountingOutputStream getDownloadInstance(String protocol,
+                    DownloadOptions downloadOptions) {
+                assertEquals(partialFile, downloadOptions.getOutFile());
+                return dcosMock;
+            }
+        };
+
+        TestUtil.invokePrivate(di, "incrementalDownloadFromURL", dpFile, "http://localhost/file.dp", 0);
+
+        // the hash computed during the download is trusted, the file is not read again
+        assertTrue(dpFile.exists());
+        assertFalse(partialFile.exists());
+        assertEquals("content", new String(Files.readAllBytes(dpFile.toPath()), StandardCharsets.UTF_8));
+
+        dpFile.delete();
+    }
+
     @Test
     public void testAlreadyDownloadedAsync() throws Throwable {
         String deployUri = "uri";
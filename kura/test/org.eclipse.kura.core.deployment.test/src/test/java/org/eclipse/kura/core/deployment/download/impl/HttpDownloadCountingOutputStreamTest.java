@@ -0,0 +1,375 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.deployment.download.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.core.deployment.download.DeploymentPackageDownloadOptions;
+import org.eclipse.kura.core.deployment.download.DownloadFileUtilities;
+import org.eclipse.kura.core.deployment.download.DownloadOptions;
+import org.eclipse.kura.core.deployment.download.impl.PartialDownloadInfo.Segment;
+import org.eclipse.kura.core.deployment.progress.ProgressListener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HttpDownloadCountingOutputStreamTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    private File outFile;
+    private RangeServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        this.outFile = File.createTempFile("download", ".dp.part");
+        this.outFile.deleteOnExit();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (this.server != null) {
+            this.server.close();
+        }
+        DownloadFileUtilities.getPartialDownloadInfoFile(this.outFile).delete();
+        this.outFile.delete();
+    }
+
+    @Test
+    public void testResumeAfterDisconnects() throws Exception {
+        final byte[] content = randomContent(300 * 1024);
+        this.server = new RangeServer(content);
+        this.server.disconnects.set(3);
+
+        final HttpDownloadCountingOutputStream download = newDownload(newOptions(content));
+        download.startWork();
+
+        assertArrayEquals(content, Files.readAllBytes(this.outFile.toPath()));
+        assertEquals(md5(content), download.getComputedHash().get());
+
+        // every attempt continues from the last received byte
+        assertEquals(4, this.server.ranges.size());
+        assertEquals("bytes=0-", this.server.ranges.get(0));
+        assertEquals("bytes=" + RangeServer.DISCONNECT_AFTER + "-" + (content.length - 1),
+                this.server.ranges.get(1));
+        assertEquals(content.length, this.server.sentBytes.get());
+    }
+
+    @Test
+    public void testRestartWithoutRangeSupport() throws Exception {
+        final byte[] content = randomContent(200 * 1024);
+        this.server = new RangeServer(content);
+        this.server.rangesSupported = false;
+        this.server.disconnects.set(1);
+
+        final HttpDownloadCountingOutputStream download = newDownload(newOptions(content));
+        download.startWork();
+
+        assertArrayEquals(content, Files.readAllBytes(this.outFile.toPath()));
+        assertEquals(md5(content), download.getComputedHash().get());
+        assertEquals(2, this.server.ranges.size());
+        assertEquals(RangeServer.DISCONNECT_AFTER + content.length, this.server.sentBytes.get());
+    }
+
+    @Test
+    public void testParallelSegments() throws Exception {
+        final byte[] content = randomContent(4 * 1024 * 1024 + 123);
+        this.server = new RangeServer(content);
+        this.server.chunkDelayMs = 1;
+        this.server.disconnects.set(2);
+
+        final DeploymentPackageDownloadOptions options = newOptions(content);
+        options.setSegments(4);
+
+        final HttpDownloadCountingOutputStream download = newDownload(options);
+        download.startWork();
+
+        assertArrayEquals(content, Files.readAllBytes(this.outFile.toPath()));
+        assertEquals(md5(content), download.getComputedHash().get());
+        assertTrue(this.server.ranges.toString(), this.server.ranges.size() >= 4);
+        assertTrue(this.server.maxActiveRequests.get() > 1);
+    }
+
+    @Test
+    public void testResumePersistedDownload() throws Exception {
+        final byte[] content = randomContent(256 * 1024);
+        final int half = content.length / 2;
+        this.server = new RangeServer(content);
+
+        writePartialDownload(content, half, ETAG);
+
+        final HttpDownloadCountingOutputStream download = newDownload(newOptions(content));
+        download.startWork();
+
+        assertArrayEquals(content, Files.readAllBytes(this.outFile.toPath()));
+        // the first half is hashed from the file
+        assertEquals(md5(content), download.getComputedHash().get());
+        assertEquals(Collections.singletonList("bytes=" + half + "-" + (content.length - 1)), this.server.ranges);
+        assertEquals(ETAG, this.server.ifRanges.get(0));
+        assertEquals(content.length - half, this.server.sentBytes.get());
+    }
+
+    @Test
+    public void testPersistedDownloadOfChangedContent() throws Exception {
+        final byte[] content = randomContent(256 * 1024);
+        this.server = new RangeServer(content);
+
+        writePartialDownload(randomContent(content.length), content.length / 2, "\"v0\"");
+
+        final HttpDownloadCountingOutputStream download = newDownload(newOptions(content));
+        download.startWork();
+
+        assertArrayEquals(content, Files.readAllBytes(this.outFile.toPath()));
+        assertEquals(md5(content), download.getComputedHash().get());
+        assertEquals(content.length, this.server.sentBytes.get());
+    }
+
+    @Test
+    public void testBandwidthLimit() throws Exception {
+        final byte[] content = randomContent(64 * 1024);
+        this.server = new RangeServer(content);
+
+        final DeploymentPackageDownloadOptions options = newOptions(content);
+        options.setBlockSize(16 * 1024);
+        options.setBlockDelay(100);
+
+        final long start = System.nanoTime();
+        newDownload(options).startWork();
+        final long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertArrayEquals(content, Files.readAllBytes(this.outFile.toPath()));
+        // one block per 100 ms, after the first block
+        assertTrue(elapsedMs + " ms", elapsedMs >= 250);
+    }
+
+    @Test
+    public void testNotRetryableStatus() throws Exception {
+        this.server = new RangeServer(new byte[0]);
+        this.server.statusCode = 404;
+
+        try {
+            newDownload(newOptions(new byte[0])).startWork();
+            fail("Expected exception");
+        } catch (KuraException e) {
+            assertEquals(1, this.server.ranges.size());
+        }
+    }
+
+    private void writePartialDownload(byte[] content, int length, String etag) throws IOException {
+        final byte[] partialContent = new byte[length];
+        System.arraycopy(content, 0, partialContent, 0, length);
+        Files.write(this.outFile.toPath(), partialContent);
+
+        final PartialDownloadInfo info = PartialDownloadInfo
+                .load(DownloadFileUtilities.getPartialDownloadInfoFile(this.outFile));
+        info.reset(this.server.getUrl(), etag, content.length,
+                Collections.singletonList(new Segment(0, length, content.length)));
+        info.store(new long[] { length });
+    }
+
+    private DeploymentPackageDownloadOptions newOptions(byte[] content) throws Exception {
+        final DeploymentPackageDownloadOptions options = new DeploymentPackageDownloadOptions(this.server.getUrl(),
+                "name", "1.0.0");
+        options.setJobId(1L);
+        options.setHash("MD5:" + md5(content));
+        options.setBlockSize(8 * 1024);
+        return options;
+    }
+
+    private HttpDownloadCountingOutputStream newDownload(DeploymentPackageDownloadOptions options) {
+        final DownloadOptions downloadOptions = new DownloadOptions();
+        downloadOptions.setOutFile(this.outFile);
+        downloadOptions.setRequestOptions(options);
+        downloadOptions.setCallback(mock(ProgressListener.class));
+        downloadOptions.setDownloadURL(this.server.getUrl());
+
+        final HttpDownloadCountingOutputStream result = new HttpDownloadCountingOutputStream(downloadOptions);
+        result.setRetryDelay(10);
+        return result;
+    }
+
+    private static byte[] randomContent(int length) {
+        final byte[] result = new byte[length];
+        new Random(length).nextBytes(result);
+        return result;
+    }
+
+    private static String md5(byte[] content) throws Exception {
+        final StringBuilder sb = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("MD5").digest(content)) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A minimal HTTP server supporting single byte ranges and If-Range, that can drop connections in the middle of
+     * a response.
+     */
+    private static final class RangeServer implements Closeable {
+
+        static final int DISCONNECT_AFTER = 64 * 1024;
+
+        private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+        private final byte[] content;
+        private final ServerSocket serverSocket;
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+
+        final List<String> ranges = Collections.synchronizedList(new ArrayList<>());
+        final List<String> ifRanges = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger disconnects = new AtomicInteger();
+        final AtomicInteger activeRequests = new AtomicInteger();
+        final AtomicInteger maxActiveRequests = new AtomicInteger();
+        final AtomicLong sentBytes = new AtomicLong();
+
+        volatile boolean rangesSupported = true;
+        volatile int statusCode;
+        volatile long chunkDelayMs;
+
+        RangeServer(byte[] content) throws IOException {
+            this.content = content;
+            this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            this.executor.execute(this::accept);
+        }
+
+        String getUrl() {
+            return "http://127.0.0.1:" + this.serverSocket.getLocalPort() + "/package.dp";
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.serverSocket.close();
+            this.executor.shutdownNow();
+        }
+
+        private void accept() {
+            while (!this.serverSocket.isClosed()) {
+                try {
+                    final Socket socket = this.serverSocket.accept();
+                    this.executor.execute(() -> handle(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            this.maxActiveRequests.accumulateAndGet(this.activeRequests.incrementAndGet(), Math::max);
+
+            try (Socket s = socket) {
+                final BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(s.getInputStream(), StandardCharsets.ISO_8859_1));
+                final Map<String, String> headers = new HashMap<>();
+
+                reader.readLine();
+                String line;
+                while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                    final int separator = line.indexOf(':');
+                    headers.put(line.substring(0, separator).trim().toLowerCase(), line.substring(separator + 1).trim());
+                }
+
+                final String range = headers.get("range");
+                final String ifRange = headers.get("if-range");
+                this.ranges.add(range != null ? range : "");
+                this.ifRanges.add(ifRange);
+
+                final OutputStream out = s.getOutputStream();
+
+                if (this.statusCode != 0) {
+                    writeHead(out, this.statusCode + " Error", "Content-Length: 0\r\n");
+                    return;
+                }
+
+                long start = 0;
+                long end = this.content.length - 1L;
+                String head = "200 OK";
+                String extraHeaders = "";
+
+                final Matcher matcher = range != null ? RANGE_PATTERN.matcher(range) : null;
+                if (this.rangesSupported && matcher != null && matcher.matches()
+                        && (ifRange == null || ifRange.equals(ETAG))) {
+                    start = Long.parseLong(matcher.group(1));
+                    if (!matcher.group(2).isEmpty()) {
+                        end = Math.min(end, Long.parseLong(matcher.group(2)));
+                    }
+                    if (start >= this.content.length) {
+                        writeHead(out, "416 Range Not Satisfiable", "Content-Length: 0\r\n");
+                        return;
+                    }
+                    head = "206 Partial Content";
+                    extraHeaders = "Content-Range: bytes " + start + "-" + end + "/" + this.content.length + "\r\n";
+                }
+
+                final long length = end - start + 1;
+                writeHead(out, head, extraHeaders + "Content-Length: " + length + "\r\nETag: " + ETAG + "\r\n");
+
+                final long toSend = this.disconnects.getAndDecrement() > 0 ? Math.min(length, DISCONNECT_AFTER)
+                        : length;
+
+                for (long sent = 0; sent < toSend;) {
+                    final int chunk = (int) Math.min(8 * 1024, toSend - sent);
+                    out.write(this.content, (int) (start + sent), chunk);
+                    out.flush();
+                    sent += chunk;
+                    this.sentBytes.addAndGet(chunk);
+                    if (this.chunkDelayMs > 0) {
+                        Thread.sleep(this.chunkDelayMs);
+                    }
+                }
+            } catch (IOException e) {
+                // the client closed the connection
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.activeRequests.decrementAndGet();
+            }
+        }
+
+        private static void writeHead(OutputStream out, String status, String headers) throws IOException {
+            out.write(("HTTP/1.1 " + status + "\r\n" + headers + "Connection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+        }
+    }
+}
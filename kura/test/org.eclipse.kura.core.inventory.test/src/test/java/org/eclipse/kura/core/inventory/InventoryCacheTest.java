@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.inventory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.kura.KuraProcessExecutionErrorException;
+import org.eclipse.kura.core.inventory.InventoryCache.Section;
+import org.eclipse.kura.core.inventory.resources.SystemResourcesDelta;
+import org.eclipse.kura.core.inventory.resources.SystemResourcesInfo;
+import org.eclipse.kura.system.SystemResourceInfo;
+import org.eclipse.kura.system.SystemResourceType;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InventoryCacheTest {
+
+    private final InventoryCache cache = new InventoryCache();
+    private final List<SystemResourceInfo> bundles = new ArrayList<>();
+    private final List<SystemResourceInfo> packages = new ArrayList<>();
+    private final AtomicInteger bundleLoads = new AtomicInteger();
+    private final AtomicInteger packageLoads = new AtomicInteger();
+
+    private boolean failPackages;
+
+    @Before
+    public void setUp() {
+        this.cache.setLoader(Section.BUNDLES, () -> {
+            this.bundleLoads.incrementAndGet();
+            return new ArrayList<>(this.bundles);
+        });
+        this.cache.setLoader(Section.SYSTEM_PACKAGES, () -> {
+            this.packageLoads.incrementAndGet();
+            if (this.failPackages) {
+                throw new KuraProcessExecutionErrorException("failed");
+            }
+            return new ArrayList<>(this.packages);
+        });
+
+        this.bundles.add(bundle("org.foo", "1.0.0"));
+        this.bundles.add(bundle("org.bar", "2.0.0"));
+        this.packages.add(systemPackage("rfkill", "2.33.1"));
+    }
+
+    @Test
+    public void shouldReloadUntrackedSections() {
+        this.cache.getInventory();
+        this.cache.getInventory();
+
+        assertEquals(2, this.bundleLoads.get());
+        assertEquals(2, this.packageLoads.get());
+    }
+
+    @Test
+    public void shouldServeTrackedSectionsFromMemory() {
+        this.cache.setTracked(Section.BUNDLES, true, 0);
+
+        final SystemResourcesInfo first = this.cache.getInventory();
+        final SystemResourcesInfo second = this.cache.getInventory();
+
+        assertEquals(1, this.bundleLoads.get());
+        assertEquals(first.getInventoryVersion(), second.getInventoryVersion());
+        assertEquals(Arrays.asList("org.bar", "org.foo", "rfkill"), names(second.getSystemResources()));
+    }
+
+    @Test
+    public void shouldReloadInvalidatedSection() {
+        this.cache.setTracked(Section.BUNDLES, true, 0);
+        final long version = this.cache.getInventory().getInventoryVersion().get();
+
+        this.bundles.add(bundle("org.baz", "1.0.0"));
+        this.cache.invalidate(Section.BUNDLES);
+        final SystemResourcesInfo inventory = this.cache.getInventory();
+
+        assertEquals(2, this.bundleLoads.get());
+        assertEquals(version + 1, (long) inventory.getInventoryVersion().get());
+        assertEquals(4, inventory.getSystemResources().size());
+    }
+
+    @Test
+    public void shouldNotChangeVersionIfContentIsUnchanged() {
+        final long version = this.cache.getInventory().getInventoryVersion().get();
+
+        assertEquals(version, (long) this.cache.getInventory().getInventoryVersion().get());
+    }
+
+    @Test
+    public void shouldReloadExpiredSection() throws InterruptedException {
+        this.cache.setTracked(Section.BUNDLES, true, 50);
+
+        this.cache.getInventory();
+        this.cache.getInventory();
+        assertEquals(1, this.bundleLoads.get());
+
+        Thread.sleep(100);
+
+        this.cache.getInventory();
+        assertEquals(2, this.bundleLoads.get());
+    }
+
+    @Test
+    public void shouldReturnChangesSinceVersion() {
+        final long version = this.cache.getInventory().getInventoryVersion().get();
+
+        this.bundles.remove(0);
+        this.bundles.add(bundle("org.bar", "2.1.0"));
+        this.bundles.remove(0);
+        this.bundles.add(bundle("org.baz", "1.0.0"));
+
+        final SystemResourcesDelta delta = this.cache.getChanges(version);
+
+        assertFalse(delta.isResync());
+        assertEquals(version, delta.getSince());
+        assertEquals(version + 1, delta.getInventoryVersion());
+        assertEquals(Arrays.asList("org.bar:2.1.0", "org.baz:1.0.0"), namesAndVersions(delta.getAdded()));
+        assertEquals(Arrays.asList("org.bar:2.0.0", "org.foo:1.0.0"), namesAndVersions(delta.getRemoved()));
+
+        final SystemResourcesDelta empty = this.cache.getChanges(delta.getInventoryVersion());
+
+        assertFalse(empty.isResync());
+        assertTrue(empty.getAdded().isEmpty());
+        assertTrue(empty.getRemoved().isEmpty());
+    }
+
+    @Test
+    public void shouldReportReaddedResourceOnlyAsAdded() {
+        final long version = this.cache.getInventory().getInventoryVersion().get();
+
+        final SystemResourceInfo removed = this.bundles.remove(0);
+        this.cache.getInventory();
+        this.bundles.add(removed);
+
+        final SystemResourcesDelta delta = this.cache.getChanges(version);
+
+        assertEquals(Arrays.asList("org.foo:1.0.0"), namesAndVersions(delta.getAdded()));
+        assertTrue(delta.getRemoved().isEmpty());
+    }
+
+    @Test
+    public void shouldResyncUnknownVersion() {
+        final long version = this.cache.getInventory().getInventoryVersion().get();
+
+        final SystemResourcesDelta delta = this.cache.getChanges(version + 10);
+
+        assertTrue(delta.isResync());
+        assertEquals(3, delta.getAdded().size());
+        assertTrue(delta.getRemoved().isEmpty());
+    }
+
+    @Test
+    public void shouldResyncPrunedVersion() {
+        for (int i = 0; i <= InventoryCache.MAX_REMOVED_RESOURCES; i++) {
+            this.bundles.add(bundle("org.pruned" + i, "1.0.0"));
+        }
+        final long version = this.cache.getInventory().getInventoryVersion().get();
+
+        this.bundles.clear();
+        this.cache.getInventory();
+        this.bundles.add(bundle("org.foo", "1.0.0"));
+        this.cache.getInventory();
+
+        final SystemResourcesDelta delta = this.cache.getChanges(version);
+
+        assertTrue(delta.isResync());
+        assertEquals(Arrays.asList("org.foo", "rfkill"), names(delta.getAdded()));
+    }
+
+    @Test
+    public void shouldKeepLastContentIfLoadingFails() {
+        this.cache.setTracked(Section.SYSTEM_PACKAGES, true, 0);
+        this.cache.getInventory();
+
+        this.failPackages = true;
+        this.cache.invalidate(Section.SYSTEM_PACKAGES);
+
+        assertEquals(3, this.cache.getInventory().getSystemResources().size());
+
+        this.failPackages = false;
+        this.packages.clear();
+
+        assertEquals(2, this.cache.getInventory().getSystemResources().size());
+        assertEquals(3, this.packageLoads.get());
+    }
+
+    @Test(expected = KuraProcessExecutionErrorException.class)
+    public void shouldPropagateSectionLoadingFailure() throws Exception {
+        this.failPackages = true;
+
+        this.cache.getResources(Section.SYSTEM_PACKAGES);
+    }
+
+    private static List<String> names(final List<SystemResourceInfo> resources) {
+        return resources.stream().map(SystemResourceInfo::getName).collect(Collectors.toList());
+    }
+
+    private static List<String> namesAndVersions(final List<SystemResourceInfo> resources) {
+        return resources.stream().map(r -> r.getName() + ":" + r.getVersion()).collect(Collectors.toList());
+    }
+
+    private static SystemResourceInfo bundle(final String name, final String version) {
+        return new SystemResourceInfo(name, version, SystemResourceType.BUNDLE);
+    }
+
+    private static SystemResourceInfo systemPackage(final String name, final String version) {
+        return new SystemResourceInfo(name, version, SystemResourceType.DEB);
+    }
+}
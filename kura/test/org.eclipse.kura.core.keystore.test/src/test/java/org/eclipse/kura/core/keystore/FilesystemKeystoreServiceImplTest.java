@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,11 @@ package org.eclipse.kura.core.keystore;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -35,6 +37,7 @@ import java.security.KeyPairGenerator;
 import java.security.KeyStore;
 import java.security.KeyStore.Entry;
 import java.security.KeyStore.PrivateKeyEntry;
+import java.security.KeyStore.TrustedCertificateEntry;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
@@ -66,9 +69,13 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.event.EventAdmin;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class FilesystemKeystoreServiceImplTest {
 
+    private static final Logger logger = LoggerFactory.getLogger(FilesystemKeystoreServiceImplTest.class);
+
     private static final String DEFAULT_KEY_ALIAS = "alias";
     private static final String CERT_FILE_PATH = "target/test-classes/cert";
     private static final String KEY_KEYSTORE_PATH = "keystore.path";
@@ -1209,6 +1216,148 @@ public class FilesystemKeystoreServiceImplTest {
                 AdditionalMatchers.aryEq("foo".toCharArray()));
     }
 
+    @Test
+    public void testGetEntryDoesNotReloadKeystoreWith200Entries()
+            throws GeneralSecurityException, IOException, KuraException {
+        final Certificate certificate = loadTestCertificate();
+
+        for (int i = 0; i < 200; i++) {
+            this.store.setCertificateEntry("cert" + i, certificate);
+        }
+
+        try (OutputStream os = new FileOutputStream(STORE_PATH)) {
+            this.store.store(os, STORE_PASS.toCharArray());
+        }
+
+        final CryptoService cryptoService = mockCryptoService();
+        final FilesystemKeystoreServiceImpl keystoreService = activateKeystoreService(cryptoService);
+
+        assertNotNull(keystoreService.getEntry("cert0"));
+
+        Mockito.clearInvocations(cryptoService);
+
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < 1000; i++) {
+            Entry entry = keystoreService.getEntry("cert" + i % 200);
+            assertTrue(entry instanceof TrustedCertificateEntry);
+        }
+
+        logger.info("getEntry() on a keystore with 201 entries: {} us per call",
+                (System.nanoTime() - start) / 1000 / 1000.0);
+
+        assertEquals(201, keystoreService.getAliases().size());
+        assertEquals(201, keystoreService.getEntries().size());
+
+        // the keystore file is not loaded again
+        Mockito.verify(cryptoService, never()).getKeyStorePassword(STORE_PATH);
+
+        keystoreService.deactivate();
+    }
+
+    @Test
+    public void testSetEntryDoesNotModifyReadSnapshot() throws GeneralSecurityException, IOException, KuraException {
+        final CryptoService cryptoService = mockCryptoService();
+        final FilesystemKeystoreServiceImpl keystoreService = activateKeystoreService(cryptoService);
+
+        final KeyStore snapshot = keystoreService.loadKeystore().getKeystore();
+
+        Mockito.clearInvocations(cryptoService);
+
+        keystoreService.setEntry("cert", new TrustedCertificateEntry(loadTestCertificate()));
+
+        // the entry is added to a private copy of the keystore, that becomes the new snapshot once saved
+        Mockito.verify(cryptoService, Mockito.times(1)).getKeyStorePassword(STORE_PATH);
+        assertEquals(1, snapshot.size());
+
+        Mockito.clearInvocations(cryptoService);
+
+        assertNotNull(keystoreService.getEntry("cert"));
+        assertEquals(2, keystoreService.getAliases().size());
+        Mockito.verify(cryptoService, never()).getKeyStorePassword(STORE_PATH);
+
+        keystoreService.deleteEntry("cert");
+
+        assertEquals(1, keystoreService.getAliases().size());
+
+        keystoreService.deactivate();
+    }
+
+    @Test
+    public void testGetKeyStoreReturnsPrivateCopy() throws GeneralSecurityException, IOException, KuraException {
+        final CryptoService cryptoService = mockCryptoService();
+        final FilesystemKeystoreServiceImpl keystoreService = activateKeystoreService(cryptoService);
+
+        assertEquals(1, keystoreService.getAliases().size());
+
+        Mockito.clearInvocations(cryptoService);
+
+        final KeyStore keyStore = keystoreService.getKeyStore();
+
+        assertNotSame(keyStore, keystoreService.getKeyStore());
+        assertNotNull(keyStore.getKey(DEFAULT_KEY_ALIAS, STORE_PASS.toCharArray()));
+
+        // the copy is created from the cached snapshot, the keystore file is not loaded again
+        Mockito.verify(cryptoService, never()).getKeyStorePassword(STORE_PATH);
+
+        keyStore.setCertificateEntry("cert", loadTestCertificate());
+
+        assertEquals(1, keystoreService.getAliases().size());
+        assertNull(keystoreService.getEntry("cert"));
+
+        keystoreService.deactivate();
+    }
+
+    @Test
+    public void testExternalKeystoreChangeIsDetected()
+            throws GeneralSecurityException, IOException, KuraException, InterruptedException {
+        final FilesystemKeystoreServiceImpl keystoreService = activateKeystoreService(mockCryptoService());
+
+        assertEquals(1, keystoreService.getAliases().size());
+
+        this.store.setCertificateEntry("cert", loadTestCertificate());
+
+        try (OutputStream os = new FileOutputStream(STORE_PATH)) {
+            this.store.store(os, STORE_PASS.toCharArray());
+        }
+
+        final long deadline = System.currentTimeMillis() + 30000;
+
+        while (keystoreService.getAliases().size() != 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertTrue(keystoreService.getAliases().contains("cert"));
+
+        keystoreService.deactivate();
+    }
+
+    private CryptoService mockCryptoService() throws KuraException {
+        final CryptoService cryptoService = mock(CryptoService.class);
+        when(cryptoService.decryptAes(STORE_PASS.toCharArray())).thenReturn(STORE_PASS.toCharArray());
+        when(cryptoService.getKeyStorePassword(STORE_PATH)).thenReturn(STORE_PASS.toCharArray());
+        return cryptoService;
+    }
+
+    private FilesystemKeystoreServiceImpl activateKeystoreService(final CryptoService cryptoService) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(KEY_KEYSTORE_PATH, STORE_PATH);
+        properties.put(KEY_KEYSTORE_PASSWORD, STORE_PASS);
+
+        final FilesystemKeystoreServiceImpl keystoreService = new FilesystemKeystoreServiceImpl();
+        keystoreService.setEventAdmin(mock(EventAdmin.class));
+        keystoreService.setCryptoService(cryptoService);
+        keystoreService.activate(mock(ComponentContext.class), properties);
+
+        return keystoreService;
+    }
+
+    private Certificate loadTestCertificate() throws IOException, CertificateException {
+        try (InputStream is = new FileInputStream(CERT_FILE_PATH)) {
+            return CertificateFactory.getInstance("X.509").generateCertificate(is);
+        }
+    }
+
     private void assertKeystoreIsLoadable(final String path, final String password)
             throws NoSuchAlgorithmException, CertificateException, IOException, KeyStoreException {
         final KeyStore ks = KeyStore.getInstance(KeyStore.getDefaultType());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.Socket;
 import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.KeyPair;
@@ -39,16 +41,29 @@ import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 import javax.security.auth.x500.X500Principal;
 
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.eclipse.kura.KuraException;
 import org.eclipse.kura.core.testutil.TestUtil;
 import org.eclipse.kura.security.keystore.KeystoreChangedEvent;
@@ -161,14 +176,61 @@ public class SslManagerServiceImplTest {
         assertEquals(1, sslContexts.size());
         assertEquals(factory, sslContexts.values().iterator().next().getSocketFactory());
 
+        // contexts survive updates that do not change the SSL options
+        properties.put("kura.service.pid", "bar");
         svc.updated(properties);
 
         Map<ConnectionSslOptions, SSLContext> updatedSslContexts = (Map<ConnectionSslOptions, SSLContext>) TestUtil
                 .getFieldValue(svc, "sslContexts");
         assertNotNull(updatedSslContexts);
+        assertEquals(1, updatedSslContexts.size());
+        assertEquals(factory, svc.getSSLSocketFactory());
+
+        properties.put("ssl.default.protocol", "TLSv1.2");
+        svc.updated(properties);
+
         assertEquals(0, updatedSslContexts.size());
     }
 
+    @Test
+    public void testTls12SessionResumption() throws Exception {
+        testSessionResumption("TLSv1.2");
+    }
+
+    @Test
+    public void testTls13SessionResumption() throws Exception {
+        testSessionResumption("TLSv1.3");
+    }
+
+    @Test
+    public void testSessionCacheConfigurationWithDefaultProtocol() throws Exception {
+        SslManagerServiceImpl svc = new SslManagerServiceImpl();
+
+        ComponentContext ccMock = mock(ComponentContext.class);
+        when(ccMock.getBundleContext()).thenReturn(mock(BundleContext.class));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("ssl.default.protocol", "");
+        properties.put("ssl.session.cache.size", 7);
+        properties.put("ssl.session.timeout", 60);
+
+        svc.setKeystoreService(mock(KeystoreService.class), Collections.singletonMap("kura.service.pid", "foo"));
+        svc.activate(ccMock, properties);
+
+        final SSLSessionContext defaultSessionContext = SSLContext.getDefault().getClientSessionContext();
+        final int defaultCacheSize = defaultSessionContext.getSessionCacheSize();
+        final int defaultTimeout = defaultSessionContext.getSessionTimeout();
+
+        final SSLSessionContext sessionContext = svc.getSSLContext().getClientSessionContext();
+
+        assertEquals(7, sessionContext.getSessionCacheSize());
+        assertEquals(60, sessionContext.getSessionTimeout());
+
+        // the JVM wide default context is not modified
+        assertEquals(defaultCacheSize, defaultSessionContext.getSessionCacheSize());
+        assertEquals(defaultTimeout, defaultSessionContext.getSessionTimeout());
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void testSSLSocketFactoryCacheCleanedAfterSet()
@@ -307,6 +369,170 @@ public class SslManagerServiceImplTest {
         assertEquals(0, updatedSslContexts.size());
     }
 
+    private void testSessionResumption(final String protocol) throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("EC");
+        gen.initialize(256);
+        final KeyPair pair = gen.generateKeyPair();
+        final X509Certificate certificate = createSelfSignedCertificate(pair);
+
+        final KeyStore serverStore = KeyStore.getInstance("PKCS12");
+        serverStore.load(null, null);
+        serverStore.setKeyEntry("server", pair.getPrivate(), STORE_PASS.toCharArray(),
+                new Certificate[] { certificate });
+
+        final KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        trustStore.load(null, null);
+        trustStore.setCertificateEntry("server", certificate);
+
+        SslManagerServiceImpl svc = new SslManagerServiceImpl();
+
+        ComponentContext ccMock = mock(ComponentContext.class);
+        when(ccMock.getBundleContext()).thenReturn(mock(BundleContext.class));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("ssl.default.protocol", protocol);
+        properties.put("ssl.hostname.verification", false);
+
+        KeystoreService keystoreService = mock(KeystoreService.class);
+        when(keystoreService.getKeyStore()).thenReturn(trustStore);
+
+        svc.setKeystoreService(keystoreService, Collections.singletonMap("kura.service.pid", "foo"));
+        svc.activate(ccMock, properties);
+
+        TestUtil.setFieldValue(svc, "sslServiceListeners", mock(SslServiceListeners.class));
+
+        try (TlsEchoServer server = new TlsEchoServer(protocol, serverStore)) {
+            for (int i = 0; i < 3; i++) {
+                server.echo(svc.getSSLSocketFactory());
+            }
+
+            server.awaitHandshakes(3);
+            assertEquals(1, server.fullHandshakes.get());
+            assertEquals(2, server.resumedHandshakes.get());
+
+            final SslHandshakeStatistics statistics = svc.getHandshakeStatistics().get("default");
+            awaitHandshakes(statistics, 3);
+            assertEquals(1, statistics.getFullHandshakeCount());
+            assertEquals(2, statistics.getResumedHandshakeCount());
+
+            // an unrelated configuration update keeps the cached sessions
+            properties.put("kura.service.pid", "bar");
+            svc.updated(properties);
+
+            server.echo(svc.getSSLSocketFactory());
+
+            server.awaitHandshakes(4);
+            assertEquals(1, server.fullHandshakes.get());
+            assertEquals(3, server.resumedHandshakes.get());
+
+            // changing the session cache configuration creates a new context
+            properties.put("ssl.session.cache.size", 10);
+            svc.updated(properties);
+
+            server.echo(svc.getSSLSocketFactory());
+
+            server.awaitHandshakes(5);
+            assertEquals(2, server.fullHandshakes.get());
+            assertEquals(3, server.resumedHandshakes.get());
+
+            awaitHandshakes(statistics, 5);
+            assertEquals(2, statistics.getFullHandshakeCount());
+            assertEquals(3, statistics.getResumedHandshakeCount());
+        }
+    }
+
+    private static void awaitHandshakes(final SslHandshakeStatistics statistics, final long count)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+
+        while (statistics.getFullHandshakeCount() + statistics.getResumedHandshakeCount() < count
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static X509Certificate createSelfSignedCertificate(final KeyPair pair)
+            throws OperatorCreationException, CertificateException {
+        final long now = System.currentTimeMillis();
+        final X500Name name = new X500Name("CN=localhost");
+
+        final X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(name, BigInteger.valueOf(now),
+                new Date(now - 60000), new Date(now + 3600000), name, pair.getPublic());
+        final ContentSigner signer = new JcaContentSignerBuilder("SHA256withECDSA").build(pair.getPrivate());
+
+        return new JcaX509CertificateConverter().getCertificate(builder.build(signer));
+    }
+
+    /**
+     * Echoes one byte per connection and counts the full and resumed handshakes.
+     */
+    private static class TlsEchoServer implements AutoCloseable {
+
+        private final SSLServerSocket serverSocket;
+        private final Thread thread;
+        private final AtomicInteger fullHandshakes = new AtomicInteger();
+        private final AtomicInteger resumedHandshakes = new AtomicInteger();
+
+        TlsEchoServer(final String protocol, final KeyStore keyStore) throws GeneralSecurityException, IOException {
+            final KeyManagerFactory kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            kmf.init(keyStore, STORE_PASS.toCharArray());
+
+            final SSLContext context = SSLContext.getInstance(protocol);
+            context.init(kmf.getKeyManagers(), null, null);
+
+            this.serverSocket = (SSLServerSocket) context.getServerSocketFactory().createServerSocket(0, 10,
+                    InetAddress.getLoopbackAddress());
+            this.thread = new Thread(this::run);
+            this.thread.start();
+        }
+
+        void echo(final SSLSocketFactory factory) throws IOException {
+            try (Socket socket = factory.createSocket(InetAddress.getLoopbackAddress().getHostAddress(),
+                    this.serverSocket.getLocalPort())) {
+                socket.getOutputStream().write(42);
+                socket.getOutputStream().flush();
+                assertEquals(42, socket.getInputStream().read());
+            }
+        }
+
+        void awaitHandshakes(final int count) throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + 10000;
+
+            while (this.fullHandshakes.get() + this.resumedHandshakes.get() < count
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+
+        private void run() {
+            while (!this.serverSocket.isClosed()) {
+                try (SSLSocket socket = (SSLSocket) this.serverSocket.accept()) {
+                    final long acceptTime = System.currentTimeMillis();
+
+                    socket.startHandshake();
+
+                    if (socket.getSession().getCreationTime() < acceptTime) {
+                        this.resumedHandshakes.incrementAndGet();
+                    } else {
+                        this.fullHandshakes.incrementAndGet();
+                    }
+
+                    final int value = socket.getInputStream().read();
+                    socket.getOutputStream().write(value);
+                    socket.getOutputStream().flush();
+                } catch (final IOException e) {
+                    // closed
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException, InterruptedException {
+            this.serverSocket.close();
+            this.thread.join(10000);
+        }
+    }
+
     @Test
     @Ignore
     public void testPrivateKey() throws Throwable {
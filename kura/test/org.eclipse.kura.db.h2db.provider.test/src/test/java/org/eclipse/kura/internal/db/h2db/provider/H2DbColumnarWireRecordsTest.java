@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.db.h2db.provider;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.util.jdbc.ConnectionProvider;
+import org.eclipse.kura.util.jdbc.SQLFunction;
+import org.eclipse.kura.wire.ColumnarWireRecords;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class H2DbColumnarWireRecordsTest {
+
+    private static final WireRecordSchema SCHEMA = new WireRecordSchema(
+            Arrays.asList("flag", "count", "total", "ratio", "value", "name", "data"),
+            Arrays.asList(DataType.BOOLEAN, DataType.INTEGER, DataType.LONG, DataType.FLOAT, DataType.DOUBLE,
+                    DataType.STRING, DataType.BYTE_ARRAY));
+
+    private Connection connection;
+    private ConnectionProvider connectionProvider;
+
+    @Before
+    public void setUp() throws Exception {
+        DriverManager.registerDriver(new org.h2.Driver());
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:columnar", "SA", "");
+        this.connectionProvider = new ConnectionProvider() {
+
+            @Override
+            public <T> T withConnection(final SQLFunction<Connection, T> task) throws SQLException {
+                return task.call(H2DbColumnarWireRecordsTest.this.connection);
+            }
+        };
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        this.connection.close();
+    }
+
+    @Test
+    public void shouldExposeColumnsAsRecordProperties() {
+        final ColumnarWireRecords records = createRecords(2);
+
+        assertEquals(2, records.size());
+
+        final Map<String, ?> first = records.get(0).getProperties();
+
+        assertEquals(7, first.size());
+        assertEquals(TypedValues.newBooleanValue(true), first.get("flag"));
+        assertEquals(TypedValues.newIntegerValue(0), first.get("count"));
+        assertEquals(TypedValues.newStringValue("name0"), first.get("name"));
+
+        final WireRecord secondRecord = records.get(1);
+        final Map<String, ?> second = secondRecord.getProperties();
+
+        assertEquals(5, second.size());
+        assertFalse(second.containsKey("name"));
+        assertFalse(second.containsKey("data"));
+        assertNull(second.get("name"));
+        assertEquals(TypedValues.newLongValue(1000L), second.get("total"));
+        assertSame(second, secondRecord.getProperties());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectValuesOfWrongType() {
+        new ColumnarWireRecords.Builder(SCHEMA).addRow().setValue(0, TypedValues.newIntegerValue(1));
+    }
+
+    @Test
+    public void shouldInsertAndQueryColumnarRecords() throws Exception {
+        final H2DbWireRecordStoreImpl store = new H2DbWireRecordStoreImpl(this.connectionProvider, "data");
+
+        store.insertRecords(createRecords(4));
+
+        assertEquals(4, store.getSize());
+
+        final List<List<WireRecord>> chunks = new ArrayList<>();
+
+        new H2DbQueryableWireRecordStoreImpl(this.connectionProvider).performColumnarQuery(
+                "SELECT \"flag\", \"count\", \"total\", \"ratio\", \"value\", \"name\", \"data\" FROM \"data\" ORDER BY ID",
+                Integer.MAX_VALUE, chunks::add);
+
+        assertEquals(1, chunks.size());
+        assertTrue(chunks.get(0) instanceof ColumnarWireRecords);
+
+        final ColumnarWireRecords columns = (ColumnarWireRecords) chunks.get(0);
+
+        assertEquals(4, columns.size());
+        assertEquals(DataType.INTEGER, columns.getSchema().getType(columns.getSchema().indexOf("count")));
+
+        for (int row = 0; row < 4; row++) {
+            assertEquals(row % 2 == 0, columns.getBoolean(row, 0));
+            assertEquals(row, columns.getInt(row, 1));
+            assertEquals(row * 1000L, columns.getLong(row, 2));
+            // FLOAT values are stored as double precision values
+            assertEquals(row / 2.0f, ((Number) columns.getObject(row, 3)).floatValue(), 0.0001f);
+            assertEquals(row / 4.0, columns.getDouble(row, 4), 0.0001);
+
+            if (row % 2 == 0) {
+                assertEquals("name" + row, columns.getString(row, 5));
+                assertArrayEquals(new byte[] { (byte) row }, columns.getByteArray(row, 6));
+            } else {
+                assertFalse(columns.isPresent(row, 5));
+                assertFalse(columns.isPresent(row, 6));
+            }
+        }
+    }
+
+    @Test
+    public void shouldReturnMapRecordsByDefault() throws Exception {
+        final H2DbWireRecordStoreImpl store = new H2DbWireRecordStoreImpl(this.connectionProvider, "data");
+
+        store.insertRecords(createRecords(2));
+
+        final List<WireRecord> result = new H2DbQueryableWireRecordStoreImpl(this.connectionProvider)
+                .performQuery("SELECT \"count\", \"name\" FROM \"data\" ORDER BY ID");
+
+        assertFalse(result instanceof ColumnarWireRecords);
+        assertEquals(2, result.size());
+        assertEquals(TypedValues.newIntegerValue(0), result.get(0).getProperties().get("count"));
+        assertEquals(TypedValues.newStringValue("name0"), result.get(0).getProperties().get("name"));
+        assertFalse(result.get(1).getProperties().containsKey("name"));
+    }
+
+    @Test
+    public void shouldInferColumnTypeFromLaterRows() throws Exception {
+        final H2DbWireRecordStoreImpl store = new H2DbWireRecordStoreImpl(this.connectionProvider, "data");
+
+        store.insertRecords(createRecords(4));
+
+        final List<List<WireRecord>> chunks = new ArrayList<>();
+
+        // the first row has no name
+        new H2DbQueryableWireRecordStoreImpl(this.connectionProvider).performColumnarQuery(
+                "SELECT \"count\", \"name\" FROM \"data\" ORDER BY ID DESC", Integer.MAX_VALUE, chunks::add);
+
+        final ColumnarWireRecords columns = (ColumnarWireRecords) chunks.get(0);
+
+        assertEquals(4, columns.size());
+        assertEquals(DataType.STRING, columns.getSchema().getType(1));
+
+        for (int row = 0; row < 4; row++) {
+            assertEquals(3 - row, columns.getInt(row, 0));
+            assertEquals(row % 2 == 1, columns.isPresent(row, 1));
+        }
+
+        assertEquals("name2", columns.getString(1, 1));
+        assertEquals("name0", columns.getString(3, 1));
+    }
+
+    @Test
+    public void shouldStreamQueryResultInChunks() throws Exception {
+        final H2DbWireRecordStoreImpl store = new H2DbWireRecordStoreImpl(this.connectionProvider, "data");
+
+        store.insertRecords(createRecords(5));
+
+        final List<List<WireRecord>> chunks = new ArrayList<>();
+
+        new H2DbQueryableWireRecordStoreImpl(this.connectionProvider)
+                .performColumnarQuery("SELECT \"count\" FROM \"data\" ORDER BY ID", 2, chunks::add);
+
+        assertEquals(3, chunks.size());
+        assertEquals(2, chunks.get(0).size());
+        assertEquals(2, chunks.get(1).size());
+        assertEquals(1, chunks.get(2).size());
+        assertEquals(4, ((ColumnarWireRecords) chunks.get(2)).getInt(0, 0));
+    }
+
+    @Test
+    public void shouldNotInvokeConsumerOnEmptyResult() throws Exception {
+        new H2DbWireRecordStoreImpl(this.connectionProvider, "data");
+
+        final List<List<WireRecord>> chunks = new ArrayList<>();
+
+        new H2DbQueryableWireRecordStoreImpl(this.connectionProvider).performColumnarQuery("SELECT * FROM \"data\"",
+                2, chunks::add);
+
+        assertTrue(chunks.isEmpty());
+    }
+
+    private static ColumnarWireRecords createRecords(final int count) {
+        final ColumnarWireRecords.Builder builder = new ColumnarWireRecords.Builder(SCHEMA);
+
+        for (int i = 0; i < count; i++) {
+            builder.addRow() //
+                    .setBoolean(0, i % 2 == 0) //
+                    .setInt(1, i) //
+                    .setLong(2, i * 1000L) //
+                    .setFloat(3, i / 2.0f) //
+                    .setDouble(4, i / 4.0);
+
+            if (i % 2 == 0) {
+                builder.setString(5, "name" + i).setByteArray(6, new byte[] { (byte) i });
+            }
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.db.h2db.provider;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.util.jdbc.ConnectionProvider;
+import org.eclipse.kura.util.jdbc.SQLFunction;
+import org.eclipse.kura.util.wire.store.PartitionedJdbcWireRecordStoreImpl;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.store.provider.WireRecordStore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class H2DbPartitionedWireRecordStoreTest {
+
+    private static final long PARTITION_INTERVAL = 100;
+
+    private Connection connection;
+    private ConnectionProvider connectionProvider;
+    private boolean checkViewAfterEachTask;
+
+    @Before
+    public void setUp() throws Exception {
+        DriverManager.registerDriver(new org.h2.Driver());
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:partitioned", "SA", "");
+        this.connectionProvider = new ConnectionProvider() {
+
+            @Override
+            public <T> T withConnection(final SQLFunction<Connection, T> task) throws SQLException {
+                final T result = task.call(H2DbPartitionedWireRecordStoreTest.this.connection);
+
+                if (H2DbPartitionedWireRecordStoreTest.this.checkViewAfterEachTask) {
+                    // fails if the view is missing
+                    countRows("\"data\"");
+                }
+
+                return result;
+            }
+        };
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        this.connection.close();
+    }
+
+    @Test
+    public void shouldCreateOnePartitionPerInterval() throws Exception {
+        final WireRecordStore store = openStore();
+
+        insertInNewPartition(store, "a", 3);
+        insertInNewPartition(store, "a", 2);
+
+        assertEquals(5, store.getSize());
+        assertEquals(2, countPartitions());
+        assertEquals(5, countRows("\"data\""));
+    }
+
+    @Test
+    public void shouldDropOldestPartitionsOnTruncate() throws Exception {
+        final WireRecordStore store = openStore();
+
+        insertInNewPartition(store, "a", 3);
+        insertInNewPartition(store, "a", 3);
+        insertInNewPartition(store, "a", 3);
+
+        store.truncate(6);
+
+        assertEquals(6, store.getSize());
+        assertEquals(2, countPartitions());
+        assertEquals(6, countRows("\"data\""));
+    }
+
+    @Test
+    public void shouldKeepViewAvailableWhileDroppingPartitions() throws Exception {
+        final WireRecordStore store = openStore();
+
+        insertInNewPartition(store, "a", 3);
+        insertInNewPartition(store, "b", 3);
+        insertInNewPartition(store, "a", 3);
+
+        this.checkViewAfterEachTask = true;
+        store.truncate(3);
+        store.truncate(1);
+
+        assertEquals(1, store.getSize());
+        assertEquals(1, countPartitions());
+        assertEquals(1, countRows("\"data\""));
+    }
+
+    @Test
+    public void shouldPartiallyTruncateOldestPartitionIfNeeded() throws Exception {
+        final WireRecordStore store = openStore();
+
+        insertInNewPartition(store, "a", 3);
+        insertInNewPartition(store, "a", 3);
+
+        store.truncate(4);
+
+        assertEquals(4, store.getSize());
+        assertEquals(2, countPartitions());
+        assertEquals(4, countRows("\"data\""));
+    }
+
+    @Test
+    public void shouldDropAllPartitions() throws Exception {
+        final WireRecordStore store = openStore();
+
+        insertInNewPartition(store, "a", 3);
+        insertInNewPartition(store, "a", 3);
+
+        store.truncate(0);
+
+        assertEquals(0, store.getSize());
+        assertEquals(0, countPartitions());
+    }
+
+    @Test
+    public void shouldExposeUnionOfColumnsInView() throws Exception {
+        final WireRecordStore store = openStore();
+
+        insertInNewPartition(store, "a", 1);
+        insertInNewPartition(store, "b", 1);
+
+        try (Statement statement = this.connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT COUNT(\"a\"), COUNT(\"b\") FROM \"data\"")) {
+            rs.next();
+            assertEquals(1, rs.getInt(1));
+            assertEquals(1, rs.getInt(2));
+        }
+    }
+
+    @Test
+    public void shouldRecoverSizeOnReopen() throws Exception {
+        insertInNewPartition(openStore(), "a", 3);
+        insertInNewPartition(openStore(), "a", 4);
+
+        final WireRecordStore reopened = openStore();
+
+        assertEquals(7, reopened.getSize());
+        assertEquals(2, countPartitions());
+    }
+
+    private WireRecordStore openStore() throws KuraStoreException {
+        return new PartitionedJdbcWireRecordStoreImpl(this.connectionProvider, "data", PARTITION_INTERVAL,
+                tableName -> new H2DbWireRecordStoreImpl(this.connectionProvider, tableName));
+    }
+
+    private static void insertInNewPartition(final WireRecordStore store, final String property, final int count)
+            throws Exception {
+        final long now = System.currentTimeMillis();
+        Thread.sleep(PARTITION_INTERVAL - now % PARTITION_INTERVAL + 1);
+
+        final List<WireRecord> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(new WireRecord(Collections.singletonMap(property, TypedValues.newIntegerValue(i))));
+        }
+
+        store.insertRecords(records);
+    }
+
+    private int countPartitions() throws SQLException {
+        int result = 0;
+        try (ResultSet rs = this.connection.getMetaData().getTables(null, null, "data__%", new String[] { "TABLE",
+                "BASE TABLE" })) {
+            while (rs.next()) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private int countRows(final String tableName) throws SQLException {
+        try (Statement statement = this.connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + tableName)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
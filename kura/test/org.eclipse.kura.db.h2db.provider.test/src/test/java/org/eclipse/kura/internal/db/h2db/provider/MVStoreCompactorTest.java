@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.db.h2db.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.eclipse.kura.internal.db.h2db.provider.MVStoreCompactor.CompactionResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MVStoreCompactorTest {
+
+    private File dbDirectory;
+    private Connection connection;
+
+    @Before
+    public void setUp() throws Exception {
+        DriverManager.registerDriver(new org.h2.Driver());
+        this.dbDirectory = Files.createTempDirectory("compactor").toFile();
+        // no background writer, compaction writes are only issued by the compactor
+        this.connection = DriverManager.getConnection("jdbc:h2:file:"
+                + new File(this.dbDirectory, "testdb").getAbsolutePath()
+                + ";AUTO_COMPACT_FILL_RATE=0;RETENTION_TIME=0;WRITE_DELAY=0", "SA", "");
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        this.connection.close();
+        for (final File file : this.dbDirectory.listFiles()) {
+            file.delete();
+        }
+        this.dbDirectory.delete();
+    }
+
+    @Test
+    public void shouldSkipWhenFillRateIsAboveTarget() throws SQLException {
+        final CompactionResult result = new MVStoreCompactor(0, 1024 * 1024, 1000, 64 * 1024)
+                .compact(this.connection);
+
+        assertTrue(result.isSkipped());
+        assertEquals(0, result.getSteps());
+        assertEquals(0, result.getBytesWritten());
+    }
+
+    @Test
+    public void shouldCompactWithinWriteBudget() throws SQLException {
+        fillAndDelete();
+
+        final int writeBudget = 512 * 1024;
+        final CompactionResult result = new MVStoreCompactor(100, writeBudget, 10000, 64 * 1024)
+                .compact(this.connection);
+
+        assertFalse(result.isSkipped());
+        assertTrue(result.getSteps() > 0);
+        assertTrue(result.getChunksFillRateAfter() >= result.getChunksFillRateBefore());
+        assertTrue(result.getMaxStepMillis() <= result.getDurationMillis());
+
+        // the budget is checked before each step, only the last step can exceed it
+        assertTrue(result.getMaxStepBytesWritten() > 0);
+        assertTrue(result.getBytesWritten() - result.getMaxStepBytesWritten() < writeBudget);
+    }
+
+    @Test
+    public void shouldStopWhenWriteBudgetIsExhausted() throws SQLException {
+        fillAndDelete();
+
+        final CompactionResult result = new MVStoreCompactor(100, 1, 10000, 64 * 1024).compact(this.connection);
+
+        assertEquals(1, result.getSteps());
+        assertTrue(result.getBytesWritten() > 0);
+        assertEquals(result.getBytesWritten(), result.getMaxStepBytesWritten());
+    }
+
+    @Test
+    public void shouldKeepDatabaseUsableDuringCompaction() throws SQLException {
+        fillAndDelete();
+
+        new MVStoreCompactor(100, Long.MAX_VALUE, 200, 64 * 1024).compact(this.connection);
+
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("INSERT INTO DATA (ID, PAYLOAD) VALUES (-1, 'after')");
+        }
+    }
+
+    private void fillAndDelete() throws SQLException {
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("CREATE TABLE DATA (ID INT PRIMARY KEY, PAYLOAD VARCHAR(1024))");
+        }
+
+        final StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            payload.append('x');
+        }
+
+        this.connection.setAutoCommit(false);
+
+        try (PreparedStatement statement = this.connection
+                .prepareStatement("INSERT INTO DATA (ID, PAYLOAD) VALUES (?, ?)")) {
+            for (int i = 0; i < 20000; i++) {
+                statement.setInt(1, i);
+                statement.setString(2, payload.toString());
+                statement.execute();
+            }
+        }
+
+        this.connection.commit();
+
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DELETE FROM DATA WHERE MOD(ID, 4) <> 0");
+            this.connection.commit();
+            statement.execute("CHECKPOINT SYNC");
+        }
+
+        this.connection.setAutoCommit(true);
+    }
+}
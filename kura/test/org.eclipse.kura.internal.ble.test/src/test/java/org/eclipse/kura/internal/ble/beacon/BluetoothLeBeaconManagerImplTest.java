@@ -15,6 +15,7 @@ package org.eclipse.kura.internal.ble.beacon;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -24,6 +25,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -61,6 +63,22 @@ public class BluetoothLeBeaconManagerImplTest {
         assertNotNull(TestUtil.getFieldValue(svc, "listeners"));
     }
 
+    @Test
+    public void testUpdatedDuplicateFilterWindow() throws NoSuchFieldException {
+        BluetoothLeBeaconManagerImpl svc = new BluetoothLeBeaconManagerImpl();
+        svc.activate(mock(ComponentContext.class));
+
+        assertNull(TestUtil.getFieldValue(svc, "duplicateFilter"));
+
+        svc.updated(Collections.singletonMap("duplicate.filter.window.ms", 1000L));
+
+        assertNotNull(TestUtil.getFieldValue(svc, "duplicateFilter"));
+
+        svc.updated(Collections.singletonMap("duplicate.filter.window.ms", 0L));
+
+        assertNull(TestUtil.getFieldValue(svc, "duplicateFilter"));
+    }
+
     @Test
     public void testDeactivate() {
         BluetoothLeBeaconManagerImpl svc = new BluetoothLeBeaconManagerImpl();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,39 @@
 package org.eclipse.kura.internal.ble.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class BTSnoopParserTest {
 
+    private static final Logger logger = LoggerFactory.getLogger(BTSnoopParserTest.class);
+
+    private static final int ADVERTISEMENT_COUNT = 200_000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void readRecordTest() throws IOException {
         byte[] inputArray = { 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00,
@@ -37,4 +61,162 @@ public class BTSnoopParserTest {
         assertEquals(0x0B, result[1]);
     }
 
+    @Test
+    public void readRecordsInPlaceTest() throws IOException {
+        ByteArrayOutputStream capture = new ByteArrayOutputStream();
+        writeHeader(capture);
+        writeRecord(capture, new byte[] { 0x0A, 0x0B });
+        writeRecord(capture, new byte[0]);
+        writeRecord(capture, new byte[200]);
+
+        BTSnoopParser btSnoopParser = new BTSnoopParser();
+        // deliver the stream a few bytes at a time, like a pipe would
+        btSnoopParser.setInputStream(new ChunkedInputStream(new ByteArrayInputStream(capture.toByteArray()), 7));
+
+        assertTrue(btSnoopParser.nextRecord());
+        assertEquals(2, btSnoopParser.getRecordLength());
+        assertEquals(0x0A, btSnoopParser.getBuffer()[btSnoopParser.getRecordOffset()]);
+        assertEquals(0x0B, btSnoopParser.getBuffer()[btSnoopParser.getRecordOffset() + 1]);
+
+        assertTrue(btSnoopParser.nextRecord());
+        assertEquals(0, btSnoopParser.getRecordLength());
+
+        // the length must not be sign extended
+        assertTrue(btSnoopParser.nextRecord());
+        assertEquals(200, btSnoopParser.getRecordLength());
+
+        assertFalse(btSnoopParser.nextRecord());
+    }
+
+    @Test
+    public void readRecordLargerThanBufferTest() throws IOException {
+        ByteArrayOutputStream capture = new ByteArrayOutputStream();
+        writeHeader(capture);
+        byte[] data = new byte[100_000];
+        data[data.length - 1] = 0x42;
+        writeRecord(capture, data);
+
+        BTSnoopParser btSnoopParser = new BTSnoopParser();
+        btSnoopParser.setInputStream(new ByteArrayInputStream(capture.toByteArray()));
+
+        byte[] result = btSnoopParser.readRecord();
+        assertEquals(100_000, result.length);
+        assertEquals(0x42, result[result.length - 1]);
+    }
+
+    @Test(expected = EOFException.class)
+    public void readTruncatedRecordTest() throws IOException {
+        ByteArrayOutputStream capture = new ByteArrayOutputStream();
+        writeHeader(capture);
+        writeRecord(capture, new byte[] { 0x0A, 0x0B });
+
+        byte[] truncated = new byte[capture.size() - 1];
+        System.arraycopy(capture.toByteArray(), 0, truncated, 0, truncated.length);
+
+        BTSnoopParser btSnoopParser = new BTSnoopParser();
+        btSnoopParser.setInputStream(new ByteArrayInputStream(truncated));
+        btSnoopParser.nextRecord();
+    }
+
+    @Test
+    public void replayCaptureTest() throws IOException {
+        File captureFile = this.folder.newFile("capture.btsnoop");
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(captureFile))) {
+            writeHeader(out);
+            for (int i = 0; i < ADVERTISEMENT_COUNT; i++) {
+                writeRecord(out, iBeaconAdvertisement(i % 500));
+            }
+        }
+
+        BTSnoopParser btSnoopParser = new BTSnoopParser();
+        AdvertisingReportView view = new AdvertisingReportView();
+        DuplicateAdvertisementFilter duplicateFilter = new DuplicateAdvertisementFilter(60_000);
+
+        int records = 0;
+        int reports = 0;
+        int uniqueReports = 0;
+
+        long start = System.nanoTime();
+        try (InputStream in = new FileInputStream(captureFile)) {
+            btSnoopParser.setInputStream(in);
+            while (btSnoopParser.nextRecord()) {
+                records++;
+                if (view.wrap(btSnoopParser.getBuffer(), btSnoopParser.getRecordOffset(),
+                        btSnoopParser.getRecordLength())) {
+                    while (view.next()) {
+                        reports++;
+                        if (!duplicateFilter.isDuplicate(view.getAddress(), view.getDataHash())) {
+                            uniqueReports++;
+                        }
+                    }
+                }
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        logger.info("Replayed {} records in {} ms, {} records/s", records, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                records * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos));
+
+        assertEquals(ADVERTISEMENT_COUNT, records);
+        assertEquals(ADVERTISEMENT_COUNT, reports);
+        assertEquals(500, uniqueReports);
+    }
+
+    private static byte[] iBeaconAdvertisement(int id) {
+        ByteArrayOutputStream packet = new ByteArrayOutputStream();
+        packet.write(0x3E); // LE Meta event
+        packet.write(0x2B); // parameters length
+        packet.write(0x02); // LE Advertising Report
+        packet.write(0x01); // 1 report
+        packet.write(0x03); // ADV_NONCONN_IND
+        packet.write(0x01); // random address
+        packet.write(id & 0xFF); // address
+        packet.write(id >> 8 & 0xFF);
+        packet.write(0x33);
+        packet.write(0x44);
+        packet.write(0x55);
+        packet.write(0x66);
+        byte[] data = { 0x02, 0x01, 0x06, 0x1A, (byte) 0xFF, 0x4C, 0x00, 0x02, 0x15, //
+                (byte) 0xE2, (byte) 0xC5, 0x6D, (byte) 0xB5, (byte) 0xDF, (byte) 0xFB, 0x48, (byte) 0xD2, //
+                (byte) 0xB0, 0x60, (byte) 0xD0, (byte) 0xF5, (byte) 0xA7, 0x10, (byte) 0x96, (byte) 0xE0, //
+                0x00, 0x01, 0x00, 0x02, (byte) 0xC5 };
+        packet.write(data.length);
+        packet.write(data, 0, data.length);
+        packet.write(-60 & 0xFF); // rssi
+        return packet.toByteArray();
+    }
+
+    private static void writeHeader(OutputStream out) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.write("btsnoop\0".getBytes(StandardCharsets.US_ASCII));
+        dataOut.writeInt(1); // version
+        dataOut.writeInt(2001); // datalink type: Linux monitor
+        dataOut.flush();
+    }
+
+    private static void writeRecord(OutputStream out, byte[] packet) throws IOException {
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(packet.length); // original length
+        dataOut.writeInt(packet.length); // included length
+        dataOut.writeInt(0x3); // flags
+        dataOut.writeInt(0); // cumulative drops
+        dataOut.writeLong(System.currentTimeMillis()); // timestamp
+        dataOut.write(packet);
+        dataOut.flush();
+    }
+
+    private static final class ChunkedInputStream extends FilterInputStream {
+
+        private final int chunkSize;
+
+        ChunkedInputStream(InputStream in, int chunkSize) {
+            super(in);
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, this.chunkSize));
+        }
+    }
 }
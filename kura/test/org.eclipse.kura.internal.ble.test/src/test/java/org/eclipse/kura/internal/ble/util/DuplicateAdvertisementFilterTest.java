@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.ble.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class DuplicateAdvertisementFilterTest {
+
+    private static final long WINDOW_MS = 1000;
+
+    private final DuplicateAdvertisementFilter filter = new DuplicateAdvertisementFilter(WINDOW_MS);
+
+    @Test
+    public void shouldDropDuplicatesWithinWindow() {
+        long now = System.nanoTime();
+
+        assertFalse(this.filter.isDuplicate(0x112233445566L, 42, now));
+        assertTrue(this.filter.isDuplicate(0x112233445566L, 42, now + ms(500)));
+    }
+
+    @Test
+    public void shouldAcceptAdvertisementAfterWindow() {
+        long now = System.nanoTime();
+
+        assertFalse(this.filter.isDuplicate(0x112233445566L, 42, now));
+        assertFalse(this.filter.isDuplicate(0x112233445566L, 42, now + ms(WINDOW_MS + 1)));
+        assertTrue(this.filter.isDuplicate(0x112233445566L, 42, now + ms(WINDOW_MS + 2)));
+    }
+
+    @Test
+    public void shouldAcceptDifferentAddressOrData() {
+        long now = System.nanoTime();
+
+        assertFalse(this.filter.isDuplicate(0x112233445566L, 42, now));
+        assertFalse(this.filter.isDuplicate(0x112233445567L, 42, now));
+        assertFalse(this.filter.isDuplicate(0x112233445566L, 43, now));
+    }
+
+    @Test
+    public void shouldTrackManyAdvertisers() {
+        long now = System.nanoTime();
+
+        for (long address = 0; address < 1000; address++) {
+            assertFalse(this.filter.isDuplicate(address, 7, now));
+        }
+        for (long address = 0; address < 1000; address++) {
+            assertTrue(this.filter.isDuplicate(address, 7, now + ms(10)));
+        }
+    }
+
+    private static long ms(long value) {
+        return TimeUnit.MILLISECONDS.toNanos(value);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.kura.internal.driver.ble.sensortag;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -22,6 +23,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -255,6 +257,70 @@ public class SensorTagDriverTest {
         assertEquals(0, sensorListeners.size());
     }
 
+    @Test
+    public void testUnregisterListenerSharedByChannels() throws Exception {
+        String tagAddress = "12:34:56:78:90:AC";
+        SensorTagDriver svc = new SensorTagDriver();
+
+        BluetoothLeAdapter bluetoothLeAdapter = mock(BluetoothLeAdapter.class);
+        TestUtil.setFieldValue(svc, "bluetoothLeAdapter", bluetoothLeAdapter);
+
+        Map<String, TiSensorTag> tiSensorTagMap = new HashMap<>();
+        TestUtil.setFieldValue(svc, "tiSensorTagMap", tiSensorTagMap);
+
+        Set<SensorListener> sensorListeners = new HashSet<>();
+        TestUtil.setFieldValue(svc, "sensorListeners", sensorListeners);
+
+        BluetoothLeGattService preSvcMock = mock(BluetoothLeGattService.class);
+        BluetoothLeGattCharacteristic preChrMock = mock(BluetoothLeGattCharacteristic.class);
+        BluetoothLeGattCharacteristic prePeriodChrMock = mock(BluetoothLeGattCharacteristic.class);
+        when(preSvcMock.findCharacteristic(TiSensorTagGatt.UUID_PRE_SENSOR_VALUE)).thenReturn(preChrMock);
+        when(preChrMock.isNotifying()).thenReturn(false).thenReturn(true);
+
+        TiSensorTag tag = new TiSensorTagBuilder(true, true)
+                .addService(TiSensorTagGatt.UUID_PRE_SENSOR_SERVICE, preSvcMock)
+                .addCharacteristic(TiSensorTagGatt.UUID_PRE_SENSOR_SERVICE, TiSensorTagGatt.UUID_PRE_SENSOR_VALUE,
+                        preChrMock)
+                .addCharacteristic(TiSensorTagGatt.UUID_PRE_SENSOR_SERVICE, TiSensorTagGatt.UUID_PRE_SENSOR_PERIOD,
+                        prePeriodChrMock)
+                .build(true);
+        tiSensorTagMap.put(tagAddress, tag);
+
+        // an asset registers the same listener instance for each of its channels
+        ChannelListener sharedListener = event -> {
+        };
+        ChannelListener otherListener = event -> {
+        };
+
+        svc.registerChannelListener(pressureChannelConfig(tagAddress, "pressure1"), sharedListener);
+        svc.registerChannelListener(pressureChannelConfig(tagAddress, "pressure2"), sharedListener);
+        svc.registerChannelListener(pressureChannelConfig(tagAddress, "pressure3"), otherListener);
+        assertEquals(1, sensorListeners.size());
+        clearInvocations(preChrMock);
+
+        svc.unregisterChannelListener(sharedListener);
+
+        SensorListener sensorListener = sensorListeners.iterator().next();
+        assertEquals(Collections.singletonList(otherListener), sensorListener.getListeners());
+        assertEquals(Collections.singletonList("pressure3"), sensorListener.getChannelNames());
+        verify(preChrMock, times(0)).disableValueNotifications();
+
+        svc.unregisterChannelListener(otherListener);
+
+        assertTrue(sensorListeners.isEmpty());
+        verify(preChrMock, times(1)).disableValueNotifications();
+    }
+
+    private static Map<String, Object> pressureChannelConfig(String tagAddress, String channelName) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("sensortag.address", tagAddress);
+        config.put("sensor.name", "PRESSURE");
+        config.put("notification.period", "1000");
+        config.put("+name", channelName);
+        config.put("+value.type", "double");
+        return config;
+    }
+
     @Test
     public void testReadFailSensorName() throws ConnectionException {
         SensorTagDriver svc = new SensorTagDriver();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.kura.internal.driver.opcua.test;
 
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -48,11 +49,13 @@ import org.eclipse.kura.type.TypedValues;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
 import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigBuilder;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigLimits;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.security.DefaultTrustListManager;
 import org.eclipse.milo.opcua.stack.core.security.TrustListManager;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.server.EndpointConfiguration;
 import org.eclipse.milo.opcua.stack.server.security.DefaultServerCertificateValidator;
 import org.eclipse.milo.opcua.stack.server.security.ServerCertificateValidator;
@@ -67,6 +70,8 @@ public class OpcUaDriverTest {
 
     private static final Logger logger = LoggerFactory.getLogger(OpcUaDriverTest.class);
 
+    private static final int SERVER_MAX_NODES_PER_OPERATION = 1000;
+
     private static CountDownLatch dependencyLatch = new CountDownLatch(1);
 
     private static ConfigurationService cfgsvc;
@@ -107,6 +112,18 @@ public class OpcUaDriverTest {
                 .setApplicationName(LocalizedText.english("opcsvr")).setCertificateValidator(certificateValidator)
                 .setCertificateValidator(certificateValidator)
                 .setEndpoints(Collections.singleton(endpointConfiguration))
+                .setLimits(new OpcUaServerConfigLimits() {
+
+                    @Override
+                    public UInteger getMaxNodesPerRead() {
+                        return uint(SERVER_MAX_NODES_PER_OPERATION);
+                    }
+
+                    @Override
+                    public UInteger getMaxNodesPerWrite() {
+                        return uint(SERVER_MAX_NODES_PER_OPERATION);
+                    }
+                })
                 .build();
 
         server = new OpcUaServer(config);
@@ -144,6 +161,10 @@ public class OpcUaDriverTest {
             props.put("request.timeout", 1500);
             props.put("session.timeout", 2000);
 
+            // larger than the server limits, chunk size must be adapted to the server OperationLimits
+            props.put("max.request.items", 2 * SERVER_MAX_NODES_PER_OPERATION);
+            props.put("max.concurrent.requests", 4);
+
             props.put("keystore.client.alias", "");
             props.put("keystore.password", "");
             props.put("keystore.server.alias", "");
@@ -475,6 +496,89 @@ public class OpcUaDriverTest {
         testReadWrite(nodeId, "NUMERIC", TypedValues.newLongValue(12345), opcuaType);
     }
 
+    @Test
+    public void testReadManyNodes() throws ConnectionException {
+        final List<ChannelRecord> records = createPerformanceReadRecords();
+
+        final long start = System.nanoTime();
+        driver.read(records);
+        final long elapsed = System.nanoTime() - start;
+
+        logger.info("read {} nodes in {} ms", records.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+        for (int i = 0; i < records.size(); i++) {
+            assertSuccess(records.get(i));
+            assertEquals(new IntegerValue(i), records.get(i).getValue());
+        }
+    }
+
+    @Test
+    public void testReadLatencyManyNodes() throws ConnectionException {
+        final int iterations = 20;
+
+        // warm up
+        driver.read(createPerformanceReadRecords());
+
+        long total = 0;
+        long max = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            final List<ChannelRecord> records = createPerformanceReadRecords();
+
+            final long start = System.nanoTime();
+            driver.read(records);
+            final long elapsed = System.nanoTime() - start;
+
+            total += elapsed;
+            max = Math.max(max, elapsed);
+
+            for (ChannelRecord record : records) {
+                assertSuccess(record);
+            }
+        }
+
+        logger.info("read latency for {} nodes over {} iterations, average: {} ms, max: {} ms",
+                TestNamespace.PERFORMANCE_NODE_COUNT, iterations, TimeUnit.NANOSECONDS.toMillis(total / iterations),
+                TimeUnit.NANOSECONDS.toMillis(max));
+    }
+
+    @Test
+    public void testWriteManyNodes() throws ConnectionException {
+        final int count = 3 * SERVER_MAX_NODES_PER_OPERATION;
+        final int offset = TestNamespace.PERFORMANCE_NODE_COUNT - count;
+
+        final List<ChannelRecord> writeRecords = new ArrayList<>(count);
+
+        for (int i = offset; i < TestNamespace.PERFORMANCE_NODE_COUNT; i++) {
+            writeRecords.add(createWriteRecord(TestNamespace.PERFORMANCE_NODE_PREFIX + i, new IntegerValue(i),
+                    VariableType.INT32));
+        }
+
+        driver.write(writeRecords);
+
+        for (ChannelRecord record : writeRecords) {
+            assertSuccess(record);
+        }
+
+        final List<ChannelRecord> readRecords = createPerformanceReadRecords();
+        driver.read(readRecords);
+
+        for (int i = 0; i < readRecords.size(); i++) {
+            assertSuccess(readRecords.get(i));
+            assertEquals(new IntegerValue(i), readRecords.get(i).getValue());
+        }
+    }
+
+    private List<ChannelRecord> createPerformanceReadRecords() {
+        final List<ChannelRecord> records = new ArrayList<>(TestNamespace.PERFORMANCE_NODE_COUNT);
+
+        for (int i = 0; i < TestNamespace.PERFORMANCE_NODE_COUNT; i++) {
+            records.add(createReadRecord(TestNamespace.PERFORMANCE_NODE_PREFIX + i, DataType.INTEGER));
+        }
+
+        return records;
+    }
+
     public void bindCfgSvc(ConfigurationService cfgSvc) {
         OpcUaDriverTest.cfgsvc = cfgSvc;
         dependencyLatch.countDown();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2023 Kevin Herron and others
+ * Copyright (c) 2016, 2026 Kevin Herron and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -65,6 +65,8 @@ public class TestNamespace extends ManagedNamespace {
 
     public static final String NAMESPACE_URI = "urn:eclipse:milo:hello-world";
     public static final String IDENTIFIER_HELLO_WORLD = "HelloWorld";
+    public static final String PERFORMANCE_NODE_PREFIX = "Performance/";
+    public static final int PERFORMANCE_NODE_COUNT = 5000;
 
     private static final Object[][] STATIC_SCALAR_NODES = new Object[][] {
             { "Boolean", Identifiers.Boolean, new Variant(false) },
@@ -137,6 +139,7 @@ public class TestNamespace extends ManagedNamespace {
     private void addVariableNodes(UaFolderNode rootNode) {
         addArrayNodes(rootNode);
         addScalarNodes(rootNode);
+        addPerformanceNodes(rootNode);
     }
 
     private void addArrayNodes(UaFolderNode rootNode) {
@@ -212,6 +215,31 @@ public class TestNamespace extends ManagedNamespace {
         getNodeManager().addNode(largeIndex);
     }
 
+    private void addPerformanceNodes(UaFolderNode rootNode) {
+        UaFolderNode performanceFolder = new UaFolderNode(getNodeContext(),
+                new NodeId(namespaceIndex, "HelloWorld/Performance"), new QualifiedName(namespaceIndex, "Performance"),
+                LocalizedText.english("Performance"));
+
+        getNodeManager().addNode(performanceFolder);
+        rootNode.addOrganizes(performanceFolder);
+
+        for (int i = 0; i < PERFORMANCE_NODE_COUNT; i++) {
+            String name = PERFORMANCE_NODE_PREFIX + i;
+
+            UaVariableNode node = new UaVariableNode.UaVariableNodeBuilder(getNodeContext())
+                    .setNodeId(new NodeId(namespaceIndex, name))
+                    .setAccessLevel(AccessLevel.toValue(AccessLevel.READ_WRITE))
+                    .setUserAccessLevel(AccessLevel.toValue(AccessLevel.READ_WRITE))
+                    .setBrowseName(new QualifiedName(namespaceIndex, name)).setDisplayName(LocalizedText.english(name))
+                    .setDataType(Identifiers.Int32).setTypeDefinition(Identifiers.BaseDataVariableType).build();
+
+            node.setValue(new DataValue(new Variant(i)));
+
+            getNodeManager().addNode(node);
+            performanceFolder.addOrganizes(node);
+        }
+    }
+
     @Override
     public void browse(BrowseContext context, NodeId nodeId) {
         UaNode node = getNodeManager().get(nodeId);
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.driver.opcua;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.kura.channel.ChannelFlag;
+import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.crypto.CryptoService;
+import org.eclipse.kura.internal.driver.opcua.request.ReadParams;
+import org.eclipse.kura.internal.driver.opcua.request.Request;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.IntegerValue;
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.DataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.DefaultDataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.junit.Test;
+
+public class ConnectionManagerTest {
+
+    private static final int MAX_REQUEST_ITEMS = 10;
+
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    private final AtomicInteger maxOutstandingRequests = new AtomicInteger();
+    private final List<Integer> requestSizes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger rejectedRequests = new AtomicInteger();
+
+    private int serverMaxNodesPerRead = Integer.MAX_VALUE;
+    private long responseDelay = 0;
+
+    @Test
+    public void shouldReadInChunks() throws Exception {
+        final ConnectionManager connectionManager = createConnectionManager(1);
+        final List<ChannelRecord> records = createReadRecords(95);
+
+        connectionManager.read(extractReadRequests(records));
+
+        assertEquals(10, this.requestSizes.size());
+        for (int i = 0; i < 9; i++) {
+            assertEquals(MAX_REQUEST_ITEMS, (int) this.requestSizes.get(i));
+        }
+        assertEquals(5, (int) this.requestSizes.get(9));
+        assertRecordsRead(records);
+    }
+
+    @Test
+    public void shouldLimitOutstandingRequests() throws Exception {
+        this.responseDelay = 20;
+
+        final ConnectionManager connectionManager = createConnectionManager(4);
+        final List<ChannelRecord> records = createReadRecords(200);
+
+        connectionManager.read(extractReadRequests(records));
+
+        assertEquals(20, this.requestSizes.size());
+        assertEquals(4, this.maxOutstandingRequests.get());
+        assertRecordsRead(records);
+    }
+
+    @Test
+    public void shouldNotExceedRequestCountWithFewChunks() throws Exception {
+        this.responseDelay = 20;
+
+        final ConnectionManager connectionManager = createConnectionManager(4);
+        final List<ChannelRecord> records = createReadRecords(15);
+
+        connectionManager.read(extractReadRequests(records));
+
+        assertEquals(2, this.requestSizes.size());
+        assertTrue(this.maxOutstandingRequests.get() <= 2);
+        assertRecordsRead(records);
+    }
+
+    @Test
+    public void shouldReduceChunkSizeOnTooManyOperations() throws Exception {
+        this.serverMaxNodesPerRead = 3;
+
+        final ConnectionManager connectionManager = createConnectionManager(2);
+        final List<ChannelRecord> records = createReadRecords(50);
+
+        connectionManager.read(extractReadRequests(records));
+
+        assertTrue(this.rejectedRequests.get() > 0);
+        assertRecordsRead(records);
+
+        this.rejectedRequests.set(0);
+        this.requestSizes.clear();
+
+        final List<ChannelRecord> otherRecords = createReadRecords(50);
+
+        connectionManager.read(extractReadRequests(otherRecords));
+
+        assertEquals(0, this.rejectedRequests.get());
+        for (final int size : this.requestSizes) {
+            assertTrue(size <= 3);
+        }
+        assertRecordsRead(otherRecords);
+    }
+
+    @Test
+    public void shouldNotSendRequestsForEmptyRead() throws Exception {
+        final ConnectionManager connectionManager = createConnectionManager(4);
+
+        connectionManager.read(new ArrayList<>());
+
+        assertTrue(this.requestSizes.isEmpty());
+    }
+
+    private ConnectionManager createConnectionManager(final int maxConcurrentRequests) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("request.timeout", 5);
+        properties.put("max.request.items", MAX_REQUEST_ITEMS);
+        properties.put("max.concurrent.requests", maxConcurrentRequests);
+
+        final OpcUaOptions options = new OpcUaOptions(properties, mock(CryptoService.class));
+
+        final OpcUaClient clientMock = createClientMock();
+        when(clientMock.read(eq(0.0), eq(TimestampsToReturn.Both), any())).thenAnswer(invocation -> {
+            final List<ReadValueId> readValueIds = invocation.getArgument(2);
+            return read(readValueIds);
+        });
+
+        return new ConnectionManager(clientMock, options, (a, b) -> {
+        }, new ListenerRegistrationRegistry(), new ListenerRegistrationRegistry());
+    }
+
+    private static OpcUaClient createClientMock() {
+        final NamespaceTable namespaceTable = new NamespaceTable();
+        final DataTypeManager dataTypeManager = DefaultDataTypeManager.createAndInitialize(namespaceTable);
+
+        final OpcUaClient clientMock = mock(OpcUaClient.class);
+        when(clientMock.getStaticSerializationContext()).thenReturn(new SerializationContext() {
+
+            @Override
+            public NamespaceTable getNamespaceTable() {
+                return namespaceTable;
+            }
+
+            @Override
+            public EncodingLimits getEncodingLimits() {
+                return EncodingLimits.DEFAULT;
+            }
+
+            @Override
+            public DataTypeManager getDataTypeManager() {
+                return dataTypeManager;
+            }
+        });
+        return clientMock;
+    }
+
+    private CompletableFuture<ReadResponse> read(final List<ReadValueId> readValueIds) {
+        this.requestSizes.add(readValueIds.size());
+
+        if (readValueIds.size() > this.serverMaxNodesPerRead) {
+            this.rejectedRequests.incrementAndGet();
+
+            final CompletableFuture<ReadResponse> result = new CompletableFuture<>();
+            result.completeExceptionally(new UaException(StatusCodes.Bad_TooManyOperations));
+            return result;
+        }
+
+        final int outstanding = this.outstandingRequests.incrementAndGet();
+        this.maxOutstandingRequests.accumulateAndGet(outstanding, Math::max);
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(this.responseDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            final DataValue[] results = new DataValue[readValueIds.size()];
+
+            for (int i = 0; i < results.length; i++) {
+                final UInteger id = (UInteger) readValueIds.get(i).getNodeId().getIdentifier();
+                results[i] = new DataValue(new Variant(id.intValue()));
+            }
+
+            this.outstandingRequests.decrementAndGet();
+
+            return new ReadResponse(null, results, null);
+        });
+    }
+
+    private static List<Request<ReadParams>> extractReadRequests(final List<ChannelRecord> records) {
+        return Request.extractReadRequests(records);
+    }
+
+    private static List<ChannelRecord> createReadRecords(final int count) {
+        final List<ChannelRecord> records = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            final ChannelRecord record = ChannelRecord.createReadRecord("ch" + i, DataType.INTEGER);
+            final Map<String, Object> channelConfig = new HashMap<>();
+            channelConfig.put("node.namespace.index", "1");
+            channelConfig.put("node.id.type", "NUMERIC");
+            channelConfig.put("opcua.type", "DEFINED_BY_JAVA_TYPE");
+            channelConfig.put("node.id", Integer.toString(i));
+            record.setChannelConfig(channelConfig);
+            records.add(record);
+        }
+
+        return records;
+    }
+
+    private static void assertRecordsRead(final List<ChannelRecord> records) {
+        for (int i = 0; i < records.size(); i++) {
+            final ChannelRecord record = records.get(i);
+
+            assertEquals(ChannelFlag.SUCCESS, record.getChannelStatus().getChannelFlag());
+            assertEquals(new IntegerValue(i), record.getValue());
+        }
+    }
+}
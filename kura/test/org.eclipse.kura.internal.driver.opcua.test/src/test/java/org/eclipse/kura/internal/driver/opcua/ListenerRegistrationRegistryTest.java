@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.driver.opcua;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.channel.ChannelFlag;
+import org.eclipse.kura.channel.ChannelStatus;
+import org.eclipse.kura.channel.listener.ChannelEvent;
+import org.eclipse.kura.channel.listener.ChannelListener;
+import org.eclipse.kura.internal.driver.opcua.ListenerRegistrationRegistry.EventBatch;
+import org.eclipse.kura.internal.driver.opcua.request.ListenParams;
+import org.eclipse.kura.internal.driver.opcua.request.ListenRequest;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.IntegerValue;
+import org.junit.Test;
+
+public class ListenerRegistrationRegistryTest {
+
+    private final ListenerRegistrationRegistry registrations = new ListenerRegistrationRegistry();
+
+    @Test
+    public void shouldDeliverBatchWithSingleCall() {
+        final RecordingListener listener = new RecordingListener();
+        register(listener, 0, 1, 2);
+
+        final EventBatch batch = new EventBatch();
+        dispatch(batch, 0, 100);
+        dispatch(batch, 1, 101);
+        dispatch(batch, 2, 102);
+
+        assertTrue(listener.batches.isEmpty());
+
+        batch.deliver();
+
+        assertEquals(1, listener.batches.size());
+        assertEquals(3, listener.batches.get(0).size());
+        assertEvent(listener.batches.get(0).get(0), "ch0", 100);
+        assertEvent(listener.batches.get(0).get(1), "ch1", 101);
+        assertEvent(listener.batches.get(0).get(2), "ch2", 102);
+    }
+
+    @Test
+    public void shouldCreateRecordForEachValue() {
+        final RecordingListener listener = new RecordingListener();
+        register(listener, 0);
+
+        final EventBatch batch = new EventBatch();
+        dispatch(batch, 0, 100);
+        dispatch(batch, 0, 101);
+        batch.deliver();
+
+        final List<ChannelEvent> events = listener.batches.get(0);
+
+        assertEquals(2, events.size());
+        assertNotSame(events.get(0).getChannelRecord(), events.get(1).getChannelRecord());
+        assertEvent(events.get(0), "ch0", 100);
+        assertEvent(events.get(1), "ch0", 101);
+    }
+
+    @Test
+    public void shouldDeliverSeparateBatchToEachListener() {
+        final RecordingListener first = new RecordingListener();
+        final RecordingListener second = new RecordingListener();
+        register(first, 0, 1);
+        register(second, 1);
+
+        final EventBatch batch = new EventBatch();
+        dispatch(batch, 0, 100);
+        dispatch(batch, 1, 101);
+        batch.deliver();
+
+        assertEquals(1, first.batches.size());
+        assertEquals(2, first.batches.get(0).size());
+        assertEquals(1, second.batches.size());
+        assertEquals(1, second.batches.get(0).size());
+        assertEvent(second.batches.get(0).get(0), "ch1", 101);
+    }
+
+    @Test
+    public void shouldDeliverToOtherListenersIfListenerFails() {
+        final ChannelListener failing = event -> {
+            throw new IllegalStateException("test");
+        };
+        final RecordingListener listener = new RecordingListener();
+        register(failing, 0);
+        register(listener, 0);
+
+        final EventBatch batch = new EventBatch();
+        dispatch(batch, 0, 100);
+        batch.deliver();
+
+        assertEquals(1, listener.batches.size());
+    }
+
+    private void register(final ChannelListener listener, final int... nodes) {
+        final List<ListenRequest> requests = new ArrayList<>();
+
+        for (final int node : nodes) {
+            requests.add(ListenRequest.extractListenRequest(createChannelConfig(node), listener));
+        }
+
+        this.registrations.registerListeners(requests);
+    }
+
+    private void dispatch(final EventBatch batch, final int node, final int value) {
+        for (final ListenParams params : this.registrations.getItems()) {
+            if (params.getReadValueId().getNodeId().getIdentifier().toString().equals(Integer.toString(node))) {
+                this.registrations.getDispatcher(params).dispatch(r -> {
+                    r.setValue(new IntegerValue(value));
+                    r.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+                    r.setTimestamp(value);
+                }, batch);
+            }
+        }
+    }
+
+    private static void assertEvent(final ChannelEvent event, final String channelName, final int value) {
+        assertEquals(channelName, event.getChannelRecord().getChannelName());
+        assertEquals(new IntegerValue(value), event.getChannelRecord().getValue());
+    }
+
+    private static Map<String, Object> createChannelConfig(final int node) {
+        final Map<String, Object> channelConfig = new HashMap<>();
+        channelConfig.put("+name", "ch" + node);
+        channelConfig.put("+value.type", DataType.INTEGER.name());
+        channelConfig.put("node.namespace.index", "1");
+        channelConfig.put("node.id.type", "NUMERIC");
+        channelConfig.put("opcua.type", "DEFINED_BY_JAVA_TYPE");
+        channelConfig.put("node.id", Integer.toString(node));
+        channelConfig.put("listen.sampling.interval", "1000");
+        channelConfig.put("listen.queue.size", "10");
+        channelConfig.put("listen.discard.oldest", "false");
+        channelConfig.put("listen.subscribe.to.children", "false");
+        return channelConfig;
+    }
+
+    private static final class RecordingListener implements ChannelListener {
+
+        private final List<List<ChannelEvent>> batches = new ArrayList<>();
+
+        @Override
+        public void onChannelEvent(final ChannelEvent event) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void onChannelEvents(final List<ChannelEvent> events) {
+            this.batches.add(events);
+        }
+    }
+}
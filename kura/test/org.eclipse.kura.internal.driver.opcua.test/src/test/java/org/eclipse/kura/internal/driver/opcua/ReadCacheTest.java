@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.driver.opcua;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.kura.channel.ChannelFlag;
+import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.channel.ChannelStatus;
+import org.eclipse.kura.core.testutil.TestUtil;
+import org.eclipse.kura.crypto.CryptoService;
+import org.eclipse.kura.driver.PreparedRead;
+import org.eclipse.kura.internal.driver.opcua.request.ListenParams;
+import org.eclipse.kura.internal.driver.opcua.request.ReadParams;
+import org.eclipse.kura.internal.driver.opcua.request.Request;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.IntegerValue;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.junit.Test;
+
+public class ReadCacheTest {
+
+    private final ListenerRegistrationRegistry registrations = new ListenerRegistrationRegistry();
+    private final ReadCache cache = new ReadCache(this.registrations);
+    private final OpcUaOptions options = new OpcUaOptions(new HashMap<>(), mock(CryptoService.class));
+
+    @Test
+    public void shouldMonitorRegisteredNodes() {
+        this.cache.register(createReadRequests(3), this.options);
+
+        assertEquals(3, this.registrations.getItems().size());
+    }
+
+    @Test
+    public void shouldShareMonitoredItemsBetweenRegistrations() {
+        final List<Request<ReadParams>> first = createReadRequests(3);
+        final List<Request<ReadParams>> second = createReadRequests(3);
+
+        this.cache.register(first, this.options);
+        this.cache.register(second, this.options);
+
+        assertEquals(3, this.registrations.getItems().size());
+
+        this.cache.unregister(first);
+
+        assertEquals(3, this.registrations.getItems().size());
+
+        this.cache.unregister(second);
+
+        assertTrue(this.registrations.isEmpty());
+    }
+
+    @Test
+    public void shouldMissOnColdCache() {
+        final List<Request<ReadParams>> requests = createReadRequests(3);
+        this.cache.register(requests, this.options);
+
+        assertEquals(3, this.cache.fill(requests, 0).size());
+    }
+
+    @Test
+    public void shouldServeNotifiedValues() {
+        final List<Request<ReadParams>> requests = createReadRequests(3);
+        this.cache.register(requests, this.options);
+
+        dispatch(1, 100);
+        dispatch(2, 200);
+
+        final List<Request<ReadParams>> misses = this.cache.fill(requests, 0);
+
+        assertEquals(1, misses.size());
+        assertEquals(requests.get(0), misses.get(0));
+        assertRecord(requests.get(1).getRecord(), 100);
+        assertRecord(requests.get(2).getRecord(), 200);
+    }
+
+    @Test
+    public void shouldMissIfSubscriptionIsNotAlive() throws NoSuchFieldException {
+        final List<Request<ReadParams>> requests = createReadRequests(1);
+        this.cache.register(requests, this.options);
+
+        dispatch(0, 100);
+
+        TestUtil.setFieldValue(this.cache, "lastAliveTime", System.currentTimeMillis() - 10000);
+
+        assertEquals(1, this.cache.fill(requests, 5000).size());
+
+        this.cache.onKeepAlive(null, null);
+
+        assertEquals(0, this.cache.fill(requests, 5000).size());
+        assertRecord(requests.get(0).getRecord(), 100);
+    }
+
+    @Test
+    public void shouldInvalidateOnPublishFailure() {
+        final List<Request<ReadParams>> requests = createReadRequests(1);
+        this.cache.register(requests, this.options);
+
+        dispatch(0, 100);
+
+        this.cache.onPublishFailure(new UaException(StatusCodes.Bad_Timeout));
+
+        assertEquals(1, this.cache.fill(requests, 0).size());
+
+        this.cache.onKeepAlive(null, null);
+
+        assertEquals(1, this.cache.fill(requests, 0).size());
+    }
+
+    @Test
+    public void shouldStoreSuccessfulFallbackReads() {
+        final List<Request<ReadParams>> requests = createReadRequests(2);
+        this.cache.register(requests, this.options);
+        this.cache.onKeepAlive(null, null);
+
+        final ChannelRecord first = requests.get(0).getRecord();
+        first.setValue(new IntegerValue(100));
+        first.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+
+        final ChannelRecord second = requests.get(1).getRecord();
+        second.setChannelStatus(new ChannelStatus(ChannelFlag.FAILURE));
+
+        this.cache.update(requests);
+
+        final List<Request<ReadParams>> other = createReadRequests(2);
+        final List<Request<ReadParams>> misses = this.cache.fill(other, 0);
+
+        assertEquals(1, misses.size());
+        assertEquals(other.get(1), misses.get(0));
+        assertRecord(other.get(0).getRecord(), 100);
+    }
+
+    @Test
+    public void shouldNotOverwriteNotifiedValuesWithFallbackReads() {
+        final List<Request<ReadParams>> requests = createReadRequests(1);
+        this.cache.register(requests, this.options);
+
+        dispatch(0, 200);
+
+        final ChannelRecord record = requests.get(0).getRecord();
+        record.setValue(new IntegerValue(100));
+        record.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+
+        this.cache.update(requests);
+
+        final List<Request<ReadParams>> other = createReadRequests(1);
+        this.cache.fill(other, 0);
+
+        assertRecord(other.get(0).getRecord(), 200);
+    }
+
+    @Test
+    public void shouldServePreparedReadFromCache() throws Exception {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("request.timeout", 1);
+        properties.put("read.cache.enabled", true);
+
+        final OpcUaDriver driver = new OpcUaDriver();
+        TestUtil.setFieldValue(driver, "options", new OpcUaOptions(properties, mock(CryptoService.class)));
+        // never completes, a read that is not served from the cache fails with a timeout
+        TestUtil.setFieldValue(driver, "connectTask", Optional.of(new CompletableFuture<ConnectionManager>()));
+
+        final ListenerRegistrationRegistry driverRegistrations = (ListenerRegistrationRegistry) TestUtil
+                .getFieldValue(driver, "nodeListeneresRegistrations");
+
+        final List<ChannelRecord> records = createRecords(2);
+        final PreparedRead preparedRead = driver.prepareRead(records);
+
+        assertEquals(2, driverRegistrations.getItems().size());
+
+        for (final ListenParams params : driverRegistrations.getItems()) {
+            final int value = ((UInteger) params.getReadValueId().getNodeId().getIdentifier()).intValue();
+            driverRegistrations.getDispatcher(params).dispatch(r -> {
+                r.setValue(new IntegerValue(value));
+                r.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+            });
+        }
+
+        final List<ChannelRecord> result = preparedRead.execute();
+
+        for (int i = 0; i < result.size(); i++) {
+            assertRecord(result.get(i), i);
+        }
+
+        preparedRead.close();
+
+        assertTrue(driverRegistrations.isEmpty());
+    }
+
+    private void dispatch(final int node, final int value) {
+        final ReadParams params = createReadRequests(node + 1).get(node).getParameters();
+
+        for (final ListenParams listenParams : this.registrations.getItems()) {
+            if (listenParams.getReadValueId().getNodeId().equals(params.getReadValueId().getNodeId())) {
+                this.registrations.getDispatcher(listenParams).dispatch(r -> {
+                    r.setValue(new IntegerValue(value));
+                    r.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+                    r.setTimestamp(value);
+                });
+            }
+        }
+    }
+
+    private static void assertRecord(final ChannelRecord record, final int value) {
+        assertEquals(ChannelFlag.SUCCESS, record.getChannelStatus().getChannelFlag());
+        assertEquals(new IntegerValue(value), record.getValue());
+    }
+
+    private static List<Request<ReadParams>> createReadRequests(final int count) {
+        return Request.extractReadRequests(createRecords(count));
+    }
+
+    private static List<ChannelRecord> createRecords(final int count) {
+        final List<ChannelRecord> records = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            final ChannelRecord record = ChannelRecord.createReadRecord("ch" + i, DataType.INTEGER);
+            final Map<String, Object> channelConfig = new HashMap<>();
+            channelConfig.put("node.namespace.index", "1");
+            channelConfig.put("node.id.type", "NUMERIC");
+            channelConfig.put("opcua.type", "DEFINED_BY_JAVA_TYPE");
+            channelConfig.put("node.id", Integer.toString(i));
+            record.setChannelConfig(channelConfig);
+            records.add(record);
+        }
+
+        return records;
+    }
+}
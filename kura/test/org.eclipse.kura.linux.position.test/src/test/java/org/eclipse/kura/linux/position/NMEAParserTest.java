@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,12 +17,26 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.kura.linux.position.NMEAParser.ParseException;
+import org.eclipse.kura.position.GNSSType;
+import org.eclipse.kura.position.NmeaPosition;
 import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class NMEAParserTest {
 
+    private static final Logger logger = LoggerFactory.getLogger(NMEAParserTest.class);
+
     private static final double EPS = 0.000001;
+    private static final int REPLAY_COUNT = 2000;
 
     @Test
     public void testConvertPositionlat90S() {
@@ -290,4 +304,123 @@ public class NMEAParserTest {
         }
         fail("Exception expected");
     }
+
+    @Test
+    public void testParseSentenceCRLF() throws ParseException {
+        NMEAParser parser = new NMEAParser();
+
+        parser.parseSentence("$GPGGA,121041.000,4655.3772,N,01513.6390,E,1,06,1.7,478.3,M,44.7,M,,0000*5d\r\n");
+
+        assertTrue(parser.isValidPosition());
+        assertEquals(478.3, parser.getAltNmea(), EPS);
+    }
+
+    @Test
+    public void testParseSentenceGSV() throws ParseException {
+        NMEAParser parser = new NMEAParser();
+
+        parser.parseSentence("$GLGSV,2,2,06,88,10,170,,86,18,030,30*63\n");
+
+        assertTrue(parser.getGnssTypes().contains(GNSSType.GLONASS));
+    }
+
+    @Test
+    public void testParseSentenceReusesTime() throws ParseException {
+        NMEAParser parser = new NMEAParser();
+
+        parser.parseSentence("$GPGGA,121041.000,4655.3772,N,01513.6390,E,1,06,1.7,478.3,M,44.7,M,,0000*5d\n");
+        String time = parser.getTimeNmea();
+        parser.parseSentence("$GPGLL,4655.3772,N,01513.6390,E,121041.000,A,*16\n");
+
+        assertTrue(time == parser.getTimeNmea());
+    }
+
+    @Test
+    public void testMissingChecksum() {
+        NMEAParser parser = new NMEAParser();
+
+        try {
+            parser.parseSentence("$GNVTG,,,,,,,12.34,,,,\n");
+        } catch (ParseException e) {
+            assertEquals(NMEAParser.Code.BAD_CHECKSUM, e.getCode());
+            return;
+        }
+        fail("Exception expected");
+    }
+
+    @Test
+    public void testParseDoubleAsJdk() {
+        Random random = new Random(42);
+
+        String[] values = { "0", "0.0", "-0.0", "+1.5", "1.", ".5", "478.3", "4655.3772", "01513.6390", "319.55",
+                "0.000001", "123456789012345", "1234567890123456789", "1e3", "Infinity" };
+        for (String value : values) {
+            assertEquals(value, Double.parseDouble(value), NMEAParser.parseDouble("x" + value + "x", 1,
+                    value.length() + 1), 0.0);
+        }
+
+        for (int i = 0; i < 100000; i++) {
+            String value = random.nextInt(100000) + "." + random.nextInt(1000000);
+            assertEquals(value, Double.parseDouble(value), NMEAParser.parseDouble(value, 0, value.length()), 0.0);
+        }
+    }
+
+    @Test
+    public void testParseIntAsJdk() {
+        String[] values = { "0", "06", "-1", "+12", "2147483647", "-2147483648" };
+        for (String value : values) {
+            assertEquals(Integer.parseInt(value), NMEAParser.parseInt(value, 0, value.length()));
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseIntInvalid() {
+        NMEAParser.parseInt("1a", 0, 2);
+    }
+
+    @Test
+    public void testReplayLog() throws IOException, ParseException {
+        List<String> sentences = Files.readAllLines(Paths.get("src/test/resources", "nmea-log.txt"));
+        for (int i = 0; i < sentences.size(); i++) {
+            sentences.set(i, sentences.get(i) + "\n");
+        }
+
+        NMEAParser parser = new NMEAParser();
+
+        int validPositions = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REPLAY_COUNT; i++) {
+            for (String sentence : sentences) {
+                if (parser.parseSentence(sentence)) {
+                    validPositions++;
+                }
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        long parsed = (long) REPLAY_COUNT * sentences.size();
+
+        logger.info("Parsed {} sentences in {} ms, {} sentences/s", parsed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                parsed * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos));
+
+        assertEquals(parsed, validPositions);
+
+        NmeaPosition position = parser.getNmeaPosition();
+        assertEquals("121059.000", parser.getTimeNmea());
+        assertEquals("220517", parser.getDateNmea());
+        assertEquals(46 + 55.4421 / 60, position.getLatitude(), EPS);
+        assertEquals(15 + 13.7393 / 60, position.getLongitude(), EPS);
+        assertEquals(484.2, position.getAltitude(), EPS);
+        assertEquals(1.67 * 0.277777778, position.getSpeed(), EPS);
+        assertEquals(319.55, position.getTrack(), EPS);
+        assertEquals(12, position.getNrSatellites());
+        assertEquals(3, position.get3Dfix());
+        assertEquals(1.3, position.getVDOP(), EPS);
+        assertEquals('A', position.getValidFix());
+        assertEquals('N', position.getLatitudeHemisphere());
+        assertEquals('E', position.getLongitudeHemisphere());
+        assertTrue(parser.getGnssTypes().contains(GNSSType.GPS));
+        assertTrue(parser.getGnssTypes().contains(GNSSType.GLONASS));
+    }
 }
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.protocol.can;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class CanConnectionServiceImplTest {
+
+    private final StubCanFrameSource source = new StubCanFrameSource();
+    private final CanConnectionServiceImpl service = new CanConnectionServiceImpl(() -> this.source);
+
+    @After
+    public void tearDown() {
+        this.service.deactivate();
+    }
+
+    @Test
+    public void shouldDeliverFramesMatchingListenerFilters() throws IOException, InterruptedException {
+        final RecordingListener first = new RecordingListener(2);
+        final RecordingListener second = new RecordingListener(1);
+
+        this.service.registerCanFrameListener(first, Collections.singletonList(new CanFilter(0x100, 0x7F0)));
+        this.service.registerCanFrameListener(second, Collections.singletonList(new CanFilter(0x200, 0x7FF)));
+
+        this.source.push(0x101, new byte[] { 1 });
+        this.source.push(0x200, new byte[] { 2 });
+        this.source.push(0x300, new byte[] { 3 });
+        this.source.push(0x10F, new byte[] { 4 });
+
+        assertTrue(first.await());
+        assertTrue(second.await());
+
+        assertEquals(Arrays.asList(0x101, 0x10F), first.getIds());
+        assertArrayEquals(new byte[] { 4 }, first.getData().get(1));
+        assertEquals(Collections.singletonList(0x200), second.getIds());
+    }
+
+    @Test
+    public void shouldDeliverAllFramesWithEmptyFilterList() throws IOException, InterruptedException {
+        final RecordingListener listener = new RecordingListener(3);
+
+        this.service.registerCanFrameListener(listener, Collections.emptyList());
+
+        this.source.push(0x1, new byte[] {});
+        this.source.push(0x2, new byte[] {});
+        this.source.push(0x3, new byte[] {});
+
+        assertTrue(listener.await());
+        assertEquals(Arrays.asList(0x1, 0x2, 0x3), listener.getIds());
+        assertEquals(0, this.source.mask);
+    }
+
+    @Test
+    public void shouldSetTightestSocketFilter() throws IOException {
+        this.service.registerCanFrameListener(frames -> {
+        }, Arrays.asList(new CanFilter(0x100, 0x7FF), new CanFilter(0x101, 0x7FF)));
+
+        assertEquals(0x100, this.source.canId);
+        assertEquals(0x7FE, this.source.mask);
+    }
+
+    @Test
+    public void shouldCloseSourceWhenLastListenerIsRemoved() throws IOException {
+        final CanFrameListener listener = frames -> {
+        };
+
+        this.service.registerCanFrameListener(listener, Collections.emptyList());
+        this.service.unregisterCanFrameListener(listener);
+
+        assertTrue(this.source.closed);
+    }
+
+    @Test
+    public void shouldComputeSocketFilter() {
+        assertEquals(new CanFilter(0, 0), CanConnectionServiceImpl.computeSocketFilter(Collections.emptyList()));
+        assertEquals(new CanFilter(0x200, 0x7FF),
+                CanConnectionServiceImpl.computeSocketFilter(Collections.singletonList(new CanFilter(0x200, 0x7FF))));
+        assertEquals(new CanFilter(0x0, 0x4FF), CanConnectionServiceImpl
+                .computeSocketFilter(Arrays.asList(new CanFilter(0x100, 0x7FF), new CanFilter(0x200, 0x7FF))));
+    }
+
+    private static class RecordingListener implements CanFrameListener {
+
+        private final CountDownLatch latch;
+        private final List<Integer> ids = Collections.synchronizedList(new ArrayList<>());
+        private final List<byte[]> data = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingListener(final int expectedFrames) {
+            this.latch = new CountDownLatch(expectedFrames);
+        }
+
+        @Override
+        public void onCanFrames(List<CanMessage> frames) {
+            for (final CanMessage frame : frames) {
+                assertTrue(frame.getTimestamp() > 0);
+                this.ids.add(frame.getCanId());
+                this.data.add(frame.getData().clone());
+                this.latch.countDown();
+            }
+        }
+
+        boolean await() throws InterruptedException {
+            return this.latch.await(5, TimeUnit.SECONDS);
+        }
+
+        List<Integer> getIds() {
+            return this.ids;
+        }
+
+        List<byte[]> getData() {
+            return this.data;
+        }
+    }
+
+    private static class StubCanFrameSource implements CanFrameSource {
+
+        private final BlockingQueue<CanMessage> frames = new LinkedBlockingQueue<>();
+        private volatile int canId;
+        private volatile int mask;
+        private volatile boolean closed;
+
+        void push(final int id, final byte[] data) {
+            final CanMessage message = new CanMessage();
+            message.setCanId(id);
+            message.setData(data);
+            this.frames.add(message);
+        }
+
+        @Override
+        public void receive(CanMessage target) throws IOException {
+            CanMessage next;
+            try {
+                do {
+                    if (this.closed) {
+                        throw new IOException("closed");
+                    }
+                    next = this.frames.poll(100, TimeUnit.MILLISECONDS);
+                } while (next == null || (next.getCanId() & this.mask) != (this.canId & this.mask));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            target.setCanId(next.getCanId());
+            target.setData(next.getData());
+            target.setTimestamp(System.currentTimeMillis());
+        }
+
+        @Override
+        public void setFilter(int canId, int canMask) {
+            this.canId = canId;
+            this.mask = canMask;
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+}
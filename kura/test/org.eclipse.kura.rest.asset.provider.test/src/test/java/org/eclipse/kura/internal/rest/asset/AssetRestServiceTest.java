@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,19 +19,23 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
 
 import javax.ws.rs.WebApplicationException;
 
@@ -44,11 +48,15 @@ import org.eclipse.kura.channel.ChannelFlag;
 import org.eclipse.kura.channel.ChannelRecord;
 import org.eclipse.kura.channel.ChannelStatus;
 import org.eclipse.kura.channel.ChannelType;
+import org.eclipse.kura.channel.listener.ChannelEvent;
+import org.eclipse.kura.channel.listener.ChannelListener;
 import org.eclipse.kura.core.testutil.TestUtil;
 import org.eclipse.kura.type.DataType;
 import org.eclipse.kura.type.TypedValue;
 import org.eclipse.kura.type.TypedValues;
+import org.glassfish.jersey.server.ChunkedOutput;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.ServiceReference;
 
@@ -392,4 +400,66 @@ public class AssetRestServiceTest {
         assertFalse(req.isValid());
     }
 
+    @Test
+    public void testSubscribeUnknownChannel() {
+        // test subscription to a channel not defined in the asset
+
+        AssetRestService svc = new AssetRestService();
+
+        String pid = "pid1";
+
+        AssetService asMock = mock(AssetService.class);
+        svc.setAssetService(asMock);
+
+        Asset asset = mock(Asset.class);
+        when(asMock.getAsset(pid)).thenReturn(asset);
+
+        Map<String, Channel> channels = new TreeMap<>();
+        channels.put("ch1", new Channel("ch1", ChannelType.READ, DataType.INTEGER, new HashMap<>()));
+        when(asset.getAssetConfiguration()).thenReturn(new AssetConfiguration("description", "driverPid", channels));
+
+        try {
+            svc.subscribe(pid, Arrays.asList("ch1", "ch2"), true, 0);
+            fail("Expected an exception.");
+        } catch (WebApplicationException e) {
+            assertEquals(400, e.getResponse().getStatus());
+        }
+    }
+
+    @Test
+    public void testSubscribeStreamsEvents() throws Exception {
+        // test that channel events are written to the chunked output as Server-Sent Events
+
+        AssetRestService svc = new AssetRestService();
+
+        ChannelSubscriptionManager manager = new ChannelSubscriptionManager(mock(ScheduledExecutorService.class),
+                Runnable::run);
+        Asset asset = mock(Asset.class);
+        Map<String, ChannelListener> listeners = new HashMap<>();
+        doAnswer(invocation -> {
+            listeners.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(asset).registerChannelListener(any(), any());
+
+        @SuppressWarnings("unchecked")
+        ChunkedOutput<String> output = mock(ChunkedOutput.class);
+
+        ChannelSubscription subscription = manager.subscribe("pid1", asset, Collections.singleton("ch1"), true, 0,
+                svc.newEventSink(output));
+
+        ChannelRecord record = ChannelRecord.createReadRecord("ch1", DataType.INTEGER);
+        record.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+        record.setValue(TypedValues.newIntegerValue(1));
+        listeners.get("ch1").onChannelEvent(new ChannelEvent(record));
+
+        subscription.close();
+
+        InOrder inOrder = inOrder(output);
+        inOrder.verify(output).write(": keepalive\n\n");
+        inOrder.verify(output).write("data: [{\"channelStatus\":{\"channelFlag\":\"SUCCESS\"},\"name\":\"ch1\","
+                + "\"valueType\":\"INTEGER\",\"value\":1,\"timestamp\":0,\"unit\":\"\"}]\n\n");
+        inOrder.verify(output).close();
+        assertEquals(0, manager.getHubCount());
+    }
+
 }
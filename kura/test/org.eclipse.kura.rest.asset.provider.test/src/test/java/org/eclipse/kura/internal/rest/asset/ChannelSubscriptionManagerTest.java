@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.rest.asset;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.asset.Asset;
+import org.eclipse.kura.channel.ChannelFlag;
+import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.channel.ChannelStatus;
+import org.eclipse.kura.channel.listener.ChannelEvent;
+import org.eclipse.kura.channel.listener.ChannelListener;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValues;
+import org.junit.Test;
+
+public class ChannelSubscriptionManagerTest {
+
+    private final Asset asset = mock(Asset.class);
+    private final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    private final ScheduledFuture<?> future = mock(ScheduledFuture.class);
+    private final Map<String, ChannelListener> listeners = new HashMap<>();
+    private final List<Runnable> pollTasks = new ArrayList<>();
+    private final List<Runnable> keepaliveTasks = new ArrayList<>();
+    private final List<Runnable> delayedTasks = new ArrayList<>();
+    private final List<Long> delays = new ArrayList<>();
+    private final Deque<Runnable> writerTasks = new ArrayDeque<>();
+    private final Executor writer = this.writerTasks::add;
+    private final ChannelSubscriptionManager manager;
+
+    public ChannelSubscriptionManagerTest() throws KuraException {
+        doReturn(this.future).when(this.executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+
+        doAnswer(invocation -> {
+            this.delayedTasks.add(invocation.getArgument(0));
+            this.delays.add(invocation.getArgument(1));
+            return this.future;
+        }).when(this.executor).schedule(any(Runnable.class), anyLong(), any());
+
+        doAnswer(invocation -> {
+            this.listeners.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(this.asset).registerChannelListener(any(), any());
+
+        this.manager = new ChannelSubscriptionManager(this.executor, this.writer);
+    }
+
+    @Test
+    public void shouldShareChannelListenersAmongClients() throws Exception {
+        final RecordingSink first = new RecordingSink();
+        final RecordingSink second = new RecordingSink();
+
+        this.manager.subscribe("asset", this.asset, channels("a", "b"), true, 0, first);
+        this.manager.subscribe("asset", this.asset, channels("b"), true, 0, second);
+        runWriterTasks();
+
+        verify(this.asset, times(1)).registerChannelListener(eq("a"), any());
+        verify(this.asset, times(1)).registerChannelListener(eq("b"), any());
+
+        this.listeners.get("b").onChannelEvent(new ChannelEvent(record("b", 1)));
+        runWriterTasks();
+
+        assertEquals(1, first.nextRecords().size());
+        assertEquals(1, second.nextRecords().size());
+    }
+
+    @Test
+    public void shouldSendKeepaliveOnSubscribe() throws Exception {
+        final RecordingSink sink = new RecordingSink();
+
+        this.manager.subscribe("asset", this.asset, channels("a"), true, 0, sink);
+        runWriterTasks();
+
+        assertEquals(Arrays.asList("keepalive"), sink.events);
+    }
+
+    @Test
+    public void shouldSendPeriodicKeepalives() throws Exception {
+        captureScheduledTasks();
+
+        final RecordingSink sink = new RecordingSink();
+
+        this.manager.subscribe("asset", this.asset, channels("a"), true, 0, sink);
+        runWriterTasks();
+
+        verify(this.executor).scheduleWithFixedDelay(any(), eq(ChannelSubscription.KEEPALIVE_INTERVAL_MS),
+                eq(ChannelSubscription.KEEPALIVE_INTERVAL_MS), eq(TimeUnit.MILLISECONDS));
+
+        this.keepaliveTasks.get(0).run();
+        runWriterTasks();
+
+        assertEquals(Arrays.asList("keepalive", "keepalive"), sink.events);
+    }
+
+    @Test
+    public void shouldNotHoldThreadsWhileWaitingForUpdates() throws Exception {
+        this.manager.subscribe("asset", this.asset, channels("a"), true, 0, new RecordingSink());
+        runWriterTasks();
+
+        assertTrue(this.writerTasks.isEmpty());
+    }
+
+    @Test
+    public void shouldUnregisterListenersWhenLastClientLeaves() throws Exception {
+        final ChannelSubscription first = this.manager.subscribe("asset", this.asset, channels("a"), true, 0,
+                new RecordingSink());
+        final ChannelSubscription second = this.manager.subscribe("asset", this.asset, channels("a"), true, 0,
+                new RecordingSink());
+
+        first.close();
+
+        verify(this.asset, times(0)).unregisterChannelListener(any());
+
+        second.close();
+
+        verify(this.asset, times(1)).unregisterChannelListener(this.listeners.get("a"));
+        assertEquals(0, this.manager.getHubCount());
+    }
+
+    @Test
+    public void shouldCloseSubscriptionWhenClientGoesAway() throws Exception {
+        final RecordingSink sink = new RecordingSink();
+
+        final ChannelSubscription subscription = this.manager.subscribe("asset", this.asset, channels("a"), true, 0,
+                sink);
+        runWriterTasks();
+
+        sink.failure = new IOException("test");
+        this.listeners.get("a").onChannelEvent(new ChannelEvent(record("a", 1)));
+        runWriterTasks();
+
+        assertTrue(subscription.isClosed());
+        assertTrue(sink.closed);
+        verify(this.asset, times(1)).unregisterChannelListener(any());
+        assertEquals(0, this.manager.getHubCount());
+    }
+
+    @Test
+    public void shouldFanOutOneReadToAllClients() throws Exception {
+        captureScheduledTasks();
+
+        final RecordingSink first = new RecordingSink();
+        final RecordingSink second = new RecordingSink();
+
+        this.manager.subscribe("asset", this.asset, channels("a"), false, 1000, first);
+        this.manager.subscribe("asset", this.asset, channels("a", "b"), false, 500, second);
+        runWriterTasks();
+
+        final Runnable pollTask = this.pollTasks.get(this.pollTasks.size() - 1);
+
+        verify(this.executor).scheduleWithFixedDelay(any(), eq(0L), eq(500L), eq(TimeUnit.MILLISECONDS));
+        verify(this.future, times(1)).cancel(false);
+
+        when(this.asset.read(channels("a", "b"))).thenReturn(Arrays.asList(record("a", 1), record("b", 2)));
+
+        pollTask.run();
+        runWriterTasks();
+
+        verify(this.asset, times(1)).read(any());
+        assertEquals(1, first.nextRecords().size());
+        assertEquals(2, second.nextRecords().size());
+    }
+
+    @Test
+    public void shouldStopReadingWhenNoClientPolls() {
+        final ChannelSubscription subscription = this.manager.subscribe("asset", this.asset, channels("a"), false,
+                1000, new RecordingSink());
+
+        subscription.close();
+
+        // the read and the keepalive timer
+        verify(this.future, times(2)).cancel(false);
+    }
+
+    @Test
+    public void shouldConflateUpdatesForSlowClients() throws Exception {
+        final RecordingSink sink = new RecordingSink();
+
+        final ChannelSubscription subscription = this.manager.subscribe("asset", this.asset, channels("a", "b"),
+                true, 0, sink);
+        runWriterTasks();
+
+        final ChannelListener listenerA = this.listeners.get("a");
+        final ChannelListener listenerB = this.listeners.get("b");
+
+        // the client is still busy with the first update
+        listenerA.onChannelEvent(new ChannelEvent(record("a", 0)));
+
+        for (int i = 1; i < 10; i++) {
+            listenerA.onChannelEvent(new ChannelEvent(record("a", i)));
+        }
+        listenerB.onChannelEvent(new ChannelEvent(record("b", 100)));
+
+        assertEquals(1, this.writerTasks.size());
+        runWriterTasks();
+
+        final List<ChannelRecord> records = sink.nextRecords();
+
+        assertEquals(2, records.size());
+        assertEquals(9, records.get(0).getValue().getValue());
+        assertEquals(100, records.get(1).getValue().getValue());
+        assertEquals(9, subscription.getConflatedCount());
+        assertTrue(sink.records.isEmpty());
+    }
+
+    @Test
+    public void shouldSpaceDeliveriesByInterval() throws Exception {
+        final RecordingSink sink = new RecordingSink();
+
+        this.manager.subscribe("asset", this.asset, channels("a"), true, 1000, sink);
+        runWriterTasks();
+
+        this.listeners.get("a").onChannelEvent(new ChannelEvent(record("a", 1)));
+        runWriterTasks();
+        this.listeners.get("a").onChannelEvent(new ChannelEvent(record("a", 2)));
+        runWriterTasks();
+
+        assertEquals(1, sink.records.size());
+        assertEquals(1, this.delays.size());
+        assertTrue(this.delays.get(0) > 0 && this.delays.get(0) <= 1000);
+
+        this.delayedTasks.get(0).run();
+        runWriterTasks();
+
+        assertEquals(2, sink.records.size());
+        assertEquals(2, sink.records.get(1).get(0).getValue().getValue());
+    }
+
+    @Test
+    public void shouldOnlyDeliverSubscribedChannels() throws Exception {
+        captureScheduledTasks();
+
+        final RecordingSink sink = new RecordingSink();
+
+        this.manager.subscribe("asset", this.asset, channels("b"), false, 1000, sink);
+        this.manager.subscribe("asset", this.asset, channels("a"), false, 1000, new RecordingSink());
+        runWriterTasks();
+
+        when(this.asset.read(any())).thenReturn(Arrays.asList(record("a", 1), record("b", 2)));
+
+        this.pollTasks.get(this.pollTasks.size() - 1).run();
+        runWriterTasks();
+
+        final List<ChannelRecord> records = sink.nextRecords();
+
+        assertEquals(1, records.size());
+        assertEquals("b", records.get(0).getChannelName());
+    }
+
+    @Test
+    public void shouldCloseSubscriptionsOnClose() throws Exception {
+        final RecordingSink sink = new RecordingSink();
+
+        final ChannelSubscription subscription = this.manager.subscribe("asset", this.asset, channels("a"), true, 0,
+                sink);
+
+        this.manager.close();
+        runWriterTasks();
+
+        assertTrue(subscription.isClosed());
+        assertTrue(sink.closed);
+        assertTrue(sink.events.isEmpty());
+        verify(this.executor).shutdownNow();
+    }
+
+    private void runWriterTasks() {
+        Runnable task;
+
+        while ((task = this.writerTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void captureScheduledTasks() {
+        doAnswer(invocation -> {
+            if ((long) invocation.getArgument(2) == ChannelSubscription.KEEPALIVE_INTERVAL_MS) {
+                this.keepaliveTasks.add(invocation.getArgument(0));
+            } else {
+                this.pollTasks.add(invocation.getArgument(0));
+            }
+            return this.future;
+        }).when(this.executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    private static Set<String> channels(final String... names) {
+        return new HashSet<>(Arrays.asList(names));
+    }
+
+    private static ChannelRecord record(final String channelName, final int value) {
+        final ChannelRecord result = ChannelRecord.createReadRecord(channelName, DataType.INTEGER);
+        result.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+        result.setValue(TypedValues.newIntegerValue(value));
+        return result;
+    }
+
+    private static class RecordingSink implements ChannelSubscription.EventSink {
+
+        private final List<String> events = new ArrayList<>();
+        private final List<List<ChannelRecord>> records = new ArrayList<>();
+        private IOException failure;
+        private boolean closed;
+
+        @Override
+        public void send(final List<ChannelRecord> channelRecords) throws IOException {
+            if (this.failure != null) {
+                throw this.failure;
+            }
+            this.events.add("records");
+            this.records.add(channelRecords);
+        }
+
+        @Override
+        public void sendKeepalive() throws IOException {
+            if (this.failure != null) {
+                throw this.failure;
+            }
+            this.events.add("keepalive");
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+
+        List<ChannelRecord> nextRecords() {
+            return this.records.remove(0);
+        }
+    }
+}
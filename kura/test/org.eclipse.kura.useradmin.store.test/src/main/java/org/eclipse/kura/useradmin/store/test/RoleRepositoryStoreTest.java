@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,22 @@
 package org.eclipse.kura.useradmin.store.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
 
@@ -34,9 +43,18 @@ import org.osgi.service.useradmin.Group;
 import org.osgi.service.useradmin.Role;
 import org.osgi.service.useradmin.User;
 import org.osgi.service.useradmin.UserAdmin;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class RoleRepositoryStoreTest {
 
+    private static final Logger logger = LoggerFactory.getLogger(RoleRepositoryStoreTest.class);
+
+    private static final int READER_COUNT = 4;
+    private static final int WRITER_COUNT = 2;
+    private static final int READS_PER_READER = 100_000;
+    private static final int STABLE_USER_COUNT = 50;
+
     private final UserAdmin userAdmin;
     private final ConfigurationService configurationService;
 
@@ -193,6 +211,90 @@ public class RoleRepositoryStoreTest {
         }, k -> "[{\"name\":\"baz\"},{\"name\":\"group\",\"requiredMembers\":[\"bar\",\"foo\"]}]", Role.GROUP);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldServeReadsWhileRolesAreModified() throws Exception {
+        for (int i = 0; i < STABLE_USER_COUNT; i++) {
+            final Role user = userAdmin.createRole("reader" + i, Role.USER);
+            user.getProperties().put("kind", "reader");
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT + WRITER_COUNT);
+        final AtomicBoolean readersDone = new AtomicBoolean();
+
+        try {
+            final List<Future<?>> writers = new ArrayList<>();
+
+            for (int w = 0; w < WRITER_COUNT; w++) {
+                final String prefix = "writer" + w + "-";
+
+                writers.add(executor.submit(() -> {
+                    int i = 0;
+                    while (!readersDone.get()) {
+                        final String name = prefix + i++ % 10;
+
+                        if (userAdmin.getRole(name) == null) {
+                            userAdmin.createRole(name, Role.USER);
+                        } else {
+                            userAdmin.removeRole(name);
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            final List<Future<long[]>> readers = new ArrayList<>();
+
+            for (int r = 0; r < READER_COUNT; r++) {
+                readers.add(executor.submit(() -> {
+                    final long[] latencies = new long[READS_PER_READER];
+
+                    for (int i = 0; i < READS_PER_READER; i++) {
+                        final String name = "reader" + ThreadLocalRandom.current().nextInt(STABLE_USER_COUNT);
+
+                        final long start = System.nanoTime();
+                        final Role role = userAdmin.getRole(name);
+                        final Role[] matching = i % 100 == 0 ? userAdmin.getRoles("(kind=reader)") : null;
+                        latencies[i] = System.nanoTime() - start;
+
+                        assertNotNull(role);
+                        if (matching != null) {
+                            assertEquals(STABLE_USER_COUNT, matching.length);
+                        }
+                    }
+
+                    return latencies;
+                }));
+            }
+
+            final long[] latencies = new long[READER_COUNT * READS_PER_READER];
+
+            for (int r = 0; r < READER_COUNT; r++) {
+                System.arraycopy(readers.get(r).get(60, TimeUnit.SECONDS), 0, latencies, r * READS_PER_READER,
+                        READS_PER_READER);
+            }
+
+            readersDone.set(true);
+
+            for (final Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+
+            Arrays.sort(latencies);
+
+            logger.info("Role read latency with {} concurrent writers: p50 {} ns, p99 {} ns, p99.9 {} ns, max {} ns",
+                    WRITER_COUNT, percentile(latencies, 0.5), percentile(latencies, 0.99),
+                    percentile(latencies, 0.999), latencies[latencies.length - 1]);
+        } finally {
+            readersDone.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    private static long percentile(final long[] sortedValues, final double percentile) {
+        return sortedValues[(int) Math.min(sortedValues.length - 1, Math.round(percentile * sortedValues.length))];
+    }
+
     private void testRoleKindConfig(final IntConsumer setup, final Function<Integer, String> expectedConfig,
             final int... kinds)
             throws KuraException, InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException {
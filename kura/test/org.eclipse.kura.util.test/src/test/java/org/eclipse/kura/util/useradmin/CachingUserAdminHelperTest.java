@@ -0,0 +1,472 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.util.useradmin;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.kura.crypto.CryptoService;
+import org.eclipse.kura.util.useradmin.UserAdminHelper.AuthenticationException;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.service.useradmin.Authorization;
+import org.osgi.service.useradmin.Group;
+import org.osgi.service.useradmin.Role;
+import org.osgi.service.useradmin.User;
+import org.osgi.service.useradmin.UserAdmin;
+import org.osgi.service.useradmin.UserAdminEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CachingUserAdminHelperTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingUserAdminHelperTest.class);
+
+    private static final int BENCHMARK_REQUESTS = 100_000;
+
+    private final TestUserAdmin userAdmin = new TestUserAdmin();
+    private final CryptoService cryptoService = mock(CryptoService.class);
+
+    private CachingUserAdminHelper helper;
+
+    @Before
+    public void setUp() throws Exception {
+        when(this.cryptoService.sha256Hash(anyString())).thenAnswer(i -> sha256(i.getArgument(0)));
+
+        final UserAdminHelper setupHelper = new UserAdminHelper(this.userAdmin, this.cryptoService);
+
+        createUser(setupHelper, "operator", "operatorPassword", "rest.assets", "rest.wires.admin");
+        createUser(setupHelper, "admin", "adminPassword", "kura.admin");
+
+        this.helper = new CachingUserAdminHelper(this.userAdmin, this.cryptoService);
+
+        clearInvocations(this.cryptoService);
+    }
+
+    @Test
+    public void shouldVerifyPassword() throws Exception {
+        this.helper.verifyUsernamePassword("operator", "operatorPassword");
+
+        assertAuthenticationFails("operator", "wrongPassword", AuthenticationException.Reason.INCORRECT_PASSWORD);
+        assertAuthenticationFails("unknown", "operatorPassword", AuthenticationException.Reason.USER_NOT_FOUND);
+    }
+
+    @Test
+    public void shouldNotLookUpCachedCredentials() throws Exception {
+        this.helper.verifyUsernamePassword("operator", "operatorPassword");
+
+        final int lookups = this.userAdmin.lookups;
+
+        this.helper.verifyUsernamePassword("operator", "operatorPassword");
+        this.helper.verifyUsernamePassword("operator", "operatorPassword");
+
+        assertEquals(lookups, this.userAdmin.lookups);
+        // the presented password is hashed for every request, as without the cache
+        verify(this.cryptoService, times(3)).sha256Hash("operatorPassword");
+    }
+
+    @Test
+    public void shouldRejectWrongPasswordAfterCachedSuccess() throws Exception {
+        this.helper.verifyUsernamePassword("operator", "operatorPassword");
+
+        assertAuthenticationFails("operator", "operatorPassword2", AuthenticationException.Reason.INCORRECT_PASSWORD);
+    }
+
+    @Test
+    public void shouldRejectOldPasswordAfterRoleChange() throws Exception {
+        this.helper.verifyUsernamePassword("operator", "operatorPassword");
+
+        putPassword("operator", "newPassword");
+        this.helper.roleChanged(event(this.userAdmin.getRole("kura.user.operator")));
+
+        assertAuthenticationFails("operator", "operatorPassword", AuthenticationException.Reason.INCORRECT_PASSWORD);
+        this.helper.verifyUsernamePassword("operator", "newPassword");
+    }
+
+    @Test
+    public void shouldInvalidateOnPasswordChange() throws Exception {
+        this.helper.verifyUsernamePassword("operator", "operatorPassword");
+
+        this.helper.changeUserPassword("operator", "newPassword");
+
+        assertAuthenticationFails("operator", "operatorPassword", AuthenticationException.Reason.INCORRECT_PASSWORD);
+        this.helper.verifyUsernamePassword("operator", "newPassword");
+    }
+
+    @Test
+    public void shouldCheckPermissions() throws Exception {
+        this.helper.requirePermissions("operator", "rest.assets");
+        this.helper.requirePermissions("operator", "rest.assets", "rest.wires.admin");
+        this.helper.requirePermissions("admin", "rest.assets", "rest.network.configuration");
+
+        assertPermissionFails("operator", AuthenticationException.Reason.USER_NOT_IN_ROLE, "rest.assets",
+                "rest.network.configuration");
+        assertPermissionFails("unknown", AuthenticationException.Reason.USER_NOT_FOUND, "rest.assets");
+    }
+
+    @Test
+    public void shouldRevokePermissionAfterRoleChange() throws Exception {
+        this.helper.requirePermissions("operator", "rest.assets");
+
+        final Group group = (Group) this.userAdmin.getRole("kura.permission.rest.assets");
+        group.removeMember(this.userAdmin.getRole("kura.user.operator"));
+
+        this.helper.requirePermissions("operator", "rest.assets");
+
+        this.helper.roleChanged(event(group));
+
+        assertPermissionFails("operator", AuthenticationException.Reason.USER_NOT_IN_ROLE, "rest.assets");
+    }
+
+    @Test
+    public void shouldRevokePermissionOnPermissionDelete() throws Exception {
+        this.helper.requirePermissions("operator", "rest.wires.admin");
+
+        this.helper.deletePremission("rest.wires.admin");
+
+        assertPermissionFails("operator", AuthenticationException.Reason.USER_NOT_IN_ROLE, "rest.wires.admin");
+    }
+
+    @Test
+    public void shouldForgetDeletedUser() throws Exception {
+        this.helper.verifyUsernamePassword("operator", "operatorPassword");
+
+        this.helper.deleteUser("operator");
+
+        assertAuthenticationFails("operator", "operatorPassword", AuthenticationException.Reason.USER_NOT_FOUND);
+    }
+
+    @Test
+    public void shouldCachePasswordChangeRequired() {
+        final User user = (User) this.userAdmin.getRole("kura.user.operator");
+        putProperty(user, "kura.need.password.change", "true");
+
+        assertTrue(this.helper.isPasswordChangeRequired("operator"));
+        assertFalse(this.helper.isPasswordChangeRequired("admin"));
+        assertFalse(this.helper.isPasswordChangeRequired("unknown"));
+
+        user.getProperties().remove("kura.need.password.change");
+        assertTrue(this.helper.isPasswordChangeRequired("operator"));
+
+        this.helper.invalidate();
+        assertFalse(this.helper.isPasswordChangeRequired("operator"));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedIdentity() throws Exception {
+        final CachingUserAdminHelper boundedHelper = new CachingUserAdminHelper(this.userAdmin, this.cryptoService,
+                1, CachingUserAdminHelper.DEFAULT_TIME_TO_LIVE_MS);
+
+        this.userAdmin.lookups = 0;
+        boundedHelper.verifyUsernamePassword("operator", "operatorPassword");
+
+        final int lookups = this.userAdmin.lookups;
+
+        boundedHelper.verifyUsernamePassword("operator", "operatorPassword");
+        assertEquals(lookups, this.userAdmin.lookups);
+
+        boundedHelper.verifyUsernamePassword("admin", "adminPassword");
+        this.userAdmin.lookups = 0;
+        boundedHelper.verifyUsernamePassword("operator", "operatorPassword");
+
+        assertEquals(lookups, this.userAdmin.lookups);
+    }
+
+    @Test
+    public void shouldExpireEntries() throws Exception {
+        final AtomicLong nanoTime = new AtomicLong();
+        final CachingUserAdminHelper expiringHelper = new CachingUserAdminHelper(this.userAdmin, this.cryptoService,
+                CachingUserAdminHelper.DEFAULT_MAX_ENTRIES, 50, nanoTime::get);
+
+        this.userAdmin.lookups = 0;
+        expiringHelper.verifyUsernamePassword("operator", "operatorPassword");
+
+        final int lookups = this.userAdmin.lookups;
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(49));
+        expiringHelper.verifyUsernamePassword("operator", "operatorPassword");
+        assertEquals(lookups, this.userAdmin.lookups);
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+
+        this.userAdmin.lookups = 0;
+        expiringHelper.verifyUsernamePassword("operator", "operatorPassword");
+        assertEquals(lookups, this.userAdmin.lookups);
+    }
+
+    @Test
+    public void shouldLookUpEachIdentityOnceForRepeatedRequests() throws Exception {
+        createUsers(20);
+
+        clearInvocations(this.cryptoService);
+
+        performRequests(new UserAdminHelper(this.userAdmin, this.cryptoService), 1000);
+        verify(this.cryptoService, times(1000)).sha256Hash(anyString());
+
+        clearInvocations(this.cryptoService);
+
+        performRequests(this.helper, 20);
+
+        final int lookups = this.userAdmin.lookups;
+
+        performRequests(this.helper, 980);
+
+        assertEquals(lookups, this.userAdmin.lookups);
+        verify(this.cryptoService, times(1000)).sha256Hash(anyString());
+    }
+
+    @Test
+    public void logAuthenticatedRequestsPerSecond() throws Exception {
+        final UserAdminHelper setupHelper = new UserAdminHelper(this.userAdmin, this.cryptoService);
+
+        for (int i = 0; i < 30; i++) {
+            setupHelper.getOrCreatePermission("rest.permission" + i);
+        }
+
+        createUsers(20);
+
+        final double uncached = measureRequestsPerSecond(new UserAdminHelper(this.userAdmin, this.cryptoService));
+        final double cached = measureRequestsPerSecond(this.helper);
+
+        logger.info("Authenticated requests/s: {} without cache, {} with cache", Math.round(uncached),
+                Math.round(cached));
+    }
+
+    private static double measureRequestsPerSecond(final UserAdminHelper helper) throws Exception {
+        // warm up
+        performRequests(helper, BENCHMARK_REQUESTS / 10);
+
+        final long start = System.nanoTime();
+        performRequests(helper, BENCHMARK_REQUESTS);
+        final long elapsedNanos = System.nanoTime() - start;
+
+        return BENCHMARK_REQUESTS * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    private static void performRequests(final UserAdminHelper helper, final int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            final int user = i % 20;
+
+            // the checks performed by BasicAuthenticationProvider and RestService for each request
+            assertFalse(helper.isPasswordChangeRequired("user" + user));
+            helper.verifyUsernamePassword("user" + user, "password" + user);
+            helper.requirePermissions("user" + user, "rest.assets");
+        }
+    }
+
+    private void assertAuthenticationFails(final String username, final String password,
+            final AuthenticationException.Reason reason) {
+        try {
+            this.helper.verifyUsernamePassword(username, password);
+            fail("authentication should fail");
+        } catch (final AuthenticationException e) {
+            assertEquals(reason, e.getReason());
+        }
+    }
+
+    private void assertPermissionFails(final String username, final AuthenticationException.Reason reason,
+            final String... permissions) {
+        try {
+            this.helper.requirePermissions(username, permissions);
+            fail("permission check should fail");
+        } catch (final AuthenticationException e) {
+            assertEquals(reason, e.getReason());
+        }
+    }
+
+    private void createUsers(final int count) throws Exception {
+        final UserAdminHelper setupHelper = new UserAdminHelper(this.userAdmin, this.cryptoService);
+
+        for (int i = 0; i < count; i++) {
+            createUser(setupHelper, "user" + i, "password" + i, "rest.assets", "rest.permission" + i);
+        }
+    }
+
+    private void createUser(final UserAdminHelper setupHelper, final String name, final String password,
+            final String... permissions) throws Exception {
+        final User user = setupHelper.getOrCreateUser(name);
+        putPassword(name, password);
+
+        for (final String permission : permissions) {
+            setupHelper.getOrCreatePermission(permission).addMember(user);
+        }
+    }
+
+    private void putPassword(final String name, final String password) throws Exception {
+        final User user = (User) this.userAdmin.getRole("kura.user." + name);
+
+        putCredential(user, "kura.password", this.cryptoService.sha256Hash(password));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void putCredential(final User user, final String key, final String value) {
+        ((Dictionary<String, Object>) (Dictionary<?, ?>) user.getCredentials()).put(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void putProperty(final User user, final String key, final String value) {
+        ((Dictionary<String, Object>) (Dictionary<?, ?>) user.getProperties()).put(key, value);
+    }
+
+    private static String sha256(final String value) throws NoSuchAlgorithmException {
+        final byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private static UserAdminEvent event(final Role role) {
+        return new UserAdminEvent(null, UserAdminEvent.ROLE_CHANGED, role);
+    }
+
+    private static class TestUserAdmin implements UserAdmin {
+
+        private final Map<String, Role> roles = new TreeMap<>();
+        private int lookups;
+
+        @Override
+        public Role createRole(final String name, final int type) {
+            if (this.roles.containsKey(name)) {
+                return null;
+            }
+
+            final Role role = type == Role.GROUP ? new TestGroup(name) : new TestUser(name);
+            this.roles.put(name, role);
+            return role;
+        }
+
+        @Override
+        public boolean removeRole(final String name) {
+            return this.roles.remove(name) != null;
+        }
+
+        @Override
+        public Role getRole(final String name) {
+            this.lookups++;
+            return this.roles.get(name);
+        }
+
+        @Override
+        public Role[] getRoles(final String filter) {
+            this.lookups++;
+            return this.roles.values().toArray(new Role[0]);
+        }
+
+        @Override
+        public User getUser(final String key, final String value) {
+            return null;
+        }
+
+        @Override
+        public Authorization getAuthorization(final User user) {
+            return null;
+        }
+    }
+
+    private static class TestUser implements User {
+
+        private final String name;
+        private final Dictionary<Object, Object> properties = new Hashtable<>();
+        private final Dictionary<Object, Object> credentials = new Hashtable<>();
+
+        TestUser(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public int getType() {
+            return Role.USER;
+        }
+
+        @Override
+        @SuppressWarnings({ "rawtypes" })
+        public Dictionary getProperties() {
+            return this.properties;
+        }
+
+        @Override
+        @SuppressWarnings({ "rawtypes" })
+        public Dictionary getCredentials() {
+            return this.credentials;
+        }
+
+        @Override
+        public boolean hasCredential(final String key, final Object value) {
+            return value != null && value.equals(this.credentials.get(key));
+        }
+    }
+
+    private static class TestGroup extends TestUser implements Group {
+
+        private final List<Role> members = new ArrayList<>();
+
+        TestGroup(final String name) {
+            super(name);
+        }
+
+        @Override
+        public int getType() {
+            return Role.GROUP;
+        }
+
+        @Override
+        public boolean addMember(final Role role) {
+            return !this.members.contains(role) && this.members.add(role);
+        }
+
+        @Override
+        public boolean addRequiredMember(final Role role) {
+            return false;
+        }
+
+        @Override
+        public boolean removeMember(final Role role) {
+            return this.members.remove(role);
+        }
+
+        @Override
+        public Role[] getMembers() {
+            return this.members.isEmpty() ? null : this.members.toArray(new Role[0]);
+        }
+
+        @Override
+        public Role[] getRequiredMembers() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.web.server.servlet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.eclipse.kura.core.configuration.ConfigurationChangeEvent;
+import org.eclipse.kura.web.shared.model.GwtEventInfo;
+import org.eclipse.kura.web.shared.model.GwtLogEntry;
+import org.junit.Test;
+
+public class PushStreamTest {
+
+    private static final String SESSION_ID_HASH = "session";
+
+    private final TestSource source = new TestSource();
+    private final TestOutputStream output = new TestOutputStream();
+    private final AsyncContext asyncContext = mock(AsyncContext.class);
+    private final AtomicInteger closeCount = new AtomicInteger();
+
+    private long now = 1000;
+    private PushStream stream;
+
+    @Test
+    public void shouldReplayEventsAndLogEntriesAfterLastEventId() {
+        this.source.events.add(event("a", 150));
+        this.source.events.add(event("b", 160));
+        this.source.logEntries.add(logEntry(4, "first"));
+        this.source.logEntries.add(logEntry(5, "second"));
+
+        givenStream(EventPushServlet.CHANNEL_EVENT, EventPushServlet.CHANNEL_LOG);
+        this.stream.replay("100;3");
+        givenStartedAsync();
+
+        assertEquals(Arrays.asList(100L, 3), this.source.requests);
+        assertEquals(Arrays.asList( //
+                "event: event\nid: 150;3\ndata: {\"topic\":\"a\",\"timestamp\":\"150\"}\n\n", //
+                "event: event\nid: 160;3\ndata: {\"topic\":\"b\",\"timestamp\":\"160\"}\n\n", //
+                "event: log\nid: 160;5\ndata: [" + logEntryJson(4, "first") + "," + logEntryJson(5, "second")
+                        + "]\n\n"),
+                this.output.messages());
+    }
+
+    @Test
+    public void shouldStartFromLastEventWithoutLastEventId() {
+        this.source.lastEventTimestamp = 200;
+
+        givenStream(EventPushServlet.CHANNEL_EVENT, EventPushServlet.CHANNEL_LOG);
+        this.stream.replay(null);
+
+        assertEquals(Arrays.asList(200L, -1), this.source.requests);
+    }
+
+    @Test
+    public void shouldIgnoreMalformedLastEventId() {
+        this.source.lastEventTimestamp = 200;
+
+        givenStream(EventPushServlet.CHANNEL_EVENT, EventPushServlet.CHANNEL_LOG);
+        this.stream.replay("foo");
+
+        assertEquals(Arrays.asList(200L, -1), this.source.requests);
+    }
+
+    @Test
+    public void shouldDeliverLiveMessagesAfterReplayWithoutDuplicates() {
+        final GwtEventInfo replayed = event("a", 150);
+        final GwtEventInfo live = event("b", 160);
+        this.source.events.add(replayed);
+        this.source.logEntries.add(logEntry(4, "first"));
+
+        givenStream(EventPushServlet.CHANNEL_EVENT, EventPushServlet.CHANNEL_LOG);
+        givenStartedAsync();
+
+        this.stream.offerEvent(replayed);
+        this.stream.offerLogEntries(Collections.singletonList(logEntry(4, "first")));
+        this.stream.offerEvent(live);
+        this.stream.offerLogEntries(Collections.singletonList(logEntry(5, "second")));
+
+        assertEquals(Collections.emptyList(), this.output.messages());
+
+        this.stream.replay("100;3");
+
+        assertEquals(Arrays.asList( //
+                "event: event\nid: 150;3\ndata: {\"topic\":\"a\",\"timestamp\":\"150\"}\n\n", //
+                "event: log\nid: 150;4\ndata: [" + logEntryJson(4, "first") + "]\n\n", //
+                "event: event\nid: 160;4\ndata: {\"topic\":\"b\",\"timestamp\":\"160\"}\n\n", //
+                "event: log\nid: 160;5\ndata: [" + logEntryJson(5, "second") + "]\n\n"), //
+                this.output.messages());
+    }
+
+    @Test
+    public void shouldSkipReplayedEventsDeliveredAfterReplay() {
+        final GwtEventInfo replayed = event("a", 150);
+        this.source.events.add(replayed);
+
+        givenStream(EventPushServlet.CHANNEL_EVENT);
+        givenStartedAsync();
+        this.stream.replay("100;3");
+
+        this.stream.offerEvent(replayed);
+        this.stream.offerEvent(event("b", 150));
+
+        assertEquals(Arrays.asList( //
+                "event: event\nid: 150;3\ndata: {\"topic\":\"a\",\"timestamp\":\"150\"}\n\n", //
+                "event: event\nid: 150;3\ndata: {\"topic\":\"b\",\"timestamp\":\"150\"}\n\n"), //
+                this.output.messages());
+    }
+
+    @Test
+    public void shouldSkipConfigurationChangesOfOwnSession() {
+        final GwtEventInfo own = event(ConfigurationChangeEvent.CONF_CHANGE_EVENT_TOPIC, 150);
+        own.set(ConfigurationChangeEvent.CONF_CHANGE_EVENT_SESSION_PROP, SESSION_ID_HASH);
+        final GwtEventInfo other = event(ConfigurationChangeEvent.CONF_CHANGE_EVENT_TOPIC, 160);
+        other.set(ConfigurationChangeEvent.CONF_CHANGE_EVENT_SESSION_PROP, "other");
+
+        givenStream(EventPushServlet.CHANNEL_EVENT);
+        givenStartedAsync();
+        this.stream.replay("100;3");
+
+        this.stream.offerEvent(own);
+        this.stream.offerEvent(other);
+
+        assertEquals(1, this.output.messages().size());
+        assertTrue(this.output.messages().get(0).contains("\"session\":\"other\""));
+    }
+
+    @Test
+    public void shouldThrottleWireEventsPerEmitterPort() {
+        givenStream(EventPushServlet.CHANNEL_WIRE);
+        givenStartedAsync();
+        this.stream.replay(null);
+
+        this.stream.offerWireEvent("a 0");
+        this.now += PushStream.MIN_WIRE_EVENT_DELAY_MS;
+        this.stream.offerWireEvent("a 0");
+        this.stream.offerWireEvent("b 0");
+        this.now += 1;
+        this.stream.offerWireEvent("a 0");
+
+        assertEquals(Arrays.asList( //
+                "event: wire\ndata: a 0\n\n", //
+                "event: wire\ndata: b 0\n\n", //
+                "event: wire\ndata: a 0\n\n"), //
+                this.output.messages());
+    }
+
+    @Test
+    public void shouldWriteWhenOutputIsReady() {
+        this.output.ready = false;
+
+        givenStream(EventPushServlet.CHANNEL_WIRE);
+        givenStartedAsync();
+        this.stream.replay(null);
+
+        this.stream.offerWireEvent("a 0");
+        this.stream.offerKeepalive();
+
+        assertEquals(Collections.emptyList(), this.output.messages());
+
+        this.output.ready = true;
+        this.stream.onWritePossible();
+
+        assertEquals(Arrays.asList("event: wire\ndata: a 0\n\n"), this.output.messages());
+        assertEquals(1, this.output.flushCount);
+
+        this.stream.offerKeepalive();
+
+        assertEquals(Arrays.asList("event: wire\ndata: a 0\n\n", ":\n\n"), this.output.messages());
+        assertEquals(2, this.output.flushCount);
+    }
+
+    @Test
+    public void shouldDropWireEventsIfQueueIsFull() {
+        this.output.ready = false;
+
+        givenStream(EventPushServlet.CHANNEL_WIRE, EventPushServlet.CHANNEL_EVENT);
+        givenStartedAsync();
+        this.stream.replay("100;3");
+
+        for (int i = 0; i < PushStream.MAX_QUEUED_MESSAGES + 10; i++) {
+            this.stream.offerWireEvent("a " + i);
+        }
+
+        assertEquals(0, this.closeCount.get());
+
+        this.output.ready = true;
+        this.stream.onWritePossible();
+
+        assertEquals(PushStream.MAX_QUEUED_MESSAGES, this.output.messages().size());
+    }
+
+    @Test
+    public void shouldCloseIfQueueIsFullWithEvents() {
+        this.output.ready = false;
+
+        givenStream(EventPushServlet.CHANNEL_EVENT);
+        givenStartedAsync();
+        this.stream.replay("100;3");
+
+        for (int i = 0; i <= PushStream.MAX_QUEUED_MESSAGES; i++) {
+            this.stream.offerEvent(event("a", 200 + i));
+        }
+
+        assertEquals(1, this.closeCount.get());
+        verify(this.asyncContext).complete();
+
+        this.output.ready = true;
+        this.stream.onWritePossible();
+        this.stream.offerEvent(event("a", 1000));
+
+        assertEquals(Collections.emptyList(), this.output.messages());
+        assertEquals(1, this.closeCount.get());
+    }
+
+    @Test
+    public void shouldCloseOnWriteFailure() {
+        this.output.failure = true;
+
+        givenStream(EventPushServlet.CHANNEL_WIRE);
+        givenStartedAsync();
+        this.stream.replay(null);
+
+        this.stream.offerWireEvent("a 0");
+
+        assertEquals(1, this.closeCount.get());
+        verify(this.asyncContext).complete();
+    }
+
+    @Test
+    public void shouldCompleteImmediatelyIfClosedBeforeStart() {
+        givenStream(EventPushServlet.CHANNEL_EVENT);
+        this.stream.close();
+        givenStartedAsync();
+
+        verify(this.asyncContext).complete();
+        assertNull(this.output.listener);
+        assertEquals(1, this.closeCount.get());
+    }
+
+    private void givenStream(final String... channels) {
+        final Set<String> channelSet = new HashSet<>(Arrays.asList(channels));
+
+        this.stream = new PushStream(channelSet, SESSION_ID_HASH, this.source, Runnable::run,
+                s -> this.closeCount.incrementAndGet(), () -> this.now);
+    }
+
+    private void givenStartedAsync() {
+        this.stream.startAsync(this.asyncContext, this.output);
+
+        // the container notifies the listener once the output stream is ready
+        if (this.output.listener == this.stream) {
+            this.stream.onWritePossible();
+        }
+    }
+
+    private static GwtEventInfo event(final String topic, final long timestamp) {
+        final GwtEventInfo result = new GwtEventInfo(topic);
+        result.set("timestamp", Long.toString(timestamp));
+        return result;
+    }
+
+    private static GwtLogEntry logEntry(final int id, final String message) {
+        final GwtLogEntry result = new GwtLogEntry();
+        result.setId(id);
+        result.setTimestamp(Integer.toString(id * 10));
+        result.set(GwtLogEntry.LogEntryKeys.MESSAGE.getKey(), message);
+        return result;
+    }
+
+    private static String logEntryJson(final int id, final String message) {
+        return "{\"id\":" + id + ",\"timestamp\":\"" + id * 10 + "\",\"properties\":{\""
+                + GwtLogEntry.LogEntryKeys.MESSAGE.getKey() + "\":\"" + message + "\"}}";
+    }
+
+    private static class TestSource implements PushStream.Source {
+
+        private final List<GwtEventInfo> events = new ArrayList<>();
+        private final List<GwtLogEntry> logEntries = new ArrayList<>();
+        private final List<Object> requests = new ArrayList<>();
+        private long lastEventTimestamp;
+
+        @Override
+        public long getLastEventTimestamp() {
+            return this.lastEventTimestamp;
+        }
+
+        @Override
+        public List<GwtEventInfo> getEventsAfter(final long timestamp) {
+            this.requests.add(timestamp);
+            return this.events;
+        }
+
+        @Override
+        public List<GwtLogEntry> getLogEntriesAfter(final int id) {
+            this.requests.add(id);
+            return this.logEntries;
+        }
+    }
+
+    private static class TestOutputStream extends ServletOutputStream {
+
+        private final List<String> written = new ArrayList<>();
+
+        private boolean ready = true;
+        private boolean failure;
+        private int flushCount;
+        private WriteListener listener;
+
+        @Override
+        public boolean isReady() {
+            return this.ready;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+
+        @Override
+        public void write(final int b) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void write(final byte[] b) throws IOException {
+            if (this.failure) {
+                throw new IOException("test");
+            }
+
+            this.written.add(new String(b, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void flush() {
+            this.flushCount++;
+        }
+
+        List<String> messages() {
+            return this.written;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.web.session;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+import org.junit.Test;
+
+public class SessionRegistryTest {
+
+    private final SessionRegistry registry = new SessionRegistry();
+
+    @Test
+    public void shouldAttachRegisteredSession() throws Exception {
+        final HttpSession session = givenRegisteredSession("a");
+
+        final HttpServletRequest attached = this.registry.attach(requestWithSessionId("a"));
+
+        assertSame(session, attached.getSession(false));
+        assertSame(session, attached.getSession());
+    }
+
+    @Test
+    public void shouldNotAttachUnknownSession() throws Exception {
+        givenRegisteredSession("a");
+
+        final HttpServletRequest attached = this.registry.attach(requestWithSessionId("b"));
+
+        assertNull(attached.getSession(false));
+    }
+
+    @Test
+    public void shouldNotAttachWithoutSessionId() throws Exception {
+        givenRegisteredSession("a");
+
+        final HttpServletRequest attached = this.registry.attach(requestWithSessionId(null));
+
+        assertNull(attached.getSession(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotCreateSessions() throws Exception {
+        this.registry.attach(requestWithSessionId("a")).getSession();
+    }
+
+    @Test
+    public void shouldForgetInvalidatedSession() throws Exception {
+        final HttpSession session = givenRegisteredSession("a");
+
+        when(session.getCreationTime()).thenThrow(new IllegalStateException());
+
+        assertFalse(this.registry.getSession("a").isPresent());
+    }
+
+    @Test
+    public void shouldForgetSessionWithChangedId() throws Exception {
+        final HttpSession session = givenRegisteredSession("a");
+
+        when(session.getId()).thenReturn("b");
+
+        assertFalse(this.registry.getSession("a").isPresent());
+    }
+
+    @Test
+    public void shouldForgetAllSessionsOnClear() throws Exception {
+        givenRegisteredSession("a");
+
+        this.registry.clear();
+
+        assertFalse(this.registry.getSession("a").isPresent());
+    }
+
+    @Test
+    public void shouldAlwaysAllowRequests() throws Exception {
+        final HttpServletRequest request = mock(HttpServletRequest.class);
+
+        assertTrue(this.registry.handleSecurity(request, mock(HttpServletResponse.class)));
+    }
+
+    private HttpSession givenRegisteredSession(final String id) throws Exception {
+        final HttpSession session = mock(HttpSession.class);
+        when(session.getId()).thenReturn(id);
+
+        final HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getSession(false)).thenReturn(session);
+
+        assertTrue(this.registry.handleSecurity(request, mock(HttpServletResponse.class)));
+        assertTrue(this.registry.getSession(id).isPresent());
+
+        return session;
+    }
+
+    private static HttpServletRequest requestWithSessionId(final String id) {
+        final HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRequestedSessionId()).thenReturn(id);
+        return request;
+    }
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.can;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.protocol.can.CanConnectionService;
+import org.eclipse.kura.protocol.can.CanFilter;
+import org.eclipse.kura.protocol.can.CanMessage;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireSupport;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.osgi.service.component.ComponentContext;
+
+public class CanSignalDecoderTest {
+
+    @Test
+    public void shouldDecodeLittleEndianSignal() {
+        final CanSignal signal = CanSignal.parse("rpm,0x0CF00400,24,16,LE,unsigned,0.125,0");
+
+        assertEquals(0x0CF00400, signal.getCanId());
+        assertEquals(1000.0d, signal.decode(new byte[] { 0, 0, 0, 0x40, 0x1F, 0, 0, 0 }), 0.0001d);
+    }
+
+    @Test
+    public void shouldDecodeBigEndianSignal() {
+        final CanSignal signal = CanSignal.parse("speed,0x100,7,16,BE");
+
+        assertEquals(0x1234, signal.decodeRaw(new byte[] { 0x12, 0x34 }));
+    }
+
+    @Test
+    public void shouldDecodeSignedSignal() {
+        final CanSignal signal = CanSignal.parse("temp,0x100,0,8,LE,signed,1,-10");
+
+        assertEquals(-2, signal.decodeRaw(new byte[] { (byte) 0xFE }));
+        assertEquals(-12.0d, signal.decode(new byte[] { (byte) 0xFE }), 0.0001d);
+    }
+
+    @Test
+    public void shouldNotDecodeSignalOutsidePayload() {
+        final CanSignal signal = CanSignal.parse("value,0x100,8,16");
+
+        assertFalse(signal.isContainedIn(new byte[] { 1, 2 }));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidDefinition() {
+        CanSignal.parse("value,0x100");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldEmitOneEnvelopePerBatch() throws IOException {
+        final CanConnectionService canConnectionService = mock(CanConnectionService.class);
+        final WireHelperService wireHelperService = mock(WireHelperService.class);
+        final WireSupport wireSupport = mock(WireSupport.class);
+
+        final CanSignalDecoder decoder = new CanSignalDecoder();
+        when(wireHelperService.newWireSupport(eq(decoder), any())).thenReturn(wireSupport);
+        decoder.bindWireHelperService(wireHelperService);
+        decoder.bindCanConnectionService(canConnectionService);
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("signal.definitions", "first,0x100,0,8\nsecond,0x100,8,8\nthird,0x200,0,16");
+        properties.put("emit.can.id", true);
+        decoder.activate(mock(ComponentContext.class), properties);
+
+        final ArgumentCaptor<List<CanFilter>> filters = ArgumentCaptor.forClass(List.class);
+        verify(canConnectionService).registerCanFrameListener(eq(decoder), filters.capture());
+        assertEquals(2, filters.getValue().size());
+
+        decoder.onCanFrames(Arrays.asList(frame(0x100, 1, 2), frame(0x200, 3, 0), frame(0x300, 4, 4)));
+
+        final ArgumentCaptor<List<WireRecord>> records = ArgumentCaptor.forClass(List.class);
+        verify(wireSupport).emit(records.capture());
+        assertEquals(2, records.getValue().size());
+
+        final Map<String, TypedValue<?>> first = records.getValue().get(0).getProperties();
+        assertEquals(1.0d, first.get("first").getValue());
+        assertEquals(2.0d, first.get("second").getValue());
+        assertEquals(0x100, first.get(CanSignalDecoder.CAN_ID_PROPERTY).getValue());
+        assertEquals(42L, first.get(CanSignalDecoder.TIMESTAMP_PROPERTY).getValue());
+        assertNull(first.get("third"));
+
+        assertEquals(3.0d, records.getValue().get(1).getProperties().get("third").getValue());
+    }
+
+    @Test
+    public void shouldNotRegisterWithoutSignals() throws IOException {
+        final CanConnectionService canConnectionService = mock(CanConnectionService.class);
+        final WireHelperService wireHelperService = mock(WireHelperService.class);
+
+        final CanSignalDecoder decoder = new CanSignalDecoder();
+        decoder.bindWireHelperService(wireHelperService);
+        decoder.bindCanConnectionService(canConnectionService);
+        decoder.activate(mock(ComponentContext.class), Collections.emptyMap());
+
+        verify(canConnectionService, never()).registerCanFrameListener(any(), any());
+    }
+
+    private static CanMessage frame(final int canId, final int... data) {
+        final CanMessage message = new CanMessage();
+        final byte[] bytes = new byte[data.length];
+        for (int i = 0; i < data.length; i++) {
+            bytes[i] = (byte) data[i];
+        }
+        message.setCanId(canId);
+        message.setData(bytes);
+        message.setTimestamp(42L);
+        return message;
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.asset.test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.kura.channel.ChannelType;
+import org.eclipse.kura.channel.ScaleOffsetType;
+import org.eclipse.kura.type.DataType;
+import org.junit.Test;
+
+public class ChannelEventBatchTest extends WireAssetTestBase {
+
+    @Test
+    public void shouldEmitSingleEnvelopeForEventBatch() {
+        givenAssetChannels("foo", "bar", "baz");
+
+        whenDriverEmitsEventBatch( //
+                "foo", 1, //
+                "bar", 2, //
+                "baz", 3 //
+        );
+
+        thenAssetOutputRecordCountIs(0, 1);
+        thenAssetOutputContains(0, "assetName", "testAsset", "foo", 1, "bar", 2, "baz", 3);
+        thenAssetOutputContainsKey(0, "foo_timestamp");
+        thenAssetOutputContainsKey(0, "baz_timestamp");
+        thenTotalEmittedEnvelopeCountAfter1SecIs(1);
+    }
+
+    @Test
+    public void shouldEmitOneRecordForEachValueOfTheSameChannel() {
+        givenAssetChannels("foo", "bar");
+
+        whenDriverEmitsEventBatch( //
+                "foo", 1, //
+                "bar", 2, //
+                "foo", 3 //
+        );
+
+        thenAssetOutputRecordCountIs(0, 2);
+        thenAssetOutputRecordContains(0, 0, "foo", 1, "bar", 2);
+        thenAssetOutputRecordContains(0, 1, "foo", 3);
+        thenTotalEmittedEnvelopeCountAfter1SecIs(1);
+    }
+
+    @Test
+    public void shouldApplyScaleAndOffsetToEventBatch() {
+        givenAssetChannel("foo", true, DataType.INTEGER, ScaleOffsetType.DEFINED_BY_VALUE_TYPE, Optional.of(2),
+                Optional.of(1));
+
+        whenDriverEmitsEventBatch( //
+                "foo", 1, //
+                "foo", 2 //
+        );
+
+        thenAssetOutputRecordCountIs(0, 2);
+        thenAssetOutputRecordContains(0, 0, "foo", 3);
+        thenAssetOutputRecordContains(0, 1, "foo", 5);
+    }
+
+    private void givenAssetChannels(final String... names) {
+        final Map<String, Object> config = new HashMap<>();
+
+        config.put("driver.pid", "testDriver");
+
+        for (final String name : names) {
+            config.put(name + "#+name", name);
+            config.put(name + "#+type", ChannelType.READ.name());
+            config.put(name + "#+value.type", DataType.INTEGER.name());
+            config.put(name + "#+enabled", true);
+            config.put(name + "#+listen", true);
+        }
+
+        givenAssetConfig(config);
+    }
+}
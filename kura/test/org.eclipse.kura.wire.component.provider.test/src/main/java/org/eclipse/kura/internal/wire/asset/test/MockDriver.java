@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.kura.internal.wire.asset.test;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -130,6 +131,29 @@ class MockDriver implements Driver {
         }
     }
 
+    synchronized void emitChannelEventBatch(final List<String> channelNames, final List<TypedValue<?>> values) {
+        final Map<ChannelListener, List<ChannelEvent>> batches = new IdentityHashMap<>();
+
+        for (int i = 0; i < channelNames.size(); i++) {
+            final String channelName = channelNames.get(i);
+            final TypedValue<?> value = values.get(i);
+            final ChannelListener listener = listeners.get(channelName);
+
+            if (listener == null) {
+                continue;
+            }
+
+            final ChannelRecord record = ChannelRecord.createReadRecord(channelName, value.getType());
+            record.setValue(value);
+            record.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+            record.setTimestamp(System.currentTimeMillis());
+
+            batches.computeIfAbsent(listener, l -> new ArrayList<>()).add(new ChannelEvent(record));
+        }
+
+        batches.forEach(ChannelListener::onChannelEvents);
+    }
+
     @Override
     public PreparedRead prepareRead(List<ChannelRecord> records) {
         preparedReadCalled.complete(null);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2024, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -171,6 +171,20 @@ public class WireAssetTestBase {
         }
     }
 
+    protected void whenDriverEmitsEventBatch(final Object... values) {
+        final Iterator<Object> iter = Arrays.asList(values).iterator();
+
+        final List<String> channelNames = new ArrayList<>();
+        final List<TypedValue<?>> typedValues = new ArrayList<>();
+
+        while (iter.hasNext()) {
+            channelNames.add((String) iter.next());
+            typedValues.add(TypedValues.newTypedValue(iter.next()));
+        }
+
+        this.driver.emitChannelEventBatch(channelNames, typedValues);
+    }
+
     protected void whenAssetReceivesEnvelopes(final int count) {
         for (int i = 0; i < count; i++) {
             whenAssetReceivesEnvelope();
@@ -208,6 +222,28 @@ public class WireAssetTestBase {
         }
     }
 
+    protected void thenAssetOutputRecordContains(final int index, final int recordIndex,
+            final Object... properties) {
+        awaitEnvelope(index);
+
+        final WireEnvelope envelope = this.envelopes.get(index);
+
+        final Iterator<Object> iter = Arrays.asList(properties).iterator();
+
+        while (iter.hasNext()) {
+            final String key = (String) iter.next();
+            final TypedValue<?> value = TypedValues.newTypedValue(iter.next());
+
+            assertEquals(value, envelope.getRecords().get(recordIndex).getProperties().get(key));
+        }
+    }
+
+    protected void thenAssetOutputRecordCountIs(final int index, final int expectedCount) {
+        awaitEnvelope(index);
+
+        assertEquals(expectedCount, this.envelopes.get(index).getRecords().size());
+    }
+
     protected void thenAssetOutputContainsKey(final int index, final String key) {
         awaitEnvelope(index);
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -35,11 +35,14 @@ import org.eclipse.kura.message.KuraPayload;
 import org.eclipse.kura.message.KuraPosition;
 import org.eclipse.kura.position.NmeaPosition;
 import org.eclipse.kura.position.PositionService;
+import org.eclipse.kura.type.DataType;
 import org.eclipse.kura.type.StringValue;
 import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.wire.ColumnarWireRecords;
 import org.eclipse.kura.wire.WireEnvelope;
 import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
 import org.junit.Test;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Filter;
@@ -171,6 +174,27 @@ public class CloudPublisherTest {
         thenCheckDefaultKuraMessageProps();
     }
 
+    @Test
+    public void testOnWireReceiveColumnarRecordsSetBodyRemoveFromMetrics()
+            throws InvalidSyntaxException, NoSuchFieldException, KuraException {
+        givenCloudPublisher();
+        givenDefaultProperties();
+        givenUpdatedProperties("publish.position", "none");
+        givenBodyProperties("key", Boolean.TRUE);
+        givenActivatedComponentProperties();
+        givenDefaultRecordProp();
+
+        whenOnWireReceiveColumnarRecords();
+        whenKuraMessageReceived();
+
+        thenPayloadHasNotNullBody();
+        thenPayloadHasNullPosition();
+        thenTotalMetricReceived(1);
+        thenCheckOneMetricReceived();
+        thenTotalKuraMessagePropsReceived(1);
+        thenCheckOneKuraMessagePropsReceived();
+    }
+
     @Test
     public void testTopicReplacementOnWireReceive() throws InvalidSyntaxException, NoSuchFieldException, KuraException {
         // test publishing a normal message with topic replacement
@@ -308,6 +332,26 @@ public class CloudPublisherTest {
         this.cp.onWireReceive(wireEnvelope);
     }
 
+    private void whenOnWireReceiveColumnarRecords() {
+        final List<String> names = new ArrayList<>(this.recordProps.keySet());
+        final List<DataType> types = new ArrayList<>();
+
+        for (final String name : names) {
+            types.add(this.recordProps.get(name).getType());
+        }
+
+        final ColumnarWireRecords.Builder builder = new ColumnarWireRecords.Builder(
+                new WireRecordSchema(names, types));
+        builder.addRow();
+
+        for (int i = 0; i < names.size(); i++) {
+            builder.setValue(i, this.recordProps.get(names.get(i)));
+        }
+
+        WireEnvelope wireEnvelope = new WireEnvelope("emitter", builder.build());
+        this.cp.onWireReceive(wireEnvelope);
+    }
+
     private void whenSetPositionServiceMock() throws NoSuchFieldException {
         when(this.positionServiceMock.getNmeaPosition())
                 .thenReturn(new NmeaPosition(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0));
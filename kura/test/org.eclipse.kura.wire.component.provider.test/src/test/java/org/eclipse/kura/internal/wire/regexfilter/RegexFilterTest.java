@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@ package org.eclipse.kura.internal.wire.regexfilter;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -23,13 +24,18 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.eclipse.kura.core.testutil.TestUtil;
 import org.eclipse.kura.type.StringValue;
 import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
 import org.eclipse.kura.wire.WireEnvelope;
 import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.WireRecord;
@@ -37,9 +43,13 @@ import org.eclipse.kura.wire.WireSupport;
 import org.junit.Test;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.service.component.ComponentContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class RegexFilterTest {
 
+    private static final Logger logger = LoggerFactory.getLogger(RegexFilterTest.class);
+
     @Test
     public void testActivate() throws InvalidSyntaxException, NoSuchFieldException {
         // test that activation sets the necessary fields
@@ -413,4 +423,206 @@ public class RegexFilterTest {
         verify(wsMock, times(1)).emit(any());
     }
 
+    @Test
+    public void testOnWireReceiveInvalidFilter() throws InvalidSyntaxException, NoSuchFieldException {
+        // an invalid filter disables filtering
+
+        RegexFilter rf = new RegexFilter();
+        WireSupport wsMock = activate(rf, "[abc", 0);
+
+        List<WireRecord> wireRecords = new ArrayList<>();
+        wireRecords.add(new WireRecord(newProperties("key", "topic")));
+
+        rf.onWireReceive(new WireEnvelope("emitter", wireRecords));
+
+        verify(wsMock, times(1)).emit(wireRecords);
+    }
+
+    @Test
+    public void testUpdatedRecompilesFilter() throws InvalidSyntaxException, NoSuchFieldException {
+        // the memoized projections are discarded when the configuration changes
+
+        RegexFilter rf = new RegexFilter();
+        WireSupport wsMock = activate(rf, "key", 0);
+
+        List<List<WireRecord>> emitted = new ArrayList<>();
+        doAnswer(invocation -> {
+            emitted.add(invocation.getArgument(0, List.class));
+            return null;
+        }).when(wsMock).emit(any());
+
+        Map<String, TypedValue<?>> recordProps = newProperties("key", "topic");
+
+        rf.onWireReceive(new WireEnvelope("emitter", Arrays.asList(new WireRecord(recordProps))));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("regex.filter", "key");
+        properties.put("filter.type", 2);
+        rf.updated(properties);
+
+        rf.onWireReceive(new WireEnvelope("emitter", Arrays.asList(new WireRecord(recordProps))));
+
+        assertEquals(2, emitted.size());
+        assertEquals(Collections.singleton("key"), emitted.get(0).get(0).getProperties().keySet());
+        assertEquals(Collections.singleton("topic"), emitted.get(1).get(0).getProperties().keySet());
+    }
+
+    @Test
+    public void testOnWireReceiveRetainsRecordsMatchingAllKeys()
+            throws InvalidSyntaxException, NoSuchFieldException {
+        // records whose keys are all retained are forwarded as they are, also when the projection is memoized
+
+        RegexFilter rf = new RegexFilter();
+        WireSupport wsMock = activate(rf, "[a-z]+", 0);
+
+        List<List<WireRecord>> emitted = new ArrayList<>();
+        doAnswer(invocation -> {
+            emitted.add(invocation.getArgument(0, List.class));
+            return null;
+        }).when(wsMock).emit(any());
+
+        WireRecord first = new WireRecord(newProperties("key", "topic"));
+        WireRecord second = new WireRecord(newProperties("topic", "key"));
+
+        rf.onWireReceive(new WireEnvelope("emitter", Arrays.asList(first, second)));
+
+        assertEquals(1, emitted.size());
+        assertSame(first, emitted.get(0).get(0));
+        assertSame(second, emitted.get(0).get(1));
+    }
+
+    @Test
+    public void testProjectionMatchesReferenceFilter() throws InvalidSyntaxException, NoSuchFieldException {
+        // records sharing the same keys are filtered as if the regular expression was evaluated on every key
+
+        final String filter = ".*[0-9]";
+        final int recordCount = 2000;
+
+        for (int keyCount : new int[] { 10, 100, 1000 }) {
+            RegexFilter rf = new RegexFilter();
+            WireSupport wsMock = activate(rf, filter, 0);
+
+            List<List<WireRecord>> emitted = new ArrayList<>();
+            doAnswer(invocation -> {
+                emitted.add(invocation.getArgument(0, List.class));
+                return null;
+            }).when(wsMock).emit(any());
+
+            List<WireRecord> wireRecords = new ArrayList<>();
+            for (int i = 0; i < recordCount; i++) {
+                wireRecords.add(new WireRecord(newChannelProperties(keyCount, i)));
+            }
+            WireEnvelope wireEnvelope = new WireEnvelope("emitter", wireRecords);
+
+            // the first envelope fills the projection cache, the second one is filtered using it
+            rf.onWireReceive(wireEnvelope);
+            rf.onWireReceive(wireEnvelope);
+
+            final List<Map<String, TypedValue<?>>> expected = referenceFilter(wireRecords, filter);
+
+            assertEquals(2, emitted.size());
+            for (List<WireRecord> result : emitted) {
+                assertEquals(recordCount, result.size());
+                for (int i = 0; i < recordCount; i++) {
+                    assertEquals(expected.get(i), result.get(i).getProperties());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void logProjectionThroughput() throws InvalidSyntaxException, NoSuchFieldException {
+        // reports the filtering throughput, nothing is asserted since it depends on the machine
+
+        final String filter = ".*[0-9]";
+        final int recordCount = 2000;
+        final int rounds = 10;
+
+        for (int keyCount : new int[] { 10, 100, 1000 }) {
+            RegexFilter rf = new RegexFilter();
+            activate(rf, filter, 0);
+
+            List<WireRecord> wireRecords = new ArrayList<>();
+            for (int i = 0; i < recordCount; i++) {
+                wireRecords.add(new WireRecord(newChannelProperties(keyCount, i)));
+            }
+            WireEnvelope wireEnvelope = new WireEnvelope("emitter", wireRecords);
+
+            // warm up
+            rf.onWireReceive(wireEnvelope);
+            referenceFilter(wireRecords, filter);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                rf.onWireReceive(wireEnvelope);
+            }
+            final long filterNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                referenceFilter(wireRecords, filter);
+            }
+            final long referenceNanos = System.nanoTime() - start;
+
+            logger.info("Regex filter with {} keys per record: {} records/s, {} records/s evaluating every key",
+                    keyCount, recordsPerSecond(recordCount * rounds, filterNanos),
+                    recordsPerSecond(recordCount * rounds, referenceNanos));
+        }
+    }
+
+    private static long recordsPerSecond(long records, long nanos) {
+        return records * 1_000_000_000L / Math.max(nanos, 1);
+    }
+
+    private static WireSupport activate(RegexFilter rf, String filter, int filterType) {
+        WireHelperService wireHelperServiceMock = mock(WireHelperService.class);
+        rf.bindWireHelperService(wireHelperServiceMock);
+
+        WireSupport wsMock = mock(WireSupport.class);
+        when(wireHelperServiceMock.newWireSupport(rf, null)).thenReturn(wsMock);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("kura.service.pid", "spid");
+        properties.put("regex.filter", filter);
+        properties.put("filter.type", filterType);
+
+        rf.activate(properties, mock(ComponentContext.class));
+
+        return wsMock;
+    }
+
+    private static Map<String, TypedValue<?>> newProperties(String... keys) {
+        Map<String, TypedValue<?>> recordProps = new HashMap<>();
+        for (String key : keys) {
+            recordProps.put(key, new StringValue(key));
+        }
+        return recordProps;
+    }
+
+    private static Map<String, TypedValue<?>> newChannelProperties(int keyCount, int index) {
+        // channel values with the timestamp and error properties emitted by assets
+        Map<String, TypedValue<?>> recordProps = new HashMap<>();
+        for (int i = 0; recordProps.size() < keyCount; i++) {
+            String channel = "channel" + i;
+            recordProps.put(channel, TypedValues.newIntegerValue(index));
+            if (i % 2 == 0 && recordProps.size() < keyCount) {
+                recordProps.put(channel + "_timestamp", TypedValues.newLongValue(index));
+            }
+            if (i % 3 == 0 && recordProps.size() < keyCount) {
+                recordProps.put(channel + "_error", TypedValues.newStringValue("error"));
+            }
+        }
+        return recordProps;
+    }
+
+    private static List<Map<String, TypedValue<?>>> referenceFilter(List<WireRecord> wireRecords, String filter) {
+        // compiles the regular expression and evaluates it on every key of every record
+        return wireRecords.stream().map(wireRecord -> {
+            Pattern pattern = Pattern.compile(filter);
+            return wireRecord.getProperties().entrySet().stream()
+                    .filter(entry -> pattern.matcher(entry.getKey()).matches())
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }).collect(Collectors.toList());
+    }
+
 }
@@ -0,0 +1,357 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.wire.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.kura.internal.wire.timer.TimerScheduler.Clock;
+import org.eclipse.kura.internal.wire.timer.TimerScheduler.ScheduledTimer;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireSupport;
+import org.junit.Test;
+import org.osgi.service.component.ComponentContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class TimerSchedulerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimerSchedulerTest.class);
+
+    private final ManualClock clock = new ManualClock(10_050);
+    private final Queue<Runnable> pendingEmissions = new ArrayDeque<>();
+    private final TimerScheduler scheduler = new TimerScheduler("TestTimer", this.clock, this.pendingEmissions::add,
+            Optional.empty());
+
+    @Test
+    public void testFiveHundredAlignedTimers() {
+        final int timerCount = 500;
+        final long periodMs = 100;
+
+        final AtomicInteger emissions = new AtomicInteger();
+        final List<ScheduledTimer> timers = new ArrayList<>();
+
+        for (int i = 0; i < timerCount; i++) {
+            timers.add(this.scheduler.schedule(emissions::incrementAndGet, 0, periodMs, true));
+        }
+
+        // aligned to the next multiple of the period
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), this.scheduler.tick());
+        this.clock.advance(50);
+
+        for (int i = 0; i < 10; i++) {
+            // all the timers tick in the same wakeup
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(periodMs), this.scheduler.tick());
+            assertEquals(timerCount, this.pendingEmissions.size());
+
+            runPendingEmissions();
+            this.clock.advance(periodMs);
+        }
+
+        assertEquals(timerCount * 10, emissions.get());
+
+        for (final ScheduledTimer timer : timers) {
+            final TimerStatistics statistics = timer.getStatistics();
+            assertEquals(10, statistics.getTickCount());
+            assertEquals(0, statistics.getLateTickCount());
+            assertEquals(0, statistics.getSkippedTickCount());
+        }
+    }
+
+    @Test
+    public void testFiveHundredAlignedTimersOnSystemClock() throws InterruptedException {
+        final int timerCount = 500;
+        final long periodMs = 100;
+        final int rounds = 10;
+
+        final TimerScheduler systemScheduler = new TimerScheduler("TestTimer");
+        final CountDownLatch emissions = new CountDownLatch(timerCount * rounds);
+        final AtomicInteger runningEmissions = new AtomicInteger();
+        final AtomicInteger peakRunningEmissions = new AtomicInteger();
+        final Set<Thread> workerThreads = ConcurrentHashMap.newKeySet();
+        final List<ScheduledTimer> timers = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < timerCount; i++) {
+                timers.add(systemScheduler.schedule(() -> {
+                    peakRunningEmissions.accumulateAndGet(runningEmissions.incrementAndGet(), Math::max);
+                    workerThreads.add(Thread.currentThread());
+                    runningEmissions.decrementAndGet();
+                    emissions.countDown();
+                }, 0, periodMs, true));
+            }
+
+            assertTrue(emissions.await(periodMs * rounds + 10_000, TimeUnit.MILLISECONDS));
+        } finally {
+            timers.forEach(ScheduledTimer::cancel);
+        }
+
+        long ticks = 0;
+        long lateTicks = 0;
+        long skippedTicks = 0;
+        long maxLatenessMicros = 0;
+        long totalAverageLatenessMicros = 0;
+
+        for (final ScheduledTimer timer : timers) {
+            final TimerStatistics statistics = timer.getStatistics();
+            ticks += statistics.getTickCount();
+            lateTicks += statistics.getLateTickCount();
+            skippedTicks += statistics.getSkippedTickCount();
+            maxLatenessMicros = Math.max(maxLatenessMicros, statistics.getMaxLatenessMicros());
+            totalAverageLatenessMicros += statistics.getAverageLatenessMicros();
+        }
+
+        logger.info(
+                "{} aligned timers, {} ms period: {} worker threads (max {}), {} concurrent emissions at peak, "
+                        + "ticks: {}, late: {}, skipped: {}, lateness avg: {} us, max: {} us",
+                timerCount, periodMs, workerThreads.size(), TimerScheduler.MAX_WORKERS, peakRunningEmissions.get(),
+                ticks, lateTicks, skippedTicks, totalAverageLatenessMicros / timerCount, maxLatenessMicros);
+
+        assertTrue(workerThreads.size() <= TimerScheduler.MAX_WORKERS);
+    }
+
+    @Test
+    public void testTicksAreDispatchedInDeadlineOrder() {
+        final List<String> emissions = new ArrayList<>();
+
+        this.scheduler.schedule(() -> emissions.add("a"), 30, 20, false);
+        this.scheduler.schedule(() -> emissions.add("b"), 10, 20, false);
+        this.scheduler.schedule(() -> emissions.add("c"), 10, 20, false);
+
+        this.clock.advance(10);
+        this.scheduler.tick();
+        runPendingEmissions();
+
+        this.clock.advance(20);
+        this.scheduler.tick();
+        runPendingEmissions();
+
+        // timers with the same deadline tick in scheduling order
+        assertEquals(Arrays.asList("b", "c", "a", "b", "c"), emissions);
+    }
+
+    @Test
+    public void testOverrunningTimerSkipsTicks() {
+        final AtomicInteger emissions = new AtomicInteger();
+
+        final ScheduledTimer timer = this.scheduler.schedule(emissions::incrementAndGet, 0, 20, false);
+
+        this.scheduler.tick();
+        assertEquals(1, this.pendingEmissions.size());
+
+        // the emission is still running
+        this.clock.advance(20);
+        this.scheduler.tick();
+        this.clock.advance(20);
+        this.scheduler.tick();
+        assertEquals(1, this.pendingEmissions.size());
+
+        runPendingEmissions();
+
+        this.clock.advance(20);
+        this.scheduler.tick();
+        runPendingEmissions();
+
+        assertEquals(2, emissions.get());
+        assertEquals(2, timer.getStatistics().getTickCount());
+        assertEquals(2, timer.getStatistics().getSkippedTickCount());
+    }
+
+    @Test
+    public void testLateTicksAreNotCaughtUp() {
+        final AtomicInteger emissions = new AtomicInteger();
+
+        final ScheduledTimer timer = this.scheduler.schedule(emissions::incrementAndGet, 10, 10, false);
+
+        this.clock.advance(35);
+
+        // the next tick keeps the original phase
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), this.scheduler.tick());
+        runPendingEmissions();
+
+        assertEquals(1, emissions.get());
+        assertEquals(1, timer.getStatistics().getTickCount());
+        assertEquals(2, timer.getStatistics().getSkippedTickCount());
+    }
+
+    @Test
+    public void testCancelStopsTicks() {
+        final AtomicInteger emissions = new AtomicInteger();
+
+        final ScheduledTimer timer = this.scheduler.schedule(emissions::incrementAndGet, 0, 10, false);
+
+        this.scheduler.tick();
+        runPendingEmissions();
+
+        this.clock.advance(10);
+        this.scheduler.tick();
+        timer.cancel();
+        runPendingEmissions();
+
+        this.clock.advance(10);
+
+        // no timers left
+        assertEquals(-1, this.scheduler.tick());
+        assertTrue(this.pendingEmissions.isEmpty());
+        assertEquals(1, emissions.get());
+    }
+
+    @Test
+    public void testAlignedTicksFollowWallClock() {
+        final List<Long> tickTimes = new ArrayList<>();
+
+        this.scheduler.schedule(() -> tickTimes.add(this.clock.currentTimeMillis()), 0, 100, true);
+
+        this.clock.advance(50);
+        this.scheduler.tick();
+        runPendingEmissions();
+
+        // the wall clock is stepped between two ticks
+        this.clock.stepWallClock(30);
+
+        this.clock.advance(100);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(70), this.scheduler.tick());
+        runPendingEmissions();
+
+        this.clock.advance(70);
+        this.scheduler.tick();
+        runPendingEmissions();
+
+        assertEquals(Arrays.asList(10_100L, 10_230L, 10_300L), tickTimes);
+    }
+
+    @Test
+    public void testSlowTimersDoNotDelayOtherTimers() throws InterruptedException {
+        final TimerScheduler systemScheduler = new TimerScheduler("TestTimer");
+        final CountDownLatch slowEmissionsReleased = new CountDownLatch(1);
+        final CountDownLatch fastEmissions = new CountDownLatch(3);
+        final List<ScheduledTimer> timers = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < TimerScheduler.MAX_WORKERS - 1; i++) {
+                timers.add(systemScheduler.schedule(() -> {
+                    try {
+                        slowEmissionsReleased.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }, 0, 10, false));
+            }
+
+            timers.add(systemScheduler.schedule(fastEmissions::countDown, 10, 10, false));
+
+            assertTrue(fastEmissions.await(10, TimeUnit.SECONDS));
+        } finally {
+            slowEmissionsReleased.countDown();
+            timers.forEach(ScheduledTimer::cancel);
+        }
+    }
+
+    @Test
+    public void testAlignmentDelay() {
+        assertEquals(500, TimerScheduler.getAlignmentDelayMs(10_500, 1000));
+        assertEquals(1000, TimerScheduler.getAlignmentDelayMs(10_000, 1000));
+        assertEquals(1, TimerScheduler.getAlignmentDelayMs(59_999, 60_000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPeriod() {
+        this.scheduler.schedule(() -> {
+        }, 0, 0, false);
+    }
+
+    @Test
+    public void testTimerWithAlignedPolicy() {
+        final Timer timer = new Timer();
+
+        final WireHelperService wireHelperService = mock(WireHelperService.class);
+        final WireSupport wireSupport = mock(WireSupport.class);
+        when(wireHelperService.newWireSupport(any(), any())).thenReturn(wireSupport);
+        timer.bindWireHelperService(wireHelperService);
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("kura.service.pid", "timer");
+        properties.put("type", "SIMPLE");
+        properties.put("simple.interval", 50);
+        properties.put("simple.time.unit", "MILLISECONDS");
+        properties.put("simple.first.tick.policy", "ALIGNED");
+
+        timer.activate(mock(ComponentContext.class), properties);
+
+        try {
+            verify(wireSupport, timeout(1000).atLeast(3)).emit(any());
+            assertTrue(timer.getStatistics().get().getTickCount() >= 3);
+        } finally {
+            timer.deactivate();
+        }
+
+        assertFalse(timer.getStatistics().isPresent());
+    }
+
+    private void runPendingEmissions() {
+        Runnable emission;
+
+        while ((emission = this.pendingEmissions.poll()) != null) {
+            emission.run();
+        }
+    }
+
+    private static final class ManualClock implements Clock {
+
+        private long nanoTime;
+        private long currentTimeMillis;
+
+        ManualClock(final long currentTimeMillis) {
+            this.currentTimeMillis = currentTimeMillis;
+        }
+
+        void advance(final long millis) {
+            this.nanoTime += TimeUnit.MILLISECONDS.toNanos(millis);
+            this.currentTimeMillis += millis;
+        }
+
+        void stepWallClock(final long millis) {
+            this.currentTimeMillis += millis;
+        }
+
+        @Override
+        public long nanoTime() {
+            return this.nanoTime;
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return this.currentTimeMillis;
+        }
+    }
+}
@@ -0,0 +1,371 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.internal.wire.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireHelperService;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireSupport;
+import org.eclipse.kura.wire.store.provider.QueryableWireRecordStoreProvider;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.osgi.service.component.ComponentContext;
+
+public class WireRecordQueryComponentTest {
+
+    private final List<List<WireRecord>> emitted = new ArrayList<>();
+    private final List<String> performedQueries = new ArrayList<>();
+    private final List<WireRecord> storedRecords = new ArrayList<>();
+    private final Map<String, Object> properties = new HashMap<>();
+    private final List<Thread> emittingThreads = new ArrayList<>();
+    private final List<Thread> deliveringThreads = new ArrayList<>();
+    private final CountDownLatch queryCompleted = new CountDownLatch(1);
+    private Exception queryException;
+    private Exception storeFailure;
+    private int failingEmit = -1;
+    private QueryableWireRecordStoreProvider provider;
+    private WireRecordQueryComponent component;
+
+    @After
+    public void tearDown() {
+        if (this.component != null) {
+            this.component.deactivate();
+        }
+    }
+
+    @Test
+    public void shouldEmitWholeResultByDefault() throws KuraStoreException {
+        givenStoredRecords(5);
+        givenComponent();
+
+        whenTriggered();
+
+        thenEmittedChunkSizesAre(5);
+        thenColumnarQueryIsNotPerformed();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldPerformColumnarQueryIfEnabled() throws KuraStoreException {
+        givenStoredRecords(5);
+        givenProperty("columnar.records.enabled", true);
+        givenComponent();
+
+        whenTriggered();
+
+        thenEmittedChunkSizesAre(5);
+        verify(this.provider).performColumnarQuery(any(String.class), eq(Integer.MAX_VALUE), any(Consumer.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldPerformColumnarQueryInStreamingModeIfEnabled() throws KuraStoreException {
+        givenStoredRecords(5);
+        givenProperty("streaming.enabled", true);
+        givenProperty("streaming.chunk.size", 2);
+        givenProperty("columnar.records.enabled", true);
+        givenComponent();
+
+        whenTriggered();
+
+        thenEmittedChunkSizesAre(2, 2, 1);
+        verify(this.provider).performColumnarQuery(any(String.class), eq(2), any(Consumer.class));
+    }
+
+    @Test
+    public void shouldEmitResultInChunksInStreamingMode() throws KuraStoreException {
+        givenStoredRecords(5);
+        givenProperty("streaming.enabled", true);
+        givenProperty("streaming.chunk.size", 2);
+        givenComponent();
+
+        whenTriggered();
+
+        thenEmittedChunkSizesAre(2, 2, 1);
+    }
+
+    @Test
+    public void shouldEmitEmptyEnvelopeInStreamingMode() throws KuraStoreException {
+        givenProperty("streaming.enabled", true);
+        givenComponent();
+
+        whenTriggered();
+
+        thenEmittedChunkSizesAre(0);
+    }
+
+    @Test
+    public void shouldNotEmitEmptyEnvelopeInStreamingModeIfDisabled() throws KuraStoreException {
+        givenProperty("streaming.enabled", true);
+        givenProperty("emit.on.empty.result", false);
+        givenComponent();
+
+        whenTriggered();
+
+        thenEmittedChunkSizesAre();
+    }
+
+    @Test
+    public void shouldReplaceLastKeyPlaceholder() throws KuraStoreException {
+        givenStoredRecords(3);
+        givenProperty("query", "SELECT * FROM data WHERE ID > $lastKey ORDER BY ID");
+        givenProperty("keyset.column", "ID");
+        givenProperty("streaming.enabled", true);
+        givenProperty("streaming.chunk.size", 2);
+        givenComponent();
+
+        whenTriggered();
+        whenTriggered();
+
+        thenPerformedQueriesAre("SELECT * FROM data WHERE ID > " + Long.MIN_VALUE + " ORDER BY ID",
+                "SELECT * FROM data WHERE ID > 2 ORDER BY ID");
+    }
+
+    @Test
+    public void shouldUseGreatestKeyOfUnsortedResult() throws KuraStoreException {
+        givenStoredRecords(2, 0, 1);
+        givenProperty("query", "SELECT * FROM data WHERE ID > $lastKey");
+        givenProperty("keyset.column", "ID");
+        givenComponent();
+
+        whenTriggered();
+        whenTriggered();
+
+        thenPerformedQueriesAre("SELECT * FROM data WHERE ID > " + Long.MIN_VALUE, "SELECT * FROM data WHERE ID > 2");
+    }
+
+    @Test
+    public void shouldNotEmitOnThreadDeliveringChunks() throws KuraStoreException {
+        givenStoredRecords(5);
+        givenProperty("streaming.enabled", true);
+        givenProperty("streaming.chunk.size", 1);
+        givenStreamingStore();
+        givenComponent();
+
+        whenTriggered();
+
+        thenEmittedChunkSizesAre(1, 1, 1, 1, 1);
+        thenChunksAreEmittedByCallingThread();
+    }
+
+    @Test
+    public void shouldAbortQueryIfEmitFails() throws Exception {
+        givenStoredRecords(100);
+        givenProperty("streaming.enabled", true);
+        givenProperty("streaming.chunk.size", 1);
+        givenStreamingStore();
+        givenFailingEmit(1);
+        givenComponent();
+
+        whenTriggered();
+
+        thenEmittedChunkSizesAre(1);
+        thenQueryIsAborted();
+    }
+
+    @Test
+    public void shouldNotEmitIfStreamedQueryFails() throws KuraStoreException {
+        givenProperty("streaming.enabled", true);
+        givenStreamingStore();
+        givenStoreFailure(new KuraStoreException("test"));
+        givenComponent();
+
+        whenTriggered();
+
+        thenEmittedChunkSizesAre();
+    }
+
+    @Test
+    public void shouldNotReplacePlaceholderWithoutKeysetColumn() throws KuraStoreException {
+        givenStoredRecords(3);
+        givenProperty("query", "SELECT '$lastKey'");
+        givenComponent();
+
+        whenTriggered();
+
+        thenPerformedQueriesAre("SELECT '$lastKey'");
+    }
+
+    private void givenStoredRecords(final int count) {
+        for (int i = 0; i < count; i++) {
+            this.storedRecords.add(new WireRecord(Collections.singletonMap("ID", TypedValues.newLongValue(i))));
+        }
+    }
+
+    private void givenStoredRecords(final long first, final long... others) {
+        this.storedRecords.add(new WireRecord(Collections.singletonMap("ID", TypedValues.newLongValue(first))));
+
+        for (final long id : others) {
+            this.storedRecords.add(new WireRecord(Collections.singletonMap("ID", TypedValues.newLongValue(id))));
+        }
+    }
+
+    /*
+     * Simulates a store that delivers the chunks on its own thread, like the H2 executor thread.
+     */
+    @SuppressWarnings("unchecked")
+    private void givenStreamingStore() throws KuraStoreException {
+        this.provider = mock(QueryableWireRecordStoreProvider.class);
+
+        Mockito.doAnswer(invocation -> {
+            final int chunkSize = invocation.getArgument(1);
+            final Consumer<List<WireRecord>> consumer = invocation.getArgument(2);
+
+            final Thread storeThread = new Thread(() -> {
+                try {
+                    if (this.storeFailure != null) {
+                        throw this.storeFailure;
+                    }
+
+                    for (int i = 0; i < this.storedRecords.size(); i += chunkSize) {
+                        this.deliveringThreads.add(Thread.currentThread());
+                        consumer.accept(
+                                this.storedRecords.subList(i, Math.min(this.storedRecords.size(), i + chunkSize)));
+                    }
+                } catch (final Exception e) {
+                    this.queryException = e;
+                } finally {
+                    this.queryCompleted.countDown();
+                }
+            });
+
+            storeThread.start();
+            storeThread.join();
+
+            if (this.queryException != null) {
+                throw new KuraStoreException(this.queryException, null);
+            }
+
+            return null;
+        }).when(this.provider).performQuery(any(String.class), anyInt(), any(Consumer.class));
+    }
+
+    private void givenFailingEmit(final int index) {
+        this.failingEmit = index;
+    }
+
+    private void givenStoreFailure(final Exception e) {
+        this.storeFailure = e;
+    }
+
+    private void givenProperty(final String key, final Object value) {
+        this.properties.put(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenComponent() throws KuraStoreException {
+        if (this.provider == null) {
+            this.provider = mock(QueryableWireRecordStoreProvider.class, Mockito.CALLS_REAL_METHODS);
+        }
+        when(this.provider.performQuery(any(String.class))).thenAnswer(invocation -> {
+            final String query = invocation.getArgument(0);
+            this.performedQueries.add(query);
+
+            // simulate keyset pagination on the ID column
+            final String[] parts = query.split("ID > ");
+            final long lastKey = parts.length > 1 ? Long.parseLong(parts[1].split(" ")[0]) : Long.MIN_VALUE;
+
+            final List<WireRecord> result = new ArrayList<>();
+            for (final WireRecord wireRecord : this.storedRecords) {
+                if ((Long) wireRecord.getProperties().get("ID").getValue() > lastKey) {
+                    result.add(wireRecord);
+                }
+            }
+            return result;
+        });
+
+        final WireSupport wireSupport = mock(WireSupport.class);
+        Mockito.doAnswer(invocation -> {
+            this.emitted.add(new ArrayList<>((List<WireRecord>) invocation.getArgument(0)));
+            this.emittingThreads.add(Thread.currentThread());
+
+            if (this.emitted.size() == this.failingEmit) {
+                throw new IllegalStateException("test");
+            }
+            return null;
+        }).when(wireSupport).emit(any());
+
+        final WireHelperService wireHelperService = mock(WireHelperService.class);
+        when(wireHelperService.newWireSupport(any(), any())).thenReturn(wireSupport);
+
+        this.component = new WireRecordQueryComponent();
+        this.component.bindWireHelperService(wireHelperService);
+        this.component.activate(mock(ComponentContext.class), this.properties);
+        this.component.bindQueryableWireRecordStoreProvider(this.provider);
+    }
+
+    private void whenTriggered() {
+        this.component.onWireReceive(new WireEnvelope("emitter", Collections.emptyList()));
+    }
+
+    private void thenEmittedChunkSizesAre(final int... sizes) {
+        assertEquals(sizes.length, this.emitted.size());
+
+        for (int i = 0; i < sizes.length; i++) {
+            assertEquals(sizes[i], this.emitted.get(i).size());
+        }
+    }
+
+    private void thenChunksAreEmittedByCallingThread() {
+        for (final Thread thread : this.emittingThreads) {
+            assertEquals(Thread.currentThread(), thread);
+        }
+
+        for (final Thread thread : this.deliveringThreads) {
+            assertNotEquals(Thread.currentThread(), thread);
+        }
+    }
+
+    private void thenQueryIsAborted() throws InterruptedException {
+        assertTrue(this.queryCompleted.await(30, TimeUnit.SECONDS));
+        assertTrue(this.queryException instanceof CancellationException);
+        assertTrue(this.deliveringThreads.size() < this.storedRecords.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void thenColumnarQueryIsNotPerformed() throws KuraStoreException {
+        verify(this.provider, never()).performColumnarQuery(any(String.class), anyInt(), any(Consumer.class));
+    }
+
+    private void thenPerformedQueriesAre(final String... queries) {
+        assertEquals(queries.length, this.performedQueries.size());
+
+        for (int i = 0; i < queries.length; i++) {
+            assertEquals(queries[i], this.performedQueries.get(i));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,11 +12,17 @@
  *******************************************************************************/
 package org.eclipse.kura.internal.xml.marshaller.unmarshaller.test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -384,6 +390,86 @@ public class XmlEncoderDecoderTest {
         assertEquals(properties, properties1);
     }
 
+    @Test
+    public void testPropertiesStreamMarshallUnmarshall() throws Exception {
+        XmlMarshallUnmarshallImpl xmlMarshallerImpl = new XmlMarshallUnmarshallImpl();
+
+        XmlComponentConfigurations xcc = getSampleDeltaXmlComponentConfigurationsObject();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        xmlMarshallerImpl.marshal(xcc, out);
+
+        // the streamed document can be read both by the streaming and the DOM based unmarshaller
+        XmlComponentConfigurations fromStream = xmlMarshallerImpl
+                .unmarshal(new ByteArrayInputStream(out.toByteArray()), XmlComponentConfigurations.class);
+        XmlComponentConfigurations fromString = xmlMarshallerImpl
+                .unmarshal(new String(out.toByteArray(), StandardCharsets.UTF_8), XmlComponentConfigurations.class);
+
+        assertDeltaEquals(xcc, fromStream);
+        assertDeltaEquals(xcc, fromString);
+
+        // and the DOM based marshaller produces a document that can be streamed
+        String s = xmlMarshallerImpl.marshal(xcc);
+        XmlComponentConfigurations fromDom = xmlMarshallerImpl.unmarshal(
+                new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8)), XmlComponentConfigurations.class);
+
+        assertDeltaEquals(xcc, fromDom);
+    }
+
+    @Test
+    public void testStreamUnmarshallSkipsDefinitions() throws Exception {
+        XmlMarshallUnmarshallImpl xmlMarshallerImpl = new XmlMarshallUnmarshallImpl();
+
+        XmlComponentConfigurations xcc = getSampleXmlComponentConfigurationsObject();
+        xcc.getConfigurations().get(0).getConfigurationProperties().put("string", "a & b < c");
+
+        String s = xmlMarshallerImpl.marshal(xcc);
+        XmlComponentConfigurations unmarshalled = xmlMarshallerImpl.unmarshal(
+                new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8)), XmlComponentConfigurations.class);
+
+        assertEquals(1, unmarshalled.getConfigurations().size());
+        assertEquals(xcc.getConfigurations().get(0).getConfigurationProperties(),
+                unmarshalled.getConfigurations().get(0).getConfigurationProperties());
+        assertFalse(unmarshalled.isDelta());
+    }
+
+    private static XmlComponentConfigurations getSampleDeltaXmlComponentConfigurationsObject() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("prop.string", "prop.value \u00e8 <&>");
+        properties.put("prop.long", Long.MAX_VALUE);
+        properties.put("prop.integer", Integer.MAX_VALUE);
+        properties.put("prop.boolean", true);
+        properties.put("prop.strings", new String[] { "a", "b" });
+
+        XmlComponentConfigurations xcc = new XmlComponentConfigurations();
+        List<ComponentConfiguration> ccis = new ArrayList<>();
+        ccis.add(new ComponentConfigurationImpl("org.eclipse.kura.cloud.CloudService", null, properties));
+        xcc.setConfigurations(ccis);
+        xcc.setBaseSnapshotId(1234L);
+        xcc.setDeletedPids(Arrays.asList("deleted.pid.1", "deleted.pid.2"));
+
+        return xcc;
+    }
+
+    private static void assertDeltaEquals(XmlComponentConfigurations expected, XmlComponentConfigurations actual) {
+        assertTrue(actual.isDelta());
+        assertEquals(expected.getBaseSnapshotId(), actual.getBaseSnapshotId());
+        assertEquals(expected.getDeletedPids(), actual.getDeletedPids());
+        assertEquals(1, actual.getConfigurations().size());
+
+        Map<String, Object> expectedProperties = expected.getConfigurations().get(0).getConfigurationProperties();
+        Map<String, Object> actualProperties = actual.getConfigurations().get(0).getConfigurationProperties();
+
+        assertEquals(expectedProperties.keySet(), actualProperties.keySet());
+        for (Map.Entry<String, Object> entry : expectedProperties.entrySet()) {
+            if (entry.getValue() instanceof Object[]) {
+                assertArrayEquals((Object[]) entry.getValue(), (Object[]) actualProperties.get(entry.getKey()));
+            } else {
+                assertEquals(entry.getValue(), actualProperties.get(entry.getKey()));
+            }
+        }
+    }
+
     @Test
     @Ignore
     public void testOCDMarshallUnmarshall() throws Exception { // This test needs to be done as integration test not